@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.benchmark;
+
+import at.gridtec.lambda4j.function.Function2;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Benchmarks chains of composed functions. The fused chain is built using {@link Function2#andThen(Function)}, which
+ * appends each stage to a single flat chain, while the nested chain is built using {@link Function#andThen(Function)}
+ * of the JDK, which wraps each stage into another lambda, as all composed functions of this library did before. The
+ * compiled chain is the fused chain compiled using {@link Function2#compile()}.
+ * <p>
+ * Each stage is a distinct lambda class, so the call sites within the chains see as many receiver types as in real
+ * pipelines.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompositionBenchmark {
+
+    /**
+     * The distinct stages the chains are built from.
+     */
+    private static final Function2<Long, Long>[] STAGES = stages();
+
+    /**
+     * The number of stages of the chains.
+     */
+    @Param({"1", "2", "4", "8", "16", "32"})
+    public int depth;
+
+    /**
+     * The input of the chains, which is not constant to prevent constant folding.
+     */
+    private Long input = 1L;
+
+    /**
+     * The fused chain of functions.
+     */
+    private Function2<Long, Long> fused;
+
+    /**
+     * The nested chain of functions.
+     */
+    private Function<Long, Long> nested;
+
+    /**
+     * The compiled chain of functions.
+     */
+    private Function2<Long, Long> compiled;
+
+    /**
+     * Sets up the chains of functions.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        fused = STAGES[0];
+        nested = STAGES[0]::apply;
+        for (int i = 1; i < depth; i++) {
+            fused = fused.andThen(STAGES[i % STAGES.length]);
+            nested = nested.andThen(STAGES[i % STAGES.length]::apply);
+        }
+        compiled = fused.compile();
+    }
+
+    @Benchmark
+    public Long fused() {
+        return fused.apply(input);
+    }
+
+    @Benchmark
+    public Long nested() {
+        return nested.apply(input);
+    }
+
+    @Benchmark
+    public Long compiled() {
+        return compiled.apply(input);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function2<Long, Long>[] stages() {
+        return new Function2[] {
+                (Function2<Long, Long>) l -> l + 1,
+                (Function2<Long, Long>) l -> l * 3,
+                (Function2<Long, Long>) l -> l ^ 5,
+                (Function2<Long, Long>) l -> l - 7,
+                (Function2<Long, Long>) l -> l >>> 1,
+                (Function2<Long, Long>) l -> l | 11,
+                (Function2<Long, Long>) l -> l + 13,
+                (Function2<Long, Long>) l -> l * 17
+        };
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.benchmark;
+
+import at.gridtec.lambda4j.core.util.ThrowableUtils;
+import at.gridtec.lambda4j.function.Function2;
+import at.gridtec.lambda4j.function.ThrowableFunction;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.FileNotFoundException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks nesting of thrown {@link Throwable}s with and without stack trace of the nesting exception. Each
+ * invocation applies a nested {@link ThrowableFunction} which always throws a checked exception, as it is the case
+ * when probing optional resources.
+ * <p>
+ * The {@code depth} parameter defines the number of stack frames below the nested function, which makes the costs of
+ * {@link Throwable#fillInStackTrace()} visible.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NestBenchmark {
+
+    /**
+     * The exception thrown by the benchmarked function. It is created once, so only the nesting exception is measured.
+     */
+    private static final FileNotFoundException EXCEPTION = new FileNotFoundException("optional resource not found");
+
+    /**
+     * The number of stack frames below the nested function.
+     */
+    @Param({"0", "50"})
+    public int depth;
+
+    /**
+     * The flag indicating if the nesting exception fills in its stack trace.
+     */
+    @Param({"true", "false"})
+    public boolean stackTrace;
+
+    /**
+     * The nested function using the process-wide default.
+     */
+    private Function2<String, String> nested;
+
+    /**
+     * Sets up the nested function and the process-wide stack trace switch.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        final ThrowableFunction<String, String, FileNotFoundException> function = name -> {
+            throw EXCEPTION;
+        };
+        nested = function.nest();
+        ThrowableUtils.setStackTraceEnabled(stackTrace);
+    }
+
+    /**
+     * Resets the process-wide stack trace switch.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ThrowableUtils.setStackTraceEnabled(true);
+    }
+
+    @Benchmark
+    public Object nest() {
+        return probe(depth);
+    }
+
+    private Object probe(final int remaining) {
+        if (remaining > 0) {
+            return probe(remaining - 1);
+        }
+        try {
+            return nested.apply("resource");
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+}
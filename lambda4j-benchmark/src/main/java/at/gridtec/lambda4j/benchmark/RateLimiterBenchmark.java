@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.benchmark;
+
+import at.gridtec.lambda4j.consumer.Consumer2;
+import at.gridtec.lambda4j.predicate.Predicate2;
+import at.gridtec.lambda4j.resilience.RateLimiter;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks rate-limited consumers, which share a single {@link RateLimiter} across several threads. The blocking mode
+ * is measured as sample time, so its percentiles show how long single threads wait for their permit. The non-blocking
+ * mode is measured as throughput, as it never waits.
+ * <p>
+ * Fairness is reported as secondary result {@code fairness}, which is the mean of Jain's fairness index of the number
+ * of permits acquired by each thread over all measurement iterations. It is {@code 1.0} if all threads acquired the
+ * same number of permits and approaches {@code 1 / threads} if a single thread acquired all of them.
+ */
+@State(Scope.Benchmark)
+@Threads(4)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RateLimiterBenchmark {
+
+    /**
+     * The number of permits per second of the shared rate limiter.
+     */
+    @Param({"100000", "10000000"})
+    public double permitsPerSecond;
+
+    /**
+     * The counters of all threads of the current iteration.
+     */
+    private final List<Counter> counters = new CopyOnWriteArrayList<>();
+
+    /**
+     * The shared rate limiter.
+     */
+    private RateLimiter rateLimiter;
+
+    /**
+     * The number of measurement iterations.
+     */
+    private int iterations;
+
+    /**
+     * Sets up the shared rate limiter.
+     *
+     * @param params The parameters of this benchmark
+     */
+    @Setup(Level.Trial)
+    public void setup(final BenchmarkParams params) {
+        rateLimiter = RateLimiter.of(permitsPerSecond);
+        iterations = params.getMeasurement().getCount();
+    }
+
+    /**
+     * Computes the fairness of the current iteration and resets the counters of all threads. The counters are torn down
+     * after all threads finished the iteration, but before their auxiliary counters are collected.
+     */
+    @TearDown(Level.Iteration)
+    public void computeFairness() {
+        double sum = 0;
+        double sumOfSquares = 0;
+        for (final Counter counter : counters) {
+            sum += counter.permits;
+            sumOfSquares += (double) counter.permits * counter.permits;
+        }
+        final double fairness = sumOfSquares > 0 ? sum * sum / (counters.size() * sumOfSquares) : 1.0;
+        for (final Counter counter : counters) {
+            // The auxiliary counters are summed up across all threads and iterations, so each thread reports its share
+            counter.fairness = fairness / (counters.size() * iterations);
+        }
+        counters.clear();
+    }
+
+    /**
+     * Represents the consumers and the number of acquired permits of a single thread. Its public fields are reported
+     * as secondary results, which JMH sums up across all threads and iterations.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counter {
+
+        /**
+         * The share of this thread of the mean fairness index.
+         */
+        public double fairness;
+
+        /**
+         * The number of permits acquired by this thread.
+         */
+        long permits;
+
+        /**
+         * The blocking rate-limited consumer of this thread.
+         */
+        Consumer2<Blackhole> blocking;
+
+        /**
+         * The non-blocking rate-limited consumer of this thread.
+         */
+        Predicate2<Blackhole> dropping;
+
+        /**
+         * Sets up the consumers of this thread and registers it for the fairness report.
+         *
+         * @param benchmark The benchmark state holding the shared rate limiter
+         */
+        @Setup(Level.Iteration)
+        public void setup(final RateLimiterBenchmark benchmark) {
+            final Consumer2<Blackhole> consumer = blackhole -> blackhole.consume(permits++);
+            blocking = consumer.rateLimited(benchmark.rateLimiter);
+            dropping = consumer.rateLimitedOrDrop(benchmark.rateLimiter);
+            permits = 0;
+            fairness = 0;
+            benchmark.counters.add(this);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void blocking(final Counter counter, final Blackhole blackhole) {
+        counter.blocking.accept(blackhole);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean dropping(final Counter counter, final Blackhole blackhole) {
+        return counter.dropping.test(blackhole);
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.core.exception;
+
+/**
+ * Represents an exception which wraps any thrown {@link Throwable} from a functional interface, but does not fill in
+ * its own stack trace. As the wrapped {@code Throwable} already holds the stack trace of the failure, this exception
+ * is much cheaper to create than {@link ThrownByFunctionalInterfaceException}, which makes it suitable for flows in
+ * which throwables are expected (f.e. probing optional resources).
+ *
+ * @see ThrownByFunctionalInterfaceException
+ */
+public class StacklessThrownByFunctionalInterfaceException extends ThrownByFunctionalInterfaceException {
+
+    /**
+     * The <a href="https://docs.oracle.com/javase/8/docs/api/index.html">serial version uid</a>.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates this exception from given {@link Throwable} cause.
+     *
+     * @param cause The cause of this exception.
+     */
+    public StacklessThrownByFunctionalInterfaceException(final Throwable cause) {
+        this(cause == null ? null : cause.toString(), cause);
+    }
+
+    /**
+     * Creates this exception from given message {@link String} and {@link Throwable} cause.
+     *
+     * @param message The message for this throwable.
+     * @param cause The cause of this exception.
+     */
+    public StacklessThrownByFunctionalInterfaceException(final String message, final Throwable cause) {
+        super(message, cause, true, false);
+    }
+}
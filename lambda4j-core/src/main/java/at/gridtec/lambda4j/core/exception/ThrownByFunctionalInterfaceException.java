@@ -20,6 +20,11 @@ package at.gridtec.lambda4j.core.exception;
  */
 public class ThrownByFunctionalInterfaceException extends RuntimeException {
 
+    /**
+     * The <a href="https://docs.oracle.com/javase/8/docs/api/index.html">serial version uid</a>.
+     */
+    private static final long serialVersionUID = 1L;
+
     /**
      * Creates this exception from given {@link Throwable} cause.
      *
@@ -38,4 +43,19 @@ public class ThrownByFunctionalInterfaceException extends RuntimeException {
     public ThrownByFunctionalInterfaceException(final String message, final Throwable cause) {
         super(message, cause);
     }
+
+    /**
+     * Creates this exception from given message {@link String} and {@link Throwable} cause, with suppression and
+     * writable stack trace enabled or disabled.
+     *
+     * @param message The message for this throwable.
+     * @param cause The cause of this exception.
+     * @param enableSuppression Whether or not suppression is enabled or disabled.
+     * @param writableStackTrace Whether or not the stack trace should be writable.
+     * @see StacklessThrownByFunctionalInterfaceException
+     */
+    protected ThrownByFunctionalInterfaceException(final String message, final Throwable cause,
+            final boolean enableSuppression, final boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
 }
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.core.memoization;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.lang3.tuple.Triple;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Represents a codec which writes values of a given type to an {@link ObjectOutput} and reads them back from an
+ * {@link ObjectInput}. Codecs are used by {@link MemoizationCache} and {@link MemoizationValue} to write a snapshot of
+ * their memoized values when being serialized.
+ * <p>
+ * Codecs for primitive types write their values using the primitive write methods of {@code ObjectOutput} (e.g. {@link
+ * ObjectOutput#writeInt(int)}), so memoized values of primitive lambdas are encoded in their compact binary form instead
+ * of being serialized as boxed objects.
+ *
+ * @param <T> The type of values to be written and read by this codec
+ */
+public interface Codec<T> extends Serializable {
+
+    /**
+     * Returns a {@link Codec} which writes values using {@link ObjectOutput#writeObject(Object)}.
+     *
+     * @param <T> The type of values to be written and read by the codec
+     * @return A {@code Codec} which writes values using {@code ObjectOutput#writeObject(Object)}.
+     */
+    @Nonnull
+    static <T> Codec<T> ofObject() {
+        return PrimitiveCodec.OBJECT.cast();
+    }
+
+    /**
+     * Returns a {@link Codec} which writes {@code boolean} values in their binary form.
+     *
+     * @return A {@code Codec} which writes {@code boolean} values in their binary form.
+     */
+    @Nonnull
+    static Codec<Boolean> ofBoolean() {
+        return PrimitiveCodec.BOOLEAN.cast();
+    }
+
+    /**
+     * Returns a {@link Codec} which writes {@code byte} values in their binary form.
+     *
+     * @return A {@code Codec} which writes {@code byte} values in their binary form.
+     */
+    @Nonnull
+    static Codec<Byte> ofByte() {
+        return PrimitiveCodec.BYTE.cast();
+    }
+
+    /**
+     * Returns a {@link Codec} which writes {@code char} values in their binary form.
+     *
+     * @return A {@code Codec} which writes {@code char} values in their binary form.
+     */
+    @Nonnull
+    static Codec<Character> ofChar() {
+        return PrimitiveCodec.CHAR.cast();
+    }
+
+    /**
+     * Returns a {@link Codec} which writes {@code double} values in their binary form.
+     *
+     * @return A {@code Codec} which writes {@code double} values in their binary form.
+     */
+    @Nonnull
+    static Codec<Double> ofDouble() {
+        return PrimitiveCodec.DOUBLE.cast();
+    }
+
+    /**
+     * Returns a {@link Codec} which writes {@code float} values in their binary form.
+     *
+     * @return A {@code Codec} which writes {@code float} values in their binary form.
+     */
+    @Nonnull
+    static Codec<Float> ofFloat() {
+        return PrimitiveCodec.FLOAT.cast();
+    }
+
+    /**
+     * Returns a {@link Codec} which writes {@code int} values in their binary form.
+     *
+     * @return A {@code Codec} which writes {@code int} values in their binary form.
+     */
+    @Nonnull
+    static Codec<Integer> ofInt() {
+        return PrimitiveCodec.INT.cast();
+    }
+
+    /**
+     * Returns a {@link Codec} which writes {@code long} values in their binary form.
+     *
+     * @return A {@code Codec} which writes {@code long} values in their binary form.
+     */
+    @Nonnull
+    static Codec<Long> ofLong() {
+        return PrimitiveCodec.LONG.cast();
+    }
+
+    /**
+     * Returns a {@link Codec} which writes {@code short} values in their binary form.
+     *
+     * @return A {@code Codec} which writes {@code short} values in their binary form.
+     */
+    @Nonnull
+    static Codec<Short> ofShort() {
+        return PrimitiveCodec.SHORT.cast();
+    }
+
+    /**
+     * Returns a {@link Codec} which writes {@link Pair}s by writing their elements using the given codecs.
+     *
+     * @param <L> The type of the left element of the pair
+     * @param <R> The type of the right element of the pair
+     * @param left The codec for the left element of the pair
+     * @param right The codec for the right element of the pair
+     * @return A {@code Codec} which writes {@code Pair}s by writing their elements using the given codecs.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     */
+    @Nonnull
+    static <L, R> Codec<Pair<L, R>> ofPair(@Nonnull final Codec<L> left, @Nonnull final Codec<R> right) {
+        Objects.requireNonNull(left);
+        Objects.requireNonNull(right);
+        return new PairCodec<>(left, right);
+    }
+
+    /**
+     * Returns a {@link Codec} which writes {@link Triple}s by writing their elements using the given codecs.
+     *
+     * @param <L> The type of the left element of the triple
+     * @param <M> The type of the middle element of the triple
+     * @param <R> The type of the right element of the triple
+     * @param left The codec for the left element of the triple
+     * @param middle The codec for the middle element of the triple
+     * @param right The codec for the right element of the triple
+     * @return A {@code Codec} which writes {@code Triple}s by writing their elements using the given codecs.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     */
+    @Nonnull
+    static <L, M, R> Codec<Triple<L, M, R>> ofTriple(@Nonnull final Codec<L> left, @Nonnull final Codec<M> middle,
+            @Nonnull final Codec<R> right) {
+        Objects.requireNonNull(left);
+        Objects.requireNonNull(middle);
+        Objects.requireNonNull(right);
+        return new TripleCodec<>(left, middle, right);
+    }
+
+    /**
+     * Writes the given value to the given {@link ObjectOutput}.
+     *
+     * @param out The output to write the value to
+     * @param value The value to be written
+     * @throws IOException If an I/O error occurs
+     */
+    void write(@Nonnull ObjectOutput out, T value) throws IOException;
+
+    /**
+     * Reads a value from the given {@link ObjectInput}, which was previously written by this codec.
+     *
+     * @param in The input to read the value from
+     * @return The value read from the given input.
+     * @throws IOException If an I/O error occurs
+     * @throws ClassNotFoundException If the class of a serialized object cannot be found
+     */
+    T read(@Nonnull ObjectInput in) throws IOException, ClassNotFoundException;
+}
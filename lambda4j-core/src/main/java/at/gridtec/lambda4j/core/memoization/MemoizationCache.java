@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.core.memoization;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Represents the cache of a memoized lambda, which maps the input arguments of the lambda to its computed results.
+ * <p>
+ * In contrast to a plain {@link Map}, this cache is {@link Serializable}, which makes memoized lambdas serializable as
+ * well. Whether the memoized values are written when this cache is serialized, is defined when creating it. If they
+ * are, a snapshot of all memoized values is written using the given {@link Codec}s, so that the deserialized cache
+ * starts warm. Otherwise the deserialized cache starts empty (cold).
+ *
+ * @param <K> The type of keys (input arguments) of this cache
+ * @param <V> The type of values (results) of this cache
+ * @see Codec
+ */
+public final class MemoizationCache<K, V> implements Serializable {
+
+    /**
+     * The <a href="https://docs.oracle.com/javase/8/docs/api/index.html">serial version uid</a>.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The codec used to write the keys of this cache.
+     */
+    private final Codec<K> keyCodec;
+
+    /**
+     * The codec used to write the values of this cache.
+     */
+    private final Codec<V> valueCodec;
+
+    /**
+     * The flag indicating if the memoized values are written when this cache is serialized.
+     */
+    private final boolean serializeCache;
+
+    /**
+     * The memoized values of this cache.
+     */
+    private transient Map<K, V> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Creates this cache from the given arguments.
+     *
+     * @param keyCodec The codec used to write the keys of this cache
+     * @param valueCodec The codec used to write the values of this cache
+     * @param serializeCache The flag indicating if the memoized values are written when this cache is serialized
+     */
+    private MemoizationCache(@Nonnull final Codec<K> keyCodec, @Nonnull final Codec<V> valueCodec,
+            final boolean serializeCache) {
+        this.keyCodec = keyCodec;
+        this.valueCodec = valueCodec;
+        this.serializeCache = serializeCache;
+    }
+
+    /**
+     * Creates a new empty {@link MemoizationCache}.
+     *
+     * @param <K> The type of keys (input arguments) of the cache
+     * @param <V> The type of values (results) of the cache
+     * @param keyCodec The codec used to write the keys of the cache
+     * @param valueCodec The codec used to write the values of the cache
+     * @param serializeCache {@code true} if the memoized values should be written when the cache is serialized, {@code
+     * false} otherwise
+     * @return A new empty {@code MemoizationCache}.
+     * @throws NullPointerException If one of the given codecs is {@code null}
+     */
+    @Nonnull
+    public static <K, V> MemoizationCache<K, V> of(@Nonnull final Codec<K> keyCodec,
+            @Nonnull final Codec<V> valueCodec, final boolean serializeCache) {
+        Objects.requireNonNull(keyCodec);
+        Objects.requireNonNull(valueCodec);
+        return new MemoizationCache<>(keyCodec, valueCodec, serializeCache);
+    }
+
+    /**
+     * Returns the memoized value for the given key. If there is no memoized value for the given key, the value is
+     * computed using the given mapping function and memoized in this cache.
+     * <p>
+     * This method is not synchronized by itself. Callers which need the mapping function to be called only once per key
+     * have to synchronize on this cache, which is also the lock used while writing the snapshot of this cache.
+     *
+     * @param key The key whose value is to be returned
+     * @param mappingFunction The function to compute the value, if the given key is not memoized yet
+     * @return The memoized value for the given key.
+     * @throws NullPointerException If one of the given arguments or the computed value is {@code null}
+     * @see Map#computeIfAbsent(Object, Function)
+     */
+    public V computeIfAbsent(@Nonnull final K key,
+            @Nonnull final Function<? super K, ? extends V> mappingFunction) {
+        return cache.computeIfAbsent(key, mappingFunction);
+    }
+
+    /**
+     * Returns the number of memoized values in this cache.
+     *
+     * @return The number of memoized values in this cache.
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Checks if the memoized values are written when this cache is serialized.
+     *
+     * @return {@code true} if the memoized values are written when this cache is serialized, {@code false} otherwise.
+     */
+    public boolean isSerializeCache() {
+        return serializeCache;
+    }
+
+    /**
+     * Writes this cache to the given stream. If this cache was created to serialize its memoized values, they are
+     * written as a snapshot using the codecs of this cache.
+     *
+     * @param out The stream to write this cache to
+     * @throws IOException If an I/O error occurs
+     */
+    private synchronized void writeObject(@Nonnull final ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        if (serializeCache) {
+            out.writeInt(cache.size());
+            for (final Map.Entry<K, V> entry : cache.entrySet()) {
+                keyCodec.write(out, entry.getKey());
+                valueCodec.write(out, entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Reads this cache from the given stream. If this cache was created to serialize its memoized values, the snapshot
+     * of them is read using the codecs of this cache.
+     *
+     * @param in The stream to read this cache from
+     * @throws IOException If an I/O error occurs
+     * @throws ClassNotFoundException If the class of a serialized object cannot be found
+     */
+    private void readObject(@Nonnull final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        cache = new ConcurrentHashMap<>();
+        if (serializeCache) {
+            final int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                final K key = keyCodec.read(in);
+                cache.put(key, valueCodec.read(in));
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.core.memoization;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Represents the cache of a memoized lambda without input arguments (such as a supplier), which holds the single
+ * computed result of the lambda.
+ * <p>
+ * This cache is {@link Serializable}, which makes memoized lambdas serializable as well. Whether the memoized value is
+ * written when this cache is serialized, is defined when creating it. If it is, the memoized value is written using the
+ * given {@link Codec}, so that the deserialized cache starts warm. Otherwise the deserialized cache starts empty
+ * (cold).
+ *
+ * @param <V> The type of the value of this cache
+ * @see Codec
+ */
+public final class MemoizationValue<V> implements Serializable {
+
+    /**
+     * The <a href="https://docs.oracle.com/javase/8/docs/api/index.html">serial version uid</a>.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The codec used to write the value of this cache.
+     */
+    private final Codec<V> valueCodec;
+
+    /**
+     * The flag indicating if the memoized value is written when this cache is serialized.
+     */
+    private final boolean serializeCache;
+
+    /**
+     * The memoized value of this cache.
+     */
+    private transient volatile V value;
+
+    /**
+     * Creates this cache from the given arguments.
+     *
+     * @param valueCodec The codec used to write the value of this cache
+     * @param serializeCache The flag indicating if the memoized value is written when this cache is serialized
+     */
+    private MemoizationValue(@Nonnull final Codec<V> valueCodec, final boolean serializeCache) {
+        this.valueCodec = valueCodec;
+        this.serializeCache = serializeCache;
+    }
+
+    /**
+     * Creates a new empty {@link MemoizationValue}.
+     *
+     * @param <V> The type of the value of the cache
+     * @param valueCodec The codec used to write the value of the cache
+     * @param serializeCache {@code true} if the memoized value should be written when the cache is serialized, {@code
+     * false} otherwise
+     * @return A new empty {@code MemoizationValue}.
+     * @throws NullPointerException If the given codec is {@code null}
+     */
+    @Nonnull
+    public static <V> MemoizationValue<V> of(@Nonnull final Codec<V> valueCodec, final boolean serializeCache) {
+        Objects.requireNonNull(valueCodec);
+        return new MemoizationValue<>(valueCodec, serializeCache);
+    }
+
+    /**
+     * Returns the memoized value of this cache.
+     *
+     * @return The memoized value of this cache, or {@code null} if no value is memoized yet.
+     */
+    @Nullable
+    public V get() {
+        return value;
+    }
+
+    /**
+     * Sets the memoized value of this cache.
+     *
+     * @param value The value to be memoized
+     */
+    public void set(@Nullable final V value) {
+        this.value = value;
+    }
+
+    /**
+     * Checks if the memoized value is written when this cache is serialized.
+     *
+     * @return {@code true} if the memoized value is written when this cache is serialized, {@code false} otherwise.
+     */
+    public boolean isSerializeCache() {
+        return serializeCache;
+    }
+
+    /**
+     * Writes this cache to the given stream. If this cache was created to serialize its memoized value, it is written
+     * using the codec of this cache.
+     *
+     * @param out The stream to write this cache to
+     * @throws IOException If an I/O error occurs
+     */
+    private void writeObject(@Nonnull final ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        if (serializeCache) {
+            final V current = value;
+            out.writeBoolean(current != null);
+            if (current != null) {
+                valueCodec.write(out, current);
+            }
+        }
+    }
+
+    /**
+     * Reads this cache from the given stream. If this cache was created to serialize its memoized value, it is read
+     * using the codec of this cache.
+     *
+     * @param in The stream to read this cache from
+     * @throws IOException If an I/O error occurs
+     * @throws ClassNotFoundException If the class of a serialized object cannot be found
+     */
+    private void readObject(@Nonnull final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (serializeCache && in.readBoolean()) {
+            value = valueCodec.read(in);
+        }
+    }
+}
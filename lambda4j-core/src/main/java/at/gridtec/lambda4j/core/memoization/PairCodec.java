@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.core.memoization;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+/**
+ * A {@link Codec} which writes {@link Pair}s by writing their elements using the codecs of the elements.
+ *
+ * @param <L> The type of the left element of the pair
+ * @param <R> The type of the right element of the pair
+ */
+final class PairCodec<L, R> implements Codec<Pair<L, R>> {
+
+    /**
+     * The <a href="https://docs.oracle.com/javase/8/docs/api/index.html">serial version uid</a>.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The codec for the left element of the pair.
+     */
+    private final Codec<L> left;
+
+    /**
+     * The codec for the right element of the pair.
+     */
+    private final Codec<R> right;
+
+    /**
+     * Creates this codec from the given codecs of the elements.
+     *
+     * @param left The codec for the left element of the pair
+     * @param right The codec for the right element of the pair
+     */
+    PairCodec(@Nonnull final Codec<L> left, @Nonnull final Codec<R> right) {
+        this.left = left;
+        this.right = right;
+    }
+
+    @Override
+    public void write(@Nonnull final ObjectOutput out, final Pair<L, R> value) throws IOException {
+        left.write(out, value.getLeft());
+        right.write(out, value.getRight());
+    }
+
+    @Override
+    public Pair<L, R> read(@Nonnull final ObjectInput in) throws IOException, ClassNotFoundException {
+        final L l = left.read(in);
+        return Pair.of(l, right.read(in));
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.core.memoization;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+/**
+ * The {@link Codec}s for objects and all primitive types. Being an enum, these codecs are serialized by their name only.
+ */
+enum PrimitiveCodec implements Codec<Object> {
+
+    OBJECT {
+        @Override
+        public void write(@Nonnull final ObjectOutput out, final Object value) throws IOException {
+            out.writeObject(value);
+        }
+
+        @Override
+        public Object read(@Nonnull final ObjectInput in) throws IOException, ClassNotFoundException {
+            return in.readObject();
+        }
+    },
+
+    BOOLEAN {
+        @Override
+        public void write(@Nonnull final ObjectOutput out, final Object value) throws IOException {
+            out.writeBoolean((Boolean) value);
+        }
+
+        @Override
+        public Object read(@Nonnull final ObjectInput in) throws IOException {
+            return in.readBoolean();
+        }
+    },
+
+    BYTE {
+        @Override
+        public void write(@Nonnull final ObjectOutput out, final Object value) throws IOException {
+            out.writeByte((Byte) value);
+        }
+
+        @Override
+        public Object read(@Nonnull final ObjectInput in) throws IOException {
+            return in.readByte();
+        }
+    },
+
+    CHAR {
+        @Override
+        public void write(@Nonnull final ObjectOutput out, final Object value) throws IOException {
+            out.writeChar((Character) value);
+        }
+
+        @Override
+        public Object read(@Nonnull final ObjectInput in) throws IOException {
+            return in.readChar();
+        }
+    },
+
+    DOUBLE {
+        @Override
+        public void write(@Nonnull final ObjectOutput out, final Object value) throws IOException {
+            out.writeDouble((Double) value);
+        }
+
+        @Override
+        public Object read(@Nonnull final ObjectInput in) throws IOException {
+            return in.readDouble();
+        }
+    },
+
+    FLOAT {
+        @Override
+        public void write(@Nonnull final ObjectOutput out, final Object value) throws IOException {
+            out.writeFloat((Float) value);
+        }
+
+        @Override
+        public Object read(@Nonnull final ObjectInput in) throws IOException {
+            return in.readFloat();
+        }
+    },
+
+    INT {
+        @Override
+        public void write(@Nonnull final ObjectOutput out, final Object value) throws IOException {
+            out.writeInt((Integer) value);
+        }
+
+        @Override
+        public Object read(@Nonnull final ObjectInput in) throws IOException {
+            return in.readInt();
+        }
+    },
+
+    LONG {
+        @Override
+        public void write(@Nonnull final ObjectOutput out, final Object value) throws IOException {
+            out.writeLong((Long) value);
+        }
+
+        @Override
+        public Object read(@Nonnull final ObjectInput in) throws IOException {
+            return in.readLong();
+        }
+    },
+
+    SHORT {
+        @Override
+        public void write(@Nonnull final ObjectOutput out, final Object value) throws IOException {
+            out.writeShort((Short) value);
+        }
+
+        @Override
+        public Object read(@Nonnull final ObjectInput in) throws IOException {
+            return in.readShort();
+        }
+    };
+
+    /**
+     * Returns this codec casted to the desired value type.
+     *
+     * @param <T> The type of values to be written and read by this codec
+     * @return This codec casted to the desired value type.
+     */
+    @SuppressWarnings("unchecked")
+    <T> Codec<T> cast() {
+        return (Codec<T>) (Codec<?>) this;
+    }
+}
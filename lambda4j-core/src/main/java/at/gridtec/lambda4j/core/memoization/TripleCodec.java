@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.core.memoization;
+
+import org.apache.commons.lang3.tuple.Triple;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+/**
+ * A {@link Codec} which writes {@link Triple}s by writing their elements using the codecs of the elements.
+ *
+ * @param <L> The type of the left element of the triple
+ * @param <M> The type of the middle element of the triple
+ * @param <R> The type of the right element of the triple
+ */
+final class TripleCodec<L, M, R> implements Codec<Triple<L, M, R>> {
+
+    /**
+     * The <a href="https://docs.oracle.com/javase/8/docs/api/index.html">serial version uid</a>.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The codec for the left element of the triple.
+     */
+    private final Codec<L> left;
+
+    /**
+     * The codec for the middle element of the triple.
+     */
+    private final Codec<M> middle;
+
+    /**
+     * The codec for the right element of the triple.
+     */
+    private final Codec<R> right;
+
+    /**
+     * Creates this codec from the given codecs of the elements.
+     *
+     * @param left The codec for the left element of the triple
+     * @param middle The codec for the middle element of the triple
+     * @param right The codec for the right element of the triple
+     */
+    TripleCodec(@Nonnull final Codec<L> left, @Nonnull final Codec<M> middle, @Nonnull final Codec<R> right) {
+        this.left = left;
+        this.middle = middle;
+        this.right = right;
+    }
+
+    @Override
+    public void write(@Nonnull final ObjectOutput out, final Triple<L, M, R> value) throws IOException {
+        left.write(out, value.getLeft());
+        middle.write(out, value.getMiddle());
+        right.write(out, value.getRight());
+    }
+
+    @Override
+    public Triple<L, M, R> read(@Nonnull final ObjectInput in) throws IOException, ClassNotFoundException {
+        final L l = left.read(in);
+        final M m = middle.read(in);
+        return Triple.of(l, m, right.read(in));
+    }
+}
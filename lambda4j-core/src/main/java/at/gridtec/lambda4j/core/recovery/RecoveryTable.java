@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.core.recovery;
+
+import at.gridtec.lambda4j.core.util.ThrowableUtils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Represents a recovery table which maps {@link Throwable} classes to fallback operations. It may be used as {@code
+ * recover} operation of every throwable functional interface, as it returns the fallback operation registered for the
+ * class of the thrown {@code Throwable} or one of its superclasses. The following example demonstrates this:
+ * <pre>
+ * RecoveryTable&lt;ToIntFunction&lt;String&gt;&gt; table = RecoveryTable.&lt;ToIntFunction&lt;String&gt;&gt;builder()
+ *         .on(NumberFormatException.class, s -&gt; -1)
+ *         .on(IOException.class, s -&gt; 0)
+ *         .build();
+ * ToIntFunction2&lt;String&gt; parse = ThrowableToIntFunction.of(this::parse).recover(table);
+ * </pre>
+ * In contrast to a {@code recover} operation implemented as {@code instanceof} chain, the fallback operation of a
+ * concrete {@code Throwable} class is resolved only once, by searching the class hierarchy from the concrete class up
+ * to {@code Throwable}. The resolved fallback operation is then cached per class using a {@link ClassValue}, so that
+ * every further recovery of the same class costs a single lookup and returns the same fallback operation instance.
+ * <p>
+ * If there is no fallback operation registered for the thrown {@code Throwable}, it is sneakily rethrown as-is by
+ * this table.
+ *
+ * @param <F> The type of fallback operations of this table
+ * @see ThrowableUtils#sneakyThrow(Throwable)
+ */
+public final class RecoveryTable<F> implements Function<Throwable, F> {
+
+    /**
+     * The registered fallback operations of this table, mapped by the exact {@link Throwable} class.
+     */
+    private final Map<Class<? extends Throwable>, F> fallbacks;
+
+    /**
+     * The fallback operations resolved by class hierarchy, cached per concrete {@link Throwable} class. A {@code null}
+     * value represents that there is no fallback operation for the class.
+     */
+    private final ClassValue<F> resolved = new ClassValue<F>() {
+        @Override
+        protected F computeValue(final Class<?> type) {
+            return resolve(type);
+        }
+    };
+
+    /**
+     * Creates this table from the given fallback operations.
+     *
+     * @param fallbacks The fallback operations of this table, mapped by {@link Throwable} class
+     */
+    private RecoveryTable(@Nonnull final Map<Class<? extends Throwable>, F> fallbacks) {
+        this.fallbacks = fallbacks;
+    }
+
+    /**
+     * Creates a new {@link Builder} for a {@link RecoveryTable}.
+     *
+     * @param <F> The type of fallback operations of the table
+     * @return A new {@code Builder} for a {@code RecoveryTable}.
+     */
+    @Nonnull
+    public static <F> Builder<F> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Returns the fallback operation for the given {@link Throwable}. If there is no fallback operation registered for
+     * the class of the given {@code Throwable} or one of its superclasses, it is sneakily rethrown as-is.
+     *
+     * @param throwable The throwable to return the fallback operation for
+     * @return The fallback operation for the given throwable.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    @Override
+    public F apply(@Nonnull final Throwable throwable) {
+        final F fallback = lookup(throwable.getClass());
+        if (fallback == null) {
+            throw ThrowableUtils.sneakyThrow(throwable);
+        }
+        return fallback;
+    }
+
+    /**
+     * Returns the fallback operation for the given {@link Throwable} class, which is the fallback operation registered
+     * for the class itself or its nearest superclass.
+     *
+     * @param type The throwable class to return the fallback operation for
+     * @return The fallback operation for the given throwable class, or {@code null} if there is none.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nullable
+    public F lookup(@Nonnull final Class<? extends Throwable> type) {
+        Objects.requireNonNull(type);
+        return resolved.get(type);
+    }
+
+    /**
+     * Resolves the fallback operation for the given class by searching the class hierarchy from the given class up to
+     * {@link Throwable}.
+     *
+     * @param type The class to resolve the fallback operation for
+     * @return The fallback operation for the given class, or {@code null} if there is none.
+     */
+    @Nullable
+    private F resolve(@Nonnull final Class<?> type) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            final F fallback = fallbacks.get(current);
+            if (fallback != null) {
+                return fallback;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Represents a builder for a {@link RecoveryTable}.
+     *
+     * @param <F> The type of fallback operations of the table
+     */
+    public static final class Builder<F> {
+
+        /**
+         * The registered fallback operations, mapped by the exact {@link Throwable} class.
+         */
+        private final Map<Class<? extends Throwable>, F> fallbacks = new LinkedHashMap<>();
+
+        /**
+         * Private constructor to prevent instantiation from outside.
+         */
+        private Builder() {
+
+        }
+
+        /**
+         * Registers the given fallback operation for the given {@link Throwable} class and all of its subclasses, which
+         * do not have a more specific fallback operation registered. Registering a fallback operation for the same class
+         * again replaces the previous one.
+         *
+         * @param type The throwable class to register the fallback operation for
+         * @param fallback The fallback operation to be returned for the throwable class
+         * @return This builder.
+         * @throws NullPointerException If one of the given arguments is {@code null}
+         */
+        @Nonnull
+        public Builder<F> on(@Nonnull final Class<? extends Throwable> type, @Nonnull final F fallback) {
+            Objects.requireNonNull(type);
+            Objects.requireNonNull(fallback);
+            fallbacks.put(type, fallback);
+            return this;
+        }
+
+        /**
+         * Registers the given fallback operation for all {@link Throwable}s, which do not have a more specific fallback
+         * operation registered.
+         *
+         * @param fallback The fallback operation to be returned for all other throwables
+         * @return This builder.
+         * @throws NullPointerException If given argument is {@code null}
+         */
+        @Nonnull
+        public Builder<F> otherwise(@Nonnull final F fallback) {
+            return on(Throwable.class, fallback);
+        }
+
+        /**
+         * Builds a new {@link RecoveryTable} from the fallback operations registered with this builder. Further
+         * registrations with this builder do not affect the built table.
+         *
+         * @return A new {@code RecoveryTable} from the fallback operations registered with this builder.
+         */
+        @Nonnull
+        public RecoveryTable<F> build() {
+            return new RecoveryTable<>(Collections.unmodifiableMap(new HashMap<>(fallbacks)));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.core.util;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Represents a view which is derived from a source instance, such as the {@code boxed()} view of a primitive lambda.
+ * A derived view gives access to its source instance, so that it can be unwrapped to its source again instead of
+ * being wrapped twice.
+ * <p>
+ * As the derived view holds its source instance itself, no side table is needed to look up the source of a view.
+ */
+public interface DerivedView {
+
+    /**
+     * Returns the source instance, from which this view was derived.
+     *
+     * @return The source instance of this view.
+     */
+    @Nonnull
+    Object getSource();
+}
@@ -0,0 +1,336 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.core.util;
+
+import javax.annotation.Nonnull;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * This class consists of helper methods for the bulk array operations of lambdas, which apply a lambda to whole arrays
+ * or ranges of arrays. The parallel variants of these operations split the array range into chunks of a tunable grain
+ * size, which are processed by the {@link ForkJoinPool#commonPool()}.
+ * <p>
+ * The grain size defines the maximum number of elements, which are processed sequentially by one task. Smaller grain
+ * sizes allow a better load balancing for expensive lambdas, while larger grain sizes reduce the splitting overhead for
+ * cheap lambdas.
+ */
+public final class ParallelArrays {
+
+    /**
+     * The default grain size of parallel bulk array operations.
+     */
+    public static final int DEFAULT_GRAIN_SIZE = 1 << 13;
+
+    /**
+     * The default grain size of parallel bulk array operations of expensive lambdas, which is smaller than the {@link
+     * #DEFAULT_GRAIN_SIZE} to balance the load between the threads.
+     */
+    public static final int EXPENSIVE_GRAIN_SIZE = 1 << 6;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ParallelArrays() {
+
+    }
+
+    /**
+     * Represents an action which is applied to a range of array indices. The range extends from index {@code
+     * fromIndex}, inclusive, to index {@code toIndex}, exclusive.
+     */
+    @FunctionalInterface
+    public interface RangeAction {
+
+        /**
+         * Applies this action to the given range of array indices.
+         *
+         * @param fromIndex The index of the first element (inclusive) of the range
+         * @param toIndex The index of the last element (exclusive) of the range
+         */
+        void apply(int fromIndex, int toIndex);
+    }
+
+    /**
+     * Represents an action which is applied to a chunk of an array. The chunk extends from index {@code fromIndex},
+     * inclusive, to index {@code toIndex}, exclusive.
+     */
+    @FunctionalInterface
+    public interface ChunkAction {
+
+        /**
+         * Applies this action to the given chunk of an array.
+         *
+         * @param chunk The index of the chunk
+         * @param fromIndex The index of the first element (inclusive) of the chunk
+         * @param toIndex The index of the last element (exclusive) of the chunk
+         */
+        void apply(int chunk, int fromIndex, int toIndex);
+    }
+
+    /**
+     * Returns the default grain size of parallel bulk array operations of a lambda, which is either expensive or not.
+     *
+     * @param expensive {@code true} if the lambda is expensive, {@code false} otherwise
+     * @return The {@link #EXPENSIVE_GRAIN_SIZE} if the lambda is expensive, the {@link #DEFAULT_GRAIN_SIZE} otherwise.
+     */
+    public static int defaultGrainSize(final boolean expensive) {
+        return expensive ? EXPENSIVE_GRAIN_SIZE : DEFAULT_GRAIN_SIZE;
+    }
+
+    /**
+     * Checks that the given range is a valid range of an array with the given length.
+     *
+     * @param arrayLength The length of the array
+     * @param fromIndex The index of the first element (inclusive) of the range
+     * @param toIndex The index of the last element (exclusive) of the range
+     * @throws IllegalArgumentException If {@code fromIndex > toIndex}
+     * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0} or {@code toIndex > arrayLength}
+     */
+    public static void rangeCheck(final int arrayLength, final int fromIndex, final int toIndex) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        } else if (fromIndex < 0) {
+            throw new ArrayIndexOutOfBoundsException(fromIndex);
+        } else if (toIndex > arrayLength) {
+            throw new ArrayIndexOutOfBoundsException(toIndex);
+        }
+    }
+
+    /**
+     * Checks that an array with the given length is at least as long as the given required length. This is used to
+     * check that further source arrays and destination arrays cover all elements of the first source array.
+     *
+     * @param requiredLength The required length, which is the length of the first source array
+     * @param length The length of the array to be checked
+     * @throws IllegalArgumentException If {@code length < requiredLength}
+     */
+    public static void lengthCheck(final int requiredLength, final int length) {
+        if (length < requiredLength) {
+            throw new IllegalArgumentException("length(" + length + ") < required length(" + requiredLength + ")");
+        }
+    }
+
+    /**
+     * Checks that the given grain size is positive and returns it.
+     *
+     * @param grainSize The grain size to be checked
+     * @return The given grain size.
+     * @throws IllegalArgumentException If the given grain size is not positive
+     */
+    public static int grainSizeCheck(final int grainSize) {
+        if (grainSize <= 0) {
+            throw new IllegalArgumentException("grainSize(" + grainSize + ") <= 0");
+        }
+        return grainSize;
+    }
+
+    /**
+     * Returns the number of chunks of at most the given grain size, which are needed to cover an array with the given
+     * length.
+     *
+     * @param length The length of the array
+     * @param grainSize The maximum number of elements of one chunk
+     * @return The number of chunks needed to cover an array with the given length.
+     * @throws IllegalArgumentException If the given grain size is not positive
+     */
+    public static int chunkCount(final int length, final int grainSize) {
+        grainSizeCheck(grainSize);
+        return (int) (((long) length + grainSize - 1) / grainSize);
+    }
+
+    /**
+     * Applies the given {@link ChunkAction} to each chunk of an array with the given length in parallel. Therefore the
+     * array is split into {@link #chunkCount(int, int) chunks} of the given grain size, of which only the last one may
+     * be smaller. As the chunk boundaries depend only on the given length and grain size, an operation which combines
+     * the results of the chunks in chunk order yields the same result on every run.
+     *
+     * @param length The length of the array
+     * @param grainSize The maximum number of elements of one chunk
+     * @param action The action to be applied to each chunk of the array
+     * @throws NullPointerException If given action is {@code null}
+     * @throws IllegalArgumentException If the given grain size is not positive
+     * @see #forEachChunk(int, int, boolean, ChunkAction)
+     */
+    public static void forEachChunk(final int length, final int grainSize, @Nonnull final ChunkAction action) {
+        forEachChunk(length, grainSize, true, action);
+    }
+
+    /**
+     * Applies the given {@link ChunkAction} to each chunk of an array with the given length, in parallel if the given
+     * {@code parallel} flag is set. Therefore the array is split into {@link #chunkCount(int, int) chunks} of the given
+     * grain size, of which only the last one may be smaller. As the chunk boundaries depend only on the given length and
+     * grain size, an operation which combines the results of the chunks in chunk order yields the same result on every
+     * run, whether the chunks are processed in parallel or not.
+     *
+     * @param length The length of the array
+     * @param grainSize The maximum number of elements of one chunk
+     * @param parallel {@code true} if the chunks may be processed in parallel, {@code false} if they must be processed
+     * in chunk order by the calling thread (f.e. because the action is not thread-safe)
+     * @param action The action to be applied to each chunk of the array
+     * @throws NullPointerException If given action is {@code null}
+     * @throws IllegalArgumentException If the given grain size is not positive
+     * @see #forEachRange(int, int, int, boolean, RangeAction)
+     */
+    public static void forEachChunk(final int length, final int grainSize, final boolean parallel,
+            @Nonnull final ChunkAction action) {
+        Objects.requireNonNull(action);
+        final int chunkCount = chunkCount(length, grainSize);
+        forEachRange(0, chunkCount, 1, parallel, (fromChunk, toChunk) -> {
+            for (int chunk = fromChunk; chunk < toChunk; chunk++) {
+                final int fromIndex = chunk * grainSize;
+                action.apply(chunk, fromIndex, fromIndex + Math.min(grainSize, length - fromIndex));
+            }
+        });
+    }
+
+    /**
+     * Moves the leading elements of each chunk of the given array together in chunk order, so that they are stored
+     * contiguously at the beginning of the array. The array is split into {@link #chunkCount(int, int) chunks} of the
+     * given grain size, whereas the given counts define the number of leading elements of each chunk to be kept.
+     *
+     * @param array The array whose chunks are compacted in place
+     * @param counts The number of leading elements of each chunk to be kept
+     * @param grainSize The maximum number of elements of one chunk
+     * @return The total number of kept elements, which are stored at the beginning of the given array.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @throws IllegalArgumentException If the given grain size is not positive
+     * @throws ArrayStoreException If the given array is not an array
+     * @see #forEachChunk(int, int, ChunkAction)
+     */
+    public static int compactChunks(@Nonnull final Object array, @Nonnull final int[] counts, final int grainSize) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(counts);
+        grainSizeCheck(grainSize);
+        int length = 0;
+        for (int chunk = 0; chunk < counts.length; chunk++) {
+            final int fromIndex = chunk * grainSize;
+            if (length != fromIndex) {
+                System.arraycopy(array, fromIndex, array, length, counts[chunk]);
+            }
+            length += counts[chunk];
+        }
+        return length;
+    }
+
+    /**
+     * Applies the given {@link RangeAction} to the given range of array indices in parallel. Therefore the range is
+     * split recursively into chunks of at most the given grain size, which are processed by the {@link
+     * ForkJoinPool#commonPool()}. This method returns after all chunks are processed.
+     *
+     * @param fromIndex The index of the first element (inclusive) of the range
+     * @param toIndex The index of the last element (exclusive) of the range
+     * @param grainSize The maximum number of elements to be processed sequentially by one task
+     * @param action The action to be applied to each chunk of the range
+     * @throws NullPointerException If given action is {@code null}
+     * @throws IllegalArgumentException If {@code fromIndex > toIndex} or the given grain size is not positive
+     * @see #forEachRange(int, int, int, boolean, RangeAction)
+     */
+    public static void forEachRange(final int fromIndex, final int toIndex, final int grainSize,
+            @Nonnull final RangeAction action) {
+        forEachRange(fromIndex, toIndex, grainSize, true, action);
+    }
+
+    /**
+     * Applies the given {@link RangeAction} to the given range of array indices, in parallel if the given {@code
+     * parallel} flag is set. Therefore the range is split recursively into chunks of at most the given grain size, which
+     * are processed by the {@link ForkJoinPool#commonPool()}. This method returns after all chunks are processed.
+     *
+     * @param fromIndex The index of the first element (inclusive) of the range
+     * @param toIndex The index of the last element (exclusive) of the range
+     * @param grainSize The maximum number of elements to be processed sequentially by one task
+     * @param parallel {@code true} if the range may be processed in parallel, {@code false} if it must be processed by
+     * the calling thread (f.e. because the action is not thread-safe)
+     * @param action The action to be applied to each chunk of the range
+     * @throws NullPointerException If given action is {@code null}
+     * @throws IllegalArgumentException If {@code fromIndex > toIndex} or the given grain size is not positive
+     * @implNote If the given {@code parallel} flag is not set, the range does not exceed the given grain size or the
+     * common pool does not support parallelism, the action is applied to the whole range in the calling thread.
+     */
+    public static void forEachRange(final int fromIndex, final int toIndex, final int grainSize,
+            final boolean parallel, @Nonnull final RangeAction action) {
+        Objects.requireNonNull(action);
+        grainSizeCheck(grainSize);
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        }
+        if (!parallel || toIndex - fromIndex <= grainSize || ForkJoinPool.getCommonPoolParallelism() <= 1) {
+            action.apply(fromIndex, toIndex);
+        } else {
+            ForkJoinPool.commonPool().invoke(new RangeTask(fromIndex, toIndex, grainSize, action));
+        }
+    }
+
+    /**
+     * The {@link RecursiveAction} which splits a range of array indices in halves, until the range does not exceed
+     * the grain size.
+     */
+    private static final class RangeTask extends RecursiveAction {
+
+        /**
+         * The <a href="https://docs.oracle.com/javase/8/docs/api/index.html">serial version uid</a>.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The index of the first element (inclusive) of the range.
+         */
+        private final int fromIndex;
+
+        /**
+         * The index of the last element (exclusive) of the range.
+         */
+        private final int toIndex;
+
+        /**
+         * The maximum number of elements to be processed sequentially by one task.
+         */
+        private final int grainSize;
+
+        /**
+         * The action to be applied to each chunk of the range.
+         */
+        private final RangeAction action;
+
+        /**
+         * Constructs a new task which applies the given action to the given range of array indices.
+         *
+         * @param fromIndex The index of the first element (inclusive) of the range
+         * @param toIndex The index of the last element (exclusive) of the range
+         * @param grainSize The maximum number of elements to be processed sequentially by one task
+         * @param action The action to be applied to each chunk of the range
+         */
+        private RangeTask(final int fromIndex, final int toIndex, final int grainSize,
+                @Nonnull final RangeAction action) {
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.grainSize = grainSize;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (toIndex - fromIndex <= grainSize) {
+                action.apply(fromIndex, toIndex);
+            } else {
+                final int middle = (fromIndex + toIndex) >>> 1;
+                invokeAll(new RangeTask(fromIndex, middle, grainSize, action),
+                          new RangeTask(middle, toIndex, grainSize, action));
+            }
+        }
+    }
+}
@@ -15,8 +15,13 @@
  */
 package at.gridtec.lambda4j.core.util;
 
+import at.gridtec.lambda4j.core.exception.StacklessThrownByFunctionalInterfaceException;
+import at.gridtec.lambda4j.core.exception.ThrownByFunctionalInterfaceException;
+
 import javax.annotation.Nonnull;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * This class implements utils for {@link Throwable}.
@@ -25,6 +30,19 @@ import java.util.Objects;
  */
 public final class ThrowableUtils {
 
+    /**
+     * The name of the system property which disables the stack trace of nested throwables, if set to {@code false}.
+     *
+     * @see #isStackTraceEnabled()
+     */
+    public static final String STACK_TRACE_PROPERTY = "at.gridtec.lambda4j.nest.stackTrace";
+
+    /**
+     * The flag indicating if nested throwables fill in their own stack trace.
+     */
+    private static volatile boolean stackTraceEnabled = !"false".equalsIgnoreCase(
+            System.getProperty(STACK_TRACE_PROPERTY));
+
     /**
      * Private constructor to prevent instantiation.
      */
@@ -66,4 +84,68 @@ public final class ThrowableUtils {
     private static <X extends Throwable> void sneakyThrow0(Throwable t) throws X {
         throw (X) t;
     }
+
+    /**
+     * Waits for the given {@link CompletableFuture} to complete and returns its result. Unlike {@link
+     * CompletableFuture#join()}, the {@link Throwable} the future completed exceptionally with is thrown as is, instead
+     * of being wrapped in a {@link CompletionException}. So a throwable thrown by a lambda applied asynchronously
+     * reaches the caller the same way as if the lambda was applied by the calling thread.
+     *
+     * @param <T> The type of the result of the future
+     * @param future The future to wait for
+     * @return The result of the given future.
+     * @throws NullPointerException If given argument was {@code null}
+     * @see #sneakyThrow(Throwable)
+     */
+    public static <T> T join(@Nonnull CompletableFuture<T> future) {
+        Objects.requireNonNull(future);
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw sneakyThrow(e.getCause() != null ? e.getCause() : e);
+        }
+    }
+
+    /**
+     * Nests (wraps) the given {@link Throwable} in a {@link ThrownByFunctionalInterfaceException}, which is constructed
+     * from the given {@code Throwable}s message and the given {@code Throwable} itself. If stack traces of nested
+     * throwables are disabled process-wide, a {@link StacklessThrownByFunctionalInterfaceException} is returned
+     * instead.
+     *
+     * @param t The throwable to be nested
+     * @return A {@code ThrownByFunctionalInterfaceException} which nests the given throwable.
+     * @throws NullPointerException If given argument was {@code null}
+     * @see #isStackTraceEnabled()
+     */
+    @Nonnull
+    public static ThrownByFunctionalInterfaceException nest(@Nonnull Throwable t) {
+        Objects.requireNonNull(t);
+        if (stackTraceEnabled) {
+            return new ThrownByFunctionalInterfaceException(t.getMessage(), t);
+        } else {
+            return new StacklessThrownByFunctionalInterfaceException(t.getMessage(), t);
+        }
+    }
+
+    /**
+     * Checks if throwables nested by {@link #nest(Throwable)} fill in their own stack trace. By default this is {@code
+     * true}, unless the system property {@value #STACK_TRACE_PROPERTY} is set to {@code false}.
+     *
+     * @return {@code true} if nested throwables fill in their own stack trace, {@code false} otherwise.
+     */
+    public static boolean isStackTraceEnabled() {
+        return stackTraceEnabled;
+    }
+
+    /**
+     * Enables or disables process-wide, if throwables nested by {@link #nest(Throwable)} fill in their own stack
+     * trace. As the nested throwable already holds the stack trace of the failure, disabling it saves the costs of
+     * {@link Throwable#fillInStackTrace()} in flows where throwables are expected.
+     *
+     * @param enabled {@code true} if nested throwables should fill in their own stack trace, {@code false} otherwise
+     * @see StacklessThrownByFunctionalInterfaceException
+     */
+    public static void setStackTraceEnabled(boolean enabled) {
+        stackTraceEnabled = enabled;
+    }
 }
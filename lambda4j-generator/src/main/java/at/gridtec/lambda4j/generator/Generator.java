@@ -22,6 +22,7 @@ import at.gridtec.lambda4j.generator.processors.Processor;
 import at.gridtec.lambda4j.generator.processors.ProcessorChain;
 import at.gridtec.lambda4j.generator.processors.impl.ArityProcessor;
 import at.gridtec.lambda4j.generator.processors.impl.ChangeOperatorProcessor;
+import at.gridtec.lambda4j.generator.processors.impl.InputTypeFurtherProcessor;
 import at.gridtec.lambda4j.generator.processors.impl.InputTypeOneProcessor;
 import at.gridtec.lambda4j.generator.processors.impl.InputTypeThreeProcessor;
 import at.gridtec.lambda4j.generator.processors.impl.InputTypeTwoProcessor;
@@ -69,7 +70,6 @@ public class Generator {
                 .invoke()
                 .stream()
                 .filter(Objects::nonNull)
-                .filter(lambda -> !lambda.getType().equals(LambdaTypeEnum.COMPARATOR))
                 .sorted(Comparator.comparing(LambdaEntity::getType).thenComparing(LambdaEntity::getPackageName))
                 .map(lambda -> {
                     if (lambda.isFromJDK() && !lambda.isThrowable()) {
@@ -140,6 +140,7 @@ public class Generator {
         Processor inputTypeOneProcessor = new InputTypeOneProcessor();
         Processor inputTypeTwoProcessor = new InputTypeTwoProcessor();
         Processor inputTypeThreeProcessor = new InputTypeThreeProcessor();
+        Processor inputTypeFurtherProcessor = new InputTypeFurtherProcessor();
         Processor changeOperatorProcessor = new ChangeOperatorProcessor();
         Processor packageProcessor = new PackageProcessor();
         Processor throwableProcessor = new ThrowableProcessor();
@@ -154,6 +155,7 @@ public class Generator {
         ProcessorChain.getInstance().addProcessor(throwableProcessor);
         ProcessorChain.getInstance().addProcessor(packageProcessor);
         ProcessorChain.getInstance().addProcessor(changeOperatorProcessor);
+        ProcessorChain.getInstance().addProcessor(inputTypeFurtherProcessor);
         ProcessorChain.getInstance().addProcessor(inputTypeThreeProcessor);
         ProcessorChain.getInstance().addProcessor(inputTypeTwoProcessor);
         ProcessorChain.getInstance().addProcessor(inputTypeOneProcessor);
@@ -18,6 +18,8 @@ package at.gridtec.lambda4j.generator.entities;
 import at.gridtec.lambda4j.generator.LambdaTypeEnum;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Represents an entity which describes a lambda. This includes the lambdas package, its name, its type, its arity, its
@@ -47,7 +49,7 @@ public class LambdaEntity implements Serializable {
     private String method;
 
     /**
-     * The lambdas arity. This can either be {@code 0} until {@code 3}.
+     * The lambdas arity. This can either be {@code 0} until {@code 8}.
      */
     private int arity;
 
@@ -71,6 +73,12 @@ public class LambdaEntity implements Serializable {
      */
     private TypeEntity thirdInputType;
 
+    /**
+     * The lambdas further input types (fourth input type onwards) represented by {@link TypeEntity} instances. This
+     * list is only filled if the lambdas arity is greater than {@code 3}.
+     */
+    private List<TypeEntity> furtherInputTypes = new ArrayList<>();
+
     /**
      * The lambdas throwable type which is only set if the {@link #throwable} flag is set to {@code true}.
      */
@@ -255,6 +263,24 @@ public class LambdaEntity implements Serializable {
         this.thirdInputType = thirdInputType;
     }
 
+    /**
+     * Returns the lambdas further input types (fourth input type onwards).
+     *
+     * @return The lambdas further input types (fourth input type onwards).
+     */
+    public List<TypeEntity> getFurtherInputTypes() {
+        return furtherInputTypes;
+    }
+
+    /**
+     * Sets the lambdas further input types (fourth input type onwards).
+     *
+     * @param furtherInputTypes The lambdas further input types to be set.
+     */
+    public void setFurtherInputTypes(List<TypeEntity> furtherInputTypes) {
+        this.furtherInputTypes = furtherInputTypes;
+    }
+
     public TypeEntity getThrowableType() {
         return throwableType;
     }
@@ -340,7 +366,10 @@ public class LambdaEntity implements Serializable {
         if (!secondInputType.equals(lambda.secondInputType)) {
             return false;
         }
-        return thirdInputType.equals(lambda.thirdInputType);
+        if (!thirdInputType.equals(lambda.thirdInputType)) {
+            return false;
+        }
+        return furtherInputTypes.equals(lambda.furtherInputTypes);
 
     }
 
@@ -355,6 +384,7 @@ public class LambdaEntity implements Serializable {
         result = 31 * result + firstInputType.hashCode();
         result = 31 * result + secondInputType.hashCode();
         result = 31 * result + thirdInputType.hashCode();
+        result = 31 * result + furtherInputTypes.hashCode();
         result = 31 * result + (throwable ? 1 : 0);
         result = 31 * result + (fromJDK ? 1 : 0);
         return result;
@@ -372,6 +402,7 @@ public class LambdaEntity implements Serializable {
                 ", firstInputType=" + firstInputType +
                 ", secondInputType=" + secondInputType +
                 ", thirdInputType=" + thirdInputType +
+                ", furtherInputTypes=" + furtherInputTypes +
                 ", throwable=" + throwable +
                 ", fromJDK=" + fromJDK +
                 '}';
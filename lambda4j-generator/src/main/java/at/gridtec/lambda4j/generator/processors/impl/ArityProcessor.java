@@ -37,6 +37,12 @@ public final class ArityProcessor extends Processor {
      */
     private static final int ARITY_MAX = 3;
 
+    /**
+     * Defines the maximum arity to create for functions, consumers and predicates, which get a curated set of higher
+     * arity lambdas beyond {@link #ARITY_MAX}.
+     */
+    private static final int HIGHER_ARITY_MAX = 8;
+
     @Override
     protected boolean processable(@Nonnull final LambdaEntity lambda) {
         return lambda.getType() != null;
@@ -75,6 +81,16 @@ public final class ArityProcessor extends Processor {
                 copy.setArity(arity);
                 lambdas.addAll(next(copy));
             }
+
+            // Functions, consumers and predicates are also created with higher arities
+            if (LambdaUtils.isOfTypeFunction(lambda) || LambdaUtils.isOfTypeConsumer(lambda)
+                    || LambdaUtils.isOfTypePredicate(lambda)) {
+                for (int arity = ARITY_MAX + 1; arity <= HIGHER_ARITY_MAX; arity++) {
+                    final LambdaEntity copy = LambdaUtils.copy(lambda);
+                    copy.setArity(arity);
+                    lambdas.addAll(next(copy));
+                }
+            }
         }
         return lambdas;
     }
@@ -55,9 +55,12 @@ public final class ChangeOperatorProcessor extends Processor {
     protected List<LambdaEntity> process(@Nonnull final LambdaEntity lambda) {
         final List<LambdaEntity> lambdas = new LinkedList<>();
 
-        // Check if lambda is operator depending on its arity
+        // Check if lambda is operator depending on its arity (comparators and higher arity lambdas are never operators)
         boolean isOperator = false;
         boolean isPrimitiveOperator = false;
+        if (LambdaUtils.isOfTypeComparator(lambda) || lambda.getArity() > 3) {
+            return next(lambda);
+        }
         if (lambda.getArity() >= 1) {
             isOperator = lambda.getReturnType().equals(lambda.getFirstInputType());
             isPrimitiveOperator = isOperator && lambda.getFirstInputType().isPrimitive() && lambda.getReturnType()
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.generator.processors.impl;
+
+import at.gridtec.lambda4j.generator.entities.LambdaEntity;
+import at.gridtec.lambda4j.generator.entities.TypeEntity;
+import at.gridtec.lambda4j.generator.processors.Processor;
+import at.gridtec.lambda4j.generator.util.LambdaUtils;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Represents a {@link Processor} which sets the {@code fourth} and all further input types to lambdas with an arity
+ * greater than {@code 3}. As the variety of higher arity lambdas grows combinatorial, only a curated subset of them is
+ * handed over to next {@code Processor} to do further processing. The result from next step is returned by this step.
+ * <p>
+ * The curated subset consists of lambdas with generic inputs only, with primitive inputs of the same type only and with
+ * one generic input followed by primitive inputs of the same type. Only {@code int}, {@code long} and {@code double}
+ * are used as primitive input types. Functions of this subset always have a generic return type.
+ * <p>
+ * Requirements by this step are the lambdas type ({@link LambdaEntity#getType()}), arity ({@link
+ * LambdaEntity#getArity()}), return type ({@link LambdaEntity#getReturnType()}) and input types ({@link
+ * LambdaEntity#getFirstInputType()}, {@link LambdaEntity#getSecondInputType()}, {@link
+ * LambdaEntity#getThirdInputType()}).
+ */
+public final class InputTypeFurtherProcessor extends Processor {
+
+    /**
+     * Defines the primitive input types used for lambdas with an arity greater than {@code 3}.
+     */
+    private static final List<Class<?>> HIGHER_ARITY_PRIMITIVES = Arrays.asList(double.class, int.class, long.class);
+
+    @Override
+    protected boolean processable(@Nonnull final LambdaEntity lambda) {
+        boolean processable = lambda.getType() != null && lambda.getReturnType() != null;
+        if (lambda.getArity() >= 3) {
+            processable = processable && lambda.getThirdInputType() != null;
+        }
+        return processable;
+    }
+
+    @Override
+    @Nonnull
+    protected List<LambdaEntity> process(@Nonnull final LambdaEntity lambda) {
+        final List<LambdaEntity> lambdas = new LinkedList<>();
+
+        // Check if it has arity greater than 3; otherwise end call stack
+        if (lambda.getArity() > 3) {
+            final boolean isFirstPrimitive = LambdaUtils.isPrimitiveType(lambda.getFirstInputType());
+            final boolean isSecondPrimitive = LambdaUtils.isPrimitiveType(lambda.getSecondInputType());
+            final boolean isThirdPrimitive = LambdaUtils.isPrimitiveType(lambda.getThirdInputType());
+
+            // Skip lambdas with more than one generic input followed by primitive inputs
+            if (!isSecondPrimitive && isThirdPrimitive) {
+                return lambdas;
+            }
+
+            // Skip lambdas with primitive inputs which are not used for higher arities
+            if (isThirdPrimitive && !HIGHER_ARITY_PRIMITIVES.contains(lambda.getThirdInputType().getTypeClass())) {
+                return lambdas;
+            }
+
+            // Skip functions with primitive return type
+            if (LambdaUtils.isOfTypeFunction(lambda) && LambdaUtils.isPrimitiveType(lambda.getReturnType())) {
+                return lambdas;
+            }
+
+            // Apply all input types by position, so generics are named T1, T2, ... and primitives are counted
+            final LambdaEntity copy = LambdaUtils.copy(lambda);
+            final Class<?> primitive = lambda.getThirdInputType().getTypeClass();
+            final List<TypeEntity> types = new ArrayList<>();
+            for (int position = 1; position <= lambda.getArity(); position++) {
+                if (!isThirdPrimitive || (position == 1 && !isFirstPrimitive)) {
+                    types.add(new TypeEntity(Object.class, "T" + position, "t" + position, position));
+                } else {
+                    final int count = isFirstPrimitive ? position : position - 1;
+                    types.add(new TypeEntity(primitive, primitive.getSimpleName(), "value", count));
+                }
+            }
+            copy.setFirstInputType(types.get(0));
+            copy.setSecondInputType(types.get(1));
+            copy.setThirdInputType(types.get(2));
+            copy.setFurtherInputTypes(new ArrayList<>(types.subList(3, types.size())));
+            lambdas.addAll(next(copy));
+        } else {
+            final LambdaEntity copy = LambdaUtils.copy(lambda);
+            lambdas.addAll(next(copy));
+        }
+
+        return lambdas;
+    }
+}
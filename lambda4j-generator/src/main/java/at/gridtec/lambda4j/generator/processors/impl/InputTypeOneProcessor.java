@@ -46,12 +46,21 @@ public final class InputTypeOneProcessor extends Processor {
         // Check if it has arity 1; otherwise end call stack
         if (lambda.getArity() >= 1) {
 
-            // Special Rule: Comparator is only generic
+            // Special Rule: Comparator is generic or primitive, but never compares booleans
             if (LambdaUtils.isOfTypeComparator(lambda)) {
-                final LambdaEntity copy = LambdaUtils.copy(lambda);
-                TypeEntity type = new TypeEntity(Object.class, "T", "t", 1);
-                copy.setFirstInputType(type);
-                lambdas.addAll(next(copy));
+                final LambdaEntity generical = LambdaUtils.copy(lambda);
+                TypeEntity type = new TypeEntity(Object.class, "T", "t1", 1);
+                generical.setFirstInputType(type);
+                lambdas.addAll(next(generical));
+
+                for (final Class<?> typeClass : PRIMITIVES) {
+                    if (typeClass != boolean.class) {
+                        final LambdaEntity primitive = LambdaUtils.copy(lambda);
+                        type = new TypeEntity(typeClass, typeClass.getSimpleName(), "value", 1);
+                        primitive.setFirstInputType(type);
+                        lambdas.addAll(next(primitive));
+                    }
+                }
             }
 
             // All other lambdas have normal input 1
@@ -51,11 +51,12 @@ public final class InputTypeTwoProcessor extends Processor {
         // Check if it has arity 2; otherwise end call stack
         if (lambda.getArity() >= 2) {
 
-            // Special Rule: Comparator is only generic
+            // Special Rule: Comparator compares two arguments of the same type
             if (LambdaUtils.isOfTypeComparator(lambda)) {
                 final LambdaEntity copy = LambdaUtils.copy(lambda);
-                TypeEntity type = new TypeEntity(Object.class, "U", "u", 2);
-                copy.setSecondInputType(type);
+                final TypeEntity entity = copy.getFirstInputType();
+                final String name = entity.isPrimitive() ? entity.getName() : "t2";
+                copy.setSecondInputType(new TypeEntity(entity.getTypeClass(), entity.getTypeName(), name, 2));
                 lambdas.addAll(next(copy));
             }
 
@@ -51,8 +51,8 @@ public class JdkProcessor extends Processor {
 
         // If lambda is not throwable, then set jdk flag (jdk does not provide us throwable lambdas)
         //        if (!lambda.isThrowable()) {
-        // Check if lambda is from JDK or lambda is of type comparator or runnable (cannot be found in java.util.function package, but is also a jdk lambda (Special Case))
-        if (LambdaUtils.isOfTypeComparator(lambda) || LambdaUtils.isOfTypeRunnable(lambda) || isLambdaFromJdk(lambda)) {
+        // Check if lambda is from JDK or lambda is of type generic comparator or runnable (cannot be found in java.util.function package, but is also a jdk lambda (Special Case))
+        if (isGenericComparator(lambda) || LambdaUtils.isOfTypeRunnable(lambda) || isLambdaFromJdk(lambda)) {
             lambda.setFromJDK(true);
             // Found jdk lambda so add it to list
             LambdaCache.getInstance().getJdkLambdas().add(LambdaUtils.copy(lambda));
@@ -65,6 +65,17 @@ public class JdkProcessor extends Processor {
         return next(lambda);
     }
 
+    /**
+     * Checks if the given lambda is a comparator with generic input, which is represented by {@link
+     * java.util.Comparator} in the JDK. The JDK does not provide primitive comparators.
+     *
+     * @param lambda The lambda to be checked
+     * @return {@code true}, if and only if, lambda is a comparator with generic input, {@code false} otherwise
+     */
+    private boolean isGenericComparator(final LambdaEntity lambda) {
+        return LambdaUtils.isOfTypeComparator(lambda) && !LambdaUtils.isPrimitiveType(lambda.getFirstInputType());
+    }
+
     /**
      * Searches if the given lambda can be found in the {@link java.util.function} package.
      *
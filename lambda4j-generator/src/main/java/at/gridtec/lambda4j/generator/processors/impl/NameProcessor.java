@@ -54,6 +54,11 @@ public final class NameProcessor extends Processor {
      */
     private static final String ARITY_THREE_IDENTIFIER = "Tri";
 
+    /**
+     * The identifiers which name all lambdas with arity 4 until 8.
+     */
+    private static final String[] HIGHER_ARITY_IDENTIFIERS = {"Quad", "Quint", "Sext", "Sept", "Oct"};
+
     /**
      * The identifier which names all operators with arity 1.
      */
@@ -125,6 +130,11 @@ public final class NameProcessor extends Processor {
             nameBuilder.append(cap(lambda.getReturnType().getTypeSimpleName()));
         }
 
+        // Special Rule: Lambda is of type comparator and has primitive input, append primitive identifier
+        else if (LambdaUtils.isOfTypeComparator(lambda) && LambdaUtils.isPrimitiveType(lambda.getFirstInputType())) {
+            nameBuilder.append(cap(lambda.getFirstInputType().getTypeSimpleName()));
+        }
+
         // All other types will be named using normal schema, unless Comparator or Runnable
         else if (!LambdaUtils.isOfTypeComparator(lambda) && !LambdaUtils.isOfTypeRunnable(lambda)) {
 
@@ -200,6 +210,27 @@ public final class NameProcessor extends Processor {
                 // identifier at end (normal for lambda with primitive return)
                 toIdentifier(nameBuilder, lambda, lambda.getThirdInputType());
             }
+
+            // Lambda with arity greater than 3 (only generic returns, so there is no need for 'To' identifiers)
+            else if (lambda.getArity() > 3) {
+
+                // Lambda input one is generic and all further inputs are primitive, so append 'Obj' identifier followed
+                // by the identifier of the remaining arity (e.g. 'ObjTri'); otherwise just append normal identifier
+                if (!LambdaUtils.isPrimitiveType(lambda.getFirstInputType()) && LambdaUtils.isPrimitiveType(
+                        lambda.getThirdInputType())) {
+                    final int remaining = lambda.getArity() - 1;
+                    objIdentifier(nameBuilder, null, remaining == 3
+                            ? ARITY_THREE_IDENTIFIER
+                            : HIGHER_ARITY_IDENTIFIERS[remaining - 4]);
+                } else {
+                    nameBuilder.append(HIGHER_ARITY_IDENTIFIERS[lambda.getArity() - 4]);
+                }
+
+                // Lambda inputs are primitive, so append primitive type name
+                if (LambdaUtils.isPrimitiveType(lambda.getThirdInputType())) {
+                    nameBuilder.append(cap(lambda.getThirdInputType().getTypeSimpleName()));
+                }
+            }
         }
 
         // Append lambda type simple name in name
@@ -50,6 +50,11 @@ public class PackageProcessor extends Processor {
      */
     private static final String PACKAGE_ARITY_THREE_IDENTIFIER = "tri";
 
+    /**
+     * Defines the identifiers for lambdas with arity 4 until 8.
+     */
+    private static final String[] PACKAGE_HIGHER_ARITY_IDENTIFIERS = {"quad", "quint", "sext", "sept", "oct"};
+
     /**
      * Defines the identifier for lambdas which get object as input parameters and returns primitive references.
      */
@@ -172,6 +177,17 @@ public class PackageProcessor extends Processor {
                     }
                 }
             }
+
+            // Lambda arity is greater than three, so add correct higher arity identifiers (actual package ".function.quad"
+            else if (lambda.getArity() > 3) {
+                packageBuilder.append(PACKAGE_HIGHER_ARITY_IDENTIFIERS[lambda.getArity() - 4]);
+
+                // If lambda gets object and primitive types then append obj identifier ".function.quad.obj"
+                if (lambda.getFirstInputType().equals(LambdaUtils.getObjectTypeEntity()) && lambda.getThirdInputType()
+                        .isPrimitive()) {
+                    packageBuilder.append(PACKAGE_OBJ_IDENTIFIER);
+                }
+            }
         }
 
         // Set generated package string, call next for further processing and return the result from it
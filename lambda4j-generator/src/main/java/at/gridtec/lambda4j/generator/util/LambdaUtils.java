@@ -122,7 +122,8 @@ public final class LambdaUtils {
      * @throws IllegalArgumentException If given lambda arity is < 0
      * @implNote This implementation search for the lambda, which match the given arguments. If the {@code
      * #preferFromJdk} flag is set to {@code true}, then {@code JDK} lambdas are preferred over those from this library.
-     * In either case, if no appropriate match could be found, {@code null} is returned.
+     * In either case, if no appropriate match could be found, {@code null} is returned. As this search is
+     * independent of the lambda type, comparators are never returned.
      */
     public static LambdaEntity searchByReturnType(@Nonnegative int arity, @Nullable final TypeEntity returnType,
             boolean isThrowable, boolean preferFromJdk) {
@@ -140,6 +141,7 @@ public final class LambdaUtils {
                     .getJdkLambdas()
                     .stream()
                     .filter(l -> l.getArity() == arity)
+                    .filter(l -> !isOfTypeComparator(l))
                     .filter(l -> l.getReturnType() == null || l.getReturnType().equals(returnType))
                     .filter(l -> l.isThrowable() == isThrowable)
                     .findFirst();
@@ -151,6 +153,7 @@ public final class LambdaUtils {
                     .getLambdas()
                     .stream()
                     .filter(l -> l.getArity() == arity)
+                    .filter(l -> !isOfTypeComparator(l))
                     .filter(l -> l.getReturnType() == null || l.getReturnType().equals(returnType))
                     .filter(l -> l.isThrowable() == isThrowable)
                     .findFirst()
@@ -233,7 +236,8 @@ public final class LambdaUtils {
      * @throws IllegalArgumentException If given lambda arity is < 0
      * @implNote This implementation search for the lambda, which match the given arguments. If the {@code
      * #preferFromJdk} flag is set to {@code true}, then {@code JDK} lambdas are preferred over those from this library.
-     * In either case, if no appropriate match could be found, {@code null} is returned.
+     * In either case, if no appropriate match could be found, {@code null} is returned. As this search is
+     * independent of the lambda type, comparators are never returned.
      */
     public static LambdaEntity searchByFirstInputType(@Nonnegative int arity, @Nullable final TypeEntity firstInputType,
             boolean isThrowable, boolean preferFromJdk) {
@@ -250,6 +254,7 @@ public final class LambdaUtils {
                     .getJdkLambdas()
                     .stream()
                     .filter(l -> l.getArity() == arity)
+                    .filter(l -> !isOfTypeComparator(l))
                     .filter(l -> l.getFirstInputType() == null || l.getFirstInputType().equals(firstInputType))
                     .filter(l -> l.isThrowable() == isThrowable)
                     .findFirst();
@@ -261,6 +266,7 @@ public final class LambdaUtils {
                     .getLambdas()
                     .stream()
                     .filter(l -> l.getArity() == arity)
+                    .filter(l -> !isOfTypeComparator(l))
                     .filter(l -> l.getFirstInputType() == null || l.getFirstInputType().equals(firstInputType))
                     .filter(l -> l.isThrowable() == isThrowable)
                     .findFirst()
@@ -343,7 +349,8 @@ public final class LambdaUtils {
      * @throws IllegalArgumentException If given lambda arity is < 0
      * @implNote This implementation search for the lambda, which match the given arguments. If the {@code
      * #preferFromJdk} flag is set to {@code true}, then {@code JDK} lambdas are preferred over those from this library.
-     * In either case, if no appropriate match could be found, {@code null} is returned.
+     * In either case, if no appropriate match could be found, {@code null} is returned. As this search is
+     * independent of the lambda type, comparators are never returned.
      */
     public static LambdaEntity searchByFirstInputAndReturnType(@Nonnegative int arity,
             @Nullable final TypeEntity firstInputType, @Nullable final TypeEntity returnType, boolean isThrowable,
@@ -362,6 +369,7 @@ public final class LambdaUtils {
                     .getJdkLambdas()
                     .stream()
                     .filter(l -> l.getArity() == arity)
+                    .filter(l -> !isOfTypeComparator(l))
                     .filter(l -> l.getFirstInputType() == null || l.getFirstInputType().equals(firstInputType))
                     .filter(l -> l.getReturnType() == null || l.getReturnType().equals(returnType))
                     .filter(l -> l.isThrowable() == isThrowable)
@@ -374,6 +382,7 @@ public final class LambdaUtils {
                     .getLambdas()
                     .stream()
                     .filter(l -> l.getArity() == arity)
+                    .filter(l -> !isOfTypeComparator(l))
                     .filter(l -> l.getFirstInputType() == null || l.getFirstInputType().equals(firstInputType))
                     .filter(l -> l.getReturnType() == null || l.getReturnType().equals(returnType))
                     .filter(l -> l.isThrowable() == isThrowable)
@@ -460,7 +469,8 @@ public final class LambdaUtils {
      * @throws IllegalArgumentException If given lambda arity is < 0
      * @implNote This implementation search for the lambda, which match the given arguments. If the {@code
      * #preferFromJdk} flag is set to {@code true}, then {@code JDK} lambdas are preferred over those from this library.
-     * In either case, if no appropriate match could be found, {@code null} is returned.
+     * In either case, if no appropriate match could be found, {@code null} is returned. As this search is
+     * independent of the lambda type, comparators are never returned.
      */
     public static LambdaEntity searchBySecondInputType(@Nonnegative int arity,
             @Nullable final TypeEntity secondInputType, boolean isThrowable, boolean preferFromJdk) {
@@ -478,6 +488,7 @@ public final class LambdaUtils {
                     .getJdkLambdas()
                     .stream()
                     .filter(l -> l.getArity() == arity)
+                    .filter(l -> !isOfTypeComparator(l))
                     .filter(l -> l.getSecondInputType() == null || l.getSecondInputType().equals(secondInputType))
                     .filter(l -> l.isThrowable() == isThrowable)
                     .findFirst();
@@ -489,6 +500,7 @@ public final class LambdaUtils {
                     .getLambdas()
                     .stream()
                     .filter(l -> l.getArity() == arity)
+                    .filter(l -> !isOfTypeComparator(l))
                     .filter(l -> l.getSecondInputType() == null || l.getSecondInputType().equals(secondInputType))
                     .filter(l -> l.isThrowable() == isThrowable)
                     .findFirst()
@@ -571,7 +583,8 @@ public final class LambdaUtils {
      * @throws IllegalArgumentException If given lambda arity is < 0
      * @implNote This implementation search for the lambda, which match the given arguments. If the {@code
      * #preferFromJdk} flag is set to {@code true}, then {@code JDK} lambdas are preferred over those from this library.
-     * In either case, if no appropriate match could be found, {@code null} is returned.
+     * In either case, if no appropriate match could be found, {@code null} is returned. As this search is
+     * independent of the lambda type, comparators are never returned.
      */
     public static LambdaEntity searchBySecondInputAndReturnType(@Nonnegative int arity,
             @Nullable final TypeEntity secondInputType, @Nullable final TypeEntity returnType, boolean isThrowable,
@@ -590,6 +603,7 @@ public final class LambdaUtils {
                     .getJdkLambdas()
                     .stream()
                     .filter(l -> l.getArity() == arity)
+                    .filter(l -> !isOfTypeComparator(l))
                     .filter(l -> l.getSecondInputType() == null || l.getSecondInputType().equals(secondInputType))
                     .filter(l -> l.getReturnType() == null || l.getReturnType().equals(returnType))
                     .filter(l -> l.isThrowable() == isThrowable)
@@ -602,6 +616,7 @@ public final class LambdaUtils {
                     .getLambdas()
                     .stream()
                     .filter(l -> l.getArity() == arity)
+                    .filter(l -> !isOfTypeComparator(l))
                     .filter(l -> l.getSecondInputType() == null || l.getSecondInputType().equals(secondInputType))
                     .filter(l -> l.getReturnType() == null || l.getReturnType().equals(returnType))
                     .filter(l -> l.isThrowable() == isThrowable)
@@ -688,7 +703,8 @@ public final class LambdaUtils {
      * @throws IllegalArgumentException If given lambda arity is < 0
      * @implNote This implementation search for the lambda, which match the given arguments. If the {@code
      * #preferFromJdk} flag is set to {@code true}, then {@code JDK} lambdas are preferred over those from this library.
-     * In either case, if no appropriate match could be found, {@code null} is returned.
+     * In either case, if no appropriate match could be found, {@code null} is returned. As this search is
+     * independent of the lambda type, comparators are never returned.
      */
     public static LambdaEntity searchByThirdInputType(@Nonnegative int arity, @Nullable final TypeEntity thirdInputType,
             boolean isThrowable, boolean preferFromJdk) {
@@ -706,6 +722,7 @@ public final class LambdaUtils {
                     .getJdkLambdas()
                     .stream()
                     .filter(l -> l.getArity() == arity)
+                    .filter(l -> !isOfTypeComparator(l))
                     .filter(l -> l.getThirdInputType() == null || l.getThirdInputType().equals(thirdInputType))
                     .filter(l -> l.isThrowable() == isThrowable)
                     .findFirst();
@@ -717,6 +734,7 @@ public final class LambdaUtils {
                     .getLambdas()
                     .stream()
                     .filter(l -> l.getArity() == arity)
+                    .filter(l -> !isOfTypeComparator(l))
                     .filter(l -> l.getThirdInputType() == null || l.getThirdInputType().equals(thirdInputType))
                     .filter(l -> l.isThrowable() == isThrowable)
                     .findFirst()
@@ -799,7 +817,8 @@ public final class LambdaUtils {
      * @throws IllegalArgumentException If given lambda arity is < 0
      * @implNote This implementation search for the lambda, which match the given arguments. If the {@code
      * #preferFromJdk} flag is set to {@code true}, then {@code JDK} lambdas are preferred over those from this library.
-     * In either case, if no appropriate match could be found, {@code null} is returned.
+     * In either case, if no appropriate match could be found, {@code null} is returned. As this search is
+     * independent of the lambda type, comparators are never returned.
      */
     public static LambdaEntity searchByThirdInputAndReturnType(@Nonnegative int arity,
             @Nullable final TypeEntity thirdInputType, @Nullable final TypeEntity returnType, boolean isThrowable,
@@ -818,6 +837,7 @@ public final class LambdaUtils {
                     .getJdkLambdas()
                     .stream()
                     .filter(l -> l.getArity() == arity)
+                    .filter(l -> !isOfTypeComparator(l))
                     .filter(l -> l.getThirdInputType() == null || l.getThirdInputType().equals(thirdInputType))
                     .filter(l -> l.getReturnType() == null || l.getReturnType().equals(returnType))
                     .filter(l -> l.isThrowable() == isThrowable)
@@ -830,6 +850,7 @@ public final class LambdaUtils {
                     .getLambdas()
                     .stream()
                     .filter(l -> l.getArity() == arity)
+                    .filter(l -> !isOfTypeComparator(l))
                     .filter(l -> l.getThirdInputType() == null || l.getThirdInputType().equals(thirdInputType))
                     .filter(l -> l.getReturnType() == null || l.getReturnType().equals(returnType))
                     .filter(l -> l.isThrowable() == isThrowable)
@@ -916,7 +937,8 @@ public final class LambdaUtils {
      * @throws IllegalArgumentException If given lambda arity is < 0
      * @implNote This implementation search for the lambda, which match the given arguments. If the {@code
      * #preferFromJdk} flag is set to {@code true}, then {@code JDK} lambdas are preferred over those from this library.
-     * In either case, if no appropriate match could be found, {@code null} is returned.
+     * In either case, if no appropriate match could be found, {@code null} is returned. As this search is
+     * independent of the lambda type, comparators are never returned.
      */
     public static LambdaEntity searchByInputTypes(@Nonnegative int arity, @Nullable final TypeEntity firstInputType,
             @Nullable final TypeEntity secondInputType, @Nullable final TypeEntity thirdInputType, boolean isThrowable,
@@ -935,6 +957,7 @@ public final class LambdaUtils {
                     .getJdkLambdas()
                     .stream()
                     .filter(l -> l.getArity() == arity)
+                    .filter(l -> !isOfTypeComparator(l))
                     .filter(l -> l.getFirstInputType() == null || l.getFirstInputType().equals(firstInputType))
                     .filter(l -> l.getSecondInputType() == null || l.getSecondInputType().equals(secondInputType))
                     .filter(l -> l.getThirdInputType() == null || l.getThirdInputType().equals(thirdInputType))
@@ -948,6 +971,7 @@ public final class LambdaUtils {
                     .getLambdas()
                     .stream()
                     .filter(l -> l.getArity() == arity)
+                    .filter(l -> !isOfTypeComparator(l))
                     .filter(l -> l.getFirstInputType() == null || l.getFirstInputType().equals(firstInputType))
                     .filter(l -> l.getSecondInputType() == null || l.getSecondInputType().equals(secondInputType))
                     .filter(l -> l.getThirdInputType() == null || l.getThirdInputType().equals(thirdInputType))
@@ -1040,7 +1064,8 @@ public final class LambdaUtils {
      * @throws IllegalArgumentException If given lambda arity is < 0
      * @implNote This implementation search for the lambda, which match the given arguments. If the {@code
      * #preferFromJdk} flag is set to {@code true}, then {@code JDK} lambdas are preferred over those from this library.
-     * In either case, if no appropriate match could be found, {@code null} is returned.
+     * In either case, if no appropriate match could be found, {@code null} is returned. As this search is
+     * independent of the lambda type, comparators are never returned.
      */
     public static LambdaEntity searchByInputTypesAndReturnType(@Nonnegative int arity,
             @Nullable final TypeEntity firstInputType, @Nullable final TypeEntity secondInputType,
@@ -1060,6 +1085,7 @@ public final class LambdaUtils {
                     .getJdkLambdas()
                     .stream()
                     .filter(l -> l.getArity() == arity)
+                    .filter(l -> !isOfTypeComparator(l))
                     .filter(l -> l.getFirstInputType() == null || l.getFirstInputType().equals(firstInputType))
                     .filter(l -> l.getSecondInputType() == null || l.getSecondInputType().equals(secondInputType))
                     .filter(l -> l.getThirdInputType() == null || l.getThirdInputType().equals(thirdInputType))
@@ -1074,6 +1100,7 @@ public final class LambdaUtils {
                     .getLambdas()
                     .stream()
                     .filter(l -> l.getArity() == arity)
+                    .filter(l -> !isOfTypeComparator(l))
                     .filter(l -> l.getFirstInputType() == null || l.getFirstInputType().equals(firstInputType))
                     .filter(l -> l.getSecondInputType() == null || l.getSecondInputType().equals(secondInputType))
                     .filter(l -> l.getThirdInputType() == null || l.getThirdInputType().equals(thirdInputType))
@@ -6,6 +6,16 @@ import at.gridtec.lambda4j.consumer.bi.*;
 import at.gridtec.lambda4j.consumer.bi.obj.*;
 import at.gridtec.lambda4j.consumer.tri.*;
 import at.gridtec.lambda4j.consumer.tri.obj.*;
+import at.gridtec.lambda4j.consumer.quad.*;
+import at.gridtec.lambda4j.consumer.quad.obj.*;
+import at.gridtec.lambda4j.consumer.quint.*;
+import at.gridtec.lambda4j.consumer.quint.obj.*;
+import at.gridtec.lambda4j.consumer.sext.*;
+import at.gridtec.lambda4j.consumer.sext.obj.*;
+import at.gridtec.lambda4j.consumer.sept.*;
+import at.gridtec.lambda4j.consumer.sept.obj.*;
+import at.gridtec.lambda4j.consumer.oct.*;
+import at.gridtec.lambda4j.consumer.oct.obj.*;
 import at.gridtec.lambda4j.function.*;
 import at.gridtec.lambda4j.function.bi.*;
 import at.gridtec.lambda4j.function.bi.conversion.*;
@@ -17,6 +27,16 @@ import at.gridtec.lambda4j.function.tri.*;
 import at.gridtec.lambda4j.function.tri.conversion.*;
 import at.gridtec.lambda4j.function.tri.obj.*;
 import at.gridtec.lambda4j.function.tri.to.*;
+import at.gridtec.lambda4j.function.quad.*;
+import at.gridtec.lambda4j.function.quad.obj.*;
+import at.gridtec.lambda4j.function.quint.*;
+import at.gridtec.lambda4j.function.quint.obj.*;
+import at.gridtec.lambda4j.function.sext.*;
+import at.gridtec.lambda4j.function.sext.obj.*;
+import at.gridtec.lambda4j.function.sept.*;
+import at.gridtec.lambda4j.function.sept.obj.*;
+import at.gridtec.lambda4j.function.oct.*;
+import at.gridtec.lambda4j.function.oct.obj.*;
 import at.gridtec.lambda4j.operator.*;
 import at.gridtec.lambda4j.operator.unary.*;
 import at.gridtec.lambda4j.operator.binary.*;
@@ -26,13 +46,28 @@ import at.gridtec.lambda4j.predicate.bi.*;
 import at.gridtec.lambda4j.predicate.bi.obj.*;
 import at.gridtec.lambda4j.predicate.tri.*;
 import at.gridtec.lambda4j.predicate.tri.obj.*;
+import at.gridtec.lambda4j.predicate.quad.*;
+import at.gridtec.lambda4j.predicate.quad.obj.*;
+import at.gridtec.lambda4j.predicate.quint.*;
+import at.gridtec.lambda4j.predicate.quint.obj.*;
+import at.gridtec.lambda4j.predicate.sext.*;
+import at.gridtec.lambda4j.predicate.sext.obj.*;
+import at.gridtec.lambda4j.predicate.sept.*;
+import at.gridtec.lambda4j.predicate.sept.obj.*;
+import at.gridtec.lambda4j.predicate.oct.*;
+import at.gridtec.lambda4j.predicate.oct.obj.*;
+import at.gridtec.lambda4j.resilience.*;
+import at.gridtec.lambda4j.result.*;
 import at.gridtec.lambda4j.runnable.*;
 import at.gridtec.lambda4j.supplier.*;
 <#--import at.gridtec.lambda4j.core.*;-->
 import at.gridtec.lambda4j.core.exception.*;
+import at.gridtec.lambda4j.core.memoization.*;
+import at.gridtec.lambda4j.core.recovery.*;
 import at.gridtec.lambda4j.core.util.*;
 import org.apache.commons.lang3.tuple.*;
 import javax.annotation.*;
+import java.time.*;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.*;
@@ -0,0 +1,27 @@
+<#-- @formatter:off -->
+<#import "./classLambda.ftl" as super>
+
+<#-- parse only if lambda is of type comparator -->
+<#if LambdaUtils.isOfTypeComparator(lambda)>
+    <#assign codomain = LambdaUtils.searchByInputTypesAndReturnType(lambda.type, lambda.arity, Object, Object, Object, lambda.returnType, lambda.throwable, false)>
+    <@.namespace.comparatorClassJavadoc codomain/>
+</#if>
+
+<#-- a helper macro to centralize classComparator Javadoc and to avoid unnecessary indenting -->
+<#macro comparatorClassJavadoc codomain>
+/**
+ * Represents a comparison function of ${super.javadocDescriptionsString()}${super.javadocThrowableString()}, which imposes a total
+ * ordering on its arguments.
+<#if helpers.isPrimitiveLambdaInput(lambda)>
+ * This is a ${super.javadocSpecializationString()} specialization of {@link ${codomain.name}}, which compares its arguments
+ * without boxing them.
+</#if>
+ * <p>
+ * This is a {@link FunctionalInterface} whose functional method is {@link #${super.javadocLambdaMethodLinkString()}}.
+ *
+<#include "./paramGenericInput.ftl">
+<#include "apiNoteJdkLambda.ftl">
+ * @see ${codomain.name}
+ */
+</#macro>
+<#-- @formatter:on -->
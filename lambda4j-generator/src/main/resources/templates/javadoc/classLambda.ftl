@@ -1,6 +1,7 @@
 <#-- @formatter:off -->
 <#import "../utils/helpers.ftl" as helpers>
 
+<#include "./classComparator.ftl">
 <#include "./classConsumer.ftl">
 <#include "./classFunction.ftl">
 <#include "./classPredicate.ftl">
@@ -57,6 +58,23 @@
             <#-- generated: three input arguments -->
             <#local ret = ret + "input arguments">
         </#if>
+
+    <#-- lamba is of arity greater than three -->
+    <#elseif (target.arity > 3)>
+        <#-- lambda has one generic and further primitive arguments; generated: one object-valued and three {@code int}-valued input arguments -->
+        <#if !helpers.isPrimitive(target.firstInputType) && helpers.isPrimitive(target.thirdInputType)>
+            <#local ret = "one " + target.firstInputType.typeSimpleName?lower_case + "-valued and " + helpers.cardinal(target.arity - 1) + " {@code " + target.thirdInputType.typeSimpleName?lower_case + "}-valued input arguments">
+
+        <#-- lambda has either generic or primtive arguments only -->
+        <#else>
+            <#local ret = helpers.cardinal(target.arity) + " ">
+            <#if helpers.isPrimitive(target.thirdInputType)>
+                <#-- generated: four {@code int}-valued input arguments -->
+                <#local ret = ret + "{@code " + target.thirdInputType.typeSimpleName?lower_case + "}-valued ">
+            </#if>
+            <#-- generated: four input arguments -->
+            <#local ret = ret + "input arguments">
+        </#if>
     </#if>
     <#return ret>
 </#function>
@@ -106,6 +124,21 @@
         <#elseif (helpers.isPrimitive(target.firstInputType) && helpers.isPrimitive(target.secondInputType) && helpers.isPrimitive(target.thirdInputType)) || helpers.isPrimitive(target.returnType)>
             <#local ret = ret + "primitive">
         </#if>
+
+    <#-- lamba is of arity greater than three -->
+    <#elseif (target.arity > 3)>
+        <#-- lambda has one generic and further primitive arguments; generated: (reference, int, int, int) -->
+        <#if !helpers.isPrimitive(target.firstInputType) && helpers.isPrimitive(target.thirdInputType)>
+            <#local ret = "(reference">
+            <#list 2..target.arity as position>
+                <#local ret = ret + ", " + target.thirdInputType.typeSimpleName?lower_case>
+            </#list>
+            <#local ret = ret + ")">
+
+        <#-- lambda has primtive arguments only; generated: primitive -->
+        <#elseif helpers.isPrimitive(target.firstInputType)>
+            <#local ret = ret + "primitive">
+        </#if>
     </#if>
     <#return ret>
 </#function>
@@ -122,6 +155,9 @@
     <#if (target.arity >= 3)>
         <#local ret = ret + ", " + lambda.thirdInputType.typeSimpleName>
     </#if>
+    <#list (lambda.furtherInputTypes)![] as type>
+        <#local ret = ret + ", " + type.typeSimpleName>
+    </#list>
     <#local ret = ret + ")">
     <#return ret>
 </#function>
@@ -0,0 +1 @@
+ * @implNote The composed ${lambda.type.simpleName} is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
@@ -14,4 +14,8 @@
 <#if (lambda.arity >= 3)>
  * @param ${types.buildParameterName(lambda.thirdInputType)} The third argument to the ${lambda.type.simpleName}
 </#if>
+<#-- if lambdas arity is greater than 3 then write javadoc params -->
+<#list (lambda.furtherInputTypes)![] as type>
+ * @param ${types.buildParameterName(type)} The ${helpers.ordinal(type?index + 4)} argument to the ${lambda.type.simpleName}
+</#list>
 <#-- @formatter:on -->
@@ -19,6 +19,12 @@
 <#if (lambda.arity >= 3) && !LambdaUtils.isOfTypeOperator(lambda) && !LambdaUtils.isOfTypeComparator(lambda) && !helpers.isPrimitive(lambda.thirdInputType)>
  * @param <${lambda.thirdInputType}> The type of the third argument to the ${lambda.type.simpleName}
 </#if>
+<#-- if lambdas arity is greater than 3 and further params are not primitive, then print javadoc params -->
+<#list (lambda.furtherInputTypes)![] as type>
+<#if !helpers.isPrimitive(type)>
+ * @param <${type}> The type of the ${helpers.ordinal(type?index + 4)} argument to the ${lambda.type.simpleName}
+</#if>
+</#list>
 <#-- if lambda is not of type operator or comparator and return is not primitive, then print javadoc param -->
 <#if !LambdaUtils.isOfTypeOperator(lambda) && !LambdaUtils.isOfTypeComparator(lambda) && !helpers.isPrimitive(lambda.returnType)>
  * @param <${lambda.returnType}> The type of return value from the ${lambda.type.simpleName}
@@ -50,40 +50,77 @@ package ${lambda.packageName};
 @FunctionalInterface
 public interface ${lambda.name}${genericParameterTypeStringWithThrowableErasure} extends Lambda ${extends} {
 
-<#include "methods/static/of.ftl">
-<#include "methods/static/lift.ftl">
-<#include "methods/static/call.ftl">
-<#include "methods/static/only.ftl">
-<#include "methods/static/identity.ftl">
-<#include "methods/static/constant.ftl">
-<#include "methods/static/alwaysTrue.ftl">
-<#include "methods/static/alwaysFalse.ftl">
-<#include "methods/static/isEqual.ftl">
-<#include "methods/static/minBy.ftl">
-<#include "methods/static/maxBy.ftl">
+<#-- if lambda is a comparator, include comparator methods only (as most compositions do not apply to comparators) -->
+<#if LambdaUtils.isOfTypeComparator(lambda)>
+    <#include "methods/static/of.ftl">
+    <#include "methods/static/call.ftl">
+    <#include "methods/static/unboxed.ftl">
+    <#include "methods/static/sort.ftl">
+    <#include "methods/static/binarySearch.ftl">
 
-<#-- if lambda is not a generic operator, include other methods (as generic operators will extend from their function codomain -->
-<#if !isGenericOperator>
     <#include "methods/lambdaMethod.ftl">
-    <#include "methods/partial.ftl">
     <#include "methods/arity.ftl">
-    <#include "methods/compose.ftl">
-    <#include "methods/composeFromPrimitive.ftl">
-    <#include "methods/andThen.ftl">
-    <#include "methods/andThenToPrimitive.ftl">
-    <#include "methods/consume.ftl">
-    <#include "methods/negate.ftl">
-    <#include "methods/and.ftl">
-    <#include "methods/or.ftl">
-    <#include "methods/xor.ftl">
-    <#include "methods/curried.ftl">
-    <#include "methods/tupled.ftl">
     <#include "methods/reversed.ftl">
-    <#include "methods/memoized.ftl">
-    <#include "methods/nonNull.ftl">
     <#include "methods/boxed.ftl">
-    <#include "methods/nest.ftl">
-    <#include "methods/recover.ftl">
     <#include "methods/sneakyThrow.ftl">
+<#-- if lambda is of arity greater than 3, include basic methods only (as compositions are not provided for such lambdas) -->
+<#elseif (lambda.arity > 3)>
+    <#include "methods/static/of.ftl">
+    <#include "methods/static/call.ftl">
+
+    <#include "methods/lambdaMethod.ftl">
+    <#include "methods/arity.ftl">
+    <#include "methods/sneakyThrow.ftl">
+<#else>
+    <#include "methods/static/of.ftl">
+    <#include "methods/static/lift.ftl">
+    <#include "methods/static/call.ftl">
+    <#include "methods/static/only.ftl">
+    <#include "methods/static/identity.ftl">
+    <#include "methods/static/constant.ftl">
+    <#include "methods/static/alwaysTrue.ftl">
+    <#include "methods/static/alwaysFalse.ftl">
+    <#include "methods/static/adaptive.ftl">
+    <#include "methods/static/isEqual.ftl">
+    <#include "methods/static/minBy.ftl">
+    <#include "methods/static/maxBy.ftl">
+    <#include "methods/static/unboxed.ftl">
+
+    <#-- if lambda is not a generic operator, include other methods (as generic operators will extend from their function codomain -->
+    <#if !isGenericOperator>
+        <#include "methods/lambdaMethod.ftl">
+        <#include "methods/partial.ftl">
+        <#include "methods/arity.ftl">
+        <#include "methods/compose.ftl">
+        <#include "methods/composeParallel.ftl">
+        <#include "methods/composeFromPrimitive.ftl">
+        <#include "methods/andThen.ftl">
+        <#include "methods/andThenToPrimitive.ftl">
+        <#include "methods/compile.ftl">
+        <#include "methods/consume.ftl">
+        <#include "methods/applyAll.ftl">
+        <#include "methods/reduce.ftl">
+        <#include "methods/filter.ftl">
+        <#include "methods/negate.ftl">
+        <#include "methods/and.ftl">
+        <#include "methods/or.ftl">
+        <#include "methods/xor.ftl">
+        <#include "methods/curried.ftl">
+        <#include "methods/tupled.ftl">
+        <#include "methods/reversed.ftl">
+        <#include "methods/memoized.ftl">
+        <#include "methods/nonNull.ftl">
+        <#include "methods/boxed.ftl">
+        <#include "methods/nest.ftl">
+        <#include "methods/recover.ftl">
+        <#include "methods/attempt.ftl">
+        <#include "methods/retry.ftl">
+        <#include "methods/circuitBroken.ftl">
+        <#include "methods/withTimeout.ftl">
+        <#include "methods/hedged.ftl">
+        <#include "methods/bulkhead.ftl">
+        <#include "methods/rateLimited.ftl">
+        <#include "methods/sneakyThrow.ftl">
+    </#if>
 </#if>
 }
\ No newline at end of file
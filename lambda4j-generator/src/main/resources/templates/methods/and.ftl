@@ -1,4 +1,6 @@
 <#-- @formatter:off -->
+<#import "../utils/helpers.ftl" as helpers>
+<#import "../utils/characteristics.ftl" as characteristics>
 
 <#-- parse only if lambda is of type predicate -->
 <#if LambdaUtils.isOfTypePredicate(lambda)>
@@ -22,13 +24,38 @@
  * @return A composed {@code ${lambda.name}} that represents the short-circuiting logical AND of this ${lambda.type.simpleName} and
  * the {@code other} ${inputLambda.type.simpleName}.
 <#include "../javadoc/throwsNullPointerException.ftl">
+<#include "../javadoc/implNoteCharacteristics.ftl">
+<#if !lambda.throwable>
+ * @implNote If this ${lambda.type.simpleName} is constant (f.e. created by {@link #alwaysTrue()}), the composed ${lambda.type.simpleName}
+ * is simplified to either this or the {@code other} ${inputLambda.type.simpleName}. The same applies, if the {@code other}
+ * ${inputLambda.type.simpleName} is constant and always returns {@code true}.
+</#if>
  * @see #or(${inputLambda.name})
  * @see #xor(${inputLambda.name})
  */
 ${annotation.nonnull}
+<#if !lambda.throwable && genericParameterTypeString?has_content>
+@SuppressWarnings("unchecked")
+</#if>
 default ${lambda.name}${genericParameterTypeString} and(${annotation.nonnull} final ${inputLambda.name}${genericParameterTypeStringWithErasure} other) {
     Objects.requireNonNull(other);
-    return (${parameterNameString}) -> ${lambda.method}(${parameterNameString}) && other.${inputLambda.method}(${parameterNameString});
+<#if !lambda.throwable>
+    if (this instanceof Constant) {
+        if (!${lambda.method}(${helpers.defaultArgumentString()})) {
+            return this;
+<#if !genericParameterTypeString?has_content && inputLambda.name == lambda.name>
+        }
+        return other;
+<#else>
+        } else if (other instanceof ${lambda.name}) {
+            return (${lambda.name}${genericParameterTypeString}) other;
+        }
+</#if>
+    } else if (other instanceof Constant && other.${inputLambda.method}(${helpers.defaultArgumentString()})) {
+        return this;
+    }
+</#if>
+<@characteristics.printCharacteristicReturn type=lambda.name + genericParameterTypeString expression="(${parameterNameString}) -> ${lambda.method}(${parameterNameString}) && other.${inputLambda.method}(${parameterNameString})" operands=["this", "other"]/>
 }
 </#macro>
 <#-- @formatter:on -->
\ No newline at end of file
@@ -1,6 +1,7 @@
 <#-- @formatter:off -->
 <#import "../utils/helpers.ftl" as helpers>
 <#import "../utils/types.ftl" as types>
+<#import "../utils/characteristics.ftl" as characteristics>
 
 <#-- Consumers or Runnables will get special macro, as they will only sequence lambda calls; all other lambdas will use normal macro -->
 <#if LambdaUtils.isOfTypeConsumer(lambda) || LambdaUtils.isOfTypeRunnable(lambda)>
@@ -17,6 +18,8 @@
     <#else>
         <#assign outputLambda = LambdaUtils.searchByInputTypesAndReturnType(LambdaUtils.getFunctionType(), lambda.arity, lambda.firstInputType, lambda.secondInputType, lambda.thirdInputType, Object, lambda.throwable, false)>
     </#if>
+    <#-- search for supplier lambda which lazily holds the result of a constant composition -->
+    <#assign supplierLambda = LambdaUtils.searchByInputTypesAndReturnType(LambdaUtils.getSupplierType(), 0, lambda.firstInputType, lambda.secondInputType, lambda.thirdInputType, Object, false, false)>
     <#-- print andThen method -->
     <@.namespace.andThenMethod inputLambda outputLambda/>
 </#if>
@@ -36,11 +39,33 @@
  * {@code after} ${inputLambda.type.simpleName} to the result.
 <#include "../javadoc/throwsNullPointerException.ftl">
  * @implSpec The input argument of this method is able to return every type.
+<#if .namespace.isFusable()>
+ * @implNote If this ${lambda.type.simpleName} is composed itself, the {@code after} ${inputLambda.type.simpleName} is appended to its chain
+ * of ${lambda.type.simpleName}s instead of wrapping it, so chains of composed ${lambda.type.simpleName}s are applied in a single loop.
+</#if>
+<#include "../javadoc/implNoteCharacteristics.ftl">
+<#if !lambda.throwable>
+ * @implNote If this ${lambda.type.simpleName} is constant (f.e. created by {@code constant}) and the {@code after}
+ * ${inputLambda.type.simpleName} is marked as {@link Pure}, the {@code after} ${inputLambda.type.simpleName} is applied only once, when the composed
+ * ${outputLambda.type.simpleName} is applied for the first time. Its result is then returned by each further application. If applying it
+ * throws an exception, the exception is relayed to the caller and it is applied again on the next application.
+</#if>
  */
 ${annotation.nonnull}
 default <S> ${outputLambda.name}${types.buildGenericParameterTypeString(outputLambda, "", "", "", "S")} andThen(${annotation.nonnull} final ${inputLambda.name}${types.buildGenericParameterTypeStringWithErasure(inputLambda, lambda.returnType, "", "", "S")} after) {
     Objects.requireNonNull(after);
-    return (${parameterNameString}) -> after.${inputLambda.method}(${lambda.method}(${parameterNameString}));
+<#if !lambda.throwable>
+    if (this instanceof Constant && after instanceof Pure) {
+        // The result is held by an optional, so that a null result is memoized as well
+        final ${supplierLambda.name}<Optional<S>> result = ${supplierLambda.name}.of(() -> Optional.ofNullable(after.${inputLambda.method}(${lambda.method}(${helpers.defaultArgumentString()})))).memoized();
+        return (${outputLambda.name}${types.buildGenericParameterTypeString(outputLambda, "", "", "", "S")} & Pure) (${parameterNameString}) -> result.${supplierLambda.method}().orElse(null);
+    }
+</#if>
+<#if .namespace.isFusable()>
+    return FusedFunction.of(this, after);
+<#else>
+<@characteristics.printCharacteristicReturn type=outputLambda.name + types.buildGenericParameterTypeString(outputLambda, "", "", "", "S") expression="(${parameterNameString}) -> after.${inputLambda.method}(${lambda.method}(${parameterNameString}))" operands=["this", "after"]/>
+</#if>
 }
 </#macro>
 
@@ -58,14 +83,19 @@ default <S> ${outputLambda.name}${types.buildGenericParameterTypeString(outputLa
  * @return A composed {@link ${lambda.name}} that performs, in sequence, this ${lambda.type.simpleName} followed by the {@code after}
  * ${inputLambda.type.simpleName}.
 <#include "../javadoc/throwsNullPointerException.ftl">
+<#include "../javadoc/implNoteCharacteristics.ftl">
  */
 ${annotation.nonnull}
 default ${lambda.name}${genericParameterTypeString} andThen(${annotation.nonnull} final ${inputLambda.name}${genericParameterTypeStringWithErasure} after) {
     Objects.requireNonNull(after);
-    return (${parameterNameString}) -> {
+<@characteristics.printCharacteristicReturn type=lambda.name + genericParameterTypeString expression="(${parameterNameString}) -> {
         ${lambda.method}(${parameterNameString});
         after.${lambda.method}(${parameterNameString});
-    };
+    }" operands=["this", "after"]/>
 }
 </#macro>
+<#-- checks if composed lambdas are fused into a single chain, which is only done for object functions of arity 1 -->
+<#function isFusable>
+    <#return LambdaUtils.isOfTypeFunction(lambda) && lambda.arity == 1 && !lambda.throwable && !helpers.isPrimitive(lambda.firstInputType) && !helpers.isPrimitive(lambda.returnType)>
+</#function>
 <#-- @formatter:on -->
\ No newline at end of file
@@ -0,0 +1,224 @@
+<#-- @formatter:off -->
+<#import "../utils/helpers.ftl" as helpers>
+<#import "../utils/types.ftl" as types>
+
+<#-- parse only if lambda is a non-throwable unary operator or conversion function with primitive input and return -->
+<#if (lambda.arity == 1) && !lambda.throwable && (LambdaUtils.isOfTypeFunction(lambda) || LambdaUtils.isOfTypeOperator(lambda)) && helpers.isPrimitive(lambda.firstInputType) && helpers.isPrimitive(lambda.returnType)>
+    <#assign srcType = types.buildParameterType(lambda.firstInputType) + "[]">
+    <#assign dstType = types.buildParameterType(lambda.returnType) + "[]">
+    <#-- print methods -->
+    <@.namespace.applyAllMethod/>
+    <@.namespace.parallelApplyAllMethod/>
+    <@.namespace.parallelApplyAllWithGrainSizeMethod/>
+    <#if LambdaUtils.isOfTypeOperator(lambda)>
+        <@.namespace.applyInPlaceMethod/>
+    </#if>
+</#if>
+
+<#-- parse only if lambda is a non-throwable binary or ternary operator with primitive inputs and return -->
+<#if (lambda.arity >= 2) && (lambda.arity <= 3) && !lambda.throwable && LambdaUtils.isOfTypeOperator(lambda) && helpers.isPrimitive(lambda.returnType)>
+    <#assign arrayType = types.buildParameterType(lambda.returnType) + "[]">
+    <#assign sources = ["a", "b", "c"][0..(lambda.arity - 1)]>
+    <#assign sourceTypeString = ""><#list sources as source><#assign sourceTypeString = sourceTypeString + arrayType + ", "></#list>
+    <#assign sourceParameterString = ""><#list sources as source><#assign sourceParameterString = sourceParameterString + annotation.nonnull + " final " + arrayType + " " + source + ", "></#list>
+    <#-- print methods -->
+    <@.namespace.zippedApplyAllMethod/>
+    <@.namespace.zippedParallelApplyAllMethod/>
+    <@.namespace.zippedParallelApplyAllWithGrainSizeMethod/>
+</#if>
+
+<#-- a helper macro to centralize applyAll method and to avoid unnecessary indenting -->
+<#macro applyAllMethod>
+/**
+ * Applies this ${lambda.type.simpleName} to each element of the given source array and stores the results in the given
+ * destination array, so that {@code dst[i]} holds the result of {@code src[i]}.
+ *
+ * @param src The array whose elements are applied to this ${lambda.type.simpleName}
+ * @param dst The array to store the results in, which must be at least as long as the source array
+ * @throws NullPointerException If one of the given arguments is {@code null}
+ * @throws IllegalArgumentException If the destination array is shorter than the source array
+ * @implNote This implementation checks the array lengths once before applying this ${lambda.type.simpleName}, so
+ * the loop itself is free of bounds checks. This allows the JIT to vectorize the loop for simple
+ * ${lambda.type.simpleName}s.
+ * @see #parallelApplyAll(${srcType}, ${dstType})
+ */
+default void applyAll(${annotation.nonnull} final ${srcType} src, ${annotation.nonnull} final ${dstType} dst) {
+    Objects.requireNonNull(src);
+    Objects.requireNonNull(dst);
+    ParallelArrays.lengthCheck(src.length, dst.length);
+    for (int i = 0; i < src.length; i++) {
+        dst[i] = ${lambda.method}(src[i]);
+    }
+}
+</#macro>
+
+<#-- a helper macro to centralize parallelApplyAll method and to avoid unnecessary indenting -->
+<#macro parallelApplyAllMethod>
+/**
+ * Applies this ${lambda.type.simpleName} to each element of the given source array in parallel and stores the results
+ * in the given destination array, so that {@code dst[i]} holds the result of {@code src[i]}. The arrays are split into
+ * chunks of the {@link ParallelArrays#defaultGrainSize(boolean) default grain size}, which is smaller if this ${lambda.type.simpleName} is marked as {@link Expensive} (see {@link #isExpensive()}).
+ *
+ * @param src The array whose elements are applied to this ${lambda.type.simpleName}
+ * @param dst The array to store the results in, which must be at least as long as the source array
+ * @throws NullPointerException If one of the given arguments is {@code null}
+ * @throws IllegalArgumentException If the destination array is shorter than the source array
+ * @apiNote This ${lambda.type.simpleName} is only applied concurrently by multiple threads, if it is marked as {@link
+ * ThreadSafe} (see {@link #isThreadSafe()}). Otherwise the chunks are processed one after another by the calling
+ * thread.
+ * @see #parallelApplyAll(${srcType}, ${dstType}, int)
+ */
+default void parallelApplyAll(${annotation.nonnull} final ${srcType} src, ${annotation.nonnull} final ${dstType} dst) {
+    parallelApplyAll(src, dst, ParallelArrays.defaultGrainSize(isExpensive()));
+}
+</#macro>
+
+<#-- a helper macro to centralize parallelApplyAll method with grain size and to avoid unnecessary indenting -->
+<#macro parallelApplyAllWithGrainSizeMethod>
+/**
+ * Applies this ${lambda.type.simpleName} to each element of the given source array in parallel and stores the results
+ * in the given destination array, so that {@code dst[i]} holds the result of {@code src[i]}. The arrays are split into
+ * chunks of at most the given grain size, which are processed by the {@link ForkJoinPool#commonPool()}.
+ *
+ * @param src The array whose elements are applied to this ${lambda.type.simpleName}
+ * @param dst The array to store the results in, which must be at least as long as the source array
+ * @param grainSize The maximum number of elements to be processed sequentially by one task
+ * @throws NullPointerException If one of the given arguments is {@code null}
+ * @throws IllegalArgumentException If the destination array is shorter than the source array or the given grain size
+ * is not positive
+ * @apiNote This ${lambda.type.simpleName} is only applied concurrently by multiple threads, if it is marked as {@link
+ * ThreadSafe} (see {@link #isThreadSafe()}). Otherwise the chunks are processed one after another by the calling
+ * thread.
+ * @see ParallelArrays#forEachRange(int, int, int, boolean, ParallelArrays.RangeAction)
+ */
+default void parallelApplyAll(${annotation.nonnull} final ${srcType} src, ${annotation.nonnull} final ${dstType} dst, final int grainSize) {
+    Objects.requireNonNull(src);
+    Objects.requireNonNull(dst);
+    ParallelArrays.lengthCheck(src.length, dst.length);
+    ParallelArrays.forEachRange(0, src.length, grainSize, isThreadSafe(), (fromIndex, toIndex) -> {
+        for (int i = fromIndex; i < toIndex; i++) {
+            dst[i] = ${lambda.method}(src[i]);
+        }
+    });
+}
+</#macro>
+
+<#-- a helper macro to centralize applyInPlace method and to avoid unnecessary indenting -->
+<#macro applyInPlaceMethod>
+/**
+ * Applies this ${lambda.type.simpleName} to each element of the given range of the given array and replaces each
+ * element with its result. The range extends from index {@code fromIndex}, inclusive, to index {@code toIndex},
+ * exclusive.
+ *
+ * @param array The array whose elements are replaced by their results from this ${lambda.type.simpleName}
+ * @param fromIndex The index of the first element (inclusive) to be replaced
+ * @param toIndex The index of the last element (exclusive) to be replaced
+ * @throws NullPointerException If given argument is {@code null}
+ * @throws IllegalArgumentException If {@code fromIndex > toIndex}
+ * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0} or {@code toIndex > array.length}
+ */
+default void applyInPlace(${annotation.nonnull} final ${srcType} array, final int fromIndex, final int toIndex) {
+    Objects.requireNonNull(array);
+    ParallelArrays.rangeCheck(array.length, fromIndex, toIndex);
+    for (int i = fromIndex; i < toIndex; i++) {
+        array[i] = ${lambda.method}(array[i]);
+    }
+}
+</#macro>
+
+<#-- a helper macro to centralize zipped applyAll method and to avoid unnecessary indenting -->
+<#macro zippedApplyAllMethod>
+/**
+ * Applies this ${lambda.type.simpleName} to the elements at each index of the given source arrays and stores the
+ * results in the given destination array, so that {@code dst[i]} holds the result of <@.namespace.zippedCallString "i"/>.
+ *
+<@.namespace.javadocZippedParams/>
+ * @throws NullPointerException If one of the given arguments is {@code null}
+ * @throws IllegalArgumentException If one of the further source arrays or the destination array is shorter than the
+ * first source array
+ * @implNote This implementation checks the array lengths once before applying this ${lambda.type.simpleName}, so
+ * the loop itself is free of bounds checks. This allows the JIT to vectorize the loop for simple
+ * ${lambda.type.simpleName}s.
+ * @see #parallelApplyAll(${sourceTypeString}${arrayType})
+ */
+default void applyAll(${sourceParameterString}${annotation.nonnull} final ${arrayType} dst) {
+<@.namespace.zippedChecks/>
+    for (int i = 0; i < a.length; i++) {
+        dst[i] = ${lambda.method}(<#list sources as source>${source}[i]<#sep>, </#sep></#list>);
+    }
+}
+</#macro>
+
+<#-- a helper macro to centralize zipped parallelApplyAll method and to avoid unnecessary indenting -->
+<#macro zippedParallelApplyAllMethod>
+/**
+ * Applies this ${lambda.type.simpleName} to the elements at each index of the given source arrays in parallel and
+ * stores the results in the given destination array, so that {@code dst[i]} holds the result of
+ * <@.namespace.zippedCallString "i"/>. The arrays are split into chunks of the {@link ParallelArrays#defaultGrainSize(boolean)
+ * default grain size}, which is smaller if this ${lambda.type.simpleName} is marked as {@link Expensive} (see {@link #isExpensive()}).
+ *
+<@.namespace.javadocZippedParams/>
+ * @throws NullPointerException If one of the given arguments is {@code null}
+ * @throws IllegalArgumentException If one of the further source arrays or the destination array is shorter than the
+ * first source array
+ * @apiNote This ${lambda.type.simpleName} is only applied concurrently by multiple threads, if it is marked as {@link
+ * ThreadSafe} (see {@link #isThreadSafe()}). Otherwise the chunks are processed one after another by the calling
+ * thread.
+ * @see #parallelApplyAll(${sourceTypeString}${arrayType}, int)
+ */
+default void parallelApplyAll(${sourceParameterString}${annotation.nonnull} final ${arrayType} dst) {
+    parallelApplyAll(<#list sources as source>${source}, </#list>dst, ParallelArrays.defaultGrainSize(isExpensive()));
+}
+</#macro>
+
+<#-- a helper macro to centralize zipped parallelApplyAll method with grain size and to avoid unnecessary indenting -->
+<#macro zippedParallelApplyAllWithGrainSizeMethod>
+/**
+ * Applies this ${lambda.type.simpleName} to the elements at each index of the given source arrays in parallel and
+ * stores the results in the given destination array, so that {@code dst[i]} holds the result of
+ * <@.namespace.zippedCallString "i"/>. The arrays are split into chunks of at most the given grain size, which are
+ * processed by the {@link ForkJoinPool#commonPool()}.
+ *
+<@.namespace.javadocZippedParams/>
+ * @param grainSize The maximum number of elements to be processed sequentially by one task
+ * @throws NullPointerException If one of the given arguments is {@code null}
+ * @throws IllegalArgumentException If one of the further source arrays or the destination array is shorter than the
+ * first source array, or the given grain size is not positive
+ * @apiNote This ${lambda.type.simpleName} is only applied concurrently by multiple threads, if it is marked as {@link
+ * ThreadSafe} (see {@link #isThreadSafe()}). Otherwise the chunks are processed one after another by the calling
+ * thread.
+ * @see ParallelArrays#forEachRange(int, int, int, boolean, ParallelArrays.RangeAction)
+ */
+default void parallelApplyAll(${sourceParameterString}${annotation.nonnull} final ${arrayType} dst, final int grainSize) {
+<@.namespace.zippedChecks/>
+    ParallelArrays.forEachRange(0, a.length, grainSize, isThreadSafe(), (fromIndex, toIndex) -> {
+        for (int i = fromIndex; i < toIndex; i++) {
+            dst[i] = ${lambda.method}(<#list sources as source>${source}[i]<#sep>, </#sep></#list>);
+        }
+    });
+}
+</#macro>
+
+<#-- a helper macro which prints the null and length checks of the zipped methods -->
+<#macro zippedChecks>
+<#list sources as source>
+    Objects.requireNonNull(${source});
+</#list>
+    Objects.requireNonNull(dst);
+<#list sources[1..] as source>
+    ParallelArrays.lengthCheck(a.length, ${source}.length);
+</#list>
+    ParallelArrays.lengthCheck(a.length, dst.length);
+</#macro>
+
+<#-- a helper macro which prints the javadoc params of the zipped methods -->
+<#macro javadocZippedParams>
+<#list sources as source>
+ * @param ${source} The ${helpers.ordinal(source?counter)} source array, whose elements are the ${helpers.ordinal(source?counter)} arguments to this ${lambda.type.simpleName}
+</#list>
+ * @param dst The array to store the results in, which must be at least as long as the first source array
+</#macro>
+
+<#-- a helper macro which prints the javadoc code of applying this lambda to the elements at the given index -->
+<#macro zippedCallString index>{@code ${lambda.method}(<#list sources as source>${source}[${index}]<#sep>, </#sep></#list>)}</#macro>
+<#-- @formatter:on -->
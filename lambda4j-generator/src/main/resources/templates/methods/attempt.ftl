@@ -0,0 +1,51 @@
+<#-- @formatter:off -->
+<#import "../utils/helpers.ftl" as helpers>
+<#import "../utils/types.ftl" as types>
+
+<#-- parse only if lambda is throwable and returns something (lambda therefore cannot be of type consumer or runnable) -->
+<#if lambda.throwable && !LambdaUtils.isOfTypeConsumer(lambda) && !LambdaUtils.isOfTypeRunnable(lambda) && lambda.returnType?has_content>
+    <#-- search for correct non-throwable lambda which gets lambda inputs and returns object output, unless suppliers which do not have inputs -->
+    <#if LambdaUtils.isOfTypeSupplier(lambda)>
+        <#assign outputLambda = LambdaUtils.searchByInputTypesAndReturnType(LambdaUtils.getSupplierType(), lambda.arity, lambda.firstInputType, lambda.secondInputType, lambda.thirdInputType, Object, false, false)>
+    <#else>
+        <#assign outputLambda = LambdaUtils.searchByInputTypesAndReturnType(LambdaUtils.getFunctionType(), lambda.arity, lambda.firstInputType, lambda.secondInputType, lambda.thirdInputType, Object, false, false)>
+    </#if>
+    <#-- build result type, which is a primitive result type for primitive returns -->
+    <#if helpers.isPrimitive(lambda.returnType)>
+        <#assign resultName = lambda.returnType.typeSimpleName?cap_first + "Result">
+        <#assign resultType = resultName>
+    <#else>
+        <#assign resultName = "Result">
+        <#assign resultType = "Result<" + lambda.returnType + ">">
+    </#if>
+    <#-- print attempt method -->
+    <@.namespace.attemptMethod outputLambda resultName resultType/>
+</#if>
+
+<#-- a helper macro to centralize attempt method and to avoid unnecessary indenting -->
+<#macro attemptMethod outputLambda resultName resultType>
+/**
+ * Returns a composed {@link ${outputLambda.name}} that applies this ${lambda.type.simpleName} to its input and returns its result as
+ * {@link ${resultName}}. If a {@link Throwable} is thrown from this ${lambda.type.simpleName}, it is not thrown by the composed
+ * ${outputLambda.type.simpleName}, but returned as failed {@code ${resultName}} instead. This avoids unwinding the stack in
+ * workloads with a high failure rate, as failed results are composed using their {@code map} and {@code flatMap} methods.
+ *
+ * @return A composed {@code ${outputLambda.name}} that applies this ${lambda.type.simpleName} to its input and returns its result
+ * as {@code ${resultName}}.
+ * @implNote If thrown {@code Throwable} is of type {@link Error}, it is thrown as-is and thus not returned as failed result.
+ * @see ${resultName}
+ */
+${annotation.nonnull}
+default ${outputLambda.name}${types.buildGenericParameterTypeString(outputLambda, "", "", "", resultType)} attempt() {
+    return (${parameterNameString}) -> {
+        try {
+            return ${resultName}.success(this.${lambda.method}(${parameterNameString}));
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable throwable) {
+            return ${resultName}.failure(throwable);
+        }
+    };
+}
+</#macro>
+<#-- @formatter:on -->
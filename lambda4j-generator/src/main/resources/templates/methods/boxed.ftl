@@ -2,13 +2,14 @@
 <#import "../utils/filters.ftl" as filters>
 <#import "../utils/helpers.ftl" as helpers>
 <#import "../utils/types.ftl" as types>
+<#import "../utils/throwable.ftl" as throwable>
 
 <#-- parse only if lambda has primitive input arguments, or is of type function or supplier with primitive return -->
 <#if helpers.isPrimitiveLambdaInput(lambda) || ((LambdaUtils.isOfTypeFunction(lambda) || LambdaUtils.isOfTypeSupplier(lambda)) && helpers.isPrimitive(lambda.returnType))>
     <#-- build a generic parameter type string including primitives also -->
-    <#assign genericParameterTypeStringWithPrimitives = .namespace.buildGenericParameterTypeStringWithPrimitives()>
-    <#-- search for correct output lambda, which gets object (generical) inputs and object (generical) output, unless if global lambda represents a type a predicate or consumer type) -->
-    <#if LambdaUtils.isOfTypePredicate(lambda) || LambdaUtils.isOfTypeConsumer(lambda)>
+    <#assign genericParameterTypeStringWithPrimitives = types.buildGenericParameterTypeStringWithPrimitives()>
+    <#-- search for correct output lambda, which gets object (generical) inputs and object (generical) output, unless if global lambda represents a type a predicate, consumer or comparator type) -->
+    <#if LambdaUtils.isOfTypePredicate(lambda) || LambdaUtils.isOfTypeConsumer(lambda) || LambdaUtils.isOfTypeComparator(lambda)>
         <#assign outputLambda = LambdaUtils.searchByInputTypesAndReturnType(lambda.type, lambda.arity, Object, Object, Object,  lambda.returnType, lambda.throwable, false)>
     <#else>
         <#assign outputLambda = LambdaUtils.searchByInputTypesAndReturnType(lambda.type, lambda.arity, Object, Object, Object,  Object, lambda.throwable, false)>
@@ -25,36 +26,44 @@
  * {@code ${lambda.name}} with methods provided by the {@code JDK}.
  *
  * @return A composed {@code ${outputLambda.name}} which represents this {@code ${lambda.name}}.
+ * @implNote The returned {@code ${outputLambda.name}} is a {@link DerivedView} of this {@code ${lambda.name}}, so
+ * {@link #unboxed(${outputLambda.name})} returns this {@code ${lambda.name}} instead of wrapping it twice.
  */
 ${annotation.nonnull}
 default ${outputLambda.name}${genericParameterTypeStringWithPrimitives} boxed() {
-    return this::${lambda.method};
+    final class Boxed implements ${outputLambda.name}${genericParameterTypeStringWithPrimitives}, DerivedView {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public ${.namespace.boxedReturnType()} ${outputLambda.method}(${.namespace.boxedParameterString()}) <@throwable.printThrowableDeclaration/> {
+            ${helpers.printReturnIfNotVoid()} ${lambda.name}.this.${lambda.method}(${parameterNameString});
+        }
+
+        ${annotation.nonnull}
+        @Override
+        public ${lambda.name}${genericParameterTypeString} getSource() {
+            return ${lambda.name}.this;
+        }
+    }
+    return new Boxed();
 }
 </#macro>
 
-<#-- a helper function to build a generic parameter type string with primitives for given target lambda -->
-<#function buildGenericParameterTypeStringWithPrimitives target = lambda>
-    <#local target = LambdaUtils.copy(target)>
-    <#local parameters = [target.firstInputType!"", target.secondInputType!"", target.thirdInputType!""]>
-    <#if LambdaUtils.isOfTypeOperator(target)>
-        <#local parameters = [target.returnType!""]>
-    <#elseif !LambdaUtils.isOfTypePredicate(target) && !LambdaUtils.isOfTypeConsumer(target)>
-        <#local parameters = parameters + [target.returnType!""]>
-    </#if>
-    <#local parameters = parameters + [target.throwableType!""]>
-    <#local parameters = filters.filterEmpties(parameters)>
-    <#local genericString = "">
-    <#if (types?has_content)>
-        <#local genericString = genericString + "<">
-        <#list parameters as type>
-        <#-- get type simple name from type as key for class map and save the keys value -->
-            <#local genericString = genericString + types.buildGenericParameterType(type)>
-            <#if type?has_next>
-                <#local genericString = genericString + ", ">
-            </#if>
-        </#list>
-        <#local genericString = genericString + ">">
+<#-- a helper function which returns the return type of the boxed lambda, which is only boxed for functions, operators and suppliers -->
+<#function boxedReturnType>
+    <#if LambdaUtils.isOfTypePredicate(lambda) || LambdaUtils.isOfTypeConsumer(lambda) || LambdaUtils.isOfTypeComparator(lambda)>
+        <#return types.buildParameterType(lambda.returnType)>
+    <#else>
+        <#return types.buildGenericParameterType(lambda.returnType)>
     </#if>
-    <#return genericString>
+</#function>
+
+<#-- a helper function which builds a string representing all typed lambda parameters with primitive types replaced by their boxed counterparts -->
+<#function boxedParameterString>
+    <#local parameterStrings = []>
+    <#list filters.filterEmpties(helpers.inputTypes(lambda)) as parameter>
+        <#local parameterStrings = parameterStrings + [types.buildGenericParameterType(parameter) + " " + types.buildParameterName(parameter)]>
+    </#list>
+    <#return parameterStrings?join(", ")>
 </#function>
 <#-- @formatter:on -->
\ No newline at end of file
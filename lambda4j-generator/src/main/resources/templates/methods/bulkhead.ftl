@@ -0,0 +1,60 @@
+<#-- @formatter:off -->
+<#import "../utils/helpers.ftl" as helpers>
+<#import "../utils/types.ftl" as types>
+
+<#assign isVoid = LambdaUtils.isOfTypeConsumer(lambda) || LambdaUtils.isOfTypeRunnable(lambda) || !lambda.returnType?has_content>
+<#-- print methods -->
+<@.namespace.bulkheadMethod/>
+<@.namespace.bulkheadBulkheadMethod isVoid/>
+
+<#-- a helper macro to centralize bulkhead method and to avoid unnecessary indenting -->
+<#macro bulkheadMethod>
+/**
+ * Returns a composed {@link ${lambda.name}} that applies this ${lambda.type.simpleName} to its input, if less than the given
+ * number of calls of the composed ${lambda.type.simpleName} are running concurrently. Otherwise the call is rejected
+ * immediately with a {@link CallNotPermittedException}.
+ *
+ * @param maxConcurrent The maximum number of concurrent calls
+ * @return A composed {@code ${lambda.name}} that applies this ${lambda.type.simpleName} to its input, if less than the given
+ * number of calls are running concurrently.
+ * @throws IllegalArgumentException If given argument is not positive
+ * @see #bulkhead(Bulkhead)
+ */
+${annotation.nonnull}
+default ${lambda.name}${genericParameterTypeString} bulkhead(final int maxConcurrent) {
+    return bulkhead(Bulkhead.of(maxConcurrent));
+}
+</#macro>
+
+<#-- a helper macro to centralize bulkhead method with bulkhead and to avoid unnecessary indenting -->
+<#macro bulkheadBulkheadMethod isVoid>
+/**
+ * Returns a composed {@link ${lambda.name}} that applies this ${lambda.type.simpleName} to its input, if a permit of the given
+ * {@link Bulkhead} is acquired. Depending on the mode of the bulkhead, the call either waits for a permit or is rejected with a
+ * {@link CallNotPermittedException}. A bulkhead may be shared by several functional interfaces calling the same dependency.
+ *
+ * @param bulkhead The bulkhead which limits the concurrent calls of this ${lambda.type.simpleName}
+ * @return A composed {@code ${lambda.name}} that applies this ${lambda.type.simpleName} to its input, if a permit of the given
+ * {@code Bulkhead} is acquired.
+<#include "../javadoc/throwsNullPointerException.ftl">
+ * @see Bulkhead#of(int, Duration)
+ * @see Bulkhead#adaptive(int, int)
+ */
+${annotation.nonnull}
+default ${lambda.name}${genericParameterTypeString} bulkhead(${annotation.nonnull} final Bulkhead bulkhead) {
+    Objects.requireNonNull(bulkhead);
+    return (${parameterNameString}) -> {
+        final long permit = bulkhead.acquirePermission();
+        try {
+        <#if isVoid>
+            this.${lambda.method}(${parameterNameString});
+        <#else>
+            return this.${lambda.method}(${parameterNameString});
+        </#if>
+        } finally {
+            bulkhead.releasePermission(permit);
+        }
+    };
+}
+</#macro>
+<#-- @formatter:on -->
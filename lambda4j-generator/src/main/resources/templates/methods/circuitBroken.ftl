@@ -0,0 +1,72 @@
+<#-- @formatter:off -->
+<#import "../utils/helpers.ftl" as helpers>
+<#import "../utils/types.ftl" as types>
+
+<#-- print only if lambda is throwable -->
+<#if lambda.throwable>
+    <#assign isVoid = LambdaUtils.isOfTypeConsumer(lambda) || LambdaUtils.isOfTypeRunnable(lambda) || !lambda.returnType?has_content>
+    <#-- print methods -->
+    <@.namespace.circuitBrokenConfigMethod/>
+    <@.namespace.circuitBrokenMethod isVoid/>
+</#if>
+
+<#-- a helper macro to centralize circuitBroken method with config and to avoid unnecessary indenting -->
+<#macro circuitBrokenConfigMethod>
+/**
+ * Returns a composed {@link ${lambda.name}} that applies this ${lambda.type.simpleName} to its input guarded by a new
+ * {@link CircuitBreaker} created from the given configuration. The circuit breaker is owned by the composed
+ * ${lambda.type.simpleName}, so all its calls share the same failure rate.
+ *
+ * @param config The configuration of the circuit breaker guarding this ${lambda.type.simpleName}
+ * @return A composed {@code ${lambda.name}} that applies this ${lambda.type.simpleName} to its input guarded by a new
+ * {@code CircuitBreaker}.
+<#include "../javadoc/throwsNullPointerException.ftl">
+ * @see #circuitBroken(CircuitBreaker)
+ */
+${annotation.nonnull}
+default ${lambda.name}${genericParameterTypeString} circuitBroken(${annotation.nonnull} final CircuitBreakerConfig config) {
+    return circuitBroken(CircuitBreaker.of(config));
+}
+</#macro>
+
+<#-- a helper macro to centralize circuitBroken method and to avoid unnecessary indenting -->
+<#macro circuitBrokenMethod isVoid>
+/**
+ * Returns a composed {@link ${lambda.name}} that applies this ${lambda.type.simpleName} to its input guarded by the given
+ * {@link CircuitBreaker}. If the circuit breaker does not permit the call, this ${lambda.type.simpleName} is not applied and a
+ * {@link CallNotPermittedException} is thrown immediately. Otherwise the outcome of this ${lambda.type.simpleName} is recorded
+ * in the circuit breaker against the phase in which the call was permitted and any {@link Throwable} thrown from it is
+ * rethrown as-is. To fall back to another result while the
+ * circuit breaker is open, {@link #recover(Function)} may be used on the composed ${lambda.type.simpleName}.
+ *
+ * @param circuitBreaker The circuit breaker guarding this ${lambda.type.simpleName}
+ * @return A composed {@code ${lambda.name}} that applies this ${lambda.type.simpleName} to its input guarded by the given
+ * {@code CircuitBreaker}.
+<#include "../javadoc/throwsNullPointerException.ftl">
+ * @see #circuitBroken(CircuitBreakerConfig)
+ */
+${annotation.nonnull}
+default ${lambda.name}${genericParameterTypeString} circuitBroken(${annotation.nonnull} final CircuitBreaker circuitBreaker) {
+    Objects.requireNonNull(circuitBreaker);
+    return (${parameterNameString}) -> {
+        final CircuitBreaker.Phase permitted = circuitBreaker.tryAcquirePermission();
+        if (permitted == null) {
+            throw new CallNotPermittedException("CircuitBreaker is " + circuitBreaker.getState());
+        }
+        try {
+        <#if isVoid>
+            this.${lambda.method}(${parameterNameString});
+            circuitBreaker.onSuccess(permitted);
+        <#else>
+            final ${types.buildParameterType(lambda.returnType)} returnValue = this.${lambda.method}(${parameterNameString});
+            circuitBreaker.onSuccess(permitted);
+            return returnValue;
+        </#if>
+        } catch (Throwable throwable) {
+            circuitBreaker.onFailure(permitted, throwable);
+            throw throwable;
+        }
+    };
+}
+</#macro>
+<#-- @formatter:on -->
@@ -0,0 +1,29 @@
+<#-- @formatter:off -->
+<#import "../utils/helpers.ftl" as helpers>
+
+<#-- parse only if lambda is a function which is backed by a chain of fused functions when composed -->
+<#if LambdaUtils.isOfTypeFunction(lambda) && lambda.arity == 1 && !lambda.throwable && !helpers.isPrimitive(lambda.firstInputType) && !helpers.isPrimitive(lambda.returnType)>
+    <@.namespace.compileMethod/>
+</#if>
+
+<#-- a helper macro to centralize compile method and to avoid unnecessary indenting -->
+<#macro compileMethod>
+/**
+ * Returns a compiled version of this ${lambda.type.simpleName}. If this ${lambda.type.simpleName} is composed of a chain of
+ * ${lambda.type.simpleName}s (f.e. using {@link #andThen(Function)}), the chain is compiled into a single method handle which
+ * applies each ${lambda.type.simpleName} of the chain in turn. Otherwise this ${lambda.type.simpleName} is returned.
+ * <p>
+ * Compiling a chain has a one-time cost, so it should only be done for long-lived chains which are applied often.
+ *
+ * @return A compiled version of this ${lambda.type.simpleName}.
+ * @implNote The call sites of a chain of ${lambda.type.simpleName}s are shared by all chains, so they become megamorphic if
+ * many distinct chains are applied. The JVM customizes the method handle of a frequently applied compiled chain for this
+ * chain only, so its call sites only see the ${lambda.type.simpleName}s of this chain and the JIT compiler is able to inline
+ * them. A compiled ${lambda.type.simpleName} is replaced by its uncompiled chain when serialized.
+ */
+${annotation.nonnull}
+default ${lambda.name}${genericParameterTypeString} compile() {
+    return this;
+}
+</#macro>
+<#-- @formatter:on -->
@@ -1,6 +1,7 @@
 <#-- @formatter:off -->
 <#import "../utils/helpers.ftl" as helpers>
 <#import "../utils/types.ftl" as types>
+<#import "../utils/characteristics.ftl" as characteristics>
 
 <#-- parse only if lambda is not of type supplier or runnable (no input) -->
 <#if !LambdaUtils.isOfTypeSupplier(lambda) && !LambdaUtils.isOfTypeRunnable(lambda)>
@@ -24,6 +25,10 @@
         <#assign type = (lambda.returnType.equals(boolean))?then(LambdaUtils.getPredicateType(), LambdaUtils.getFunctionType())>
         <#assign outputLambda = LambdaUtils.searchByInputTypesAndReturnType(type, lambda.arity, Object, Object, Object, lambda.returnType, lambda.throwable, false)>
     </#if>
+    <#-- search for supplier lambda which lazily holds the result of a constant composition, unless consumers which do not have outputs -->
+    <#if !LambdaUtils.isOfTypeConsumer(lambda)>
+        <#assign supplierLambda = LambdaUtils.searchByInputTypesAndReturnType(LambdaUtils.getSupplierType(), 0, lambda.firstInputType, lambda.secondInputType, lambda.thirdInputType, lambda.returnType, false, false)>
+    </#if>
     <#-- print compose method -->
     <@.namespace.composeMethod "A" "B" "C" outputLambda inputLambda1 inputLambda2 inputLambda3/>
 </#if>
@@ -43,11 +48,38 @@
  * then applies this ${lambda.type.simpleName} to the result.
 <#include "../javadoc/throwsNullPointerException.ftl">
  * @implSpec The input argument of this method is able to handle every type.
+<#if .namespace.isFusable()>
+ * @implNote If this ${lambda.type.simpleName} is composed itself, the {@code before} ${inputLambda1.type.simpleName} is prepended to its chain
+ * of ${lambda.type.simpleName}s instead of wrapping it, so chains of composed ${lambda.type.simpleName}s are applied in a single loop.
+</#if>
+<#include "../javadoc/implNoteCharacteristics.ftl">
+<#if !lambda.throwable && !LambdaUtils.isOfTypeConsumer(lambda)>
+ * @implNote If this ${lambda.type.simpleName} is marked as {@link Pure} and the {@code before} ${.namespace.javadocInputLambdaSimpleNamePlural()} ${(lambda.arity > 1)?then("are", "is")} constant
+ * (f.e. created by {@code constant}), this ${lambda.type.simpleName} is applied only once, when the composed ${outputLambda.type.simpleName} is
+ * applied for the first time. Its result is then returned by each further application. If applying it throws an exception, the
+ * exception is relayed to the caller and it is applied again on the next application.
+</#if>
  */
 ${annotation.nonnull}
 default ${types.buildGenericInputParameterTypeStringWithoutThrowable(outputLambda, generic1, generic2, generic3)} ${outputLambda.name}${types.buildGenericParameterTypeString(outputLambda, generic1, generic2, generic3)} compose(${.namespace.inputLambdasString(generic1, generic2, generic3, inputLambda1, inputLambda2, inputLambda3)}) {
     ${.namespace.inputLambdaChecking(inputLambda1, inputLambda2, inputLambda3)}
-    return (${types.buildParameterNameString(outputLambda, generic1, generic2, generic3)}) -> ${lambda.method}(${.namespace.callLambdasString(inputLambda1, inputLambda2, inputLambda3)});
+<#if !lambda.throwable && !LambdaUtils.isOfTypeConsumer(lambda)>
+    if (this instanceof Pure<#list .namespace.operands(inputLambda1, inputLambda2, inputLambda3) as operand> && ${operand} instanceof Constant</#list>) {
+<#if helpers.isPrimitive(lambda.returnType)>
+        final ${supplierLambda.name} result = ${supplierLambda.name}.of(() -> ${lambda.method}(${.namespace.callLambdasString(inputLambda1, inputLambda2, inputLambda3, true)})).memoized();
+        return (${outputLambda.name}${types.buildGenericParameterTypeString(outputLambda, generic1, generic2, generic3)} & Pure) (${types.buildParameterNameString(outputLambda, generic1, generic2, generic3)}) -> result.${supplierLambda.method}();
+<#else>
+        // The result is held by an optional, so that a null result is memoized as well
+        final ${supplierLambda.name}<Optional<${types.buildGenericParameterType(lambda.returnType)}>> result = ${supplierLambda.name}.of(() -> Optional.ofNullable(${lambda.method}(${.namespace.callLambdasString(inputLambda1, inputLambda2, inputLambda3, true)}))).memoized();
+        return (${outputLambda.name}${types.buildGenericParameterTypeString(outputLambda, generic1, generic2, generic3)} & Pure) (${types.buildParameterNameString(outputLambda, generic1, generic2, generic3)}) -> result.${supplierLambda.method}().orElse(null);
+</#if>
+    }
+</#if>
+<#if .namespace.isFusable()>
+    return FusedFunction.of(before, this);
+<#else>
+<@characteristics.printCharacteristicReturn type=outputLambda.name + types.buildGenericParameterTypeString(outputLambda, generic1, generic2, generic3) expression="(${types.buildParameterNameString(outputLambda, generic1, generic2, generic3)}) -> ${lambda.method}(${.namespace.callLambdasString(inputLambda1, inputLambda2, inputLambda3)})" operands=["this"] + .namespace.operands(inputLambda1, inputLambda2, inputLambda3)/>
+</#if>
 }
 </#macro>
 
@@ -116,18 +148,37 @@ default ${types.buildGenericInputParameterTypeStringWithoutThrowable(outputLambd
     <#return ret>
 </#function>
 
-<#-- a helper function to build a string for calling the given input lambdas of compose operation -->
-<#function callLambdasString inputLambda1 = "" inputLambda2 = "" inputLambda3 = "">
+<#-- a helper function to build a string for calling the given input lambdas of compose operation, optionally with null arguments -->
+<#function callLambdasString inputLambda1 = "" inputLambda2 = "" inputLambda3 = "" nullArguments = false>
     <#local ret = "">
     <#if (lambda.arity >= 1) && inputLambda1?has_content>
-        <#local ret = ret + 'before${helpers.number()}.${inputLambda1.method}(a)'>
+        <#local ret = ret + 'before${helpers.number()}.${inputLambda1.method}(${nullArguments?then("null", "a")})'>
+    </#if>
+    <#if (lambda.arity >= 2) && inputLambda2?has_content>
+        <#local ret = ret + ', before2.${inputLambda2.method}(${nullArguments?then("null", "b")})'>
+    </#if>
+    <#if (lambda.arity >= 3) && inputLambda3?has_content>
+        <#local ret = ret + ', before3.${inputLambda3.method}(${nullArguments?then("null", "c")})'>
+    </#if>
+    <#return ret>
+</#function>
+<#-- a helper function which returns the names of the given input lambdas of compose operation -->
+<#function operands inputLambda1 = "" inputLambda2 = "" inputLambda3 = "">
+    <#local ret = []>
+    <#if (lambda.arity >= 1) && inputLambda1?has_content>
+        <#local ret = ret + ["before${helpers.number()}"]>
     </#if>
     <#if (lambda.arity >= 2) && inputLambda2?has_content>
-        <#local ret = ret + ', before2.${inputLambda2.method}(b)'>
+        <#local ret = ret + ["before2"]>
     </#if>
     <#if (lambda.arity >= 3) && inputLambda3?has_content>
-        <#local ret = ret + ', before3.${inputLambda3.method}(c)'>
+        <#local ret = ret + ["before3"]>
     </#if>
     <#return ret>
 </#function>
+
+<#-- checks if composed lambdas are fused into a single chain, which is only done for object functions of arity 1 -->
+<#function isFusable>
+    <#return LambdaUtils.isOfTypeFunction(lambda) && lambda.arity == 1 && !lambda.throwable && !helpers.isPrimitive(lambda.firstInputType) && !helpers.isPrimitive(lambda.returnType)>
+</#function>
 <#-- @formatter:on -->
\ No newline at end of file
@@ -0,0 +1,146 @@
+<#-- @formatter:off -->
+<#import "../utils/helpers.ftl" as helpers>
+<#import "../utils/types.ftl" as types>
+
+<#-- parse only if lambda is a non-throwable function, predicate or consumer with more than one input argument -->
+<#if (lambda.arity >= 2) && !lambda.throwable && (LambdaUtils.isOfTypeFunction(lambda) || LambdaUtils.isOfTypePredicate(lambda) || LambdaUtils.isOfTypeConsumer(lambda))>
+    <#assign isVoid = LambdaUtils.isOfTypeConsumer(lambda)>
+    <#assign generics = ["A", "B", "C"][0..(lambda.arity - 1)]>
+    <#assign inputTypes = [lambda.firstInputType, lambda.secondInputType, lambda.thirdInputType!""][0..(lambda.arity - 1)]>
+    <#-- search for correct input lambdas which get object inputs and return the input types of this lambda -->
+    <#assign inputLambdas = []>
+    <#list inputTypes as inputType>
+        <#assign type = (inputType.equals(boolean))?then(LambdaUtils.getPredicateType(), LambdaUtils.getFunctionType())>
+        <#assign inputLambdas = inputLambdas + [LambdaUtils.searchByFirstInputAndReturnType(type, 1, Object, inputType, false, true)]>
+    </#list>
+    <#-- find correct output lambda which is able to handle object inputs only and returns global lambda output, unless consumers which do not have outputs -->
+    <#if isVoid>
+        <#assign outputLambda = LambdaUtils.searchByInputTypes(LambdaUtils.getConsumerType(), lambda.arity, Object, Object, Object, false, false)>
+    <#else>
+        <#assign type = (lambda.returnType.equals(boolean))?then(LambdaUtils.getPredicateType(), LambdaUtils.getFunctionType())>
+        <#assign outputLambda = LambdaUtils.searchByInputTypesAndReturnType(type, lambda.arity, Object, Object, Object, lambda.returnType, false, false)>
+    </#if>
+    <#-- find correct lambda which gets object inputs and returns a future of the global lambda output -->
+    <#assign asyncLambda = LambdaUtils.searchByInputTypesAndReturnType(LambdaUtils.getFunctionType(), lambda.arity, Object, Object, Object, Object, false, false)>
+    <#assign futureType = "CompletableFuture<" + isVoid?then("Void", types.buildGenericParameterType(lambda.returnType)) + ">">
+    <#-- print methods -->
+    <@.namespace.composeParallelMethod/>
+    <@.namespace.composeParallelAsyncMethod/>
+</#if>
+
+<#-- a helper macro to centralize composeParallel method and to avoid unnecessary indenting -->
+<#macro composeParallelMethod>
+/**
+ * Returns a composed {@link ${outputLambda.name}} that first applies the {@code before} ${inputLambdas[0].type.simpleName}s to its input
+ * concurrently, and then applies this ${lambda.type.simpleName} to the results. The first {@code before} ${inputLambdas[0].type.simpleName}
+ * is applied by the calling thread, while the other ones are applied using the given {@link Executor}. The calling
+ * thread waits for their results afterwards.
+ * If evaluation of one of the operations throws an exception, it is relayed to the caller of the composed operation as is, the same
+ * as by {@link #compose(${.namespace.inputLambdaNames()})}. The {@code before} ${inputLambdas[0].type.simpleName}s which are not
+ * started yet are cancelled in this case.
+ *
+<@.namespace.javadocGenericInput/>
+ * @param executor The executor to apply the {@code before} ${inputLambdas[0].type.simpleName}s with
+<@.namespace.javadocArgumentInput/>
+ * @return A composed {@code ${outputLambda.name}} that first applies the {@code before} ${inputLambdas[0].type.simpleName}s to its input
+ * concurrently, and then applies this ${lambda.type.simpleName} to the results.
+ * @throws NullPointerException If one of the given arguments is {@code null}
+ * @see #compose(${.namespace.inputLambdaNames()})
+ */
+${annotation.nonnull}
+default ${types.buildGenericInputParameterTypeStringWithoutThrowable(outputLambda, generics[0], generics[1], generics[2]!"")} ${outputLambda.name}${types.buildGenericParameterTypeString(outputLambda, generics[0], generics[1], generics[2]!"")} composeParallel(${annotation.nonnull} final Executor executor, ${.namespace.inputLambdasString()}) {
+    Objects.requireNonNull(executor);
+<#list inputLambdas as inputLambda>
+    Objects.requireNonNull(before${inputLambda?counter});
+</#list>
+    return (${generics?join(", ")?lower_case}) -> {
+<#list inputLambdas as inputLambda>
+    <#if !inputLambda?is_first>
+        final CompletableFuture<${types.buildGenericParameterType(inputTypes[inputLambda?index])}> future${inputLambda?counter} = CompletableFuture.supplyAsync(() -> ${.namespace.callLambdaString(inputLambda?index)}, executor);
+    </#if>
+</#list>
+        try {
+            ${helpers.printReturnIfNotVoid()} ${lambda.method}(${.namespace.callLambdaString(0)}, <#list inputLambdas as inputLambda><#if !inputLambda?is_first>ThrowableUtils.join(future${inputLambda?counter})<#sep>, </#sep></#if></#list>);
+        } finally {
+<#list inputLambdas as inputLambda>
+    <#if !inputLambda?is_first>
+            future${inputLambda?counter}.cancel(false);
+    </#if>
+</#list>
+        }
+    };
+}
+</#macro>
+
+<#-- a helper macro to centralize composeParallelAsync method and to avoid unnecessary indenting -->
+<#macro composeParallelAsyncMethod>
+/**
+ * Returns a composed {@link ${asyncLambda.name}} that applies the {@code before} ${inputLambdas[0].type.simpleName}s to its input
+ * concurrently using the given {@link Executor}, and then applies this ${lambda.type.simpleName} to the results. The composed
+ * ${asyncLambda.type.simpleName} returns a {@link CompletableFuture} without waiting for any result, so no thread is blocked.
+ * This ${lambda.type.simpleName} is applied by the thread which completes the last {@code before} ${inputLambdas[0].type.simpleName}.
+ * The {@code CompletableFuture} is completed exceptionally, if a {@link Throwable} is thrown from one of the
+ * {@code before} ${inputLambdas[0].type.simpleName}s or from this ${lambda.type.simpleName}.
+ *
+<@.namespace.javadocGenericInput/>
+ * @param executor The executor to apply the {@code before} ${inputLambdas[0].type.simpleName}s with
+<@.namespace.javadocArgumentInput/>
+ * @return A composed {@code ${asyncLambda.name}} that applies the {@code before} ${inputLambdas[0].type.simpleName}s to its input
+ * concurrently, and then applies this ${lambda.type.simpleName} to the results.
+ * @throws NullPointerException If one of the given arguments is {@code null}
+ * @see #composeParallel(Executor, ${.namespace.inputLambdaNames()})
+ */
+${annotation.nonnull}
+default ${types.buildGenericInputParameterTypeStringWithoutThrowable(asyncLambda, generics[0], generics[1], generics[2]!"")} ${asyncLambda.name}${types.buildGenericParameterTypeString(asyncLambda, generics[0], generics[1], generics[2]!"", futureType)} composeParallelAsync(${annotation.nonnull} final Executor executor, ${.namespace.inputLambdasString()}) {
+    Objects.requireNonNull(executor);
+<#list inputLambdas as inputLambda>
+    Objects.requireNonNull(before${inputLambda?counter});
+</#list>
+    return (${generics?join(", ")?lower_case}) -> {
+<#list inputLambdas as inputLambda>
+        final CompletableFuture<${types.buildGenericParameterType(inputTypes[inputLambda?index])}> future${inputLambda?counter} = CompletableFuture.supplyAsync(() -> ${.namespace.callLambdaString(inputLambda?index)}, executor);
+</#list>
+        return CompletableFuture.allOf(<#list inputLambdas as inputLambda>future${inputLambda?counter}<#sep>, </#sep></#list>)
+                .${isVoid?then("thenRun(() ->", "thenApply(ignored ->")} ${lambda.method}(<#list inputLambdas as inputLambda>future${inputLambda?counter}.join()<#sep>, </#sep></#list>));
+    };
+}
+</#macro>
+
+<#-- prints javadoc generic input parameters of composeParallel methods -->
+<#macro javadocGenericInput>
+<#list inputLambdas as inputLambda>
+ * @param <${generics[inputLambda?index]}> The type of the argument to the ${["first", "second", "third"][inputLambda?index]} given ${inputLambda.type.simpleName}, and of composed ${outputLambda.type.simpleName}
+</#list>
+</#macro>
+
+<#-- prints javadoc input parameters of composeParallel methods -->
+<#macro javadocArgumentInput>
+<#list inputLambdas as inputLambda>
+ * @param before${inputLambda?counter} The ${["first", "second", "third"][inputLambda?index]} ${inputLambda.type.simpleName} to apply before this ${lambda.type.simpleName} is applied
+</#list>
+</#macro>
+
+<#-- a helper function to build the input lambdas string of composeParallel methods -->
+<#function inputLambdasString>
+    <#local ret = []>
+    <#list inputLambdas as inputLambda>
+        <#local index = inputLambda?index>
+        <#local ret = ret + ['${annotation.nonnull} final ${inputLambda.name}${types.buildGenericParameterTypeStringWithErasure(inputLambda, generics[index], "", "", inputTypes[index])} before${index + 1}']>
+    </#list>
+    <#return ret?join(", ")>
+</#function>
+
+<#-- a helper function to build the names of the input lambdas, as used for javadoc links -->
+<#function inputLambdaNames>
+    <#local ret = []>
+    <#list inputLambdas as inputLambda>
+        <#local ret = ret + [inputLambda.name]>
+    </#list>
+    <#return ret?join(", ")>
+</#function>
+
+<#-- a helper function to build a string for calling the input lambda at the given index -->
+<#function callLambdaString index>
+    <#return 'before${index + 1}.${inputLambdas[index].method}(${generics[index]?lower_case})'>
+</#function>
+<#-- @formatter:on -->
@@ -0,0 +1,307 @@
+<#-- @formatter:off -->
+<#import "../utils/helpers.ftl" as helpers>
+<#import "../utils/types.ftl" as types>
+
+<#-- parse only if lambda is a non-throwable predicate with primitive input -->
+<#if (lambda.arity == 1) && !lambda.throwable && LambdaUtils.isOfTypePredicate(lambda) && helpers.isPrimitive(lambda.firstInputType)>
+    <#assign elementType = types.buildParameterType(lambda.firstInputType)>
+    <#assign arrayType = elementType + "[]">
+    <#-- print methods -->
+    <@.namespace.countMethod/>
+    <@.namespace.parallelCountMethod/>
+    <@.namespace.parallelCountWithGrainSizeMethod/>
+    <@.namespace.selectMethod/>
+    <@.namespace.selectToBufferMethod/>
+    <@.namespace.parallelSelectMethod/>
+    <@.namespace.parallelSelectWithGrainSizeMethod/>
+    <@.namespace.filterMethod/>
+    <@.namespace.filterToBufferMethod/>
+    <@.namespace.parallelFilterMethod/>
+    <@.namespace.parallelFilterWithGrainSizeMethod/>
+</#if>
+
+<#-- a helper macro to centralize count method and to avoid unnecessary indenting -->
+<#macro countMethod>
+/**
+ * Returns the number of elements of the given array which match this ${lambda.type.simpleName}.
+ *
+ * @param array The array whose elements are tested by this ${lambda.type.simpleName}
+ * @return The number of elements of the given array which match this ${lambda.type.simpleName}.
+ * @throws NullPointerException If given argument is {@code null}
+ * @see #parallelCount(${arrayType})
+ */
+default int count(${annotation.nonnull} final ${arrayType} array) {
+    Objects.requireNonNull(array);
+    int count = 0;
+    for (final ${elementType} element : array) {
+        count += ${lambda.method}(element) ? 1 : 0;
+    }
+    return count;
+}
+</#macro>
+
+<#-- a helper macro to centralize parallelCount method and to avoid unnecessary indenting -->
+<#macro parallelCountMethod>
+/**
+ * Returns the number of elements of the given array which match this ${lambda.type.simpleName}. The elements are
+ * tested in parallel, whereas the array is split into chunks of the {@link ParallelArrays#defaultGrainSize(boolean) default
+ * grain size}, which is smaller if this ${lambda.type.simpleName} is marked as {@link Expensive} (see {@link #isExpensive()}).
+ *
+ * @param array The array whose elements are tested by this ${lambda.type.simpleName}
+ * @return The number of elements of the given array which match this ${lambda.type.simpleName}.
+ * @throws NullPointerException If given argument is {@code null}
+ * @apiNote This ${lambda.type.simpleName} is only applied concurrently by multiple threads, if it is marked as {@link
+ * ThreadSafe} (see {@link #isThreadSafe()}). Otherwise the chunks are processed one after another by the calling
+ * thread.
+ * @see #parallelCount(${arrayType}, int)
+ */
+default int parallelCount(${annotation.nonnull} final ${arrayType} array) {
+    return parallelCount(array, ParallelArrays.defaultGrainSize(isExpensive()));
+}
+</#macro>
+
+<#-- a helper macro to centralize parallelCount method with grain size and to avoid unnecessary indenting -->
+<#macro parallelCountWithGrainSizeMethod>
+/**
+ * Returns the number of elements of the given array which match this ${lambda.type.simpleName}. The elements are
+ * tested in parallel, whereas the array is split into chunks of the given grain size, which are processed by the
+ * {@link ForkJoinPool#commonPool()}.
+ *
+ * @param array The array whose elements are tested by this ${lambda.type.simpleName}
+ * @param grainSize The maximum number of elements to be tested sequentially by one task
+ * @return The number of elements of the given array which match this ${lambda.type.simpleName}.
+ * @throws NullPointerException If given argument is {@code null}
+ * @throws IllegalArgumentException If the given grain size is not positive
+ * @apiNote This ${lambda.type.simpleName} is only applied concurrently by multiple threads, if it is marked as {@link
+ * ThreadSafe} (see {@link #isThreadSafe()}). Otherwise the chunks are processed one after another by the calling
+ * thread.
+ * @see ParallelArrays#forEachChunk(int, int, boolean, ParallelArrays.ChunkAction)
+ */
+default int parallelCount(${annotation.nonnull} final ${arrayType} array, final int grainSize) {
+    Objects.requireNonNull(array);
+    final int[] counts = new int[ParallelArrays.chunkCount(array.length, grainSize)];
+    ParallelArrays.forEachChunk(array.length, grainSize, isThreadSafe(), (chunk, fromIndex, toIndex) -> {
+        int count = 0;
+        for (int i = fromIndex; i < toIndex; i++) {
+            count += ${lambda.method}(array[i]) ? 1 : 0;
+        }
+        counts[chunk] = count;
+    });
+    int count = 0;
+    for (final int chunkCount : counts) {
+        count += chunkCount;
+    }
+    return count;
+}
+</#macro>
+
+<#-- a helper macro to centralize select method and to avoid unnecessary indenting -->
+<#macro selectMethod>
+/**
+ * Returns the indices of the elements of the given array which match this ${lambda.type.simpleName} in ascending
+ * order.
+ *
+ * @param array The array whose elements are tested by this ${lambda.type.simpleName}
+ * @return The indices of the elements of the given array which match this ${lambda.type.simpleName}.
+ * @throws NullPointerException If given argument is {@code null}
+ * @see #select(${arrayType}, int[])
+ * @see #parallelSelect(${arrayType})
+ */
+${annotation.nonnull}
+default int[] select(${annotation.nonnull} final ${arrayType} array) {
+    Objects.requireNonNull(array);
+    final int[] selection = new int[array.length];
+    return Arrays.copyOf(selection, select(array, selection));
+}
+</#macro>
+
+<#-- a helper macro to centralize select method with buffer and to avoid unnecessary indenting -->
+<#macro selectToBufferMethod>
+/**
+ * Stores the indices of the elements of the given array which match this ${lambda.type.simpleName} in ascending order
+ * at the beginning of the given selection array and returns their number. The elements of the selection array beyond
+ * the returned number are undefined.
+ *
+ * @param array The array whose elements are tested by this ${lambda.type.simpleName}
+ * @param selection The array to store the indices in, which must be at least as long as the given array
+ * @return The number of indices stored in the given selection array.
+ * @throws NullPointerException If one of the given arguments is {@code null}
+ * @throws IllegalArgumentException If the selection array is shorter than the given array
+ * @implNote This implementation stores the index of each element unconditionally and advances the number of selected
+ * indices by the result of the test, so the loop itself is free of data dependent branches.
+ */
+default int select(${annotation.nonnull} final ${arrayType} array, ${annotation.nonnull} final int[] selection) {
+    Objects.requireNonNull(array);
+    Objects.requireNonNull(selection);
+    ParallelArrays.lengthCheck(array.length, selection.length);
+    int count = 0;
+    for (int i = 0; i < array.length; i++) {
+        selection[count] = i;
+        count += ${lambda.method}(array[i]) ? 1 : 0;
+    }
+    return count;
+}
+</#macro>
+
+<#-- a helper macro to centralize parallelSelect method and to avoid unnecessary indenting -->
+<#macro parallelSelectMethod>
+/**
+ * Returns the indices of the elements of the given array which match this ${lambda.type.simpleName} in ascending
+ * order. The elements are tested in parallel, whereas the array is split into chunks of the {@link
+ * ParallelArrays#defaultGrainSize(boolean) default grain size}, which is smaller if this ${lambda.type.simpleName} is marked as {@link Expensive} (see {@link #isExpensive()}).
+ *
+ * @param array The array whose elements are tested by this ${lambda.type.simpleName}
+ * @return The indices of the elements of the given array which match this ${lambda.type.simpleName}.
+ * @throws NullPointerException If given argument is {@code null}
+ * @apiNote This ${lambda.type.simpleName} is only applied concurrently by multiple threads, if it is marked as {@link
+ * ThreadSafe} (see {@link #isThreadSafe()}). Otherwise the chunks are processed one after another by the calling
+ * thread.
+ * @see #parallelSelect(${arrayType}, int)
+ */
+${annotation.nonnull}
+default int[] parallelSelect(${annotation.nonnull} final ${arrayType} array) {
+    return parallelSelect(array, ParallelArrays.defaultGrainSize(isExpensive()));
+}
+</#macro>
+
+<#-- a helper macro to centralize parallelSelect method with grain size and to avoid unnecessary indenting -->
+<#macro parallelSelectWithGrainSizeMethod>
+/**
+ * Returns the indices of the elements of the given array which match this ${lambda.type.simpleName} in ascending
+ * order. The elements are tested in parallel, whereas the array is split into chunks of the given grain size, which
+ * are processed by the {@link ForkJoinPool#commonPool()}.
+ *
+ * @param array The array whose elements are tested by this ${lambda.type.simpleName}
+ * @param grainSize The maximum number of elements to be tested sequentially by one task
+ * @return The indices of the elements of the given array which match this ${lambda.type.simpleName}.
+ * @throws NullPointerException If given argument is {@code null}
+ * @throws IllegalArgumentException If the given grain size is not positive
+ * @apiNote This ${lambda.type.simpleName} is only applied concurrently by multiple threads, if it is marked as {@link
+ * ThreadSafe} (see {@link #isThreadSafe()}). Otherwise the chunks are processed one after another by the calling
+ * thread.
+ * @implNote This implementation stores the selected indices of each chunk at the beginning of the chunk in a buffer
+ * as long as the given array, which are then moved together in chunk order. So each element is tested only once.
+ * @see ParallelArrays#compactChunks(Object, int[], int)
+ */
+${annotation.nonnull}
+default int[] parallelSelect(${annotation.nonnull} final ${arrayType} array, final int grainSize) {
+    Objects.requireNonNull(array);
+    final int[] selection = new int[array.length];
+    final int[] counts = new int[ParallelArrays.chunkCount(array.length, grainSize)];
+    ParallelArrays.forEachChunk(array.length, grainSize, isThreadSafe(), (chunk, fromIndex, toIndex) -> {
+        int count = fromIndex;
+        for (int i = fromIndex; i < toIndex; i++) {
+            selection[count] = i;
+            count += ${lambda.method}(array[i]) ? 1 : 0;
+        }
+        counts[chunk] = count - fromIndex;
+    });
+    return Arrays.copyOf(selection, ParallelArrays.compactChunks(selection, counts, grainSize));
+}
+</#macro>
+
+<#-- a helper macro to centralize filter method and to avoid unnecessary indenting -->
+<#macro filterMethod>
+/**
+ * Returns the elements of the given array which match this ${lambda.type.simpleName} in their original order.
+ *
+ * @param array The array whose elements are tested by this ${lambda.type.simpleName}
+ * @return The elements of the given array which match this ${lambda.type.simpleName}.
+ * @throws NullPointerException If given argument is {@code null}
+ * @see #filter(${arrayType}, ${arrayType})
+ * @see #parallelFilter(${arrayType})
+ */
+${annotation.nonnull}
+default ${arrayType} filter(${annotation.nonnull} final ${arrayType} array) {
+    Objects.requireNonNull(array);
+    final ${arrayType} dst = new ${elementType}[array.length];
+    return Arrays.copyOf(dst, filter(array, dst));
+}
+</#macro>
+
+<#-- a helper macro to centralize filter method with buffer and to avoid unnecessary indenting -->
+<#macro filterToBufferMethod>
+/**
+ * Stores the elements of the given array which match this ${lambda.type.simpleName} in their original order at the
+ * beginning of the given destination array and returns their number. The elements of the destination array beyond the
+ * returned number are undefined.
+ *
+ * @param array The array whose elements are tested by this ${lambda.type.simpleName}
+ * @param dst The array to store the matching elements in, which must be at least as long as the given array
+ * @return The number of elements stored in the given destination array.
+ * @throws NullPointerException If one of the given arguments is {@code null}
+ * @throws IllegalArgumentException If the destination array is shorter than the given array
+ * @implNote This implementation stores each element unconditionally and advances the number of matching elements by
+ * the result of the test, so the loop itself is free of data dependent branches.
+ */
+default int filter(${annotation.nonnull} final ${arrayType} array, ${annotation.nonnull} final ${arrayType} dst) {
+    Objects.requireNonNull(array);
+    Objects.requireNonNull(dst);
+    ParallelArrays.lengthCheck(array.length, dst.length);
+    int count = 0;
+    for (final ${elementType} element : array) {
+        dst[count] = element;
+        count += ${lambda.method}(element) ? 1 : 0;
+    }
+    return count;
+}
+</#macro>
+
+<#-- a helper macro to centralize parallelFilter method and to avoid unnecessary indenting -->
+<#macro parallelFilterMethod>
+/**
+ * Returns the elements of the given array which match this ${lambda.type.simpleName} in their original order. The
+ * elements are tested in parallel, whereas the array is split into chunks of the {@link
+ * ParallelArrays#defaultGrainSize(boolean) default grain size}, which is smaller if this ${lambda.type.simpleName} is marked as {@link Expensive} (see {@link #isExpensive()}).
+ *
+ * @param array The array whose elements are tested by this ${lambda.type.simpleName}
+ * @return The elements of the given array which match this ${lambda.type.simpleName}.
+ * @throws NullPointerException If given argument is {@code null}
+ * @apiNote This ${lambda.type.simpleName} is only applied concurrently by multiple threads, if it is marked as {@link
+ * ThreadSafe} (see {@link #isThreadSafe()}). Otherwise the chunks are processed one after another by the calling
+ * thread.
+ * @see #parallelFilter(${arrayType}, int)
+ */
+${annotation.nonnull}
+default ${arrayType} parallelFilter(${annotation.nonnull} final ${arrayType} array) {
+    return parallelFilter(array, ParallelArrays.defaultGrainSize(isExpensive()));
+}
+</#macro>
+
+<#-- a helper macro to centralize parallelFilter method with grain size and to avoid unnecessary indenting -->
+<#macro parallelFilterWithGrainSizeMethod>
+/**
+ * Returns the elements of the given array which match this ${lambda.type.simpleName} in their original order. The
+ * elements are tested in parallel, whereas the array is split into chunks of the given grain size, which are
+ * processed by the {@link ForkJoinPool#commonPool()}.
+ *
+ * @param array The array whose elements are tested by this ${lambda.type.simpleName}
+ * @param grainSize The maximum number of elements to be tested sequentially by one task
+ * @return The elements of the given array which match this ${lambda.type.simpleName}.
+ * @throws NullPointerException If given argument is {@code null}
+ * @throws IllegalArgumentException If the given grain size is not positive
+ * @apiNote This ${lambda.type.simpleName} is only applied concurrently by multiple threads, if it is marked as {@link
+ * ThreadSafe} (see {@link #isThreadSafe()}). Otherwise the chunks are processed one after another by the calling
+ * thread.
+ * @implNote This implementation stores the matching elements of each chunk at the beginning of the chunk in a buffer
+ * as long as the given array, which are then moved together in chunk order. So each element is tested only once.
+ * @see ParallelArrays#compactChunks(Object, int[], int)
+ */
+${annotation.nonnull}
+default ${arrayType} parallelFilter(${annotation.nonnull} final ${arrayType} array, final int grainSize) {
+    Objects.requireNonNull(array);
+    final ${arrayType} dst = new ${elementType}[array.length];
+    final int[] counts = new int[ParallelArrays.chunkCount(array.length, grainSize)];
+    ParallelArrays.forEachChunk(array.length, grainSize, isThreadSafe(), (chunk, fromIndex, toIndex) -> {
+        int count = fromIndex;
+        for (int i = fromIndex; i < toIndex; i++) {
+            final ${elementType} element = array[i];
+            dst[count] = element;
+            count += ${lambda.method}(element) ? 1 : 0;
+        }
+        counts[chunk] = count - fromIndex;
+    });
+    return Arrays.copyOf(dst, ParallelArrays.compactChunks(dst, counts, grainSize));
+}
+</#macro>
+<#-- @formatter:on -->
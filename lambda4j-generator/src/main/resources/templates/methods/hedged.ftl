@@ -0,0 +1,55 @@
+<#-- @formatter:off -->
+<#import "../utils/helpers.ftl" as helpers>
+
+<#-- print only if lambda is a function or supplier -->
+<#if LambdaUtils.isOfTypeFunction(lambda) || LambdaUtils.isOfTypeSupplier(lambda)>
+    <#-- print methods -->
+    <@.namespace.hedgedMethod/>
+    <@.namespace.hedgedHedgerMethod/>
+</#if>
+
+<#-- a helper macro to centralize hedged method and to avoid unnecessary indenting -->
+<#macro hedgedMethod>
+/**
+ * Returns a composed {@link ${lambda.name}} that applies this ${lambda.type.simpleName} to its input on the given executor and
+ * launches another call with the same input if no call has completed after the given delay, up to the given maximum number
+ * of hedges. The first successful result is returned and all other calls are cancelled. As this ${lambda.type.simpleName} may
+ * be applied more than once for each input, it should be idempotent.
+ *
+ * @param delay The delay after which another call is launched, if no call has completed yet
+ * @param maxHedges The maximum number of hedges launched for each call in addition to the first call
+ * @param executor The executor to apply this ${lambda.type.simpleName} with
+ * @return A composed {@code ${lambda.name}} that applies this ${lambda.type.simpleName} to its input on the given executor and
+ * launches hedged calls if no call has completed after the given delay.
+ * @throws NullPointerException If one of the given arguments is {@code null}
+ * @throws IllegalArgumentException If given delay or given number of hedges is negative
+ * @see #hedged(Hedger)
+ */
+${annotation.nonnull}
+default ${lambda.name}${genericParameterTypeString} hedged(${annotation.nonnull} final Duration delay, final int maxHedges, ${annotation.nonnull} final Executor executor) {
+    return hedged(Hedger.of(delay, maxHedges, executor));
+}
+</#macro>
+
+<#-- a helper macro to centralize hedged method with hedger and to avoid unnecessary indenting -->
+<#macro hedgedHedgerMethod>
+/**
+ * Returns a composed {@link ${lambda.name}} that applies this ${lambda.type.simpleName} to its input using the given
+ * {@link Hedger}. The hedger records the latencies of its winning calls, so a hedger shared by several calls may be used
+ * to pick the hedging delay from an observed latency percentile (f.e. using {@link Hedger#ofPercentile(double, Duration, int,
+ * Executor)}). If all calls fail, the {@link Throwable} of the last failed call is rethrown as-is from the composed
+ * ${lambda.type.simpleName}.
+ *
+ * @param hedger The hedger which launches the hedged calls of this ${lambda.type.simpleName}
+ * @return A composed {@code ${lambda.name}} that applies this ${lambda.type.simpleName} to its input using the given
+ * {@code Hedger}.
+<#include "../javadoc/throwsNullPointerException.ftl">
+ * @see Hedger#call(ThrowableSupplier)
+ */
+${annotation.nonnull}
+default ${lambda.name}${genericParameterTypeString} hedged(${annotation.nonnull} final Hedger hedger) {
+    Objects.requireNonNull(hedger);
+    return (${parameterNameString}) -> hedger.call(() -> this.${lambda.method}(${parameterNameString}));
+}
+</#macro>
+<#-- @formatter:on -->
@@ -26,24 +26,22 @@ ${types.buildParameterType(lambda.returnType)} ${lambda.method}(${parameterStrin
  * @apiNote Overrides the {@link ${jdkLambda.name}#${jdkLambda.method}(${parameterSimpleTypeString})} method by using a redefinition as default method. This
  * implementation calls the {@link #${lambda.method}(${parameterSimpleTypeString})} method of this function and catches the eventually thrown
  * {@link Throwable} from it. If it is of type {@link RuntimeException} or {@link Error} it is rethrown as is. Other
- * {@code Throwable} types are wrapped in a {@link ThrownByFunctionalInterfaceException}.
+ * {@code Throwable} types are wrapped in a {@link ThrownByFunctionalInterfaceException} using {@link ThrowableUtils#nest(Throwable)}.
  */
 @Override
 default ${types.buildParameterType(jdkLambda.returnType)} ${jdkLambda.method}(${parameterString}) {
-    // TODO: Remove commented code below
-    /*try {
-         ${helpers.printReturnIfNotVoid()} this.${lambda.method}(${parameterNameString});
+    try {
+        ${helpers.printReturnIfNotVoid()} this.${lambda.method}(${parameterNameString});
     } catch (RuntimeException | Error e) {
         throw e;
     } catch (Throwable throwable) {
-        throw new ThrownByFunctionalInterfaceException(throwable.getMessage(), throwable);
-    }*/
-    ${helpers.printReturnIfNotVoid()} nest().${jdkLambda.method}(${parameterNameString});
+        throw ThrowableUtils.nest(throwable);
+    }
 }
 </#if>
 
-<#-- print tupled apply only if lambda has arity greater than 2 and at least two generics -->
-<#if (lambda.arity >= 2) && !helpers.isPrimitive(lambda.firstInputType) && !helpers.isPrimitive(lambda.secondInputType)>
+<#-- print tupled apply only if lambda has arity greater than 2 (but not greater than 3) and at least two generics -->
+<#if (lambda.arity >= 2) && (lambda.arity <= 3) && !helpers.isPrimitive(lambda.firstInputType) && !helpers.isPrimitive(lambda.secondInputType)>
 /**
  * Applies this ${lambda.type.simpleName} to the given tuple.
  *
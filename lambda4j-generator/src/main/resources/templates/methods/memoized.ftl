@@ -10,42 +10,73 @@
             <#-- prepare all arguments for memoized method -->
             <#assign returnType = types.buildGenericParameterType(lambda.returnType) />
             <#-- print memoized method -->
-            <@.namespace.memoizedMethodOnlySupplier returnType/>
+            <#assign cacheCodec = .namespace.buildCodec(lambda.returnType) />
+            <@.namespace.memoizedMethodOnlySupplier returnType cacheCodec/>
         <#--</#if>-->
     <#else>
         <#-- prepare all arguments for memoized method -->
         <#assign returnType = types.buildParameterType(lambda.returnType) />
         <#assign cacheGenericString = .namespace.buildCacheGenericStringKeyPart() + ", " + types.buildGenericParameterType(lambda.returnType) />
+        <#assign cacheKeyCodec = .namespace.buildCacheKeyCodec() />
+        <#assign cacheValueCodec = .namespace.buildCodec(lambda.returnType) />
         <#assign cacheComputeIfAbsentKey = .namespace.buildComputeIfAbsentKey(types.buildParameterName(lambda.firstInputType!""), types.buildParameterName(lambda.secondInputType!""), types.buildParameterName(lambda.thirdInputType!"")) />
         <#assign cacheComputeIfAbsentMappingFunction = lambda.throwable?then("ThrowableFunction.of(", "") + .namespace.buildComputeIfAbsentMappingFunction() + lambda.throwable?then(")", "")/>
         <#-- print memoized method -->
-        <@.namespace.memoizedMethod returnType cacheGenericString cacheComputeIfAbsentKey cacheComputeIfAbsentMappingFunction/>
+        <@.namespace.memoizedMethod returnType cacheGenericString cacheKeyCodec cacheValueCodec cacheComputeIfAbsentKey cacheComputeIfAbsentMappingFunction/>
     </#if>
 </#if>
 
 <#-- a helper macro to centralize mmemoized method and to avoid unnecessary indenting -->
-<#macro memoizedMethod returnType cacheGenericString cacheComputeIfAbsentKey cacheComputeIfAbsentMappingFunction>
+<#macro memoizedMethod returnType cacheGenericString cacheKeyCodec cacheValueCodec cacheComputeIfAbsentKey cacheComputeIfAbsentMappingFunction>
 /**
  * Returns a memoized (caching) version of this {@link ${lambda.name}}. Whenever it is called, the mapping between the input parameter${helpers.s()}
  * and the return value is preserved in a cache, making subsequent calls returning the memoized value instead of computing the return value again.
  * <p>
  * Unless the ${lambda.type.simpleName} and therefore the used cache will be garbage-collected, it will keep all memoized values forever.
+ * <p>
+ * The returned memoized ${lambda.type.simpleName} is serializable, if this ${lambda.type.simpleName} is serializable. Its memoized values are not written
+ * when it gets serialized, so the deserialized ${lambda.type.simpleName} starts with an empty cache.
  *
  * @return A memoized (caching) version of this {@code ${lambda.name}}.
  * @implSpec This implementation does not allow the input parameter${helpers.s()} or return value to be {@code null} for the
  * resulting memoized ${lambda.type.simpleName}, as the cache used internally does not permit {@code null} keys or values.
  * @implNote The returned memoized ${lambda.type.simpleName} can be safely used concurrently from multiple threads which makes it thread-safe.
+ * @see #memoized(boolean)
  */
 ${annotation.nonnull}
 default ${lambda.name}${genericParameterTypeString} memoized() {
+    return memoized(false);
+}
+
+/**
+ * Returns a memoized (caching) version of this {@link ${lambda.name}}. Whenever it is called, the mapping between the input parameter${helpers.s()}
+ * and the return value is preserved in a cache, making subsequent calls returning the memoized value instead of computing the return value again.
+ * <p>
+ * Unless the ${lambda.type.simpleName} and therefore the used cache will be garbage-collected, it will keep all memoized values forever.
+ * <p>
+ * The returned memoized ${lambda.type.simpleName} is serializable, if this ${lambda.type.simpleName} is serializable. If {@code serializeCache} is
+ * {@code true}, a snapshot of all memoized values is written when it gets serialized, so the deserialized ${lambda.type.simpleName} starts warm.
+ * Otherwise the deserialized ${lambda.type.simpleName} starts with an empty cache. Primitive values are thereby written in their binary form.
+ *
+ * @param serializeCache {@code true} if the memoized values should be written when the memoized ${lambda.type.simpleName} gets serialized,
+ * {@code false} otherwise
+ * @return A memoized (caching) version of this {@code ${lambda.name}}.
+ * @implSpec This implementation does not allow the input parameter${helpers.s()} or return value to be {@code null} for the
+ * resulting memoized ${lambda.type.simpleName}, as the cache used internally does not permit {@code null} keys or values.
+ * @implNote The returned memoized ${lambda.type.simpleName} can be safely used concurrently from multiple threads which makes it thread-safe.
+ * If this ${lambda.type.simpleName} is already memoized, it is returned as-is regardless of {@code serializeCache}.
+ * @see MemoizationCache
+ */
+${annotation.nonnull}
+default ${lambda.name}${genericParameterTypeString} memoized(final boolean serializeCache) {
     if (isMemoized()) {
         return this;
     } else {
-        final Map<${cacheGenericString}> cache = new ConcurrentHashMap<>();
-        final Object lock = new Object();
+        final Codec<${.namespace.buildCacheGenericStringKeyPart()}> keyCodec = ${cacheKeyCodec};
+        final MemoizationCache<${cacheGenericString}> cache = MemoizationCache.of(keyCodec, ${cacheValueCodec}, serializeCache);
         return (${lambda.name}${genericParameterTypeString} & Memoized) (${parameterNameString}) -> {
             final ${returnType} returnValue;
-            synchronized (lock) {
+            synchronized (cache) {
                 returnValue = cache.computeIfAbsent(${cacheComputeIfAbsentKey}, ${cacheComputeIfAbsentMappingFunction});
             }
             return returnValue;
@@ -55,24 +86,52 @@ default ${lambda.name}${genericParameterTypeString} memoized() {
 </#macro>
 
 <#-- a helper macro to centralize andThen method and to avoid unnecessary indenting but only for suppliers -->
-<#macro memoizedMethodOnlySupplier returnType>
+<#macro memoizedMethodOnlySupplier returnType cacheCodec>
 /**
  * Returns a memoized (caching) version of this {@link ${lambda.name}}. Whenever it is called, the return value is preserved in a cache,
  * making subsequent calls returning the memoized value instead of computing the return value again.
  * <p>
  * Unless the ${lambda.type.simpleName} and therefore the used cache will be garbage-collected, it will keep all memoized values forever.
+ * <p>
+ * The returned memoized ${lambda.type.simpleName} is serializable, if this ${lambda.type.simpleName} is serializable. Its memoized value is not written
+ * when it gets serialized, so the deserialized ${lambda.type.simpleName} starts with an empty cache.
  *
  * @return A memoized (caching) version of this {@code ${lambda.name}}.
  * @implSpec This implementation does not allow the return value to be {@code null} for the resulting memoized ${lambda.type.simpleName},
  * as the cache used internally does not permit {@code null} values.
  * @implNote The returned memoized ${lambda.type.simpleName} can be safely used concurrently from multiple threads which makes it thread-safe.
+ * @see #memoized(boolean)
  */
 ${annotation.nonnull}
 default ${lambda.name}${genericParameterTypeString} memoized() {
+    return memoized(false);
+}
+
+/**
+ * Returns a memoized (caching) version of this {@link ${lambda.name}}. Whenever it is called, the return value is preserved in a cache,
+ * making subsequent calls returning the memoized value instead of computing the return value again.
+ * <p>
+ * Unless the ${lambda.type.simpleName} and therefore the used cache will be garbage-collected, it will keep all memoized values forever.
+ * <p>
+ * The returned memoized ${lambda.type.simpleName} is serializable, if this ${lambda.type.simpleName} is serializable. If {@code serializeCache} is
+ * {@code true}, the memoized value is written when it gets serialized, so the deserialized ${lambda.type.simpleName} starts warm. Otherwise the
+ * deserialized ${lambda.type.simpleName} starts with an empty cache. Primitive values are thereby written in their binary form.
+ *
+ * @param serializeCache {@code true} if the memoized value should be written when the memoized ${lambda.type.simpleName} gets serialized,
+ * {@code false} otherwise
+ * @return A memoized (caching) version of this {@code ${lambda.name}}.
+ * @implSpec This implementation does not allow the return value to be {@code null} for the resulting memoized ${lambda.type.simpleName},
+ * as the cache used internally does not permit {@code null} values.
+ * @implNote The returned memoized ${lambda.type.simpleName} can be safely used concurrently from multiple threads which makes it thread-safe.
+ * If this ${lambda.type.simpleName} is already memoized, it is returned as-is regardless of {@code serializeCache}.
+ * @see MemoizationValue
+ */
+${annotation.nonnull}
+default ${lambda.name}${genericParameterTypeString} memoized(final boolean serializeCache) {
     if (isMemoized()) {
         return this;
     } else {
-        AtomicReference<${returnType}> cache = new AtomicReference<>();
+        final MemoizationValue<${returnType}> cache = MemoizationValue.of(${cacheCodec}, serializeCache);
         return (${lambda.name}${genericParameterTypeString} & Memoized) () -> {
             ${returnType} returnValue = cache.get();
             if (returnValue == null) {
@@ -90,6 +149,28 @@ default ${lambda.name}${genericParameterTypeString} memoized() {
 }
 </#macro>
 
+<#-- a helper function which builds the codec for the given type -->
+<#function buildCodec type>
+    <#local ret = "Codec.ofObject()">
+    <#if helpers.isPrimitive(type)>
+        <#local ret = "Codec.of" + type.typeSimpleName?cap_first + "()">
+    </#if>
+    <#return ret>
+</#function>
+
+<#-- a helper function which builds the codec for the cache key -->
+<#function buildCacheKeyCodec target = lambda>
+    <#local ret = "">
+    <#if (target.arity == 1)>
+        <#local ret = .namespace.buildCodec(target.firstInputType)>
+    <#elseif (target.arity == 2)>
+        <#local ret = "Codec.ofPair(" + .namespace.buildCodec(target.firstInputType) + ", " + .namespace.buildCodec(target.secondInputType) + ")">
+    <#elseif (target.arity == 3)>
+        <#local ret = "Codec.ofTriple(" + .namespace.buildCodec(target.firstInputType) + ", " + .namespace.buildCodec(target.secondInputType) + ", " + .namespace.buildCodec(target.thirdInputType) + ")">
+    </#if>
+    <#return ret>
+</#function>
+
 <#-- a helper function which builds the generic cache string key part -->
 <#function buildCacheGenericStringKeyPart target = lambda>
     <#local ret = "">
@@ -1,4 +1,6 @@
 <#-- @formatter:off -->
+<#import "../utils/helpers.ftl" as helpers>
+<#import "../utils/throwable.ftl" as throwable>
 
 <#-- parse only if lambda is of type predicate -->
 <#if LambdaUtils.isOfTypePredicate(lambda)>
@@ -11,10 +13,29 @@
  * Returns a {@link ${lambda.name}} that represents the logical negation of this one.
  *
  * @return A {@code ${lambda.name}} that represents the logical negation of this one.
+ * @implNote Negating the returned ${lambda.type.simpleName} again returns this ${lambda.type.simpleName} instead of
+ * wrapping it twice.<#if !lambda.throwable> If this ${lambda.type.simpleName} is constant (f.e. created by {@link #alwaysTrue()}), the
+ * opposite constant ${lambda.type.simpleName} is returned.</#if>
  */
 ${annotation.nonnull}
 default ${lambda.name}${genericParameterTypeString} negate() {
-    return (${parameterNameString}) -> !${lambda.method}(${parameterNameString});
+<#if !lambda.throwable>
+    if (this instanceof Constant) {
+        return ${lambda.method}(${helpers.defaultArgumentString()}) ? alwaysFalse() : alwaysTrue();
+    }
+</#if>
+    return new ${lambda.name}${genericParameterTypeString}() {
+        @Override
+        public boolean ${lambda.method}(${parameterString}) <@throwable.printThrowableDeclaration/> {
+            return !${lambda.name}.this.${lambda.method}(${parameterNameString});
+        }
+
+        ${annotation.nonnull}
+        @Override
+        public ${lambda.name}${genericParameterTypeString} negate() {
+            return ${lambda.name}.this;
+        }
+    };
 }
 </#macro>
 <#-- @formatter:on -->
\ No newline at end of file
@@ -17,16 +17,21 @@
  * Returns a composed {@link ${outputLambda.name}} that applies this ${lambda.type.simpleName} to its input and nests the
  * thrown {@link Throwable} from it. The {@code Throwable} is nested (wrapped) in a {@link ThrownByFunctionalInterfaceException},
  * which is constructed from the thrown {@code Throwable}s message and the thrown {@code Throwable} itself.
+ * <p>
+ * If stack traces of nested throwables are disabled process-wide using {@link ThrowableUtils#setStackTraceEnabled(boolean)},
+ * the {@code Throwable} is nested in a {@link StacklessThrownByFunctionalInterfaceException} instead. To nest it without
+ * stack trace for a single ${lambda.type.simpleName} only, {@code nest(StacklessThrownByFunctionalInterfaceException::new)} may be used.
  *
  * @return A composed {@link ${outputLambda.name}} that applies this ${lambda.type.simpleName} to its input and nests the
  * thrown {@code Throwable} from it.
  * @implNote If thrown {@code Throwable} is of type {@link Error} it is thrown as-is and thus not nested.
  * @see #nest(Function)
  * @see ThrownByFunctionalInterfaceException
+ * @see ThrowableUtils#nest(Throwable)
  */
 ${annotation.nonnull}
 default ${outputLambda.name}${types.buildGenericParameterTypeString(outputLambda)} nest() {
-    return nest(throwable -> new ThrownByFunctionalInterfaceException(throwable.getMessage(), throwable));
+    return nest(ThrowableUtils::nest);
 }
 </#macro>
 
@@ -0,0 +1,124 @@
+<#-- @formatter:off -->
+<#import "../utils/helpers.ftl" as helpers>
+<#import "../utils/types.ftl" as types>
+
+<#-- print only if lambda is a consumer or function -->
+<#if LambdaUtils.isOfTypeConsumer(lambda) || LambdaUtils.isOfTypeFunction(lambda)>
+    <#assign isVoid = LambdaUtils.isOfTypeConsumer(lambda)>
+    <#-- search for correct non-throwable lambda which gets lambda inputs and returns object output -->
+    <#assign outputLambda = LambdaUtils.searchByInputTypesAndReturnType(LambdaUtils.getFunctionType(), lambda.arity, lambda.firstInputType, lambda.secondInputType, lambda.thirdInputType, Object, false, false)>
+    <#assign futureType = "CompletableFuture<" + isVoid?then("Void", types.buildGenericParameterType(lambda.returnType)) + ">">
+    <#-- print methods -->
+    <@.namespace.rateLimitedMethod/>
+    <@.namespace.rateLimitedLimiterMethod/>
+    <#if isVoid>
+        <#-- search for correct predicate which gets lambda inputs and tells if the input was accepted -->
+        <#assign predicateLambda = (LambdaUtils.searchByInputTypesAndReturnType(LambdaUtils.getPredicateType(), lambda.arity, lambda.firstInputType, lambda.secondInputType, lambda.thirdInputType, boolean, lambda.throwable, false))!"">
+        <#if predicateLambda?has_content>
+            <@.namespace.rateLimitedOrDropMethod predicateLambda/>
+        </#if>
+    </#if>
+    <@.namespace.rateLimitedAsyncMethod outputLambda futureType isVoid/>
+</#if>
+
+<#-- a helper macro to centralize rateLimited method and to avoid unnecessary indenting -->
+<#macro rateLimitedMethod>
+/**
+ * Returns a composed {@link ${lambda.name}} that applies this ${lambda.type.simpleName} to its input at most the given number of
+ * times per second. If calls of the composed ${lambda.type.simpleName} arrive faster, the calling thread is blocked until its
+ * call is permitted.
+ *
+ * @param permitsPerSecond The number of calls per second
+ * @return A composed {@code ${lambda.name}} that applies this ${lambda.type.simpleName} to its input at most the given number of
+ * times per second.
+ * @throws IllegalArgumentException If given argument is not positive
+ * @see #rateLimited(RateLimiter)
+ */
+${annotation.nonnull}
+default ${lambda.name}${genericParameterTypeString} rateLimited(final double permitsPerSecond) {
+    return rateLimited(RateLimiter.of(permitsPerSecond));
+}
+</#macro>
+
+<#-- a helper macro to centralize rateLimited method with rate limiter and to avoid unnecessary indenting -->
+<#macro rateLimitedLimiterMethod>
+/**
+ * Returns a composed {@link ${lambda.name}} that applies this ${lambda.type.simpleName} to its input once a permit of the given
+ * {@link RateLimiter} is acquired. The calling thread is blocked until its call is permitted.
+ *
+ * @param rateLimiter The rate limiter which limits the rate of calls of this ${lambda.type.simpleName}
+ * @return A composed {@code ${lambda.name}} that applies this ${lambda.type.simpleName} to its input once a permit of the given
+ * {@code RateLimiter} is acquired.
+<#include "../javadoc/throwsNullPointerException.ftl">
+ * @see RateLimiter#acquire()
+ */
+${annotation.nonnull}
+default ${lambda.name}${genericParameterTypeString} rateLimited(${annotation.nonnull} final RateLimiter rateLimiter) {
+    Objects.requireNonNull(rateLimiter);
+    return (${parameterNameString}) -> {
+        rateLimiter.acquire();
+    <#if isVoid>
+        this.${lambda.method}(${parameterNameString});
+    <#else>
+        return this.${lambda.method}(${parameterNameString});
+    </#if>
+    };
+}
+</#macro>
+
+<#-- a helper macro to centralize rateLimitedOrDrop method and to avoid unnecessary indenting -->
+<#macro rateLimitedOrDropMethod predicateLambda>
+/**
+ * Returns a {@link ${predicateLambda.name}} that applies this ${lambda.type.simpleName} to its input, if a permit of the given
+ * {@link RateLimiter} is available immediately. Otherwise the input is dropped without blocking. The returned
+ * ${predicateLambda.type.simpleName} tells if the input was accepted.
+ *
+ * @param rateLimiter The rate limiter which limits the rate of calls of this ${lambda.type.simpleName}
+ * @return A {@code ${predicateLambda.name}} that applies this ${lambda.type.simpleName} to its input, if a permit of the given
+ * {@code RateLimiter} is available, and returns {@code true} if so, {@code false} otherwise.
+<#include "../javadoc/throwsNullPointerException.ftl">
+ * @see RateLimiter#tryAcquire()
+ */
+${annotation.nonnull}
+default ${predicateLambda.name}${types.buildGenericParameterTypeString(predicateLambda)} rateLimitedOrDrop(${annotation.nonnull} final RateLimiter rateLimiter) {
+    Objects.requireNonNull(rateLimiter);
+    return (${parameterNameString}) -> {
+        if (!rateLimiter.tryAcquire()) {
+            return false;
+        }
+        this.${lambda.method}(${parameterNameString});
+        return true;
+    };
+}
+</#macro>
+
+<#-- a helper macro to centralize rateLimitedAsync method and to avoid unnecessary indenting -->
+<#macro rateLimitedAsyncMethod outputLambda futureType isVoid>
+/**
+ * Returns a composed {@link ${outputLambda.name}} that applies this ${lambda.type.simpleName} asynchronously to its input using
+ * the given scheduler, once a permit of the given {@link RateLimiter} may be used. No thread is blocked while waiting for the
+ * permit. The {@link CompletableFuture} returned from the composed ${outputLambda.type.simpleName} is completed exceptionally, if
+ * a {@link Throwable} is thrown from this ${lambda.type.simpleName}.
+ *
+ * @param rateLimiter The rate limiter which limits the rate of calls of this ${lambda.type.simpleName}
+ * @param scheduler The scheduler to apply this ${lambda.type.simpleName} with
+ * @return A composed {@code ${outputLambda.name}} that applies this ${lambda.type.simpleName} asynchronously to its input, once a
+ * permit of the given {@code RateLimiter} may be used.
+ * @throws NullPointerException If one of the given arguments is {@code null}
+ * @see RateLimiter#executeAsync(ThrowableSupplier, ScheduledExecutorService)
+ */
+${annotation.nonnull}
+default ${outputLambda.name}${types.buildGenericParameterTypeString(outputLambda, "", "", "", futureType)} rateLimitedAsync(${annotation.nonnull} final RateLimiter rateLimiter, ${annotation.nonnull} final ScheduledExecutorService scheduler) {
+    Objects.requireNonNull(rateLimiter);
+    Objects.requireNonNull(scheduler);
+<#if isVoid>
+    return (${parameterNameString}) -> rateLimiter.executeAsync(() -> {
+        this.${lambda.method}(${parameterNameString});
+        return null;
+    }, scheduler);
+<#else>
+    return (${parameterNameString}) -> rateLimiter.executeAsync(() -> this.${lambda.method}(${parameterNameString}), scheduler);
+</#if>
+}
+</#macro>
+<#-- @formatter:on -->
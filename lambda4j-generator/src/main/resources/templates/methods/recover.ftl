@@ -17,6 +17,9 @@
  * Returns a composed {@link ${outputLambda.name}} that first applies this ${lambda.type.simpleName} to its input, and then applies the
  * {@code recover} operation if a {@link Throwable} is thrown from this one. The {@code recover} operation is represented by a curried
  * operation which is called with throwable information and same argument${helpers.s()} of this ${lambda.type.simpleName}.
+ * <p>
+ * If the {@code recover} operation should dispatch by the class of the thrown {@code Throwable}, a {@link RecoveryTable} may be
+ * used, which resolves the fallback operation only once per {@code Throwable} class.
  *
  * @param recover The operation to apply if this ${lambda.type.simpleName} throws a {@code Throwable}
  * @return A composed {@link ${outputLambda.name}} that first applies this ${lambda.type.simpleName} to its input, and then applies the
@@ -25,6 +28,7 @@
  * @implSpec The implementation checks that the returned enclosing ${enclosingLambda.type.simpleName} from {@code recover} operation is not {@code null}.
  * If it is, then a {@link NullPointerException} with appropriate message is thrown.
  * @implNote If thrown {@code Throwable} is of type {@link Error}, it is thrown as-is and thus not passed to {@code recover} operation.
+ * @see RecoveryTable
  */
 ${annotation.nonnull}
 default ${outputLambda.name}${types.buildGenericParameterTypeString(outputLambda)} recover(${annotation.nonnull} final Function<? super Throwable, ? extends ${enclosingLambda.name}${types.buildGenericParameterTypeStringWithErasure(enclosingLambda)}> recover) {
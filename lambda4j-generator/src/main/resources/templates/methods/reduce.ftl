@@ -0,0 +1,166 @@
+<#-- @formatter:off -->
+<#import "../utils/helpers.ftl" as helpers>
+<#import "../utils/types.ftl" as types>
+
+<#-- parse only if lambda is a non-throwable binary operator with primitive inputs and return -->
+<#if (lambda.arity == 2) && !lambda.throwable && LambdaUtils.isOfTypeOperator(lambda) && helpers.isPrimitive(lambda.returnType)>
+    <#assign elementType = types.buildParameterType(lambda.returnType)>
+    <#assign arrayType = elementType + "[]">
+    <#assign floatingPoint = (elementType == "double") || (elementType == "float")>
+    <#-- print methods -->
+    <@.namespace.reduceMethod/>
+    <@.namespace.parallelReduceMethod/>
+    <@.namespace.parallelReduceWithGrainSizeMethod/>
+    <@.namespace.parallelPrefixMethod/>
+    <@.namespace.parallelPrefixWithGrainSizeMethod/>
+</#if>
+
+<#-- a helper macro to centralize reduce method and to avoid unnecessary indenting -->
+<#macro reduceMethod>
+/**
+ * Reduces the elements of the given array using this ${lambda.type.simpleName}, starting with the given identity value.
+ * The elements are combined from left to right, so the result is
+ * {@code ${lambda.method}(...${lambda.method}(${lambda.method}(identity, array[0]), array[1])..., array[n - 1])}.
+ *
+ * @param array The array whose elements are reduced by this ${lambda.type.simpleName}
+ * @param identity The identity value of this ${lambda.type.simpleName}, which is returned if the array is empty
+ * @return The result of reducing the elements of the given array using this ${lambda.type.simpleName}.
+ * @throws NullPointerException If given argument is {@code null}
+ * @see #parallelReduce(${arrayType}, ${elementType})
+ */
+default ${elementType} reduce(${annotation.nonnull} final ${arrayType} array, final ${elementType} identity) {
+    Objects.requireNonNull(array);
+    ${elementType} result = identity;
+    for (final ${elementType} element : array) {
+        result = ${lambda.method}(result, element);
+    }
+    return result;
+}
+</#macro>
+
+<#-- a helper macro to centralize parallelReduce method and to avoid unnecessary indenting -->
+<#macro parallelReduceMethod>
+/**
+ * Reduces the elements of the given array in parallel using this ${lambda.type.simpleName}, starting each chunk with
+ * the given identity value. The array is split into chunks of the {@link ParallelArrays#defaultGrainSize(boolean) default
+ * grain size}, which is smaller if this ${lambda.type.simpleName} is marked as {@link Expensive} (see {@link #isExpensive()}).
+ *
+ * @param array The array whose elements are reduced by this ${lambda.type.simpleName}
+ * @param identity The identity value of this ${lambda.type.simpleName}, which is returned if the array is empty
+ * @return The result of reducing the elements of the given array using this ${lambda.type.simpleName}.
+ * @throws NullPointerException If given argument is {@code null}
+ * @apiNote This ${lambda.type.simpleName} must be associative and the given identity value must be an identity of
+ * it; otherwise the result differs from {@link #reduce(${arrayType}, ${elementType})}. This ${lambda.type.simpleName}
+ * is only applied concurrently by multiple threads, if it is marked as {@link ThreadSafe} (see {@link
+ * #isThreadSafe()}). Otherwise the chunks are processed one after another by the calling thread.
+ * @see #parallelReduce(${arrayType}, ${elementType}, int)
+ */
+default ${elementType} parallelReduce(${annotation.nonnull} final ${arrayType} array, final ${elementType} identity) {
+    return parallelReduce(array, identity, ParallelArrays.defaultGrainSize(isExpensive()));
+}
+</#macro>
+
+<#-- a helper macro to centralize parallelReduce method with grain size and to avoid unnecessary indenting -->
+<#macro parallelReduceWithGrainSizeMethod>
+/**
+ * Reduces the elements of the given array in parallel using this ${lambda.type.simpleName}, starting each chunk with
+ * the given identity value. The array is split into chunks of the given grain size, which are reduced by the {@link
+ * ForkJoinPool#commonPool()}. The results of the chunks are then combined in chunk order.
+ *
+ * @param array The array whose elements are reduced by this ${lambda.type.simpleName}
+ * @param identity The identity value of this ${lambda.type.simpleName}, which is returned if the array is empty
+ * @param grainSize The maximum number of elements to be reduced sequentially by one task
+ * @return The result of reducing the elements of the given array using this ${lambda.type.simpleName}.
+ * @throws NullPointerException If given argument is {@code null}
+ * @throws IllegalArgumentException If the given grain size is not positive
+ * @apiNote This ${lambda.type.simpleName} must be associative and the given identity value must be an identity of
+ * it; otherwise the result differs from {@link #reduce(${arrayType}, ${elementType})}. This ${lambda.type.simpleName}
+ * is only applied concurrently by multiple threads, if it is marked as {@link ThreadSafe} (see {@link
+ * #isThreadSafe()}). Otherwise the chunks are processed one after another by the calling thread.
+<#if floatingPoint>
+ * @implNote As the chunk boundaries depend only on the length of the array and the given grain size, the elements are
+ * always combined in the same order. So the result is reproducible from run to run for the same grain size, even
+ * though rounding errors may cause it to differ slightly from the result of {@link #reduce(${arrayType},
+ * ${elementType})}.
+</#if>
+ * @see ParallelArrays#forEachChunk(int, int, boolean, ParallelArrays.ChunkAction)
+ */
+default ${elementType} parallelReduce(${annotation.nonnull} final ${arrayType} array, final ${elementType} identity, final int grainSize) {
+    Objects.requireNonNull(array);
+    final ${arrayType} results = new ${elementType}[ParallelArrays.chunkCount(array.length, grainSize)];
+    ParallelArrays.forEachChunk(array.length, grainSize, isThreadSafe(), (chunk, fromIndex, toIndex) -> {
+        ${elementType} result = identity;
+        for (int i = fromIndex; i < toIndex; i++) {
+            result = ${lambda.method}(result, array[i]);
+        }
+        results[chunk] = result;
+    });
+    return reduce(results, identity);
+}
+</#macro>
+
+<#-- a helper macro to centralize parallelPrefix method and to avoid unnecessary indenting -->
+<#macro parallelPrefixMethod>
+/**
+ * Cumulates each element of the given array in place in parallel using this ${lambda.type.simpleName}, so that
+ * {@code array[i]} holds the result of reducing the elements {@code array[0]} to {@code array[i]}. The array is split
+ * into chunks of the {@link ParallelArrays#defaultGrainSize(boolean) default grain size}, which is smaller if this ${lambda.type.simpleName} is marked as {@link Expensive} (see {@link #isExpensive()}).
+ *
+ * @param array The array whose elements are cumulated in place by this ${lambda.type.simpleName}
+ * @throws NullPointerException If given argument is {@code null}
+ * @apiNote This ${lambda.type.simpleName} must be associative. It is only applied concurrently by multiple threads, if
+ * it is marked as {@link ThreadSafe} (see {@link #isThreadSafe()}). Otherwise the chunks are processed one after
+ * another by the calling thread.
+ * @see #parallelPrefix(${arrayType}, int)
+ */
+default void parallelPrefix(${annotation.nonnull} final ${arrayType} array) {
+    parallelPrefix(array, ParallelArrays.defaultGrainSize(isExpensive()));
+}
+</#macro>
+
+<#-- a helper macro to centralize parallelPrefix method with grain size and to avoid unnecessary indenting -->
+<#macro parallelPrefixWithGrainSizeMethod>
+/**
+ * Cumulates each element of the given array in place in parallel using this ${lambda.type.simpleName}, so that
+ * {@code array[i]} holds the result of reducing the elements {@code array[0]} to {@code array[i]}. The array is split
+ * into chunks of the given grain size, which are processed by the {@link ForkJoinPool#commonPool()}.
+ *
+ * @param array The array whose elements are cumulated in place by this ${lambda.type.simpleName}
+ * @param grainSize The maximum number of elements to be cumulated sequentially by one task
+ * @throws NullPointerException If given argument is {@code null}
+ * @throws IllegalArgumentException If the given grain size is not positive
+ * @apiNote This ${lambda.type.simpleName} must be associative. It is only applied concurrently by multiple threads, if
+ * it is marked as {@link ThreadSafe} (see {@link #isThreadSafe()}). Otherwise the chunks are processed one after
+ * another by the calling thread.
+ * @implNote This implementation first cumulates each chunk on its own, then cumulates the last elements of the chunks
+ * sequentially and finally combines each chunk with the cumulated last element of its preceding chunk.
+<#if floatingPoint>
+ * As the chunk boundaries depend only on the length of the array and the given grain size, the result is
+ * reproducible from run to run for the same grain size.
+</#if>
+ * @see ParallelArrays#forEachChunk(int, int, boolean, ParallelArrays.ChunkAction)
+ */
+default void parallelPrefix(${annotation.nonnull} final ${arrayType} array, final int grainSize) {
+    Objects.requireNonNull(array);
+    ParallelArrays.forEachChunk(array.length, grainSize, isThreadSafe(), (chunk, fromIndex, toIndex) -> {
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            array[i] = ${lambda.method}(array[i - 1], array[i]);
+        }
+    });
+    final int chunkCount = ParallelArrays.chunkCount(array.length, grainSize);
+    final ${arrayType} offsets = new ${elementType}[chunkCount];
+    for (int chunk = 1; chunk < chunkCount; chunk++) {
+        final ${elementType} last = array[chunk * grainSize - 1];
+        offsets[chunk] = chunk == 1 ? last : ${lambda.method}(offsets[chunk - 1], last);
+    }
+    ParallelArrays.forEachChunk(array.length, grainSize, isThreadSafe(), (chunk, fromIndex, toIndex) -> {
+        if (chunk > 0) {
+            final ${elementType} offset = offsets[chunk];
+            for (int i = fromIndex; i < toIndex; i++) {
+                array[i] = ${lambda.method}(offset, array[i]);
+            }
+        }
+    });
+}
+</#macro>
+<#-- @formatter:on -->
@@ -0,0 +1,86 @@
+<#-- @formatter:off -->
+<#import "../utils/helpers.ftl" as helpers>
+<#import "../utils/types.ftl" as types>
+
+<#-- print only if lambda is throwable -->
+<#if lambda.throwable>
+    <#assign isVoid = LambdaUtils.isOfTypeConsumer(lambda) || LambdaUtils.isOfTypeRunnable(lambda) || !lambda.returnType?has_content>
+    <#-- search for correct non-throwable lambda which gets lambda inputs and returns object output, unless lambdas without inputs -->
+    <#if (lambda.arity == 0)>
+        <#assign outputLambda = LambdaUtils.searchByInputTypesAndReturnType(LambdaUtils.getSupplierType(), lambda.arity, lambda.firstInputType, lambda.secondInputType, lambda.thirdInputType, Object, false, false)>
+    <#else>
+        <#assign outputLambda = LambdaUtils.searchByInputTypesAndReturnType(LambdaUtils.getFunctionType(), lambda.arity, lambda.firstInputType, lambda.secondInputType, lambda.thirdInputType, Object, false, false)>
+    </#if>
+    <#assign futureType = "CompletableFuture<" + isVoid?then("Void", types.buildGenericParameterType(lambda.returnType)) + ">">
+    <#-- print methods -->
+    <@.namespace.retryMethod/>
+    <@.namespace.retryAsyncMethod outputLambda futureType/>
+</#if>
+
+<#-- a helper macro to centralize retry method and to avoid unnecessary indenting -->
+<#macro retryMethod>
+/**
+ * Returns a composed {@link ${lambda.name}} that applies this ${lambda.type.simpleName} to its input and retries it according to the
+ * given {@link RetryPolicy}, if a {@link Throwable} is thrown from it. The current thread is blocked for the delay between two
+ * attempts. If the {@code Throwable} is not retried, it is thrown as-is from the composed ${lambda.type.simpleName}, thus the
+ * type of {@code Throwable} thrown from this ${lambda.type.simpleName} is preserved.
+ *
+ * @param policy The policy which defines if and when this ${lambda.type.simpleName} is retried
+ * @return A composed {@code ${lambda.name}} that applies this ${lambda.type.simpleName} to its input and retries it according to
+ * the given {@code RetryPolicy}.
+<#include "../javadoc/throwsNullPointerException.ftl">
+ * @see #retryAsync(RetryPolicy, ScheduledExecutorService)
+ */
+${annotation.nonnull}
+default ${lambda.name}${genericParameterTypeString} retry(${annotation.nonnull} final RetryPolicy policy) {
+    Objects.requireNonNull(policy);
+    return (${parameterNameString}) -> {
+        for (int attempt = 1; ; attempt++) {
+            try {
+            <#if isVoid>
+                this.${lambda.method}(${parameterNameString});
+                return;
+            <#else>
+                return this.${lambda.method}(${parameterNameString});
+            </#if>
+            } catch (Throwable throwable) {
+                if (!policy.awaitRetry(throwable, attempt)) {
+                    throw throwable;
+                }
+            }
+        }
+    };
+}
+</#macro>
+
+<#-- a helper macro to centralize retryAsync method and to avoid unnecessary indenting -->
+<#macro retryAsyncMethod outputLambda futureType>
+/**
+ * Returns a composed {@link ${outputLambda.name}} that applies this ${lambda.type.simpleName} asynchronously to its input using the
+ * given scheduler and retries it according to the given {@link RetryPolicy}, if a {@link Throwable} is thrown from it. The delay
+ * between two attempts does not block a thread, as each retry is scheduled on the given scheduler. The {@link CompletableFuture}
+ * returned from the composed ${outputLambda.type.simpleName} is completed exceptionally with the {@code Throwable} of the last attempt,
+ * if this ${lambda.type.simpleName} is not retried anymore.
+ *
+ * @param policy The policy which defines if and when this ${lambda.type.simpleName} is retried
+ * @param scheduler The scheduler to apply this ${lambda.type.simpleName} with
+ * @return A composed {@code ${outputLambda.name}} that applies this ${lambda.type.simpleName} asynchronously to its input and
+ * retries it according to the given {@code RetryPolicy}.
+ * @throws NullPointerException If one of the given arguments is {@code null}
+ * @see #retry(RetryPolicy)
+ */
+${annotation.nonnull}
+default ${outputLambda.name}${types.buildGenericParameterTypeString(outputLambda, "", "", "", futureType)} retryAsync(${annotation.nonnull} final RetryPolicy policy, ${annotation.nonnull} final ScheduledExecutorService scheduler) {
+    Objects.requireNonNull(policy);
+    Objects.requireNonNull(scheduler);
+<#if isVoid>
+    return (${parameterNameString}) -> policy.executeAsync(() -> {
+        this.${lambda.method}(${parameterNameString});
+        return null;
+    }, scheduler);
+<#else>
+    return (${parameterNameString}) -> policy.executeAsync(() -> this.${lambda.method}(${parameterNameString}), scheduler);
+</#if>
+}
+</#macro>
+<#-- @formatter:on -->
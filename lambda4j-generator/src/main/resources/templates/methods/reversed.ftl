@@ -2,11 +2,16 @@
 <#import "../utils/filters.ftl" as filters>
 <#import "../utils/helpers.ftl" as helpers>
 <#import "../utils/types.ftl" as types>
+<#import "../utils/throwable.ftl" as throwable>
 
-<#-- parse only if lambda is not of type supplier or runnable (void input) and lambda does not get primitive primitive input -->
-<#if !LambdaUtils.isOfTypeSupplier(lambda) && !LambdaUtils.isOfTypeRunnable(lambda) && !helpers.isPrimitiveLambdaInput(lambda)>
-    <#-- build required reversed parameter strings -->
-    <#assign genericParameterTypeStringReversed = .namespace.buildGenericParameterTypeStringReversed()>
+<#-- parse only if lambda is not of type supplier or runnable (void input) and lambda does not get primitive primitive input, unless lambda is a comparator -->
+<#if !LambdaUtils.isOfTypeSupplier(lambda) && !LambdaUtils.isOfTypeRunnable(lambda) && (!helpers.isPrimitiveLambdaInput(lambda) || LambdaUtils.isOfTypeComparator(lambda))>
+    <#-- build required reversed parameter strings (comparators compare arguments of the same type, so generics do not change) -->
+    <#if LambdaUtils.isOfTypeComparator(lambda)>
+        <#assign genericParameterTypeStringReversed = genericParameterTypeString>
+    <#else>
+        <#assign genericParameterTypeStringReversed = .namespace.buildGenericParameterTypeStringReversed()>
+    </#if>
     <#assign parameterNameStringReversed = .namespace.buildParameterNameStringReversed()>
     <#-- print reversed method -->
     <#if (lambda.arity >= 2)>
@@ -19,13 +24,30 @@
 <#-- a helper macro to centralize reversed method and to avoid unnecessary indenting -->
 <#macro reversedMethod genericParameterTypeStringReversed parameterNameStringReversed>
 /**
+<#if LambdaUtils.isOfTypeComparator(lambda)>
+ * Returns a reversed version of this ${lambda.type.simpleName}, which imposes the reverse ordering of this ${lambda.type.simpleName}.
+<#else>
  * Returns a reversed version of this ${lambda.type.simpleName}. This may be useful in recursive context.
+</#if>
  *
  * @return A reversed version of this ${lambda.type.simpleName}.
+ * @implNote Reversing the returned ${lambda.type.simpleName} again returns this ${lambda.type.simpleName} instead of
+ * wrapping it twice.
  */
 ${annotation.nonnull}
 default ${lambda.name}${genericParameterTypeStringReversed} reversed() {
-    return (${parameterNameStringReversed}) -> ${lambda.method}(${parameterNameString});
+    return new ${lambda.name}${genericParameterTypeStringReversed}() {
+        @Override
+        public ${types.buildParameterType(lambda.returnType)} ${lambda.method}(${.namespace.buildParameterStringReversed()}) <@throwable.printThrowableDeclaration/> {
+            ${helpers.printReturnIfNotVoid()} ${lambda.name}.this.${lambda.method}(${parameterNameString});
+        }
+
+        ${annotation.nonnull}
+        @Override
+        public ${lambda.name}${genericParameterTypeString} reversed() {
+            return ${lambda.name}.this;
+        }
+    };
 }
 </#macro>
 
@@ -59,6 +81,17 @@ default ${lambda.name}${genericParameterTypeString} reversed() {
     <#return genericParameterTypeStringReversed>
 </#function>
 
+<#-- a helper function which builds a string representing all typed lambda parameters in reversed order -->
+<#function buildParameterStringReversed>
+    <#local parameters = ([lambda.firstInputType!"", lambda.secondInputType!"", lambda.thirdInputType!""])?reverse>
+    <#local parameters = filters.filterEmpties(parameters)>
+    <#local parameterStrings = []>
+    <#list parameters as parameter>
+        <#local parameterStrings = parameterStrings + [types.buildParameter(parameter)]>
+    </#list>
+    <#return parameterStrings?join(", ")>
+</#function>
+
 <#-- a helper function which builds a string representing all names of lambda parameters in reversed order -->
 <#function buildParameterNameStringReversed>
     <#local parameterNameStringReversed = "">
@@ -0,0 +1,93 @@
+<#-- @formatter:off -->
+
+<#-- parse only if lambda is of type predicate and not throwable -->
+<#if LambdaUtils.isOfTypePredicate(lambda) && !lambda.throwable>
+    <#-- search for correct input lambda which represents the same lambda as this one, but may be from jdk if such one exists -->
+    <#assign inputLambda = LambdaUtils.searchByInputTypesAndReturnType(lambda.type, lambda.arity, lambda.firstInputType, lambda.secondInputType, lambda.thirdInputType, lambda.returnType, lambda.throwable, true)>
+    <#-- print methods -->
+    <@.namespace.adaptiveAndMethod inputLambda/>
+    <@.namespace.adaptiveOrMethod inputLambda/>
+</#if>
+
+<#-- a helper macro to centralize adaptiveAnd method and to avoid unnecessary indenting -->
+<#macro adaptiveAndMethod inputLambda>
+/**
+ * Returns a {@link ${lambda.name}} that represents the short-circuiting logical AND of all given ${inputLambda.type.simpleName}s,
+ * which adapts the order in which the given ${inputLambda.type.simpleName}s are evaluated. Cheap ${inputLambda.type.simpleName}s
+ * which are likely to return {@code false} are evaluated first.
+ * <p>
+ * The given ${inputLambda.type.simpleName}s are only reordered, if all of them are marked as {@link Pure}. Otherwise they
+ * are evaluated in their given order.
+ *
+<#include "../../javadoc/paramGenericInput.ftl">
+ * @param predicates The ${inputLambda.type.simpleName}s to be logically-ANDed
+ * @return A {@code ${lambda.name}} that represents the short-circuiting logical AND of all given ${inputLambda.type.simpleName}s.
+ * @throws NullPointerException If given argument or one of its elements is {@code null}
+ * @implNote The given array is copied, so modifying it afterwards does not affect the returned ${lambda.type.simpleName}.
+ * @see AdaptiveOrder
+ */
+${annotation.nonnull}
+<#if genericParameterTypeString?has_content>
+@SafeVarargs
+</#if>
+static ${genericParameterTypeStringWithThrowableErasure} ${lambda.name}${genericParameterTypeString} adaptiveAnd(${annotation.nonnull} final ${inputLambda.name}${genericParameterTypeStringWithErasure}... predicates) {
+    final List<${inputLambda.name}${genericParameterTypeStringWithErasure}> snapshot = new ArrayList<>(predicates.length);
+    for (final ${inputLambda.name}${genericParameterTypeStringWithErasure} predicate : predicates) {
+        snapshot.add(predicate);
+    }
+    final AdaptiveOrder order = AdaptiveOrder.conjunction(snapshot.toArray());
+    return (${parameterNameString}) -> {
+        if (order.shouldSample()) {
+            return order.sample(index -> snapshot.get(index).${inputLambda.method}(${parameterNameString}));
+        }
+        for (final int index : order.get()) {
+            if (!snapshot.get(index).${inputLambda.method}(${parameterNameString})) {
+                return false;
+            }
+        }
+        return true;
+    };
+}
+</#macro>
+
+<#-- a helper macro to centralize adaptiveOr method and to avoid unnecessary indenting -->
+<#macro adaptiveOrMethod inputLambda>
+/**
+ * Returns a {@link ${lambda.name}} that represents the short-circuiting logical OR of all given ${inputLambda.type.simpleName}s,
+ * which adapts the order in which the given ${inputLambda.type.simpleName}s are evaluated. Cheap ${inputLambda.type.simpleName}s
+ * which are likely to return {@code true} are evaluated first.
+ * <p>
+ * The given ${inputLambda.type.simpleName}s are only reordered, if all of them are marked as {@link Pure}. Otherwise they
+ * are evaluated in their given order.
+ *
+<#include "../../javadoc/paramGenericInput.ftl">
+ * @param predicates The ${inputLambda.type.simpleName}s to be logically-ORed
+ * @return A {@code ${lambda.name}} that represents the short-circuiting logical OR of all given ${inputLambda.type.simpleName}s.
+ * @throws NullPointerException If given argument or one of its elements is {@code null}
+ * @implNote The given array is copied, so modifying it afterwards does not affect the returned ${lambda.type.simpleName}.
+ * @see AdaptiveOrder
+ */
+${annotation.nonnull}
+<#if genericParameterTypeString?has_content>
+@SafeVarargs
+</#if>
+static ${genericParameterTypeStringWithThrowableErasure} ${lambda.name}${genericParameterTypeString} adaptiveOr(${annotation.nonnull} final ${inputLambda.name}${genericParameterTypeStringWithErasure}... predicates) {
+    final List<${inputLambda.name}${genericParameterTypeStringWithErasure}> snapshot = new ArrayList<>(predicates.length);
+    for (final ${inputLambda.name}${genericParameterTypeStringWithErasure} predicate : predicates) {
+        snapshot.add(predicate);
+    }
+    final AdaptiveOrder order = AdaptiveOrder.disjunction(snapshot.toArray());
+    return (${parameterNameString}) -> {
+        if (order.shouldSample()) {
+            return order.sample(index -> snapshot.get(index).${inputLambda.method}(${parameterNameString}));
+        }
+        for (final int index : order.get()) {
+            if (snapshot.get(index).${inputLambda.method}(${parameterNameString})) {
+                return true;
+            }
+        }
+        return false;
+    };
+}
+</#macro>
+<#-- @formatter:on -->
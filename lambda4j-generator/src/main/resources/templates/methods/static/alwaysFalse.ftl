@@ -16,7 +16,7 @@
  */
 ${annotation.nonnull}
 static ${genericParameterTypeStringWithThrowableErasure} ${lambda.name}${genericParameterTypeString} alwaysFalse() {
-    return (${parameterNameString}) -> false;
+    return (${lambda.name}${genericParameterTypeString} & Constant) (${parameterNameString}) -> false;
 }
 </#macro>
 <#-- @formatter:on -->
\ No newline at end of file
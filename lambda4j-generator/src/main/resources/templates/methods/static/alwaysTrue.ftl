@@ -16,7 +16,7 @@
  */
 ${annotation.nonnull}
 static ${genericParameterTypeStringWithThrowableErasure} ${lambda.name}${genericParameterTypeString} alwaysTrue() {
-    return (${parameterNameString}) -> true;
+    return (${lambda.name}${genericParameterTypeString} & Constant) (${parameterNameString}) -> true;
 }
 </#macro>
 <#-- @formatter:on -->
\ No newline at end of file
@@ -0,0 +1,86 @@
+<#-- @formatter:off -->
+<#import "../../utils/helpers.ftl" as helpers>
+<#import "../../utils/throwable.ftl" as throwable>
+<#import "../../utils/types.ftl" as types>
+
+<#-- parse only if lambda is of type comparator with primitive input -->
+<#if LambdaUtils.isOfTypeComparator(lambda) && helpers.isPrimitive(lambda.firstInputType)>
+    <#assign arrayType = types.buildParameterType(lambda.firstInputType) + "[]">
+    <#assign keyType = types.buildParameterType(lambda.firstInputType)>
+    <@.namespace.binarySearchMethod/>
+    <@.namespace.binarySearchRangeMethod/>
+</#if>
+
+<#-- a helper macro to centralize binarySearch method and to avoid unnecessary indenting -->
+<#macro binarySearchMethod>
+/**
+ * Searches the given array for the given key using the binary search algorithm. The array must be sorted according to
+ * the order induced by the given {@link ${lambda.name}} (e.g. by {@link #sort(${arrayType}, ${lambda.name})}) prior to
+ * this call. If it is not sorted, the results are undefined.
+ *
+<#include "../../javadoc/paramGenericInput.ftl">
+ * @param array The array to be searched
+ * @param key The value to be searched for
+ * @param comparator The {@code ${lambda.name}} by which the array is ordered
+ * @return The index of the given key, if it is contained in the array; otherwise {@code (-(insertion point) - 1)}.
+ * The insertion point is the index of the first element greater than the key, or {@code array.length} if all elements
+ * in the array are less than the given key.
+ * @throws NullPointerException If one of the given arguments is {@code null}
+<#include "../../javadoc/throwsThrowable.ftl">
+ * @see #binarySearch(${arrayType}, int, int, ${keyType}, ${lambda.name})
+ */
+static ${genericParameterTypeStringWithThrowableErasure} int binarySearch(${annotation.nonnull} final ${arrayType} array, final ${keyType} key, ${annotation.nonnull} final ${lambda.name}${genericParameterTypeStringWithErasure} comparator) <@throwable.printThrowableDeclaration/> {
+    Objects.requireNonNull(array);
+    return binarySearch(array, 0, array.length, key, comparator);
+}
+</#macro>
+
+<#-- a helper macro to centralize binarySearch method for array ranges and to avoid unnecessary indenting -->
+<#macro binarySearchRangeMethod>
+/**
+ * Searches the given range of the given array for the given key using the binary search algorithm. The range must be
+ * sorted according to the order induced by the given {@link ${lambda.name}} (e.g. by {@link #sort(${arrayType}, int,
+ * int, ${lambda.name})}) prior to this call. If it is not sorted, the results are undefined.
+ *
+<#include "../../javadoc/paramGenericInput.ftl">
+ * @param array The array to be searched
+ * @param fromIndex The index of the first element (inclusive) to be searched
+ * @param toIndex The index of the last element (exclusive) to be searched
+ * @param key The value to be searched for
+ * @param comparator The {@code ${lambda.name}} by which the array is ordered
+ * @return The index of the given key, if it is contained in the given range; otherwise {@code (-(insertion point) -
+ * 1)}. The insertion point is the index of the first element in the range greater than the key, or {@code toIndex} if
+ * all elements in the range are less than the given key.
+ * @throws NullPointerException If one of the given arguments is {@code null}
+ * @throws IllegalArgumentException If {@code fromIndex > toIndex}
+ * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0} or {@code toIndex > array.length}
+<#include "../../javadoc/throwsThrowable.ftl">
+ * @see Arrays#binarySearch(Object[], int, int, Object, Comparator)
+ */
+static ${genericParameterTypeStringWithThrowableErasure} int binarySearch(${annotation.nonnull} final ${arrayType} array, final int fromIndex, final int toIndex, final ${keyType} key, ${annotation.nonnull} final ${lambda.name}${genericParameterTypeStringWithErasure} comparator) <@throwable.printThrowableDeclaration/> {
+    Objects.requireNonNull(array);
+    Objects.requireNonNull(comparator);
+    if (fromIndex > toIndex) {
+        throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+    } else if (fromIndex < 0) {
+        throw new ArrayIndexOutOfBoundsException(fromIndex);
+    } else if (toIndex > array.length) {
+        throw new ArrayIndexOutOfBoundsException(toIndex);
+    }
+    int low = fromIndex;
+    int high = toIndex - 1;
+    while (low <= high) {
+        final int middle = (low + high) >>> 1;
+        final int result = comparator.${lambda.method}(array[middle], key);
+        if (result < 0) {
+            low = middle + 1;
+        } else if (result > 0) {
+            high = middle - 1;
+        } else {
+            return middle;
+        }
+    }
+    return -(low + 1);
+}
+</#macro>
+<#-- @formatter:on -->
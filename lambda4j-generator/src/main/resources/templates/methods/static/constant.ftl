@@ -17,7 +17,7 @@
  */
 ${annotation.nonnull}
 static ${genericParameterTypeStringWithThrowableErasure} ${lambda.name}${genericParameterTypeString} constant(${types.buildParameter(lambda.returnType)}) {
-    return (${parameterNameString}) -> ${types.buildParameterName(lambda.returnType)};
+    return (${lambda.name}${genericParameterTypeString} & Constant) (${parameterNameString}) -> ${types.buildParameterName(lambda.returnType)};
 }
 </#macro>
 <#-- @formatter:on -->
\ No newline at end of file
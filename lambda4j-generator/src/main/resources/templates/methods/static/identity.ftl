@@ -1,6 +1,7 @@
 <#-- @formatter:off -->
 <#import "../../utils/filters.ftl" as filters>
 <#import "../../utils/types.ftl" as types>
+<#import "../../utils/helpers.ftl" as helpers>
 
 <#-- parse only if lambda has arity 1 and return type -->
 <#if lambda.arity == 1 && lambda.returnType?? && lambda.firstInputType?? && (lambda.returnType.equals(lambda.firstInputType))>
@@ -14,10 +15,18 @@
  *
 <@.namespace.javadocGenericInputIdentityMethod/>
  * @return A {@code  ${lambda.name}} that always returns its input argument
+<#if .namespace.isFusable()>
+ * @implNote The returned ${lambda.type.simpleName} is an empty chain of composed ${lambda.type.simpleName}s, so composing it with
+ * another ${lambda.type.simpleName} using {@link #andThen(Function)} or {@link #compose(Function)} returns the other one.
+</#if>
  */
 ${annotation.nonnull}
 static ${types.buildGenericInputParameterTypeStringWithThrowableErasure()} ${lambda.name}${types.buildGenericParameterTypeString(lambda, lambda.firstInputType, "", "", lambda.firstInputType)} identity() {
+<#if .namespace.isFusable()>
+    return FusedFunction.identity();
+<#else>
     return (${parameterNameString}) -> ${parameterNameString};
+</#if>
 }
 </#macro>
 
@@ -30,4 +39,9 @@ static ${types.buildGenericInputParameterTypeStringWithThrowableErasure()} ${lam
  * @param <${lambda.throwableType}> The type of the throwable to be thrown by this ${lambda.type.simpleName}
 </#if>
 </#macro>
+
+<#-- a helper function which checks if identity can be expressed as an empty chain of fused functions -->
+<#function isFusable>
+    <#return LambdaUtils.isOfTypeFunction(lambda) && !lambda.throwable && !helpers.isPrimitive(lambda.firstInputType)>
+</#function>
 <#-- @formatter:on -->
\ No newline at end of file
@@ -1,25 +1,35 @@
 <#-- @formatter:off -->
 
+<#import "../../utils/helpers.ftl" as helpers>
 <#import "../../utils/types.ftl" as types>
 
 <#-- parse only if lambda is of type operator with arity of 2 -->
 <#if (lambda.arity == 2) && LambdaUtils.isOfTypeOperator(lambda)>
+    <#-- primitive operators use primitive comparators (if such exist) to avoid boxing for each comparison -->
+    <#assign comparatorLambda = (LambdaUtils.searchByFirstInputType(LambdaUtils.getComparatorType(), 2, lambda.returnType, false, false))!"">
+    <#if helpers.isPrimitive(lambda.returnType) && comparatorLambda?has_content>
+        <#assign comparatorName = comparatorLambda.name>
+        <#assign comparatorType = comparatorLambda.name>
+    <#else>
+        <#assign comparatorName = "Comparator">
+        <#assign comparatorType = "Comparator<" + types.buildGenericParameterType(lambda.returnType) + ">">
+    </#if>
     <@.namespace.maxByMethod/>
 </#if>
 
 <#-- a helper macro to centralize maxBy method and to avoid unnecessary indenting -->
 <#macro maxByMethod>
 /**
- * Returns a {@link ${lambda.name}} which returns the greater of two elements according to the specified {@code Comparator}.
+ * Returns a {@link ${lambda.name}} which returns the greater of two elements according to the specified {@code ${comparatorName}}.
  *
 <#include "../../javadoc/paramGenericInput.ftl">
- * @param comparator A {@code Comparator} for comparing the two values
- * @return A {@code ${lambda.name}} which returns the greater of its operands, according to the supplied {@code Comparator}.
+ * @param comparator A {@code ${comparatorName}} for comparing the two values
+ * @return A {@code ${lambda.name}} which returns the greater of its operands, according to the supplied {@code ${comparatorName}}.
 <#include "../../javadoc/throwsNullPointerException.ftl">
  * @see BinaryOperator#maxBy(Comparator)
  */
 ${annotation.nonnull}
-static ${genericParameterTypeStringWithThrowableErasure} ${lambda.name}${genericParameterTypeString} maxBy(${annotation.nonnull} final Comparator<${types.buildGenericParameterType(lambda.returnType)}> comparator) {
+static ${genericParameterTypeStringWithThrowableErasure} ${lambda.name}${genericParameterTypeString} maxBy(${annotation.nonnull} final ${comparatorType} comparator) {
     Objects.requireNonNull(comparator);
     return (${parameterNameString}) -> comparator.compare(${parameterNameString}) >= 0 ? ${types.buildParameterName(lambda.firstInputType)} : ${types.buildParameterName(lambda.secondInputType)};
 }
@@ -0,0 +1,102 @@
+<#-- @formatter:off -->
+<#import "../../utils/helpers.ftl" as helpers>
+<#import "../../utils/throwable.ftl" as throwable>
+<#import "../../utils/types.ftl" as types>
+
+<#-- parse only if lambda is of type comparator with primitive input -->
+<#if LambdaUtils.isOfTypeComparator(lambda) && helpers.isPrimitive(lambda.firstInputType)>
+    <#assign arrayType = types.buildParameterType(lambda.firstInputType) + "[]">
+    <@.namespace.sortMethod/>
+    <@.namespace.sortRangeMethod/>
+</#if>
+
+<#-- a helper macro to centralize sort method and to avoid unnecessary indenting -->
+<#macro sortMethod>
+/**
+ * Sorts the given array according to the order induced by the given {@link ${lambda.name}}. This sort is guaranteed to
+ * be stable, so equal elements are not reordered as a result of the sort.
+ *
+<#include "../../javadoc/paramGenericInput.ftl">
+ * @param array The array to be sorted
+ * @param comparator The {@code ${lambda.name}} to determine the order of the array
+ * @throws NullPointerException If one of the given arguments is {@code null}
+<#include "../../javadoc/throwsThrowable.ftl">
+ * @see #sort(${arrayType}, int, int, ${lambda.name})
+ */
+static ${genericParameterTypeStringWithThrowableErasure} void sort(${annotation.nonnull} final ${arrayType} array, ${annotation.nonnull} final ${lambda.name}${genericParameterTypeStringWithErasure} comparator) <@throwable.printThrowableDeclaration/> {
+    Objects.requireNonNull(array);
+    sort(array, 0, array.length, comparator);
+}
+</#macro>
+
+<#-- a helper macro to centralize sort method for array ranges and to avoid unnecessary indenting -->
+<#macro sortRangeMethod>
+/**
+ * Sorts the given range of the given array according to the order induced by the given {@link ${lambda.name}}. The
+ * range extends from index {@code fromIndex}, inclusive, to index {@code toIndex}, exclusive. This sort is guaranteed
+ * to be stable, so equal elements are not reordered as a result of the sort.
+ *
+<#include "../../javadoc/paramGenericInput.ftl">
+ * @param array The array to be sorted
+ * @param fromIndex The index of the first element (inclusive) to be sorted
+ * @param toIndex The index of the last element (exclusive) to be sorted
+ * @param comparator The {@code ${lambda.name}} to determine the order of the array
+ * @throws NullPointerException If one of the given arguments is {@code null}
+ * @throws IllegalArgumentException If {@code fromIndex > toIndex}
+ * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0} or {@code toIndex > array.length}
+<#include "../../javadoc/throwsThrowable.ftl">
+ * @implNote This implementation sorts the elements in place without boxing them. Small runs of elements are sorted
+ * using insertion sort, which are merged afterwards using a bottom-up merge sort. Merging is skipped for runs, which
+ * are already in order, so this implementation requires only linear time for already sorted arrays.
+ * @see Arrays#sort(Object[], int, int, Comparator)
+ */
+static ${genericParameterTypeStringWithThrowableErasure} void sort(${annotation.nonnull} final ${arrayType} array, final int fromIndex, final int toIndex, ${annotation.nonnull} final ${lambda.name}${genericParameterTypeStringWithErasure} comparator) <@throwable.printThrowableDeclaration/> {
+    Objects.requireNonNull(array);
+    Objects.requireNonNull(comparator);
+    if (fromIndex > toIndex) {
+        throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+    } else if (fromIndex < 0) {
+        throw new ArrayIndexOutOfBoundsException(fromIndex);
+    } else if (toIndex > array.length) {
+        throw new ArrayIndexOutOfBoundsException(toIndex);
+    }
+    // Sort runs of 32 elements using insertion sort
+    final int length = toIndex - fromIndex;
+    for (int low = fromIndex; low < toIndex; ) {
+        final int high = toIndex - low > 32 ? low + 32 : toIndex;
+        for (int i = low + 1; i < high; i++) {
+            final ${types.buildParameterType(lambda.firstInputType)} value = array[i];
+            int j = i - 1;
+            while (j >= low && comparator.${lambda.method}(array[j], value) > 0) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = value;
+        }
+        low = high;
+    }
+    // Merge runs of doubling width, unless they are already in order
+    ${arrayType} buffer = null;
+    for (int width = 32; width < length; width = length - width > width ? width << 1 : length) {
+        for (int low = fromIndex; toIndex - low > width; ) {
+            final int middle = low + width;
+            final int high = toIndex - middle > width ? middle + width : toIndex;
+            if (comparator.${lambda.method}(array[middle - 1], array[middle]) > 0) {
+                if (buffer == null) {
+                    buffer = new ${types.buildParameterType(lambda.firstInputType)}[length];
+                }
+                System.arraycopy(array, low, buffer, 0, width);
+                int i = 0;
+                int j = middle;
+                int k = low;
+                while (i < width && j < high) {
+                    array[k++] = comparator.${lambda.method}(array[j], buffer[i]) < 0 ? array[j++] : buffer[i++];
+                }
+                System.arraycopy(buffer, i, array, k, width - i);
+            }
+            low = high;
+        }
+    }
+}
+</#macro>
+<#-- @formatter:on -->
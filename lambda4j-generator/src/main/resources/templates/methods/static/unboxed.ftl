@@ -0,0 +1,58 @@
+<#-- @formatter:off -->
+<#import "../../utils/helpers.ftl" as helpers>
+<#import "../../utils/types.ftl" as types>
+<#import "../../utils/throwable.ftl" as throwable>
+
+<#-- parse only if lambda has primitive input arguments, or is of type function or supplier with primitive return -->
+<#if helpers.isPrimitiveLambdaInput(lambda) || ((LambdaUtils.isOfTypeFunction(lambda) || LambdaUtils.isOfTypeSupplier(lambda)) && helpers.isPrimitive(lambda.returnType))>
+    <#-- build a generic parameter type string including primitives also -->
+    <#assign genericParameterTypeStringWithPrimitives = types.buildGenericParameterTypeStringWithPrimitives()>
+    <#-- search for correct input lambda, which is the boxed counterpart of global lambda (see boxed method) -->
+    <#if LambdaUtils.isOfTypePredicate(lambda) || LambdaUtils.isOfTypeConsumer(lambda) || LambdaUtils.isOfTypeComparator(lambda)>
+        <#assign inputLambda = LambdaUtils.searchByInputTypesAndReturnType(lambda.type, lambda.arity, Object, Object, Object,  lambda.returnType, lambda.throwable, false)>
+    <#else>
+        <#assign inputLambda = LambdaUtils.searchByInputTypesAndReturnType(lambda.type, lambda.arity, Object, Object, Object,  Object, lambda.throwable, false)>
+    </#if>
+    <#-- print unboxed method -->
+    <@.namespace.unboxedMethod genericParameterTypeStringWithPrimitives inputLambda/>
+</#if>
+
+<#-- a helper macro to centralize unboxed method and to avoid unnecessary indenting -->
+<#macro unboxedMethod genericParameterTypeStringWithPrimitives inputLambda>
+/**
+ * Returns a {@link ${lambda.name}} which represents the given {@link ${inputLambda.name}}. Thereby the boxed input
+ * arguments and results of the given ${inputLambda.type.simpleName} are unboxed to their primitive counterparts. This
+ * method is the inverse of {@link #boxed()}.
+ *
+<#include "../../javadoc/paramGenericInput.ftl">
+ * @param boxed The {@code ${inputLambda.name}} to be represented by the returned {@code ${lambda.name}}
+ * @return A {@code ${lambda.name}} which represents the given {@code ${inputLambda.name}}.
+ * @throws NullPointerException If given argument is {@code null}
+ * @implNote If the given {@code ${inputLambda.name}} was returned from {@link #boxed()}, the original {@code
+ * ${lambda.name}} is returned instead of wrapping it twice. Likewise, {@link #boxed()} of the returned {@code
+ * ${lambda.name}} returns the given {@code ${inputLambda.name}}.
+ */
+${annotation.nonnull}
+<#if genericParameterTypeString?has_content>
+@SuppressWarnings("unchecked")
+</#if>
+static ${genericParameterTypeStringWithThrowableErasure} ${lambda.name}${genericParameterTypeString} unboxed(${annotation.nonnull} final ${inputLambda.name}${genericParameterTypeStringWithPrimitives} boxed) {
+    Objects.requireNonNull(boxed);
+    if (boxed instanceof DerivedView && ((DerivedView) boxed).getSource() instanceof ${lambda.name}) {
+        return (${lambda.name}${genericParameterTypeString}) ((DerivedView) boxed).getSource();
+    }
+    return new ${lambda.name}${genericParameterTypeString}() {
+        @Override
+        public ${types.buildParameterType(lambda.returnType)} ${lambda.method}(${parameterString}) <@throwable.printThrowableDeclaration/> {
+            ${helpers.printReturnIfNotVoid()} boxed.${inputLambda.method}(${parameterNameString});
+        }
+
+        ${annotation.nonnull}
+        @Override
+        public ${inputLambda.name}${genericParameterTypeStringWithPrimitives} boxed() {
+            return boxed;
+        }
+    };
+}
+</#macro>
+<#-- @formatter:on -->
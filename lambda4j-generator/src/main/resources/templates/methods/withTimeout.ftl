@@ -0,0 +1,52 @@
+<#-- @formatter:off -->
+<#import "../utils/helpers.ftl" as helpers>
+
+<#-- print only if lambda is a function or supplier -->
+<#if LambdaUtils.isOfTypeFunction(lambda) || LambdaUtils.isOfTypeSupplier(lambda)>
+    <#-- print methods -->
+    <@.namespace.withTimeoutMethod/>
+    <@.namespace.withTimeoutLimiterMethod/>
+</#if>
+
+<#-- a helper macro to centralize withTimeout method and to avoid unnecessary indenting -->
+<#macro withTimeoutMethod>
+/**
+ * Returns a composed {@link ${lambda.name}} that applies this ${lambda.type.simpleName} to its input on the given executor and
+ * waits at most the given timeout for its result. If the timeout elapses, this ${lambda.type.simpleName} is cancelled by
+ * interrupting it and a {@link CallTimeoutException} is thrown.<#if lambda.throwable> To return a fallback result instead,
+ * {@link #recover(Function)} may be used on the composed ${lambda.type.simpleName}.</#if>
+ *
+ * @param timeout The maximum time to wait for the result of this ${lambda.type.simpleName}
+ * @param executor The executor to apply this ${lambda.type.simpleName} with
+ * @return A composed {@code ${lambda.name}} that applies this ${lambda.type.simpleName} to its input on the given executor and
+ * waits at most the given timeout for its result.
+ * @throws NullPointerException If one of the given arguments is {@code null}
+ * @throws IllegalArgumentException If given timeout is negative
+ * @see #withTimeout(TimeLimiter)
+ */
+${annotation.nonnull}
+default ${lambda.name}${genericParameterTypeString} withTimeout(${annotation.nonnull} final Duration timeout, ${annotation.nonnull} final Executor executor) {
+    return withTimeout(TimeLimiter.of(timeout, executor));
+}
+</#macro>
+
+<#-- a helper macro to centralize withTimeout method with time limiter and to avoid unnecessary indenting -->
+<#macro withTimeoutLimiterMethod>
+/**
+ * Returns a composed {@link ${lambda.name}} that applies this ${lambda.type.simpleName} to its input using the given
+ * {@link TimeLimiter}. Any {@link Throwable} thrown from this ${lambda.type.simpleName} is rethrown as-is from the composed
+ * ${lambda.type.simpleName}.
+ *
+ * @param timeLimiter The time limiter which bounds how long this ${lambda.type.simpleName} may take
+ * @return A composed {@code ${lambda.name}} that applies this ${lambda.type.simpleName} to its input using the given
+ * {@code TimeLimiter}.
+<#include "../javadoc/throwsNullPointerException.ftl">
+ * @see TimeLimiter#call(ThrowableSupplier)
+ */
+${annotation.nonnull}
+default ${lambda.name}${genericParameterTypeString} withTimeout(${annotation.nonnull} final TimeLimiter timeLimiter) {
+    Objects.requireNonNull(timeLimiter);
+    return (${parameterNameString}) -> timeLimiter.call(() -> this.${lambda.method}(${parameterNameString}));
+}
+</#macro>
+<#-- @formatter:on -->
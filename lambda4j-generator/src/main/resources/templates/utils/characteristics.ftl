@@ -0,0 +1,9 @@
+<#-- prints a return statement of the given composed lambda expression, which is marked as pure or thread-safe if all given operands are -->
+<#macro printCharacteristicReturn type expression operands>
+    if (<#list operands as operand>${operand} instanceof Pure<#sep> && </#sep></#list>) {
+        return (${type} & Pure) ${expression?replace("\n", "\n    ")};
+    } else if (<#list operands as operand>${operand} instanceof ThreadSafe<#sep> && </#sep></#list>) {
+        return (${type} & ThreadSafe) ${expression?replace("\n", "\n    ")};
+    }
+    return ${expression};
+</#macro>
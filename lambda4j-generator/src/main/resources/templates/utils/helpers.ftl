@@ -3,9 +3,14 @@
     <#return (type?hasContent) && type.primitive>
 </#function>
 
+<#-- returns all input types of the given lambda, including further input types of lambdas with an arity greater than 3 -->
+<#function inputTypes target = lambda>
+    <#return [target.firstInputType!"", target.secondInputType!"", target.thirdInputType!""] + (target.furtherInputTypes)![]>
+</#function>
+
 <#-- checks if the given lambda has primitive types -->
 <#function isPrimitiveLambda target = lambda>
-    <#return (target?hasContent) && (.namespace.isPrimitive(target.firstInputType) || .namespace.isPrimitive(target.secondInputType) || .namespace.isPrimitive(target.thirdInputType) || .namespace.isPrimitive(target.returnType))>
+    <#return (target?hasContent) && (.namespace.isPrimitiveLambdaInput(target) || .namespace.isPrimitive(target.returnType))>
 </#function>
 
 <#-- checks if the given lambda has primitive types (excluding return) -->
@@ -13,6 +18,16 @@
     <#return (target?hasContent) && (.namespace.isPrimitive(target.firstInputType) || .namespace.isPrimitive(target.secondInputType) || .namespace.isPrimitive(target.thirdInputType))>
 </#function>
 
+<#-- prints the cardinal number word (e.g. four) of the given argument count -->
+<#function cardinal count>
+    <#return ["one", "two", "three", "four", "five", "six", "seven", "eight"][count - 1]>
+</#function>
+
+<#-- prints the ordinal number word (e.g. fourth) of the given argument position -->
+<#function ordinal position>
+    <#return ["first", "second", "third", "fourth", "fifth", "sixth", "seventh", "eighth"][position - 1]>
+</#function>
+
 <#-- prints number string for first argument if lambdas arity is greater than 1 -->
 <#function first target = lambda>
     <#return (target.arity > 1)?then("first ", "")>
@@ -36,3 +51,33 @@
     </#if>
     <#return ret>
 </#function>
+
+<#-- prints the default value of the given type, which is {@code null} for object types -->
+<#function defaultValue type>
+    <#if !.namespace.isPrimitive(type)>
+        <#return "null">
+    <#elseIf type.equals(boolean)>
+        <#return "false">
+    <#elseIf type.equals(byte) || type.equals(char) || type.equals(short)>
+        <#return "(" + type.typeName + ") 0">
+    <#elseIf type.equals(long)>
+        <#return "0L">
+    <#elseIf type.equals(float)>
+        <#return "0f">
+    <#elseIf type.equals(double)>
+        <#return "0d">
+    <#else>
+        <#return "0">
+    </#if>
+</#function>
+
+<#-- prints the default values of all inputs of the given lambda as argument string, which is used to call constant lambdas -->
+<#function defaultArgumentString target = lambda>
+    <#local ret = []>
+    <#list .namespace.inputTypes(target) as type>
+        <#if type?hasContent>
+            <#local ret = ret + [.namespace.defaultValue(type)]>
+        </#if>
+    </#list>
+    <#return ret?join(", ")>
+</#function>
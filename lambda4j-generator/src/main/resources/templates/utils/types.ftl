@@ -67,7 +67,7 @@
 # Builds: T t, U u, V v
 <#function buildParameterString target = lambda other1 = "" other2 = "" other3 = "">
     <#local target = .namespace.otherParametersToTarget(target, other1, other2, other3)>
-    <#local types = [target.firstInputType!"", target.secondInputType!"", target.thirdInputType!""]>
+    <#local types = helpers.inputTypes(target)>
     <#local types = filters.filterEmpties(types)>
     <#local genericString = "">
     <#if (types?has_content)>
@@ -84,7 +84,7 @@
 # Builds: T, U, V
 <#function buildParameterTypeString target = lambda other1 = "" other2 = "" other3 = "">
     <#local target = .namespace.otherParametersToTarget(target, other1, other2, other3)>
-    <#local types = [target.firstInputType!"", target.secondInputType!"", target.thirdInputType!""]>
+    <#local types = helpers.inputTypes(target)>
     <#local types = filters.filterEmpties(types)>
     <#local genericString = "">
     <#if (types?has_content)>
@@ -100,7 +100,7 @@
 
 <#function buildParameterSimpleTypeString target = lambda other1 = "" other2 = "" other3 = "">
     <#local target = .namespace.otherParametersToTarget(target, other1, other2, other3)>
-    <#local types = [target.firstInputType!"", target.secondInputType!"", target.thirdInputType!""]>
+    <#local types = helpers.inputTypes(target)>
     <#local types = filters.filterEmpties(types)>
     <#local genericString = "">
     <#if (types?has_content)>
@@ -116,7 +116,7 @@
 
 <#function buildParameterNameString target = lambda other1 = "" other2 = "" other3 = "">
     <#local target = .namespace.otherParametersToTarget(target, other1, other2, other3)>
-    <#local types = [target.firstInputType!"", target.secondInputType!"", target.thirdInputType!""]>
+    <#local types = helpers.inputTypes(target)>
     <#local types = filters.filterEmpties(types)>
     <#local genericString = "">
     <#if (types?has_content)>
@@ -140,8 +140,10 @@
     <#local types = []>
     <#if LambdaUtils.isOfTypeOperator(target)>
         <#local types = [target.returnType!""]>
+    <#elseif LambdaUtils.isOfTypeComparator(target)>
+        <#local types = [target.firstInputType!""]>
     <#else>
-        <#local types = [target.firstInputType!"", target.secondInputType!"", target.thirdInputType!"", target.returnType!""]>
+        <#local types = helpers.inputTypes(target) + [target.returnType!""]>
     </#if>
     <#local types = types + [target.throwableType!""]>
     <#local types = filters.filterEmpties(types)>
@@ -160,14 +162,43 @@
     <#return genericString>
 </#function>
 
+# Builds: Integer, U, R, X (edgy brackets included), with primitive types replaced by their boxed counterparts
+<#function buildGenericParameterTypeStringWithPrimitives target = lambda>
+    <#local target = LambdaUtils.copy(target)>
+    <#local parameters = helpers.inputTypes(target)>
+    <#if LambdaUtils.isOfTypeOperator(target)>
+        <#local parameters = [target.returnType!""]>
+    <#elseif LambdaUtils.isOfTypeComparator(target)>
+        <#local parameters = [target.firstInputType!""]>
+    <#elseif !LambdaUtils.isOfTypePredicate(target) && !LambdaUtils.isOfTypeConsumer(target)>
+        <#local parameters = parameters + [target.returnType!""]>
+    </#if>
+    <#local parameters = parameters + [target.throwableType!""]>
+    <#local parameters = filters.filterEmpties(parameters)>
+    <#local genericString = "">
+    <#if (parameters?has_content)>
+        <#local genericString = genericString + "<">
+        <#list parameters as type>
+            <#local genericString = genericString + .namespace.buildGenericParameterType(type)>
+            <#if type?has_next>
+                <#local genericString = genericString + ", ">
+            </#if>
+        </#list>
+        <#local genericString = genericString + ">">
+    </#if>
+    <#return genericString>
+</#function>
+
 # Builds: T, U, V, R (edgy brackets included)
 <#function buildGenericParameterTypeStringWithoutThrowable target = lambda other1 = "" other2 = "" other3 = "" other4 = "">
     <#local target = .namespace.otherParametersToTarget(target, other1, other2, other3, other4)>
     <#local types = []>
     <#if LambdaUtils.isOfTypeOperator(target)>
         <#local types = [target.returnType!""]>
+    <#elseif LambdaUtils.isOfTypeComparator(target)>
+        <#local types = [target.firstInputType!""]>
     <#else>
-        <#local types = [target.firstInputType!"", target.secondInputType!"", target.thirdInputType!"", target.returnType!""]>
+        <#local types = helpers.inputTypes(target) + [target.returnType!""]>
     </#if>
     <#local types = filters.filterEmpties(types)>
     <#local types = filters.filterPrimitives(types)>
@@ -191,8 +222,10 @@
     <#local types = []>
     <#if LambdaUtils.isOfTypeOperator(target)>
         <#local types = [target.returnType!""]>
+    <#elseif LambdaUtils.isOfTypeComparator(target)>
+        <#local types = [target.firstInputType!""]>
     <#else>
-        <#local types = [target.firstInputType!"", target.secondInputType!"", target.thirdInputType!"", target.returnType!""]>
+        <#local types = helpers.inputTypes(target) + [target.returnType!""]>
     </#if>
     <#local types = types + [target.throwableType!""]>
     <#local types = filters.filterEmpties(types)>
@@ -221,8 +254,10 @@
     <#local types = []>
     <#if LambdaUtils.isOfTypeOperator(target)>
         <#local types = [target.returnType!""]>
+    <#elseif LambdaUtils.isOfTypeComparator(target)>
+        <#local types = [target.firstInputType!""]>
     <#else>
-        <#local types = [target.firstInputType!"", target.secondInputType!"", target.thirdInputType!"", target.returnType!""]>
+        <#local types = helpers.inputTypes(target) + [target.returnType!""]>
     </#if>
     <#local types = types + [target.throwableType!""]>
     <#local types = filters.filterEmpties(types)>
@@ -257,8 +292,10 @@
     <#local types = []>
     <#if LambdaUtils.isOfTypeOperator(target)>
         <#local types = [target.returnType!""]>
+    <#elseif LambdaUtils.isOfTypeComparator(target)>
+        <#local types = [target.firstInputType!""]>
     <#else>
-        <#local types = [target.firstInputType!"", target.secondInputType!"", target.thirdInputType!""]>
+        <#local types = helpers.inputTypes(target)>
     </#if>
     <#local types = types + [target.throwableType!""]>
     <#local types = filters.filterEmpties(types)>
@@ -283,8 +320,10 @@
     <#local types = []>
     <#if LambdaUtils.isOfTypeOperator(target)>
         <#local types = [target.returnType!""]>
+    <#elseif LambdaUtils.isOfTypeComparator(target)>
+        <#local types = [target.firstInputType!""]>
     <#else>
-        <#local types = [target.firstInputType!"", target.secondInputType!"", target.thirdInputType!""]>
+        <#local types = helpers.inputTypes(target)>
     </#if>
     <#local types = filters.filterEmpties(types)>
     <#local types = filters.filterPrimitives(types)>
@@ -308,8 +347,10 @@
     <#local types = []>
     <#if LambdaUtils.isOfTypeOperator(target)>
         <#local types = [target.returnType!""]>
+    <#elseif LambdaUtils.isOfTypeComparator(target)>
+        <#local types = [target.firstInputType!""]>
     <#else>
-        <#local types = [target.firstInputType!"", target.secondInputType!"", target.thirdInputType!""]>
+        <#local types = helpers.inputTypes(target)>
     </#if>
     <#local types = types + [target.throwableType!""]>
     <#local types = filters.filterEmpties(types)>
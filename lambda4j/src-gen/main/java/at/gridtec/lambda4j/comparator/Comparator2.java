@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.comparator;
+
+import at.gridtec.lambda4j.Lambda;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Represents a comparison function of two input arguments, which imposes a total ordering on its arguments.
+ * <p>
+ * This is a {@link FunctionalInterface} whose functional method is {@link #compare(Object, Object)}.
+ *
+ * @param <T> The type of the arguments to the comparator and of return from the comparator
+ * @apiNote This is a JDK lambda.
+ * @see Comparator2
+ */
+@SuppressWarnings("unused")
+@FunctionalInterface
+public interface Comparator2<T> extends Lambda, Comparator<T> {
+
+    /**
+     * Constructs a {@link Comparator2} based on a lambda expression or a method reference. Thereby the given lambda
+     * expression or method reference is returned on an as-is basis to implicitly transform it to the desired type. With
+     * this method, it is possible to ensure that correct type is used from lambda expression or method reference.
+     *
+     * @param <T> The type of the arguments to the comparator and of return from the comparator
+     * @param expression A lambda expression or (typically) a method reference, e.g. {@code this::method}
+     * @return A {@code Comparator2} from given lambda expression or method reference.
+     * @implNote This implementation allows the given argument to be {@code null}, but only if {@code null} given,
+     * {@code null} will be returned.
+     * @see <a href="https://docs.oracle.com/javase/tutorial/java/javaOO/lambdaexpressions.html#syntax">Lambda
+     * Expression</a>
+     * @see <a href="https://docs.oracle.com/javase/tutorial/java/javaOO/methodreferences.html">Method Reference</a>
+     */
+    static <T> Comparator2<T> of(@Nullable final Comparator2<T> expression) {
+        return expression;
+    }
+
+    /**
+     * Calls the given {@link Comparator} with the given arguments and returns its result.
+     *
+     * @param <T> The type of the arguments to the comparator and of return from the comparator
+     * @param comparator The comparator to be called
+     * @param t1 The first argument to the comparator
+     * @param t2 The second argument to the comparator
+     * @return The result from the given {@code Comparator2}.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    static <T> int call(@Nonnull final Comparator<? super T> comparator, T t1, T t2) {
+        Objects.requireNonNull(comparator);
+        return comparator.compare(t1, t2);
+    }
+
+    /**
+     * Applies this comparator to the given arguments.
+     *
+     * @param t1 The first argument to the comparator
+     * @param t2 The second argument to the comparator
+     * @return The return value from the comparator, which is its result.
+     */
+    int compare(T t1, T t2);
+
+    /**
+     * Applies this comparator to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the comparator
+     * @return The return value from the comparator, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see org.apache.commons.lang3.tuple.Pair
+     */
+    default int compare(@Nonnull Pair<T, T> tuple) {
+        Objects.requireNonNull(tuple);
+        return compare(tuple.getLeft(), tuple.getRight());
+    }
+
+    /**
+     * Returns the number of arguments for this comparator.
+     *
+     * @return The number of arguments for this comparator.
+     * @implSpec The default implementation always returns {@code 2}.
+     */
+    @Nonnegative
+    default int arity() {
+        return 2;
+    }
+
+    /**
+     * Returns a reversed version of this comparator, which imposes the reverse ordering of this comparator.
+     *
+     * @return A reversed version of this comparator.
+     * @implNote Reversing the returned comparator again returns this comparator instead of wrapping it twice.
+     */
+    @Nonnull
+    default Comparator2<T> reversed() {
+        return new Comparator2<T>() {
+            @Override
+            public int compare(T t2, T t1) {
+                return Comparator2.this.compare(t1, t2);
+            }
+
+            @Nonnull
+            @Override
+            public Comparator2<T> reversed() {
+                return Comparator2.this;
+            }
+        };
+    }
+
+}
\ No newline at end of file
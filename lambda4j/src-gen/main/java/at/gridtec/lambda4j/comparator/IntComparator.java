@@ -0,0 +1,318 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.comparator;
+
+import at.gridtec.lambda4j.Lambda;
+import at.gridtec.lambda4j.core.util.DerivedView;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Represents a comparison function of two {@code int}-valued input arguments, which imposes a total ordering on its
+ * arguments. This is a primitive specialization of {@link Comparator2}, which compares its arguments without boxing
+ * them.
+ * <p>
+ * This is a {@link FunctionalInterface} whose functional method is {@link #compare(int, int)}.
+ *
+ * @see Comparator2
+ */
+@SuppressWarnings("unused")
+@FunctionalInterface
+public interface IntComparator extends Lambda {
+
+    /**
+     * Constructs a {@link IntComparator} based on a lambda expression or a method reference. Thereby the given lambda
+     * expression or method reference is returned on an as-is basis to implicitly transform it to the desired type. With
+     * this method, it is possible to ensure that correct type is used from lambda expression or method reference.
+     *
+     * @param expression A lambda expression or (typically) a method reference, e.g. {@code this::method}
+     * @return A {@code IntComparator} from given lambda expression or method reference.
+     * @implNote This implementation allows the given argument to be {@code null}, but only if {@code null} given,
+     * {@code null} will be returned.
+     * @see <a href="https://docs.oracle.com/javase/tutorial/java/javaOO/lambdaexpressions.html#syntax">Lambda
+     * Expression</a>
+     * @see <a href="https://docs.oracle.com/javase/tutorial/java/javaOO/methodreferences.html">Method Reference</a>
+     */
+    static IntComparator of(@Nullable final IntComparator expression) {
+        return expression;
+    }
+
+    /**
+     * Calls the given {@link IntComparator} with the given arguments and returns its result.
+     *
+     * @param comparator The comparator to be called
+     * @param value1 The first argument to the comparator
+     * @param value2 The second argument to the comparator
+     * @return The result from the given {@code IntComparator}.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    static int call(@Nonnull final IntComparator comparator, int value1, int value2) {
+        Objects.requireNonNull(comparator);
+        return comparator.compare(value1, value2);
+    }
+
+    /**
+     * Returns a {@link IntComparator} which represents the given {@link Comparator2}. Thereby the boxed input arguments
+     * and results of the given comparator are unboxed to their primitive counterparts. This method is the inverse of
+     * {@link #boxed()}.
+     *
+     * @param boxed The {@code Comparator2} to be represented by the returned {@code IntComparator}
+     * @return A {@code IntComparator} which represents the given {@code Comparator2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implNote If the given {@code Comparator2} was returned from {@link #boxed()}, the original {@code IntComparator}
+     * is returned instead of wrapping it twice. Likewise, {@link #boxed()} of the returned {@code IntComparator}
+     * returns the given {@code Comparator2}.
+     */
+    @Nonnull
+    static IntComparator unboxed(@Nonnull final Comparator2<Integer> boxed) {
+        Objects.requireNonNull(boxed);
+        if (boxed instanceof DerivedView && ((DerivedView) boxed).getSource() instanceof IntComparator) {
+            return (IntComparator) ((DerivedView) boxed).getSource();
+        }
+        return new IntComparator() {
+            @Override
+            public int compare(int value1, int value2) {
+                return boxed.compare(value1, value2);
+            }
+
+            @Nonnull
+            @Override
+            public Comparator2<Integer> boxed() {
+                return boxed;
+            }
+        };
+    }
+
+    /**
+     * Sorts the given array according to the order induced by the given {@link IntComparator}. This sort is guaranteed
+     * to be stable, so equal elements are not reordered as a result of the sort.
+     *
+     * @param array The array to be sorted
+     * @param comparator The {@code IntComparator} to determine the order of the array
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @see #sort(int[], int, int, IntComparator)
+     */
+    static void sort(@Nonnull final int[] array, @Nonnull final IntComparator comparator) {
+        Objects.requireNonNull(array);
+        sort(array, 0, array.length, comparator);
+    }
+
+    /**
+     * Sorts the given range of the given array according to the order induced by the given {@link IntComparator}. The
+     * range extends from index {@code fromIndex}, inclusive, to index {@code toIndex}, exclusive. This sort is
+     * guaranteed to be stable, so equal elements are not reordered as a result of the sort.
+     *
+     * @param array The array to be sorted
+     * @param fromIndex The index of the first element (inclusive) to be sorted
+     * @param toIndex The index of the last element (exclusive) to be sorted
+     * @param comparator The {@code IntComparator} to determine the order of the array
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @throws IllegalArgumentException If {@code fromIndex > toIndex}
+     * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0} or {@code toIndex > array.length}
+     * @implNote This implementation sorts the elements in place without boxing them. Small runs of elements are sorted
+     * using insertion sort, which are merged afterwards using a bottom-up merge sort. Merging is skipped for runs,
+     * which are already in order, so this implementation requires only linear time for already sorted arrays.
+     * @see Arrays#sort(Object[], int, int, Comparator)
+     */
+    static void sort(@Nonnull final int[] array, final int fromIndex, final int toIndex,
+            @Nonnull final IntComparator comparator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(comparator);
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        } else if (fromIndex < 0) {
+            throw new ArrayIndexOutOfBoundsException(fromIndex);
+        } else if (toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException(toIndex);
+        }
+        // Sort runs of 32 elements using insertion sort
+        final int length = toIndex - fromIndex;
+        for (int low = fromIndex; low < toIndex;) {
+            final int high = toIndex - low > 32 ? low + 32 : toIndex;
+            for (int i = low + 1; i < high; i++) {
+                final int value = array[i];
+                int j = i - 1;
+                while (j >= low && comparator.compare(array[j], value) > 0) {
+                    array[j + 1] = array[j];
+                    j--;
+                }
+                array[j + 1] = value;
+            }
+            low = high;
+        }
+        // Merge runs of doubling width, unless they are already in order
+        int[] buffer = null;
+        for (int width = 32; width < length; width = length - width > width ? width << 1 : length) {
+            for (int low = fromIndex; toIndex - low > width;) {
+                final int middle = low + width;
+                final int high = toIndex - middle > width ? middle + width : toIndex;
+                if (comparator.compare(array[middle - 1], array[middle]) > 0) {
+                    if (buffer == null) {
+                        buffer = new int[length];
+                    }
+                    System.arraycopy(array, low, buffer, 0, width);
+                    int i = 0;
+                    int j = middle;
+                    int k = low;
+                    while (i < width && j < high) {
+                        array[k++] = comparator.compare(array[j], buffer[i]) < 0 ? array[j++] : buffer[i++];
+                    }
+                    System.arraycopy(buffer, i, array, k, width - i);
+                }
+                low = high;
+            }
+        }
+    }
+
+    /**
+     * Searches the given array for the given key using the binary search algorithm. The array must be sorted according
+     * to the order induced by the given {@link IntComparator} (e.g. by {@link #sort(int[], IntComparator)}) prior to
+     * this call. If it is not sorted, the results are undefined.
+     *
+     * @param array The array to be searched
+     * @param key The value to be searched for
+     * @param comparator The {@code IntComparator} by which the array is ordered
+     * @return The index of the given key, if it is contained in the array; otherwise {@code (-(insertion point) - 1)}.
+     * The insertion point is the index of the first element greater than the key, or {@code array.length} if all
+     * elements in the array are less than the given key.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @see #binarySearch(int[], int, int, int, IntComparator)
+     */
+    static int binarySearch(@Nonnull final int[] array, final int key, @Nonnull final IntComparator comparator) {
+        Objects.requireNonNull(array);
+        return binarySearch(array, 0, array.length, key, comparator);
+    }
+
+    /**
+     * Searches the given range of the given array for the given key using the binary search algorithm. The range must
+     * be sorted according to the order induced by the given {@link IntComparator} (e.g. by {@link #sort(int[], int,
+     * int, IntComparator)}) prior to this call. If it is not sorted, the results are undefined.
+     *
+     * @param array The array to be searched
+     * @param fromIndex The index of the first element (inclusive) to be searched
+     * @param toIndex The index of the last element (exclusive) to be searched
+     * @param key The value to be searched for
+     * @param comparator The {@code IntComparator} by which the array is ordered
+     * @return The index of the given key, if it is contained in the given range; otherwise {@code (-(insertion point) -
+     * 1)}. The insertion point is the index of the first element in the range greater than the key, or {@code toIndex}
+     * if all elements in the range are less than the given key.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @throws IllegalArgumentException If {@code fromIndex > toIndex}
+     * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0} or {@code toIndex > array.length}
+     * @see Arrays#binarySearch(Object[], int, int, Object, Comparator)
+     */
+    static int binarySearch(@Nonnull final int[] array, final int fromIndex, final int toIndex, final int key,
+            @Nonnull final IntComparator comparator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(comparator);
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        } else if (fromIndex < 0) {
+            throw new ArrayIndexOutOfBoundsException(fromIndex);
+        } else if (toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException(toIndex);
+        }
+        int low = fromIndex;
+        int high = toIndex - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final int result = comparator.compare(array[middle], key);
+            if (result < 0) {
+                low = middle + 1;
+            } else if (result > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Applies this comparator to the given arguments.
+     *
+     * @param value1 The first argument to the comparator
+     * @param value2 The second argument to the comparator
+     * @return The return value from the comparator, which is its result.
+     */
+    int compare(int value1, int value2);
+
+    /**
+     * Returns the number of arguments for this comparator.
+     *
+     * @return The number of arguments for this comparator.
+     * @implSpec The default implementation always returns {@code 2}.
+     */
+    @Nonnegative
+    default int arity() {
+        return 2;
+    }
+
+    /**
+     * Returns a reversed version of this comparator, which imposes the reverse ordering of this comparator.
+     *
+     * @return A reversed version of this comparator.
+     * @implNote Reversing the returned comparator again returns this comparator instead of wrapping it twice.
+     */
+    @Nonnull
+    default IntComparator reversed() {
+        return new IntComparator() {
+            @Override
+            public int compare(int value2, int value1) {
+                return IntComparator.this.compare(value1, value2);
+            }
+
+            @Nonnull
+            @Override
+            public IntComparator reversed() {
+                return IntComparator.this;
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link Comparator2} which represents this {@link IntComparator}. Thereby the primitive input
+     * argument for this comparator is autoboxed. This method provides the possibility to use this {@code IntComparator}
+     * with methods provided by the {@code JDK}.
+     *
+     * @return A composed {@code Comparator2} which represents this {@code IntComparator}.
+     * @implNote The returned {@code Comparator2} is a {@link DerivedView} of this {@code IntComparator}, so {@link
+     * #unboxed(Comparator2)} returns this {@code IntComparator} instead of wrapping it twice.
+     */
+    @Nonnull
+    default Comparator2<Integer> boxed() {
+        final class Boxed implements Comparator2<Integer>, DerivedView {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public int compare(Integer value1, Integer value2) {
+                return IntComparator.this.compare(value1, value2);
+            }
+
+            @Nonnull
+            @Override
+            public IntComparator getSource() {
+                return IntComparator.this;
+            }
+        }
+        return new Boxed();
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.comparator;
+
+import at.gridtec.lambda4j.Lambda;
+import at.gridtec.lambda4j.core.exception.ThrownByFunctionalInterfaceException;
+import at.gridtec.lambda4j.core.util.ThrowableUtils;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Represents a comparison function of two input arguments which is able to throw any {@link Throwable}, which imposes a
+ * total ordering on its arguments.
+ * <p>
+ * This is a {@link FunctionalInterface} whose functional method is {@link #compareThrows(Object, Object)}.
+ *
+ * @param <T> The type of the arguments to the comparator and of return from the comparator
+ * @param <X> The type of the throwable to be thrown by this comparator
+ * @apiNote This is a throwable JDK lambda.
+ * @see ThrowableComparator
+ */
+@SuppressWarnings("unused")
+@FunctionalInterface
+public interface ThrowableComparator<T, X extends Throwable> extends Lambda, Comparator<T> {
+
+    /**
+     * Constructs a {@link ThrowableComparator} based on a lambda expression or a method reference. Thereby the given
+     * lambda expression or method reference is returned on an as-is basis to implicitly transform it to the desired
+     * type. With this method, it is possible to ensure that correct type is used from lambda expression or method
+     * reference.
+     *
+     * @param <T> The type of the arguments to the comparator and of return from the comparator
+     * @param <X> The type of the throwable to be thrown by this comparator
+     * @param expression A lambda expression or (typically) a method reference, e.g. {@code this::method}
+     * @return A {@code ThrowableComparator} from given lambda expression or method reference.
+     * @implNote This implementation allows the given argument to be {@code null}, but only if {@code null} given,
+     * {@code null} will be returned.
+     * @see <a href="https://docs.oracle.com/javase/tutorial/java/javaOO/lambdaexpressions.html#syntax">Lambda
+     * Expression</a>
+     * @see <a href="https://docs.oracle.com/javase/tutorial/java/javaOO/methodreferences.html">Method Reference</a>
+     */
+    static <T, X extends Throwable> ThrowableComparator<T, X> of(@Nullable final ThrowableComparator<T, X> expression) {
+        return expression;
+    }
+
+    /**
+     * Calls the given {@link ThrowableComparator} with the given arguments and returns its result.
+     *
+     * @param <T> The type of the arguments to the comparator and of return from the comparator
+     * @param <X> The type of the throwable to be thrown by this comparator
+     * @param comparator The comparator to be called
+     * @param t1 The first argument to the comparator
+     * @param t2 The second argument to the comparator
+     * @return The result from the given {@code ThrowableComparator}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @throws X Any throwable from this comparators action
+     */
+    static <T, X extends Throwable> int call(@Nonnull final ThrowableComparator<? super T, ? extends X> comparator,
+            T t1, T t2) throws X {
+        Objects.requireNonNull(comparator);
+        return comparator.compareThrows(t1, t2);
+    }
+
+    /**
+     * Applies this comparator to the given arguments.
+     *
+     * @param t1 The first argument to the comparator
+     * @param t2 The second argument to the comparator
+     * @return The return value from the comparator, which is its result.
+     * @throws X Any throwable from this comparators action
+     */
+    int compareThrows(T t1, T t2) throws X;
+
+    /**
+     * Applies this comparator to the given arguments.
+     *
+     * @param t1 The first argument to the comparator
+     * @param t2 The second argument to the comparator
+     * @return The return value from the comparator, which is its result.
+     * @apiNote This method mainly exists to use this {@link ThrowableComparator} in JRE specific methods only accepting
+     * {@link Comparator}. If this comparator should be applied, then the {@link #compareThrows(Object, Object)} method
+     * should be used.
+     * @apiNote Overrides the {@link Comparator#compare(Object, Object)} method by using a redefinition as default
+     * method. This implementation calls the {@link #compareThrows(Object, Object)} method of this function and catches
+     * the eventually thrown {@link Throwable} from it. If it is of type {@link RuntimeException} or {@link Error} it is
+     * rethrown as is. Other {@code Throwable} types are wrapped in a {@link ThrownByFunctionalInterfaceException} using
+     * {@link ThrowableUtils#nest(Throwable)}.
+     */
+    @Override
+    default int compare(T t1, T t2) {
+        try {
+            return this.compareThrows(t1, t2);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable throwable) {
+            throw ThrowableUtils.nest(throwable);
+        }
+    }
+
+    /**
+     * Applies this comparator to the given tuple.
+     *
+     * @param tuple The tuple to be applied to the comparator
+     * @return The return value from the comparator, which is its result.
+     * @throws NullPointerException If given argument is {@code null}
+     * @throws X Any throwable from this comparators action
+     * @see org.apache.commons.lang3.tuple.Pair
+     */
+    default int compareThrows(@Nonnull Pair<T, T> tuple) throws X {
+        Objects.requireNonNull(tuple);
+        return compareThrows(tuple.getLeft(), tuple.getRight());
+    }
+
+    /**
+     * Returns the number of arguments for this comparator.
+     *
+     * @return The number of arguments for this comparator.
+     * @implSpec The default implementation always returns {@code 2}.
+     */
+    @Nonnegative
+    default int arity() {
+        return 2;
+    }
+
+    /**
+     * Returns a reversed version of this comparator, which imposes the reverse ordering of this comparator.
+     *
+     * @return A reversed version of this comparator.
+     * @implNote Reversing the returned comparator again returns this comparator instead of wrapping it twice.
+     */
+    @Nonnull
+    default ThrowableComparator<T, X> reversed() {
+        return new ThrowableComparator<T, X>() {
+            @Override
+            public int compareThrows(T t2, T t1) throws X {
+                return ThrowableComparator.this.compareThrows(t1, t2);
+            }
+
+            @Nonnull
+            @Override
+            public ThrowableComparator<T, X> reversed() {
+                return ThrowableComparator.this;
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link Comparator2} that applies this comparator to its input and sneakily throws the thrown
+     * {@link Throwable} from it, if it is not of type {@link RuntimeException} or {@link Error}. This means that each
+     * throwable thrown from the returned composed comparator behaves exactly the same as an <em>unchecked</em>
+     * throwable does. As a result, there is no need to handle the throwable of this comparator in the returned composed
+     * comparator by either wrapping it in an <em>unchecked</em> throwable or to declare it in the {@code throws}
+     * clause, as it would be done in a non sneaky throwing comparator.
+     * <p>
+     * What sneaky throwing simply does, is to fake out the compiler and thus it bypasses the principle of
+     * <em>checked</em> throwables. On the JVM (class file) level, all throwables, checked or not, can be thrown
+     * regardless of the {@code throws} clause of methods, which is why this works at all.
+     * <p>
+     * However, when using this method to get a sneaky throwing comparator variant of this throwable comparator, the
+     * following advantages, disadvantages and limitations will apply:
+     * <p>
+     * If the calling-code is to handle the sneakily thrown throwable, it is required to add it to the {@code throws}
+     * clause of the method that applies the returned composed comparator. The compiler will not force the declaration
+     * in the {@code throws} clause anymore.
+     * <p>
+     * If the calling-code already handles the sneakily thrown throwable, the compiler requires it to be added to the
+     * {@code throws} clause of the method that applies the returned composed comparator. If not added, the compiler
+     * will error that the caught throwable is never thrown in the corresponding {@code try} block.
+     * <p>
+     * If the returned composed comparator is directly surrounded by a {@code try}-{@code catch} block to catch the
+     * sneakily thrown throwable from it, the compiler will error that the caught throwable is never thrown in the
+     * corresponding {@code try} block.
+     * <p>
+     * In any case, if the throwable is not added to the to the {@code throws} clause of the method that applies the
+     * returned composed comparator, the calling-code won't be able to catch the throwable by name. It will bubble and
+     * probably be caught in some {@code catch} statement, catching a base type such as {@code try { ... }
+     * catch(RuntimeException e) { ... }} or {@code try { ... } catch(Exception e) { ... }}, but perhaps this is
+     * intended.
+     * <p>
+     * When the called code never throws the specific throwable that it declares, it should obviously be omitted. For
+     * example: {@code new String(byteArr, "UTF-8") throws UnsupportedEncodingException}, but {@code UTF-8} is
+     * guaranteed by the Java specification to be always present. Here, the {@code throws} declaration is a nuisance and
+     * any solution to silence it with minimal boilerplate is welcome. The throwable should therefore be omitted in the
+     * {@code throws} clause of the method that applies the returned composed comparator.
+     * <p>
+     * With all that mentioned, the following example will demonstrate this methods correct use:
+     * <pre>{@code
+     * // when called with illegal value ClassNotFoundException is thrown
+     * public Class<?> sneakyThrowingFunctionalInterface(final String className) throws ClassNotFoundException {
+     *     return ThrowableFunction.of(Class::forName) // create the correct throwable functional interface
+     *                .sneakyThrow() // create a non-throwable variant which is able to sneaky throw (this method)
+     *                .apply(className); // apply non-throwable variant -> may sneaky throw a throwable
+     * }
+     *
+     * // call the the method which surround the sneaky throwing functional interface
+     * public void callingMethod() {
+     *     try {
+     *         final Class<?> clazz = sneakyThrowingFunctionalInterface("some illegal class name");
+     *         // ... do something with clazz ...
+     *     } catch(ClassNotFoundException e) {
+     *         // ... do something with e ...
+     *     }
+     * }
+     * }</pre>
+     * In conclusion, this somewhat contentious ability should be used carefully, of course, with the advantages,
+     * disadvantages and limitations described above kept in mind.
+     *
+     * @return A composed {@link Comparator2} that applies this comparator to its input and sneakily throws the thrown
+     * {@link Throwable} from it, unless it is of type {@link RuntimeException} or {@link Error}.
+     * @implNote If thrown {@link Throwable} is of type {@link RuntimeException} or {@link Error}, it is thrown as-is
+     * and thus not sneakily thrown.
+     */
+    @Nonnull
+    default Comparator2<T> sneakyThrow() {
+        return (t1, t2) -> {
+            try {
+                return this.compareThrows(t1, t2);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw ThrowableUtils.sneakyThrow(throwable);
+            }
+        };
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,419 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.comparator;
+
+import at.gridtec.lambda4j.Lambda;
+import at.gridtec.lambda4j.core.util.DerivedView;
+import at.gridtec.lambda4j.core.util.ThrowableUtils;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Represents a comparison function of two {@code int}-valued input arguments which is able to throw any {@link
+ * Throwable}, which imposes a total ordering on its arguments. This is a primitive specialization of {@link
+ * ThrowableComparator}, which compares its arguments without boxing them.
+ * <p>
+ * This is a {@link FunctionalInterface} whose functional method is {@link #compareThrows(int, int)}.
+ *
+ * @param <X> The type of the throwable to be thrown by this comparator
+ * @see ThrowableComparator
+ */
+@SuppressWarnings("unused")
+@FunctionalInterface
+public interface ThrowableIntComparator<X extends Throwable> extends Lambda {
+
+    /**
+     * Constructs a {@link ThrowableIntComparator} based on a lambda expression or a method reference. Thereby the given
+     * lambda expression or method reference is returned on an as-is basis to implicitly transform it to the desired
+     * type. With this method, it is possible to ensure that correct type is used from lambda expression or method
+     * reference.
+     *
+     * @param <X> The type of the throwable to be thrown by this comparator
+     * @param expression A lambda expression or (typically) a method reference, e.g. {@code this::method}
+     * @return A {@code ThrowableIntComparator} from given lambda expression or method reference.
+     * @implNote This implementation allows the given argument to be {@code null}, but only if {@code null} given,
+     * {@code null} will be returned.
+     * @see <a href="https://docs.oracle.com/javase/tutorial/java/javaOO/lambdaexpressions.html#syntax">Lambda
+     * Expression</a>
+     * @see <a href="https://docs.oracle.com/javase/tutorial/java/javaOO/methodreferences.html">Method Reference</a>
+     */
+    static <X extends Throwable> ThrowableIntComparator<X> of(@Nullable final ThrowableIntComparator<X> expression) {
+        return expression;
+    }
+
+    /**
+     * Calls the given {@link ThrowableIntComparator} with the given arguments and returns its result.
+     *
+     * @param <X> The type of the throwable to be thrown by this comparator
+     * @param comparator The comparator to be called
+     * @param value1 The first argument to the comparator
+     * @param value2 The second argument to the comparator
+     * @return The result from the given {@code ThrowableIntComparator}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @throws X Any throwable from this comparators action
+     */
+    static <X extends Throwable> int call(@Nonnull final ThrowableIntComparator<? extends X> comparator, int value1,
+            int value2) throws X {
+        Objects.requireNonNull(comparator);
+        return comparator.compareThrows(value1, value2);
+    }
+
+    /**
+     * Returns a {@link ThrowableIntComparator} which represents the given {@link ThrowableComparator}. Thereby the
+     * boxed input arguments and results of the given comparator are unboxed to their primitive counterparts. This
+     * method is the inverse of {@link #boxed()}.
+     *
+     * @param <X> The type of the throwable to be thrown by this comparator
+     * @param boxed The {@code ThrowableComparator} to be represented by the returned {@code ThrowableIntComparator}
+     * @return A {@code ThrowableIntComparator} which represents the given {@code ThrowableComparator}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implNote If the given {@code ThrowableComparator} was returned from {@link #boxed()}, the original {@code
+     * ThrowableIntComparator} is returned instead of wrapping it twice. Likewise, {@link #boxed()} of the returned
+     * {@code ThrowableIntComparator} returns the given {@code ThrowableComparator}.
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <X extends Throwable> ThrowableIntComparator<X> unboxed(
+            @Nonnull final ThrowableComparator<Integer, X> boxed) {
+        Objects.requireNonNull(boxed);
+        if (boxed instanceof DerivedView && ((DerivedView) boxed).getSource() instanceof ThrowableIntComparator) {
+            return (ThrowableIntComparator<X>) ((DerivedView) boxed).getSource();
+        }
+        return new ThrowableIntComparator<X>() {
+            @Override
+            public int compareThrows(int value1, int value2) throws X {
+                return boxed.compareThrows(value1, value2);
+            }
+
+            @Nonnull
+            @Override
+            public ThrowableComparator<Integer, X> boxed() {
+                return boxed;
+            }
+        };
+    }
+
+    /**
+     * Sorts the given array according to the order induced by the given {@link ThrowableIntComparator}. This sort is
+     * guaranteed to be stable, so equal elements are not reordered as a result of the sort.
+     *
+     * @param <X> The type of the throwable to be thrown by this comparator
+     * @param array The array to be sorted
+     * @param comparator The {@code ThrowableIntComparator} to determine the order of the array
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @throws X Any throwable from this comparators action
+     * @see #sort(int[], int, int, ThrowableIntComparator)
+     */
+    static <X extends Throwable> void sort(@Nonnull final int[] array,
+            @Nonnull final ThrowableIntComparator<? extends X> comparator) throws X {
+        Objects.requireNonNull(array);
+        sort(array, 0, array.length, comparator);
+    }
+
+    /**
+     * Sorts the given range of the given array according to the order induced by the given {@link
+     * ThrowableIntComparator}. The range extends from index {@code fromIndex}, inclusive, to index {@code toIndex},
+     * exclusive. This sort is guaranteed to be stable, so equal elements are not reordered as a result of the sort.
+     *
+     * @param <X> The type of the throwable to be thrown by this comparator
+     * @param array The array to be sorted
+     * @param fromIndex The index of the first element (inclusive) to be sorted
+     * @param toIndex The index of the last element (exclusive) to be sorted
+     * @param comparator The {@code ThrowableIntComparator} to determine the order of the array
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @throws IllegalArgumentException If {@code fromIndex > toIndex}
+     * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0} or {@code toIndex > array.length}
+     * @throws X Any throwable from this comparators action
+     * @implNote This implementation sorts the elements in place without boxing them. Small runs of elements are sorted
+     * using insertion sort, which are merged afterwards using a bottom-up merge sort. Merging is skipped for runs,
+     * which are already in order, so this implementation requires only linear time for already sorted arrays.
+     * @see Arrays#sort(Object[], int, int, Comparator)
+     */
+    static <X extends Throwable> void sort(@Nonnull final int[] array, final int fromIndex, final int toIndex,
+            @Nonnull final ThrowableIntComparator<? extends X> comparator) throws X {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(comparator);
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        } else if (fromIndex < 0) {
+            throw new ArrayIndexOutOfBoundsException(fromIndex);
+        } else if (toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException(toIndex);
+        }
+        // Sort runs of 32 elements using insertion sort
+        final int length = toIndex - fromIndex;
+        for (int low = fromIndex; low < toIndex;) {
+            final int high = toIndex - low > 32 ? low + 32 : toIndex;
+            for (int i = low + 1; i < high; i++) {
+                final int value = array[i];
+                int j = i - 1;
+                while (j >= low && comparator.compareThrows(array[j], value) > 0) {
+                    array[j + 1] = array[j];
+                    j--;
+                }
+                array[j + 1] = value;
+            }
+            low = high;
+        }
+        // Merge runs of doubling width, unless they are already in order
+        int[] buffer = null;
+        for (int width = 32; width < length; width = length - width > width ? width << 1 : length) {
+            for (int low = fromIndex; toIndex - low > width;) {
+                final int middle = low + width;
+                final int high = toIndex - middle > width ? middle + width : toIndex;
+                if (comparator.compareThrows(array[middle - 1], array[middle]) > 0) {
+                    if (buffer == null) {
+                        buffer = new int[length];
+                    }
+                    System.arraycopy(array, low, buffer, 0, width);
+                    int i = 0;
+                    int j = middle;
+                    int k = low;
+                    while (i < width && j < high) {
+                        array[k++] = comparator.compareThrows(array[j], buffer[i]) < 0 ? array[j++] : buffer[i++];
+                    }
+                    System.arraycopy(buffer, i, array, k, width - i);
+                }
+                low = high;
+            }
+        }
+    }
+
+    /**
+     * Searches the given array for the given key using the binary search algorithm. The array must be sorted according
+     * to the order induced by the given {@link ThrowableIntComparator} (e.g. by {@link #sort(int[],
+     * ThrowableIntComparator)}) prior to this call. If it is not sorted, the results are undefined.
+     *
+     * @param <X> The type of the throwable to be thrown by this comparator
+     * @param array The array to be searched
+     * @param key The value to be searched for
+     * @param comparator The {@code ThrowableIntComparator} by which the array is ordered
+     * @return The index of the given key, if it is contained in the array; otherwise {@code (-(insertion point) - 1)}.
+     * The insertion point is the index of the first element greater than the key, or {@code array.length} if all
+     * elements in the array are less than the given key.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @throws X Any throwable from this comparators action
+     * @see #binarySearch(int[], int, int, int, ThrowableIntComparator)
+     */
+    static <X extends Throwable> int binarySearch(@Nonnull final int[] array, final int key,
+            @Nonnull final ThrowableIntComparator<? extends X> comparator) throws X {
+        Objects.requireNonNull(array);
+        return binarySearch(array, 0, array.length, key, comparator);
+    }
+
+    /**
+     * Searches the given range of the given array for the given key using the binary search algorithm. The range must
+     * be sorted according to the order induced by the given {@link ThrowableIntComparator} (e.g. by {@link #sort(int[],
+     * int, int, ThrowableIntComparator)}) prior to this call. If it is not sorted, the results are undefined.
+     *
+     * @param <X> The type of the throwable to be thrown by this comparator
+     * @param array The array to be searched
+     * @param fromIndex The index of the first element (inclusive) to be searched
+     * @param toIndex The index of the last element (exclusive) to be searched
+     * @param key The value to be searched for
+     * @param comparator The {@code ThrowableIntComparator} by which the array is ordered
+     * @return The index of the given key, if it is contained in the given range; otherwise {@code (-(insertion point) -
+     * 1)}. The insertion point is the index of the first element in the range greater than the key, or {@code toIndex}
+     * if all elements in the range are less than the given key.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @throws IllegalArgumentException If {@code fromIndex > toIndex}
+     * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0} or {@code toIndex > array.length}
+     * @throws X Any throwable from this comparators action
+     * @see Arrays#binarySearch(Object[], int, int, Object, Comparator)
+     */
+    static <X extends Throwable> int binarySearch(@Nonnull final int[] array, final int fromIndex, final int toIndex,
+            final int key, @Nonnull final ThrowableIntComparator<? extends X> comparator) throws X {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(comparator);
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        } else if (fromIndex < 0) {
+            throw new ArrayIndexOutOfBoundsException(fromIndex);
+        } else if (toIndex > array.length) {
+            throw new ArrayIndexOutOfBoundsException(toIndex);
+        }
+        int low = fromIndex;
+        int high = toIndex - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final int result = comparator.compareThrows(array[middle], key);
+            if (result < 0) {
+                low = middle + 1;
+            } else if (result > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Applies this comparator to the given arguments.
+     *
+     * @param value1 The first argument to the comparator
+     * @param value2 The second argument to the comparator
+     * @return The return value from the comparator, which is its result.
+     * @throws X Any throwable from this comparators action
+     */
+    int compareThrows(int value1, int value2) throws X;
+
+    /**
+     * Returns the number of arguments for this comparator.
+     *
+     * @return The number of arguments for this comparator.
+     * @implSpec The default implementation always returns {@code 2}.
+     */
+    @Nonnegative
+    default int arity() {
+        return 2;
+    }
+
+    /**
+     * Returns a reversed version of this comparator, which imposes the reverse ordering of this comparator.
+     *
+     * @return A reversed version of this comparator.
+     * @implNote Reversing the returned comparator again returns this comparator instead of wrapping it twice.
+     */
+    @Nonnull
+    default ThrowableIntComparator<X> reversed() {
+        return new ThrowableIntComparator<X>() {
+            @Override
+            public int compareThrows(int value2, int value1) throws X {
+                return ThrowableIntComparator.this.compareThrows(value1, value2);
+            }
+
+            @Nonnull
+            @Override
+            public ThrowableIntComparator<X> reversed() {
+                return ThrowableIntComparator.this;
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link ThrowableComparator} which represents this {@link ThrowableIntComparator}. Thereby the
+     * primitive input argument for this comparator is autoboxed. This method provides the possibility to use this
+     * {@code ThrowableIntComparator} with methods provided by the {@code JDK}.
+     *
+     * @return A composed {@code ThrowableComparator} which represents this {@code ThrowableIntComparator}.
+     * @implNote The returned {@code ThrowableComparator} is a {@link DerivedView} of this {@code
+     * ThrowableIntComparator}, so {@link #unboxed(ThrowableComparator)} returns this {@code ThrowableIntComparator}
+     * instead of wrapping it twice.
+     */
+    @Nonnull
+    default ThrowableComparator<Integer, X> boxed() {
+        final class Boxed implements ThrowableComparator<Integer, X>, DerivedView {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public int compareThrows(Integer value1, Integer value2) throws X {
+                return ThrowableIntComparator.this.compareThrows(value1, value2);
+            }
+
+            @Nonnull
+            @Override
+            public ThrowableIntComparator<X> getSource() {
+                return ThrowableIntComparator.this;
+            }
+        }
+        return new Boxed();
+    }
+
+    /**
+     * Returns a composed {@link IntComparator} that applies this comparator to its input and sneakily throws the thrown
+     * {@link Throwable} from it, if it is not of type {@link RuntimeException} or {@link Error}. This means that each
+     * throwable thrown from the returned composed comparator behaves exactly the same as an <em>unchecked</em>
+     * throwable does. As a result, there is no need to handle the throwable of this comparator in the returned composed
+     * comparator by either wrapping it in an <em>unchecked</em> throwable or to declare it in the {@code throws}
+     * clause, as it would be done in a non sneaky throwing comparator.
+     * <p>
+     * What sneaky throwing simply does, is to fake out the compiler and thus it bypasses the principle of
+     * <em>checked</em> throwables. On the JVM (class file) level, all throwables, checked or not, can be thrown
+     * regardless of the {@code throws} clause of methods, which is why this works at all.
+     * <p>
+     * However, when using this method to get a sneaky throwing comparator variant of this throwable comparator, the
+     * following advantages, disadvantages and limitations will apply:
+     * <p>
+     * If the calling-code is to handle the sneakily thrown throwable, it is required to add it to the {@code throws}
+     * clause of the method that applies the returned composed comparator. The compiler will not force the declaration
+     * in the {@code throws} clause anymore.
+     * <p>
+     * If the calling-code already handles the sneakily thrown throwable, the compiler requires it to be added to the
+     * {@code throws} clause of the method that applies the returned composed comparator. If not added, the compiler
+     * will error that the caught throwable is never thrown in the corresponding {@code try} block.
+     * <p>
+     * If the returned composed comparator is directly surrounded by a {@code try}-{@code catch} block to catch the
+     * sneakily thrown throwable from it, the compiler will error that the caught throwable is never thrown in the
+     * corresponding {@code try} block.
+     * <p>
+     * In any case, if the throwable is not added to the to the {@code throws} clause of the method that applies the
+     * returned composed comparator, the calling-code won't be able to catch the throwable by name. It will bubble and
+     * probably be caught in some {@code catch} statement, catching a base type such as {@code try { ... }
+     * catch(RuntimeException e) { ... }} or {@code try { ... } catch(Exception e) { ... }}, but perhaps this is
+     * intended.
+     * <p>
+     * When the called code never throws the specific throwable that it declares, it should obviously be omitted. For
+     * example: {@code new String(byteArr, "UTF-8") throws UnsupportedEncodingException}, but {@code UTF-8} is
+     * guaranteed by the Java specification to be always present. Here, the {@code throws} declaration is a nuisance and
+     * any solution to silence it with minimal boilerplate is welcome. The throwable should therefore be omitted in the
+     * {@code throws} clause of the method that applies the returned composed comparator.
+     * <p>
+     * With all that mentioned, the following example will demonstrate this methods correct use:
+     * <pre>{@code
+     * // when called with illegal value ClassNotFoundException is thrown
+     * public Class<?> sneakyThrowingFunctionalInterface(final String className) throws ClassNotFoundException {
+     *     return ThrowableFunction.of(Class::forName) // create the correct throwable functional interface
+     *                .sneakyThrow() // create a non-throwable variant which is able to sneaky throw (this method)
+     *                .apply(className); // apply non-throwable variant -> may sneaky throw a throwable
+     * }
+     *
+     * // call the the method which surround the sneaky throwing functional interface
+     * public void callingMethod() {
+     *     try {
+     *         final Class<?> clazz = sneakyThrowingFunctionalInterface("some illegal class name");
+     *         // ... do something with clazz ...
+     *     } catch(ClassNotFoundException e) {
+     *         // ... do something with e ...
+     *     }
+     * }
+     * }</pre>
+     * In conclusion, this somewhat contentious ability should be used carefully, of course, with the advantages,
+     * disadvantages and limitations described above kept in mind.
+     *
+     * @return A composed {@link IntComparator} that applies this comparator to its input and sneakily throws the thrown
+     * {@link Throwable} from it, unless it is of type {@link RuntimeException} or {@link Error}.
+     * @implNote If thrown {@link Throwable} is of type {@link RuntimeException} or {@link Error}, it is thrown as-is
+     * and thus not sneakily thrown.
+     */
+    @Nonnull
+    default IntComparator sneakyThrow() {
+        return (value1, value2) -> {
+            try {
+                return this.compareThrows(value1, value2);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw ThrowableUtils.sneakyThrow(throwable);
+            }
+        };
+    }
+
+}
\ No newline at end of file
@@ -16,11 +16,18 @@
 package at.gridtec.lambda4j.consumer;
 
 import at.gridtec.lambda4j.Lambda;
+import at.gridtec.lambda4j.function.Function2;
+import at.gridtec.lambda4j.predicate.Predicate2;
+import at.gridtec.lambda4j.resilience.Bulkhead;
+import at.gridtec.lambda4j.resilience.CallNotPermittedException;
+import at.gridtec.lambda4j.resilience.RateLimiter;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -98,10 +105,16 @@ public interface Consumer2<T> extends Lambda, Consumer<T> {
      * applies this consumer to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to handle every type.
+     * @implNote The composed consumer is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
      */
     @Nonnull
     default <A> Consumer2<A> compose(@Nonnull final Function<? super A, ? extends T> before) {
         Objects.requireNonNull(before);
+        if (this instanceof Pure && before instanceof Pure) {
+            return (Consumer2<A> & Pure) (a) -> accept(before.apply(a));
+        } else if (this instanceof ThreadSafe && before instanceof ThreadSafe) {
+            return (Consumer2<A> & ThreadSafe) (a) -> accept(before.apply(a));
+        }
         return (a) -> accept(before.apply(a));
     }
 
@@ -115,10 +128,22 @@ public interface Consumer2<T> extends Lambda, Consumer<T> {
      * @return A composed {@link Consumer2} that performs, in sequence, this consumer followed by the {@code after}
      * consumer.
      * @throws NullPointerException If given argument is {@code null}
+     * @implNote The composed consumer is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
      */
     @Nonnull
     default Consumer2<T> andThen(@Nonnull final Consumer<? super T> after) {
         Objects.requireNonNull(after);
+        if (this instanceof Pure && after instanceof Pure) {
+            return (Consumer2<T> & Pure) (t) -> {
+                accept(t);
+                after.accept(t);
+            };
+        } else if (this instanceof ThreadSafe && after instanceof ThreadSafe) {
+            return (Consumer2<T> & ThreadSafe) (t) -> {
+                accept(t);
+                after.accept(t);
+            };
+        }
         return (t) -> {
             accept(t);
             after.accept(t);
@@ -135,4 +160,128 @@ public interface Consumer2<T> extends Lambda, Consumer<T> {
         return this;
     }
 
+    /**
+     * Returns a composed {@link Consumer2} that applies this consumer to its input, if less than the given number of
+     * calls of the composed consumer are running concurrently. Otherwise the call is rejected immediately with a {@link
+     * CallNotPermittedException}.
+     *
+     * @param maxConcurrent The maximum number of concurrent calls
+     * @return A composed {@code Consumer2} that applies this consumer to its input, if less than the given number of
+     * calls are running concurrently.
+     * @throws IllegalArgumentException If given argument is not positive
+     * @see #bulkhead(Bulkhead)
+     */
+    @Nonnull
+    default Consumer2<T> bulkhead(final int maxConcurrent) {
+        return bulkhead(Bulkhead.of(maxConcurrent));
+    }
+
+    /**
+     * Returns a composed {@link Consumer2} that applies this consumer to its input, if a permit of the given {@link
+     * Bulkhead} is acquired. Depending on the mode of the bulkhead, the call either waits for a permit or is rejected
+     * with a {@link CallNotPermittedException}. A bulkhead may be shared by several functional interfaces calling the
+     * same dependency.
+     *
+     * @param bulkhead The bulkhead which limits the concurrent calls of this consumer
+     * @return A composed {@code Consumer2} that applies this consumer to its input, if a permit of the given {@code
+     * Bulkhead} is acquired.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see Bulkhead#of(int, Duration)
+     * @see Bulkhead#adaptive(int, int)
+     */
+    @Nonnull
+    default Consumer2<T> bulkhead(@Nonnull final Bulkhead bulkhead) {
+        Objects.requireNonNull(bulkhead);
+        return (t) -> {
+            final long permit = bulkhead.acquirePermission();
+            try {
+                this.accept(t);
+            } finally {
+                bulkhead.releasePermission(permit);
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link Consumer2} that applies this consumer to its input at most the given number of times
+     * per second. If calls of the composed consumer arrive faster, the calling thread is blocked until its call is
+     * permitted.
+     *
+     * @param permitsPerSecond The number of calls per second
+     * @return A composed {@code Consumer2} that applies this consumer to its input at most the given number of times
+     * per second.
+     * @throws IllegalArgumentException If given argument is not positive
+     * @see #rateLimited(RateLimiter)
+     */
+    @Nonnull
+    default Consumer2<T> rateLimited(final double permitsPerSecond) {
+        return rateLimited(RateLimiter.of(permitsPerSecond));
+    }
+
+    /**
+     * Returns a composed {@link Consumer2} that applies this consumer to its input once a permit of the given {@link
+     * RateLimiter} is acquired. The calling thread is blocked until its call is permitted.
+     *
+     * @param rateLimiter The rate limiter which limits the rate of calls of this consumer
+     * @return A composed {@code Consumer2} that applies this consumer to its input once a permit of the given {@code
+     * RateLimiter} is acquired.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see RateLimiter#acquire()
+     */
+    @Nonnull
+    default Consumer2<T> rateLimited(@Nonnull final RateLimiter rateLimiter) {
+        Objects.requireNonNull(rateLimiter);
+        return (t) -> {
+            rateLimiter.acquire();
+            this.accept(t);
+        };
+    }
+
+    /**
+     * Returns a {@link Predicate2} that applies this consumer to its input, if a permit of the given {@link
+     * RateLimiter} is available immediately. Otherwise the input is dropped without blocking. The returned predicate
+     * tells if the input was accepted.
+     *
+     * @param rateLimiter The rate limiter which limits the rate of calls of this consumer
+     * @return A {@code Predicate2} that applies this consumer to its input, if a permit of the given {@code
+     * RateLimiter} is available, and returns {@code true} if so, {@code false} otherwise.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see RateLimiter#tryAcquire()
+     */
+    @Nonnull
+    default Predicate2<T> rateLimitedOrDrop(@Nonnull final RateLimiter rateLimiter) {
+        Objects.requireNonNull(rateLimiter);
+        return (t) -> {
+            if (!rateLimiter.tryAcquire()) {
+                return false;
+            }
+            this.accept(t);
+            return true;
+        };
+    }
+
+    /**
+     * Returns a composed {@link Function2} that applies this consumer asynchronously to its input using the given
+     * scheduler, once a permit of the given {@link RateLimiter} may be used. No thread is blocked while waiting for the
+     * permit. The {@link CompletableFuture} returned from the composed function is completed exceptionally, if a {@link
+     * Throwable} is thrown from this consumer.
+     *
+     * @param rateLimiter The rate limiter which limits the rate of calls of this consumer
+     * @param scheduler The scheduler to apply this consumer with
+     * @return A composed {@code Function2} that applies this consumer asynchronously to its input, once a permit of the
+     * given {@code RateLimiter} may be used.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @see RateLimiter#executeAsync(ThrowableSupplier, ScheduledExecutorService)
+     */
+    @Nonnull
+    default Function2<T, CompletableFuture<Void>> rateLimitedAsync(@Nonnull final RateLimiter rateLimiter,
+            @Nonnull final ScheduledExecutorService scheduler) {
+        Objects.requireNonNull(rateLimiter);
+        Objects.requireNonNull(scheduler);
+        return (t) -> rateLimiter.executeAsync(() -> {
+            this.accept(t);
+            return null;
+        }, scheduler);
+    }
+
 }
\ No newline at end of file
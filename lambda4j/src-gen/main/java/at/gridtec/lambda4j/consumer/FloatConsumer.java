@@ -16,6 +16,8 @@
 package at.gridtec.lambda4j.consumer;
 
 import at.gridtec.lambda4j.Lambda;
+import at.gridtec.lambda4j.core.util.DerivedView;
+import at.gridtec.lambda4j.function.FloatFunction;
 import at.gridtec.lambda4j.function.conversion.BooleanToFloatFunction;
 import at.gridtec.lambda4j.function.conversion.ByteToFloatFunction;
 import at.gridtec.lambda4j.function.conversion.CharToFloatFunction;
@@ -25,11 +27,17 @@ import at.gridtec.lambda4j.function.conversion.LongToFloatFunction;
 import at.gridtec.lambda4j.function.conversion.ShortToFloatFunction;
 import at.gridtec.lambda4j.function.to.ToFloatFunction;
 import at.gridtec.lambda4j.operator.unary.FloatUnaryOperator;
+import at.gridtec.lambda4j.predicate.FloatPredicate;
+import at.gridtec.lambda4j.resilience.Bulkhead;
+import at.gridtec.lambda4j.resilience.CallNotPermittedException;
+import at.gridtec.lambda4j.resilience.RateLimiter;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
 
 /**
  * Represents an operation that accepts one {@code float}-valued input argument and returns no result.
@@ -73,6 +81,38 @@ public interface FloatConsumer extends Lambda {
         consumer.accept(value);
     }
 
+    /**
+     * Returns a {@link FloatConsumer} which represents the given {@link Consumer2}. Thereby the boxed input arguments
+     * and results of the given consumer are unboxed to their primitive counterparts. This method is the inverse of
+     * {@link #boxed()}.
+     *
+     * @param boxed The {@code Consumer2} to be represented by the returned {@code FloatConsumer}
+     * @return A {@code FloatConsumer} which represents the given {@code Consumer2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implNote If the given {@code Consumer2} was returned from {@link #boxed()}, the original {@code FloatConsumer}
+     * is returned instead of wrapping it twice. Likewise, {@link #boxed()} of the returned {@code FloatConsumer}
+     * returns the given {@code Consumer2}.
+     */
+    @Nonnull
+    static FloatConsumer unboxed(@Nonnull final Consumer2<Float> boxed) {
+        Objects.requireNonNull(boxed);
+        if (boxed instanceof DerivedView && ((DerivedView) boxed).getSource() instanceof FloatConsumer) {
+            return (FloatConsumer) ((DerivedView) boxed).getSource();
+        }
+        return new FloatConsumer() {
+            @Override
+            public void accept(float value) {
+                boxed.accept(value);
+            }
+
+            @Nonnull
+            @Override
+            public Consumer2<Float> boxed() {
+                return boxed;
+            }
+        };
+    }
+
     /**
      * Applies this consumer to the given argument.
      *
@@ -102,10 +142,16 @@ public interface FloatConsumer extends Lambda {
      * applies this consumer to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to handle every type.
+     * @implNote The composed consumer is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
      */
     @Nonnull
     default <A> Consumer2<A> compose(@Nonnull final ToFloatFunction<? super A> before) {
         Objects.requireNonNull(before);
+        if (this instanceof Pure && before instanceof Pure) {
+            return (Consumer2<A> & Pure) (a) -> accept(before.applyAsFloat(a));
+        } else if (this instanceof ThreadSafe && before instanceof ThreadSafe) {
+            return (Consumer2<A> & ThreadSafe) (a) -> accept(before.applyAsFloat(a));
+        }
         return (a) -> accept(before.applyAsFloat(a));
     }
 
@@ -275,10 +321,22 @@ public interface FloatConsumer extends Lambda {
      * @return A composed {@link FloatConsumer} that performs, in sequence, this consumer followed by the {@code after}
      * consumer.
      * @throws NullPointerException If given argument is {@code null}
+     * @implNote The composed consumer is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
      */
     @Nonnull
     default FloatConsumer andThen(@Nonnull final FloatConsumer after) {
         Objects.requireNonNull(after);
+        if (this instanceof Pure && after instanceof Pure) {
+            return (FloatConsumer & Pure) (value) -> {
+                accept(value);
+                after.accept(value);
+            };
+        } else if (this instanceof ThreadSafe && after instanceof ThreadSafe) {
+            return (FloatConsumer & ThreadSafe) (value) -> {
+                accept(value);
+                after.accept(value);
+            };
+        }
         return (value) -> {
             accept(value);
             after.accept(value);
@@ -291,10 +349,150 @@ public interface FloatConsumer extends Lambda {
      * {@code FloatConsumer} with methods provided by the {@code JDK}.
      *
      * @return A composed {@code Consumer2} which represents this {@code FloatConsumer}.
+     * @implNote The returned {@code Consumer2} is a {@link DerivedView} of this {@code FloatConsumer}, so {@link
+     * #unboxed(Consumer2)} returns this {@code FloatConsumer} instead of wrapping it twice.
      */
     @Nonnull
     default Consumer2<Float> boxed() {
-        return this::accept;
+        final class Boxed implements Consumer2<Float>, DerivedView {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public void accept(Float value) {
+                FloatConsumer.this.accept(value);
+            }
+
+            @Nonnull
+            @Override
+            public FloatConsumer getSource() {
+                return FloatConsumer.this;
+            }
+        }
+        return new Boxed();
+    }
+
+    /**
+     * Returns a composed {@link FloatConsumer} that applies this consumer to its input, if less than the given number
+     * of calls of the composed consumer are running concurrently. Otherwise the call is rejected immediately with a
+     * {@link CallNotPermittedException}.
+     *
+     * @param maxConcurrent The maximum number of concurrent calls
+     * @return A composed {@code FloatConsumer} that applies this consumer to its input, if less than the given number
+     * of calls are running concurrently.
+     * @throws IllegalArgumentException If given argument is not positive
+     * @see #bulkhead(Bulkhead)
+     */
+    @Nonnull
+    default FloatConsumer bulkhead(final int maxConcurrent) {
+        return bulkhead(Bulkhead.of(maxConcurrent));
+    }
+
+    /**
+     * Returns a composed {@link FloatConsumer} that applies this consumer to its input, if a permit of the given {@link
+     * Bulkhead} is acquired. Depending on the mode of the bulkhead, the call either waits for a permit or is rejected
+     * with a {@link CallNotPermittedException}. A bulkhead may be shared by several functional interfaces calling the
+     * same dependency.
+     *
+     * @param bulkhead The bulkhead which limits the concurrent calls of this consumer
+     * @return A composed {@code FloatConsumer} that applies this consumer to its input, if a permit of the given {@code
+     * Bulkhead} is acquired.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see Bulkhead#of(int, Duration)
+     * @see Bulkhead#adaptive(int, int)
+     */
+    @Nonnull
+    default FloatConsumer bulkhead(@Nonnull final Bulkhead bulkhead) {
+        Objects.requireNonNull(bulkhead);
+        return (value) -> {
+            final long permit = bulkhead.acquirePermission();
+            try {
+                this.accept(value);
+            } finally {
+                bulkhead.releasePermission(permit);
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link FloatConsumer} that applies this consumer to its input at most the given number of
+     * times per second. If calls of the composed consumer arrive faster, the calling thread is blocked until its call
+     * is permitted.
+     *
+     * @param permitsPerSecond The number of calls per second
+     * @return A composed {@code FloatConsumer} that applies this consumer to its input at most the given number of
+     * times per second.
+     * @throws IllegalArgumentException If given argument is not positive
+     * @see #rateLimited(RateLimiter)
+     */
+    @Nonnull
+    default FloatConsumer rateLimited(final double permitsPerSecond) {
+        return rateLimited(RateLimiter.of(permitsPerSecond));
+    }
+
+    /**
+     * Returns a composed {@link FloatConsumer} that applies this consumer to its input once a permit of the given
+     * {@link RateLimiter} is acquired. The calling thread is blocked until its call is permitted.
+     *
+     * @param rateLimiter The rate limiter which limits the rate of calls of this consumer
+     * @return A composed {@code FloatConsumer} that applies this consumer to its input once a permit of the given
+     * {@code RateLimiter} is acquired.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see RateLimiter#acquire()
+     */
+    @Nonnull
+    default FloatConsumer rateLimited(@Nonnull final RateLimiter rateLimiter) {
+        Objects.requireNonNull(rateLimiter);
+        return (value) -> {
+            rateLimiter.acquire();
+            this.accept(value);
+        };
+    }
+
+    /**
+     * Returns a {@link FloatPredicate} that applies this consumer to its input, if a permit of the given {@link
+     * RateLimiter} is available immediately. Otherwise the input is dropped without blocking. The returned predicate
+     * tells if the input was accepted.
+     *
+     * @param rateLimiter The rate limiter which limits the rate of calls of this consumer
+     * @return A {@code FloatPredicate} that applies this consumer to its input, if a permit of the given {@code
+     * RateLimiter} is available, and returns {@code true} if so, {@code false} otherwise.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see RateLimiter#tryAcquire()
+     */
+    @Nonnull
+    default FloatPredicate rateLimitedOrDrop(@Nonnull final RateLimiter rateLimiter) {
+        Objects.requireNonNull(rateLimiter);
+        return (value) -> {
+            if (!rateLimiter.tryAcquire()) {
+                return false;
+            }
+            this.accept(value);
+            return true;
+        };
+    }
+
+    /**
+     * Returns a composed {@link FloatFunction} that applies this consumer asynchronously to its input using the given
+     * scheduler, once a permit of the given {@link RateLimiter} may be used. No thread is blocked while waiting for the
+     * permit. The {@link CompletableFuture} returned from the composed function is completed exceptionally, if a {@link
+     * Throwable} is thrown from this consumer.
+     *
+     * @param rateLimiter The rate limiter which limits the rate of calls of this consumer
+     * @param scheduler The scheduler to apply this consumer with
+     * @return A composed {@code FloatFunction} that applies this consumer asynchronously to its input, once a permit of
+     * the given {@code RateLimiter} may be used.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @see RateLimiter#executeAsync(ThrowableSupplier, ScheduledExecutorService)
+     */
+    @Nonnull
+    default FloatFunction<CompletableFuture<Void>> rateLimitedAsync(@Nonnull final RateLimiter rateLimiter,
+            @Nonnull final ScheduledExecutorService scheduler) {
+        Objects.requireNonNull(rateLimiter);
+        Objects.requireNonNull(scheduler);
+        return (value) -> rateLimiter.executeAsync(() -> {
+            this.accept(value);
+            return null;
+        }, scheduler);
     }
 
 }
\ No newline at end of file
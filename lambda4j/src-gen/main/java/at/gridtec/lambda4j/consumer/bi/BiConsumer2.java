@@ -17,6 +17,12 @@ package at.gridtec.lambda4j.consumer.bi;
 
 import at.gridtec.lambda4j.Lambda;
 import at.gridtec.lambda4j.consumer.Consumer2;
+import at.gridtec.lambda4j.core.util.ThrowableUtils;
+import at.gridtec.lambda4j.function.bi.BiFunction2;
+import at.gridtec.lambda4j.predicate.bi.BiPredicate2;
+import at.gridtec.lambda4j.resilience.Bulkhead;
+import at.gridtec.lambda4j.resilience.CallNotPermittedException;
+import at.gridtec.lambda4j.resilience.RateLimiter;
 
 import org.apache.commons.lang3.tuple.Pair;
 
@@ -24,6 +30,9 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -166,15 +175,88 @@ public interface BiConsumer2<T, U> extends Lambda, BiConsumer<T, U> {
      * applies this consumer to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to handle every type.
+     * @implNote The composed consumer is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
      */
     @Nonnull
     default <A, B> BiConsumer2<A, B> compose(@Nonnull final Function<? super A, ? extends T> before1,
             @Nonnull final Function<? super B, ? extends U> before2) {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
+        if (this instanceof Pure && before1 instanceof Pure && before2 instanceof Pure) {
+            return (BiConsumer2<A, B> & Pure) (a, b) -> accept(before1.apply(a), before2.apply(b));
+        } else if (this instanceof ThreadSafe && before1 instanceof ThreadSafe && before2 instanceof ThreadSafe) {
+            return (BiConsumer2<A, B> & ThreadSafe) (a, b) -> accept(before1.apply(a), before2.apply(b));
+        }
         return (a, b) -> accept(before1.apply(a), before2.apply(b));
     }
 
+    /**
+     * Returns a composed {@link BiConsumer2} that first applies the {@code before} functions to its input concurrently,
+     * and then applies this consumer to the results. The first {@code before} function is applied by the calling
+     * thread, while the other ones are applied using the given {@link Executor}. The calling thread waits for their
+     * results afterwards. If evaluation of one of the operations throws an exception, it is relayed to the caller of
+     * the composed operation as is, the same as by {@link #compose(Function, Function)}. The {@code before} functions
+     * which are not started yet are cancelled in this case.
+     *
+     * @param <A> The type of the argument to the first given function, and of composed consumer
+     * @param <B> The type of the argument to the second given function, and of composed consumer
+     * @param executor The executor to apply the {@code before} functions with
+     * @param before1 The first function to apply before this consumer is applied
+     * @param before2 The second function to apply before this consumer is applied
+     * @return A composed {@code BiConsumer2} that first applies the {@code before} functions to its input concurrently,
+     * and then applies this consumer to the results.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @see #compose(Function, Function)
+     */
+    @Nonnull
+    default <A, B> BiConsumer2<A, B> composeParallel(@Nonnull final Executor executor,
+            @Nonnull final Function<? super A, ? extends T> before1,
+            @Nonnull final Function<? super B, ? extends U> before2) {
+        Objects.requireNonNull(executor);
+        Objects.requireNonNull(before1);
+        Objects.requireNonNull(before2);
+        return (a, b) -> {
+            final CompletableFuture<U> future2 = CompletableFuture.supplyAsync(() -> before2.apply(b), executor);
+            try {
+                accept(before1.apply(a), ThrowableUtils.join(future2));
+            } finally {
+                future2.cancel(false);
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link BiFunction2} that applies the {@code before} functions to its input concurrently using
+     * the given {@link Executor}, and then applies this consumer to the results. The composed function returns a {@link
+     * CompletableFuture} without waiting for any result, so no thread is blocked. This consumer is applied by the
+     * thread which completes the last {@code before} function. The {@code CompletableFuture} is completed
+     * exceptionally, if a {@link Throwable} is thrown from one of the {@code before} functions or from this consumer.
+     *
+     * @param <A> The type of the argument to the first given function, and of composed consumer
+     * @param <B> The type of the argument to the second given function, and of composed consumer
+     * @param executor The executor to apply the {@code before} functions with
+     * @param before1 The first function to apply before this consumer is applied
+     * @param before2 The second function to apply before this consumer is applied
+     * @return A composed {@code BiFunction2} that applies the {@code before} functions to its input concurrently, and
+     * then applies this consumer to the results.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @see #composeParallel(Executor, Function, Function)
+     */
+    @Nonnull
+    default <A, B> BiFunction2<A, B, CompletableFuture<Void>> composeParallelAsync(@Nonnull final Executor executor,
+            @Nonnull final Function<? super A, ? extends T> before1,
+            @Nonnull final Function<? super B, ? extends U> before2) {
+        Objects.requireNonNull(executor);
+        Objects.requireNonNull(before1);
+        Objects.requireNonNull(before2);
+        return (a, b) -> {
+            final CompletableFuture<T> future1 = CompletableFuture.supplyAsync(() -> before1.apply(a), executor);
+            final CompletableFuture<U> future2 = CompletableFuture.supplyAsync(() -> before2.apply(b), executor);
+            return CompletableFuture.allOf(future1, future2)
+                    .thenRun(() -> accept(future1.join(), future2.join()));
+        };
+    }
+
     /**
      * Returns a composed {@link BiConsumer2} that performs, in sequence, this consumer followed by the {@code after}
      * consumer.
@@ -185,10 +267,22 @@ public interface BiConsumer2<T, U> extends Lambda, BiConsumer<T, U> {
      * @return A composed {@link BiConsumer2} that performs, in sequence, this consumer followed by the {@code after}
      * consumer.
      * @throws NullPointerException If given argument is {@code null}
+     * @implNote The composed consumer is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
      */
     @Nonnull
     default BiConsumer2<T, U> andThen(@Nonnull final BiConsumer<? super T, ? super U> after) {
         Objects.requireNonNull(after);
+        if (this instanceof Pure && after instanceof Pure) {
+            return (BiConsumer2<T, U> & Pure) (t, u) -> {
+                accept(t, u);
+                after.accept(t, u);
+            };
+        } else if (this instanceof ThreadSafe && after instanceof ThreadSafe) {
+            return (BiConsumer2<T, U> & ThreadSafe) (t, u) -> {
+                accept(t, u);
+                after.accept(t, u);
+            };
+        }
         return (t, u) -> {
             accept(t, u);
             after.accept(t, u);
@@ -209,10 +303,146 @@ public interface BiConsumer2<T, U> extends Lambda, BiConsumer<T, U> {
      * Returns a reversed version of this consumer. This may be useful in recursive context.
      *
      * @return A reversed version of this consumer.
+     * @implNote Reversing the returned consumer again returns this consumer instead of wrapping it twice.
      */
     @Nonnull
     default BiConsumer2<U, T> reversed() {
-        return (u, t) -> accept(t, u);
+        return new BiConsumer2<U, T>() {
+            @Override
+            public void accept(U u, T t) {
+                BiConsumer2.this.accept(t, u);
+            }
+
+            @Nonnull
+            @Override
+            public BiConsumer2<T, U> reversed() {
+                return BiConsumer2.this;
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link BiConsumer2} that applies this consumer to its input, if less than the given number of
+     * calls of the composed consumer are running concurrently. Otherwise the call is rejected immediately with a {@link
+     * CallNotPermittedException}.
+     *
+     * @param maxConcurrent The maximum number of concurrent calls
+     * @return A composed {@code BiConsumer2} that applies this consumer to its input, if less than the given number of
+     * calls are running concurrently.
+     * @throws IllegalArgumentException If given argument is not positive
+     * @see #bulkhead(Bulkhead)
+     */
+    @Nonnull
+    default BiConsumer2<T, U> bulkhead(final int maxConcurrent) {
+        return bulkhead(Bulkhead.of(maxConcurrent));
+    }
+
+    /**
+     * Returns a composed {@link BiConsumer2} that applies this consumer to its input, if a permit of the given {@link
+     * Bulkhead} is acquired. Depending on the mode of the bulkhead, the call either waits for a permit or is rejected
+     * with a {@link CallNotPermittedException}. A bulkhead may be shared by several functional interfaces calling the
+     * same dependency.
+     *
+     * @param bulkhead The bulkhead which limits the concurrent calls of this consumer
+     * @return A composed {@code BiConsumer2} that applies this consumer to its input, if a permit of the given {@code
+     * Bulkhead} is acquired.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see Bulkhead#of(int, Duration)
+     * @see Bulkhead#adaptive(int, int)
+     */
+    @Nonnull
+    default BiConsumer2<T, U> bulkhead(@Nonnull final Bulkhead bulkhead) {
+        Objects.requireNonNull(bulkhead);
+        return (t, u) -> {
+            final long permit = bulkhead.acquirePermission();
+            try {
+                this.accept(t, u);
+            } finally {
+                bulkhead.releasePermission(permit);
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link BiConsumer2} that applies this consumer to its input at most the given number of times
+     * per second. If calls of the composed consumer arrive faster, the calling thread is blocked until its call is
+     * permitted.
+     *
+     * @param permitsPerSecond The number of calls per second
+     * @return A composed {@code BiConsumer2} that applies this consumer to its input at most the given number of times
+     * per second.
+     * @throws IllegalArgumentException If given argument is not positive
+     * @see #rateLimited(RateLimiter)
+     */
+    @Nonnull
+    default BiConsumer2<T, U> rateLimited(final double permitsPerSecond) {
+        return rateLimited(RateLimiter.of(permitsPerSecond));
+    }
+
+    /**
+     * Returns a composed {@link BiConsumer2} that applies this consumer to its input once a permit of the given {@link
+     * RateLimiter} is acquired. The calling thread is blocked until its call is permitted.
+     *
+     * @param rateLimiter The rate limiter which limits the rate of calls of this consumer
+     * @return A composed {@code BiConsumer2} that applies this consumer to its input once a permit of the given {@code
+     * RateLimiter} is acquired.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see RateLimiter#acquire()
+     */
+    @Nonnull
+    default BiConsumer2<T, U> rateLimited(@Nonnull final RateLimiter rateLimiter) {
+        Objects.requireNonNull(rateLimiter);
+        return (t, u) -> {
+            rateLimiter.acquire();
+            this.accept(t, u);
+        };
+    }
+
+    /**
+     * Returns a {@link BiPredicate2} that applies this consumer to its input, if a permit of the given {@link
+     * RateLimiter} is available immediately. Otherwise the input is dropped without blocking. The returned predicate
+     * tells if the input was accepted.
+     *
+     * @param rateLimiter The rate limiter which limits the rate of calls of this consumer
+     * @return A {@code BiPredicate2} that applies this consumer to its input, if a permit of the given {@code
+     * RateLimiter} is available, and returns {@code true} if so, {@code false} otherwise.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see RateLimiter#tryAcquire()
+     */
+    @Nonnull
+    default BiPredicate2<T, U> rateLimitedOrDrop(@Nonnull final RateLimiter rateLimiter) {
+        Objects.requireNonNull(rateLimiter);
+        return (t, u) -> {
+            if (!rateLimiter.tryAcquire()) {
+                return false;
+            }
+            this.accept(t, u);
+            return true;
+        };
+    }
+
+    /**
+     * Returns a composed {@link BiFunction2} that applies this consumer asynchronously to its input using the given
+     * scheduler, once a permit of the given {@link RateLimiter} may be used. No thread is blocked while waiting for the
+     * permit. The {@link CompletableFuture} returned from the composed function is completed exceptionally, if a {@link
+     * Throwable} is thrown from this consumer.
+     *
+     * @param rateLimiter The rate limiter which limits the rate of calls of this consumer
+     * @param scheduler The scheduler to apply this consumer with
+     * @return A composed {@code BiFunction2} that applies this consumer asynchronously to its input, once a permit of
+     * the given {@code RateLimiter} may be used.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @see RateLimiter#executeAsync(ThrowableSupplier, ScheduledExecutorService)
+     */
+    @Nonnull
+    default BiFunction2<T, U, CompletableFuture<Void>> rateLimitedAsync(@Nonnull final RateLimiter rateLimiter,
+            @Nonnull final ScheduledExecutorService scheduler) {
+        Objects.requireNonNull(rateLimiter);
+        Objects.requireNonNull(scheduler);
+        return (t, u) -> rateLimiter.executeAsync(() -> {
+            this.accept(t, u);
+            return null;
+        }, scheduler);
     }
 
 }
\ No newline at end of file
@@ -18,7 +18,10 @@ package at.gridtec.lambda4j.consumer.bi;
 import at.gridtec.lambda4j.Lambda;
 import at.gridtec.lambda4j.consumer.ThrowableBooleanConsumer;
 import at.gridtec.lambda4j.core.exception.ThrownByFunctionalInterfaceException;
+import at.gridtec.lambda4j.core.recovery.RecoveryTable;
+import at.gridtec.lambda4j.core.util.DerivedView;
 import at.gridtec.lambda4j.core.util.ThrowableUtils;
+import at.gridtec.lambda4j.function.bi.BiBooleanFunction;
 import at.gridtec.lambda4j.operator.unary.ThrowableBooleanUnaryOperator;
 import at.gridtec.lambda4j.predicate.ThrowableBytePredicate;
 import at.gridtec.lambda4j.predicate.ThrowableCharPredicate;
@@ -28,11 +31,19 @@ import at.gridtec.lambda4j.predicate.ThrowableIntPredicate;
 import at.gridtec.lambda4j.predicate.ThrowableLongPredicate;
 import at.gridtec.lambda4j.predicate.ThrowablePredicate;
 import at.gridtec.lambda4j.predicate.ThrowableShortPredicate;
+import at.gridtec.lambda4j.resilience.Bulkhead;
+import at.gridtec.lambda4j.resilience.CallNotPermittedException;
+import at.gridtec.lambda4j.resilience.CircuitBreaker;
+import at.gridtec.lambda4j.resilience.CircuitBreakerConfig;
+import at.gridtec.lambda4j.resilience.RateLimiter;
+import at.gridtec.lambda4j.resilience.RetryPolicy;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Function;
 
 /**
@@ -119,6 +130,41 @@ public interface ThrowableBiBooleanConsumer<X extends Throwable> extends Lambda
         return (value1, value2) -> consumer.acceptThrows(value2);
     }
 
+    /**
+     * Returns a {@link ThrowableBiBooleanConsumer} which represents the given {@link ThrowableBiConsumer}. Thereby the
+     * boxed input arguments and results of the given consumer are unboxed to their primitive counterparts. This method
+     * is the inverse of {@link #boxed()}.
+     *
+     * @param <X> The type of the throwable to be thrown by this consumer
+     * @param boxed The {@code ThrowableBiConsumer} to be represented by the returned {@code ThrowableBiBooleanConsumer}
+     * @return A {@code ThrowableBiBooleanConsumer} which represents the given {@code ThrowableBiConsumer}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implNote If the given {@code ThrowableBiConsumer} was returned from {@link #boxed()}, the original {@code
+     * ThrowableBiBooleanConsumer} is returned instead of wrapping it twice. Likewise, {@link #boxed()} of the returned
+     * {@code ThrowableBiBooleanConsumer} returns the given {@code ThrowableBiConsumer}.
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <X extends Throwable> ThrowableBiBooleanConsumer<X> unboxed(
+            @Nonnull final ThrowableBiConsumer<Boolean, Boolean, X> boxed) {
+        Objects.requireNonNull(boxed);
+        if (boxed instanceof DerivedView && ((DerivedView) boxed).getSource() instanceof ThrowableBiBooleanConsumer) {
+            return (ThrowableBiBooleanConsumer<X>) ((DerivedView) boxed).getSource();
+        }
+        return new ThrowableBiBooleanConsumer<X>() {
+            @Override
+            public void acceptThrows(boolean value1, boolean value2) throws X {
+                boxed.acceptThrows(value1, value2);
+            }
+
+            @Nonnull
+            @Override
+            public ThrowableBiConsumer<Boolean, Boolean, X> boxed() {
+                return boxed;
+            }
+        };
+    }
+
     /**
      * Applies this consumer to the given arguments.
      *
@@ -163,6 +209,7 @@ public interface ThrowableBiBooleanConsumer<X extends Throwable> extends Lambda
      * then applies this consumer to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to handle every type.
+     * @implNote The composed consumer is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
      */
     @Nonnull
     default <A, B> ThrowableBiConsumer<A, B, X> compose(
@@ -170,6 +217,13 @@ public interface ThrowableBiBooleanConsumer<X extends Throwable> extends Lambda
             @Nonnull final ThrowablePredicate<? super B, ? extends X> before2) {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
+        if (this instanceof Pure && before1 instanceof Pure && before2 instanceof Pure) {
+            return (ThrowableBiConsumer<A, B, X> & Pure) (a, b) -> acceptThrows(before1.testThrows(a),
+                                                                                before2.testThrows(b));
+        } else if (this instanceof ThreadSafe && before1 instanceof ThreadSafe && before2 instanceof ThreadSafe) {
+            return (ThrowableBiConsumer<A, B, X> & ThreadSafe) (a, b) -> acceptThrows(before1.testThrows(a),
+                                                                                      before2.testThrows(b));
+        }
         return (a, b) -> acceptThrows(before1.testThrows(a), before2.testThrows(b));
     }
 
@@ -356,10 +410,22 @@ public interface ThrowableBiBooleanConsumer<X extends Throwable> extends Lambda
      * @return A composed {@link ThrowableBiBooleanConsumer} that performs, in sequence, this consumer followed by the
      * {@code after} consumer.
      * @throws NullPointerException If given argument is {@code null}
+     * @implNote The composed consumer is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
      */
     @Nonnull
     default ThrowableBiBooleanConsumer<X> andThen(@Nonnull final ThrowableBiBooleanConsumer<? extends X> after) {
         Objects.requireNonNull(after);
+        if (this instanceof Pure && after instanceof Pure) {
+            return (ThrowableBiBooleanConsumer<X> & Pure) (value1, value2) -> {
+                acceptThrows(value1, value2);
+                after.acceptThrows(value1, value2);
+            };
+        } else if (this instanceof ThreadSafe && after instanceof ThreadSafe) {
+            return (ThrowableBiBooleanConsumer<X> & ThreadSafe) (value1, value2) -> {
+                acceptThrows(value1, value2);
+                after.acceptThrows(value1, value2);
+            };
+        }
         return (value1, value2) -> {
             acceptThrows(value1, value2);
             after.acceptThrows(value1, value2);
@@ -372,26 +438,49 @@ public interface ThrowableBiBooleanConsumer<X extends Throwable> extends Lambda
      * {@code ThrowableBiBooleanConsumer} with methods provided by the {@code JDK}.
      *
      * @return A composed {@code ThrowableBiConsumer} which represents this {@code ThrowableBiBooleanConsumer}.
+     * @implNote The returned {@code ThrowableBiConsumer} is a {@link DerivedView} of this {@code
+     * ThrowableBiBooleanConsumer}, so {@link #unboxed(ThrowableBiConsumer)} returns this {@code
+     * ThrowableBiBooleanConsumer} instead of wrapping it twice.
      */
     @Nonnull
     default ThrowableBiConsumer<Boolean, Boolean, X> boxed() {
-        return this::acceptThrows;
+        final class Boxed implements ThrowableBiConsumer<Boolean, Boolean, X>, DerivedView {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public void acceptThrows(Boolean value1, Boolean value2) throws X {
+                ThrowableBiBooleanConsumer.this.acceptThrows(value1, value2);
+            }
+
+            @Nonnull
+            @Override
+            public ThrowableBiBooleanConsumer<X> getSource() {
+                return ThrowableBiBooleanConsumer.this;
+            }
+        }
+        return new Boxed();
     }
 
     /**
      * Returns a composed {@link BiBooleanConsumer} that applies this consumer to its input and nests the thrown {@link
      * Throwable} from it. The {@code Throwable} is nested (wrapped) in a {@link ThrownByFunctionalInterfaceException},
      * which is constructed from the thrown {@code Throwable}s message and the thrown {@code Throwable} itself.
+     * <p>
+     * If stack traces of nested throwables are disabled process-wide using {@link
+     * ThrowableUtils#setStackTraceEnabled(boolean)}, the {@code Throwable} is nested in a {@link
+     * StacklessThrownByFunctionalInterfaceException} instead. To nest it without stack trace for a single consumer
+     * only, {@code nest(StacklessThrownByFunctionalInterfaceException::new)} may be used.
      *
      * @return A composed {@link BiBooleanConsumer} that applies this consumer to its input and nests the thrown {@code
      * Throwable} from it.
      * @implNote If thrown {@code Throwable} is of type {@link Error} it is thrown as-is and thus not nested.
      * @see #nest(Function)
      * @see ThrownByFunctionalInterfaceException
+     * @see ThrowableUtils#nest(Throwable)
      */
     @Nonnull
     default BiBooleanConsumer nest() {
-        return nest(throwable -> new ThrownByFunctionalInterfaceException(throwable.getMessage(), throwable));
+        return nest(ThrowableUtils::nest);
     }
 
     /**
@@ -418,6 +507,9 @@ public interface ThrowableBiBooleanConsumer<X extends Throwable> extends Lambda
      * {@code recover} operation if a {@link Throwable} is thrown from this one. The {@code recover} operation is
      * represented by a curried operation which is called with throwable information and same arguments of this
      * consumer.
+     * <p>
+     * If the {@code recover} operation should dispatch by the class of the thrown {@code Throwable}, a {@link
+     * RecoveryTable} may be used, which resolves the fallback operation only once per {@code Throwable} class.
      *
      * @param recover The operation to apply if this consumer throws a {@code Throwable}
      * @return A composed {@link BiBooleanConsumer} that first applies this consumer to its input, and then applies the
@@ -427,6 +519,7 @@ public interface ThrowableBiBooleanConsumer<X extends Throwable> extends Lambda
      * {@code null}. If it is, then a {@link NullPointerException} with appropriate message is thrown.
      * @implNote If thrown {@code Throwable} is of type {@link Error}, it is thrown as-is and thus not passed to {@code
      * recover} operation.
+     * @see RecoveryTable
      */
     @Nonnull
     default BiBooleanConsumer recover(@Nonnull final Function<? super Throwable, ? extends BiBooleanConsumer> recover) {
@@ -445,6 +538,209 @@ public interface ThrowableBiBooleanConsumer<X extends Throwable> extends Lambda
         };
     }
 
+    /**
+     * Returns a composed {@link ThrowableBiBooleanConsumer} that applies this consumer to its input and retries it
+     * according to the given {@link RetryPolicy}, if a {@link Throwable} is thrown from it. The current thread is
+     * blocked for the delay between two attempts. If the {@code Throwable} is not retried, it is thrown as-is from the
+     * composed consumer, thus the type of {@code Throwable} thrown from this consumer is preserved.
+     *
+     * @param policy The policy which defines if and when this consumer is retried
+     * @return A composed {@code ThrowableBiBooleanConsumer} that applies this consumer to its input and retries it
+     * according to the given {@code RetryPolicy}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see #retryAsync(RetryPolicy, ScheduledExecutorService)
+     */
+    @Nonnull
+    default ThrowableBiBooleanConsumer<X> retry(@Nonnull final RetryPolicy policy) {
+        Objects.requireNonNull(policy);
+        return (value1, value2) -> {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    this.acceptThrows(value1, value2);
+                    return;
+                } catch (Throwable throwable) {
+                    if (!policy.awaitRetry(throwable, attempt)) {
+                        throw throwable;
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link BiBooleanFunction} that applies this consumer asynchronously to its input using the
+     * given scheduler and retries it according to the given {@link RetryPolicy}, if a {@link Throwable} is thrown from
+     * it. The delay between two attempts does not block a thread, as each retry is scheduled on the given scheduler.
+     * The {@link CompletableFuture} returned from the composed function is completed exceptionally with the {@code
+     * Throwable} of the last attempt, if this consumer is not retried anymore.
+     *
+     * @param policy The policy which defines if and when this consumer is retried
+     * @param scheduler The scheduler to apply this consumer with
+     * @return A composed {@code BiBooleanFunction} that applies this consumer asynchronously to its input and retries
+     * it according to the given {@code RetryPolicy}.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @see #retry(RetryPolicy)
+     */
+    @Nonnull
+    default BiBooleanFunction<CompletableFuture<Void>> retryAsync(@Nonnull final RetryPolicy policy,
+            @Nonnull final ScheduledExecutorService scheduler) {
+        Objects.requireNonNull(policy);
+        Objects.requireNonNull(scheduler);
+        return (value1, value2) -> policy.executeAsync(() -> {
+            this.acceptThrows(value1, value2);
+            return null;
+        }, scheduler);
+    }
+
+    /**
+     * Returns a composed {@link ThrowableBiBooleanConsumer} that applies this consumer to its input guarded by a new
+     * {@link CircuitBreaker} created from the given configuration. The circuit breaker is owned by the composed
+     * consumer, so all its calls share the same failure rate.
+     *
+     * @param config The configuration of the circuit breaker guarding this consumer
+     * @return A composed {@code ThrowableBiBooleanConsumer} that applies this consumer to its input guarded by a new
+     * {@code CircuitBreaker}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see #circuitBroken(CircuitBreaker)
+     */
+    @Nonnull
+    default ThrowableBiBooleanConsumer<X> circuitBroken(@Nonnull final CircuitBreakerConfig config) {
+        return circuitBroken(CircuitBreaker.of(config));
+    }
+
+    /**
+     * Returns a composed {@link ThrowableBiBooleanConsumer} that applies this consumer to its input guarded by the
+     * given {@link CircuitBreaker}. If the circuit breaker does not permit the call, this consumer is not applied and a
+     * {@link CallNotPermittedException} is thrown immediately. Otherwise the outcome of this consumer is recorded in
+     * the circuit breaker against the phase in which the call was permitted and any {@link Throwable} thrown from it is
+     * rethrown as-is. To fall back to another result while the circuit breaker is open, {@link #recover(Function)} may
+     * be used on the composed consumer.
+     *
+     * @param circuitBreaker The circuit breaker guarding this consumer
+     * @return A composed {@code ThrowableBiBooleanConsumer} that applies this consumer to its input guarded by the
+     * given {@code CircuitBreaker}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see #circuitBroken(CircuitBreakerConfig)
+     */
+    @Nonnull
+    default ThrowableBiBooleanConsumer<X> circuitBroken(@Nonnull final CircuitBreaker circuitBreaker) {
+        Objects.requireNonNull(circuitBreaker);
+        return (value1, value2) -> {
+            final CircuitBreaker.Phase permitted = circuitBreaker.tryAcquirePermission();
+            if (permitted == null) {
+                throw new CallNotPermittedException("CircuitBreaker is " + circuitBreaker.getState());
+            }
+            try {
+                this.acceptThrows(value1, value2);
+                circuitBreaker.onSuccess(permitted);
+            } catch (Throwable throwable) {
+                circuitBreaker.onFailure(permitted, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link ThrowableBiBooleanConsumer} that applies this consumer to its input, if less than the
+     * given number of calls of the composed consumer are running concurrently. Otherwise the call is rejected
+     * immediately with a {@link CallNotPermittedException}.
+     *
+     * @param maxConcurrent The maximum number of concurrent calls
+     * @return A composed {@code ThrowableBiBooleanConsumer} that applies this consumer to its input, if less than the
+     * given number of calls are running concurrently.
+     * @throws IllegalArgumentException If given argument is not positive
+     * @see #bulkhead(Bulkhead)
+     */
+    @Nonnull
+    default ThrowableBiBooleanConsumer<X> bulkhead(final int maxConcurrent) {
+        return bulkhead(Bulkhead.of(maxConcurrent));
+    }
+
+    /**
+     * Returns a composed {@link ThrowableBiBooleanConsumer} that applies this consumer to its input, if a permit of the
+     * given {@link Bulkhead} is acquired. Depending on the mode of the bulkhead, the call either waits for a permit or
+     * is rejected with a {@link CallNotPermittedException}. A bulkhead may be shared by several functional interfaces
+     * calling the same dependency.
+     *
+     * @param bulkhead The bulkhead which limits the concurrent calls of this consumer
+     * @return A composed {@code ThrowableBiBooleanConsumer} that applies this consumer to its input, if a permit of the
+     * given {@code Bulkhead} is acquired.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see Bulkhead#of(int, Duration)
+     * @see Bulkhead#adaptive(int, int)
+     */
+    @Nonnull
+    default ThrowableBiBooleanConsumer<X> bulkhead(@Nonnull final Bulkhead bulkhead) {
+        Objects.requireNonNull(bulkhead);
+        return (value1, value2) -> {
+            final long permit = bulkhead.acquirePermission();
+            try {
+                this.acceptThrows(value1, value2);
+            } finally {
+                bulkhead.releasePermission(permit);
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link ThrowableBiBooleanConsumer} that applies this consumer to its input at most the given
+     * number of times per second. If calls of the composed consumer arrive faster, the calling thread is blocked until
+     * its call is permitted.
+     *
+     * @param permitsPerSecond The number of calls per second
+     * @return A composed {@code ThrowableBiBooleanConsumer} that applies this consumer to its input at most the given
+     * number of times per second.
+     * @throws IllegalArgumentException If given argument is not positive
+     * @see #rateLimited(RateLimiter)
+     */
+    @Nonnull
+    default ThrowableBiBooleanConsumer<X> rateLimited(final double permitsPerSecond) {
+        return rateLimited(RateLimiter.of(permitsPerSecond));
+    }
+
+    /**
+     * Returns a composed {@link ThrowableBiBooleanConsumer} that applies this consumer to its input once a permit of
+     * the given {@link RateLimiter} is acquired. The calling thread is blocked until its call is permitted.
+     *
+     * @param rateLimiter The rate limiter which limits the rate of calls of this consumer
+     * @return A composed {@code ThrowableBiBooleanConsumer} that applies this consumer to its input once a permit of
+     * the given {@code RateLimiter} is acquired.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see RateLimiter#acquire()
+     */
+    @Nonnull
+    default ThrowableBiBooleanConsumer<X> rateLimited(@Nonnull final RateLimiter rateLimiter) {
+        Objects.requireNonNull(rateLimiter);
+        return (value1, value2) -> {
+            rateLimiter.acquire();
+            this.acceptThrows(value1, value2);
+        };
+    }
+
+    /**
+     * Returns a composed {@link BiBooleanFunction} that applies this consumer asynchronously to its input using the
+     * given scheduler, once a permit of the given {@link RateLimiter} may be used. No thread is blocked while waiting
+     * for the permit. The {@link CompletableFuture} returned from the composed function is completed exceptionally, if
+     * a {@link Throwable} is thrown from this consumer.
+     *
+     * @param rateLimiter The rate limiter which limits the rate of calls of this consumer
+     * @param scheduler The scheduler to apply this consumer with
+     * @return A composed {@code BiBooleanFunction} that applies this consumer asynchronously to its input, once a
+     * permit of the given {@code RateLimiter} may be used.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @see RateLimiter#executeAsync(ThrowableSupplier, ScheduledExecutorService)
+     */
+    @Nonnull
+    default BiBooleanFunction<CompletableFuture<Void>> rateLimitedAsync(@Nonnull final RateLimiter rateLimiter,
+            @Nonnull final ScheduledExecutorService scheduler) {
+        Objects.requireNonNull(rateLimiter);
+        Objects.requireNonNull(scheduler);
+        return (value1, value2) -> rateLimiter.executeAsync(() -> {
+            this.acceptThrows(value1, value2);
+            return null;
+        }, scheduler);
+    }
+
     /**
      * Returns a composed {@link BiBooleanConsumer} that applies this consumer to its input and sneakily throws the
      * thrown {@link Throwable} from it, if it is not of type {@link RuntimeException} or {@link Error}. This means that
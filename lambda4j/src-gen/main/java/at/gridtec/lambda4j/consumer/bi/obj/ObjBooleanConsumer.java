@@ -27,21 +27,32 @@ import at.gridtec.lambda4j.consumer.bi.BiFloatConsumer;
 import at.gridtec.lambda4j.consumer.bi.BiIntConsumer;
 import at.gridtec.lambda4j.consumer.bi.BiLongConsumer;
 import at.gridtec.lambda4j.consumer.bi.BiShortConsumer;
+import at.gridtec.lambda4j.core.util.DerivedView;
+import at.gridtec.lambda4j.core.util.ThrowableUtils;
 import at.gridtec.lambda4j.function.BooleanFunction;
 import at.gridtec.lambda4j.function.ByteFunction;
 import at.gridtec.lambda4j.function.CharFunction;
 import at.gridtec.lambda4j.function.FloatFunction;
 import at.gridtec.lambda4j.function.ShortFunction;
+import at.gridtec.lambda4j.function.bi.BiFunction2;
+import at.gridtec.lambda4j.function.bi.obj.ObjBooleanFunction;
 import at.gridtec.lambda4j.operator.unary.BooleanUnaryOperator;
 import at.gridtec.lambda4j.predicate.BytePredicate;
 import at.gridtec.lambda4j.predicate.CharPredicate;
 import at.gridtec.lambda4j.predicate.FloatPredicate;
 import at.gridtec.lambda4j.predicate.ShortPredicate;
+import at.gridtec.lambda4j.predicate.bi.obj.ObjBooleanPredicate;
+import at.gridtec.lambda4j.resilience.Bulkhead;
+import at.gridtec.lambda4j.resilience.CallNotPermittedException;
+import at.gridtec.lambda4j.resilience.RateLimiter;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Consumer;
 import java.util.function.DoubleFunction;
 import java.util.function.DoublePredicate;
@@ -131,6 +142,40 @@ public interface ObjBooleanConsumer<T> extends Lambda {
         return (t, value) -> consumer.accept(value);
     }
 
+    /**
+     * Returns a {@link ObjBooleanConsumer} which represents the given {@link BiConsumer2}. Thereby the boxed input
+     * arguments and results of the given consumer are unboxed to their primitive counterparts. This method is the
+     * inverse of {@link #boxed()}.
+     *
+     * @param <T> The type of the first argument to the consumer
+     * @param boxed The {@code BiConsumer2} to be represented by the returned {@code ObjBooleanConsumer}
+     * @return A {@code ObjBooleanConsumer} which represents the given {@code BiConsumer2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implNote If the given {@code BiConsumer2} was returned from {@link #boxed()}, the original {@code
+     * ObjBooleanConsumer} is returned instead of wrapping it twice. Likewise, {@link #boxed()} of the returned {@code
+     * ObjBooleanConsumer} returns the given {@code BiConsumer2}.
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <T> ObjBooleanConsumer<T> unboxed(@Nonnull final BiConsumer2<T, Boolean> boxed) {
+        Objects.requireNonNull(boxed);
+        if (boxed instanceof DerivedView && ((DerivedView) boxed).getSource() instanceof ObjBooleanConsumer) {
+            return (ObjBooleanConsumer<T>) ((DerivedView) boxed).getSource();
+        }
+        return new ObjBooleanConsumer<T>() {
+            @Override
+            public void accept(T t, boolean value) {
+                boxed.accept(t, value);
+            }
+
+            @Nonnull
+            @Override
+            public BiConsumer2<T, Boolean> boxed() {
+                return boxed;
+            }
+        };
+    }
+
     /**
      * Applies this consumer to the given arguments.
      *
@@ -185,15 +230,86 @@ public interface ObjBooleanConsumer<T> extends Lambda {
      * applies this consumer to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to handle every type.
+     * @implNote The composed consumer is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
      */
     @Nonnull
     default <A, B> BiConsumer2<A, B> compose(@Nonnull final Function<? super A, ? extends T> before1,
             @Nonnull final Predicate<? super B> before2) {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
+        if (this instanceof Pure && before1 instanceof Pure && before2 instanceof Pure) {
+            return (BiConsumer2<A, B> & Pure) (a, b) -> accept(before1.apply(a), before2.test(b));
+        } else if (this instanceof ThreadSafe && before1 instanceof ThreadSafe && before2 instanceof ThreadSafe) {
+            return (BiConsumer2<A, B> & ThreadSafe) (a, b) -> accept(before1.apply(a), before2.test(b));
+        }
         return (a, b) -> accept(before1.apply(a), before2.test(b));
     }
 
+    /**
+     * Returns a composed {@link BiConsumer2} that first applies the {@code before} functions to its input concurrently,
+     * and then applies this consumer to the results. The first {@code before} function is applied by the calling
+     * thread, while the other ones are applied using the given {@link Executor}. The calling thread waits for their
+     * results afterwards. If evaluation of one of the operations throws an exception, it is relayed to the caller of
+     * the composed operation as is, the same as by {@link #compose(Function, Predicate)}. The {@code before} functions
+     * which are not started yet are cancelled in this case.
+     *
+     * @param <A> The type of the argument to the first given function, and of composed consumer
+     * @param <B> The type of the argument to the second given predicate, and of composed consumer
+     * @param executor The executor to apply the {@code before} functions with
+     * @param before1 The first function to apply before this consumer is applied
+     * @param before2 The second predicate to apply before this consumer is applied
+     * @return A composed {@code BiConsumer2} that first applies the {@code before} functions to its input concurrently,
+     * and then applies this consumer to the results.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @see #compose(Function, Predicate)
+     */
+    @Nonnull
+    default <A, B> BiConsumer2<A, B> composeParallel(@Nonnull final Executor executor,
+            @Nonnull final Function<? super A, ? extends T> before1, @Nonnull final Predicate<? super B> before2) {
+        Objects.requireNonNull(executor);
+        Objects.requireNonNull(before1);
+        Objects.requireNonNull(before2);
+        return (a, b) -> {
+            final CompletableFuture<Boolean> future2 = CompletableFuture.supplyAsync(() -> before2.test(b), executor);
+            try {
+                accept(before1.apply(a), ThrowableUtils.join(future2));
+            } finally {
+                future2.cancel(false);
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link BiFunction2} that applies the {@code before} functions to its input concurrently using
+     * the given {@link Executor}, and then applies this consumer to the results. The composed function returns a {@link
+     * CompletableFuture} without waiting for any result, so no thread is blocked. This consumer is applied by the
+     * thread which completes the last {@code before} function. The {@code CompletableFuture} is completed
+     * exceptionally, if a {@link Throwable} is thrown from one of the {@code before} functions or from this consumer.
+     *
+     * @param <A> The type of the argument to the first given function, and of composed consumer
+     * @param <B> The type of the argument to the second given predicate, and of composed consumer
+     * @param executor The executor to apply the {@code before} functions with
+     * @param before1 The first function to apply before this consumer is applied
+     * @param before2 The second predicate to apply before this consumer is applied
+     * @return A composed {@code BiFunction2} that applies the {@code before} functions to its input concurrently, and
+     * then applies this consumer to the results.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @see #composeParallel(Executor, Function, Predicate)
+     */
+    @Nonnull
+    default <A, B> BiFunction2<A, B, CompletableFuture<Void>> composeParallelAsync(@Nonnull final Executor executor,
+            @Nonnull final Function<? super A, ? extends T> before1, @Nonnull final Predicate<? super B> before2) {
+        Objects.requireNonNull(executor);
+        Objects.requireNonNull(before1);
+        Objects.requireNonNull(before2);
+        return (a, b) -> {
+            final CompletableFuture<T> future1 = CompletableFuture.supplyAsync(() -> before1.apply(a), executor);
+            final CompletableFuture<Boolean> future2 = CompletableFuture.supplyAsync(() -> before2.test(b), executor);
+            return CompletableFuture.allOf(future1, future2)
+                    .thenRun(() -> accept(future1.join(), future2.join()));
+        };
+    }
+
     /**
      * Returns a composed {@link BiBooleanConsumer} that first applies the {@code before} functions to its input, and
      * then applies this consumer to the result. If evaluation of either operation throws an exception, it is relayed to
@@ -384,10 +500,22 @@ public interface ObjBooleanConsumer<T> extends Lambda {
      * @return A composed {@link ObjBooleanConsumer} that performs, in sequence, this consumer followed by the {@code
      * after} consumer.
      * @throws NullPointerException If given argument is {@code null}
+     * @implNote The composed consumer is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
      */
     @Nonnull
     default ObjBooleanConsumer<T> andThen(@Nonnull final ObjBooleanConsumer<? super T> after) {
         Objects.requireNonNull(after);
+        if (this instanceof Pure && after instanceof Pure) {
+            return (ObjBooleanConsumer<T> & Pure) (t, value) -> {
+                accept(t, value);
+                after.accept(t, value);
+            };
+        } else if (this instanceof ThreadSafe && after instanceof ThreadSafe) {
+            return (ObjBooleanConsumer<T> & ThreadSafe) (t, value) -> {
+                accept(t, value);
+                after.accept(t, value);
+            };
+        }
         return (t, value) -> {
             accept(t, value);
             after.accept(t, value);
@@ -400,10 +528,150 @@ public interface ObjBooleanConsumer<T> extends Lambda {
      * {@code ObjBooleanConsumer} with methods provided by the {@code JDK}.
      *
      * @return A composed {@code BiConsumer2} which represents this {@code ObjBooleanConsumer}.
+     * @implNote The returned {@code BiConsumer2} is a {@link DerivedView} of this {@code ObjBooleanConsumer}, so {@link
+     * #unboxed(BiConsumer2)} returns this {@code ObjBooleanConsumer} instead of wrapping it twice.
      */
     @Nonnull
     default BiConsumer2<T, Boolean> boxed() {
-        return this::accept;
+        final class Boxed implements BiConsumer2<T, Boolean>, DerivedView {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public void accept(T t, Boolean value) {
+                ObjBooleanConsumer.this.accept(t, value);
+            }
+
+            @Nonnull
+            @Override
+            public ObjBooleanConsumer<T> getSource() {
+                return ObjBooleanConsumer.this;
+            }
+        }
+        return new Boxed();
+    }
+
+    /**
+     * Returns a composed {@link ObjBooleanConsumer} that applies this consumer to its input, if less than the given
+     * number of calls of the composed consumer are running concurrently. Otherwise the call is rejected immediately
+     * with a {@link CallNotPermittedException}.
+     *
+     * @param maxConcurrent The maximum number of concurrent calls
+     * @return A composed {@code ObjBooleanConsumer} that applies this consumer to its input, if less than the given
+     * number of calls are running concurrently.
+     * @throws IllegalArgumentException If given argument is not positive
+     * @see #bulkhead(Bulkhead)
+     */
+    @Nonnull
+    default ObjBooleanConsumer<T> bulkhead(final int maxConcurrent) {
+        return bulkhead(Bulkhead.of(maxConcurrent));
+    }
+
+    /**
+     * Returns a composed {@link ObjBooleanConsumer} that applies this consumer to its input, if a permit of the given
+     * {@link Bulkhead} is acquired. Depending on the mode of the bulkhead, the call either waits for a permit or is
+     * rejected with a {@link CallNotPermittedException}. A bulkhead may be shared by several functional interfaces
+     * calling the same dependency.
+     *
+     * @param bulkhead The bulkhead which limits the concurrent calls of this consumer
+     * @return A composed {@code ObjBooleanConsumer} that applies this consumer to its input, if a permit of the given
+     * {@code Bulkhead} is acquired.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see Bulkhead#of(int, Duration)
+     * @see Bulkhead#adaptive(int, int)
+     */
+    @Nonnull
+    default ObjBooleanConsumer<T> bulkhead(@Nonnull final Bulkhead bulkhead) {
+        Objects.requireNonNull(bulkhead);
+        return (t, value) -> {
+            final long permit = bulkhead.acquirePermission();
+            try {
+                this.accept(t, value);
+            } finally {
+                bulkhead.releasePermission(permit);
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link ObjBooleanConsumer} that applies this consumer to its input at most the given number of
+     * times per second. If calls of the composed consumer arrive faster, the calling thread is blocked until its call
+     * is permitted.
+     *
+     * @param permitsPerSecond The number of calls per second
+     * @return A composed {@code ObjBooleanConsumer} that applies this consumer to its input at most the given number of
+     * times per second.
+     * @throws IllegalArgumentException If given argument is not positive
+     * @see #rateLimited(RateLimiter)
+     */
+    @Nonnull
+    default ObjBooleanConsumer<T> rateLimited(final double permitsPerSecond) {
+        return rateLimited(RateLimiter.of(permitsPerSecond));
+    }
+
+    /**
+     * Returns a composed {@link ObjBooleanConsumer} that applies this consumer to its input once a permit of the given
+     * {@link RateLimiter} is acquired. The calling thread is blocked until its call is permitted.
+     *
+     * @param rateLimiter The rate limiter which limits the rate of calls of this consumer
+     * @return A composed {@code ObjBooleanConsumer} that applies this consumer to its input once a permit of the given
+     * {@code RateLimiter} is acquired.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see RateLimiter#acquire()
+     */
+    @Nonnull
+    default ObjBooleanConsumer<T> rateLimited(@Nonnull final RateLimiter rateLimiter) {
+        Objects.requireNonNull(rateLimiter);
+        return (t, value) -> {
+            rateLimiter.acquire();
+            this.accept(t, value);
+        };
+    }
+
+    /**
+     * Returns a {@link ObjBooleanPredicate} that applies this consumer to its input, if a permit of the given {@link
+     * RateLimiter} is available immediately. Otherwise the input is dropped without blocking. The returned predicate
+     * tells if the input was accepted.
+     *
+     * @param rateLimiter The rate limiter which limits the rate of calls of this consumer
+     * @return A {@code ObjBooleanPredicate} that applies this consumer to its input, if a permit of the given {@code
+     * RateLimiter} is available, and returns {@code true} if so, {@code false} otherwise.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see RateLimiter#tryAcquire()
+     */
+    @Nonnull
+    default ObjBooleanPredicate<T> rateLimitedOrDrop(@Nonnull final RateLimiter rateLimiter) {
+        Objects.requireNonNull(rateLimiter);
+        return (t, value) -> {
+            if (!rateLimiter.tryAcquire()) {
+                return false;
+            }
+            this.accept(t, value);
+            return true;
+        };
+    }
+
+    /**
+     * Returns a composed {@link ObjBooleanFunction} that applies this consumer asynchronously to its input using the
+     * given scheduler, once a permit of the given {@link RateLimiter} may be used. No thread is blocked while waiting
+     * for the permit. The {@link CompletableFuture} returned from the composed function is completed exceptionally, if
+     * a {@link Throwable} is thrown from this consumer.
+     *
+     * @param rateLimiter The rate limiter which limits the rate of calls of this consumer
+     * @param scheduler The scheduler to apply this consumer with
+     * @return A composed {@code ObjBooleanFunction} that applies this consumer asynchronously to its input, once a
+     * permit of the given {@code RateLimiter} may be used.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @see RateLimiter#executeAsync(ThrowableSupplier, ScheduledExecutorService)
+     */
+    @Nonnull
+    default ObjBooleanFunction<T, CompletableFuture<Void>> rateLimitedAsync(@Nonnull final RateLimiter rateLimiter,
+            @Nonnull final ScheduledExecutorService scheduler) {
+        Objects.requireNonNull(rateLimiter);
+        Objects.requireNonNull(scheduler);
+        return (t, value) -> rateLimiter.executeAsync(() -> {
+            this.accept(t, value);
+            return null;
+        }, scheduler);
     }
 
 }
\ No newline at end of file
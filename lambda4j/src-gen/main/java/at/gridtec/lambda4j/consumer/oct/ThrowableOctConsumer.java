@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.consumer.oct;
+
+import at.gridtec.lambda4j.Lambda;
+import at.gridtec.lambda4j.core.util.ThrowableUtils;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Objects;
+
+/**
+ * Represents an operation that accepts eight input arguments and returns no result which is able to throw any {@link
+ * Throwable}. Unlike most other functional interfaces, {@code ThrowableOctConsumer} is expected to operate via
+ * side-effects.
+ * <p>
+ * This is a {@link FunctionalInterface} whose functional method is {@link #acceptThrows(Object, Object, Object, Object,
+ * Object, Object, Object, Object)}.
+ *
+ * @param <T1> The type of the first argument to the consumer
+ * @param <T2> The type of the second argument to the consumer
+ * @param <T3> The type of the third argument to the consumer
+ * @param <T4> The type of the fourth argument to the consumer
+ * @param <T5> The type of the fifth argument to the consumer
+ * @param <T6> The type of the sixth argument to the consumer
+ * @param <T7> The type of the seventh argument to the consumer
+ * @param <T8> The type of the eighth argument to the consumer
+ * @param <X> The type of the throwable to be thrown by this consumer
+ * @see ThrowableOctConsumer
+ */
+@SuppressWarnings("unused")
+@FunctionalInterface
+public interface ThrowableOctConsumer<T1, T2, T3, T4, T5, T6, T7, T8, X extends Throwable> extends Lambda {
+
+    /**
+     * Constructs a {@link ThrowableOctConsumer} based on a lambda expression or a method reference. Thereby the given
+     * lambda expression or method reference is returned on an as-is basis to implicitly transform it to the desired
+     * type. With this method, it is possible to ensure that correct type is used from lambda expression or method
+     * reference.
+     *
+     * @param <T1> The type of the first argument to the consumer
+     * @param <T2> The type of the second argument to the consumer
+     * @param <T3> The type of the third argument to the consumer
+     * @param <T4> The type of the fourth argument to the consumer
+     * @param <T5> The type of the fifth argument to the consumer
+     * @param <T6> The type of the sixth argument to the consumer
+     * @param <T7> The type of the seventh argument to the consumer
+     * @param <T8> The type of the eighth argument to the consumer
+     * @param <X> The type of the throwable to be thrown by this consumer
+     * @param expression A lambda expression or (typically) a method reference, e.g. {@code this::method}
+     * @return A {@code ThrowableOctConsumer} from given lambda expression or method reference.
+     * @implNote This implementation allows the given argument to be {@code null}, but only if {@code null} given,
+     * {@code null} will be returned.
+     * @see <a href="https://docs.oracle.com/javase/tutorial/java/javaOO/lambdaexpressions.html#syntax">Lambda
+     * Expression</a>
+     * @see <a href="https://docs.oracle.com/javase/tutorial/java/javaOO/methodreferences.html">Method Reference</a>
+     */
+    static <T1, T2, T3, T4, T5, T6, T7, T8, X extends Throwable> ThrowableOctConsumer<T1, T2, T3, T4, T5, T6, T7, T8, X> of(
+            @Nullable final ThrowableOctConsumer<T1, T2, T3, T4, T5, T6, T7, T8, X> expression) {
+        return expression;
+    }
+
+    /**
+     * Calls the given {@link ThrowableOctConsumer} with the given arguments and returns its result.
+     *
+     * @param <T1> The type of the first argument to the consumer
+     * @param <T2> The type of the second argument to the consumer
+     * @param <T3> The type of the third argument to the consumer
+     * @param <T4> The type of the fourth argument to the consumer
+     * @param <T5> The type of the fifth argument to the consumer
+     * @param <T6> The type of the sixth argument to the consumer
+     * @param <T7> The type of the seventh argument to the consumer
+     * @param <T8> The type of the eighth argument to the consumer
+     * @param <X> The type of the throwable to be thrown by this consumer
+     * @param consumer The consumer to be called
+     * @param t1 The first argument to the consumer
+     * @param t2 The second argument to the consumer
+     * @param t3 The third argument to the consumer
+     * @param t4 The fourth argument to the consumer
+     * @param t5 The fifth argument to the consumer
+     * @param t6 The sixth argument to the consumer
+     * @param t7 The seventh argument to the consumer
+     * @param t8 The eighth argument to the consumer
+     * @throws NullPointerException If given argument is {@code null}
+     * @throws X Any throwable from this consumers action
+     */
+    static <T1, T2, T3, T4, T5, T6, T7, T8, X extends Throwable> void call(
+            @Nonnull final ThrowableOctConsumer<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8, ? extends X> consumer,
+            T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8) throws X {
+        Objects.requireNonNull(consumer);
+        consumer.acceptThrows(t1, t2, t3, t4, t5, t6, t7, t8);
+    }
+
+    /**
+     * Applies this consumer to the given arguments.
+     *
+     * @param t1 The first argument to the consumer
+     * @param t2 The second argument to the consumer
+     * @param t3 The third argument to the consumer
+     * @param t4 The fourth argument to the consumer
+     * @param t5 The fifth argument to the consumer
+     * @param t6 The sixth argument to the consumer
+     * @param t7 The seventh argument to the consumer
+     * @param t8 The eighth argument to the consumer
+     * @throws X Any throwable from this consumers action
+     */
+    void acceptThrows(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8) throws X;
+
+    /**
+     * Returns the number of arguments for this consumer.
+     *
+     * @return The number of arguments for this consumer.
+     * @implSpec The default implementation always returns {@code 8}.
+     */
+    @Nonnegative
+    default int arity() {
+        return 8;
+    }
+
+    /**
+     * Returns a composed {@link OctConsumer} that applies this consumer to its input and sneakily throws the thrown
+     * {@link Throwable} from it, if it is not of type {@link RuntimeException} or {@link Error}. This means that each
+     * throwable thrown from the returned composed consumer behaves exactly the same as an <em>unchecked</em> throwable
+     * does. As a result, there is no need to handle the throwable of this consumer in the returned composed consumer by
+     * either wrapping it in an <em>unchecked</em> throwable or to declare it in the {@code throws} clause, as it would
+     * be done in a non sneaky throwing consumer.
+     * <p>
+     * What sneaky throwing simply does, is to fake out the compiler and thus it bypasses the principle of
+     * <em>checked</em> throwables. On the JVM (class file) level, all throwables, checked or not, can be thrown
+     * regardless of the {@code throws} clause of methods, which is why this works at all.
+     * <p>
+     * However, when using this method to get a sneaky throwing consumer variant of this throwable consumer, the
+     * following advantages, disadvantages and limitations will apply:
+     * <p>
+     * If the calling-code is to handle the sneakily thrown throwable, it is required to add it to the {@code throws}
+     * clause of the method that applies the returned composed consumer. The compiler will not force the declaration in
+     * the {@code throws} clause anymore.
+     * <p>
+     * If the calling-code already handles the sneakily thrown throwable, the compiler requires it to be added to the
+     * {@code throws} clause of the method that applies the returned composed consumer. If not added, the compiler will
+     * error that the caught throwable is never thrown in the corresponding {@code try} block.
+     * <p>
+     * If the returned composed consumer is directly surrounded by a {@code try}-{@code catch} block to catch the
+     * sneakily thrown throwable from it, the compiler will error that the caught throwable is never thrown in the
+     * corresponding {@code try} block.
+     * <p>
+     * In any case, if the throwable is not added to the to the {@code throws} clause of the method that applies the
+     * returned composed consumer, the calling-code won't be able to catch the throwable by name. It will bubble and
+     * probably be caught in some {@code catch} statement, catching a base type such as {@code try { ... }
+     * catch(RuntimeException e) { ... }} or {@code try { ... } catch(Exception e) { ... }}, but perhaps this is
+     * intended.
+     * <p>
+     * When the called code never throws the specific throwable that it declares, it should obviously be omitted. For
+     * example: {@code new String(byteArr, "UTF-8") throws UnsupportedEncodingException}, but {@code UTF-8} is
+     * guaranteed by the Java specification to be always present. Here, the {@code throws} declaration is a nuisance and
+     * any solution to silence it with minimal boilerplate is welcome. The throwable should therefore be omitted in the
+     * {@code throws} clause of the method that applies the returned composed consumer.
+     * <p>
+     * With all that mentioned, the following example will demonstrate this methods correct use:
+     * <pre>{@code
+     * // when called with illegal value ClassNotFoundException is thrown
+     * public Class<?> sneakyThrowingFunctionalInterface(final String className) throws ClassNotFoundException {
+     *     return ThrowableFunction.of(Class::forName) // create the correct throwable functional interface
+     *                .sneakyThrow() // create a non-throwable variant which is able to sneaky throw (this method)
+     *                .apply(className); // apply non-throwable variant -> may sneaky throw a throwable
+     * }
+     *
+     * // call the the method which surround the sneaky throwing functional interface
+     * public void callingMethod() {
+     *     try {
+     *         final Class<?> clazz = sneakyThrowingFunctionalInterface("some illegal class name");
+     *         // ... do something with clazz ...
+     *     } catch(ClassNotFoundException e) {
+     *         // ... do something with e ...
+     *     }
+     * }
+     * }</pre>
+     * In conclusion, this somewhat contentious ability should be used carefully, of course, with the advantages,
+     * disadvantages and limitations described above kept in mind.
+     *
+     * @return A composed {@link OctConsumer} that applies this consumer to its input and sneakily throws the thrown
+     * {@link Throwable} from it, unless it is of type {@link RuntimeException} or {@link Error}.
+     * @implNote If thrown {@link Throwable} is of type {@link RuntimeException} or {@link Error}, it is thrown as-is
+     * and thus not sneakily thrown.
+     */
+    @Nonnull
+    default OctConsumer<T1, T2, T3, T4, T5, T6, T7, T8> sneakyThrow() {
+        return (t1, t2, t3, t4, t5, t6, t7, t8) -> {
+            try {
+                this.acceptThrows(t1, t2, t3, t4, t5, t6, t7, t8);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw ThrowableUtils.sneakyThrow(throwable);
+            }
+        };
+    }
+
+}
\ No newline at end of file
@@ -18,16 +18,26 @@ package at.gridtec.lambda4j.consumer.tri;
 import at.gridtec.lambda4j.Lambda;
 import at.gridtec.lambda4j.consumer.BooleanConsumer;
 import at.gridtec.lambda4j.consumer.bi.BiBooleanConsumer;
+import at.gridtec.lambda4j.core.util.DerivedView;
+import at.gridtec.lambda4j.core.util.ThrowableUtils;
+import at.gridtec.lambda4j.function.tri.TriBooleanFunction;
+import at.gridtec.lambda4j.function.tri.TriFunction;
 import at.gridtec.lambda4j.operator.unary.BooleanUnaryOperator;
 import at.gridtec.lambda4j.predicate.BytePredicate;
 import at.gridtec.lambda4j.predicate.CharPredicate;
 import at.gridtec.lambda4j.predicate.FloatPredicate;
 import at.gridtec.lambda4j.predicate.ShortPredicate;
+import at.gridtec.lambda4j.resilience.Bulkhead;
+import at.gridtec.lambda4j.resilience.CallNotPermittedException;
+import at.gridtec.lambda4j.resilience.RateLimiter;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.DoublePredicate;
 import java.util.function.IntPredicate;
 import java.util.function.LongPredicate;
@@ -123,6 +133,38 @@ public interface TriBooleanConsumer extends Lambda {
         return (value1, value2, value3) -> consumer.accept(value3);
     }
 
+    /**
+     * Returns a {@link TriBooleanConsumer} which represents the given {@link TriConsumer}. Thereby the boxed input
+     * arguments and results of the given consumer are unboxed to their primitive counterparts. This method is the
+     * inverse of {@link #boxed()}.
+     *
+     * @param boxed The {@code TriConsumer} to be represented by the returned {@code TriBooleanConsumer}
+     * @return A {@code TriBooleanConsumer} which represents the given {@code TriConsumer}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implNote If the given {@code TriConsumer} was returned from {@link #boxed()}, the original {@code
+     * TriBooleanConsumer} is returned instead of wrapping it twice. Likewise, {@link #boxed()} of the returned {@code
+     * TriBooleanConsumer} returns the given {@code TriConsumer}.
+     */
+    @Nonnull
+    static TriBooleanConsumer unboxed(@Nonnull final TriConsumer<Boolean, Boolean, Boolean> boxed) {
+        Objects.requireNonNull(boxed);
+        if (boxed instanceof DerivedView && ((DerivedView) boxed).getSource() instanceof TriBooleanConsumer) {
+            return (TriBooleanConsumer) ((DerivedView) boxed).getSource();
+        }
+        return new TriBooleanConsumer() {
+            @Override
+            public void accept(boolean value1, boolean value2, boolean value3) {
+                boxed.accept(value1, value2, value3);
+            }
+
+            @Nonnull
+            @Override
+            public TriConsumer<Boolean, Boolean, Boolean> boxed() {
+                return boxed;
+            }
+        };
+    }
+
     /**
      * Applies this consumer to the given arguments.
      *
@@ -181,6 +223,7 @@ public interface TriBooleanConsumer extends Lambda {
      * applies this consumer to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to handle every type.
+     * @implNote The composed consumer is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
      */
     @Nonnull
     default <A, B, C> TriConsumer<A, B, C> compose(@Nonnull final Predicate<? super A> before1,
@@ -188,9 +231,92 @@ public interface TriBooleanConsumer extends Lambda {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
         Objects.requireNonNull(before3);
+        if (this instanceof Pure && before1 instanceof Pure && before2 instanceof Pure && before3 instanceof Pure) {
+            return (TriConsumer<A, B, C> & Pure) (a, b, c) -> accept(before1.test(a), before2.test(b), before3.test(c));
+        } else if (this instanceof ThreadSafe && before1 instanceof ThreadSafe && before2 instanceof ThreadSafe
+                && before3 instanceof ThreadSafe) {
+            return (TriConsumer<A, B, C> & ThreadSafe) (a, b, c) -> accept(before1.test(a), before2.test(b),
+                                                                           before3.test(c));
+        }
         return (a, b, c) -> accept(before1.test(a), before2.test(b), before3.test(c));
     }
 
+    /**
+     * Returns a composed {@link TriConsumer} that first applies the {@code before} predicates to its input
+     * concurrently, and then applies this consumer to the results. The first {@code before} predicate is applied by the
+     * calling thread, while the other ones are applied using the given {@link Executor}. The calling thread waits for
+     * their results afterwards. If evaluation of one of the operations throws an exception, it is relayed to the caller
+     * of the composed operation as is, the same as by {@link #compose(Predicate, Predicate, Predicate)}. The {@code
+     * before} predicates which are not started yet are cancelled in this case.
+     *
+     * @param <A> The type of the argument to the first given predicate, and of composed consumer
+     * @param <B> The type of the argument to the second given predicate, and of composed consumer
+     * @param <C> The type of the argument to the third given predicate, and of composed consumer
+     * @param executor The executor to apply the {@code before} predicates with
+     * @param before1 The first predicate to apply before this consumer is applied
+     * @param before2 The second predicate to apply before this consumer is applied
+     * @param before3 The third predicate to apply before this consumer is applied
+     * @return A composed {@code TriConsumer} that first applies the {@code before} predicates to its input
+     * concurrently, and then applies this consumer to the results.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @see #compose(Predicate, Predicate, Predicate)
+     */
+    @Nonnull
+    default <A, B, C> TriConsumer<A, B, C> composeParallel(@Nonnull final Executor executor,
+            @Nonnull final Predicate<? super A> before1, @Nonnull final Predicate<? super B> before2,
+            @Nonnull final Predicate<? super C> before3) {
+        Objects.requireNonNull(executor);
+        Objects.requireNonNull(before1);
+        Objects.requireNonNull(before2);
+        Objects.requireNonNull(before3);
+        return (a, b, c) -> {
+            final CompletableFuture<Boolean> future2 = CompletableFuture.supplyAsync(() -> before2.test(b), executor);
+            final CompletableFuture<Boolean> future3 = CompletableFuture.supplyAsync(() -> before3.test(c), executor);
+            try {
+                accept(before1.test(a), ThrowableUtils.join(future2), ThrowableUtils.join(future3));
+            } finally {
+                future2.cancel(false);
+                future3.cancel(false);
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link TriFunction} that applies the {@code before} predicates to its input concurrently using
+     * the given {@link Executor}, and then applies this consumer to the results. The composed function returns a {@link
+     * CompletableFuture} without waiting for any result, so no thread is blocked. This consumer is applied by the
+     * thread which completes the last {@code before} predicate. The {@code CompletableFuture} is completed
+     * exceptionally, if a {@link Throwable} is thrown from one of the {@code before} predicates or from this consumer.
+     *
+     * @param <A> The type of the argument to the first given predicate, and of composed consumer
+     * @param <B> The type of the argument to the second given predicate, and of composed consumer
+     * @param <C> The type of the argument to the third given predicate, and of composed consumer
+     * @param executor The executor to apply the {@code before} predicates with
+     * @param before1 The first predicate to apply before this consumer is applied
+     * @param before2 The second predicate to apply before this consumer is applied
+     * @param before3 The third predicate to apply before this consumer is applied
+     * @return A composed {@code TriFunction} that applies the {@code before} predicates to its input concurrently, and
+     * then applies this consumer to the results.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @see #composeParallel(Executor, Predicate, Predicate, Predicate)
+     */
+    @Nonnull
+    default <A, B, C> TriFunction<A, B, C, CompletableFuture<Void>> composeParallelAsync(
+            @Nonnull final Executor executor, @Nonnull final Predicate<? super A> before1,
+            @Nonnull final Predicate<? super B> before2, @Nonnull final Predicate<? super C> before3) {
+        Objects.requireNonNull(executor);
+        Objects.requireNonNull(before1);
+        Objects.requireNonNull(before2);
+        Objects.requireNonNull(before3);
+        return (a, b, c) -> {
+            final CompletableFuture<Boolean> future1 = CompletableFuture.supplyAsync(() -> before1.test(a), executor);
+            final CompletableFuture<Boolean> future2 = CompletableFuture.supplyAsync(() -> before2.test(b), executor);
+            final CompletableFuture<Boolean> future3 = CompletableFuture.supplyAsync(() -> before3.test(c), executor);
+            return CompletableFuture.allOf(future1, future2, future3)
+                    .thenRun(() -> accept(future1.join(), future2.join(), future3.join()));
+        };
+    }
+
     /**
      * Returns a composed {@link TriBooleanConsumer} that first applies the {@code before} operators to its input, and
      * then applies this consumer to the result. If evaluation of either operation throws an exception, it is relayed to
@@ -398,10 +524,22 @@ public interface TriBooleanConsumer extends Lambda {
      * @return A composed {@link TriBooleanConsumer} that performs, in sequence, this consumer followed by the {@code
      * after} consumer.
      * @throws NullPointerException If given argument is {@code null}
+     * @implNote The composed consumer is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
      */
     @Nonnull
     default TriBooleanConsumer andThen(@Nonnull final TriBooleanConsumer after) {
         Objects.requireNonNull(after);
+        if (this instanceof Pure && after instanceof Pure) {
+            return (TriBooleanConsumer & Pure) (value1, value2, value3) -> {
+                accept(value1, value2, value3);
+                after.accept(value1, value2, value3);
+            };
+        } else if (this instanceof ThreadSafe && after instanceof ThreadSafe) {
+            return (TriBooleanConsumer & ThreadSafe) (value1, value2, value3) -> {
+                accept(value1, value2, value3);
+                after.accept(value1, value2, value3);
+            };
+        }
         return (value1, value2, value3) -> {
             accept(value1, value2, value3);
             after.accept(value1, value2, value3);
@@ -414,10 +552,127 @@ public interface TriBooleanConsumer extends Lambda {
      * {@code TriBooleanConsumer} with methods provided by the {@code JDK}.
      *
      * @return A composed {@code TriConsumer} which represents this {@code TriBooleanConsumer}.
+     * @implNote The returned {@code TriConsumer} is a {@link DerivedView} of this {@code TriBooleanConsumer}, so {@link
+     * #unboxed(TriConsumer)} returns this {@code TriBooleanConsumer} instead of wrapping it twice.
      */
     @Nonnull
     default TriConsumer<Boolean, Boolean, Boolean> boxed() {
-        return this::accept;
+        final class Boxed implements TriConsumer<Boolean, Boolean, Boolean>, DerivedView {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public void accept(Boolean value1, Boolean value2, Boolean value3) {
+                TriBooleanConsumer.this.accept(value1, value2, value3);
+            }
+
+            @Nonnull
+            @Override
+            public TriBooleanConsumer getSource() {
+                return TriBooleanConsumer.this;
+            }
+        }
+        return new Boxed();
+    }
+
+    /**
+     * Returns a composed {@link TriBooleanConsumer} that applies this consumer to its input, if less than the given
+     * number of calls of the composed consumer are running concurrently. Otherwise the call is rejected immediately
+     * with a {@link CallNotPermittedException}.
+     *
+     * @param maxConcurrent The maximum number of concurrent calls
+     * @return A composed {@code TriBooleanConsumer} that applies this consumer to its input, if less than the given
+     * number of calls are running concurrently.
+     * @throws IllegalArgumentException If given argument is not positive
+     * @see #bulkhead(Bulkhead)
+     */
+    @Nonnull
+    default TriBooleanConsumer bulkhead(final int maxConcurrent) {
+        return bulkhead(Bulkhead.of(maxConcurrent));
+    }
+
+    /**
+     * Returns a composed {@link TriBooleanConsumer} that applies this consumer to its input, if a permit of the given
+     * {@link Bulkhead} is acquired. Depending on the mode of the bulkhead, the call either waits for a permit or is
+     * rejected with a {@link CallNotPermittedException}. A bulkhead may be shared by several functional interfaces
+     * calling the same dependency.
+     *
+     * @param bulkhead The bulkhead which limits the concurrent calls of this consumer
+     * @return A composed {@code TriBooleanConsumer} that applies this consumer to its input, if a permit of the given
+     * {@code Bulkhead} is acquired.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see Bulkhead#of(int, Duration)
+     * @see Bulkhead#adaptive(int, int)
+     */
+    @Nonnull
+    default TriBooleanConsumer bulkhead(@Nonnull final Bulkhead bulkhead) {
+        Objects.requireNonNull(bulkhead);
+        return (value1, value2, value3) -> {
+            final long permit = bulkhead.acquirePermission();
+            try {
+                this.accept(value1, value2, value3);
+            } finally {
+                bulkhead.releasePermission(permit);
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link TriBooleanConsumer} that applies this consumer to its input at most the given number of
+     * times per second. If calls of the composed consumer arrive faster, the calling thread is blocked until its call
+     * is permitted.
+     *
+     * @param permitsPerSecond The number of calls per second
+     * @return A composed {@code TriBooleanConsumer} that applies this consumer to its input at most the given number of
+     * times per second.
+     * @throws IllegalArgumentException If given argument is not positive
+     * @see #rateLimited(RateLimiter)
+     */
+    @Nonnull
+    default TriBooleanConsumer rateLimited(final double permitsPerSecond) {
+        return rateLimited(RateLimiter.of(permitsPerSecond));
+    }
+
+    /**
+     * Returns a composed {@link TriBooleanConsumer} that applies this consumer to its input once a permit of the given
+     * {@link RateLimiter} is acquired. The calling thread is blocked until its call is permitted.
+     *
+     * @param rateLimiter The rate limiter which limits the rate of calls of this consumer
+     * @return A composed {@code TriBooleanConsumer} that applies this consumer to its input once a permit of the given
+     * {@code RateLimiter} is acquired.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see RateLimiter#acquire()
+     */
+    @Nonnull
+    default TriBooleanConsumer rateLimited(@Nonnull final RateLimiter rateLimiter) {
+        Objects.requireNonNull(rateLimiter);
+        return (value1, value2, value3) -> {
+            rateLimiter.acquire();
+            this.accept(value1, value2, value3);
+        };
+    }
+
+    /**
+     * Returns a composed {@link TriBooleanFunction} that applies this consumer asynchronously to its input using the
+     * given scheduler, once a permit of the given {@link RateLimiter} may be used. No thread is blocked while waiting
+     * for the permit. The {@link CompletableFuture} returned from the composed function is completed exceptionally, if
+     * a {@link Throwable} is thrown from this consumer.
+     *
+     * @param rateLimiter The rate limiter which limits the rate of calls of this consumer
+     * @param scheduler The scheduler to apply this consumer with
+     * @return A composed {@code TriBooleanFunction} that applies this consumer asynchronously to its input, once a
+     * permit of the given {@code RateLimiter} may be used.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @see RateLimiter#executeAsync(ThrowableSupplier, ScheduledExecutorService)
+     */
+    @Nonnull
+    default TriBooleanFunction<CompletableFuture<Void>> rateLimitedAsync(@Nonnull final RateLimiter rateLimiter,
+            @Nonnull final ScheduledExecutorService scheduler) {
+        Objects.requireNonNull(rateLimiter);
+        Objects.requireNonNull(scheduler);
+        return (value1, value2, value3) -> rateLimiter.executeAsync(() -> {
+            this.accept(value1, value2, value3);
+            return null;
+        }, scheduler);
     }
 
 }
\ No newline at end of file
@@ -18,6 +18,12 @@ package at.gridtec.lambda4j.consumer.tri;
 import at.gridtec.lambda4j.Lambda;
 import at.gridtec.lambda4j.consumer.Consumer2;
 import at.gridtec.lambda4j.consumer.bi.BiConsumer2;
+import at.gridtec.lambda4j.core.util.ThrowableUtils;
+import at.gridtec.lambda4j.function.tri.TriFunction;
+import at.gridtec.lambda4j.predicate.tri.TriPredicate;
+import at.gridtec.lambda4j.resilience.Bulkhead;
+import at.gridtec.lambda4j.resilience.CallNotPermittedException;
+import at.gridtec.lambda4j.resilience.RateLimiter;
 
 import org.apache.commons.lang3.tuple.Triple;
 
@@ -25,6 +31,9 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -204,6 +213,7 @@ public interface TriConsumer<T, U, V> extends Lambda {
      * applies this consumer to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to handle every type.
+     * @implNote The composed consumer is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
      */
     @Nonnull
     default <A, B, C> TriConsumer<A, B, C> compose(@Nonnull final Function<? super A, ? extends T> before1,
@@ -212,9 +222,95 @@ public interface TriConsumer<T, U, V> extends Lambda {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
         Objects.requireNonNull(before3);
+        if (this instanceof Pure && before1 instanceof Pure && before2 instanceof Pure && before3 instanceof Pure) {
+            return (TriConsumer<A, B, C> & Pure) (a, b, c) -> accept(before1.apply(a), before2.apply(b),
+                                                                     before3.apply(c));
+        } else if (this instanceof ThreadSafe && before1 instanceof ThreadSafe && before2 instanceof ThreadSafe
+                && before3 instanceof ThreadSafe) {
+            return (TriConsumer<A, B, C> & ThreadSafe) (a, b, c) -> accept(before1.apply(a), before2.apply(b),
+                                                                           before3.apply(c));
+        }
         return (a, b, c) -> accept(before1.apply(a), before2.apply(b), before3.apply(c));
     }
 
+    /**
+     * Returns a composed {@link TriConsumer} that first applies the {@code before} functions to its input concurrently,
+     * and then applies this consumer to the results. The first {@code before} function is applied by the calling
+     * thread, while the other ones are applied using the given {@link Executor}. The calling thread waits for their
+     * results afterwards. If evaluation of one of the operations throws an exception, it is relayed to the caller of
+     * the composed operation as is, the same as by {@link #compose(Function, Function, Function)}. The {@code before}
+     * functions which are not started yet are cancelled in this case.
+     *
+     * @param <A> The type of the argument to the first given function, and of composed consumer
+     * @param <B> The type of the argument to the second given function, and of composed consumer
+     * @param <C> The type of the argument to the third given function, and of composed consumer
+     * @param executor The executor to apply the {@code before} functions with
+     * @param before1 The first function to apply before this consumer is applied
+     * @param before2 The second function to apply before this consumer is applied
+     * @param before3 The third function to apply before this consumer is applied
+     * @return A composed {@code TriConsumer} that first applies the {@code before} functions to its input concurrently,
+     * and then applies this consumer to the results.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @see #compose(Function, Function, Function)
+     */
+    @Nonnull
+    default <A, B, C> TriConsumer<A, B, C> composeParallel(@Nonnull final Executor executor,
+            @Nonnull final Function<? super A, ? extends T> before1,
+            @Nonnull final Function<? super B, ? extends U> before2,
+            @Nonnull final Function<? super C, ? extends V> before3) {
+        Objects.requireNonNull(executor);
+        Objects.requireNonNull(before1);
+        Objects.requireNonNull(before2);
+        Objects.requireNonNull(before3);
+        return (a, b, c) -> {
+            final CompletableFuture<U> future2 = CompletableFuture.supplyAsync(() -> before2.apply(b), executor);
+            final CompletableFuture<V> future3 = CompletableFuture.supplyAsync(() -> before3.apply(c), executor);
+            try {
+                accept(before1.apply(a), ThrowableUtils.join(future2), ThrowableUtils.join(future3));
+            } finally {
+                future2.cancel(false);
+                future3.cancel(false);
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link TriFunction} that applies the {@code before} functions to its input concurrently using
+     * the given {@link Executor}, and then applies this consumer to the results. The composed function returns a {@link
+     * CompletableFuture} without waiting for any result, so no thread is blocked. This consumer is applied by the
+     * thread which completes the last {@code before} function. The {@code CompletableFuture} is completed
+     * exceptionally, if a {@link Throwable} is thrown from one of the {@code before} functions or from this consumer.
+     *
+     * @param <A> The type of the argument to the first given function, and of composed consumer
+     * @param <B> The type of the argument to the second given function, and of composed consumer
+     * @param <C> The type of the argument to the third given function, and of composed consumer
+     * @param executor The executor to apply the {@code before} functions with
+     * @param before1 The first function to apply before this consumer is applied
+     * @param before2 The second function to apply before this consumer is applied
+     * @param before3 The third function to apply before this consumer is applied
+     * @return A composed {@code TriFunction} that applies the {@code before} functions to its input concurrently, and
+     * then applies this consumer to the results.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @see #composeParallel(Executor, Function, Function, Function)
+     */
+    @Nonnull
+    default <A, B, C> TriFunction<A, B, C, CompletableFuture<Void>> composeParallelAsync(
+            @Nonnull final Executor executor, @Nonnull final Function<? super A, ? extends T> before1,
+            @Nonnull final Function<? super B, ? extends U> before2,
+            @Nonnull final Function<? super C, ? extends V> before3) {
+        Objects.requireNonNull(executor);
+        Objects.requireNonNull(before1);
+        Objects.requireNonNull(before2);
+        Objects.requireNonNull(before3);
+        return (a, b, c) -> {
+            final CompletableFuture<T> future1 = CompletableFuture.supplyAsync(() -> before1.apply(a), executor);
+            final CompletableFuture<U> future2 = CompletableFuture.supplyAsync(() -> before2.apply(b), executor);
+            final CompletableFuture<V> future3 = CompletableFuture.supplyAsync(() -> before3.apply(c), executor);
+            return CompletableFuture.allOf(future1, future2, future3)
+                    .thenRun(() -> accept(future1.join(), future2.join(), future3.join()));
+        };
+    }
+
     /**
      * Returns a composed {@link TriConsumer} that performs, in sequence, this consumer followed by the {@code after}
      * consumer.
@@ -225,10 +321,22 @@ public interface TriConsumer<T, U, V> extends Lambda {
      * @return A composed {@link TriConsumer} that performs, in sequence, this consumer followed by the {@code after}
      * consumer.
      * @throws NullPointerException If given argument is {@code null}
+     * @implNote The composed consumer is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
      */
     @Nonnull
     default TriConsumer<T, U, V> andThen(@Nonnull final TriConsumer<? super T, ? super U, ? super V> after) {
         Objects.requireNonNull(after);
+        if (this instanceof Pure && after instanceof Pure) {
+            return (TriConsumer<T, U, V> & Pure) (t, u, v) -> {
+                accept(t, u, v);
+                after.accept(t, u, v);
+            };
+        } else if (this instanceof ThreadSafe && after instanceof ThreadSafe) {
+            return (TriConsumer<T, U, V> & ThreadSafe) (t, u, v) -> {
+                accept(t, u, v);
+                after.accept(t, u, v);
+            };
+        }
         return (t, u, v) -> {
             accept(t, u, v);
             after.accept(t, u, v);
@@ -249,10 +357,146 @@ public interface TriConsumer<T, U, V> extends Lambda {
      * Returns a reversed version of this consumer. This may be useful in recursive context.
      *
      * @return A reversed version of this consumer.
+     * @implNote Reversing the returned consumer again returns this consumer instead of wrapping it twice.
      */
     @Nonnull
     default TriConsumer<V, U, T> reversed() {
-        return (v, u, t) -> accept(t, u, v);
+        return new TriConsumer<V, U, T>() {
+            @Override
+            public void accept(V v, U u, T t) {
+                TriConsumer.this.accept(t, u, v);
+            }
+
+            @Nonnull
+            @Override
+            public TriConsumer<T, U, V> reversed() {
+                return TriConsumer.this;
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link TriConsumer} that applies this consumer to its input, if less than the given number of
+     * calls of the composed consumer are running concurrently. Otherwise the call is rejected immediately with a {@link
+     * CallNotPermittedException}.
+     *
+     * @param maxConcurrent The maximum number of concurrent calls
+     * @return A composed {@code TriConsumer} that applies this consumer to its input, if less than the given number of
+     * calls are running concurrently.
+     * @throws IllegalArgumentException If given argument is not positive
+     * @see #bulkhead(Bulkhead)
+     */
+    @Nonnull
+    default TriConsumer<T, U, V> bulkhead(final int maxConcurrent) {
+        return bulkhead(Bulkhead.of(maxConcurrent));
+    }
+
+    /**
+     * Returns a composed {@link TriConsumer} that applies this consumer to its input, if a permit of the given {@link
+     * Bulkhead} is acquired. Depending on the mode of the bulkhead, the call either waits for a permit or is rejected
+     * with a {@link CallNotPermittedException}. A bulkhead may be shared by several functional interfaces calling the
+     * same dependency.
+     *
+     * @param bulkhead The bulkhead which limits the concurrent calls of this consumer
+     * @return A composed {@code TriConsumer} that applies this consumer to its input, if a permit of the given {@code
+     * Bulkhead} is acquired.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see Bulkhead#of(int, Duration)
+     * @see Bulkhead#adaptive(int, int)
+     */
+    @Nonnull
+    default TriConsumer<T, U, V> bulkhead(@Nonnull final Bulkhead bulkhead) {
+        Objects.requireNonNull(bulkhead);
+        return (t, u, v) -> {
+            final long permit = bulkhead.acquirePermission();
+            try {
+                this.accept(t, u, v);
+            } finally {
+                bulkhead.releasePermission(permit);
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link TriConsumer} that applies this consumer to its input at most the given number of times
+     * per second. If calls of the composed consumer arrive faster, the calling thread is blocked until its call is
+     * permitted.
+     *
+     * @param permitsPerSecond The number of calls per second
+     * @return A composed {@code TriConsumer} that applies this consumer to its input at most the given number of times
+     * per second.
+     * @throws IllegalArgumentException If given argument is not positive
+     * @see #rateLimited(RateLimiter)
+     */
+    @Nonnull
+    default TriConsumer<T, U, V> rateLimited(final double permitsPerSecond) {
+        return rateLimited(RateLimiter.of(permitsPerSecond));
+    }
+
+    /**
+     * Returns a composed {@link TriConsumer} that applies this consumer to its input once a permit of the given {@link
+     * RateLimiter} is acquired. The calling thread is blocked until its call is permitted.
+     *
+     * @param rateLimiter The rate limiter which limits the rate of calls of this consumer
+     * @return A composed {@code TriConsumer} that applies this consumer to its input once a permit of the given {@code
+     * RateLimiter} is acquired.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see RateLimiter#acquire()
+     */
+    @Nonnull
+    default TriConsumer<T, U, V> rateLimited(@Nonnull final RateLimiter rateLimiter) {
+        Objects.requireNonNull(rateLimiter);
+        return (t, u, v) -> {
+            rateLimiter.acquire();
+            this.accept(t, u, v);
+        };
+    }
+
+    /**
+     * Returns a {@link TriPredicate} that applies this consumer to its input, if a permit of the given {@link
+     * RateLimiter} is available immediately. Otherwise the input is dropped without blocking. The returned predicate
+     * tells if the input was accepted.
+     *
+     * @param rateLimiter The rate limiter which limits the rate of calls of this consumer
+     * @return A {@code TriPredicate} that applies this consumer to its input, if a permit of the given {@code
+     * RateLimiter} is available, and returns {@code true} if so, {@code false} otherwise.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see RateLimiter#tryAcquire()
+     */
+    @Nonnull
+    default TriPredicate<T, U, V> rateLimitedOrDrop(@Nonnull final RateLimiter rateLimiter) {
+        Objects.requireNonNull(rateLimiter);
+        return (t, u, v) -> {
+            if (!rateLimiter.tryAcquire()) {
+                return false;
+            }
+            this.accept(t, u, v);
+            return true;
+        };
+    }
+
+    /**
+     * Returns a composed {@link TriFunction} that applies this consumer asynchronously to its input using the given
+     * scheduler, once a permit of the given {@link RateLimiter} may be used. No thread is blocked while waiting for the
+     * permit. The {@link CompletableFuture} returned from the composed function is completed exceptionally, if a {@link
+     * Throwable} is thrown from this consumer.
+     *
+     * @param rateLimiter The rate limiter which limits the rate of calls of this consumer
+     * @param scheduler The scheduler to apply this consumer with
+     * @return A composed {@code TriFunction} that applies this consumer asynchronously to its input, once a permit of
+     * the given {@code RateLimiter} may be used.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @see RateLimiter#executeAsync(ThrowableSupplier, ScheduledExecutorService)
+     */
+    @Nonnull
+    default TriFunction<T, U, V, CompletableFuture<Void>> rateLimitedAsync(@Nonnull final RateLimiter rateLimiter,
+            @Nonnull final ScheduledExecutorService scheduler) {
+        Objects.requireNonNull(rateLimiter);
+        Objects.requireNonNull(scheduler);
+        return (t, u, v) -> rateLimiter.executeAsync(() -> {
+            this.accept(t, u, v);
+            return null;
+        }, scheduler);
     }
 
 }
\ No newline at end of file
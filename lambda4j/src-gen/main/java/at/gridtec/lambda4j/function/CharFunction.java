@@ -17,6 +17,9 @@ package at.gridtec.lambda4j.function;
 
 import at.gridtec.lambda4j.Lambda;
 import at.gridtec.lambda4j.consumer.CharConsumer;
+import at.gridtec.lambda4j.core.memoization.Codec;
+import at.gridtec.lambda4j.core.memoization.MemoizationCache;
+import at.gridtec.lambda4j.core.util.DerivedView;
 import at.gridtec.lambda4j.function.conversion.BooleanToCharFunction;
 import at.gridtec.lambda4j.function.conversion.ByteToCharFunction;
 import at.gridtec.lambda4j.function.conversion.DoubleToCharFunction;
@@ -26,14 +29,23 @@ import at.gridtec.lambda4j.function.conversion.LongToCharFunction;
 import at.gridtec.lambda4j.function.conversion.ShortToCharFunction;
 import at.gridtec.lambda4j.function.to.ToCharFunction;
 import at.gridtec.lambda4j.operator.unary.CharUnaryOperator;
+import at.gridtec.lambda4j.resilience.Bulkhead;
+import at.gridtec.lambda4j.resilience.CallNotPermittedException;
+import at.gridtec.lambda4j.resilience.CallTimeoutException;
+import at.gridtec.lambda4j.resilience.Hedger;
+import at.gridtec.lambda4j.resilience.RateLimiter;
+import at.gridtec.lambda4j.resilience.TimeLimiter;
+import at.gridtec.lambda4j.supplier.Supplier2;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.Map;
+import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -107,7 +119,41 @@ public interface CharFunction<R> extends Lambda {
      */
     @Nonnull
     static <R> CharFunction<R> constant(R ret) {
-        return (value) -> ret;
+        return (CharFunction<R> & Constant) (value) -> ret;
+    }
+
+    /**
+     * Returns a {@link CharFunction} which represents the given {@link Function2}. Thereby the boxed input arguments
+     * and results of the given function are unboxed to their primitive counterparts. This method is the inverse of
+     * {@link #boxed()}.
+     *
+     * @param <R> The type of return value from the function
+     * @param boxed The {@code Function2} to be represented by the returned {@code CharFunction}
+     * @return A {@code CharFunction} which represents the given {@code Function2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implNote If the given {@code Function2} was returned from {@link #boxed()}, the original {@code CharFunction} is
+     * returned instead of wrapping it twice. Likewise, {@link #boxed()} of the returned {@code CharFunction} returns
+     * the given {@code Function2}.
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <R> CharFunction<R> unboxed(@Nonnull final Function2<Character, R> boxed) {
+        Objects.requireNonNull(boxed);
+        if (boxed instanceof DerivedView && ((DerivedView) boxed).getSource() instanceof CharFunction) {
+            return (CharFunction<R>) ((DerivedView) boxed).getSource();
+        }
+        return new CharFunction<R>() {
+            @Override
+            public R apply(char value) {
+                return boxed.apply(value);
+            }
+
+            @Nonnull
+            @Override
+            public Function2<Character, R> boxed() {
+                return boxed;
+            }
+        };
     }
 
     /**
@@ -140,10 +186,26 @@ public interface CharFunction<R> extends Lambda {
      * applies this function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to handle every type.
+     * @implNote The composed function is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
+     * @implNote If this function is marked as {@link Pure} and the {@code before} function is constant (f.e. created by
+     * {@code constant}), this function is applied only once, when the composed function is applied for the first time.
+     * Its result is then returned by each further application. If applying it throws an exception, the exception is
+     * relayed to the caller and it is applied again on the next application.
      */
     @Nonnull
     default <A> Function2<A, R> compose(@Nonnull final ToCharFunction<? super A> before) {
         Objects.requireNonNull(before);
+        if (this instanceof Pure && before instanceof Constant) {
+            // The result is held by an optional, so that a null result is memoized as well
+            final Supplier2<Optional<R>> result = Supplier2.of(
+                    () -> Optional.ofNullable(apply(before.applyAsChar(null)))).memoized();
+            return (Function2<A, R> & Pure) (a) -> result.get().orElse(null);
+        }
+        if (this instanceof Pure && before instanceof Pure) {
+            return (Function2<A, R> & Pure) (a) -> apply(before.applyAsChar(a));
+        } else if (this instanceof ThreadSafe && before instanceof ThreadSafe) {
+            return (Function2<A, R> & ThreadSafe) (a) -> apply(before.applyAsChar(a));
+        }
         return (a) -> apply(before.applyAsChar(a));
     }
 
@@ -314,10 +376,26 @@ public interface CharFunction<R> extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote The composed function is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
+     * @implNote If this function is constant (f.e. created by {@code constant}) and the {@code after} function is
+     * marked as {@link Pure}, the {@code after} function is applied only once, when the composed function is applied
+     * for the first time. Its result is then returned by each further application. If applying it throws an exception,
+     * the exception is relayed to the caller and it is applied again on the next application.
      */
     @Nonnull
     default <S> CharFunction<S> andThen(@Nonnull final Function<? super R, ? extends S> after) {
         Objects.requireNonNull(after);
+        if (this instanceof Constant && after instanceof Pure) {
+            // The result is held by an optional, so that a null result is memoized as well
+            final Supplier2<Optional<S>> result = Supplier2.of(() -> Optional.ofNullable(after.apply(apply((char) 0))))
+                    .memoized();
+            return (CharFunction<S> & Pure) (value) -> result.get().orElse(null);
+        }
+        if (this instanceof Pure && after instanceof Pure) {
+            return (CharFunction<S> & Pure) (value) -> after.apply(apply(value));
+        } else if (this instanceof ThreadSafe && after instanceof ThreadSafe) {
+            return (CharFunction<S> & ThreadSafe) (value) -> after.apply(apply(value));
+        }
         return (value) -> after.apply(apply(value));
     }
 
@@ -344,23 +422,55 @@ public interface CharFunction<R> extends Lambda {
      * <p>
      * Unless the function and therefore the used cache will be garbage-collected, it will keep all memoized values
      * forever.
+     * <p>
+     * The returned memoized function is serializable, if this function is serializable. Its memoized values are not
+     * written when it gets serialized, so the deserialized function starts with an empty cache.
      *
      * @return A memoized (caching) version of this {@code CharFunction}.
      * @implSpec This implementation does not allow the input parameter or return value to be {@code null} for the
      * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
      * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
      * thread-safe.
+     * @see #memoized(boolean)
      */
     @Nonnull
     default CharFunction<R> memoized() {
+        return memoized(false);
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link CharFunction}. Whenever it is called, the mapping between the
+     * input parameter and the return value is preserved in a cache, making subsequent calls returning the memoized
+     * value instead of computing the return value again.
+     * <p>
+     * Unless the function and therefore the used cache will be garbage-collected, it will keep all memoized values
+     * forever.
+     * <p>
+     * The returned memoized function is serializable, if this function is serializable. If {@code serializeCache} is
+     * {@code true}, a snapshot of all memoized values is written when it gets serialized, so the deserialized function
+     * starts warm. Otherwise the deserialized function starts with an empty cache. Primitive values are thereby written
+     * in their binary form.
+     *
+     * @param serializeCache {@code true} if the memoized values should be written when the memoized function gets
+     * serialized, {@code false} otherwise
+     * @return A memoized (caching) version of this {@code CharFunction}.
+     * @implSpec This implementation does not allow the input parameter or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe. If this function is already memoized, it is returned as-is regardless of {@code serializeCache}.
+     * @see MemoizationCache
+     */
+    @Nonnull
+    default CharFunction<R> memoized(final boolean serializeCache) {
         if (isMemoized()) {
             return this;
         } else {
-            final Map<Character, R> cache = new ConcurrentHashMap<>();
-            final Object lock = new Object();
+            final Codec<Character> keyCodec = Codec.ofChar();
+            final MemoizationCache<Character, R> cache = MemoizationCache.of(keyCodec, Codec.ofObject(),
+                                                                             serializeCache);
             return (CharFunction<R> & Memoized) (value) -> {
                 final R returnValue;
-                synchronized (lock) {
+                synchronized (cache) {
                     returnValue = cache.computeIfAbsent(value, this::apply);
                 }
                 return returnValue;
@@ -388,10 +498,197 @@ public interface CharFunction<R> extends Lambda {
      * {@code CharFunction} with methods provided by the {@code JDK}.
      *
      * @return A composed {@code Function2} which represents this {@code CharFunction}.
+     * @implNote The returned {@code Function2} is a {@link DerivedView} of this {@code CharFunction}, so {@link
+     * #unboxed(Function2)} returns this {@code CharFunction} instead of wrapping it twice.
      */
     @Nonnull
     default Function2<Character, R> boxed() {
-        return this::apply;
+        final class Boxed implements Function2<Character, R>, DerivedView {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public R apply(Character value) {
+                return CharFunction.this.apply(value);
+            }
+
+            @Nonnull
+            @Override
+            public CharFunction<R> getSource() {
+                return CharFunction.this;
+            }
+        }
+        return new Boxed();
+    }
+
+    /**
+     * Returns a composed {@link CharFunction} that applies this function to its input on the given executor and waits
+     * at most the given timeout for its result. If the timeout elapses, this function is cancelled by interrupting it
+     * and a {@link CallTimeoutException} is thrown.
+     *
+     * @param timeout The maximum time to wait for the result of this function
+     * @param executor The executor to apply this function with
+     * @return A composed {@code CharFunction} that applies this function to its input on the given executor and waits
+     * at most the given timeout for its result.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @throws IllegalArgumentException If given timeout is negative
+     * @see #withTimeout(TimeLimiter)
+     */
+    @Nonnull
+    default CharFunction<R> withTimeout(@Nonnull final Duration timeout, @Nonnull final Executor executor) {
+        return withTimeout(TimeLimiter.of(timeout, executor));
+    }
+
+    /**
+     * Returns a composed {@link CharFunction} that applies this function to its input using the given {@link
+     * TimeLimiter}. Any {@link Throwable} thrown from this function is rethrown as-is from the composed function.
+     *
+     * @param timeLimiter The time limiter which bounds how long this function may take
+     * @return A composed {@code CharFunction} that applies this function to its input using the given {@code
+     * TimeLimiter}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see TimeLimiter#call(ThrowableSupplier)
+     */
+    @Nonnull
+    default CharFunction<R> withTimeout(@Nonnull final TimeLimiter timeLimiter) {
+        Objects.requireNonNull(timeLimiter);
+        return (value) -> timeLimiter.call(() -> this.apply(value));
+    }
+
+    /**
+     * Returns a composed {@link CharFunction} that applies this function to its input on the given executor and
+     * launches another call with the same input if no call has completed after the given delay, up to the given maximum
+     * number of hedges. The first successful result is returned and all other calls are cancelled. As this function may
+     * be applied more than once for each input, it should be idempotent.
+     *
+     * @param delay The delay after which another call is launched, if no call has completed yet
+     * @param maxHedges The maximum number of hedges launched for each call in addition to the first call
+     * @param executor The executor to apply this function with
+     * @return A composed {@code CharFunction} that applies this function to its input on the given executor and
+     * launches hedged calls if no call has completed after the given delay.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @throws IllegalArgumentException If given delay or given number of hedges is negative
+     * @see #hedged(Hedger)
+     */
+    @Nonnull
+    default CharFunction<R> hedged(@Nonnull final Duration delay, final int maxHedges,
+            @Nonnull final Executor executor) {
+        return hedged(Hedger.of(delay, maxHedges, executor));
+    }
+
+    /**
+     * Returns a composed {@link CharFunction} that applies this function to its input using the given {@link Hedger}.
+     * The hedger records the latencies of its winning calls, so a hedger shared by several calls may be used to pick
+     * the hedging delay from an observed latency percentile (f.e. using {@link Hedger#ofPercentile(double, Duration,
+     * int, Executor)}). If all calls fail, the {@link Throwable} of the last failed call is rethrown as-is from the
+     * composed function.
+     *
+     * @param hedger The hedger which launches the hedged calls of this function
+     * @return A composed {@code CharFunction} that applies this function to its input using the given {@code Hedger}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see Hedger#call(ThrowableSupplier)
+     */
+    @Nonnull
+    default CharFunction<R> hedged(@Nonnull final Hedger hedger) {
+        Objects.requireNonNull(hedger);
+        return (value) -> hedger.call(() -> this.apply(value));
+    }
+
+    /**
+     * Returns a composed {@link CharFunction} that applies this function to its input, if less than the given number of
+     * calls of the composed function are running concurrently. Otherwise the call is rejected immediately with a {@link
+     * CallNotPermittedException}.
+     *
+     * @param maxConcurrent The maximum number of concurrent calls
+     * @return A composed {@code CharFunction} that applies this function to its input, if less than the given number of
+     * calls are running concurrently.
+     * @throws IllegalArgumentException If given argument is not positive
+     * @see #bulkhead(Bulkhead)
+     */
+    @Nonnull
+    default CharFunction<R> bulkhead(final int maxConcurrent) {
+        return bulkhead(Bulkhead.of(maxConcurrent));
+    }
+
+    /**
+     * Returns a composed {@link CharFunction} that applies this function to its input, if a permit of the given {@link
+     * Bulkhead} is acquired. Depending on the mode of the bulkhead, the call either waits for a permit or is rejected
+     * with a {@link CallNotPermittedException}. A bulkhead may be shared by several functional interfaces calling the
+     * same dependency.
+     *
+     * @param bulkhead The bulkhead which limits the concurrent calls of this function
+     * @return A composed {@code CharFunction} that applies this function to its input, if a permit of the given {@code
+     * Bulkhead} is acquired.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see Bulkhead#of(int, Duration)
+     * @see Bulkhead#adaptive(int, int)
+     */
+    @Nonnull
+    default CharFunction<R> bulkhead(@Nonnull final Bulkhead bulkhead) {
+        Objects.requireNonNull(bulkhead);
+        return (value) -> {
+            final long permit = bulkhead.acquirePermission();
+            try {
+                return this.apply(value);
+            } finally {
+                bulkhead.releasePermission(permit);
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link CharFunction} that applies this function to its input at most the given number of times
+     * per second. If calls of the composed function arrive faster, the calling thread is blocked until its call is
+     * permitted.
+     *
+     * @param permitsPerSecond The number of calls per second
+     * @return A composed {@code CharFunction} that applies this function to its input at most the given number of times
+     * per second.
+     * @throws IllegalArgumentException If given argument is not positive
+     * @see #rateLimited(RateLimiter)
+     */
+    @Nonnull
+    default CharFunction<R> rateLimited(final double permitsPerSecond) {
+        return rateLimited(RateLimiter.of(permitsPerSecond));
+    }
+
+    /**
+     * Returns a composed {@link CharFunction} that applies this function to its input once a permit of the given {@link
+     * RateLimiter} is acquired. The calling thread is blocked until its call is permitted.
+     *
+     * @param rateLimiter The rate limiter which limits the rate of calls of this function
+     * @return A composed {@code CharFunction} that applies this function to its input once a permit of the given {@code
+     * RateLimiter} is acquired.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see RateLimiter#acquire()
+     */
+    @Nonnull
+    default CharFunction<R> rateLimited(@Nonnull final RateLimiter rateLimiter) {
+        Objects.requireNonNull(rateLimiter);
+        return (value) -> {
+            rateLimiter.acquire();
+            return this.apply(value);
+        };
+    }
+
+    /**
+     * Returns a composed {@link CharFunction} that applies this function asynchronously to its input using the given
+     * scheduler, once a permit of the given {@link RateLimiter} may be used. No thread is blocked while waiting for the
+     * permit. The {@link CompletableFuture} returned from the composed function is completed exceptionally, if a {@link
+     * Throwable} is thrown from this function.
+     *
+     * @param rateLimiter The rate limiter which limits the rate of calls of this function
+     * @param scheduler The scheduler to apply this function with
+     * @return A composed {@code CharFunction} that applies this function asynchronously to its input, once a permit of
+     * the given {@code RateLimiter} may be used.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @see RateLimiter#executeAsync(ThrowableSupplier, ScheduledExecutorService)
+     */
+    @Nonnull
+    default CharFunction<CompletableFuture<R>> rateLimitedAsync(@Nonnull final RateLimiter rateLimiter,
+            @Nonnull final ScheduledExecutorService scheduler) {
+        Objects.requireNonNull(rateLimiter);
+        Objects.requireNonNull(scheduler);
+        return (value) -> rateLimiter.executeAsync(() -> this.apply(value), scheduler);
     }
 
 }
\ No newline at end of file
@@ -19,6 +19,10 @@ import at.gridtec.lambda4j.Lambda;
 import at.gridtec.lambda4j.consumer.ThrowableCharConsumer;
 import at.gridtec.lambda4j.consumer.ThrowableConsumer;
 import at.gridtec.lambda4j.core.exception.ThrownByFunctionalInterfaceException;
+import at.gridtec.lambda4j.core.memoization.Codec;
+import at.gridtec.lambda4j.core.memoization.MemoizationCache;
+import at.gridtec.lambda4j.core.recovery.RecoveryTable;
+import at.gridtec.lambda4j.core.util.DerivedView;
 import at.gridtec.lambda4j.core.util.ThrowableUtils;
 import at.gridtec.lambda4j.function.conversion.ThrowableBooleanToCharFunction;
 import at.gridtec.lambda4j.function.conversion.ThrowableByteToCharFunction;
@@ -29,14 +33,26 @@ import at.gridtec.lambda4j.function.conversion.ThrowableLongToCharFunction;
 import at.gridtec.lambda4j.function.conversion.ThrowableShortToCharFunction;
 import at.gridtec.lambda4j.function.to.ThrowableToCharFunction;
 import at.gridtec.lambda4j.operator.unary.ThrowableCharUnaryOperator;
+import at.gridtec.lambda4j.resilience.Bulkhead;
+import at.gridtec.lambda4j.resilience.CallNotPermittedException;
+import at.gridtec.lambda4j.resilience.CallTimeoutException;
+import at.gridtec.lambda4j.resilience.CircuitBreaker;
+import at.gridtec.lambda4j.resilience.CircuitBreakerConfig;
+import at.gridtec.lambda4j.resilience.Hedger;
+import at.gridtec.lambda4j.resilience.RateLimiter;
+import at.gridtec.lambda4j.resilience.RetryPolicy;
+import at.gridtec.lambda4j.resilience.TimeLimiter;
+import at.gridtec.lambda4j.result.Result;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.Map;
+import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Function;
 
 /**
@@ -120,7 +136,43 @@ public interface ThrowableCharFunction<R, X extends Throwable> extends Lambda {
      */
     @Nonnull
     static <R, X extends Throwable> ThrowableCharFunction<R, X> constant(R ret) {
-        return (value) -> ret;
+        return (ThrowableCharFunction<R, X> & Constant) (value) -> ret;
+    }
+
+    /**
+     * Returns a {@link ThrowableCharFunction} which represents the given {@link ThrowableFunction}. Thereby the boxed
+     * input arguments and results of the given function are unboxed to their primitive counterparts. This method is the
+     * inverse of {@link #boxed()}.
+     *
+     * @param <R> The type of return value from the function
+     * @param <X> The type of the throwable to be thrown by this function
+     * @param boxed The {@code ThrowableFunction} to be represented by the returned {@code ThrowableCharFunction}
+     * @return A {@code ThrowableCharFunction} which represents the given {@code ThrowableFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implNote If the given {@code ThrowableFunction} was returned from {@link #boxed()}, the original {@code
+     * ThrowableCharFunction} is returned instead of wrapping it twice. Likewise, {@link #boxed()} of the returned
+     * {@code ThrowableCharFunction} returns the given {@code ThrowableFunction}.
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <R, X extends Throwable> ThrowableCharFunction<R, X> unboxed(
+            @Nonnull final ThrowableFunction<Character, R, X> boxed) {
+        Objects.requireNonNull(boxed);
+        if (boxed instanceof DerivedView && ((DerivedView) boxed).getSource() instanceof ThrowableCharFunction) {
+            return (ThrowableCharFunction<R, X>) ((DerivedView) boxed).getSource();
+        }
+        return new ThrowableCharFunction<R, X>() {
+            @Override
+            public R applyThrows(char value) throws X {
+                return boxed.applyThrows(value);
+            }
+
+            @Nonnull
+            @Override
+            public ThrowableFunction<Character, R, X> boxed() {
+                return boxed;
+            }
+        };
     }
 
     /**
@@ -153,11 +205,17 @@ public interface ThrowableCharFunction<R, X extends Throwable> extends Lambda {
      * then applies this function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to handle every type.
+     * @implNote The composed function is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
      */
     @Nonnull
     default <A> ThrowableFunction<A, R, X> compose(
             @Nonnull final ThrowableToCharFunction<? super A, ? extends X> before) {
         Objects.requireNonNull(before);
+        if (this instanceof Pure && before instanceof Pure) {
+            return (ThrowableFunction<A, R, X> & Pure) (a) -> applyThrows(before.applyAsCharThrows(a));
+        } else if (this instanceof ThreadSafe && before instanceof ThreadSafe) {
+            return (ThrowableFunction<A, R, X> & ThreadSafe) (a) -> applyThrows(before.applyAsCharThrows(a));
+        }
         return (a) -> applyThrows(before.applyAsCharThrows(a));
     }
 
@@ -325,11 +383,17 @@ public interface ThrowableCharFunction<R, X extends Throwable> extends Lambda {
      * the {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote The composed function is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
      */
     @Nonnull
     default <S> ThrowableCharFunction<S, X> andThen(
             @Nonnull final ThrowableFunction<? super R, ? extends S, ? extends X> after) {
         Objects.requireNonNull(after);
+        if (this instanceof Pure && after instanceof Pure) {
+            return (ThrowableCharFunction<S, X> & Pure) (value) -> after.applyThrows(applyThrows(value));
+        } else if (this instanceof ThreadSafe && after instanceof ThreadSafe) {
+            return (ThrowableCharFunction<S, X> & ThreadSafe) (value) -> after.applyThrows(applyThrows(value));
+        }
         return (value) -> after.applyThrows(applyThrows(value));
     }
 
@@ -355,23 +419,55 @@ public interface ThrowableCharFunction<R, X extends Throwable> extends Lambda {
      * <p>
      * Unless the function and therefore the used cache will be garbage-collected, it will keep all memoized values
      * forever.
+     * <p>
+     * The returned memoized function is serializable, if this function is serializable. Its memoized values are not
+     * written when it gets serialized, so the deserialized function starts with an empty cache.
      *
      * @return A memoized (caching) version of this {@code ThrowableCharFunction}.
      * @implSpec This implementation does not allow the input parameter or return value to be {@code null} for the
      * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
      * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
      * thread-safe.
+     * @see #memoized(boolean)
      */
     @Nonnull
     default ThrowableCharFunction<R, X> memoized() {
+        return memoized(false);
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link ThrowableCharFunction}. Whenever it is called, the mapping
+     * between the input parameter and the return value is preserved in a cache, making subsequent calls returning the
+     * memoized value instead of computing the return value again.
+     * <p>
+     * Unless the function and therefore the used cache will be garbage-collected, it will keep all memoized values
+     * forever.
+     * <p>
+     * The returned memoized function is serializable, if this function is serializable. If {@code serializeCache} is
+     * {@code true}, a snapshot of all memoized values is written when it gets serialized, so the deserialized function
+     * starts warm. Otherwise the deserialized function starts with an empty cache. Primitive values are thereby written
+     * in their binary form.
+     *
+     * @param serializeCache {@code true} if the memoized values should be written when the memoized function gets
+     * serialized, {@code false} otherwise
+     * @return A memoized (caching) version of this {@code ThrowableCharFunction}.
+     * @implSpec This implementation does not allow the input parameter or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe. If this function is already memoized, it is returned as-is regardless of {@code serializeCache}.
+     * @see MemoizationCache
+     */
+    @Nonnull
+    default ThrowableCharFunction<R, X> memoized(final boolean serializeCache) {
         if (isMemoized()) {
             return this;
         } else {
-            final Map<Character, R> cache = new ConcurrentHashMap<>();
-            final Object lock = new Object();
+            final Codec<Character> keyCodec = Codec.ofChar();
+            final MemoizationCache<Character, R> cache = MemoizationCache.of(keyCodec, Codec.ofObject(),
+                                                                             serializeCache);
             return (ThrowableCharFunction<R, X> & Memoized) (value) -> {
                 final R returnValue;
-                synchronized (lock) {
+                synchronized (cache) {
                     returnValue = cache.computeIfAbsent(value, ThrowableFunction.of(this::applyThrows));
                 }
                 return returnValue;
@@ -399,26 +495,48 @@ public interface ThrowableCharFunction<R, X extends Throwable> extends Lambda {
      * ThrowableCharFunction} with methods provided by the {@code JDK}.
      *
      * @return A composed {@code ThrowableFunction} which represents this {@code ThrowableCharFunction}.
+     * @implNote The returned {@code ThrowableFunction} is a {@link DerivedView} of this {@code ThrowableCharFunction},
+     * so {@link #unboxed(ThrowableFunction)} returns this {@code ThrowableCharFunction} instead of wrapping it twice.
      */
     @Nonnull
     default ThrowableFunction<Character, R, X> boxed() {
-        return this::applyThrows;
+        final class Boxed implements ThrowableFunction<Character, R, X>, DerivedView {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public R applyThrows(Character value) throws X {
+                return ThrowableCharFunction.this.applyThrows(value);
+            }
+
+            @Nonnull
+            @Override
+            public ThrowableCharFunction<R, X> getSource() {
+                return ThrowableCharFunction.this;
+            }
+        }
+        return new Boxed();
     }
 
     /**
      * Returns a composed {@link CharFunction} that applies this function to its input and nests the thrown {@link
      * Throwable} from it. The {@code Throwable} is nested (wrapped) in a {@link ThrownByFunctionalInterfaceException},
      * which is constructed from the thrown {@code Throwable}s message and the thrown {@code Throwable} itself.
+     * <p>
+     * If stack traces of nested throwables are disabled process-wide using {@link
+     * ThrowableUtils#setStackTraceEnabled(boolean)}, the {@code Throwable} is nested in a {@link
+     * StacklessThrownByFunctionalInterfaceException} instead. To nest it without stack trace for a single function
+     * only, {@code nest(StacklessThrownByFunctionalInterfaceException::new)} may be used.
      *
      * @return A composed {@link CharFunction} that applies this function to its input and nests the thrown {@code
      * Throwable} from it.
      * @implNote If thrown {@code Throwable} is of type {@link Error} it is thrown as-is and thus not nested.
      * @see #nest(Function)
      * @see ThrownByFunctionalInterfaceException
+     * @see ThrowableUtils#nest(Throwable)
      */
     @Nonnull
     default CharFunction<R> nest() {
-        return nest(throwable -> new ThrownByFunctionalInterfaceException(throwable.getMessage(), throwable));
+        return nest(ThrowableUtils::nest);
     }
 
     /**
@@ -445,6 +563,9 @@ public interface ThrowableCharFunction<R, X extends Throwable> extends Lambda {
      * {@code recover} operation if a {@link Throwable} is thrown from this one. The {@code recover} operation is
      * represented by a curried operation which is called with throwable information and same argument of this
      * function.
+     * <p>
+     * If the {@code recover} operation should dispatch by the class of the thrown {@code Throwable}, a {@link
+     * RecoveryTable} may be used, which resolves the fallback operation only once per {@code Throwable} class.
      *
      * @param recover The operation to apply if this function throws a {@code Throwable}
      * @return A composed {@link CharFunction} that first applies this function to its input, and then applies the
@@ -454,6 +575,7 @@ public interface ThrowableCharFunction<R, X extends Throwable> extends Lambda {
      * {@code null}. If it is, then a {@link NullPointerException} with appropriate message is thrown.
      * @implNote If thrown {@code Throwable} is of type {@link Error}, it is thrown as-is and thus not passed to {@code
      * recover} operation.
+     * @see RecoveryTable
      */
     @Nonnull
     default CharFunction<R> recover(
@@ -473,6 +595,303 @@ public interface ThrowableCharFunction<R, X extends Throwable> extends Lambda {
         };
     }
 
+    /**
+     * Returns a composed {@link CharFunction} that applies this function to its input and returns its result as {@link
+     * Result}. If a {@link Throwable} is thrown from this function, it is not thrown by the composed function, but
+     * returned as failed {@code Result} instead. This avoids unwinding the stack in workloads with a high failure rate,
+     * as failed results are composed using their {@code map} and {@code flatMap} methods.
+     *
+     * @return A composed {@code CharFunction} that applies this function to its input and returns its result as {@code
+     * Result}.
+     * @implNote If thrown {@code Throwable} is of type {@link Error}, it is thrown as-is and thus not returned as
+     * failed result.
+     * @see Result
+     */
+    @Nonnull
+    default CharFunction<Result<R>> attempt() {
+        return (value) -> {
+            try {
+                return Result.success(this.applyThrows(value));
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable throwable) {
+                return Result.failure(throwable);
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link ThrowableCharFunction} that applies this function to its input and retries it according
+     * to the given {@link RetryPolicy}, if a {@link Throwable} is thrown from it. The current thread is blocked for the
+     * delay between two attempts. If the {@code Throwable} is not retried, it is thrown as-is from the composed
+     * function, thus the type of {@code Throwable} thrown from this function is preserved.
+     *
+     * @param policy The policy which defines if and when this function is retried
+     * @return A composed {@code ThrowableCharFunction} that applies this function to its input and retries it according
+     * to the given {@code RetryPolicy}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see #retryAsync(RetryPolicy, ScheduledExecutorService)
+     */
+    @Nonnull
+    default ThrowableCharFunction<R, X> retry(@Nonnull final RetryPolicy policy) {
+        Objects.requireNonNull(policy);
+        return (value) -> {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    return this.applyThrows(value);
+                } catch (Throwable throwable) {
+                    if (!policy.awaitRetry(throwable, attempt)) {
+                        throw throwable;
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link CharFunction} that applies this function asynchronously to its input using the given
+     * scheduler and retries it according to the given {@link RetryPolicy}, if a {@link Throwable} is thrown from it.
+     * The delay between two attempts does not block a thread, as each retry is scheduled on the given scheduler. The
+     * {@link CompletableFuture} returned from the composed function is completed exceptionally with the {@code
+     * Throwable} of the last attempt, if this function is not retried anymore.
+     *
+     * @param policy The policy which defines if and when this function is retried
+     * @param scheduler The scheduler to apply this function with
+     * @return A composed {@code CharFunction} that applies this function asynchronously to its input and retries it
+     * according to the given {@code RetryPolicy}.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @see #retry(RetryPolicy)
+     */
+    @Nonnull
+    default CharFunction<CompletableFuture<R>> retryAsync(@Nonnull final RetryPolicy policy,
+            @Nonnull final ScheduledExecutorService scheduler) {
+        Objects.requireNonNull(policy);
+        Objects.requireNonNull(scheduler);
+        return (value) -> policy.executeAsync(() -> this.applyThrows(value), scheduler);
+    }
+
+    /**
+     * Returns a composed {@link ThrowableCharFunction} that applies this function to its input guarded by a new {@link
+     * CircuitBreaker} created from the given configuration. The circuit breaker is owned by the composed function, so
+     * all its calls share the same failure rate.
+     *
+     * @param config The configuration of the circuit breaker guarding this function
+     * @return A composed {@code ThrowableCharFunction} that applies this function to its input guarded by a new {@code
+     * CircuitBreaker}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see #circuitBroken(CircuitBreaker)
+     */
+    @Nonnull
+    default ThrowableCharFunction<R, X> circuitBroken(@Nonnull final CircuitBreakerConfig config) {
+        return circuitBroken(CircuitBreaker.of(config));
+    }
+
+    /**
+     * Returns a composed {@link ThrowableCharFunction} that applies this function to its input guarded by the given
+     * {@link CircuitBreaker}. If the circuit breaker does not permit the call, this function is not applied and a
+     * {@link CallNotPermittedException} is thrown immediately. Otherwise the outcome of this function is recorded in
+     * the circuit breaker against the phase in which the call was permitted and any {@link Throwable} thrown from it is
+     * rethrown as-is. To fall back to another result while the circuit breaker is open, {@link #recover(Function)} may
+     * be used on the composed function.
+     *
+     * @param circuitBreaker The circuit breaker guarding this function
+     * @return A composed {@code ThrowableCharFunction} that applies this function to its input guarded by the given
+     * {@code CircuitBreaker}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see #circuitBroken(CircuitBreakerConfig)
+     */
+    @Nonnull
+    default ThrowableCharFunction<R, X> circuitBroken(@Nonnull final CircuitBreaker circuitBreaker) {
+        Objects.requireNonNull(circuitBreaker);
+        return (value) -> {
+            final CircuitBreaker.Phase permitted = circuitBreaker.tryAcquirePermission();
+            if (permitted == null) {
+                throw new CallNotPermittedException("CircuitBreaker is " + circuitBreaker.getState());
+            }
+            try {
+                final R returnValue = this.applyThrows(value);
+                circuitBreaker.onSuccess(permitted);
+                return returnValue;
+            } catch (Throwable throwable) {
+                circuitBreaker.onFailure(permitted, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link ThrowableCharFunction} that applies this function to its input on the given executor
+     * and waits at most the given timeout for its result. If the timeout elapses, this function is cancelled by
+     * interrupting it and a {@link CallTimeoutException} is thrown. To return a fallback result instead, {@link
+     * #recover(Function)} may be used on the composed function.
+     *
+     * @param timeout The maximum time to wait for the result of this function
+     * @param executor The executor to apply this function with
+     * @return A composed {@code ThrowableCharFunction} that applies this function to its input on the given executor
+     * and waits at most the given timeout for its result.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @throws IllegalArgumentException If given timeout is negative
+     * @see #withTimeout(TimeLimiter)
+     */
+    @Nonnull
+    default ThrowableCharFunction<R, X> withTimeout(@Nonnull final Duration timeout, @Nonnull final Executor executor) {
+        return withTimeout(TimeLimiter.of(timeout, executor));
+    }
+
+    /**
+     * Returns a composed {@link ThrowableCharFunction} that applies this function to its input using the given {@link
+     * TimeLimiter}. Any {@link Throwable} thrown from this function is rethrown as-is from the composed function.
+     *
+     * @param timeLimiter The time limiter which bounds how long this function may take
+     * @return A composed {@code ThrowableCharFunction} that applies this function to its input using the given {@code
+     * TimeLimiter}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see TimeLimiter#call(ThrowableSupplier)
+     */
+    @Nonnull
+    default ThrowableCharFunction<R, X> withTimeout(@Nonnull final TimeLimiter timeLimiter) {
+        Objects.requireNonNull(timeLimiter);
+        return (value) -> timeLimiter.call(() -> this.applyThrows(value));
+    }
+
+    /**
+     * Returns a composed {@link ThrowableCharFunction} that applies this function to its input on the given executor
+     * and launches another call with the same input if no call has completed after the given delay, up to the given
+     * maximum number of hedges. The first successful result is returned and all other calls are cancelled. As this
+     * function may be applied more than once for each input, it should be idempotent.
+     *
+     * @param delay The delay after which another call is launched, if no call has completed yet
+     * @param maxHedges The maximum number of hedges launched for each call in addition to the first call
+     * @param executor The executor to apply this function with
+     * @return A composed {@code ThrowableCharFunction} that applies this function to its input on the given executor
+     * and launches hedged calls if no call has completed after the given delay.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @throws IllegalArgumentException If given delay or given number of hedges is negative
+     * @see #hedged(Hedger)
+     */
+    @Nonnull
+    default ThrowableCharFunction<R, X> hedged(@Nonnull final Duration delay, final int maxHedges,
+            @Nonnull final Executor executor) {
+        return hedged(Hedger.of(delay, maxHedges, executor));
+    }
+
+    /**
+     * Returns a composed {@link ThrowableCharFunction} that applies this function to its input using the given {@link
+     * Hedger}. The hedger records the latencies of its winning calls, so a hedger shared by several calls may be used
+     * to pick the hedging delay from an observed latency percentile (f.e. using {@link Hedger#ofPercentile(double,
+     * Duration, int, Executor)}). If all calls fail, the {@link Throwable} of the last failed call is rethrown as-is
+     * from the composed function.
+     *
+     * @param hedger The hedger which launches the hedged calls of this function
+     * @return A composed {@code ThrowableCharFunction} that applies this function to its input using the given {@code
+     * Hedger}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see Hedger#call(ThrowableSupplier)
+     */
+    @Nonnull
+    default ThrowableCharFunction<R, X> hedged(@Nonnull final Hedger hedger) {
+        Objects.requireNonNull(hedger);
+        return (value) -> hedger.call(() -> this.applyThrows(value));
+    }
+
+    /**
+     * Returns a composed {@link ThrowableCharFunction} that applies this function to its input, if less than the given
+     * number of calls of the composed function are running concurrently. Otherwise the call is rejected immediately
+     * with a {@link CallNotPermittedException}.
+     *
+     * @param maxConcurrent The maximum number of concurrent calls
+     * @return A composed {@code ThrowableCharFunction} that applies this function to its input, if less than the given
+     * number of calls are running concurrently.
+     * @throws IllegalArgumentException If given argument is not positive
+     * @see #bulkhead(Bulkhead)
+     */
+    @Nonnull
+    default ThrowableCharFunction<R, X> bulkhead(final int maxConcurrent) {
+        return bulkhead(Bulkhead.of(maxConcurrent));
+    }
+
+    /**
+     * Returns a composed {@link ThrowableCharFunction} that applies this function to its input, if a permit of the
+     * given {@link Bulkhead} is acquired. Depending on the mode of the bulkhead, the call either waits for a permit or
+     * is rejected with a {@link CallNotPermittedException}. A bulkhead may be shared by several functional interfaces
+     * calling the same dependency.
+     *
+     * @param bulkhead The bulkhead which limits the concurrent calls of this function
+     * @return A composed {@code ThrowableCharFunction} that applies this function to its input, if a permit of the
+     * given {@code Bulkhead} is acquired.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see Bulkhead#of(int, Duration)
+     * @see Bulkhead#adaptive(int, int)
+     */
+    @Nonnull
+    default ThrowableCharFunction<R, X> bulkhead(@Nonnull final Bulkhead bulkhead) {
+        Objects.requireNonNull(bulkhead);
+        return (value) -> {
+            final long permit = bulkhead.acquirePermission();
+            try {
+                return this.applyThrows(value);
+            } finally {
+                bulkhead.releasePermission(permit);
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link ThrowableCharFunction} that applies this function to its input at most the given number
+     * of times per second. If calls of the composed function arrive faster, the calling thread is blocked until its
+     * call is permitted.
+     *
+     * @param permitsPerSecond The number of calls per second
+     * @return A composed {@code ThrowableCharFunction} that applies this function to its input at most the given number
+     * of times per second.
+     * @throws IllegalArgumentException If given argument is not positive
+     * @see #rateLimited(RateLimiter)
+     */
+    @Nonnull
+    default ThrowableCharFunction<R, X> rateLimited(final double permitsPerSecond) {
+        return rateLimited(RateLimiter.of(permitsPerSecond));
+    }
+
+    /**
+     * Returns a composed {@link ThrowableCharFunction} that applies this function to its input once a permit of the
+     * given {@link RateLimiter} is acquired. The calling thread is blocked until its call is permitted.
+     *
+     * @param rateLimiter The rate limiter which limits the rate of calls of this function
+     * @return A composed {@code ThrowableCharFunction} that applies this function to its input once a permit of the
+     * given {@code RateLimiter} is acquired.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see RateLimiter#acquire()
+     */
+    @Nonnull
+    default ThrowableCharFunction<R, X> rateLimited(@Nonnull final RateLimiter rateLimiter) {
+        Objects.requireNonNull(rateLimiter);
+        return (value) -> {
+            rateLimiter.acquire();
+            return this.applyThrows(value);
+        };
+    }
+
+    /**
+     * Returns a composed {@link CharFunction} that applies this function asynchronously to its input using the given
+     * scheduler, once a permit of the given {@link RateLimiter} may be used. No thread is blocked while waiting for the
+     * permit. The {@link CompletableFuture} returned from the composed function is completed exceptionally, if a {@link
+     * Throwable} is thrown from this function.
+     *
+     * @param rateLimiter The rate limiter which limits the rate of calls of this function
+     * @param scheduler The scheduler to apply this function with
+     * @return A composed {@code CharFunction} that applies this function asynchronously to its input, once a permit of
+     * the given {@code RateLimiter} may be used.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @see RateLimiter#executeAsync(ThrowableSupplier, ScheduledExecutorService)
+     */
+    @Nonnull
+    default CharFunction<CompletableFuture<R>> rateLimitedAsync(@Nonnull final RateLimiter rateLimiter,
+            @Nonnull final ScheduledExecutorService scheduler) {
+        Objects.requireNonNull(rateLimiter);
+        Objects.requireNonNull(scheduler);
+        return (value) -> rateLimiter.executeAsync(() -> this.applyThrows(value), scheduler);
+    }
+
     /**
      * Returns a composed {@link CharFunction} that applies this function to its input and sneakily throws the
      * thrown {@link Throwable} from it, if it is not of type {@link RuntimeException} or {@link Error}. This means that
@@ -17,6 +17,10 @@ package at.gridtec.lambda4j.function.bi;
 
 import at.gridtec.lambda4j.Lambda;
 import at.gridtec.lambda4j.consumer.bi.BiByteConsumer;
+import at.gridtec.lambda4j.core.memoization.Codec;
+import at.gridtec.lambda4j.core.memoization.MemoizationCache;
+import at.gridtec.lambda4j.core.util.DerivedView;
+import at.gridtec.lambda4j.core.util.ThrowableUtils;
 import at.gridtec.lambda4j.function.ByteFunction;
 import at.gridtec.lambda4j.function.conversion.BooleanToByteFunction;
 import at.gridtec.lambda4j.function.conversion.CharToByteFunction;
@@ -27,16 +31,25 @@ import at.gridtec.lambda4j.function.conversion.LongToByteFunction;
 import at.gridtec.lambda4j.function.conversion.ShortToByteFunction;
 import at.gridtec.lambda4j.function.to.ToByteFunction;
 import at.gridtec.lambda4j.operator.unary.ByteUnaryOperator;
+import at.gridtec.lambda4j.resilience.Bulkhead;
+import at.gridtec.lambda4j.resilience.CallNotPermittedException;
+import at.gridtec.lambda4j.resilience.CallTimeoutException;
+import at.gridtec.lambda4j.resilience.Hedger;
+import at.gridtec.lambda4j.resilience.RateLimiter;
+import at.gridtec.lambda4j.resilience.TimeLimiter;
+import at.gridtec.lambda4j.supplier.Supplier2;
 
 import org.apache.commons.lang3.tuple.Pair;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.Map;
+import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -144,7 +157,41 @@ public interface BiByteFunction<R> extends Lambda {
      */
     @Nonnull
     static <R> BiByteFunction<R> constant(R ret) {
-        return (value1, value2) -> ret;
+        return (BiByteFunction<R> & Constant) (value1, value2) -> ret;
+    }
+
+    /**
+     * Returns a {@link BiByteFunction} which represents the given {@link BiFunction2}. Thereby the boxed input
+     * arguments and results of the given function are unboxed to their primitive counterparts. This method is the
+     * inverse of {@link #boxed()}.
+     *
+     * @param <R> The type of return value from the function
+     * @param boxed The {@code BiFunction2} to be represented by the returned {@code BiByteFunction}
+     * @return A {@code BiByteFunction} which represents the given {@code BiFunction2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implNote If the given {@code BiFunction2} was returned from {@link #boxed()}, the original {@code
+     * BiByteFunction} is returned instead of wrapping it twice. Likewise, {@link #boxed()} of the returned {@code
+     * BiByteFunction} returns the given {@code BiFunction2}.
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <R> BiByteFunction<R> unboxed(@Nonnull final BiFunction2<Byte, Byte, R> boxed) {
+        Objects.requireNonNull(boxed);
+        if (boxed instanceof DerivedView && ((DerivedView) boxed).getSource() instanceof BiByteFunction) {
+            return (BiByteFunction<R>) ((DerivedView) boxed).getSource();
+        }
+        return new BiByteFunction<R>() {
+            @Override
+            public R apply(byte value1, byte value2) {
+                return boxed.apply(value1, value2);
+            }
+
+            @Nonnull
+            @Override
+            public BiFunction2<Byte, Byte, R> boxed() {
+                return boxed;
+            }
+        };
     }
 
     /**
@@ -191,15 +238,99 @@ public interface BiByteFunction<R> extends Lambda {
      * applies this function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to handle every type.
+     * @implNote The composed function is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
+     * @implNote If this function is marked as {@link Pure} and the {@code before} functions are constant (f.e. created
+     * by {@code constant}), this function is applied only once, when the composed function is applied for the first
+     * time. Its result is then returned by each further application. If applying it throws an exception, the exception
+     * is relayed to the caller and it is applied again on the next application.
      */
     @Nonnull
     default <A, B> BiFunction2<A, B, R> compose(@Nonnull final ToByteFunction<? super A> before1,
             @Nonnull final ToByteFunction<? super B> before2) {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
+        if (this instanceof Pure && before1 instanceof Constant && before2 instanceof Constant) {
+            // The result is held by an optional, so that a null result is memoized as well
+            final Supplier2<Optional<R>> result = Supplier2.of(
+                    () -> Optional.ofNullable(apply(before1.applyAsByte(null), before2.applyAsByte(null)))).memoized();
+            return (BiFunction2<A, B, R> & Pure) (a, b) -> result.get().orElse(null);
+        }
+        if (this instanceof Pure && before1 instanceof Pure && before2 instanceof Pure) {
+            return (BiFunction2<A, B, R> & Pure) (a, b) -> apply(before1.applyAsByte(a), before2.applyAsByte(b));
+        } else if (this instanceof ThreadSafe && before1 instanceof ThreadSafe && before2 instanceof ThreadSafe) {
+            return (BiFunction2<A, B, R> & ThreadSafe) (a, b) -> apply(before1.applyAsByte(a), before2.applyAsByte(b));
+        }
         return (a, b) -> apply(before1.applyAsByte(a), before2.applyAsByte(b));
     }
 
+    /**
+     * Returns a composed {@link BiFunction2} that first applies the {@code before} functions to its input concurrently,
+     * and then applies this function to the results. The first {@code before} function is applied by the calling
+     * thread, while the other ones are applied using the given {@link Executor}. The calling thread waits for their
+     * results afterwards. If evaluation of one of the operations throws an exception, it is relayed to the caller of
+     * the composed operation as is, the same as by {@link #compose(ToByteFunction, ToByteFunction)}. The {@code before}
+     * functions which are not started yet are cancelled in this case.
+     *
+     * @param <A> The type of the argument to the first given function, and of composed function
+     * @param <B> The type of the argument to the second given function, and of composed function
+     * @param executor The executor to apply the {@code before} functions with
+     * @param before1 The first function to apply before this function is applied
+     * @param before2 The second function to apply before this function is applied
+     * @return A composed {@code BiFunction2} that first applies the {@code before} functions to its input concurrently,
+     * and then applies this function to the results.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @see #compose(ToByteFunction, ToByteFunction)
+     */
+    @Nonnull
+    default <A, B> BiFunction2<A, B, R> composeParallel(@Nonnull final Executor executor,
+            @Nonnull final ToByteFunction<? super A> before1, @Nonnull final ToByteFunction<? super B> before2) {
+        Objects.requireNonNull(executor);
+        Objects.requireNonNull(before1);
+        Objects.requireNonNull(before2);
+        return (a, b) -> {
+            final CompletableFuture<Byte> future2 = CompletableFuture.supplyAsync(() -> before2.applyAsByte(b),
+                                                                                  executor);
+            try {
+                return apply(before1.applyAsByte(a), ThrowableUtils.join(future2));
+            } finally {
+                future2.cancel(false);
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link BiFunction2} that applies the {@code before} functions to its input concurrently using
+     * the given {@link Executor}, and then applies this function to the results. The composed function returns a {@link
+     * CompletableFuture} without waiting for any result, so no thread is blocked. This function is applied by the
+     * thread which completes the last {@code before} function. The {@code CompletableFuture} is completed
+     * exceptionally, if a {@link Throwable} is thrown from one of the {@code before} functions or from this function.
+     *
+     * @param <A> The type of the argument to the first given function, and of composed function
+     * @param <B> The type of the argument to the second given function, and of composed function
+     * @param executor The executor to apply the {@code before} functions with
+     * @param before1 The first function to apply before this function is applied
+     * @param before2 The second function to apply before this function is applied
+     * @return A composed {@code BiFunction2} that applies the {@code before} functions to its input concurrently, and
+     * then applies this function to the results.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @see #composeParallel(Executor, ToByteFunction, ToByteFunction)
+     */
+    @Nonnull
+    default <A, B> BiFunction2<A, B, CompletableFuture<R>> composeParallelAsync(@Nonnull final Executor executor,
+            @Nonnull final ToByteFunction<? super A> before1, @Nonnull final ToByteFunction<? super B> before2) {
+        Objects.requireNonNull(executor);
+        Objects.requireNonNull(before1);
+        Objects.requireNonNull(before2);
+        return (a, b) -> {
+            final CompletableFuture<Byte> future1 = CompletableFuture.supplyAsync(() -> before1.applyAsByte(a),
+                                                                                  executor);
+            final CompletableFuture<Byte> future2 = CompletableFuture.supplyAsync(() -> before2.applyAsByte(b),
+                                                                                  executor);
+            return CompletableFuture.allOf(future1, future2)
+                    .thenApply(ignored -> apply(future1.join(), future2.join()));
+        };
+    }
+
     /**
      * Returns a composed {@link BiBooleanFunction} that first applies the {@code before} functions to its input, and
      * then applies this function to the result. If evaluation of either operation throws an exception, it is relayed to
@@ -391,10 +522,26 @@ public interface BiByteFunction<R> extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote The composed function is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
+     * @implNote If this function is constant (f.e. created by {@code constant}) and the {@code after} function is
+     * marked as {@link Pure}, the {@code after} function is applied only once, when the composed function is applied
+     * for the first time. Its result is then returned by each further application. If applying it throws an exception,
+     * the exception is relayed to the caller and it is applied again on the next application.
      */
     @Nonnull
     default <S> BiByteFunction<S> andThen(@Nonnull final Function<? super R, ? extends S> after) {
         Objects.requireNonNull(after);
+        if (this instanceof Constant && after instanceof Pure) {
+            // The result is held by an optional, so that a null result is memoized as well
+            final Supplier2<Optional<S>> result = Supplier2.of(
+                    () -> Optional.ofNullable(after.apply(apply((byte) 0, (byte) 0)))).memoized();
+            return (BiByteFunction<S> & Pure) (value1, value2) -> result.get().orElse(null);
+        }
+        if (this instanceof Pure && after instanceof Pure) {
+            return (BiByteFunction<S> & Pure) (value1, value2) -> after.apply(apply(value1, value2));
+        } else if (this instanceof ThreadSafe && after instanceof ThreadSafe) {
+            return (BiByteFunction<S> & ThreadSafe) (value1, value2) -> after.apply(apply(value1, value2));
+        }
         return (value1, value2) -> after.apply(apply(value1, value2));
     }
 
@@ -421,23 +568,55 @@ public interface BiByteFunction<R> extends Lambda {
      * <p>
      * Unless the function and therefore the used cache will be garbage-collected, it will keep all memoized values
      * forever.
+     * <p>
+     * The returned memoized function is serializable, if this function is serializable. Its memoized values are not
+     * written when it gets serialized, so the deserialized function starts with an empty cache.
      *
      * @return A memoized (caching) version of this {@code BiByteFunction}.
      * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
      * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
      * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
      * thread-safe.
+     * @see #memoized(boolean)
      */
     @Nonnull
     default BiByteFunction<R> memoized() {
+        return memoized(false);
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link BiByteFunction}. Whenever it is called, the mapping between
+     * the input parameters and the return value is preserved in a cache, making subsequent calls returning the memoized
+     * value instead of computing the return value again.
+     * <p>
+     * Unless the function and therefore the used cache will be garbage-collected, it will keep all memoized values
+     * forever.
+     * <p>
+     * The returned memoized function is serializable, if this function is serializable. If {@code serializeCache} is
+     * {@code true}, a snapshot of all memoized values is written when it gets serialized, so the deserialized function
+     * starts warm. Otherwise the deserialized function starts with an empty cache. Primitive values are thereby written
+     * in their binary form.
+     *
+     * @param serializeCache {@code true} if the memoized values should be written when the memoized function gets
+     * serialized, {@code false} otherwise
+     * @return A memoized (caching) version of this {@code BiByteFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe. If this function is already memoized, it is returned as-is regardless of {@code serializeCache}.
+     * @see MemoizationCache
+     */
+    @Nonnull
+    default BiByteFunction<R> memoized(final boolean serializeCache) {
         if (isMemoized()) {
             return this;
         } else {
-            final Map<Pair<Byte, Byte>, R> cache = new ConcurrentHashMap<>();
-            final Object lock = new Object();
+            final Codec<Pair<Byte, Byte>> keyCodec = Codec.ofPair(Codec.ofByte(), Codec.ofByte());
+            final MemoizationCache<Pair<Byte, Byte>, R> cache = MemoizationCache.of(keyCodec, Codec.ofObject(),
+                                                                                    serializeCache);
             return (BiByteFunction<R> & Memoized) (value1, value2) -> {
                 final R returnValue;
-                synchronized (lock) {
+                synchronized (cache) {
                     returnValue = cache.computeIfAbsent(Pair.of(value1, value2),
                                                         key -> apply(key.getLeft(), key.getRight()));
                 }
@@ -466,10 +645,197 @@ public interface BiByteFunction<R> extends Lambda {
      * {@code BiByteFunction} with methods provided by the {@code JDK}.
      *
      * @return A composed {@code BiFunction2} which represents this {@code BiByteFunction}.
+     * @implNote The returned {@code BiFunction2} is a {@link DerivedView} of this {@code BiByteFunction}, so {@link
+     * #unboxed(BiFunction2)} returns this {@code BiByteFunction} instead of wrapping it twice.
      */
     @Nonnull
     default BiFunction2<Byte, Byte, R> boxed() {
-        return this::apply;
+        final class Boxed implements BiFunction2<Byte, Byte, R>, DerivedView {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public R apply(Byte value1, Byte value2) {
+                return BiByteFunction.this.apply(value1, value2);
+            }
+
+            @Nonnull
+            @Override
+            public BiByteFunction<R> getSource() {
+                return BiByteFunction.this;
+            }
+        }
+        return new Boxed();
+    }
+
+    /**
+     * Returns a composed {@link BiByteFunction} that applies this function to its input on the given executor and waits
+     * at most the given timeout for its result. If the timeout elapses, this function is cancelled by interrupting it
+     * and a {@link CallTimeoutException} is thrown.
+     *
+     * @param timeout The maximum time to wait for the result of this function
+     * @param executor The executor to apply this function with
+     * @return A composed {@code BiByteFunction} that applies this function to its input on the given executor and waits
+     * at most the given timeout for its result.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @throws IllegalArgumentException If given timeout is negative
+     * @see #withTimeout(TimeLimiter)
+     */
+    @Nonnull
+    default BiByteFunction<R> withTimeout(@Nonnull final Duration timeout, @Nonnull final Executor executor) {
+        return withTimeout(TimeLimiter.of(timeout, executor));
+    }
+
+    /**
+     * Returns a composed {@link BiByteFunction} that applies this function to its input using the given {@link
+     * TimeLimiter}. Any {@link Throwable} thrown from this function is rethrown as-is from the composed function.
+     *
+     * @param timeLimiter The time limiter which bounds how long this function may take
+     * @return A composed {@code BiByteFunction} that applies this function to its input using the given {@code
+     * TimeLimiter}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see TimeLimiter#call(ThrowableSupplier)
+     */
+    @Nonnull
+    default BiByteFunction<R> withTimeout(@Nonnull final TimeLimiter timeLimiter) {
+        Objects.requireNonNull(timeLimiter);
+        return (value1, value2) -> timeLimiter.call(() -> this.apply(value1, value2));
+    }
+
+    /**
+     * Returns a composed {@link BiByteFunction} that applies this function to its input on the given executor and
+     * launches another call with the same input if no call has completed after the given delay, up to the given maximum
+     * number of hedges. The first successful result is returned and all other calls are cancelled. As this function may
+     * be applied more than once for each input, it should be idempotent.
+     *
+     * @param delay The delay after which another call is launched, if no call has completed yet
+     * @param maxHedges The maximum number of hedges launched for each call in addition to the first call
+     * @param executor The executor to apply this function with
+     * @return A composed {@code BiByteFunction} that applies this function to its input on the given executor and
+     * launches hedged calls if no call has completed after the given delay.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @throws IllegalArgumentException If given delay or given number of hedges is negative
+     * @see #hedged(Hedger)
+     */
+    @Nonnull
+    default BiByteFunction<R> hedged(@Nonnull final Duration delay, final int maxHedges,
+            @Nonnull final Executor executor) {
+        return hedged(Hedger.of(delay, maxHedges, executor));
+    }
+
+    /**
+     * Returns a composed {@link BiByteFunction} that applies this function to its input using the given {@link Hedger}.
+     * The hedger records the latencies of its winning calls, so a hedger shared by several calls may be used to pick
+     * the hedging delay from an observed latency percentile (f.e. using {@link Hedger#ofPercentile(double, Duration,
+     * int, Executor)}). If all calls fail, the {@link Throwable} of the last failed call is rethrown as-is from the
+     * composed function.
+     *
+     * @param hedger The hedger which launches the hedged calls of this function
+     * @return A composed {@code BiByteFunction} that applies this function to its input using the given {@code Hedger}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see Hedger#call(ThrowableSupplier)
+     */
+    @Nonnull
+    default BiByteFunction<R> hedged(@Nonnull final Hedger hedger) {
+        Objects.requireNonNull(hedger);
+        return (value1, value2) -> hedger.call(() -> this.apply(value1, value2));
+    }
+
+    /**
+     * Returns a composed {@link BiByteFunction} that applies this function to its input, if less than the given number
+     * of calls of the composed function are running concurrently. Otherwise the call is rejected immediately with a
+     * {@link CallNotPermittedException}.
+     *
+     * @param maxConcurrent The maximum number of concurrent calls
+     * @return A composed {@code BiByteFunction} that applies this function to its input, if less than the given number
+     * of calls are running concurrently.
+     * @throws IllegalArgumentException If given argument is not positive
+     * @see #bulkhead(Bulkhead)
+     */
+    @Nonnull
+    default BiByteFunction<R> bulkhead(final int maxConcurrent) {
+        return bulkhead(Bulkhead.of(maxConcurrent));
+    }
+
+    /**
+     * Returns a composed {@link BiByteFunction} that applies this function to its input, if a permit of the given
+     * {@link Bulkhead} is acquired. Depending on the mode of the bulkhead, the call either waits for a permit or is
+     * rejected with a {@link CallNotPermittedException}. A bulkhead may be shared by several functional interfaces
+     * calling the same dependency.
+     *
+     * @param bulkhead The bulkhead which limits the concurrent calls of this function
+     * @return A composed {@code BiByteFunction} that applies this function to its input, if a permit of the given
+     * {@code Bulkhead} is acquired.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see Bulkhead#of(int, Duration)
+     * @see Bulkhead#adaptive(int, int)
+     */
+    @Nonnull
+    default BiByteFunction<R> bulkhead(@Nonnull final Bulkhead bulkhead) {
+        Objects.requireNonNull(bulkhead);
+        return (value1, value2) -> {
+            final long permit = bulkhead.acquirePermission();
+            try {
+                return this.apply(value1, value2);
+            } finally {
+                bulkhead.releasePermission(permit);
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link BiByteFunction} that applies this function to its input at most the given number of
+     * times per second. If calls of the composed function arrive faster, the calling thread is blocked until its call
+     * is permitted.
+     *
+     * @param permitsPerSecond The number of calls per second
+     * @return A composed {@code BiByteFunction} that applies this function to its input at most the given number of
+     * times per second.
+     * @throws IllegalArgumentException If given argument is not positive
+     * @see #rateLimited(RateLimiter)
+     */
+    @Nonnull
+    default BiByteFunction<R> rateLimited(final double permitsPerSecond) {
+        return rateLimited(RateLimiter.of(permitsPerSecond));
+    }
+
+    /**
+     * Returns a composed {@link BiByteFunction} that applies this function to its input once a permit of the given
+     * {@link RateLimiter} is acquired. The calling thread is blocked until its call is permitted.
+     *
+     * @param rateLimiter The rate limiter which limits the rate of calls of this function
+     * @return A composed {@code BiByteFunction} that applies this function to its input once a permit of the given
+     * {@code RateLimiter} is acquired.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see RateLimiter#acquire()
+     */
+    @Nonnull
+    default BiByteFunction<R> rateLimited(@Nonnull final RateLimiter rateLimiter) {
+        Objects.requireNonNull(rateLimiter);
+        return (value1, value2) -> {
+            rateLimiter.acquire();
+            return this.apply(value1, value2);
+        };
+    }
+
+    /**
+     * Returns a composed {@link BiByteFunction} that applies this function asynchronously to its input using the given
+     * scheduler, once a permit of the given {@link RateLimiter} may be used. No thread is blocked while waiting for the
+     * permit. The {@link CompletableFuture} returned from the composed function is completed exceptionally, if a {@link
+     * Throwable} is thrown from this function.
+     *
+     * @param rateLimiter The rate limiter which limits the rate of calls of this function
+     * @param scheduler The scheduler to apply this function with
+     * @return A composed {@code BiByteFunction} that applies this function asynchronously to its input, once a permit
+     * of the given {@code RateLimiter} may be used.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @see RateLimiter#executeAsync(ThrowableSupplier, ScheduledExecutorService)
+     */
+    @Nonnull
+    default BiByteFunction<CompletableFuture<R>> rateLimitedAsync(@Nonnull final RateLimiter rateLimiter,
+            @Nonnull final ScheduledExecutorService scheduler) {
+        Objects.requireNonNull(rateLimiter);
+        Objects.requireNonNull(scheduler);
+        return (value1, value2) -> rateLimiter.executeAsync(() -> this.apply(value1, value2), scheduler);
     }
 
 }
\ No newline at end of file
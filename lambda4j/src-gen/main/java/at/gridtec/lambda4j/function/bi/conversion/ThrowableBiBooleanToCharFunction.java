@@ -19,9 +19,14 @@ import at.gridtec.lambda4j.Lambda;
 import at.gridtec.lambda4j.consumer.ThrowableCharConsumer;
 import at.gridtec.lambda4j.consumer.bi.ThrowableBiBooleanConsumer;
 import at.gridtec.lambda4j.core.exception.ThrownByFunctionalInterfaceException;
+import at.gridtec.lambda4j.core.memoization.Codec;
+import at.gridtec.lambda4j.core.memoization.MemoizationCache;
+import at.gridtec.lambda4j.core.recovery.RecoveryTable;
+import at.gridtec.lambda4j.core.util.DerivedView;
 import at.gridtec.lambda4j.core.util.ThrowableUtils;
 import at.gridtec.lambda4j.function.ThrowableCharFunction;
 import at.gridtec.lambda4j.function.ThrowableFunction;
+import at.gridtec.lambda4j.function.bi.BiBooleanFunction;
 import at.gridtec.lambda4j.function.bi.ThrowableBiBooleanFunction;
 import at.gridtec.lambda4j.function.bi.ThrowableBiFunction;
 import at.gridtec.lambda4j.function.bi.to.ThrowableToCharBiFunction;
@@ -44,15 +49,27 @@ import at.gridtec.lambda4j.predicate.ThrowableIntPredicate;
 import at.gridtec.lambda4j.predicate.ThrowableLongPredicate;
 import at.gridtec.lambda4j.predicate.ThrowablePredicate;
 import at.gridtec.lambda4j.predicate.ThrowableShortPredicate;
+import at.gridtec.lambda4j.resilience.Bulkhead;
+import at.gridtec.lambda4j.resilience.CallNotPermittedException;
+import at.gridtec.lambda4j.resilience.CallTimeoutException;
+import at.gridtec.lambda4j.resilience.CircuitBreaker;
+import at.gridtec.lambda4j.resilience.CircuitBreakerConfig;
+import at.gridtec.lambda4j.resilience.Hedger;
+import at.gridtec.lambda4j.resilience.RateLimiter;
+import at.gridtec.lambda4j.resilience.RetryPolicy;
+import at.gridtec.lambda4j.resilience.TimeLimiter;
+import at.gridtec.lambda4j.result.CharResult;
 
 import org.apache.commons.lang3.tuple.Pair;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.Map;
+import java.time.Duration;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Function;
 
 /**
@@ -149,7 +166,44 @@ public interface ThrowableBiBooleanToCharFunction<X extends Throwable> extends L
      */
     @Nonnull
     static <X extends Throwable> ThrowableBiBooleanToCharFunction<X> constant(char ret) {
-        return (value1, value2) -> ret;
+        return (ThrowableBiBooleanToCharFunction<X> & Constant) (value1, value2) -> ret;
+    }
+
+    /**
+     * Returns a {@link ThrowableBiBooleanToCharFunction} which represents the given {@link ThrowableBiFunction}.
+     * Thereby the boxed input arguments and results of the given function are unboxed to their primitive counterparts.
+     * This method is the inverse of {@link #boxed()}.
+     *
+     * @param <X> The type of the throwable to be thrown by this function
+     * @param boxed The {@code ThrowableBiFunction} to be represented by the returned {@code
+     * ThrowableBiBooleanToCharFunction}
+     * @return A {@code ThrowableBiBooleanToCharFunction} which represents the given {@code ThrowableBiFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implNote If the given {@code ThrowableBiFunction} was returned from {@link #boxed()}, the original {@code
+     * ThrowableBiBooleanToCharFunction} is returned instead of wrapping it twice. Likewise, {@link #boxed()} of the
+     * returned {@code ThrowableBiBooleanToCharFunction} returns the given {@code ThrowableBiFunction}.
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <X extends Throwable> ThrowableBiBooleanToCharFunction<X> unboxed(
+            @Nonnull final ThrowableBiFunction<Boolean, Boolean, Character, X> boxed) {
+        Objects.requireNonNull(boxed);
+        if (boxed instanceof DerivedView
+                && ((DerivedView) boxed).getSource() instanceof ThrowableBiBooleanToCharFunction) {
+            return (ThrowableBiBooleanToCharFunction<X>) ((DerivedView) boxed).getSource();
+        }
+        return new ThrowableBiBooleanToCharFunction<X>() {
+            @Override
+            public char applyAsCharThrows(boolean value1, boolean value2) throws X {
+                return boxed.applyThrows(value1, value2);
+            }
+
+            @Nonnull
+            @Override
+            public ThrowableBiFunction<Boolean, Boolean, Character, X> boxed() {
+                return boxed;
+            }
+        };
     }
 
     /**
@@ -198,6 +252,7 @@ public interface ThrowableBiBooleanToCharFunction<X extends Throwable> extends L
      * input, and then applies this function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to handle every type.
+     * @implNote The composed function is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
      */
     @Nonnull
     default <A, B> ThrowableToCharBiFunction<A, B, X> compose(
@@ -205,6 +260,13 @@ public interface ThrowableBiBooleanToCharFunction<X extends Throwable> extends L
             @Nonnull final ThrowablePredicate<? super B, ? extends X> before2) {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
+        if (this instanceof Pure && before1 instanceof Pure && before2 instanceof Pure) {
+            return (ThrowableToCharBiFunction<A, B, X> & Pure) (a, b) -> applyAsCharThrows(before1.testThrows(a),
+                                                                                           before2.testThrows(b));
+        } else if (this instanceof ThreadSafe && before1 instanceof ThreadSafe && before2 instanceof ThreadSafe) {
+            return (ThrowableToCharBiFunction<A, B, X> & ThreadSafe) (a, b) -> applyAsCharThrows(before1.testThrows(a),
+                                                                                                 before2.testThrows(b));
+        }
         return (a, b) -> applyAsCharThrows(before1.testThrows(a), before2.testThrows(b));
     }
 
@@ -395,11 +457,17 @@ public interface ThrowableBiBooleanToCharFunction<X extends Throwable> extends L
      * applies the {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote The composed function is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
      */
     @Nonnull
     default <S> ThrowableBiBooleanFunction<S, X> andThen(
             @Nonnull final ThrowableCharFunction<? extends S, ? extends X> after) {
         Objects.requireNonNull(after);
+        if (this instanceof Pure && after instanceof Pure) {
+            return (ThrowableBiBooleanFunction<S, X> & Pure) (value1, value2) -> after.applyThrows(applyAsCharThrows(value1, value2));
+        } else if (this instanceof ThreadSafe && after instanceof ThreadSafe) {
+            return (ThrowableBiBooleanFunction<S, X> & ThreadSafe) (value1, value2) -> after.applyThrows(applyAsCharThrows(value1, value2));
+        }
         return (value1, value2) -> after.applyThrows(applyAsCharThrows(value1, value2));
     }
 
@@ -577,23 +645,56 @@ public interface ThrowableBiBooleanToCharFunction<X extends Throwable> extends L
      * <p>
      * Unless the function and therefore the used cache will be garbage-collected, it will keep all memoized values
      * forever.
+     * <p>
+     * The returned memoized function is serializable, if this function is serializable. Its memoized values are not
+     * written when it gets serialized, so the deserialized function starts with an empty cache.
      *
      * @return A memoized (caching) version of this {@code ThrowableBiBooleanToCharFunction}.
      * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
      * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
      * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
      * thread-safe.
+     * @see #memoized(boolean)
      */
     @Nonnull
     default ThrowableBiBooleanToCharFunction<X> memoized() {
+        return memoized(false);
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link ThrowableBiBooleanToCharFunction}. Whenever it is called, the
+     * mapping between the input parameters and the return value is preserved in a cache, making subsequent calls
+     * returning the memoized value instead of computing the return value again.
+     * <p>
+     * Unless the function and therefore the used cache will be garbage-collected, it will keep all memoized values
+     * forever.
+     * <p>
+     * The returned memoized function is serializable, if this function is serializable. If {@code serializeCache} is
+     * {@code true}, a snapshot of all memoized values is written when it gets serialized, so the deserialized function
+     * starts warm. Otherwise the deserialized function starts with an empty cache. Primitive values are thereby written
+     * in their binary form.
+     *
+     * @param serializeCache {@code true} if the memoized values should be written when the memoized function gets
+     * serialized, {@code false} otherwise
+     * @return A memoized (caching) version of this {@code ThrowableBiBooleanToCharFunction}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized function, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized function can be safely used concurrently from multiple threads which makes it
+     * thread-safe. If this function is already memoized, it is returned as-is regardless of {@code serializeCache}.
+     * @see MemoizationCache
+     */
+    @Nonnull
+    default ThrowableBiBooleanToCharFunction<X> memoized(final boolean serializeCache) {
         if (isMemoized()) {
             return this;
         } else {
-            final Map<Pair<Boolean, Boolean>, Character> cache = new ConcurrentHashMap<>();
-            final Object lock = new Object();
+            final Codec<Pair<Boolean, Boolean>> keyCodec = Codec.ofPair(Codec.ofBoolean(), Codec.ofBoolean());
+            final MemoizationCache<Pair<Boolean, Boolean>, Character> cache = MemoizationCache.of(keyCodec,
+                                                                                                  Codec.ofChar(),
+                                                                                                  serializeCache);
             return (ThrowableBiBooleanToCharFunction<X> & Memoized) (value1, value2) -> {
                 final char returnValue;
-                synchronized (lock) {
+                synchronized (cache) {
                     returnValue = cache.computeIfAbsent(Pair.of(value1, value2), ThrowableFunction.of(
                             key -> applyAsCharThrows(key.getLeft(), key.getRight())));
                 }
@@ -608,10 +709,27 @@ public interface ThrowableBiBooleanToCharFunction<X extends Throwable> extends L
      * this {@code ThrowableBiBooleanToCharFunction} with methods provided by the {@code JDK}.
      *
      * @return A composed {@code ThrowableBiFunction} which represents this {@code ThrowableBiBooleanToCharFunction}.
+     * @implNote The returned {@code ThrowableBiFunction} is a {@link DerivedView} of this {@code
+     * ThrowableBiBooleanToCharFunction}, so {@link #unboxed(ThrowableBiFunction)} returns this {@code
+     * ThrowableBiBooleanToCharFunction} instead of wrapping it twice.
      */
     @Nonnull
     default ThrowableBiFunction<Boolean, Boolean, Character, X> boxed() {
-        return this::applyAsCharThrows;
+        final class Boxed implements ThrowableBiFunction<Boolean, Boolean, Character, X>, DerivedView {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public Character applyThrows(Boolean value1, Boolean value2) throws X {
+                return ThrowableBiBooleanToCharFunction.this.applyAsCharThrows(value1, value2);
+            }
+
+            @Nonnull
+            @Override
+            public ThrowableBiBooleanToCharFunction<X> getSource() {
+                return ThrowableBiBooleanToCharFunction.this;
+            }
+        }
+        return new Boxed();
     }
 
     /**
@@ -619,16 +737,22 @@ public interface ThrowableBiBooleanToCharFunction<X extends Throwable> extends L
      * {@link Throwable} from it. The {@code Throwable} is nested (wrapped) in a {@link
      * ThrownByFunctionalInterfaceException}, which is constructed from the thrown {@code Throwable}s message and the
      * thrown {@code Throwable} itself.
+     * <p>
+     * If stack traces of nested throwables are disabled process-wide using {@link
+     * ThrowableUtils#setStackTraceEnabled(boolean)}, the {@code Throwable} is nested in a {@link
+     * StacklessThrownByFunctionalInterfaceException} instead. To nest it without stack trace for a single function
+     * only, {@code nest(StacklessThrownByFunctionalInterfaceException::new)} may be used.
      *
      * @return A composed {@link BiBooleanToCharFunction} that applies this function to its input and nests the thrown
      * {@code Throwable} from it.
      * @implNote If thrown {@code Throwable} is of type {@link Error} it is thrown as-is and thus not nested.
      * @see #nest(Function)
      * @see ThrownByFunctionalInterfaceException
+     * @see ThrowableUtils#nest(Throwable)
      */
     @Nonnull
     default BiBooleanToCharFunction nest() {
-        return nest(throwable -> new ThrownByFunctionalInterfaceException(throwable.getMessage(), throwable));
+        return nest(ThrowableUtils::nest);
     }
 
     /**
@@ -656,6 +780,9 @@ public interface ThrowableBiBooleanToCharFunction<X extends Throwable> extends L
      * applies the {@code recover} operation if a {@link Throwable} is thrown from this one. The {@code recover}
      * operation is represented by a curried operation which is called with throwable information and same arguments of
      * this function.
+     * <p>
+     * If the {@code recover} operation should dispatch by the class of the thrown {@code Throwable}, a {@link
+     * RecoveryTable} may be used, which resolves the fallback operation only once per {@code Throwable} class.
      *
      * @param recover The operation to apply if this function throws a {@code Throwable}
      * @return A composed {@link BiBooleanToCharFunction} that first applies this function to its input, and then
@@ -665,6 +792,7 @@ public interface ThrowableBiBooleanToCharFunction<X extends Throwable> extends L
      * {@code null}. If it is, then a {@link NullPointerException} with appropriate message is thrown.
      * @implNote If thrown {@code Throwable} is of type {@link Error}, it is thrown as-is and thus not passed to {@code
      * recover} operation.
+     * @see RecoveryTable
      */
     @Nonnull
     default BiBooleanToCharFunction recover(
@@ -684,6 +812,305 @@ public interface ThrowableBiBooleanToCharFunction<X extends Throwable> extends L
         };
     }
 
+    /**
+     * Returns a composed {@link BiBooleanFunction} that applies this function to its input and returns its result as
+     * {@link CharResult}. If a {@link Throwable} is thrown from this function, it is not thrown by the composed
+     * function, but returned as failed {@code CharResult} instead. This avoids unwinding the stack in workloads with a
+     * high failure rate, as failed results are composed using their {@code map} and {@code flatMap} methods.
+     *
+     * @return A composed {@code BiBooleanFunction} that applies this function to its input and returns its result as
+     * {@code CharResult}.
+     * @implNote If thrown {@code Throwable} is of type {@link Error}, it is thrown as-is and thus not returned as
+     * failed result.
+     * @see CharResult
+     */
+    @Nonnull
+    default BiBooleanFunction<CharResult> attempt() {
+        return (value1, value2) -> {
+            try {
+                return CharResult.success(this.applyAsCharThrows(value1, value2));
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable throwable) {
+                return CharResult.failure(throwable);
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link ThrowableBiBooleanToCharFunction} that applies this function to its input and retries
+     * it according to the given {@link RetryPolicy}, if a {@link Throwable} is thrown from it. The current thread is
+     * blocked for the delay between two attempts. If the {@code Throwable} is not retried, it is thrown as-is from the
+     * composed function, thus the type of {@code Throwable} thrown from this function is preserved.
+     *
+     * @param policy The policy which defines if and when this function is retried
+     * @return A composed {@code ThrowableBiBooleanToCharFunction} that applies this function to its input and retries
+     * it according to the given {@code RetryPolicy}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see #retryAsync(RetryPolicy, ScheduledExecutorService)
+     */
+    @Nonnull
+    default ThrowableBiBooleanToCharFunction<X> retry(@Nonnull final RetryPolicy policy) {
+        Objects.requireNonNull(policy);
+        return (value1, value2) -> {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    return this.applyAsCharThrows(value1, value2);
+                } catch (Throwable throwable) {
+                    if (!policy.awaitRetry(throwable, attempt)) {
+                        throw throwable;
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link BiBooleanFunction} that applies this function asynchronously to its input using the
+     * given scheduler and retries it according to the given {@link RetryPolicy}, if a {@link Throwable} is thrown from
+     * it. The delay between two attempts does not block a thread, as each retry is scheduled on the given scheduler.
+     * The {@link CompletableFuture} returned from the composed function is completed exceptionally with the {@code
+     * Throwable} of the last attempt, if this function is not retried anymore.
+     *
+     * @param policy The policy which defines if and when this function is retried
+     * @param scheduler The scheduler to apply this function with
+     * @return A composed {@code BiBooleanFunction} that applies this function asynchronously to its input and retries
+     * it according to the given {@code RetryPolicy}.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @see #retry(RetryPolicy)
+     */
+    @Nonnull
+    default BiBooleanFunction<CompletableFuture<Character>> retryAsync(@Nonnull final RetryPolicy policy,
+            @Nonnull final ScheduledExecutorService scheduler) {
+        Objects.requireNonNull(policy);
+        Objects.requireNonNull(scheduler);
+        return (value1, value2) -> policy.executeAsync(() -> this.applyAsCharThrows(value1, value2), scheduler);
+    }
+
+    /**
+     * Returns a composed {@link ThrowableBiBooleanToCharFunction} that applies this function to its input guarded by a
+     * new {@link CircuitBreaker} created from the given configuration. The circuit breaker is owned by the composed
+     * function, so all its calls share the same failure rate.
+     *
+     * @param config The configuration of the circuit breaker guarding this function
+     * @return A composed {@code ThrowableBiBooleanToCharFunction} that applies this function to its input guarded by a
+     * new {@code CircuitBreaker}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see #circuitBroken(CircuitBreaker)
+     */
+    @Nonnull
+    default ThrowableBiBooleanToCharFunction<X> circuitBroken(@Nonnull final CircuitBreakerConfig config) {
+        return circuitBroken(CircuitBreaker.of(config));
+    }
+
+    /**
+     * Returns a composed {@link ThrowableBiBooleanToCharFunction} that applies this function to its input guarded by
+     * the given {@link CircuitBreaker}. If the circuit breaker does not permit the call, this function is not applied
+     * and a {@link CallNotPermittedException} is thrown immediately. Otherwise the outcome of this function is recorded
+     * in the circuit breaker against the phase in which the call was permitted and any {@link Throwable} thrown from it
+     * is rethrown as-is. To fall back to another result while the circuit breaker is open, {@link #recover(Function)}
+     * may be used on the composed function.
+     *
+     * @param circuitBreaker The circuit breaker guarding this function
+     * @return A composed {@code ThrowableBiBooleanToCharFunction} that applies this function to its input guarded by
+     * the given {@code CircuitBreaker}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see #circuitBroken(CircuitBreakerConfig)
+     */
+    @Nonnull
+    default ThrowableBiBooleanToCharFunction<X> circuitBroken(@Nonnull final CircuitBreaker circuitBreaker) {
+        Objects.requireNonNull(circuitBreaker);
+        return (value1, value2) -> {
+            final CircuitBreaker.Phase permitted = circuitBreaker.tryAcquirePermission();
+            if (permitted == null) {
+                throw new CallNotPermittedException("CircuitBreaker is " + circuitBreaker.getState());
+            }
+            try {
+                final char returnValue = this.applyAsCharThrows(value1, value2);
+                circuitBreaker.onSuccess(permitted);
+                return returnValue;
+            } catch (Throwable throwable) {
+                circuitBreaker.onFailure(permitted, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link ThrowableBiBooleanToCharFunction} that applies this function to its input on the given
+     * executor and waits at most the given timeout for its result. If the timeout elapses, this function is cancelled
+     * by interrupting it and a {@link CallTimeoutException} is thrown. To return a fallback result instead, {@link
+     * #recover(Function)} may be used on the composed function.
+     *
+     * @param timeout The maximum time to wait for the result of this function
+     * @param executor The executor to apply this function with
+     * @return A composed {@code ThrowableBiBooleanToCharFunction} that applies this function to its input on the given
+     * executor and waits at most the given timeout for its result.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @throws IllegalArgumentException If given timeout is negative
+     * @see #withTimeout(TimeLimiter)
+     */
+    @Nonnull
+    default ThrowableBiBooleanToCharFunction<X> withTimeout(@Nonnull final Duration timeout,
+            @Nonnull final Executor executor) {
+        return withTimeout(TimeLimiter.of(timeout, executor));
+    }
+
+    /**
+     * Returns a composed {@link ThrowableBiBooleanToCharFunction} that applies this function to its input using the
+     * given {@link TimeLimiter}. Any {@link Throwable} thrown from this function is rethrown as-is from the composed
+     * function.
+     *
+     * @param timeLimiter The time limiter which bounds how long this function may take
+     * @return A composed {@code ThrowableBiBooleanToCharFunction} that applies this function to its input using the
+     * given {@code TimeLimiter}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see TimeLimiter#call(ThrowableSupplier)
+     */
+    @Nonnull
+    default ThrowableBiBooleanToCharFunction<X> withTimeout(@Nonnull final TimeLimiter timeLimiter) {
+        Objects.requireNonNull(timeLimiter);
+        return (value1, value2) -> timeLimiter.call(() -> this.applyAsCharThrows(value1, value2));
+    }
+
+    /**
+     * Returns a composed {@link ThrowableBiBooleanToCharFunction} that applies this function to its input on the given
+     * executor and launches another call with the same input if no call has completed after the given delay, up to the
+     * given maximum number of hedges. The first successful result is returned and all other calls are cancelled. As
+     * this function may be applied more than once for each input, it should be idempotent.
+     *
+     * @param delay The delay after which another call is launched, if no call has completed yet
+     * @param maxHedges The maximum number of hedges launched for each call in addition to the first call
+     * @param executor The executor to apply this function with
+     * @return A composed {@code ThrowableBiBooleanToCharFunction} that applies this function to its input on the given
+     * executor and launches hedged calls if no call has completed after the given delay.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @throws IllegalArgumentException If given delay or given number of hedges is negative
+     * @see #hedged(Hedger)
+     */
+    @Nonnull
+    default ThrowableBiBooleanToCharFunction<X> hedged(@Nonnull final Duration delay, final int maxHedges,
+            @Nonnull final Executor executor) {
+        return hedged(Hedger.of(delay, maxHedges, executor));
+    }
+
+    /**
+     * Returns a composed {@link ThrowableBiBooleanToCharFunction} that applies this function to its input using the
+     * given {@link Hedger}. The hedger records the latencies of its winning calls, so a hedger shared by several calls
+     * may be used to pick the hedging delay from an observed latency percentile (f.e. using {@link
+     * Hedger#ofPercentile(double, Duration, int, Executor)}). If all calls fail, the {@link Throwable} of the last
+     * failed call is rethrown as-is from the composed function.
+     *
+     * @param hedger The hedger which launches the hedged calls of this function
+     * @return A composed {@code ThrowableBiBooleanToCharFunction} that applies this function to its input using the
+     * given {@code Hedger}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see Hedger#call(ThrowableSupplier)
+     */
+    @Nonnull
+    default ThrowableBiBooleanToCharFunction<X> hedged(@Nonnull final Hedger hedger) {
+        Objects.requireNonNull(hedger);
+        return (value1, value2) -> hedger.call(() -> this.applyAsCharThrows(value1, value2));
+    }
+
+    /**
+     * Returns a composed {@link ThrowableBiBooleanToCharFunction} that applies this function to its input, if less than
+     * the given number of calls of the composed function are running concurrently. Otherwise the call is rejected
+     * immediately with a {@link CallNotPermittedException}.
+     *
+     * @param maxConcurrent The maximum number of concurrent calls
+     * @return A composed {@code ThrowableBiBooleanToCharFunction} that applies this function to its input, if less than
+     * the given number of calls are running concurrently.
+     * @throws IllegalArgumentException If given argument is not positive
+     * @see #bulkhead(Bulkhead)
+     */
+    @Nonnull
+    default ThrowableBiBooleanToCharFunction<X> bulkhead(final int maxConcurrent) {
+        return bulkhead(Bulkhead.of(maxConcurrent));
+    }
+
+    /**
+     * Returns a composed {@link ThrowableBiBooleanToCharFunction} that applies this function to its input, if a permit
+     * of the given {@link Bulkhead} is acquired. Depending on the mode of the bulkhead, the call either waits for a
+     * permit or is rejected with a {@link CallNotPermittedException}. A bulkhead may be shared by several functional
+     * interfaces calling the same dependency.
+     *
+     * @param bulkhead The bulkhead which limits the concurrent calls of this function
+     * @return A composed {@code ThrowableBiBooleanToCharFunction} that applies this function to its input, if a permit
+     * of the given {@code Bulkhead} is acquired.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see Bulkhead#of(int, Duration)
+     * @see Bulkhead#adaptive(int, int)
+     */
+    @Nonnull
+    default ThrowableBiBooleanToCharFunction<X> bulkhead(@Nonnull final Bulkhead bulkhead) {
+        Objects.requireNonNull(bulkhead);
+        return (value1, value2) -> {
+            final long permit = bulkhead.acquirePermission();
+            try {
+                return this.applyAsCharThrows(value1, value2);
+            } finally {
+                bulkhead.releasePermission(permit);
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link ThrowableBiBooleanToCharFunction} that applies this function to its input at most the
+     * given number of times per second. If calls of the composed function arrive faster, the calling thread is blocked
+     * until its call is permitted.
+     *
+     * @param permitsPerSecond The number of calls per second
+     * @return A composed {@code ThrowableBiBooleanToCharFunction} that applies this function to its input at most the
+     * given number of times per second.
+     * @throws IllegalArgumentException If given argument is not positive
+     * @see #rateLimited(RateLimiter)
+     */
+    @Nonnull
+    default ThrowableBiBooleanToCharFunction<X> rateLimited(final double permitsPerSecond) {
+        return rateLimited(RateLimiter.of(permitsPerSecond));
+    }
+
+    /**
+     * Returns a composed {@link ThrowableBiBooleanToCharFunction} that applies this function to its input once a permit
+     * of the given {@link RateLimiter} is acquired. The calling thread is blocked until its call is permitted.
+     *
+     * @param rateLimiter The rate limiter which limits the rate of calls of this function
+     * @return A composed {@code ThrowableBiBooleanToCharFunction} that applies this function to its input once a permit
+     * of the given {@code RateLimiter} is acquired.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see RateLimiter#acquire()
+     */
+    @Nonnull
+    default ThrowableBiBooleanToCharFunction<X> rateLimited(@Nonnull final RateLimiter rateLimiter) {
+        Objects.requireNonNull(rateLimiter);
+        return (value1, value2) -> {
+            rateLimiter.acquire();
+            return this.applyAsCharThrows(value1, value2);
+        };
+    }
+
+    /**
+     * Returns a composed {@link BiBooleanFunction} that applies this function asynchronously to its input using the
+     * given scheduler, once a permit of the given {@link RateLimiter} may be used. No thread is blocked while waiting
+     * for the permit. The {@link CompletableFuture} returned from the composed function is completed exceptionally, if
+     * a {@link Throwable} is thrown from this function.
+     *
+     * @param rateLimiter The rate limiter which limits the rate of calls of this function
+     * @param scheduler The scheduler to apply this function with
+     * @return A composed {@code BiBooleanFunction} that applies this function asynchronously to its input, once a
+     * permit of the given {@code RateLimiter} may be used.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @see RateLimiter#executeAsync(ThrowableSupplier, ScheduledExecutorService)
+     */
+    @Nonnull
+    default BiBooleanFunction<CompletableFuture<Character>> rateLimitedAsync(@Nonnull final RateLimiter rateLimiter,
+            @Nonnull final ScheduledExecutorService scheduler) {
+        Objects.requireNonNull(rateLimiter);
+        Objects.requireNonNull(scheduler);
+        return (value1, value2) -> rateLimiter.executeAsync(() -> this.applyAsCharThrows(value1, value2), scheduler);
+    }
+
     /**
      * Returns a composed {@link BiBooleanToCharFunction} that applies this function to its input and sneakily throws
      * the thrown {@link Throwable} from it, if it is not of type {@link RuntimeException} or {@link Error}. This means
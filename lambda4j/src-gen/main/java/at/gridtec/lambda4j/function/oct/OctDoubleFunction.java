@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.function.oct;
+
+import at.gridtec.lambda4j.Lambda;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Objects;
+
+/**
+ * Represents an operation that accepts eight {@code double}-valued input arguments and produces a result. This is a
+ * primitive specialization of {@link OctFunction}.
+ * <p>
+ * This is a {@link FunctionalInterface} whose functional method is {@link #apply(double, double, double, double,
+ * double, double, double, double)}.
+ *
+ * @param <R> The type of return value from the function
+ * @see OctFunction
+ */
+@SuppressWarnings("unused")
+@FunctionalInterface
+public interface OctDoubleFunction<R> extends Lambda {
+
+    /**
+     * Constructs a {@link OctDoubleFunction} based on a lambda expression or a method reference. Thereby the given
+     * lambda expression or method reference is returned on an as-is basis to implicitly transform it to the desired
+     * type. With this method, it is possible to ensure that correct type is used from lambda expression or method
+     * reference.
+     *
+     * @param <R> The type of return value from the function
+     * @param expression A lambda expression or (typically) a method reference, e.g. {@code this::method}
+     * @return A {@code OctDoubleFunction} from given lambda expression or method reference.
+     * @implNote This implementation allows the given argument to be {@code null}, but only if {@code null} given,
+     * {@code null} will be returned.
+     * @see <a href="https://docs.oracle.com/javase/tutorial/java/javaOO/lambdaexpressions.html#syntax">Lambda
+     * Expression</a>
+     * @see <a href="https://docs.oracle.com/javase/tutorial/java/javaOO/methodreferences.html">Method Reference</a>
+     */
+    static <R> OctDoubleFunction<R> of(@Nullable final OctDoubleFunction<R> expression) {
+        return expression;
+    }
+
+    /**
+     * Calls the given {@link OctDoubleFunction} with the given arguments and returns its result.
+     *
+     * @param <R> The type of return value from the function
+     * @param function The function to be called
+     * @param value1 The first argument to the function
+     * @param value2 The second argument to the function
+     * @param value3 The third argument to the function
+     * @param value4 The fourth argument to the function
+     * @param value5 The fifth argument to the function
+     * @param value6 The sixth argument to the function
+     * @param value7 The seventh argument to the function
+     * @param value8 The eighth argument to the function
+     * @return The result from the given {@code OctDoubleFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    static <R> R call(@Nonnull final OctDoubleFunction<? extends R> function, double value1, double value2,
+            double value3, double value4, double value5, double value6, double value7, double value8) {
+        Objects.requireNonNull(function);
+        return function.apply(value1, value2, value3, value4, value5, value6, value7, value8);
+    }
+
+    /**
+     * Applies this function to the given arguments.
+     *
+     * @param value1 The first argument to the function
+     * @param value2 The second argument to the function
+     * @param value3 The third argument to the function
+     * @param value4 The fourth argument to the function
+     * @param value5 The fifth argument to the function
+     * @param value6 The sixth argument to the function
+     * @param value7 The seventh argument to the function
+     * @param value8 The eighth argument to the function
+     * @return The return value from the function, which is its result.
+     */
+    R apply(double value1, double value2, double value3, double value4, double value5, double value6, double value7,
+            double value8);
+
+    /**
+     * Returns the number of arguments for this function.
+     *
+     * @return The number of arguments for this function.
+     * @implSpec The default implementation always returns {@code 8}.
+     */
+    @Nonnegative
+    default int arity() {
+        return 8;
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.function.oct;
+
+import at.gridtec.lambda4j.Lambda;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Objects;
+
+/**
+ * Represents an operation that accepts eight input arguments and produces a result.
+ * <p>
+ * This is a {@link FunctionalInterface} whose functional method is {@link #apply(Object, Object, Object, Object,
+ * Object, Object, Object, Object)}.
+ *
+ * @param <T1> The type of the first argument to the function
+ * @param <T2> The type of the second argument to the function
+ * @param <T3> The type of the third argument to the function
+ * @param <T4> The type of the fourth argument to the function
+ * @param <T5> The type of the fifth argument to the function
+ * @param <T6> The type of the sixth argument to the function
+ * @param <T7> The type of the seventh argument to the function
+ * @param <T8> The type of the eighth argument to the function
+ * @param <R> The type of return value from the function
+ * @see OctFunction
+ */
+@SuppressWarnings("unused")
+@FunctionalInterface
+public interface OctFunction<T1, T2, T3, T4, T5, T6, T7, T8, R> extends Lambda {
+
+    /**
+     * Constructs a {@link OctFunction} based on a lambda expression or a method reference. Thereby the given lambda
+     * expression or method reference is returned on an as-is basis to implicitly transform it to the desired type. With
+     * this method, it is possible to ensure that correct type is used from lambda expression or method reference.
+     *
+     * @param <T1> The type of the first argument to the function
+     * @param <T2> The type of the second argument to the function
+     * @param <T3> The type of the third argument to the function
+     * @param <T4> The type of the fourth argument to the function
+     * @param <T5> The type of the fifth argument to the function
+     * @param <T6> The type of the sixth argument to the function
+     * @param <T7> The type of the seventh argument to the function
+     * @param <T8> The type of the eighth argument to the function
+     * @param <R> The type of return value from the function
+     * @param expression A lambda expression or (typically) a method reference, e.g. {@code this::method}
+     * @return A {@code OctFunction} from given lambda expression or method reference.
+     * @implNote This implementation allows the given argument to be {@code null}, but only if {@code null} given,
+     * {@code null} will be returned.
+     * @see <a href="https://docs.oracle.com/javase/tutorial/java/javaOO/lambdaexpressions.html#syntax">Lambda
+     * Expression</a>
+     * @see <a href="https://docs.oracle.com/javase/tutorial/java/javaOO/methodreferences.html">Method Reference</a>
+     */
+    static <T1, T2, T3, T4, T5, T6, T7, T8, R> OctFunction<T1, T2, T3, T4, T5, T6, T7, T8, R> of(
+            @Nullable final OctFunction<T1, T2, T3, T4, T5, T6, T7, T8, R> expression) {
+        return expression;
+    }
+
+    /**
+     * Calls the given {@link OctFunction} with the given arguments and returns its result.
+     *
+     * @param <T1> The type of the first argument to the function
+     * @param <T2> The type of the second argument to the function
+     * @param <T3> The type of the third argument to the function
+     * @param <T4> The type of the fourth argument to the function
+     * @param <T5> The type of the fifth argument to the function
+     * @param <T6> The type of the sixth argument to the function
+     * @param <T7> The type of the seventh argument to the function
+     * @param <T8> The type of the eighth argument to the function
+     * @param <R> The type of return value from the function
+     * @param function The function to be called
+     * @param t1 The first argument to the function
+     * @param t2 The second argument to the function
+     * @param t3 The third argument to the function
+     * @param t4 The fourth argument to the function
+     * @param t5 The fifth argument to the function
+     * @param t6 The sixth argument to the function
+     * @param t7 The seventh argument to the function
+     * @param t8 The eighth argument to the function
+     * @return The result from the given {@code OctFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    static <T1, T2, T3, T4, T5, T6, T7, T8, R> R call(
+            @Nonnull final OctFunction<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8, ? extends R> function,
+            T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8) {
+        Objects.requireNonNull(function);
+        return function.apply(t1, t2, t3, t4, t5, t6, t7, t8);
+    }
+
+    /**
+     * Applies this function to the given arguments.
+     *
+     * @param t1 The first argument to the function
+     * @param t2 The second argument to the function
+     * @param t3 The third argument to the function
+     * @param t4 The fourth argument to the function
+     * @param t5 The fifth argument to the function
+     * @param t6 The sixth argument to the function
+     * @param t7 The seventh argument to the function
+     * @param t8 The eighth argument to the function
+     * @return The return value from the function, which is its result.
+     */
+    R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8);
+
+    /**
+     * Returns the number of arguments for this function.
+     *
+     * @return The number of arguments for this function.
+     * @implSpec The default implementation always returns {@code 8}.
+     */
+    @Nonnegative
+    default int arity() {
+        return 8;
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.function.oct.obj;
+
+import at.gridtec.lambda4j.Lambda;
+import at.gridtec.lambda4j.function.oct.OctFunction;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Objects;
+
+/**
+ * Represents an operation that accepts one object-valued and seven {@code double}-valued input arguments and produces a
+ * result. This is a (reference, double, double, double, double, double, double, double) specialization of {@link
+ * OctFunction}.
+ * <p>
+ * This is a {@link FunctionalInterface} whose functional method is {@link #apply(Object, double, double, double,
+ * double, double, double, double)}.
+ *
+ * @param <T1> The type of the first argument to the function
+ * @param <R> The type of return value from the function
+ * @see OctFunction
+ */
+@SuppressWarnings("unused")
+@FunctionalInterface
+public interface ObjSeptDoubleFunction<T1, R> extends Lambda {
+
+    /**
+     * Constructs a {@link ObjSeptDoubleFunction} based on a lambda expression or a method reference. Thereby the given
+     * lambda expression or method reference is returned on an as-is basis to implicitly transform it to the desired
+     * type. With this method, it is possible to ensure that correct type is used from lambda expression or method
+     * reference.
+     *
+     * @param <T1> The type of the first argument to the function
+     * @param <R> The type of return value from the function
+     * @param expression A lambda expression or (typically) a method reference, e.g. {@code this::method}
+     * @return A {@code ObjSeptDoubleFunction} from given lambda expression or method reference.
+     * @implNote This implementation allows the given argument to be {@code null}, but only if {@code null} given,
+     * {@code null} will be returned.
+     * @see <a href="https://docs.oracle.com/javase/tutorial/java/javaOO/lambdaexpressions.html#syntax">Lambda
+     * Expression</a>
+     * @see <a href="https://docs.oracle.com/javase/tutorial/java/javaOO/methodreferences.html">Method Reference</a>
+     */
+    static <T1, R> ObjSeptDoubleFunction<T1, R> of(@Nullable final ObjSeptDoubleFunction<T1, R> expression) {
+        return expression;
+    }
+
+    /**
+     * Calls the given {@link ObjSeptDoubleFunction} with the given arguments and returns its result.
+     *
+     * @param <T1> The type of the first argument to the function
+     * @param <R> The type of return value from the function
+     * @param function The function to be called
+     * @param t1 The first argument to the function
+     * @param value1 The second argument to the function
+     * @param value2 The third argument to the function
+     * @param value3 The fourth argument to the function
+     * @param value4 The fifth argument to the function
+     * @param value5 The sixth argument to the function
+     * @param value6 The seventh argument to the function
+     * @param value7 The eighth argument to the function
+     * @return The result from the given {@code ObjSeptDoubleFunction}.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    static <T1, R> R call(@Nonnull final ObjSeptDoubleFunction<? super T1, ? extends R> function, T1 t1, double value1,
+            double value2, double value3, double value4, double value5, double value6, double value7) {
+        Objects.requireNonNull(function);
+        return function.apply(t1, value1, value2, value3, value4, value5, value6, value7);
+    }
+
+    /**
+     * Applies this function to the given arguments.
+     *
+     * @param t1 The first argument to the function
+     * @param value1 The second argument to the function
+     * @param value2 The third argument to the function
+     * @param value3 The fourth argument to the function
+     * @param value4 The fifth argument to the function
+     * @param value5 The sixth argument to the function
+     * @param value6 The seventh argument to the function
+     * @param value7 The eighth argument to the function
+     * @return The return value from the function, which is its result.
+     */
+    R apply(T1 t1, double value1, double value2, double value3, double value4, double value5, double value6,
+            double value7);
+
+    /**
+     * Returns the number of arguments for this function.
+     *
+     * @return The number of arguments for this function.
+     * @implSpec The default implementation always returns {@code 8}.
+     */
+    @Nonnegative
+    default int arity() {
+        return 8;
+    }
+
+}
\ No newline at end of file
@@ -113,7 +113,7 @@ public interface BinaryOperator2<T> extends Lambda, BiFunction2<T, T, T>, Binary
      */
     @Nonnull
     static <T> BinaryOperator2<T> constant(T ret) {
-        return (t, u) -> ret;
+        return (BinaryOperator2<T> & Constant) (t, u) -> ret;
     }
 
     /**
@@ -16,8 +16,13 @@
 package at.gridtec.lambda4j.operator.binary;
 
 import at.gridtec.lambda4j.Lambda;
+import at.gridtec.lambda4j.comparator.CharComparator;
 import at.gridtec.lambda4j.consumer.CharConsumer;
 import at.gridtec.lambda4j.consumer.bi.BiCharConsumer;
+import at.gridtec.lambda4j.core.memoization.Codec;
+import at.gridtec.lambda4j.core.memoization.MemoizationCache;
+import at.gridtec.lambda4j.core.util.DerivedView;
+import at.gridtec.lambda4j.core.util.ParallelArrays;
 import at.gridtec.lambda4j.function.CharFunction;
 import at.gridtec.lambda4j.function.bi.BiCharFunction;
 import at.gridtec.lambda4j.function.bi.conversion.BiBooleanToCharFunction;
@@ -51,16 +56,19 @@ import at.gridtec.lambda4j.function.to.ToCharFunction;
 import at.gridtec.lambda4j.operator.unary.CharUnaryOperator;
 import at.gridtec.lambda4j.predicate.CharPredicate;
 import at.gridtec.lambda4j.predicate.bi.BiCharPredicate;
+import at.gridtec.lambda4j.resilience.Bulkhead;
+import at.gridtec.lambda4j.resilience.CallNotPermittedException;
+import at.gridtec.lambda4j.supplier.CharSupplier;
+import at.gridtec.lambda4j.supplier.Supplier2;
 
 import org.apache.commons.lang3.tuple.Pair;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.Comparator;
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BinaryOperator;
 
 /**
@@ -146,41 +154,73 @@ public interface CharBinaryOperator extends Lambda {
      */
     @Nonnull
     static CharBinaryOperator constant(char ret) {
-        return (value1, value2) -> ret;
+        return (CharBinaryOperator & Constant) (value1, value2) -> ret;
     }
 
     /**
      * Returns a {@link CharBinaryOperator} which returns the lesser of two elements according to the specified {@code
-     * Comparator}.
+     * CharComparator}.
      *
-     * @param comparator A {@code Comparator} for comparing the two values
+     * @param comparator A {@code CharComparator} for comparing the two values
      * @return A {@code CharBinaryOperator} which returns the lesser of its operands, according to the supplied {@code
-     * Comparator}.
+     * CharComparator}.
      * @throws NullPointerException If given argument is {@code null}
      * @see BinaryOperator#minBy(Comparator)
      */
     @Nonnull
-    static CharBinaryOperator minBy(@Nonnull final Comparator<Character> comparator) {
+    static CharBinaryOperator minBy(@Nonnull final CharComparator comparator) {
         Objects.requireNonNull(comparator);
         return (value1, value2) -> comparator.compare(value1, value2) <= 0 ? value1 : value2;
     }
 
     /**
      * Returns a {@link CharBinaryOperator} which returns the greater of two elements according to the specified {@code
-     * Comparator}.
+     * CharComparator}.
      *
-     * @param comparator A {@code Comparator} for comparing the two values
+     * @param comparator A {@code CharComparator} for comparing the two values
      * @return A {@code CharBinaryOperator} which returns the greater of its operands, according to the supplied {@code
-     * Comparator}.
+     * CharComparator}.
      * @throws NullPointerException If given argument is {@code null}
      * @see BinaryOperator#maxBy(Comparator)
      */
     @Nonnull
-    static CharBinaryOperator maxBy(@Nonnull final Comparator<Character> comparator) {
+    static CharBinaryOperator maxBy(@Nonnull final CharComparator comparator) {
         Objects.requireNonNull(comparator);
         return (value1, value2) -> comparator.compare(value1, value2) >= 0 ? value1 : value2;
     }
 
+    /**
+     * Returns a {@link CharBinaryOperator} which represents the given {@link BinaryOperator2}. Thereby the boxed input
+     * arguments and results of the given operator are unboxed to their primitive counterparts. This method is the
+     * inverse of {@link #boxed()}.
+     *
+     * @param boxed The {@code BinaryOperator2} to be represented by the returned {@code CharBinaryOperator}
+     * @return A {@code CharBinaryOperator} which represents the given {@code BinaryOperator2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implNote If the given {@code BinaryOperator2} was returned from {@link #boxed()}, the original {@code
+     * CharBinaryOperator} is returned instead of wrapping it twice. Likewise, {@link #boxed()} of the returned {@code
+     * CharBinaryOperator} returns the given {@code BinaryOperator2}.
+     */
+    @Nonnull
+    static CharBinaryOperator unboxed(@Nonnull final BinaryOperator2<Character> boxed) {
+        Objects.requireNonNull(boxed);
+        if (boxed instanceof DerivedView && ((DerivedView) boxed).getSource() instanceof CharBinaryOperator) {
+            return (CharBinaryOperator) ((DerivedView) boxed).getSource();
+        }
+        return new CharBinaryOperator() {
+            @Override
+            public char applyAsChar(char value1, char value2) {
+                return boxed.apply(value1, value2);
+            }
+
+            @Nonnull
+            @Override
+            public BinaryOperator2<Character> boxed() {
+                return boxed;
+            }
+        };
+    }
+
     /**
      * Applies this operator to the given arguments.
      *
@@ -225,12 +265,29 @@ public interface CharBinaryOperator extends Lambda {
      * then applies this operator to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to handle every type.
+     * @implNote The composed operator is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
+     * @implNote If this operator is marked as {@link Pure} and the {@code before} functions are constant (f.e. created
+     * by {@code constant}), this operator is applied only once, when the composed function is applied for the first
+     * time. Its result is then returned by each further application. If applying it throws an exception, the exception
+     * is relayed to the caller and it is applied again on the next application.
      */
     @Nonnull
     default <A, B> ToCharBiFunction<A, B> compose(@Nonnull final ToCharFunction<? super A> before1,
             @Nonnull final ToCharFunction<? super B> before2) {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
+        if (this instanceof Pure && before1 instanceof Constant && before2 instanceof Constant) {
+            final CharSupplier result = CharSupplier.of(() -> applyAsChar(before1.applyAsChar(null),
+                                                                          before2.applyAsChar(null))).memoized();
+            return (ToCharBiFunction<A, B> & Pure) (a, b) -> result.getAsChar();
+        }
+        if (this instanceof Pure && before1 instanceof Pure && before2 instanceof Pure) {
+            return (ToCharBiFunction<A, B> & Pure) (a, b) -> applyAsChar(before1.applyAsChar(a),
+                                                                         before2.applyAsChar(b));
+        } else if (this instanceof ThreadSafe && before1 instanceof ThreadSafe && before2 instanceof ThreadSafe) {
+            return (ToCharBiFunction<A, B> & ThreadSafe) (a, b) -> applyAsChar(before1.applyAsChar(a),
+                                                                               before2.applyAsChar(b));
+        }
         return (a, b) -> applyAsChar(before1.applyAsChar(a), before2.applyAsChar(b));
     }
 
@@ -425,10 +482,26 @@ public interface CharBinaryOperator extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote The composed operator is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
+     * @implNote If this operator is constant (f.e. created by {@code constant}) and the {@code after} function is
+     * marked as {@link Pure}, the {@code after} function is applied only once, when the composed function is applied
+     * for the first time. Its result is then returned by each further application. If applying it throws an exception,
+     * the exception is relayed to the caller and it is applied again on the next application.
      */
     @Nonnull
     default <S> BiCharFunction<S> andThen(@Nonnull final CharFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (this instanceof Constant && after instanceof Pure) {
+            // The result is held by an optional, so that a null result is memoized as well
+            final Supplier2<Optional<S>> result = Supplier2.of(
+                    () -> Optional.ofNullable(after.apply(applyAsChar((char) 0, (char) 0)))).memoized();
+            return (BiCharFunction<S> & Pure) (value1, value2) -> result.get().orElse(null);
+        }
+        if (this instanceof Pure && after instanceof Pure) {
+            return (BiCharFunction<S> & Pure) (value1, value2) -> after.apply(applyAsChar(value1, value2));
+        } else if (this instanceof ThreadSafe && after instanceof ThreadSafe) {
+            return (BiCharFunction<S> & ThreadSafe) (value1, value2) -> after.apply(applyAsChar(value1, value2));
+        }
         return (value1, value2) -> after.apply(applyAsChar(value1, value2));
     }
 
@@ -600,6 +673,207 @@ public interface CharBinaryOperator extends Lambda {
         return (value1, value2) -> consumer.accept(applyAsChar(value1, value2));
     }
 
+    /**
+     * Applies this operator to the elements at each index of the given source arrays and stores the results in the
+     * given destination array, so that {@code dst[i]} holds the result of {@code applyAsChar(a[i], b[i])}.
+     *
+     * @param a The first source array, whose elements are the first arguments to this operator
+     * @param b The second source array, whose elements are the second arguments to this operator
+     * @param dst The array to store the results in, which must be at least as long as the first source array
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @throws IllegalArgumentException If one of the further source arrays or the destination array is shorter than the
+     * first source array
+     * @implNote This implementation checks the array lengths once before applying this operator, so the loop itself is
+     * free of bounds checks. This allows the JIT to vectorize the loop for simple operators.
+     * @see #parallelApplyAll(char[], char[], char[])
+     */
+    default void applyAll(@Nonnull final char[] a, @Nonnull final char[] b, @Nonnull final char[] dst) {
+        Objects.requireNonNull(a);
+        Objects.requireNonNull(b);
+        Objects.requireNonNull(dst);
+        ParallelArrays.lengthCheck(a.length, b.length);
+        ParallelArrays.lengthCheck(a.length, dst.length);
+        for (int i = 0; i < a.length; i++) {
+            dst[i] = applyAsChar(a[i], b[i]);
+        }
+    }
+
+    /**
+     * Applies this operator to the elements at each index of the given source arrays in parallel and stores the results
+     * in the given destination array, so that {@code dst[i]} holds the result of {@code applyAsChar(a[i], b[i])}. The
+     * arrays are split into chunks of the {@link ParallelArrays#defaultGrainSize(boolean) default grain size}, which is
+     * smaller if this operator is marked as {@link Expensive} (see {@link #isExpensive()}).
+     *
+     * @param a The first source array, whose elements are the first arguments to this operator
+     * @param b The second source array, whose elements are the second arguments to this operator
+     * @param dst The array to store the results in, which must be at least as long as the first source array
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @throws IllegalArgumentException If one of the further source arrays or the destination array is shorter than the
+     * first source array
+     * @apiNote This operator is only applied concurrently by multiple threads, if it is marked as {@link ThreadSafe}
+     * (see {@link #isThreadSafe()}). Otherwise the chunks are processed one after another by the calling thread.
+     * @see #parallelApplyAll(char[], char[], char[], int)
+     */
+    default void parallelApplyAll(@Nonnull final char[] a, @Nonnull final char[] b, @Nonnull final char[] dst) {
+        parallelApplyAll(a, b, dst, ParallelArrays.defaultGrainSize(isExpensive()));
+    }
+
+    /**
+     * Applies this operator to the elements at each index of the given source arrays in parallel and stores the results
+     * in the given destination array, so that {@code dst[i]} holds the result of {@code applyAsChar(a[i], b[i])}. The
+     * arrays are split into chunks of at most the given grain size, which are processed by the {@link
+     * ForkJoinPool#commonPool()}.
+     *
+     * @param a The first source array, whose elements are the first arguments to this operator
+     * @param b The second source array, whose elements are the second arguments to this operator
+     * @param dst The array to store the results in, which must be at least as long as the first source array
+     * @param grainSize The maximum number of elements to be processed sequentially by one task
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @throws IllegalArgumentException If one of the further source arrays or the destination array is shorter than the
+     * first source array, or the given grain size is not positive
+     * @apiNote This operator is only applied concurrently by multiple threads, if it is marked as {@link ThreadSafe}
+     * (see {@link #isThreadSafe()}). Otherwise the chunks are processed one after another by the calling thread.
+     * @see ParallelArrays#forEachRange(int, int, int, boolean, ParallelArrays.RangeAction)
+     */
+    default void parallelApplyAll(@Nonnull final char[] a, @Nonnull final char[] b, @Nonnull final char[] dst,
+            final int grainSize) {
+        Objects.requireNonNull(a);
+        Objects.requireNonNull(b);
+        Objects.requireNonNull(dst);
+        ParallelArrays.lengthCheck(a.length, b.length);
+        ParallelArrays.lengthCheck(a.length, dst.length);
+        ParallelArrays.forEachRange(0, a.length, grainSize, isThreadSafe(), (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                dst[i] = applyAsChar(a[i], b[i]);
+            }
+        });
+    }
+
+    /**
+     * Reduces the elements of the given array using this operator, starting with the given identity value. The elements
+     * are combined from left to right, so the result is {@code applyAsChar(...applyAsChar(applyAsChar(identity,
+     * array[0]), array[1])..., array[n - 1])}.
+     *
+     * @param array The array whose elements are reduced by this operator
+     * @param identity The identity value of this operator, which is returned if the array is empty
+     * @return The result of reducing the elements of the given array using this operator.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see #parallelReduce(char[], char)
+     */
+    default char reduce(@Nonnull final char[] array, final char identity) {
+        Objects.requireNonNull(array);
+        char result = identity;
+        for (final char element : array) {
+            result = applyAsChar(result, element);
+        }
+        return result;
+    }
+
+    /**
+     * Reduces the elements of the given array in parallel using this operator, starting each chunk with the given
+     * identity value. The array is split into chunks of the {@link ParallelArrays#defaultGrainSize(boolean) default
+     * grain size}, which is smaller if this operator is marked as {@link Expensive} (see {@link #isExpensive()}).
+     *
+     * @param array The array whose elements are reduced by this operator
+     * @param identity The identity value of this operator, which is returned if the array is empty
+     * @return The result of reducing the elements of the given array using this operator.
+     * @throws NullPointerException If given argument is {@code null}
+     * @apiNote This operator must be associative and the given identity value must be an identity of it; otherwise the
+     * result differs from {@link #reduce(char[], char)}. This operator is only applied concurrently by multiple
+     * threads, if it is marked as {@link ThreadSafe} (see {@link #isThreadSafe()}). Otherwise the chunks are processed
+     * one after another by the calling thread.
+     * @see #parallelReduce(char[], char, int)
+     */
+    default char parallelReduce(@Nonnull final char[] array, final char identity) {
+        return parallelReduce(array, identity, ParallelArrays.defaultGrainSize(isExpensive()));
+    }
+
+    /**
+     * Reduces the elements of the given array in parallel using this operator, starting each chunk with the given
+     * identity value. The array is split into chunks of the given grain size, which are reduced by the {@link
+     * ForkJoinPool#commonPool()}. The results of the chunks are then combined in chunk order.
+     *
+     * @param array The array whose elements are reduced by this operator
+     * @param identity The identity value of this operator, which is returned if the array is empty
+     * @param grainSize The maximum number of elements to be reduced sequentially by one task
+     * @return The result of reducing the elements of the given array using this operator.
+     * @throws NullPointerException If given argument is {@code null}
+     * @throws IllegalArgumentException If the given grain size is not positive
+     * @apiNote This operator must be associative and the given identity value must be an identity of it; otherwise the
+     * result differs from {@link #reduce(char[], char)}. This operator is only applied concurrently by multiple
+     * threads, if it is marked as {@link ThreadSafe} (see {@link #isThreadSafe()}). Otherwise the chunks are processed
+     * one after another by the calling thread.
+     * @see ParallelArrays#forEachChunk(int, int, boolean, ParallelArrays.ChunkAction)
+     */
+    default char parallelReduce(@Nonnull final char[] array, final char identity, final int grainSize) {
+        Objects.requireNonNull(array);
+        final char[] results = new char[ParallelArrays.chunkCount(array.length, grainSize)];
+        ParallelArrays.forEachChunk(array.length, grainSize, isThreadSafe(), (chunk, fromIndex, toIndex) -> {
+            char result = identity;
+            for (int i = fromIndex; i < toIndex; i++) {
+                result = applyAsChar(result, array[i]);
+            }
+            results[chunk] = result;
+        });
+        return reduce(results, identity);
+    }
+
+    /**
+     * Cumulates each element of the given array in place in parallel using this operator, so that {@code array[i]}
+     * holds the result of reducing the elements {@code array[0]} to {@code array[i]}. The array is split into chunks of
+     * the {@link ParallelArrays#defaultGrainSize(boolean) default grain size}, which is smaller if this operator is
+     * marked as {@link Expensive} (see {@link #isExpensive()}).
+     *
+     * @param array The array whose elements are cumulated in place by this operator
+     * @throws NullPointerException If given argument is {@code null}
+     * @apiNote This operator must be associative. It is only applied concurrently by multiple threads, if it is marked
+     * as {@link ThreadSafe} (see {@link #isThreadSafe()}). Otherwise the chunks are processed one after another by the
+     * calling thread.
+     * @see #parallelPrefix(char[], int)
+     */
+    default void parallelPrefix(@Nonnull final char[] array) {
+        parallelPrefix(array, ParallelArrays.defaultGrainSize(isExpensive()));
+    }
+
+    /**
+     * Cumulates each element of the given array in place in parallel using this operator, so that {@code array[i]}
+     * holds the result of reducing the elements {@code array[0]} to {@code array[i]}. The array is split into chunks of
+     * the given grain size, which are processed by the {@link ForkJoinPool#commonPool()}.
+     *
+     * @param array The array whose elements are cumulated in place by this operator
+     * @param grainSize The maximum number of elements to be cumulated sequentially by one task
+     * @throws NullPointerException If given argument is {@code null}
+     * @throws IllegalArgumentException If the given grain size is not positive
+     * @apiNote This operator must be associative. It is only applied concurrently by multiple threads, if it is marked
+     * as {@link ThreadSafe} (see {@link #isThreadSafe()}). Otherwise the chunks are processed one after another by the
+     * calling thread.
+     * @implNote This implementation first cumulates each chunk on its own, then cumulates the last elements of the
+     * chunks sequentially and finally combines each chunk with the cumulated last element of its preceding chunk.
+     * @see ParallelArrays#forEachChunk(int, int, boolean, ParallelArrays.ChunkAction)
+     */
+    default void parallelPrefix(@Nonnull final char[] array, final int grainSize) {
+        Objects.requireNonNull(array);
+        ParallelArrays.forEachChunk(array.length, grainSize, isThreadSafe(), (chunk, fromIndex, toIndex) -> {
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                array[i] = applyAsChar(array[i - 1], array[i]);
+            }
+        });
+        final int chunkCount = ParallelArrays.chunkCount(array.length, grainSize);
+        final char[] offsets = new char[chunkCount];
+        for (int chunk = 1; chunk < chunkCount; chunk++) {
+            final char last = array[chunk * grainSize - 1];
+            offsets[chunk] = chunk == 1 ? last : applyAsChar(offsets[chunk - 1], last);
+        }
+        ParallelArrays.forEachChunk(array.length, grainSize, isThreadSafe(), (chunk, fromIndex, toIndex) -> {
+            if (chunk > 0) {
+                final char offset = offsets[chunk];
+                for (int i = fromIndex; i < toIndex; i++) {
+                    array[i] = applyAsChar(offset, array[i]);
+                }
+            }
+        });
+    }
+
     /**
      * Returns a memoized (caching) version of this {@link CharBinaryOperator}. Whenever it is called, the mapping
      * between the input parameters and the return value is preserved in a cache, making subsequent calls returning the
@@ -607,23 +881,56 @@ public interface CharBinaryOperator extends Lambda {
      * <p>
      * Unless the operator and therefore the used cache will be garbage-collected, it will keep all memoized values
      * forever.
+     * <p>
+     * The returned memoized operator is serializable, if this operator is serializable. Its memoized values are not
+     * written when it gets serialized, so the deserialized operator starts with an empty cache.
      *
      * @return A memoized (caching) version of this {@code CharBinaryOperator}.
      * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
      * resulting memoized operator, as the cache used internally does not permit {@code null} keys or values.
      * @implNote The returned memoized operator can be safely used concurrently from multiple threads which makes it
      * thread-safe.
+     * @see #memoized(boolean)
      */
     @Nonnull
     default CharBinaryOperator memoized() {
+        return memoized(false);
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link CharBinaryOperator}. Whenever it is called, the mapping
+     * between the input parameters and the return value is preserved in a cache, making subsequent calls returning the
+     * memoized value instead of computing the return value again.
+     * <p>
+     * Unless the operator and therefore the used cache will be garbage-collected, it will keep all memoized values
+     * forever.
+     * <p>
+     * The returned memoized operator is serializable, if this operator is serializable. If {@code serializeCache} is
+     * {@code true}, a snapshot of all memoized values is written when it gets serialized, so the deserialized operator
+     * starts warm. Otherwise the deserialized operator starts with an empty cache. Primitive values are thereby written
+     * in their binary form.
+     *
+     * @param serializeCache {@code true} if the memoized values should be written when the memoized operator gets
+     * serialized, {@code false} otherwise
+     * @return A memoized (caching) version of this {@code CharBinaryOperator}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized operator can be safely used concurrently from multiple threads which makes it
+     * thread-safe. If this operator is already memoized, it is returned as-is regardless of {@code serializeCache}.
+     * @see MemoizationCache
+     */
+    @Nonnull
+    default CharBinaryOperator memoized(final boolean serializeCache) {
         if (isMemoized()) {
             return this;
         } else {
-            final Map<Pair<Character, Character>, Character> cache = new ConcurrentHashMap<>();
-            final Object lock = new Object();
+            final Codec<Pair<Character, Character>> keyCodec = Codec.ofPair(Codec.ofChar(), Codec.ofChar());
+            final MemoizationCache<Pair<Character, Character>, Character> cache = MemoizationCache.of(keyCodec,
+                                                                                                      Codec.ofChar(),
+                                                                                                      serializeCache);
             return (CharBinaryOperator & Memoized) (value1, value2) -> {
                 final char returnValue;
-                synchronized (lock) {
+                synchronized (cache) {
                     returnValue = cache.computeIfAbsent(Pair.of(value1, value2),
                                                         key -> applyAsChar(key.getLeft(), key.getRight()));
                 }
@@ -638,10 +945,68 @@ public interface CharBinaryOperator extends Lambda {
      * CharBinaryOperator} with methods provided by the {@code JDK}.
      *
      * @return A composed {@code BinaryOperator2} which represents this {@code CharBinaryOperator}.
+     * @implNote The returned {@code BinaryOperator2} is a {@link DerivedView} of this {@code CharBinaryOperator}, so
+     * {@link #unboxed(BinaryOperator2)} returns this {@code CharBinaryOperator} instead of wrapping it twice.
      */
     @Nonnull
     default BinaryOperator2<Character> boxed() {
-        return this::applyAsChar;
+        final class Boxed implements BinaryOperator2<Character>, DerivedView {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public Character apply(Character value1, Character value2) {
+                return CharBinaryOperator.this.applyAsChar(value1, value2);
+            }
+
+            @Nonnull
+            @Override
+            public CharBinaryOperator getSource() {
+                return CharBinaryOperator.this;
+            }
+        }
+        return new Boxed();
+    }
+
+    /**
+     * Returns a composed {@link CharBinaryOperator} that applies this operator to its input, if less than the given
+     * number of calls of the composed operator are running concurrently. Otherwise the call is rejected immediately
+     * with a {@link CallNotPermittedException}.
+     *
+     * @param maxConcurrent The maximum number of concurrent calls
+     * @return A composed {@code CharBinaryOperator} that applies this operator to its input, if less than the given
+     * number of calls are running concurrently.
+     * @throws IllegalArgumentException If given argument is not positive
+     * @see #bulkhead(Bulkhead)
+     */
+    @Nonnull
+    default CharBinaryOperator bulkhead(final int maxConcurrent) {
+        return bulkhead(Bulkhead.of(maxConcurrent));
+    }
+
+    /**
+     * Returns a composed {@link CharBinaryOperator} that applies this operator to its input, if a permit of the given
+     * {@link Bulkhead} is acquired. Depending on the mode of the bulkhead, the call either waits for a permit or is
+     * rejected with a {@link CallNotPermittedException}. A bulkhead may be shared by several functional interfaces
+     * calling the same dependency.
+     *
+     * @param bulkhead The bulkhead which limits the concurrent calls of this operator
+     * @return A composed {@code CharBinaryOperator} that applies this operator to its input, if a permit of the given
+     * {@code Bulkhead} is acquired.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see Bulkhead#of(int, Duration)
+     * @see Bulkhead#adaptive(int, int)
+     */
+    @Nonnull
+    default CharBinaryOperator bulkhead(@Nonnull final Bulkhead bulkhead) {
+        Objects.requireNonNull(bulkhead);
+        return (value1, value2) -> {
+            final long permit = bulkhead.acquirePermission();
+            try {
+                return this.applyAsChar(value1, value2);
+            } finally {
+                bulkhead.releasePermission(permit);
+            }
+        };
     }
 
 }
\ No newline at end of file
@@ -16,7 +16,12 @@
 package at.gridtec.lambda4j.operator.binary;
 
 import at.gridtec.lambda4j.Lambda;
+import at.gridtec.lambda4j.comparator.DoubleComparator;
 import at.gridtec.lambda4j.consumer.bi.BiDoubleConsumer;
+import at.gridtec.lambda4j.core.memoization.Codec;
+import at.gridtec.lambda4j.core.memoization.MemoizationCache;
+import at.gridtec.lambda4j.core.util.DerivedView;
+import at.gridtec.lambda4j.core.util.ParallelArrays;
 import at.gridtec.lambda4j.function.bi.BiDoubleFunction;
 import at.gridtec.lambda4j.function.bi.conversion.BiBooleanToDoubleFunction;
 import at.gridtec.lambda4j.function.bi.conversion.BiByteToDoubleFunction;
@@ -43,16 +48,19 @@ import at.gridtec.lambda4j.function.conversion.FloatToDoubleFunction;
 import at.gridtec.lambda4j.function.conversion.ShortToDoubleFunction;
 import at.gridtec.lambda4j.operator.unary.DoubleUnaryOperator2;
 import at.gridtec.lambda4j.predicate.bi.BiDoublePredicate;
+import at.gridtec.lambda4j.resilience.Bulkhead;
+import at.gridtec.lambda4j.resilience.CallNotPermittedException;
+import at.gridtec.lambda4j.supplier.DoubleSupplier2;
+import at.gridtec.lambda4j.supplier.Supplier2;
 
 import org.apache.commons.lang3.tuple.Pair;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.Comparator;
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BinaryOperator;
 import java.util.function.DoubleBinaryOperator;
 import java.util.function.DoubleConsumer;
@@ -149,41 +157,73 @@ public interface DoubleBinaryOperator2 extends Lambda, DoubleBinaryOperator {
      */
     @Nonnull
     static DoubleBinaryOperator2 constant(double ret) {
-        return (value1, value2) -> ret;
+        return (DoubleBinaryOperator2 & Constant) (value1, value2) -> ret;
     }
 
     /**
      * Returns a {@link DoubleBinaryOperator2} which returns the lesser of two elements according to the specified
-     * {@code Comparator}.
+     * {@code DoubleComparator}.
      *
-     * @param comparator A {@code Comparator} for comparing the two values
+     * @param comparator A {@code DoubleComparator} for comparing the two values
      * @return A {@code DoubleBinaryOperator2} which returns the lesser of its operands, according to the supplied
-     * {@code Comparator}.
+     * {@code DoubleComparator}.
      * @throws NullPointerException If given argument is {@code null}
      * @see BinaryOperator#minBy(Comparator)
      */
     @Nonnull
-    static DoubleBinaryOperator2 minBy(@Nonnull final Comparator<Double> comparator) {
+    static DoubleBinaryOperator2 minBy(@Nonnull final DoubleComparator comparator) {
         Objects.requireNonNull(comparator);
         return (value1, value2) -> comparator.compare(value1, value2) <= 0 ? value1 : value2;
     }
 
     /**
      * Returns a {@link DoubleBinaryOperator2} which returns the greater of two elements according to the specified
-     * {@code Comparator}.
+     * {@code DoubleComparator}.
      *
-     * @param comparator A {@code Comparator} for comparing the two values
+     * @param comparator A {@code DoubleComparator} for comparing the two values
      * @return A {@code DoubleBinaryOperator2} which returns the greater of its operands, according to the supplied
-     * {@code Comparator}.
+     * {@code DoubleComparator}.
      * @throws NullPointerException If given argument is {@code null}
      * @see BinaryOperator#maxBy(Comparator)
      */
     @Nonnull
-    static DoubleBinaryOperator2 maxBy(@Nonnull final Comparator<Double> comparator) {
+    static DoubleBinaryOperator2 maxBy(@Nonnull final DoubleComparator comparator) {
         Objects.requireNonNull(comparator);
         return (value1, value2) -> comparator.compare(value1, value2) >= 0 ? value1 : value2;
     }
 
+    /**
+     * Returns a {@link DoubleBinaryOperator2} which represents the given {@link BinaryOperator2}. Thereby the boxed
+     * input arguments and results of the given operator are unboxed to their primitive counterparts. This method is the
+     * inverse of {@link #boxed()}.
+     *
+     * @param boxed The {@code BinaryOperator2} to be represented by the returned {@code DoubleBinaryOperator2}
+     * @return A {@code DoubleBinaryOperator2} which represents the given {@code BinaryOperator2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implNote If the given {@code BinaryOperator2} was returned from {@link #boxed()}, the original {@code
+     * DoubleBinaryOperator2} is returned instead of wrapping it twice. Likewise, {@link #boxed()} of the returned
+     * {@code DoubleBinaryOperator2} returns the given {@code BinaryOperator2}.
+     */
+    @Nonnull
+    static DoubleBinaryOperator2 unboxed(@Nonnull final BinaryOperator2<Double> boxed) {
+        Objects.requireNonNull(boxed);
+        if (boxed instanceof DerivedView && ((DerivedView) boxed).getSource() instanceof DoubleBinaryOperator2) {
+            return (DoubleBinaryOperator2) ((DerivedView) boxed).getSource();
+        }
+        return new DoubleBinaryOperator2() {
+            @Override
+            public double applyAsDouble(double value1, double value2) {
+                return boxed.apply(value1, value2);
+            }
+
+            @Nonnull
+            @Override
+            public BinaryOperator2<Double> boxed() {
+                return boxed;
+            }
+        };
+    }
+
     /**
      * Applies this operator to the given arguments.
      *
@@ -229,12 +269,29 @@ public interface DoubleBinaryOperator2 extends Lambda, DoubleBinaryOperator {
      * then applies this operator to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to handle every type.
+     * @implNote The composed operator is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
+     * @implNote If this operator is marked as {@link Pure} and the {@code before} functions are constant (f.e. created
+     * by {@code constant}), this operator is applied only once, when the composed function is applied for the first
+     * time. Its result is then returned by each further application. If applying it throws an exception, the exception
+     * is relayed to the caller and it is applied again on the next application.
      */
     @Nonnull
     default <A, B> ToDoubleBiFunction2<A, B> compose(@Nonnull final ToDoubleFunction<? super A> before1,
             @Nonnull final ToDoubleFunction<? super B> before2) {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
+        if (this instanceof Pure && before1 instanceof Constant && before2 instanceof Constant) {
+            final DoubleSupplier2 result = DoubleSupplier2.of(() -> applyAsDouble(before1.applyAsDouble(null),
+                                                                                  before2.applyAsDouble(null))).memoized();
+            return (ToDoubleBiFunction2<A, B> & Pure) (a, b) -> result.getAsDouble();
+        }
+        if (this instanceof Pure && before1 instanceof Pure && before2 instanceof Pure) {
+            return (ToDoubleBiFunction2<A, B> & Pure) (a, b) -> applyAsDouble(before1.applyAsDouble(a),
+                                                                              before2.applyAsDouble(b));
+        } else if (this instanceof ThreadSafe && before1 instanceof ThreadSafe && before2 instanceof ThreadSafe) {
+            return (ToDoubleBiFunction2<A, B> & ThreadSafe) (a, b) -> applyAsDouble(before1.applyAsDouble(a),
+                                                                                    before2.applyAsDouble(b));
+        }
         return (a, b) -> applyAsDouble(before1.applyAsDouble(a), before2.applyAsDouble(b));
     }
 
@@ -429,10 +486,26 @@ public interface DoubleBinaryOperator2 extends Lambda, DoubleBinaryOperator {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote The composed operator is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
+     * @implNote If this operator is constant (f.e. created by {@code constant}) and the {@code after} function is
+     * marked as {@link Pure}, the {@code after} function is applied only once, when the composed function is applied
+     * for the first time. Its result is then returned by each further application. If applying it throws an exception,
+     * the exception is relayed to the caller and it is applied again on the next application.
      */
     @Nonnull
     default <S> BiDoubleFunction<S> andThen(@Nonnull final DoubleFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (this instanceof Constant && after instanceof Pure) {
+            // The result is held by an optional, so that a null result is memoized as well
+            final Supplier2<Optional<S>> result = Supplier2.of(
+                    () -> Optional.ofNullable(after.apply(applyAsDouble(0d, 0d)))).memoized();
+            return (BiDoubleFunction<S> & Pure) (value1, value2) -> result.get().orElse(null);
+        }
+        if (this instanceof Pure && after instanceof Pure) {
+            return (BiDoubleFunction<S> & Pure) (value1, value2) -> after.apply(applyAsDouble(value1, value2));
+        } else if (this instanceof ThreadSafe && after instanceof ThreadSafe) {
+            return (BiDoubleFunction<S> & ThreadSafe) (value1, value2) -> after.apply(applyAsDouble(value1, value2));
+        }
         return (value1, value2) -> after.apply(applyAsDouble(value1, value2));
     }
 
@@ -604,6 +677,212 @@ public interface DoubleBinaryOperator2 extends Lambda, DoubleBinaryOperator {
         return (value1, value2) -> consumer.accept(applyAsDouble(value1, value2));
     }
 
+    /**
+     * Applies this operator to the elements at each index of the given source arrays and stores the results in the
+     * given destination array, so that {@code dst[i]} holds the result of {@code applyAsDouble(a[i], b[i])}.
+     *
+     * @param a The first source array, whose elements are the first arguments to this operator
+     * @param b The second source array, whose elements are the second arguments to this operator
+     * @param dst The array to store the results in, which must be at least as long as the first source array
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @throws IllegalArgumentException If one of the further source arrays or the destination array is shorter than the
+     * first source array
+     * @implNote This implementation checks the array lengths once before applying this operator, so the loop itself is
+     * free of bounds checks. This allows the JIT to vectorize the loop for simple operators.
+     * @see #parallelApplyAll(double[], double[], double[])
+     */
+    default void applyAll(@Nonnull final double[] a, @Nonnull final double[] b, @Nonnull final double[] dst) {
+        Objects.requireNonNull(a);
+        Objects.requireNonNull(b);
+        Objects.requireNonNull(dst);
+        ParallelArrays.lengthCheck(a.length, b.length);
+        ParallelArrays.lengthCheck(a.length, dst.length);
+        for (int i = 0; i < a.length; i++) {
+            dst[i] = applyAsDouble(a[i], b[i]);
+        }
+    }
+
+    /**
+     * Applies this operator to the elements at each index of the given source arrays in parallel and stores the results
+     * in the given destination array, so that {@code dst[i]} holds the result of {@code applyAsDouble(a[i], b[i])}. The
+     * arrays are split into chunks of the {@link ParallelArrays#defaultGrainSize(boolean) default grain size}, which is
+     * smaller if this operator is marked as {@link Expensive} (see {@link #isExpensive()}).
+     *
+     * @param a The first source array, whose elements are the first arguments to this operator
+     * @param b The second source array, whose elements are the second arguments to this operator
+     * @param dst The array to store the results in, which must be at least as long as the first source array
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @throws IllegalArgumentException If one of the further source arrays or the destination array is shorter than the
+     * first source array
+     * @apiNote This operator is only applied concurrently by multiple threads, if it is marked as {@link ThreadSafe}
+     * (see {@link #isThreadSafe()}). Otherwise the chunks are processed one after another by the calling thread.
+     * @see #parallelApplyAll(double[], double[], double[], int)
+     */
+    default void parallelApplyAll(@Nonnull final double[] a, @Nonnull final double[] b, @Nonnull final double[] dst) {
+        parallelApplyAll(a, b, dst, ParallelArrays.defaultGrainSize(isExpensive()));
+    }
+
+    /**
+     * Applies this operator to the elements at each index of the given source arrays in parallel and stores the results
+     * in the given destination array, so that {@code dst[i]} holds the result of {@code applyAsDouble(a[i], b[i])}. The
+     * arrays are split into chunks of at most the given grain size, which are processed by the {@link
+     * ForkJoinPool#commonPool()}.
+     *
+     * @param a The first source array, whose elements are the first arguments to this operator
+     * @param b The second source array, whose elements are the second arguments to this operator
+     * @param dst The array to store the results in, which must be at least as long as the first source array
+     * @param grainSize The maximum number of elements to be processed sequentially by one task
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @throws IllegalArgumentException If one of the further source arrays or the destination array is shorter than the
+     * first source array, or the given grain size is not positive
+     * @apiNote This operator is only applied concurrently by multiple threads, if it is marked as {@link ThreadSafe}
+     * (see {@link #isThreadSafe()}). Otherwise the chunks are processed one after another by the calling thread.
+     * @see ParallelArrays#forEachRange(int, int, int, boolean, ParallelArrays.RangeAction)
+     */
+    default void parallelApplyAll(@Nonnull final double[] a, @Nonnull final double[] b, @Nonnull final double[] dst,
+            final int grainSize) {
+        Objects.requireNonNull(a);
+        Objects.requireNonNull(b);
+        Objects.requireNonNull(dst);
+        ParallelArrays.lengthCheck(a.length, b.length);
+        ParallelArrays.lengthCheck(a.length, dst.length);
+        ParallelArrays.forEachRange(0, a.length, grainSize, isThreadSafe(), (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                dst[i] = applyAsDouble(a[i], b[i]);
+            }
+        });
+    }
+
+    /**
+     * Reduces the elements of the given array using this operator, starting with the given identity value. The elements
+     * are combined from left to right, so the result is {@code applyAsDouble(...applyAsDouble(applyAsDouble(identity,
+     * array[0]), array[1])..., array[n - 1])}.
+     *
+     * @param array The array whose elements are reduced by this operator
+     * @param identity The identity value of this operator, which is returned if the array is empty
+     * @return The result of reducing the elements of the given array using this operator.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see #parallelReduce(double[], double)
+     */
+    default double reduce(@Nonnull final double[] array, final double identity) {
+        Objects.requireNonNull(array);
+        double result = identity;
+        for (final double element : array) {
+            result = applyAsDouble(result, element);
+        }
+        return result;
+    }
+
+    /**
+     * Reduces the elements of the given array in parallel using this operator, starting each chunk with the given
+     * identity value. The array is split into chunks of the {@link ParallelArrays#defaultGrainSize(boolean) default
+     * grain size}, which is smaller if this operator is marked as {@link Expensive} (see {@link #isExpensive()}).
+     *
+     * @param array The array whose elements are reduced by this operator
+     * @param identity The identity value of this operator, which is returned if the array is empty
+     * @return The result of reducing the elements of the given array using this operator.
+     * @throws NullPointerException If given argument is {@code null}
+     * @apiNote This operator must be associative and the given identity value must be an identity of it; otherwise the
+     * result differs from {@link #reduce(double[], double)}. This operator is only applied concurrently by multiple
+     * threads, if it is marked as {@link ThreadSafe} (see {@link #isThreadSafe()}). Otherwise the chunks are processed
+     * one after another by the calling thread.
+     * @see #parallelReduce(double[], double, int)
+     */
+    default double parallelReduce(@Nonnull final double[] array, final double identity) {
+        return parallelReduce(array, identity, ParallelArrays.defaultGrainSize(isExpensive()));
+    }
+
+    /**
+     * Reduces the elements of the given array in parallel using this operator, starting each chunk with the given
+     * identity value. The array is split into chunks of the given grain size, which are reduced by the {@link
+     * ForkJoinPool#commonPool()}. The results of the chunks are then combined in chunk order.
+     *
+     * @param array The array whose elements are reduced by this operator
+     * @param identity The identity value of this operator, which is returned if the array is empty
+     * @param grainSize The maximum number of elements to be reduced sequentially by one task
+     * @return The result of reducing the elements of the given array using this operator.
+     * @throws NullPointerException If given argument is {@code null}
+     * @throws IllegalArgumentException If the given grain size is not positive
+     * @apiNote This operator must be associative and the given identity value must be an identity of it; otherwise the
+     * result differs from {@link #reduce(double[], double)}. This operator is only applied concurrently by multiple
+     * threads, if it is marked as {@link ThreadSafe} (see {@link #isThreadSafe()}). Otherwise the chunks are processed
+     * one after another by the calling thread.
+     * @implNote As the chunk boundaries depend only on the length of the array and the given grain size, the elements
+     * are always combined in the same order. So the result is reproducible from run to run for the same grain size,
+     * even though rounding errors may cause it to differ slightly from the result of {@link #reduce(double[], double)}.
+     * @see ParallelArrays#forEachChunk(int, int, boolean, ParallelArrays.ChunkAction)
+     */
+    default double parallelReduce(@Nonnull final double[] array, final double identity, final int grainSize) {
+        Objects.requireNonNull(array);
+        final double[] results = new double[ParallelArrays.chunkCount(array.length, grainSize)];
+        ParallelArrays.forEachChunk(array.length, grainSize, isThreadSafe(), (chunk, fromIndex, toIndex) -> {
+            double result = identity;
+            for (int i = fromIndex; i < toIndex; i++) {
+                result = applyAsDouble(result, array[i]);
+            }
+            results[chunk] = result;
+        });
+        return reduce(results, identity);
+    }
+
+    /**
+     * Cumulates each element of the given array in place in parallel using this operator, so that {@code array[i]}
+     * holds the result of reducing the elements {@code array[0]} to {@code array[i]}. The array is split into chunks of
+     * the {@link ParallelArrays#defaultGrainSize(boolean) default grain size}, which is smaller if this operator is
+     * marked as {@link Expensive} (see {@link #isExpensive()}).
+     *
+     * @param array The array whose elements are cumulated in place by this operator
+     * @throws NullPointerException If given argument is {@code null}
+     * @apiNote This operator must be associative. It is only applied concurrently by multiple threads, if it is marked
+     * as {@link ThreadSafe} (see {@link #isThreadSafe()}). Otherwise the chunks are processed one after another by the
+     * calling thread.
+     * @see #parallelPrefix(double[], int)
+     */
+    default void parallelPrefix(@Nonnull final double[] array) {
+        parallelPrefix(array, ParallelArrays.defaultGrainSize(isExpensive()));
+    }
+
+    /**
+     * Cumulates each element of the given array in place in parallel using this operator, so that {@code array[i]}
+     * holds the result of reducing the elements {@code array[0]} to {@code array[i]}. The array is split into chunks of
+     * the given grain size, which are processed by the {@link ForkJoinPool#commonPool()}.
+     *
+     * @param array The array whose elements are cumulated in place by this operator
+     * @param grainSize The maximum number of elements to be cumulated sequentially by one task
+     * @throws NullPointerException If given argument is {@code null}
+     * @throws IllegalArgumentException If the given grain size is not positive
+     * @apiNote This operator must be associative. It is only applied concurrently by multiple threads, if it is marked
+     * as {@link ThreadSafe} (see {@link #isThreadSafe()}). Otherwise the chunks are processed one after another by the
+     * calling thread.
+     * @implNote This implementation first cumulates each chunk on its own, then cumulates the last elements of the
+     * chunks sequentially and finally combines each chunk with the cumulated last element of its preceding chunk. As
+     * the chunk boundaries depend only on the length of the array and the given grain size, the result is reproducible
+     * from run to run for the same grain size.
+     * @see ParallelArrays#forEachChunk(int, int, boolean, ParallelArrays.ChunkAction)
+     */
+    default void parallelPrefix(@Nonnull final double[] array, final int grainSize) {
+        Objects.requireNonNull(array);
+        ParallelArrays.forEachChunk(array.length, grainSize, isThreadSafe(), (chunk, fromIndex, toIndex) -> {
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                array[i] = applyAsDouble(array[i - 1], array[i]);
+            }
+        });
+        final int chunkCount = ParallelArrays.chunkCount(array.length, grainSize);
+        final double[] offsets = new double[chunkCount];
+        for (int chunk = 1; chunk < chunkCount; chunk++) {
+            final double last = array[chunk * grainSize - 1];
+            offsets[chunk] = chunk == 1 ? last : applyAsDouble(offsets[chunk - 1], last);
+        }
+        ParallelArrays.forEachChunk(array.length, grainSize, isThreadSafe(), (chunk, fromIndex, toIndex) -> {
+            if (chunk > 0) {
+                final double offset = offsets[chunk];
+                for (int i = fromIndex; i < toIndex; i++) {
+                    array[i] = applyAsDouble(offset, array[i]);
+                }
+            }
+        });
+    }
+
     /**
      * Returns a memoized (caching) version of this {@link DoubleBinaryOperator2}. Whenever it is called, the mapping
      * between the input parameters and the return value is preserved in a cache, making subsequent calls returning the
@@ -611,23 +890,55 @@ public interface DoubleBinaryOperator2 extends Lambda, DoubleBinaryOperator {
      * <p>
      * Unless the operator and therefore the used cache will be garbage-collected, it will keep all memoized values
      * forever.
+     * <p>
+     * The returned memoized operator is serializable, if this operator is serializable. Its memoized values are not
+     * written when it gets serialized, so the deserialized operator starts with an empty cache.
      *
      * @return A memoized (caching) version of this {@code DoubleBinaryOperator2}.
      * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
      * resulting memoized operator, as the cache used internally does not permit {@code null} keys or values.
      * @implNote The returned memoized operator can be safely used concurrently from multiple threads which makes it
      * thread-safe.
+     * @see #memoized(boolean)
      */
     @Nonnull
     default DoubleBinaryOperator2 memoized() {
+        return memoized(false);
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link DoubleBinaryOperator2}. Whenever it is called, the mapping
+     * between the input parameters and the return value is preserved in a cache, making subsequent calls returning the
+     * memoized value instead of computing the return value again.
+     * <p>
+     * Unless the operator and therefore the used cache will be garbage-collected, it will keep all memoized values
+     * forever.
+     * <p>
+     * The returned memoized operator is serializable, if this operator is serializable. If {@code serializeCache} is
+     * {@code true}, a snapshot of all memoized values is written when it gets serialized, so the deserialized operator
+     * starts warm. Otherwise the deserialized operator starts with an empty cache. Primitive values are thereby written
+     * in their binary form.
+     *
+     * @param serializeCache {@code true} if the memoized values should be written when the memoized operator gets
+     * serialized, {@code false} otherwise
+     * @return A memoized (caching) version of this {@code DoubleBinaryOperator2}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized operator can be safely used concurrently from multiple threads which makes it
+     * thread-safe. If this operator is already memoized, it is returned as-is regardless of {@code serializeCache}.
+     * @see MemoizationCache
+     */
+    @Nonnull
+    default DoubleBinaryOperator2 memoized(final boolean serializeCache) {
         if (isMemoized()) {
             return this;
         } else {
-            final Map<Pair<Double, Double>, Double> cache = new ConcurrentHashMap<>();
-            final Object lock = new Object();
+            final Codec<Pair<Double, Double>> keyCodec = Codec.ofPair(Codec.ofDouble(), Codec.ofDouble());
+            final MemoizationCache<Pair<Double, Double>, Double> cache = MemoizationCache.of(keyCodec, Codec.ofDouble(),
+                                                                                             serializeCache);
             return (DoubleBinaryOperator2 & Memoized) (value1, value2) -> {
                 final double returnValue;
-                synchronized (lock) {
+                synchronized (cache) {
                     returnValue = cache.computeIfAbsent(Pair.of(value1, value2),
                                                         key -> applyAsDouble(key.getLeft(), key.getRight()));
                 }
@@ -642,10 +953,68 @@ public interface DoubleBinaryOperator2 extends Lambda, DoubleBinaryOperator {
      * DoubleBinaryOperator2} with methods provided by the {@code JDK}.
      *
      * @return A composed {@code BinaryOperator2} which represents this {@code DoubleBinaryOperator2}.
+     * @implNote The returned {@code BinaryOperator2} is a {@link DerivedView} of this {@code DoubleBinaryOperator2}, so
+     * {@link #unboxed(BinaryOperator2)} returns this {@code DoubleBinaryOperator2} instead of wrapping it twice.
      */
     @Nonnull
     default BinaryOperator2<Double> boxed() {
-        return this::applyAsDouble;
+        final class Boxed implements BinaryOperator2<Double>, DerivedView {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public Double apply(Double value1, Double value2) {
+                return DoubleBinaryOperator2.this.applyAsDouble(value1, value2);
+            }
+
+            @Nonnull
+            @Override
+            public DoubleBinaryOperator2 getSource() {
+                return DoubleBinaryOperator2.this;
+            }
+        }
+        return new Boxed();
+    }
+
+    /**
+     * Returns a composed {@link DoubleBinaryOperator2} that applies this operator to its input, if less than the given
+     * number of calls of the composed operator are running concurrently. Otherwise the call is rejected immediately
+     * with a {@link CallNotPermittedException}.
+     *
+     * @param maxConcurrent The maximum number of concurrent calls
+     * @return A composed {@code DoubleBinaryOperator2} that applies this operator to its input, if less than the given
+     * number of calls are running concurrently.
+     * @throws IllegalArgumentException If given argument is not positive
+     * @see #bulkhead(Bulkhead)
+     */
+    @Nonnull
+    default DoubleBinaryOperator2 bulkhead(final int maxConcurrent) {
+        return bulkhead(Bulkhead.of(maxConcurrent));
+    }
+
+    /**
+     * Returns a composed {@link DoubleBinaryOperator2} that applies this operator to its input, if a permit of the
+     * given {@link Bulkhead} is acquired. Depending on the mode of the bulkhead, the call either waits for a permit or
+     * is rejected with a {@link CallNotPermittedException}. A bulkhead may be shared by several functional interfaces
+     * calling the same dependency.
+     *
+     * @param bulkhead The bulkhead which limits the concurrent calls of this operator
+     * @return A composed {@code DoubleBinaryOperator2} that applies this operator to its input, if a permit of the
+     * given {@code Bulkhead} is acquired.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see Bulkhead#of(int, Duration)
+     * @see Bulkhead#adaptive(int, int)
+     */
+    @Nonnull
+    default DoubleBinaryOperator2 bulkhead(@Nonnull final Bulkhead bulkhead) {
+        Objects.requireNonNull(bulkhead);
+        return (value1, value2) -> {
+            final long permit = bulkhead.acquirePermission();
+            try {
+                return this.applyAsDouble(value1, value2);
+            } finally {
+                bulkhead.releasePermission(permit);
+            }
+        };
     }
 
 }
\ No newline at end of file
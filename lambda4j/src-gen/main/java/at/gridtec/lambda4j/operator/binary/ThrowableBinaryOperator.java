@@ -126,7 +126,7 @@ public interface ThrowableBinaryOperator<T, X extends Throwable>
      */
     @Nonnull
     static <T, X extends Throwable> ThrowableBinaryOperator<T, X> constant(T ret) {
-        return (t, u) -> ret;
+        return (ThrowableBinaryOperator<T, X> & Constant) (t, u) -> ret;
     }
 
     /**
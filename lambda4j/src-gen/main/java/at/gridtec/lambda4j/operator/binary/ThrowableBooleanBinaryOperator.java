@@ -19,9 +19,14 @@ import at.gridtec.lambda4j.Lambda;
 import at.gridtec.lambda4j.consumer.ThrowableBooleanConsumer;
 import at.gridtec.lambda4j.consumer.bi.ThrowableBiBooleanConsumer;
 import at.gridtec.lambda4j.core.exception.ThrownByFunctionalInterfaceException;
+import at.gridtec.lambda4j.core.memoization.Codec;
+import at.gridtec.lambda4j.core.memoization.MemoizationCache;
+import at.gridtec.lambda4j.core.recovery.RecoveryTable;
+import at.gridtec.lambda4j.core.util.DerivedView;
 import at.gridtec.lambda4j.core.util.ThrowableUtils;
 import at.gridtec.lambda4j.function.ThrowableBooleanFunction;
 import at.gridtec.lambda4j.function.ThrowableFunction;
+import at.gridtec.lambda4j.function.bi.BiBooleanFunction;
 import at.gridtec.lambda4j.function.bi.ThrowableBiBooleanFunction;
 import at.gridtec.lambda4j.function.bi.conversion.ThrowableBiBooleanToByteFunction;
 import at.gridtec.lambda4j.function.bi.conversion.ThrowableBiBooleanToCharFunction;
@@ -54,6 +59,12 @@ import at.gridtec.lambda4j.predicate.bi.ThrowableBiIntPredicate;
 import at.gridtec.lambda4j.predicate.bi.ThrowableBiLongPredicate;
 import at.gridtec.lambda4j.predicate.bi.ThrowableBiPredicate;
 import at.gridtec.lambda4j.predicate.bi.ThrowableBiShortPredicate;
+import at.gridtec.lambda4j.resilience.Bulkhead;
+import at.gridtec.lambda4j.resilience.CallNotPermittedException;
+import at.gridtec.lambda4j.resilience.CircuitBreaker;
+import at.gridtec.lambda4j.resilience.CircuitBreakerConfig;
+import at.gridtec.lambda4j.resilience.RetryPolicy;
+import at.gridtec.lambda4j.result.BooleanResult;
 
 import org.apache.commons.lang3.tuple.Pair;
 
@@ -61,9 +72,9 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.Comparator;
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
 
@@ -161,7 +172,7 @@ public interface ThrowableBooleanBinaryOperator<X extends Throwable> extends Lam
      */
     @Nonnull
     static <X extends Throwable> ThrowableBooleanBinaryOperator<X> constant(boolean ret) {
-        return (value1, value2) -> ret;
+        return (ThrowableBooleanBinaryOperator<X> & Constant) (value1, value2) -> ret;
     }
 
     /**
@@ -200,6 +211,43 @@ public interface ThrowableBooleanBinaryOperator<X extends Throwable> extends Lam
         return (value1, value2) -> comparator.compare(value1, value2) >= 0 ? value1 : value2;
     }
 
+    /**
+     * Returns a {@link ThrowableBooleanBinaryOperator} which represents the given {@link ThrowableBinaryOperator}.
+     * Thereby the boxed input arguments and results of the given operator are unboxed to their primitive counterparts.
+     * This method is the inverse of {@link #boxed()}.
+     *
+     * @param <X> The type of the throwable to be thrown by this operator
+     * @param boxed The {@code ThrowableBinaryOperator} to be represented by the returned {@code
+     * ThrowableBooleanBinaryOperator}
+     * @return A {@code ThrowableBooleanBinaryOperator} which represents the given {@code ThrowableBinaryOperator}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implNote If the given {@code ThrowableBinaryOperator} was returned from {@link #boxed()}, the original {@code
+     * ThrowableBooleanBinaryOperator} is returned instead of wrapping it twice. Likewise, {@link #boxed()} of the
+     * returned {@code ThrowableBooleanBinaryOperator} returns the given {@code ThrowableBinaryOperator}.
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <X extends Throwable> ThrowableBooleanBinaryOperator<X> unboxed(
+            @Nonnull final ThrowableBinaryOperator<Boolean, X> boxed) {
+        Objects.requireNonNull(boxed);
+        if (boxed instanceof DerivedView
+                && ((DerivedView) boxed).getSource() instanceof ThrowableBooleanBinaryOperator) {
+            return (ThrowableBooleanBinaryOperator<X>) ((DerivedView) boxed).getSource();
+        }
+        return new ThrowableBooleanBinaryOperator<X>() {
+            @Override
+            public boolean applyAsBooleanThrows(boolean value1, boolean value2) throws X {
+                return boxed.applyThrows(value1, value2);
+            }
+
+            @Nonnull
+            @Override
+            public ThrowableBinaryOperator<Boolean, X> boxed() {
+                return boxed;
+            }
+        };
+    }
+
     /**
      * Applies this operator to the given arguments.
      *
@@ -246,6 +294,7 @@ public interface ThrowableBooleanBinaryOperator<X extends Throwable> extends Lam
      * and then applies this operator to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to handle every type.
+     * @implNote The composed operator is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
      */
     @Nonnull
     default <A, B> ThrowableBiPredicate<A, B, X> compose(
@@ -253,6 +302,13 @@ public interface ThrowableBooleanBinaryOperator<X extends Throwable> extends Lam
             @Nonnull final ThrowablePredicate<? super B, ? extends X> before2) {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
+        if (this instanceof Pure && before1 instanceof Pure && before2 instanceof Pure) {
+            return (ThrowableBiPredicate<A, B, X> & Pure) (a, b) -> applyAsBooleanThrows(before1.testThrows(a),
+                                                                                         before2.testThrows(b));
+        } else if (this instanceof ThreadSafe && before1 instanceof ThreadSafe && before2 instanceof ThreadSafe) {
+            return (ThrowableBiPredicate<A, B, X> & ThreadSafe) (a, b) -> applyAsBooleanThrows(before1.testThrows(a),
+                                                                                               before2.testThrows(b));
+        }
         return (a, b) -> applyAsBooleanThrows(before1.testThrows(a), before2.testThrows(b));
     }
 
@@ -441,11 +497,17 @@ public interface ThrowableBooleanBinaryOperator<X extends Throwable> extends Lam
      * applies the {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote The composed operator is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
      */
     @Nonnull
     default <S> ThrowableBiBooleanFunction<S, X> andThen(
             @Nonnull final ThrowableBooleanFunction<? extends S, ? extends X> after) {
         Objects.requireNonNull(after);
+        if (this instanceof Pure && after instanceof Pure) {
+            return (ThrowableBiBooleanFunction<S, X> & Pure) (value1, value2) -> after.applyThrows(applyAsBooleanThrows(value1, value2));
+        } else if (this instanceof ThreadSafe && after instanceof ThreadSafe) {
+            return (ThrowableBiBooleanFunction<S, X> & ThreadSafe) (value1, value2) -> after.applyThrows(applyAsBooleanThrows(value1, value2));
+        }
         return (value1, value2) -> after.applyThrows(applyAsBooleanThrows(value1, value2));
     }
 
@@ -623,23 +685,56 @@ public interface ThrowableBooleanBinaryOperator<X extends Throwable> extends Lam
      * <p>
      * Unless the operator and therefore the used cache will be garbage-collected, it will keep all memoized values
      * forever.
+     * <p>
+     * The returned memoized operator is serializable, if this operator is serializable. Its memoized values are not
+     * written when it gets serialized, so the deserialized operator starts with an empty cache.
      *
      * @return A memoized (caching) version of this {@code ThrowableBooleanBinaryOperator}.
      * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
      * resulting memoized operator, as the cache used internally does not permit {@code null} keys or values.
      * @implNote The returned memoized operator can be safely used concurrently from multiple threads which makes it
      * thread-safe.
+     * @see #memoized(boolean)
      */
     @Nonnull
     default ThrowableBooleanBinaryOperator<X> memoized() {
+        return memoized(false);
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link ThrowableBooleanBinaryOperator}. Whenever it is called, the
+     * mapping between the input parameters and the return value is preserved in a cache, making subsequent calls
+     * returning the memoized value instead of computing the return value again.
+     * <p>
+     * Unless the operator and therefore the used cache will be garbage-collected, it will keep all memoized values
+     * forever.
+     * <p>
+     * The returned memoized operator is serializable, if this operator is serializable. If {@code serializeCache} is
+     * {@code true}, a snapshot of all memoized values is written when it gets serialized, so the deserialized operator
+     * starts warm. Otherwise the deserialized operator starts with an empty cache. Primitive values are thereby written
+     * in their binary form.
+     *
+     * @param serializeCache {@code true} if the memoized values should be written when the memoized operator gets
+     * serialized, {@code false} otherwise
+     * @return A memoized (caching) version of this {@code ThrowableBooleanBinaryOperator}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized operator, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized operator can be safely used concurrently from multiple threads which makes it
+     * thread-safe. If this operator is already memoized, it is returned as-is regardless of {@code serializeCache}.
+     * @see MemoizationCache
+     */
+    @Nonnull
+    default ThrowableBooleanBinaryOperator<X> memoized(final boolean serializeCache) {
         if (isMemoized()) {
             return this;
         } else {
-            final Map<Pair<Boolean, Boolean>, Boolean> cache = new ConcurrentHashMap<>();
-            final Object lock = new Object();
+            final Codec<Pair<Boolean, Boolean>> keyCodec = Codec.ofPair(Codec.ofBoolean(), Codec.ofBoolean());
+            final MemoizationCache<Pair<Boolean, Boolean>, Boolean> cache = MemoizationCache.of(keyCodec,
+                                                                                                Codec.ofBoolean(),
+                                                                                                serializeCache);
             return (ThrowableBooleanBinaryOperator<X> & Memoized) (value1, value2) -> {
                 final boolean returnValue;
-                synchronized (lock) {
+                synchronized (cache) {
                     returnValue = cache.computeIfAbsent(Pair.of(value1, value2), ThrowableFunction.of(
                             key -> applyAsBooleanThrows(key.getLeft(), key.getRight())));
                 }
@@ -654,10 +749,27 @@ public interface ThrowableBooleanBinaryOperator<X extends Throwable> extends Lam
      * this {@code ThrowableBooleanBinaryOperator} with methods provided by the {@code JDK}.
      *
      * @return A composed {@code ThrowableBinaryOperator} which represents this {@code ThrowableBooleanBinaryOperator}.
+     * @implNote The returned {@code ThrowableBinaryOperator} is a {@link DerivedView} of this {@code
+     * ThrowableBooleanBinaryOperator}, so {@link #unboxed(ThrowableBinaryOperator)} returns this {@code
+     * ThrowableBooleanBinaryOperator} instead of wrapping it twice.
      */
     @Nonnull
     default ThrowableBinaryOperator<Boolean, X> boxed() {
-        return this::applyAsBooleanThrows;
+        final class Boxed implements ThrowableBinaryOperator<Boolean, X>, DerivedView {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public Boolean applyThrows(Boolean value1, Boolean value2) throws X {
+                return ThrowableBooleanBinaryOperator.this.applyAsBooleanThrows(value1, value2);
+            }
+
+            @Nonnull
+            @Override
+            public ThrowableBooleanBinaryOperator<X> getSource() {
+                return ThrowableBooleanBinaryOperator.this;
+            }
+        }
+        return new Boxed();
     }
 
     /**
@@ -665,16 +777,22 @@ public interface ThrowableBooleanBinaryOperator<X extends Throwable> extends Lam
      * {@link Throwable} from it. The {@code Throwable} is nested (wrapped) in a {@link
      * ThrownByFunctionalInterfaceException}, which is constructed from the thrown {@code Throwable}s message and the
      * thrown {@code Throwable} itself.
+     * <p>
+     * If stack traces of nested throwables are disabled process-wide using {@link
+     * ThrowableUtils#setStackTraceEnabled(boolean)}, the {@code Throwable} is nested in a {@link
+     * StacklessThrownByFunctionalInterfaceException} instead. To nest it without stack trace for a single operator
+     * only, {@code nest(StacklessThrownByFunctionalInterfaceException::new)} may be used.
      *
      * @return A composed {@link BooleanBinaryOperator} that applies this operator to its input and nests the thrown
      * {@code Throwable} from it.
      * @implNote If thrown {@code Throwable} is of type {@link Error} it is thrown as-is and thus not nested.
      * @see #nest(Function)
      * @see ThrownByFunctionalInterfaceException
+     * @see ThrowableUtils#nest(Throwable)
      */
     @Nonnull
     default BooleanBinaryOperator nest() {
-        return nest(throwable -> new ThrownByFunctionalInterfaceException(throwable.getMessage(), throwable));
+        return nest(ThrowableUtils::nest);
     }
 
     /**
@@ -701,6 +819,9 @@ public interface ThrowableBooleanBinaryOperator<X extends Throwable> extends Lam
      * the {@code recover} operation if a {@link Throwable} is thrown from this one. The {@code recover} operation is
      * represented by a curried operation which is called with throwable information and same arguments of this
      * operator.
+     * <p>
+     * If the {@code recover} operation should dispatch by the class of the thrown {@code Throwable}, a {@link
+     * RecoveryTable} may be used, which resolves the fallback operation only once per {@code Throwable} class.
      *
      * @param recover The operation to apply if this operator throws a {@code Throwable}
      * @return A composed {@link BooleanBinaryOperator} that first applies this operator to its input, and then applies
@@ -710,6 +831,7 @@ public interface ThrowableBooleanBinaryOperator<X extends Throwable> extends Lam
      * {@code null}. If it is, then a {@link NullPointerException} with appropriate message is thrown.
      * @implNote If thrown {@code Throwable} is of type {@link Error}, it is thrown as-is and thus not passed to {@code
      * recover} operation.
+     * @see RecoveryTable
      */
     @Nonnull
     default BooleanBinaryOperator recover(
@@ -729,6 +851,172 @@ public interface ThrowableBooleanBinaryOperator<X extends Throwable> extends Lam
         };
     }
 
+    /**
+     * Returns a composed {@link BiBooleanFunction} that applies this operator to its input and returns its result as
+     * {@link BooleanResult}. If a {@link Throwable} is thrown from this operator, it is not thrown by the composed
+     * function, but returned as failed {@code BooleanResult} instead. This avoids unwinding the stack in workloads with
+     * a high failure rate, as failed results are composed using their {@code map} and {@code flatMap} methods.
+     *
+     * @return A composed {@code BiBooleanFunction} that applies this operator to its input and returns its result as
+     * {@code BooleanResult}.
+     * @implNote If thrown {@code Throwable} is of type {@link Error}, it is thrown as-is and thus not returned as
+     * failed result.
+     * @see BooleanResult
+     */
+    @Nonnull
+    default BiBooleanFunction<BooleanResult> attempt() {
+        return (value1, value2) -> {
+            try {
+                return BooleanResult.success(this.applyAsBooleanThrows(value1, value2));
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable throwable) {
+                return BooleanResult.failure(throwable);
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link ThrowableBooleanBinaryOperator} that applies this operator to its input and retries it
+     * according to the given {@link RetryPolicy}, if a {@link Throwable} is thrown from it. The current thread is
+     * blocked for the delay between two attempts. If the {@code Throwable} is not retried, it is thrown as-is from the
+     * composed operator, thus the type of {@code Throwable} thrown from this operator is preserved.
+     *
+     * @param policy The policy which defines if and when this operator is retried
+     * @return A composed {@code ThrowableBooleanBinaryOperator} that applies this operator to its input and retries it
+     * according to the given {@code RetryPolicy}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see #retryAsync(RetryPolicy, ScheduledExecutorService)
+     */
+    @Nonnull
+    default ThrowableBooleanBinaryOperator<X> retry(@Nonnull final RetryPolicy policy) {
+        Objects.requireNonNull(policy);
+        return (value1, value2) -> {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    return this.applyAsBooleanThrows(value1, value2);
+                } catch (Throwable throwable) {
+                    if (!policy.awaitRetry(throwable, attempt)) {
+                        throw throwable;
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link BiBooleanFunction} that applies this operator asynchronously to its input using the
+     * given scheduler and retries it according to the given {@link RetryPolicy}, if a {@link Throwable} is thrown from
+     * it. The delay between two attempts does not block a thread, as each retry is scheduled on the given scheduler.
+     * The {@link CompletableFuture} returned from the composed function is completed exceptionally with the {@code
+     * Throwable} of the last attempt, if this operator is not retried anymore.
+     *
+     * @param policy The policy which defines if and when this operator is retried
+     * @param scheduler The scheduler to apply this operator with
+     * @return A composed {@code BiBooleanFunction} that applies this operator asynchronously to its input and retries
+     * it according to the given {@code RetryPolicy}.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @see #retry(RetryPolicy)
+     */
+    @Nonnull
+    default BiBooleanFunction<CompletableFuture<Boolean>> retryAsync(@Nonnull final RetryPolicy policy,
+            @Nonnull final ScheduledExecutorService scheduler) {
+        Objects.requireNonNull(policy);
+        Objects.requireNonNull(scheduler);
+        return (value1, value2) -> policy.executeAsync(() -> this.applyAsBooleanThrows(value1, value2), scheduler);
+    }
+
+    /**
+     * Returns a composed {@link ThrowableBooleanBinaryOperator} that applies this operator to its input guarded by a
+     * new {@link CircuitBreaker} created from the given configuration. The circuit breaker is owned by the composed
+     * operator, so all its calls share the same failure rate.
+     *
+     * @param config The configuration of the circuit breaker guarding this operator
+     * @return A composed {@code ThrowableBooleanBinaryOperator} that applies this operator to its input guarded by a
+     * new {@code CircuitBreaker}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see #circuitBroken(CircuitBreaker)
+     */
+    @Nonnull
+    default ThrowableBooleanBinaryOperator<X> circuitBroken(@Nonnull final CircuitBreakerConfig config) {
+        return circuitBroken(CircuitBreaker.of(config));
+    }
+
+    /**
+     * Returns a composed {@link ThrowableBooleanBinaryOperator} that applies this operator to its input guarded by the
+     * given {@link CircuitBreaker}. If the circuit breaker does not permit the call, this operator is not applied and a
+     * {@link CallNotPermittedException} is thrown immediately. Otherwise the outcome of this operator is recorded in
+     * the circuit breaker against the phase in which the call was permitted and any {@link Throwable} thrown from it is
+     * rethrown as-is. To fall back to another result while the circuit breaker is open, {@link #recover(Function)} may
+     * be used on the composed operator.
+     *
+     * @param circuitBreaker The circuit breaker guarding this operator
+     * @return A composed {@code ThrowableBooleanBinaryOperator} that applies this operator to its input guarded by the
+     * given {@code CircuitBreaker}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see #circuitBroken(CircuitBreakerConfig)
+     */
+    @Nonnull
+    default ThrowableBooleanBinaryOperator<X> circuitBroken(@Nonnull final CircuitBreaker circuitBreaker) {
+        Objects.requireNonNull(circuitBreaker);
+        return (value1, value2) -> {
+            final CircuitBreaker.Phase permitted = circuitBreaker.tryAcquirePermission();
+            if (permitted == null) {
+                throw new CallNotPermittedException("CircuitBreaker is " + circuitBreaker.getState());
+            }
+            try {
+                final boolean returnValue = this.applyAsBooleanThrows(value1, value2);
+                circuitBreaker.onSuccess(permitted);
+                return returnValue;
+            } catch (Throwable throwable) {
+                circuitBreaker.onFailure(permitted, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link ThrowableBooleanBinaryOperator} that applies this operator to its input, if less than
+     * the given number of calls of the composed operator are running concurrently. Otherwise the call is rejected
+     * immediately with a {@link CallNotPermittedException}.
+     *
+     * @param maxConcurrent The maximum number of concurrent calls
+     * @return A composed {@code ThrowableBooleanBinaryOperator} that applies this operator to its input, if less than
+     * the given number of calls are running concurrently.
+     * @throws IllegalArgumentException If given argument is not positive
+     * @see #bulkhead(Bulkhead)
+     */
+    @Nonnull
+    default ThrowableBooleanBinaryOperator<X> bulkhead(final int maxConcurrent) {
+        return bulkhead(Bulkhead.of(maxConcurrent));
+    }
+
+    /**
+     * Returns a composed {@link ThrowableBooleanBinaryOperator} that applies this operator to its input, if a permit of
+     * the given {@link Bulkhead} is acquired. Depending on the mode of the bulkhead, the call either waits for a permit
+     * or is rejected with a {@link CallNotPermittedException}. A bulkhead may be shared by several functional
+     * interfaces calling the same dependency.
+     *
+     * @param bulkhead The bulkhead which limits the concurrent calls of this operator
+     * @return A composed {@code ThrowableBooleanBinaryOperator} that applies this operator to its input, if a permit of
+     * the given {@code Bulkhead} is acquired.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see Bulkhead#of(int, Duration)
+     * @see Bulkhead#adaptive(int, int)
+     */
+    @Nonnull
+    default ThrowableBooleanBinaryOperator<X> bulkhead(@Nonnull final Bulkhead bulkhead) {
+        Objects.requireNonNull(bulkhead);
+        return (value1, value2) -> {
+            final long permit = bulkhead.acquirePermission();
+            try {
+                return this.applyAsBooleanThrows(value1, value2);
+            } finally {
+                bulkhead.releasePermission(permit);
+            }
+        };
+    }
+
     /**
      * Returns a composed {@link BooleanBinaryOperator} that applies this operator to its input and sneakily throws the
      * thrown {@link Throwable} from it, if it is not of type {@link RuntimeException} or {@link Error}. This means that
@@ -127,7 +127,7 @@ public interface TernaryOperator<T> extends Lambda, TriFunction<T, T, T, T> {
      */
     @Nonnull
     static <T> TernaryOperator<T> constant(T ret) {
-        return (t, u, v) -> ret;
+        return (TernaryOperator<T> & Constant) (t, u, v) -> ret;
     }
 
 }
\ No newline at end of file
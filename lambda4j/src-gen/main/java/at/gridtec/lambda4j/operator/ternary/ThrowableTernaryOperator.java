@@ -141,7 +141,7 @@ public interface ThrowableTernaryOperator<T, X extends Throwable> extends Lambda
      */
     @Nonnull
     static <T, X extends Throwable> ThrowableTernaryOperator<T, X> constant(T ret) {
-        return (t, u, v) -> ret;
+        return (ThrowableTernaryOperator<T, X> & Constant) (t, u, v) -> ret;
     }
 
 }
\ No newline at end of file
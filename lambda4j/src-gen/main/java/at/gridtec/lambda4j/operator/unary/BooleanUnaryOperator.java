@@ -17,6 +17,10 @@ package at.gridtec.lambda4j.operator.unary;
 
 import at.gridtec.lambda4j.Lambda;
 import at.gridtec.lambda4j.consumer.BooleanConsumer;
+import at.gridtec.lambda4j.core.memoization.Codec;
+import at.gridtec.lambda4j.core.memoization.MemoizationCache;
+import at.gridtec.lambda4j.core.util.DerivedView;
+import at.gridtec.lambda4j.core.util.ParallelArrays;
 import at.gridtec.lambda4j.function.BooleanFunction;
 import at.gridtec.lambda4j.function.conversion.BooleanToByteFunction;
 import at.gridtec.lambda4j.function.conversion.BooleanToCharFunction;
@@ -33,13 +37,17 @@ import at.gridtec.lambda4j.predicate.IntPredicate2;
 import at.gridtec.lambda4j.predicate.LongPredicate2;
 import at.gridtec.lambda4j.predicate.Predicate2;
 import at.gridtec.lambda4j.predicate.ShortPredicate;
+import at.gridtec.lambda4j.resilience.Bulkhead;
+import at.gridtec.lambda4j.resilience.CallNotPermittedException;
+import at.gridtec.lambda4j.supplier.BooleanSupplier2;
+import at.gridtec.lambda4j.supplier.Supplier2;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.DoublePredicate;
 import java.util.function.IntPredicate;
 import java.util.function.LongPredicate;
@@ -107,7 +115,39 @@ public interface BooleanUnaryOperator extends Lambda {
      */
     @Nonnull
     static BooleanUnaryOperator constant(boolean ret) {
-        return (value) -> ret;
+        return (BooleanUnaryOperator & Constant) (value) -> ret;
+    }
+
+    /**
+     * Returns a {@link BooleanUnaryOperator} which represents the given {@link UnaryOperator2}. Thereby the boxed input
+     * arguments and results of the given operator are unboxed to their primitive counterparts. This method is the
+     * inverse of {@link #boxed()}.
+     *
+     * @param boxed The {@code UnaryOperator2} to be represented by the returned {@code BooleanUnaryOperator}
+     * @return A {@code BooleanUnaryOperator} which represents the given {@code UnaryOperator2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implNote If the given {@code UnaryOperator2} was returned from {@link #boxed()}, the original {@code
+     * BooleanUnaryOperator} is returned instead of wrapping it twice. Likewise, {@link #boxed()} of the returned {@code
+     * BooleanUnaryOperator} returns the given {@code UnaryOperator2}.
+     */
+    @Nonnull
+    static BooleanUnaryOperator unboxed(@Nonnull final UnaryOperator2<Boolean> boxed) {
+        Objects.requireNonNull(boxed);
+        if (boxed instanceof DerivedView && ((DerivedView) boxed).getSource() instanceof BooleanUnaryOperator) {
+            return (BooleanUnaryOperator) ((DerivedView) boxed).getSource();
+        }
+        return new BooleanUnaryOperator() {
+            @Override
+            public boolean applyAsBoolean(boolean value) {
+                return boxed.apply(value);
+            }
+
+            @Nonnull
+            @Override
+            public UnaryOperator2<Boolean> boxed() {
+                return boxed;
+            }
+        };
     }
 
     /**
@@ -140,10 +180,24 @@ public interface BooleanUnaryOperator extends Lambda {
      * applies this operator to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to handle every type.
+     * @implNote The composed operator is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
+     * @implNote If this operator is marked as {@link Pure} and the {@code before} predicate is constant (f.e. created
+     * by {@code constant}), this operator is applied only once, when the composed predicate is applied for the first
+     * time. Its result is then returned by each further application. If applying it throws an exception, the exception
+     * is relayed to the caller and it is applied again on the next application.
      */
     @Nonnull
     default <A> Predicate2<A> compose(@Nonnull final Predicate<? super A> before) {
         Objects.requireNonNull(before);
+        if (this instanceof Pure && before instanceof Constant) {
+            final BooleanSupplier2 result = BooleanSupplier2.of(() -> applyAsBoolean(before.test(null))).memoized();
+            return (Predicate2<A> & Pure) (a) -> result.getAsBoolean();
+        }
+        if (this instanceof Pure && before instanceof Pure) {
+            return (Predicate2<A> & Pure) (a) -> applyAsBoolean(before.test(a));
+        } else if (this instanceof ThreadSafe && before instanceof ThreadSafe) {
+            return (Predicate2<A> & ThreadSafe) (a) -> applyAsBoolean(before.test(a));
+        }
         return (a) -> applyAsBoolean(before.test(a));
     }
 
@@ -314,10 +368,26 @@ public interface BooleanUnaryOperator extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote The composed operator is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
+     * @implNote If this operator is constant (f.e. created by {@code constant}) and the {@code after} function is
+     * marked as {@link Pure}, the {@code after} function is applied only once, when the composed function is applied
+     * for the first time. Its result is then returned by each further application. If applying it throws an exception,
+     * the exception is relayed to the caller and it is applied again on the next application.
      */
     @Nonnull
     default <S> BooleanFunction<S> andThen(@Nonnull final BooleanFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (this instanceof Constant && after instanceof Pure) {
+            // The result is held by an optional, so that a null result is memoized as well
+            final Supplier2<Optional<S>> result = Supplier2.of(
+                    () -> Optional.ofNullable(after.apply(applyAsBoolean(false)))).memoized();
+            return (BooleanFunction<S> & Pure) (value) -> result.get().orElse(null);
+        }
+        if (this instanceof Pure && after instanceof Pure) {
+            return (BooleanFunction<S> & Pure) (value) -> after.apply(applyAsBoolean(value));
+        } else if (this instanceof ThreadSafe && after instanceof ThreadSafe) {
+            return (BooleanFunction<S> & ThreadSafe) (value) -> after.apply(applyAsBoolean(value));
+        }
         return (value) -> after.apply(applyAsBoolean(value));
     }
 
@@ -489,6 +559,90 @@ public interface BooleanUnaryOperator extends Lambda {
         return (value) -> consumer.accept(applyAsBoolean(value));
     }
 
+    /**
+     * Applies this operator to each element of the given source array and stores the results in the given destination
+     * array, so that {@code dst[i]} holds the result of {@code src[i]}.
+     *
+     * @param src The array whose elements are applied to this operator
+     * @param dst The array to store the results in, which must be at least as long as the source array
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @throws IllegalArgumentException If the destination array is shorter than the source array
+     * @implNote This implementation checks the array lengths once before applying this operator, so the loop itself is
+     * free of bounds checks. This allows the JIT to vectorize the loop for simple operators.
+     * @see #parallelApplyAll(boolean[], boolean[])
+     */
+    default void applyAll(@Nonnull final boolean[] src, @Nonnull final boolean[] dst) {
+        Objects.requireNonNull(src);
+        Objects.requireNonNull(dst);
+        ParallelArrays.lengthCheck(src.length, dst.length);
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = applyAsBoolean(src[i]);
+        }
+    }
+
+    /**
+     * Applies this operator to each element of the given source array in parallel and stores the results in the given
+     * destination array, so that {@code dst[i]} holds the result of {@code src[i]}. The arrays are split into chunks of
+     * the {@link ParallelArrays#defaultGrainSize(boolean) default grain size}, which is smaller if this operator is
+     * marked as {@link Expensive} (see {@link #isExpensive()}).
+     *
+     * @param src The array whose elements are applied to this operator
+     * @param dst The array to store the results in, which must be at least as long as the source array
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @throws IllegalArgumentException If the destination array is shorter than the source array
+     * @apiNote This operator is only applied concurrently by multiple threads, if it is marked as {@link ThreadSafe}
+     * (see {@link #isThreadSafe()}). Otherwise the chunks are processed one after another by the calling thread.
+     * @see #parallelApplyAll(boolean[], boolean[], int)
+     */
+    default void parallelApplyAll(@Nonnull final boolean[] src, @Nonnull final boolean[] dst) {
+        parallelApplyAll(src, dst, ParallelArrays.defaultGrainSize(isExpensive()));
+    }
+
+    /**
+     * Applies this operator to each element of the given source array in parallel and stores the results in the given
+     * destination array, so that {@code dst[i]} holds the result of {@code src[i]}. The arrays are split into chunks of
+     * at most the given grain size, which are processed by the {@link ForkJoinPool#commonPool()}.
+     *
+     * @param src The array whose elements are applied to this operator
+     * @param dst The array to store the results in, which must be at least as long as the source array
+     * @param grainSize The maximum number of elements to be processed sequentially by one task
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @throws IllegalArgumentException If the destination array is shorter than the source array or the given grain
+     * size is not positive
+     * @apiNote This operator is only applied concurrently by multiple threads, if it is marked as {@link ThreadSafe}
+     * (see {@link #isThreadSafe()}). Otherwise the chunks are processed one after another by the calling thread.
+     * @see ParallelArrays#forEachRange(int, int, int, boolean, ParallelArrays.RangeAction)
+     */
+    default void parallelApplyAll(@Nonnull final boolean[] src, @Nonnull final boolean[] dst, final int grainSize) {
+        Objects.requireNonNull(src);
+        Objects.requireNonNull(dst);
+        ParallelArrays.lengthCheck(src.length, dst.length);
+        ParallelArrays.forEachRange(0, src.length, grainSize, isThreadSafe(), (fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                dst[i] = applyAsBoolean(src[i]);
+            }
+        });
+    }
+
+    /**
+     * Applies this operator to each element of the given range of the given array and replaces each element with its
+     * result. The range extends from index {@code fromIndex}, inclusive, to index {@code toIndex}, exclusive.
+     *
+     * @param array The array whose elements are replaced by their results from this operator
+     * @param fromIndex The index of the first element (inclusive) to be replaced
+     * @param toIndex The index of the last element (exclusive) to be replaced
+     * @throws NullPointerException If given argument is {@code null}
+     * @throws IllegalArgumentException If {@code fromIndex > toIndex}
+     * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0} or {@code toIndex > array.length}
+     */
+    default void applyInPlace(@Nonnull final boolean[] array, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(array);
+        ParallelArrays.rangeCheck(array.length, fromIndex, toIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            array[i] = applyAsBoolean(array[i]);
+        }
+    }
+
     /**
      * Returns a memoized (caching) version of this {@link BooleanUnaryOperator}. Whenever it is called, the mapping
      * between the input parameter and the return value is preserved in a cache, making subsequent calls returning the
@@ -496,23 +650,55 @@ public interface BooleanUnaryOperator extends Lambda {
      * <p>
      * Unless the operator and therefore the used cache will be garbage-collected, it will keep all memoized values
      * forever.
+     * <p>
+     * The returned memoized operator is serializable, if this operator is serializable. Its memoized values are not
+     * written when it gets serialized, so the deserialized operator starts with an empty cache.
      *
      * @return A memoized (caching) version of this {@code BooleanUnaryOperator}.
      * @implSpec This implementation does not allow the input parameter or return value to be {@code null} for the
      * resulting memoized operator, as the cache used internally does not permit {@code null} keys or values.
      * @implNote The returned memoized operator can be safely used concurrently from multiple threads which makes it
      * thread-safe.
+     * @see #memoized(boolean)
      */
     @Nonnull
     default BooleanUnaryOperator memoized() {
+        return memoized(false);
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link BooleanUnaryOperator}. Whenever it is called, the mapping
+     * between the input parameter and the return value is preserved in a cache, making subsequent calls returning the
+     * memoized value instead of computing the return value again.
+     * <p>
+     * Unless the operator and therefore the used cache will be garbage-collected, it will keep all memoized values
+     * forever.
+     * <p>
+     * The returned memoized operator is serializable, if this operator is serializable. If {@code serializeCache} is
+     * {@code true}, a snapshot of all memoized values is written when it gets serialized, so the deserialized operator
+     * starts warm. Otherwise the deserialized operator starts with an empty cache. Primitive values are thereby written
+     * in their binary form.
+     *
+     * @param serializeCache {@code true} if the memoized values should be written when the memoized operator gets
+     * serialized, {@code false} otherwise
+     * @return A memoized (caching) version of this {@code BooleanUnaryOperator}.
+     * @implSpec This implementation does not allow the input parameter or return value to be {@code null} for the
+     * resulting memoized operator, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized operator can be safely used concurrently from multiple threads which makes it
+     * thread-safe. If this operator is already memoized, it is returned as-is regardless of {@code serializeCache}.
+     * @see MemoizationCache
+     */
+    @Nonnull
+    default BooleanUnaryOperator memoized(final boolean serializeCache) {
         if (isMemoized()) {
             return this;
         } else {
-            final Map<Boolean, Boolean> cache = new ConcurrentHashMap<>();
-            final Object lock = new Object();
+            final Codec<Boolean> keyCodec = Codec.ofBoolean();
+            final MemoizationCache<Boolean, Boolean> cache = MemoizationCache.of(keyCodec, Codec.ofBoolean(),
+                                                                                 serializeCache);
             return (BooleanUnaryOperator & Memoized) (value) -> {
                 final boolean returnValue;
-                synchronized (lock) {
+                synchronized (cache) {
                     returnValue = cache.computeIfAbsent(value, this::applyAsBoolean);
                 }
                 return returnValue;
@@ -526,10 +712,68 @@ public interface BooleanUnaryOperator extends Lambda {
      * BooleanUnaryOperator} with methods provided by the {@code JDK}.
      *
      * @return A composed {@code UnaryOperator2} which represents this {@code BooleanUnaryOperator}.
+     * @implNote The returned {@code UnaryOperator2} is a {@link DerivedView} of this {@code BooleanUnaryOperator}, so
+     * {@link #unboxed(UnaryOperator2)} returns this {@code BooleanUnaryOperator} instead of wrapping it twice.
      */
     @Nonnull
     default UnaryOperator2<Boolean> boxed() {
-        return this::applyAsBoolean;
+        final class Boxed implements UnaryOperator2<Boolean>, DerivedView {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public Boolean apply(Boolean value) {
+                return BooleanUnaryOperator.this.applyAsBoolean(value);
+            }
+
+            @Nonnull
+            @Override
+            public BooleanUnaryOperator getSource() {
+                return BooleanUnaryOperator.this;
+            }
+        }
+        return new Boxed();
+    }
+
+    /**
+     * Returns a composed {@link BooleanUnaryOperator} that applies this operator to its input, if less than the given
+     * number of calls of the composed operator are running concurrently. Otherwise the call is rejected immediately
+     * with a {@link CallNotPermittedException}.
+     *
+     * @param maxConcurrent The maximum number of concurrent calls
+     * @return A composed {@code BooleanUnaryOperator} that applies this operator to its input, if less than the given
+     * number of calls are running concurrently.
+     * @throws IllegalArgumentException If given argument is not positive
+     * @see #bulkhead(Bulkhead)
+     */
+    @Nonnull
+    default BooleanUnaryOperator bulkhead(final int maxConcurrent) {
+        return bulkhead(Bulkhead.of(maxConcurrent));
+    }
+
+    /**
+     * Returns a composed {@link BooleanUnaryOperator} that applies this operator to its input, if a permit of the given
+     * {@link Bulkhead} is acquired. Depending on the mode of the bulkhead, the call either waits for a permit or is
+     * rejected with a {@link CallNotPermittedException}. A bulkhead may be shared by several functional interfaces
+     * calling the same dependency.
+     *
+     * @param bulkhead The bulkhead which limits the concurrent calls of this operator
+     * @return A composed {@code BooleanUnaryOperator} that applies this operator to its input, if a permit of the given
+     * {@code Bulkhead} is acquired.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see Bulkhead#of(int, Duration)
+     * @see Bulkhead#adaptive(int, int)
+     */
+    @Nonnull
+    default BooleanUnaryOperator bulkhead(@Nonnull final Bulkhead bulkhead) {
+        Objects.requireNonNull(bulkhead);
+        return (value) -> {
+            final long permit = bulkhead.acquirePermission();
+            try {
+                return this.applyAsBoolean(value);
+            } finally {
+                bulkhead.releasePermission(permit);
+            }
+        };
     }
 
 }
\ No newline at end of file
@@ -99,7 +99,7 @@ public interface ThrowableUnaryOperator<T, X extends Throwable>
      */
     @Nonnull
     static <T, X extends Throwable> ThrowableUnaryOperator<T, X> constant(T ret) {
-        return (t) -> ret;
+        return (ThrowableUnaryOperator<T, X> & Constant) (t) -> ret;
     }
 
 }
\ No newline at end of file
@@ -89,7 +89,7 @@ public interface UnaryOperator2<T> extends Lambda, Function2<T, T>, UnaryOperato
      */
     @Nonnull
     static <T> UnaryOperator2<T> constant(T ret) {
-        return (t) -> ret;
+        return (UnaryOperator2<T> & Constant) (t) -> ret;
     }
 
 }
\ No newline at end of file
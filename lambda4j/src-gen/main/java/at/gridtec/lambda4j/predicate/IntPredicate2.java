@@ -18,6 +18,10 @@ package at.gridtec.lambda4j.predicate;
 import at.gridtec.lambda4j.Lambda;
 import at.gridtec.lambda4j.consumer.BooleanConsumer;
 import at.gridtec.lambda4j.consumer.IntConsumer2;
+import at.gridtec.lambda4j.core.memoization.Codec;
+import at.gridtec.lambda4j.core.memoization.MemoizationCache;
+import at.gridtec.lambda4j.core.util.DerivedView;
+import at.gridtec.lambda4j.core.util.ParallelArrays;
 import at.gridtec.lambda4j.function.BooleanFunction;
 import at.gridtec.lambda4j.function.IntFunction2;
 import at.gridtec.lambda4j.function.conversion.BooleanToByteFunction;
@@ -39,13 +43,20 @@ import at.gridtec.lambda4j.function.conversion.IntToShortFunction;
 import at.gridtec.lambda4j.function.conversion.ShortToIntFunction;
 import at.gridtec.lambda4j.operator.unary.BooleanUnaryOperator;
 import at.gridtec.lambda4j.operator.unary.IntUnaryOperator2;
+import at.gridtec.lambda4j.resilience.Bulkhead;
+import at.gridtec.lambda4j.resilience.CallNotPermittedException;
+import at.gridtec.lambda4j.supplier.BooleanSupplier2;
+import at.gridtec.lambda4j.supplier.Supplier2;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.DoubleToIntFunction;
 import java.util.function.IntPredicate;
 import java.util.function.IntUnaryOperator;
@@ -103,7 +114,7 @@ public interface IntPredicate2 extends Lambda, IntPredicate {
      */
     @Nonnull
     static IntPredicate2 constant(boolean ret) {
-        return (value) -> ret;
+        return (IntPredicate2 & Constant) (value) -> ret;
     }
 
     /**
@@ -114,7 +125,7 @@ public interface IntPredicate2 extends Lambda, IntPredicate {
      */
     @Nonnull
     static IntPredicate2 alwaysTrue() {
-        return (value) -> true;
+        return (IntPredicate2 & Constant) (value) -> true;
     }
 
     /**
@@ -125,7 +136,75 @@ public interface IntPredicate2 extends Lambda, IntPredicate {
      */
     @Nonnull
     static IntPredicate2 alwaysFalse() {
-        return (value) -> false;
+        return (IntPredicate2 & Constant) (value) -> false;
+    }
+
+    /**
+     * Returns a {@link IntPredicate2} that represents the short-circuiting logical AND of all given predicates, which
+     * adapts the order in which the given predicates are evaluated. Cheap predicates which are likely to return {@code
+     * false} are evaluated first.
+     * <p>
+     * The given predicates are only reordered, if all of them are marked as {@link Pure}. Otherwise they are evaluated
+     * in their given order.
+     *
+     * @param predicates The predicates to be logically-ANDed
+     * @return A {@code IntPredicate2} that represents the short-circuiting logical AND of all given predicates.
+     * @throws NullPointerException If given argument or one of its elements is {@code null}
+     * @implNote The given array is copied, so modifying it afterwards does not affect the returned predicate.
+     * @see AdaptiveOrder
+     */
+    @Nonnull
+    static IntPredicate2 adaptiveAnd(@Nonnull final IntPredicate... predicates) {
+        final List<IntPredicate> snapshot = new ArrayList<>(predicates.length);
+        for (final IntPredicate predicate : predicates) {
+            snapshot.add(predicate);
+        }
+        final AdaptiveOrder order = AdaptiveOrder.conjunction(snapshot.toArray());
+        return (value) -> {
+            if (order.shouldSample()) {
+                return order.sample(index -> snapshot.get(index).test(value));
+            }
+            for (final int index : order.get()) {
+                if (!snapshot.get(index).test(value)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    /**
+     * Returns a {@link IntPredicate2} that represents the short-circuiting logical OR of all given predicates, which
+     * adapts the order in which the given predicates are evaluated. Cheap predicates which are likely to return {@code
+     * true} are evaluated first.
+     * <p>
+     * The given predicates are only reordered, if all of them are marked as {@link Pure}. Otherwise they are evaluated
+     * in their given order.
+     *
+     * @param predicates The predicates to be logically-ORed
+     * @return A {@code IntPredicate2} that represents the short-circuiting logical OR of all given predicates.
+     * @throws NullPointerException If given argument or one of its elements is {@code null}
+     * @implNote The given array is copied, so modifying it afterwards does not affect the returned predicate.
+     * @see AdaptiveOrder
+     */
+    @Nonnull
+    static IntPredicate2 adaptiveOr(@Nonnull final IntPredicate... predicates) {
+        final List<IntPredicate> snapshot = new ArrayList<>(predicates.length);
+        for (final IntPredicate predicate : predicates) {
+            snapshot.add(predicate);
+        }
+        final AdaptiveOrder order = AdaptiveOrder.disjunction(snapshot.toArray());
+        return (value) -> {
+            if (order.shouldSample()) {
+                return order.sample(index -> snapshot.get(index).test(value));
+            }
+            for (final int index : order.get()) {
+                if (snapshot.get(index).test(value)) {
+                    return true;
+                }
+            }
+            return false;
+        };
     }
 
     /**
@@ -141,6 +220,38 @@ public interface IntPredicate2 extends Lambda, IntPredicate {
         return (value) -> (value == target);
     }
 
+    /**
+     * Returns a {@link IntPredicate2} which represents the given {@link Predicate2}. Thereby the boxed input arguments
+     * and results of the given predicate are unboxed to their primitive counterparts. This method is the inverse of
+     * {@link #boxed()}.
+     *
+     * @param boxed The {@code Predicate2} to be represented by the returned {@code IntPredicate2}
+     * @return A {@code IntPredicate2} which represents the given {@code Predicate2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implNote If the given {@code Predicate2} was returned from {@link #boxed()}, the original {@code IntPredicate2}
+     * is returned instead of wrapping it twice. Likewise, {@link #boxed()} of the returned {@code IntPredicate2}
+     * returns the given {@code Predicate2}.
+     */
+    @Nonnull
+    static IntPredicate2 unboxed(@Nonnull final Predicate2<Integer> boxed) {
+        Objects.requireNonNull(boxed);
+        if (boxed instanceof DerivedView && ((DerivedView) boxed).getSource() instanceof IntPredicate2) {
+            return (IntPredicate2) ((DerivedView) boxed).getSource();
+        }
+        return new IntPredicate2() {
+            @Override
+            public boolean test(int value) {
+                return boxed.test(value);
+            }
+
+            @Nonnull
+            @Override
+            public Predicate2<Integer> boxed() {
+                return boxed;
+            }
+        };
+    }
+
     /**
      * Applies this predicate to the given argument.
      *
@@ -171,10 +282,24 @@ public interface IntPredicate2 extends Lambda, IntPredicate {
      * applies this predicate to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to handle every type.
+     * @implNote The composed predicate is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
+     * @implNote If this predicate is marked as {@link Pure} and the {@code before} function is constant (f.e. created
+     * by {@code constant}), this predicate is applied only once, when the composed predicate is applied for the first
+     * time. Its result is then returned by each further application. If applying it throws an exception, the exception
+     * is relayed to the caller and it is applied again on the next application.
      */
     @Nonnull
     default <A> Predicate2<A> compose(@Nonnull final ToIntFunction<? super A> before) {
         Objects.requireNonNull(before);
+        if (this instanceof Pure && before instanceof Constant) {
+            final BooleanSupplier2 result = BooleanSupplier2.of(() -> test(before.applyAsInt(null))).memoized();
+            return (Predicate2<A> & Pure) (a) -> result.getAsBoolean();
+        }
+        if (this instanceof Pure && before instanceof Pure) {
+            return (Predicate2<A> & Pure) (a) -> test(before.applyAsInt(a));
+        } else if (this instanceof ThreadSafe && before instanceof ThreadSafe) {
+            return (Predicate2<A> & ThreadSafe) (a) -> test(before.applyAsInt(a));
+        }
         return (a) -> test(before.applyAsInt(a));
     }
 
@@ -345,10 +470,26 @@ public interface IntPredicate2 extends Lambda, IntPredicate {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote The composed predicate is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
+     * @implNote If this predicate is constant (f.e. created by {@code constant}) and the {@code after} function is
+     * marked as {@link Pure}, the {@code after} function is applied only once, when the composed function is applied
+     * for the first time. Its result is then returned by each further application. If applying it throws an exception,
+     * the exception is relayed to the caller and it is applied again on the next application.
      */
     @Nonnull
     default <S> IntFunction2<S> andThen(@Nonnull final BooleanFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (this instanceof Constant && after instanceof Pure) {
+            // The result is held by an optional, so that a null result is memoized as well
+            final Supplier2<Optional<S>> result = Supplier2.of(() -> Optional.ofNullable(after.apply(test(0))))
+                    .memoized();
+            return (IntFunction2<S> & Pure) (value) -> result.get().orElse(null);
+        }
+        if (this instanceof Pure && after instanceof Pure) {
+            return (IntFunction2<S> & Pure) (value) -> after.apply(test(value));
+        } else if (this instanceof ThreadSafe && after instanceof ThreadSafe) {
+            return (IntFunction2<S> & ThreadSafe) (value) -> after.apply(test(value));
+        }
         return (value) -> after.apply(test(value));
     }
 
@@ -520,14 +661,278 @@ public interface IntPredicate2 extends Lambda, IntPredicate {
         return (value) -> consumer.accept(test(value));
     }
 
+    /**
+     * Returns the number of elements of the given array which match this predicate.
+     *
+     * @param array The array whose elements are tested by this predicate
+     * @return The number of elements of the given array which match this predicate.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see #parallelCount(int[])
+     */
+    default int count(@Nonnull final int[] array) {
+        Objects.requireNonNull(array);
+        int count = 0;
+        for (final int element : array) {
+            count += test(element) ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of elements of the given array which match this predicate. The elements are tested in
+     * parallel, whereas the array is split into chunks of the {@link ParallelArrays#defaultGrainSize(boolean) default
+     * grain size}, which is smaller if this predicate is marked as {@link Expensive} (see {@link #isExpensive()}).
+     *
+     * @param array The array whose elements are tested by this predicate
+     * @return The number of elements of the given array which match this predicate.
+     * @throws NullPointerException If given argument is {@code null}
+     * @apiNote This predicate is only applied concurrently by multiple threads, if it is marked as {@link ThreadSafe}
+     * (see {@link #isThreadSafe()}). Otherwise the chunks are processed one after another by the calling thread.
+     * @see #parallelCount(int[], int)
+     */
+    default int parallelCount(@Nonnull final int[] array) {
+        return parallelCount(array, ParallelArrays.defaultGrainSize(isExpensive()));
+    }
+
+    /**
+     * Returns the number of elements of the given array which match this predicate. The elements are tested in
+     * parallel, whereas the array is split into chunks of the given grain size, which are processed by the {@link
+     * ForkJoinPool#commonPool()}.
+     *
+     * @param array The array whose elements are tested by this predicate
+     * @param grainSize The maximum number of elements to be tested sequentially by one task
+     * @return The number of elements of the given array which match this predicate.
+     * @throws NullPointerException If given argument is {@code null}
+     * @throws IllegalArgumentException If the given grain size is not positive
+     * @apiNote This predicate is only applied concurrently by multiple threads, if it is marked as {@link ThreadSafe}
+     * (see {@link #isThreadSafe()}). Otherwise the chunks are processed one after another by the calling thread.
+     * @see ParallelArrays#forEachChunk(int, int, boolean, ParallelArrays.ChunkAction)
+     */
+    default int parallelCount(@Nonnull final int[] array, final int grainSize) {
+        Objects.requireNonNull(array);
+        final int[] counts = new int[ParallelArrays.chunkCount(array.length, grainSize)];
+        ParallelArrays.forEachChunk(array.length, grainSize, isThreadSafe(), (chunk, fromIndex, toIndex) -> {
+            int count = 0;
+            for (int i = fromIndex; i < toIndex; i++) {
+                count += test(array[i]) ? 1 : 0;
+            }
+            counts[chunk] = count;
+        });
+        int count = 0;
+        for (final int chunkCount : counts) {
+            count += chunkCount;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the indices of the elements of the given array which match this predicate in ascending order.
+     *
+     * @param array The array whose elements are tested by this predicate
+     * @return The indices of the elements of the given array which match this predicate.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see #select(int[], int[])
+     * @see #parallelSelect(int[])
+     */
+    @Nonnull
+    default int[] select(@Nonnull final int[] array) {
+        Objects.requireNonNull(array);
+        final int[] selection = new int[array.length];
+        return Arrays.copyOf(selection, select(array, selection));
+    }
+
+    /**
+     * Stores the indices of the elements of the given array which match this predicate in ascending order at the
+     * beginning of the given selection array and returns their number. The elements of the selection array beyond the
+     * returned number are undefined.
+     *
+     * @param array The array whose elements are tested by this predicate
+     * @param selection The array to store the indices in, which must be at least as long as the given array
+     * @return The number of indices stored in the given selection array.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @throws IllegalArgumentException If the selection array is shorter than the given array
+     * @implNote This implementation stores the index of each element unconditionally and advances the number of
+     * selected indices by the result of the test, so the loop itself is free of data dependent branches.
+     */
+    default int select(@Nonnull final int[] array, @Nonnull final int[] selection) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(selection);
+        ParallelArrays.lengthCheck(array.length, selection.length);
+        int count = 0;
+        for (int i = 0; i < array.length; i++) {
+            selection[count] = i;
+            count += test(array[i]) ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the indices of the elements of the given array which match this predicate in ascending order. The
+     * elements are tested in parallel, whereas the array is split into chunks of the {@link
+     * ParallelArrays#defaultGrainSize(boolean) default grain size}, which is smaller if this predicate is marked as
+     * {@link Expensive} (see {@link #isExpensive()}).
+     *
+     * @param array The array whose elements are tested by this predicate
+     * @return The indices of the elements of the given array which match this predicate.
+     * @throws NullPointerException If given argument is {@code null}
+     * @apiNote This predicate is only applied concurrently by multiple threads, if it is marked as {@link ThreadSafe}
+     * (see {@link #isThreadSafe()}). Otherwise the chunks are processed one after another by the calling thread.
+     * @see #parallelSelect(int[], int)
+     */
+    @Nonnull
+    default int[] parallelSelect(@Nonnull final int[] array) {
+        return parallelSelect(array, ParallelArrays.defaultGrainSize(isExpensive()));
+    }
+
+    /**
+     * Returns the indices of the elements of the given array which match this predicate in ascending order. The
+     * elements are tested in parallel, whereas the array is split into chunks of the given grain size, which are
+     * processed by the {@link ForkJoinPool#commonPool()}.
+     *
+     * @param array The array whose elements are tested by this predicate
+     * @param grainSize The maximum number of elements to be tested sequentially by one task
+     * @return The indices of the elements of the given array which match this predicate.
+     * @throws NullPointerException If given argument is {@code null}
+     * @throws IllegalArgumentException If the given grain size is not positive
+     * @apiNote This predicate is only applied concurrently by multiple threads, if it is marked as {@link ThreadSafe}
+     * (see {@link #isThreadSafe()}). Otherwise the chunks are processed one after another by the calling thread.
+     * @implNote This implementation stores the selected indices of each chunk at the beginning of the chunk in a buffer
+     * as long as the given array, which are then moved together in chunk order. So each element is tested only once.
+     * @see ParallelArrays#compactChunks(Object, int[], int)
+     */
+    @Nonnull
+    default int[] parallelSelect(@Nonnull final int[] array, final int grainSize) {
+        Objects.requireNonNull(array);
+        final int[] selection = new int[array.length];
+        final int[] counts = new int[ParallelArrays.chunkCount(array.length, grainSize)];
+        ParallelArrays.forEachChunk(array.length, grainSize, isThreadSafe(), (chunk, fromIndex, toIndex) -> {
+            int count = fromIndex;
+            for (int i = fromIndex; i < toIndex; i++) {
+                selection[count] = i;
+                count += test(array[i]) ? 1 : 0;
+            }
+            counts[chunk] = count - fromIndex;
+        });
+        return Arrays.copyOf(selection, ParallelArrays.compactChunks(selection, counts, grainSize));
+    }
+
+    /**
+     * Returns the elements of the given array which match this predicate in their original order.
+     *
+     * @param array The array whose elements are tested by this predicate
+     * @return The elements of the given array which match this predicate.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see #filter(int[], int[])
+     * @see #parallelFilter(int[])
+     */
+    @Nonnull
+    default int[] filter(@Nonnull final int[] array) {
+        Objects.requireNonNull(array);
+        final int[] dst = new int[array.length];
+        return Arrays.copyOf(dst, filter(array, dst));
+    }
+
+    /**
+     * Stores the elements of the given array which match this predicate in their original order at the beginning of the
+     * given destination array and returns their number. The elements of the destination array beyond the returned
+     * number are undefined.
+     *
+     * @param array The array whose elements are tested by this predicate
+     * @param dst The array to store the matching elements in, which must be at least as long as the given array
+     * @return The number of elements stored in the given destination array.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @throws IllegalArgumentException If the destination array is shorter than the given array
+     * @implNote This implementation stores each element unconditionally and advances the number of matching elements by
+     * the result of the test, so the loop itself is free of data dependent branches.
+     */
+    default int filter(@Nonnull final int[] array, @Nonnull final int[] dst) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(dst);
+        ParallelArrays.lengthCheck(array.length, dst.length);
+        int count = 0;
+        for (final int element : array) {
+            dst[count] = element;
+            count += test(element) ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the elements of the given array which match this predicate in their original order. The elements are
+     * tested in parallel, whereas the array is split into chunks of the {@link ParallelArrays#defaultGrainSize(boolean)
+     * default grain size}, which is smaller if this predicate is marked as {@link Expensive} (see {@link
+     * #isExpensive()}).
+     *
+     * @param array The array whose elements are tested by this predicate
+     * @return The elements of the given array which match this predicate.
+     * @throws NullPointerException If given argument is {@code null}
+     * @apiNote This predicate is only applied concurrently by multiple threads, if it is marked as {@link ThreadSafe}
+     * (see {@link #isThreadSafe()}). Otherwise the chunks are processed one after another by the calling thread.
+     * @see #parallelFilter(int[], int)
+     */
+    @Nonnull
+    default int[] parallelFilter(@Nonnull final int[] array) {
+        return parallelFilter(array, ParallelArrays.defaultGrainSize(isExpensive()));
+    }
+
+    /**
+     * Returns the elements of the given array which match this predicate in their original order. The elements are
+     * tested in parallel, whereas the array is split into chunks of the given grain size, which are processed by the
+     * {@link ForkJoinPool#commonPool()}.
+     *
+     * @param array The array whose elements are tested by this predicate
+     * @param grainSize The maximum number of elements to be tested sequentially by one task
+     * @return The elements of the given array which match this predicate.
+     * @throws NullPointerException If given argument is {@code null}
+     * @throws IllegalArgumentException If the given grain size is not positive
+     * @apiNote This predicate is only applied concurrently by multiple threads, if it is marked as {@link ThreadSafe}
+     * (see {@link #isThreadSafe()}). Otherwise the chunks are processed one after another by the calling thread.
+     * @implNote This implementation stores the matching elements of each chunk at the beginning of the chunk in a
+     * buffer as long as the given array, which are then moved together in chunk order. So each element is tested only
+     * once.
+     * @see ParallelArrays#compactChunks(Object, int[], int)
+     */
+    @Nonnull
+    default int[] parallelFilter(@Nonnull final int[] array, final int grainSize) {
+        Objects.requireNonNull(array);
+        final int[] dst = new int[array.length];
+        final int[] counts = new int[ParallelArrays.chunkCount(array.length, grainSize)];
+        ParallelArrays.forEachChunk(array.length, grainSize, isThreadSafe(), (chunk, fromIndex, toIndex) -> {
+            int count = fromIndex;
+            for (int i = fromIndex; i < toIndex; i++) {
+                final int element = array[i];
+                dst[count] = element;
+                count += test(element) ? 1 : 0;
+            }
+            counts[chunk] = count - fromIndex;
+        });
+        return Arrays.copyOf(dst, ParallelArrays.compactChunks(dst, counts, grainSize));
+    }
+
     /**
      * Returns a {@link IntPredicate2} that represents the logical negation of this one.
      *
      * @return A {@code IntPredicate2} that represents the logical negation of this one.
+     * @implNote Negating the returned predicate again returns this predicate instead of wrapping it twice. If this
+     * predicate is constant (f.e. created by {@link #alwaysTrue()}), the opposite constant predicate is returned.
      */
     @Nonnull
     default IntPredicate2 negate() {
-        return (value) -> !test(value);
+        if (this instanceof Constant) {
+            return test(0) ? alwaysFalse() : alwaysTrue();
+        }
+        return new IntPredicate2() {
+            @Override
+            public boolean test(int value) {
+                return !IntPredicate2.this.test(value);
+            }
+
+            @Nonnull
+            @Override
+            public IntPredicate2 negate() {
+                return IntPredicate2.this;
+            }
+        };
     }
 
     /**
@@ -542,12 +947,30 @@ public interface IntPredicate2 extends Lambda, IntPredicate {
      * @return A composed {@code IntPredicate2} that represents the short-circuiting logical AND of this predicate and
      * the {@code other} predicate.
      * @throws NullPointerException If given argument is {@code null}
+     * @implNote The composed predicate is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
+     * @implNote If this predicate is constant (f.e. created by {@link #alwaysTrue()}), the composed predicate is
+     * simplified to either this or the {@code other} predicate. The same applies, if the {@code other} predicate is
+     * constant and always returns {@code true}.
      * @see #or(IntPredicate)
      * @see #xor(IntPredicate)
      */
     @Nonnull
     default IntPredicate2 and(@Nonnull final IntPredicate other) {
         Objects.requireNonNull(other);
+        if (this instanceof Constant) {
+            if (!test(0)) {
+                return this;
+            } else if (other instanceof IntPredicate2) {
+                return (IntPredicate2) other;
+            }
+        } else if (other instanceof Constant && other.test(0)) {
+            return this;
+        }
+        if (this instanceof Pure && other instanceof Pure) {
+            return (IntPredicate2 & Pure) (value) -> test(value) && other.test(value);
+        } else if (this instanceof ThreadSafe && other instanceof ThreadSafe) {
+            return (IntPredicate2 & ThreadSafe) (value) -> test(value) && other.test(value);
+        }
         return (value) -> test(value) && other.test(value);
     }
 
@@ -563,12 +986,30 @@ public interface IntPredicate2 extends Lambda, IntPredicate {
      * @return A composed {@code IntPredicate2} that represents the short-circuiting logical OR of this predicate and
      * the {@code other} predicate.
      * @throws NullPointerException If given argument is {@code null}
+     * @implNote The composed predicate is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
+     * @implNote If this predicate is constant (f.e. created by {@link #alwaysFalse()}), the composed predicate is
+     * simplified to either this or the {@code other} predicate. The same applies, if the {@code other} predicate is
+     * constant and always returns {@code false}.
      * @see #and(IntPredicate)
      * @see #xor(IntPredicate)
      */
     @Nonnull
     default IntPredicate2 or(@Nonnull final IntPredicate other) {
         Objects.requireNonNull(other);
+        if (this instanceof Constant) {
+            if (test(0)) {
+                return this;
+            } else if (other instanceof IntPredicate2) {
+                return (IntPredicate2) other;
+            }
+        } else if (other instanceof Constant && !other.test(0)) {
+            return this;
+        }
+        if (this instanceof Pure && other instanceof Pure) {
+            return (IntPredicate2 & Pure) (value) -> test(value) || other.test(value);
+        } else if (this instanceof ThreadSafe && other instanceof ThreadSafe) {
+            return (IntPredicate2 & ThreadSafe) (value) -> test(value) || other.test(value);
+        }
         return (value) -> test(value) || other.test(value);
     }
 
@@ -597,23 +1038,55 @@ public interface IntPredicate2 extends Lambda, IntPredicate {
      * <p>
      * Unless the predicate and therefore the used cache will be garbage-collected, it will keep all memoized values
      * forever.
+     * <p>
+     * The returned memoized predicate is serializable, if this predicate is serializable. Its memoized values are not
+     * written when it gets serialized, so the deserialized predicate starts with an empty cache.
      *
      * @return A memoized (caching) version of this {@code IntPredicate2}.
      * @implSpec This implementation does not allow the input parameter or return value to be {@code null} for the
      * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
      * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
      * thread-safe.
+     * @see #memoized(boolean)
      */
     @Nonnull
     default IntPredicate2 memoized() {
+        return memoized(false);
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link IntPredicate2}. Whenever it is called, the mapping between
+     * the input parameter and the return value is preserved in a cache, making subsequent calls returning the memoized
+     * value instead of computing the return value again.
+     * <p>
+     * Unless the predicate and therefore the used cache will be garbage-collected, it will keep all memoized values
+     * forever.
+     * <p>
+     * The returned memoized predicate is serializable, if this predicate is serializable. If {@code serializeCache} is
+     * {@code true}, a snapshot of all memoized values is written when it gets serialized, so the deserialized predicate
+     * starts warm. Otherwise the deserialized predicate starts with an empty cache. Primitive values are thereby
+     * written in their binary form.
+     *
+     * @param serializeCache {@code true} if the memoized values should be written when the memoized predicate gets
+     * serialized, {@code false} otherwise
+     * @return A memoized (caching) version of this {@code IntPredicate2}.
+     * @implSpec This implementation does not allow the input parameter or return value to be {@code null} for the
+     * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
+     * thread-safe. If this predicate is already memoized, it is returned as-is regardless of {@code serializeCache}.
+     * @see MemoizationCache
+     */
+    @Nonnull
+    default IntPredicate2 memoized(final boolean serializeCache) {
         if (isMemoized()) {
             return this;
         } else {
-            final Map<Integer, Boolean> cache = new ConcurrentHashMap<>();
-            final Object lock = new Object();
+            final Codec<Integer> keyCodec = Codec.ofInt();
+            final MemoizationCache<Integer, Boolean> cache = MemoizationCache.of(keyCodec, Codec.ofBoolean(),
+                                                                                 serializeCache);
             return (IntPredicate2 & Memoized) (value) -> {
                 final boolean returnValue;
-                synchronized (lock) {
+                synchronized (cache) {
                     returnValue = cache.computeIfAbsent(value, this::test);
                 }
                 return returnValue;
@@ -627,10 +1100,68 @@ public interface IntPredicate2 extends Lambda, IntPredicate {
      * {@code IntPredicate2} with methods provided by the {@code JDK}.
      *
      * @return A composed {@code Predicate2} which represents this {@code IntPredicate2}.
+     * @implNote The returned {@code Predicate2} is a {@link DerivedView} of this {@code IntPredicate2}, so {@link
+     * #unboxed(Predicate2)} returns this {@code IntPredicate2} instead of wrapping it twice.
      */
     @Nonnull
     default Predicate2<Integer> boxed() {
-        return this::test;
+        final class Boxed implements Predicate2<Integer>, DerivedView {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public boolean test(Integer value) {
+                return IntPredicate2.this.test(value);
+            }
+
+            @Nonnull
+            @Override
+            public IntPredicate2 getSource() {
+                return IntPredicate2.this;
+            }
+        }
+        return new Boxed();
+    }
+
+    /**
+     * Returns a composed {@link IntPredicate2} that applies this predicate to its input, if less than the given number
+     * of calls of the composed predicate are running concurrently. Otherwise the call is rejected immediately with a
+     * {@link CallNotPermittedException}.
+     *
+     * @param maxConcurrent The maximum number of concurrent calls
+     * @return A composed {@code IntPredicate2} that applies this predicate to its input, if less than the given number
+     * of calls are running concurrently.
+     * @throws IllegalArgumentException If given argument is not positive
+     * @see #bulkhead(Bulkhead)
+     */
+    @Nonnull
+    default IntPredicate2 bulkhead(final int maxConcurrent) {
+        return bulkhead(Bulkhead.of(maxConcurrent));
+    }
+
+    /**
+     * Returns a composed {@link IntPredicate2} that applies this predicate to its input, if a permit of the given
+     * {@link Bulkhead} is acquired. Depending on the mode of the bulkhead, the call either waits for a permit or is
+     * rejected with a {@link CallNotPermittedException}. A bulkhead may be shared by several functional interfaces
+     * calling the same dependency.
+     *
+     * @param bulkhead The bulkhead which limits the concurrent calls of this predicate
+     * @return A composed {@code IntPredicate2} that applies this predicate to its input, if a permit of the given
+     * {@code Bulkhead} is acquired.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see Bulkhead#of(int, Duration)
+     * @see Bulkhead#adaptive(int, int)
+     */
+    @Nonnull
+    default IntPredicate2 bulkhead(@Nonnull final Bulkhead bulkhead) {
+        Objects.requireNonNull(bulkhead);
+        return (value) -> {
+            final long permit = bulkhead.acquirePermission();
+            try {
+                return this.test(value);
+            } finally {
+                bulkhead.releasePermission(permit);
+            }
+        };
     }
 
 }
\ No newline at end of file
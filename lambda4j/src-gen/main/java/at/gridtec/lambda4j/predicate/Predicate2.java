@@ -18,6 +18,8 @@ package at.gridtec.lambda4j.predicate;
 import at.gridtec.lambda4j.Lambda;
 import at.gridtec.lambda4j.consumer.BooleanConsumer;
 import at.gridtec.lambda4j.consumer.Consumer2;
+import at.gridtec.lambda4j.core.memoization.Codec;
+import at.gridtec.lambda4j.core.memoization.MemoizationCache;
 import at.gridtec.lambda4j.function.BooleanFunction;
 import at.gridtec.lambda4j.function.Function2;
 import at.gridtec.lambda4j.function.conversion.BooleanToByteFunction;
@@ -35,13 +37,18 @@ import at.gridtec.lambda4j.function.to.ToIntFunction2;
 import at.gridtec.lambda4j.function.to.ToLongFunction2;
 import at.gridtec.lambda4j.function.to.ToShortFunction;
 import at.gridtec.lambda4j.operator.unary.BooleanUnaryOperator;
+import at.gridtec.lambda4j.resilience.Bulkhead;
+import at.gridtec.lambda4j.resilience.CallNotPermittedException;
+import at.gridtec.lambda4j.supplier.BooleanSupplier2;
+import at.gridtec.lambda4j.supplier.Supplier2;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -99,7 +106,7 @@ public interface Predicate2<T> extends Lambda, Predicate<T> {
      */
     @Nonnull
     static <T> Predicate2<T> constant(boolean ret) {
-        return (t) -> ret;
+        return (Predicate2<T> & Constant) (t) -> ret;
     }
 
     /**
@@ -111,7 +118,7 @@ public interface Predicate2<T> extends Lambda, Predicate<T> {
      */
     @Nonnull
     static <T> Predicate2<T> alwaysTrue() {
-        return (t) -> true;
+        return (Predicate2<T> & Constant) (t) -> true;
     }
 
     /**
@@ -123,7 +130,79 @@ public interface Predicate2<T> extends Lambda, Predicate<T> {
      */
     @Nonnull
     static <T> Predicate2<T> alwaysFalse() {
-        return (t) -> false;
+        return (Predicate2<T> & Constant) (t) -> false;
+    }
+
+    /**
+     * Returns a {@link Predicate2} that represents the short-circuiting logical AND of all given predicates, which
+     * adapts the order in which the given predicates are evaluated. Cheap predicates which are likely to return {@code
+     * false} are evaluated first.
+     * <p>
+     * The given predicates are only reordered, if all of them are marked as {@link Pure}. Otherwise they are evaluated
+     * in their given order.
+     *
+     * @param <T> The type of the argument to the predicate
+     * @param predicates The predicates to be logically-ANDed
+     * @return A {@code Predicate2} that represents the short-circuiting logical AND of all given predicates.
+     * @throws NullPointerException If given argument or one of its elements is {@code null}
+     * @implNote The given array is copied, so modifying it afterwards does not affect the returned predicate.
+     * @see AdaptiveOrder
+     */
+    @Nonnull
+    @SafeVarargs
+    static <T> Predicate2<T> adaptiveAnd(@Nonnull final Predicate<? super T>... predicates) {
+        final List<Predicate<? super T>> snapshot = new ArrayList<>(predicates.length);
+        for (final Predicate<? super T> predicate : predicates) {
+            snapshot.add(predicate);
+        }
+        final AdaptiveOrder order = AdaptiveOrder.conjunction(snapshot.toArray());
+        return (t) -> {
+            if (order.shouldSample()) {
+                return order.sample(index -> snapshot.get(index).test(t));
+            }
+            for (final int index : order.get()) {
+                if (!snapshot.get(index).test(t)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    /**
+     * Returns a {@link Predicate2} that represents the short-circuiting logical OR of all given predicates, which
+     * adapts the order in which the given predicates are evaluated. Cheap predicates which are likely to return {@code
+     * true} are evaluated first.
+     * <p>
+     * The given predicates are only reordered, if all of them are marked as {@link Pure}. Otherwise they are evaluated
+     * in their given order.
+     *
+     * @param <T> The type of the argument to the predicate
+     * @param predicates The predicates to be logically-ORed
+     * @return A {@code Predicate2} that represents the short-circuiting logical OR of all given predicates.
+     * @throws NullPointerException If given argument or one of its elements is {@code null}
+     * @implNote The given array is copied, so modifying it afterwards does not affect the returned predicate.
+     * @see AdaptiveOrder
+     */
+    @Nonnull
+    @SafeVarargs
+    static <T> Predicate2<T> adaptiveOr(@Nonnull final Predicate<? super T>... predicates) {
+        final List<Predicate<? super T>> snapshot = new ArrayList<>(predicates.length);
+        for (final Predicate<? super T> predicate : predicates) {
+            snapshot.add(predicate);
+        }
+        final AdaptiveOrder order = AdaptiveOrder.disjunction(snapshot.toArray());
+        return (t) -> {
+            if (order.shouldSample()) {
+                return order.sample(index -> snapshot.get(index).test(t));
+            }
+            for (final int index : order.get()) {
+                if (snapshot.get(index).test(t)) {
+                    return true;
+                }
+            }
+            return false;
+        };
     }
 
     /**
@@ -170,10 +249,24 @@ public interface Predicate2<T> extends Lambda, Predicate<T> {
      * applies this predicate to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to handle every type.
+     * @implNote The composed predicate is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
+     * @implNote If this predicate is marked as {@link Pure} and the {@code before} function is constant (f.e. created
+     * by {@code constant}), this predicate is applied only once, when the composed predicate is applied for the first
+     * time. Its result is then returned by each further application. If applying it throws an exception, the exception
+     * is relayed to the caller and it is applied again on the next application.
      */
     @Nonnull
     default <A> Predicate2<A> compose(@Nonnull final Function<? super A, ? extends T> before) {
         Objects.requireNonNull(before);
+        if (this instanceof Pure && before instanceof Constant) {
+            final BooleanSupplier2 result = BooleanSupplier2.of(() -> test(before.apply(null))).memoized();
+            return (Predicate2<A> & Pure) (a) -> result.getAsBoolean();
+        }
+        if (this instanceof Pure && before instanceof Pure) {
+            return (Predicate2<A> & Pure) (a) -> test(before.apply(a));
+        } else if (this instanceof ThreadSafe && before instanceof ThreadSafe) {
+            return (Predicate2<A> & ThreadSafe) (a) -> test(before.apply(a));
+        }
         return (a) -> test(before.apply(a));
     }
 
@@ -188,10 +281,26 @@ public interface Predicate2<T> extends Lambda, Predicate<T> {
      * after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote The composed predicate is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
+     * @implNote If this predicate is constant (f.e. created by {@code constant}) and the {@code after} function is
+     * marked as {@link Pure}, the {@code after} function is applied only once, when the composed function is applied
+     * for the first time. Its result is then returned by each further application. If applying it throws an exception,
+     * the exception is relayed to the caller and it is applied again on the next application.
      */
     @Nonnull
     default <S> Function2<T, S> andThen(@Nonnull final BooleanFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (this instanceof Constant && after instanceof Pure) {
+            // The result is held by an optional, so that a null result is memoized as well
+            final Supplier2<Optional<S>> result = Supplier2.of(() -> Optional.ofNullable(after.apply(test(null))))
+                    .memoized();
+            return (Function2<T, S> & Pure) (t) -> result.get().orElse(null);
+        }
+        if (this instanceof Pure && after instanceof Pure) {
+            return (Function2<T, S> & Pure) (t) -> after.apply(test(t));
+        } else if (this instanceof ThreadSafe && after instanceof ThreadSafe) {
+            return (Function2<T, S> & ThreadSafe) (t) -> after.apply(test(t));
+        }
         return (t) -> after.apply(test(t));
     }
 
@@ -367,10 +476,26 @@ public interface Predicate2<T> extends Lambda, Predicate<T> {
      * Returns a {@link Predicate2} that represents the logical negation of this one.
      *
      * @return A {@code Predicate2} that represents the logical negation of this one.
+     * @implNote Negating the returned predicate again returns this predicate instead of wrapping it twice. If this
+     * predicate is constant (f.e. created by {@link #alwaysTrue()}), the opposite constant predicate is returned.
      */
     @Nonnull
     default Predicate2<T> negate() {
-        return (t) -> !test(t);
+        if (this instanceof Constant) {
+            return test(null) ? alwaysFalse() : alwaysTrue();
+        }
+        return new Predicate2<T>() {
+            @Override
+            public boolean test(T t) {
+                return !Predicate2.this.test(t);
+            }
+
+            @Nonnull
+            @Override
+            public Predicate2<T> negate() {
+                return Predicate2.this;
+            }
+        };
     }
 
     /**
@@ -385,12 +510,31 @@ public interface Predicate2<T> extends Lambda, Predicate<T> {
      * @return A composed {@code Predicate2} that represents the short-circuiting logical AND of this predicate and the
      * {@code other} predicate.
      * @throws NullPointerException If given argument is {@code null}
+     * @implNote The composed predicate is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
+     * @implNote If this predicate is constant (f.e. created by {@link #alwaysTrue()}), the composed predicate is
+     * simplified to either this or the {@code other} predicate. The same applies, if the {@code other} predicate is
+     * constant and always returns {@code true}.
      * @see #or(Predicate)
      * @see #xor(Predicate)
      */
     @Nonnull
+    @SuppressWarnings("unchecked")
     default Predicate2<T> and(@Nonnull final Predicate<? super T> other) {
         Objects.requireNonNull(other);
+        if (this instanceof Constant) {
+            if (!test(null)) {
+                return this;
+            } else if (other instanceof Predicate2) {
+                return (Predicate2<T>) other;
+            }
+        } else if (other instanceof Constant && other.test(null)) {
+            return this;
+        }
+        if (this instanceof Pure && other instanceof Pure) {
+            return (Predicate2<T> & Pure) (t) -> test(t) && other.test(t);
+        } else if (this instanceof ThreadSafe && other instanceof ThreadSafe) {
+            return (Predicate2<T> & ThreadSafe) (t) -> test(t) && other.test(t);
+        }
         return (t) -> test(t) && other.test(t);
     }
 
@@ -406,12 +550,31 @@ public interface Predicate2<T> extends Lambda, Predicate<T> {
      * @return A composed {@code Predicate2} that represents the short-circuiting logical OR of this predicate and the
      * {@code other} predicate.
      * @throws NullPointerException If given argument is {@code null}
+     * @implNote The composed predicate is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
+     * @implNote If this predicate is constant (f.e. created by {@link #alwaysFalse()}), the composed predicate is
+     * simplified to either this or the {@code other} predicate. The same applies, if the {@code other} predicate is
+     * constant and always returns {@code false}.
      * @see #and(Predicate)
      * @see #xor(Predicate)
      */
     @Nonnull
+    @SuppressWarnings("unchecked")
     default Predicate2<T> or(@Nonnull final Predicate<? super T> other) {
         Objects.requireNonNull(other);
+        if (this instanceof Constant) {
+            if (test(null)) {
+                return this;
+            } else if (other instanceof Predicate2) {
+                return (Predicate2<T>) other;
+            }
+        } else if (other instanceof Constant && !other.test(null)) {
+            return this;
+        }
+        if (this instanceof Pure && other instanceof Pure) {
+            return (Predicate2<T> & Pure) (t) -> test(t) || other.test(t);
+        } else if (this instanceof ThreadSafe && other instanceof ThreadSafe) {
+            return (Predicate2<T> & ThreadSafe) (t) -> test(t) || other.test(t);
+        }
         return (t) -> test(t) || other.test(t);
     }
 
@@ -450,23 +613,54 @@ public interface Predicate2<T> extends Lambda, Predicate<T> {
      * <p>
      * Unless the predicate and therefore the used cache will be garbage-collected, it will keep all memoized values
      * forever.
+     * <p>
+     * The returned memoized predicate is serializable, if this predicate is serializable. Its memoized values are not
+     * written when it gets serialized, so the deserialized predicate starts with an empty cache.
      *
      * @return A memoized (caching) version of this {@code Predicate2}.
      * @implSpec This implementation does not allow the input parameter or return value to be {@code null} for the
      * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
      * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
      * thread-safe.
+     * @see #memoized(boolean)
      */
     @Nonnull
     default Predicate2<T> memoized() {
+        return memoized(false);
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link Predicate2}. Whenever it is called, the mapping between the
+     * input parameter and the return value is preserved in a cache, making subsequent calls returning the memoized
+     * value instead of computing the return value again.
+     * <p>
+     * Unless the predicate and therefore the used cache will be garbage-collected, it will keep all memoized values
+     * forever.
+     * <p>
+     * The returned memoized predicate is serializable, if this predicate is serializable. If {@code serializeCache} is
+     * {@code true}, a snapshot of all memoized values is written when it gets serialized, so the deserialized predicate
+     * starts warm. Otherwise the deserialized predicate starts with an empty cache. Primitive values are thereby
+     * written in their binary form.
+     *
+     * @param serializeCache {@code true} if the memoized values should be written when the memoized predicate gets
+     * serialized, {@code false} otherwise
+     * @return A memoized (caching) version of this {@code Predicate2}.
+     * @implSpec This implementation does not allow the input parameter or return value to be {@code null} for the
+     * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
+     * thread-safe. If this predicate is already memoized, it is returned as-is regardless of {@code serializeCache}.
+     * @see MemoizationCache
+     */
+    @Nonnull
+    default Predicate2<T> memoized(final boolean serializeCache) {
         if (isMemoized()) {
             return this;
         } else {
-            final Map<T, Boolean> cache = new ConcurrentHashMap<>();
-            final Object lock = new Object();
+            final Codec<T> keyCodec = Codec.ofObject();
+            final MemoizationCache<T, Boolean> cache = MemoizationCache.of(keyCodec, Codec.ofBoolean(), serializeCache);
             return (Predicate2<T> & Memoized) (t) -> {
                 final boolean returnValue;
-                synchronized (lock) {
+                synchronized (cache) {
                     returnValue = cache.computeIfAbsent(t, this::test);
                 }
                 return returnValue;
@@ -474,4 +668,46 @@ public interface Predicate2<T> extends Lambda, Predicate<T> {
         }
     }
 
+    /**
+     * Returns a composed {@link Predicate2} that applies this predicate to its input, if less than the given number of
+     * calls of the composed predicate are running concurrently. Otherwise the call is rejected immediately with a
+     * {@link CallNotPermittedException}.
+     *
+     * @param maxConcurrent The maximum number of concurrent calls
+     * @return A composed {@code Predicate2} that applies this predicate to its input, if less than the given number of
+     * calls are running concurrently.
+     * @throws IllegalArgumentException If given argument is not positive
+     * @see #bulkhead(Bulkhead)
+     */
+    @Nonnull
+    default Predicate2<T> bulkhead(final int maxConcurrent) {
+        return bulkhead(Bulkhead.of(maxConcurrent));
+    }
+
+    /**
+     * Returns a composed {@link Predicate2} that applies this predicate to its input, if a permit of the given {@link
+     * Bulkhead} is acquired. Depending on the mode of the bulkhead, the call either waits for a permit or is rejected
+     * with a {@link CallNotPermittedException}. A bulkhead may be shared by several functional interfaces calling the
+     * same dependency.
+     *
+     * @param bulkhead The bulkhead which limits the concurrent calls of this predicate
+     * @return A composed {@code Predicate2} that applies this predicate to its input, if a permit of the given {@code
+     * Bulkhead} is acquired.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see Bulkhead#of(int, Duration)
+     * @see Bulkhead#adaptive(int, int)
+     */
+    @Nonnull
+    default Predicate2<T> bulkhead(@Nonnull final Bulkhead bulkhead) {
+        Objects.requireNonNull(bulkhead);
+        return (t) -> {
+            final long permit = bulkhead.acquirePermission();
+            try {
+                return this.test(t);
+            } finally {
+                bulkhead.releasePermission(permit);
+            }
+        };
+    }
+
 }
\ No newline at end of file
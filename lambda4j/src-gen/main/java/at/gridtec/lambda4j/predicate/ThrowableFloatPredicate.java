@@ -19,7 +19,12 @@ import at.gridtec.lambda4j.Lambda;
 import at.gridtec.lambda4j.consumer.ThrowableBooleanConsumer;
 import at.gridtec.lambda4j.consumer.ThrowableFloatConsumer;
 import at.gridtec.lambda4j.core.exception.ThrownByFunctionalInterfaceException;
+import at.gridtec.lambda4j.core.memoization.Codec;
+import at.gridtec.lambda4j.core.memoization.MemoizationCache;
+import at.gridtec.lambda4j.core.recovery.RecoveryTable;
+import at.gridtec.lambda4j.core.util.DerivedView;
 import at.gridtec.lambda4j.core.util.ThrowableUtils;
+import at.gridtec.lambda4j.function.FloatFunction;
 import at.gridtec.lambda4j.function.ThrowableBooleanFunction;
 import at.gridtec.lambda4j.function.ThrowableFloatFunction;
 import at.gridtec.lambda4j.function.ThrowableFunction;
@@ -45,13 +50,19 @@ import at.gridtec.lambda4j.function.conversion.ThrowableShortToFloatFunction;
 import at.gridtec.lambda4j.function.to.ThrowableToFloatFunction;
 import at.gridtec.lambda4j.operator.unary.ThrowableBooleanUnaryOperator;
 import at.gridtec.lambda4j.operator.unary.ThrowableFloatUnaryOperator;
+import at.gridtec.lambda4j.resilience.Bulkhead;
+import at.gridtec.lambda4j.resilience.CallNotPermittedException;
+import at.gridtec.lambda4j.resilience.CircuitBreaker;
+import at.gridtec.lambda4j.resilience.CircuitBreakerConfig;
+import at.gridtec.lambda4j.resilience.RetryPolicy;
+import at.gridtec.lambda4j.result.BooleanResult;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Function;
 
 /**
@@ -111,7 +122,7 @@ public interface ThrowableFloatPredicate<X extends Throwable> extends Lambda {
      */
     @Nonnull
     static <X extends Throwable> ThrowableFloatPredicate<X> constant(boolean ret) {
-        return (value) -> ret;
+        return (ThrowableFloatPredicate<X> & Constant) (value) -> ret;
     }
 
     /**
@@ -123,7 +134,7 @@ public interface ThrowableFloatPredicate<X extends Throwable> extends Lambda {
      */
     @Nonnull
     static <X extends Throwable> ThrowableFloatPredicate<X> alwaysTrue() {
-        return (value) -> true;
+        return (ThrowableFloatPredicate<X> & Constant) (value) -> true;
     }
 
     /**
@@ -135,7 +146,7 @@ public interface ThrowableFloatPredicate<X extends Throwable> extends Lambda {
      */
     @Nonnull
     static <X extends Throwable> ThrowableFloatPredicate<X> alwaysFalse() {
-        return (value) -> false;
+        return (ThrowableFloatPredicate<X> & Constant) (value) -> false;
     }
 
     /**
@@ -154,6 +165,40 @@ public interface ThrowableFloatPredicate<X extends Throwable> extends Lambda {
         return (value) -> (value == target);
     }
 
+    /**
+     * Returns a {@link ThrowableFloatPredicate} which represents the given {@link ThrowablePredicate}. Thereby the
+     * boxed input arguments and results of the given predicate are unboxed to their primitive counterparts. This method
+     * is the inverse of {@link #boxed()}.
+     *
+     * @param <X> The type of the throwable to be thrown by this predicate
+     * @param boxed The {@code ThrowablePredicate} to be represented by the returned {@code ThrowableFloatPredicate}
+     * @return A {@code ThrowableFloatPredicate} which represents the given {@code ThrowablePredicate}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implNote If the given {@code ThrowablePredicate} was returned from {@link #boxed()}, the original {@code
+     * ThrowableFloatPredicate} is returned instead of wrapping it twice. Likewise, {@link #boxed()} of the returned
+     * {@code ThrowableFloatPredicate} returns the given {@code ThrowablePredicate}.
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <X extends Throwable> ThrowableFloatPredicate<X> unboxed(@Nonnull final ThrowablePredicate<Float, X> boxed) {
+        Objects.requireNonNull(boxed);
+        if (boxed instanceof DerivedView && ((DerivedView) boxed).getSource() instanceof ThrowableFloatPredicate) {
+            return (ThrowableFloatPredicate<X>) ((DerivedView) boxed).getSource();
+        }
+        return new ThrowableFloatPredicate<X>() {
+            @Override
+            public boolean testThrows(float value) throws X {
+                return boxed.testThrows(value);
+            }
+
+            @Nonnull
+            @Override
+            public ThrowablePredicate<Float, X> boxed() {
+                return boxed;
+            }
+        };
+    }
+
     /**
      * Applies this predicate to the given argument.
      *
@@ -184,11 +229,17 @@ public interface ThrowableFloatPredicate<X extends Throwable> extends Lambda {
      * then applies this predicate to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to handle every type.
+     * @implNote The composed predicate is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
      */
     @Nonnull
     default <A> ThrowablePredicate<A, X> compose(
             @Nonnull final ThrowableToFloatFunction<? super A, ? extends X> before) {
         Objects.requireNonNull(before);
+        if (this instanceof Pure && before instanceof Pure) {
+            return (ThrowablePredicate<A, X> & Pure) (a) -> testThrows(before.applyAsFloatThrows(a));
+        } else if (this instanceof ThreadSafe && before instanceof ThreadSafe) {
+            return (ThrowablePredicate<A, X> & ThreadSafe) (a) -> testThrows(before.applyAsFloatThrows(a));
+        }
         return (a) -> testThrows(before.applyAsFloatThrows(a));
     }
 
@@ -354,11 +405,17 @@ public interface ThrowableFloatPredicate<X extends Throwable> extends Lambda {
      * applies the {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote The composed predicate is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
      */
     @Nonnull
     default <S> ThrowableFloatFunction<S, X> andThen(
             @Nonnull final ThrowableBooleanFunction<? extends S, ? extends X> after) {
         Objects.requireNonNull(after);
+        if (this instanceof Pure && after instanceof Pure) {
+            return (ThrowableFloatFunction<S, X> & Pure) (value) -> after.applyThrows(testThrows(value));
+        } else if (this instanceof ThreadSafe && after instanceof ThreadSafe) {
+            return (ThrowableFloatFunction<S, X> & ThreadSafe) (value) -> after.applyThrows(testThrows(value));
+        }
         return (value) -> after.applyThrows(testThrows(value));
     }
 
@@ -533,10 +590,22 @@ public interface ThrowableFloatPredicate<X extends Throwable> extends Lambda {
      * Returns a {@link ThrowableFloatPredicate} that represents the logical negation of this one.
      *
      * @return A {@code ThrowableFloatPredicate} that represents the logical negation of this one.
+     * @implNote Negating the returned predicate again returns this predicate instead of wrapping it twice.
      */
     @Nonnull
     default ThrowableFloatPredicate<X> negate() {
-        return (value) -> !testThrows(value);
+        return new ThrowableFloatPredicate<X>() {
+            @Override
+            public boolean testThrows(float value) throws X {
+                return !ThrowableFloatPredicate.this.testThrows(value);
+            }
+
+            @Nonnull
+            @Override
+            public ThrowableFloatPredicate<X> negate() {
+                return ThrowableFloatPredicate.this;
+            }
+        };
     }
 
     /**
@@ -551,12 +620,18 @@ public interface ThrowableFloatPredicate<X extends Throwable> extends Lambda {
      * @return A composed {@code ThrowableFloatPredicate} that represents the short-circuiting logical AND of this
      * predicate and the {@code other} predicate.
      * @throws NullPointerException If given argument is {@code null}
+     * @implNote The composed predicate is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
      * @see #or(ThrowableFloatPredicate)
      * @see #xor(ThrowableFloatPredicate)
      */
     @Nonnull
     default ThrowableFloatPredicate<X> and(@Nonnull final ThrowableFloatPredicate<? extends X> other) {
         Objects.requireNonNull(other);
+        if (this instanceof Pure && other instanceof Pure) {
+            return (ThrowableFloatPredicate<X> & Pure) (value) -> testThrows(value) && other.testThrows(value);
+        } else if (this instanceof ThreadSafe && other instanceof ThreadSafe) {
+            return (ThrowableFloatPredicate<X> & ThreadSafe) (value) -> testThrows(value) && other.testThrows(value);
+        }
         return (value) -> testThrows(value) && other.testThrows(value);
     }
 
@@ -572,12 +647,18 @@ public interface ThrowableFloatPredicate<X extends Throwable> extends Lambda {
      * @return A composed {@code ThrowableFloatPredicate} that represents the short-circuiting logical OR of this
      * predicate and the {@code other} predicate.
      * @throws NullPointerException If given argument is {@code null}
+     * @implNote The composed predicate is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
      * @see #and(ThrowableFloatPredicate)
      * @see #xor(ThrowableFloatPredicate)
      */
     @Nonnull
     default ThrowableFloatPredicate<X> or(@Nonnull final ThrowableFloatPredicate<? extends X> other) {
         Objects.requireNonNull(other);
+        if (this instanceof Pure && other instanceof Pure) {
+            return (ThrowableFloatPredicate<X> & Pure) (value) -> testThrows(value) || other.testThrows(value);
+        } else if (this instanceof ThreadSafe && other instanceof ThreadSafe) {
+            return (ThrowableFloatPredicate<X> & ThreadSafe) (value) -> testThrows(value) || other.testThrows(value);
+        }
         return (value) -> testThrows(value) || other.testThrows(value);
     }
 
@@ -607,23 +688,55 @@ public interface ThrowableFloatPredicate<X extends Throwable> extends Lambda {
      * <p>
      * Unless the predicate and therefore the used cache will be garbage-collected, it will keep all memoized values
      * forever.
+     * <p>
+     * The returned memoized predicate is serializable, if this predicate is serializable. Its memoized values are not
+     * written when it gets serialized, so the deserialized predicate starts with an empty cache.
      *
      * @return A memoized (caching) version of this {@code ThrowableFloatPredicate}.
      * @implSpec This implementation does not allow the input parameter or return value to be {@code null} for the
      * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
      * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
      * thread-safe.
+     * @see #memoized(boolean)
      */
     @Nonnull
     default ThrowableFloatPredicate<X> memoized() {
+        return memoized(false);
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link ThrowableFloatPredicate}. Whenever it is called, the mapping
+     * between the input parameter and the return value is preserved in a cache, making subsequent calls returning the
+     * memoized value instead of computing the return value again.
+     * <p>
+     * Unless the predicate and therefore the used cache will be garbage-collected, it will keep all memoized values
+     * forever.
+     * <p>
+     * The returned memoized predicate is serializable, if this predicate is serializable. If {@code serializeCache} is
+     * {@code true}, a snapshot of all memoized values is written when it gets serialized, so the deserialized predicate
+     * starts warm. Otherwise the deserialized predicate starts with an empty cache. Primitive values are thereby
+     * written in their binary form.
+     *
+     * @param serializeCache {@code true} if the memoized values should be written when the memoized predicate gets
+     * serialized, {@code false} otherwise
+     * @return A memoized (caching) version of this {@code ThrowableFloatPredicate}.
+     * @implSpec This implementation does not allow the input parameter or return value to be {@code null} for the
+     * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
+     * thread-safe. If this predicate is already memoized, it is returned as-is regardless of {@code serializeCache}.
+     * @see MemoizationCache
+     */
+    @Nonnull
+    default ThrowableFloatPredicate<X> memoized(final boolean serializeCache) {
         if (isMemoized()) {
             return this;
         } else {
-            final Map<Float, Boolean> cache = new ConcurrentHashMap<>();
-            final Object lock = new Object();
+            final Codec<Float> keyCodec = Codec.ofFloat();
+            final MemoizationCache<Float, Boolean> cache = MemoizationCache.of(keyCodec, Codec.ofBoolean(),
+                                                                               serializeCache);
             return (ThrowableFloatPredicate<X> & Memoized) (value) -> {
                 final boolean returnValue;
-                synchronized (lock) {
+                synchronized (cache) {
                     returnValue = cache.computeIfAbsent(value, ThrowableFunction.of(this::testThrows));
                 }
                 return returnValue;
@@ -637,26 +750,49 @@ public interface ThrowableFloatPredicate<X extends Throwable> extends Lambda {
      * ThrowableFloatPredicate} with methods provided by the {@code JDK}.
      *
      * @return A composed {@code ThrowablePredicate} which represents this {@code ThrowableFloatPredicate}.
+     * @implNote The returned {@code ThrowablePredicate} is a {@link DerivedView} of this {@code
+     * ThrowableFloatPredicate}, so {@link #unboxed(ThrowablePredicate)} returns this {@code ThrowableFloatPredicate}
+     * instead of wrapping it twice.
      */
     @Nonnull
     default ThrowablePredicate<Float, X> boxed() {
-        return this::testThrows;
+        final class Boxed implements ThrowablePredicate<Float, X>, DerivedView {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public boolean testThrows(Float value) throws X {
+                return ThrowableFloatPredicate.this.testThrows(value);
+            }
+
+            @Nonnull
+            @Override
+            public ThrowableFloatPredicate<X> getSource() {
+                return ThrowableFloatPredicate.this;
+            }
+        }
+        return new Boxed();
     }
 
     /**
      * Returns a composed {@link FloatPredicate} that applies this predicate to its input and nests the thrown {@link
      * Throwable} from it. The {@code Throwable} is nested (wrapped) in a {@link ThrownByFunctionalInterfaceException},
      * which is constructed from the thrown {@code Throwable}s message and the thrown {@code Throwable} itself.
+     * <p>
+     * If stack traces of nested throwables are disabled process-wide using {@link
+     * ThrowableUtils#setStackTraceEnabled(boolean)}, the {@code Throwable} is nested in a {@link
+     * StacklessThrownByFunctionalInterfaceException} instead. To nest it without stack trace for a single predicate
+     * only, {@code nest(StacklessThrownByFunctionalInterfaceException::new)} may be used.
      *
      * @return A composed {@link FloatPredicate} that applies this predicate to its input and nests the thrown {@code
      * Throwable} from it.
      * @implNote If thrown {@code Throwable} is of type {@link Error} it is thrown as-is and thus not nested.
      * @see #nest(Function)
      * @see ThrownByFunctionalInterfaceException
+     * @see ThrowableUtils#nest(Throwable)
      */
     @Nonnull
     default FloatPredicate nest() {
-        return nest(throwable -> new ThrownByFunctionalInterfaceException(throwable.getMessage(), throwable));
+        return nest(ThrowableUtils::nest);
     }
 
     /**
@@ -683,6 +819,9 @@ public interface ThrowableFloatPredicate<X extends Throwable> extends Lambda {
      * {@code recover} operation if a {@link Throwable} is thrown from this one. The {@code recover} operation is
      * represented by a curried operation which is called with throwable information and same argument of this
      * predicate.
+     * <p>
+     * If the {@code recover} operation should dispatch by the class of the thrown {@code Throwable}, a {@link
+     * RecoveryTable} may be used, which resolves the fallback operation only once per {@code Throwable} class.
      *
      * @param recover The operation to apply if this predicate throws a {@code Throwable}
      * @return A composed {@link FloatPredicate} that first applies this predicate to its input, and then applies the
@@ -692,6 +831,7 @@ public interface ThrowableFloatPredicate<X extends Throwable> extends Lambda {
      * {@code null}. If it is, then a {@link NullPointerException} with appropriate message is thrown.
      * @implNote If thrown {@code Throwable} is of type {@link Error}, it is thrown as-is and thus not passed to {@code
      * recover} operation.
+     * @see RecoveryTable
      */
     @Nonnull
     default FloatPredicate recover(@Nonnull final Function<? super Throwable, ? extends FloatPredicate> recover) {
@@ -710,6 +850,172 @@ public interface ThrowableFloatPredicate<X extends Throwable> extends Lambda {
         };
     }
 
+    /**
+     * Returns a composed {@link FloatFunction} that applies this predicate to its input and returns its result as
+     * {@link BooleanResult}. If a {@link Throwable} is thrown from this predicate, it is not thrown by the composed
+     * function, but returned as failed {@code BooleanResult} instead. This avoids unwinding the stack in workloads with
+     * a high failure rate, as failed results are composed using their {@code map} and {@code flatMap} methods.
+     *
+     * @return A composed {@code FloatFunction} that applies this predicate to its input and returns its result as
+     * {@code BooleanResult}.
+     * @implNote If thrown {@code Throwable} is of type {@link Error}, it is thrown as-is and thus not returned as
+     * failed result.
+     * @see BooleanResult
+     */
+    @Nonnull
+    default FloatFunction<BooleanResult> attempt() {
+        return (value) -> {
+            try {
+                return BooleanResult.success(this.testThrows(value));
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable throwable) {
+                return BooleanResult.failure(throwable);
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link ThrowableFloatPredicate} that applies this predicate to its input and retries it
+     * according to the given {@link RetryPolicy}, if a {@link Throwable} is thrown from it. The current thread is
+     * blocked for the delay between two attempts. If the {@code Throwable} is not retried, it is thrown as-is from the
+     * composed predicate, thus the type of {@code Throwable} thrown from this predicate is preserved.
+     *
+     * @param policy The policy which defines if and when this predicate is retried
+     * @return A composed {@code ThrowableFloatPredicate} that applies this predicate to its input and retries it
+     * according to the given {@code RetryPolicy}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see #retryAsync(RetryPolicy, ScheduledExecutorService)
+     */
+    @Nonnull
+    default ThrowableFloatPredicate<X> retry(@Nonnull final RetryPolicy policy) {
+        Objects.requireNonNull(policy);
+        return (value) -> {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    return this.testThrows(value);
+                } catch (Throwable throwable) {
+                    if (!policy.awaitRetry(throwable, attempt)) {
+                        throw throwable;
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link FloatFunction} that applies this predicate asynchronously to its input using the given
+     * scheduler and retries it according to the given {@link RetryPolicy}, if a {@link Throwable} is thrown from it.
+     * The delay between two attempts does not block a thread, as each retry is scheduled on the given scheduler. The
+     * {@link CompletableFuture} returned from the composed function is completed exceptionally with the {@code
+     * Throwable} of the last attempt, if this predicate is not retried anymore.
+     *
+     * @param policy The policy which defines if and when this predicate is retried
+     * @param scheduler The scheduler to apply this predicate with
+     * @return A composed {@code FloatFunction} that applies this predicate asynchronously to its input and retries it
+     * according to the given {@code RetryPolicy}.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @see #retry(RetryPolicy)
+     */
+    @Nonnull
+    default FloatFunction<CompletableFuture<Boolean>> retryAsync(@Nonnull final RetryPolicy policy,
+            @Nonnull final ScheduledExecutorService scheduler) {
+        Objects.requireNonNull(policy);
+        Objects.requireNonNull(scheduler);
+        return (value) -> policy.executeAsync(() -> this.testThrows(value), scheduler);
+    }
+
+    /**
+     * Returns a composed {@link ThrowableFloatPredicate} that applies this predicate to its input guarded by a new
+     * {@link CircuitBreaker} created from the given configuration. The circuit breaker is owned by the composed
+     * predicate, so all its calls share the same failure rate.
+     *
+     * @param config The configuration of the circuit breaker guarding this predicate
+     * @return A composed {@code ThrowableFloatPredicate} that applies this predicate to its input guarded by a new
+     * {@code CircuitBreaker}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see #circuitBroken(CircuitBreaker)
+     */
+    @Nonnull
+    default ThrowableFloatPredicate<X> circuitBroken(@Nonnull final CircuitBreakerConfig config) {
+        return circuitBroken(CircuitBreaker.of(config));
+    }
+
+    /**
+     * Returns a composed {@link ThrowableFloatPredicate} that applies this predicate to its input guarded by the given
+     * {@link CircuitBreaker}. If the circuit breaker does not permit the call, this predicate is not applied and a
+     * {@link CallNotPermittedException} is thrown immediately. Otherwise the outcome of this predicate is recorded in
+     * the circuit breaker against the phase in which the call was permitted and any {@link Throwable} thrown from it is
+     * rethrown as-is. To fall back to another result while the circuit breaker is open, {@link #recover(Function)} may
+     * be used on the composed predicate.
+     *
+     * @param circuitBreaker The circuit breaker guarding this predicate
+     * @return A composed {@code ThrowableFloatPredicate} that applies this predicate to its input guarded by the given
+     * {@code CircuitBreaker}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see #circuitBroken(CircuitBreakerConfig)
+     */
+    @Nonnull
+    default ThrowableFloatPredicate<X> circuitBroken(@Nonnull final CircuitBreaker circuitBreaker) {
+        Objects.requireNonNull(circuitBreaker);
+        return (value) -> {
+            final CircuitBreaker.Phase permitted = circuitBreaker.tryAcquirePermission();
+            if (permitted == null) {
+                throw new CallNotPermittedException("CircuitBreaker is " + circuitBreaker.getState());
+            }
+            try {
+                final boolean returnValue = this.testThrows(value);
+                circuitBreaker.onSuccess(permitted);
+                return returnValue;
+            } catch (Throwable throwable) {
+                circuitBreaker.onFailure(permitted, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link ThrowableFloatPredicate} that applies this predicate to its input, if less than the
+     * given number of calls of the composed predicate are running concurrently. Otherwise the call is rejected
+     * immediately with a {@link CallNotPermittedException}.
+     *
+     * @param maxConcurrent The maximum number of concurrent calls
+     * @return A composed {@code ThrowableFloatPredicate} that applies this predicate to its input, if less than the
+     * given number of calls are running concurrently.
+     * @throws IllegalArgumentException If given argument is not positive
+     * @see #bulkhead(Bulkhead)
+     */
+    @Nonnull
+    default ThrowableFloatPredicate<X> bulkhead(final int maxConcurrent) {
+        return bulkhead(Bulkhead.of(maxConcurrent));
+    }
+
+    /**
+     * Returns a composed {@link ThrowableFloatPredicate} that applies this predicate to its input, if a permit of the
+     * given {@link Bulkhead} is acquired. Depending on the mode of the bulkhead, the call either waits for a permit or
+     * is rejected with a {@link CallNotPermittedException}. A bulkhead may be shared by several functional interfaces
+     * calling the same dependency.
+     *
+     * @param bulkhead The bulkhead which limits the concurrent calls of this predicate
+     * @return A composed {@code ThrowableFloatPredicate} that applies this predicate to its input, if a permit of the
+     * given {@code Bulkhead} is acquired.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see Bulkhead#of(int, Duration)
+     * @see Bulkhead#adaptive(int, int)
+     */
+    @Nonnull
+    default ThrowableFloatPredicate<X> bulkhead(@Nonnull final Bulkhead bulkhead) {
+        Objects.requireNonNull(bulkhead);
+        return (value) -> {
+            final long permit = bulkhead.acquirePermission();
+            try {
+                return this.testThrows(value);
+            } finally {
+                bulkhead.releasePermission(permit);
+            }
+        };
+    }
+
     /**
      * Returns a composed {@link FloatPredicate} that applies this predicate to its input and sneakily throws the
      * thrown {@link Throwable} from it, if it is not of type {@link RuntimeException} or {@link Error}. This means that
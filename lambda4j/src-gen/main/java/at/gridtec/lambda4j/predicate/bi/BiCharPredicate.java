@@ -18,8 +18,13 @@ package at.gridtec.lambda4j.predicate.bi;
 import at.gridtec.lambda4j.Lambda;
 import at.gridtec.lambda4j.consumer.BooleanConsumer;
 import at.gridtec.lambda4j.consumer.bi.BiCharConsumer;
+import at.gridtec.lambda4j.core.memoization.Codec;
+import at.gridtec.lambda4j.core.memoization.MemoizationCache;
+import at.gridtec.lambda4j.core.util.DerivedView;
+import at.gridtec.lambda4j.core.util.ThrowableUtils;
 import at.gridtec.lambda4j.function.BooleanFunction;
 import at.gridtec.lambda4j.function.bi.BiCharFunction;
+import at.gridtec.lambda4j.function.bi.BiFunction2;
 import at.gridtec.lambda4j.function.bi.conversion.BiCharToByteFunction;
 import at.gridtec.lambda4j.function.bi.conversion.BiCharToDoubleFunction;
 import at.gridtec.lambda4j.function.bi.conversion.BiCharToFloatFunction;
@@ -44,16 +49,24 @@ import at.gridtec.lambda4j.operator.binary.BooleanBinaryOperator;
 import at.gridtec.lambda4j.operator.binary.CharBinaryOperator;
 import at.gridtec.lambda4j.operator.unary.BooleanUnaryOperator;
 import at.gridtec.lambda4j.operator.unary.CharUnaryOperator;
+import at.gridtec.lambda4j.predicate.AdaptiveOrder;
 import at.gridtec.lambda4j.predicate.CharPredicate;
+import at.gridtec.lambda4j.resilience.Bulkhead;
+import at.gridtec.lambda4j.resilience.CallNotPermittedException;
+import at.gridtec.lambda4j.supplier.BooleanSupplier2;
+import at.gridtec.lambda4j.supplier.Supplier2;
 
 import org.apache.commons.lang3.tuple.Pair;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Represents an predicate (boolean-valued function) of two {@code char}-valued input arguments.
@@ -136,7 +149,7 @@ public interface BiCharPredicate extends Lambda {
      */
     @Nonnull
     static BiCharPredicate constant(boolean ret) {
-        return (value1, value2) -> ret;
+        return (BiCharPredicate & Constant) (value1, value2) -> ret;
     }
 
     /**
@@ -147,7 +160,7 @@ public interface BiCharPredicate extends Lambda {
      */
     @Nonnull
     static BiCharPredicate alwaysTrue() {
-        return (value1, value2) -> true;
+        return (BiCharPredicate & Constant) (value1, value2) -> true;
     }
 
     /**
@@ -158,7 +171,75 @@ public interface BiCharPredicate extends Lambda {
      */
     @Nonnull
     static BiCharPredicate alwaysFalse() {
-        return (value1, value2) -> false;
+        return (BiCharPredicate & Constant) (value1, value2) -> false;
+    }
+
+    /**
+     * Returns a {@link BiCharPredicate} that represents the short-circuiting logical AND of all given predicates, which
+     * adapts the order in which the given predicates are evaluated. Cheap predicates which are likely to return {@code
+     * false} are evaluated first.
+     * <p>
+     * The given predicates are only reordered, if all of them are marked as {@link Pure}. Otherwise they are evaluated
+     * in their given order.
+     *
+     * @param predicates The predicates to be logically-ANDed
+     * @return A {@code BiCharPredicate} that represents the short-circuiting logical AND of all given predicates.
+     * @throws NullPointerException If given argument or one of its elements is {@code null}
+     * @implNote The given array is copied, so modifying it afterwards does not affect the returned predicate.
+     * @see AdaptiveOrder
+     */
+    @Nonnull
+    static BiCharPredicate adaptiveAnd(@Nonnull final BiCharPredicate... predicates) {
+        final List<BiCharPredicate> snapshot = new ArrayList<>(predicates.length);
+        for (final BiCharPredicate predicate : predicates) {
+            snapshot.add(predicate);
+        }
+        final AdaptiveOrder order = AdaptiveOrder.conjunction(snapshot.toArray());
+        return (value1, value2) -> {
+            if (order.shouldSample()) {
+                return order.sample(index -> snapshot.get(index).test(value1, value2));
+            }
+            for (final int index : order.get()) {
+                if (!snapshot.get(index).test(value1, value2)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    /**
+     * Returns a {@link BiCharPredicate} that represents the short-circuiting logical OR of all given predicates, which
+     * adapts the order in which the given predicates are evaluated. Cheap predicates which are likely to return {@code
+     * true} are evaluated first.
+     * <p>
+     * The given predicates are only reordered, if all of them are marked as {@link Pure}. Otherwise they are evaluated
+     * in their given order.
+     *
+     * @param predicates The predicates to be logically-ORed
+     * @return A {@code BiCharPredicate} that represents the short-circuiting logical OR of all given predicates.
+     * @throws NullPointerException If given argument or one of its elements is {@code null}
+     * @implNote The given array is copied, so modifying it afterwards does not affect the returned predicate.
+     * @see AdaptiveOrder
+     */
+    @Nonnull
+    static BiCharPredicate adaptiveOr(@Nonnull final BiCharPredicate... predicates) {
+        final List<BiCharPredicate> snapshot = new ArrayList<>(predicates.length);
+        for (final BiCharPredicate predicate : predicates) {
+            snapshot.add(predicate);
+        }
+        final AdaptiveOrder order = AdaptiveOrder.disjunction(snapshot.toArray());
+        return (value1, value2) -> {
+            if (order.shouldSample()) {
+                return order.sample(index -> snapshot.get(index).test(value1, value2));
+            }
+            for (final int index : order.get()) {
+                if (snapshot.get(index).test(value1, value2)) {
+                    return true;
+                }
+            }
+            return false;
+        };
     }
 
     /**
@@ -177,6 +258,38 @@ public interface BiCharPredicate extends Lambda {
         return (value1, value2) -> (value1 == target1) && (value2 == target2);
     }
 
+    /**
+     * Returns a {@link BiCharPredicate} which represents the given {@link BiPredicate2}. Thereby the boxed input
+     * arguments and results of the given predicate are unboxed to their primitive counterparts. This method is the
+     * inverse of {@link #boxed()}.
+     *
+     * @param boxed The {@code BiPredicate2} to be represented by the returned {@code BiCharPredicate}
+     * @return A {@code BiCharPredicate} which represents the given {@code BiPredicate2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implNote If the given {@code BiPredicate2} was returned from {@link #boxed()}, the original {@code
+     * BiCharPredicate} is returned instead of wrapping it twice. Likewise, {@link #boxed()} of the returned {@code
+     * BiCharPredicate} returns the given {@code BiPredicate2}.
+     */
+    @Nonnull
+    static BiCharPredicate unboxed(@Nonnull final BiPredicate2<Character, Character> boxed) {
+        Objects.requireNonNull(boxed);
+        if (boxed instanceof DerivedView && ((DerivedView) boxed).getSource() instanceof BiCharPredicate) {
+            return (BiCharPredicate) ((DerivedView) boxed).getSource();
+        }
+        return new BiCharPredicate() {
+            @Override
+            public boolean test(char value1, char value2) {
+                return boxed.test(value1, value2);
+            }
+
+            @Nonnull
+            @Override
+            public BiPredicate2<Character, Character> boxed() {
+                return boxed;
+            }
+        };
+    }
+
     /**
      * Applies this predicate to the given arguments.
      *
@@ -221,15 +334,98 @@ public interface BiCharPredicate extends Lambda {
      * applies this predicate to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to handle every type.
+     * @implNote The composed predicate is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
+     * @implNote If this predicate is marked as {@link Pure} and the {@code before} functions are constant (f.e. created
+     * by {@code constant}), this predicate is applied only once, when the composed predicate is applied for the first
+     * time. Its result is then returned by each further application. If applying it throws an exception, the exception
+     * is relayed to the caller and it is applied again on the next application.
      */
     @Nonnull
     default <A, B> BiPredicate2<A, B> compose(@Nonnull final ToCharFunction<? super A> before1,
             @Nonnull final ToCharFunction<? super B> before2) {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
+        if (this instanceof Pure && before1 instanceof Constant && before2 instanceof Constant) {
+            final BooleanSupplier2 result = BooleanSupplier2.of(() -> test(before1.applyAsChar(null),
+                                                                           before2.applyAsChar(null))).memoized();
+            return (BiPredicate2<A, B> & Pure) (a, b) -> result.getAsBoolean();
+        }
+        if (this instanceof Pure && before1 instanceof Pure && before2 instanceof Pure) {
+            return (BiPredicate2<A, B> & Pure) (a, b) -> test(before1.applyAsChar(a), before2.applyAsChar(b));
+        } else if (this instanceof ThreadSafe && before1 instanceof ThreadSafe && before2 instanceof ThreadSafe) {
+            return (BiPredicate2<A, B> & ThreadSafe) (a, b) -> test(before1.applyAsChar(a), before2.applyAsChar(b));
+        }
         return (a, b) -> test(before1.applyAsChar(a), before2.applyAsChar(b));
     }
 
+    /**
+     * Returns a composed {@link BiPredicate2} that first applies the {@code before} functions to its input
+     * concurrently, and then applies this predicate to the results. The first {@code before} function is applied by the
+     * calling thread, while the other ones are applied using the given {@link Executor}. The calling thread waits for
+     * their results afterwards. If evaluation of one of the operations throws an exception, it is relayed to the caller
+     * of the composed operation as is, the same as by {@link #compose(ToCharFunction, ToCharFunction)}. The {@code
+     * before} functions which are not started yet are cancelled in this case.
+     *
+     * @param <A> The type of the argument to the first given function, and of composed predicate
+     * @param <B> The type of the argument to the second given function, and of composed predicate
+     * @param executor The executor to apply the {@code before} functions with
+     * @param before1 The first function to apply before this predicate is applied
+     * @param before2 The second function to apply before this predicate is applied
+     * @return A composed {@code BiPredicate2} that first applies the {@code before} functions to its input
+     * concurrently, and then applies this predicate to the results.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @see #compose(ToCharFunction, ToCharFunction)
+     */
+    @Nonnull
+    default <A, B> BiPredicate2<A, B> composeParallel(@Nonnull final Executor executor,
+            @Nonnull final ToCharFunction<? super A> before1, @Nonnull final ToCharFunction<? super B> before2) {
+        Objects.requireNonNull(executor);
+        Objects.requireNonNull(before1);
+        Objects.requireNonNull(before2);
+        return (a, b) -> {
+            final CompletableFuture<Character> future2 = CompletableFuture.supplyAsync(() -> before2.applyAsChar(b),
+                                                                                       executor);
+            try {
+                return test(before1.applyAsChar(a), ThrowableUtils.join(future2));
+            } finally {
+                future2.cancel(false);
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link BiFunction2} that applies the {@code before} functions to its input concurrently using
+     * the given {@link Executor}, and then applies this predicate to the results. The composed function returns a
+     * {@link CompletableFuture} without waiting for any result, so no thread is blocked. This predicate is applied by
+     * the thread which completes the last {@code before} function. The {@code CompletableFuture} is completed
+     * exceptionally, if a {@link Throwable} is thrown from one of the {@code before} functions or from this predicate.
+     *
+     * @param <A> The type of the argument to the first given function, and of composed predicate
+     * @param <B> The type of the argument to the second given function, and of composed predicate
+     * @param executor The executor to apply the {@code before} functions with
+     * @param before1 The first function to apply before this predicate is applied
+     * @param before2 The second function to apply before this predicate is applied
+     * @return A composed {@code BiFunction2} that applies the {@code before} functions to its input concurrently, and
+     * then applies this predicate to the results.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @see #composeParallel(Executor, ToCharFunction, ToCharFunction)
+     */
+    @Nonnull
+    default <A, B> BiFunction2<A, B, CompletableFuture<Boolean>> composeParallelAsync(@Nonnull final Executor executor,
+            @Nonnull final ToCharFunction<? super A> before1, @Nonnull final ToCharFunction<? super B> before2) {
+        Objects.requireNonNull(executor);
+        Objects.requireNonNull(before1);
+        Objects.requireNonNull(before2);
+        return (a, b) -> {
+            final CompletableFuture<Character> future1 = CompletableFuture.supplyAsync(() -> before1.applyAsChar(a),
+                                                                                       executor);
+            final CompletableFuture<Character> future2 = CompletableFuture.supplyAsync(() -> before2.applyAsChar(b),
+                                                                                       executor);
+            return CompletableFuture.allOf(future1, future2)
+                    .thenApply(ignored -> test(future1.join(), future2.join()));
+        };
+    }
+
     /**
      * Returns a composed {@link BooleanBinaryOperator} that first applies the {@code before} functions to its input,
      * and then applies this predicate to the result. If evaluation of either operation throws an exception, it is
@@ -421,10 +617,26 @@ public interface BiCharPredicate extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote The composed predicate is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
+     * @implNote If this predicate is constant (f.e. created by {@code constant}) and the {@code after} function is
+     * marked as {@link Pure}, the {@code after} function is applied only once, when the composed function is applied
+     * for the first time. Its result is then returned by each further application. If applying it throws an exception,
+     * the exception is relayed to the caller and it is applied again on the next application.
      */
     @Nonnull
     default <S> BiCharFunction<S> andThen(@Nonnull final BooleanFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (this instanceof Constant && after instanceof Pure) {
+            // The result is held by an optional, so that a null result is memoized as well
+            final Supplier2<Optional<S>> result = Supplier2.of(
+                    () -> Optional.ofNullable(after.apply(test((char) 0, (char) 0)))).memoized();
+            return (BiCharFunction<S> & Pure) (value1, value2) -> result.get().orElse(null);
+        }
+        if (this instanceof Pure && after instanceof Pure) {
+            return (BiCharFunction<S> & Pure) (value1, value2) -> after.apply(test(value1, value2));
+        } else if (this instanceof ThreadSafe && after instanceof ThreadSafe) {
+            return (BiCharFunction<S> & ThreadSafe) (value1, value2) -> after.apply(test(value1, value2));
+        }
         return (value1, value2) -> after.apply(test(value1, value2));
     }
 
@@ -600,10 +812,26 @@ public interface BiCharPredicate extends Lambda {
      * Returns a {@link BiCharPredicate} that represents the logical negation of this one.
      *
      * @return A {@code BiCharPredicate} that represents the logical negation of this one.
+     * @implNote Negating the returned predicate again returns this predicate instead of wrapping it twice. If this
+     * predicate is constant (f.e. created by {@link #alwaysTrue()}), the opposite constant predicate is returned.
      */
     @Nonnull
     default BiCharPredicate negate() {
-        return (value1, value2) -> !test(value1, value2);
+        if (this instanceof Constant) {
+            return test((char) 0, (char) 0) ? alwaysFalse() : alwaysTrue();
+        }
+        return new BiCharPredicate() {
+            @Override
+            public boolean test(char value1, char value2) {
+                return !BiCharPredicate.this.test(value1, value2);
+            }
+
+            @Nonnull
+            @Override
+            public BiCharPredicate negate() {
+                return BiCharPredicate.this;
+            }
+        };
     }
 
     /**
@@ -618,12 +846,30 @@ public interface BiCharPredicate extends Lambda {
      * @return A composed {@code BiCharPredicate} that represents the short-circuiting logical AND of this predicate and
      * the {@code other} predicate.
      * @throws NullPointerException If given argument is {@code null}
+     * @implNote The composed predicate is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
+     * @implNote If this predicate is constant (f.e. created by {@link #alwaysTrue()}), the composed predicate is
+     * simplified to either this or the {@code other} predicate. The same applies, if the {@code other} predicate is
+     * constant and always returns {@code true}.
      * @see #or(BiCharPredicate)
      * @see #xor(BiCharPredicate)
      */
     @Nonnull
     default BiCharPredicate and(@Nonnull final BiCharPredicate other) {
         Objects.requireNonNull(other);
+        if (this instanceof Constant) {
+            if (!test((char) 0, (char) 0)) {
+                return this;
+            }
+            return other;
+        } else if (other instanceof Constant && other.test((char) 0, (char) 0)) {
+            return this;
+        }
+        if (this instanceof Pure && other instanceof Pure) {
+            return (BiCharPredicate & Pure) (value1, value2) -> test(value1, value2) && other.test(value1, value2);
+        } else if (this instanceof ThreadSafe && other instanceof ThreadSafe) {
+            return (BiCharPredicate & ThreadSafe) (value1, value2) -> test(value1, value2)
+                    && other.test(value1, value2);
+        }
         return (value1, value2) -> test(value1, value2) && other.test(value1, value2);
     }
 
@@ -639,12 +885,30 @@ public interface BiCharPredicate extends Lambda {
      * @return A composed {@code BiCharPredicate} that represents the short-circuiting logical OR of this predicate and
      * the {@code other} predicate.
      * @throws NullPointerException If given argument is {@code null}
+     * @implNote The composed predicate is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
+     * @implNote If this predicate is constant (f.e. created by {@link #alwaysFalse()}), the composed predicate is
+     * simplified to either this or the {@code other} predicate. The same applies, if the {@code other} predicate is
+     * constant and always returns {@code false}.
      * @see #and(BiCharPredicate)
      * @see #xor(BiCharPredicate)
      */
     @Nonnull
     default BiCharPredicate or(@Nonnull final BiCharPredicate other) {
         Objects.requireNonNull(other);
+        if (this instanceof Constant) {
+            if (test((char) 0, (char) 0)) {
+                return this;
+            }
+            return other;
+        } else if (other instanceof Constant && !other.test((char) 0, (char) 0)) {
+            return this;
+        }
+        if (this instanceof Pure && other instanceof Pure) {
+            return (BiCharPredicate & Pure) (value1, value2) -> test(value1, value2) || other.test(value1, value2);
+        } else if (this instanceof ThreadSafe && other instanceof ThreadSafe) {
+            return (BiCharPredicate & ThreadSafe) (value1, value2) -> test(value1, value2)
+                    || other.test(value1, value2);
+        }
         return (value1, value2) -> test(value1, value2) || other.test(value1, value2);
     }
 
@@ -673,23 +937,56 @@ public interface BiCharPredicate extends Lambda {
      * <p>
      * Unless the predicate and therefore the used cache will be garbage-collected, it will keep all memoized values
      * forever.
+     * <p>
+     * The returned memoized predicate is serializable, if this predicate is serializable. Its memoized values are not
+     * written when it gets serialized, so the deserialized predicate starts with an empty cache.
      *
      * @return A memoized (caching) version of this {@code BiCharPredicate}.
      * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
      * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
      * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
      * thread-safe.
+     * @see #memoized(boolean)
      */
     @Nonnull
     default BiCharPredicate memoized() {
+        return memoized(false);
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link BiCharPredicate}. Whenever it is called, the mapping between
+     * the input parameters and the return value is preserved in a cache, making subsequent calls returning the memoized
+     * value instead of computing the return value again.
+     * <p>
+     * Unless the predicate and therefore the used cache will be garbage-collected, it will keep all memoized values
+     * forever.
+     * <p>
+     * The returned memoized predicate is serializable, if this predicate is serializable. If {@code serializeCache} is
+     * {@code true}, a snapshot of all memoized values is written when it gets serialized, so the deserialized predicate
+     * starts warm. Otherwise the deserialized predicate starts with an empty cache. Primitive values are thereby
+     * written in their binary form.
+     *
+     * @param serializeCache {@code true} if the memoized values should be written when the memoized predicate gets
+     * serialized, {@code false} otherwise
+     * @return A memoized (caching) version of this {@code BiCharPredicate}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
+     * thread-safe. If this predicate is already memoized, it is returned as-is regardless of {@code serializeCache}.
+     * @see MemoizationCache
+     */
+    @Nonnull
+    default BiCharPredicate memoized(final boolean serializeCache) {
         if (isMemoized()) {
             return this;
         } else {
-            final Map<Pair<Character, Character>, Boolean> cache = new ConcurrentHashMap<>();
-            final Object lock = new Object();
+            final Codec<Pair<Character, Character>> keyCodec = Codec.ofPair(Codec.ofChar(), Codec.ofChar());
+            final MemoizationCache<Pair<Character, Character>, Boolean> cache = MemoizationCache.of(keyCodec,
+                                                                                                    Codec.ofBoolean(),
+                                                                                                    serializeCache);
             return (BiCharPredicate & Memoized) (value1, value2) -> {
                 final boolean returnValue;
-                synchronized (lock) {
+                synchronized (cache) {
                     returnValue = cache.computeIfAbsent(Pair.of(value1, value2),
                                                         key -> test(key.getLeft(), key.getRight()));
                 }
@@ -704,10 +1001,68 @@ public interface BiCharPredicate extends Lambda {
      * {@code BiCharPredicate} with methods provided by the {@code JDK}.
      *
      * @return A composed {@code BiPredicate2} which represents this {@code BiCharPredicate}.
+     * @implNote The returned {@code BiPredicate2} is a {@link DerivedView} of this {@code BiCharPredicate}, so {@link
+     * #unboxed(BiPredicate2)} returns this {@code BiCharPredicate} instead of wrapping it twice.
      */
     @Nonnull
     default BiPredicate2<Character, Character> boxed() {
-        return this::test;
+        final class Boxed implements BiPredicate2<Character, Character>, DerivedView {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public boolean test(Character value1, Character value2) {
+                return BiCharPredicate.this.test(value1, value2);
+            }
+
+            @Nonnull
+            @Override
+            public BiCharPredicate getSource() {
+                return BiCharPredicate.this;
+            }
+        }
+        return new Boxed();
+    }
+
+    /**
+     * Returns a composed {@link BiCharPredicate} that applies this predicate to its input, if less than the given
+     * number of calls of the composed predicate are running concurrently. Otherwise the call is rejected immediately
+     * with a {@link CallNotPermittedException}.
+     *
+     * @param maxConcurrent The maximum number of concurrent calls
+     * @return A composed {@code BiCharPredicate} that applies this predicate to its input, if less than the given
+     * number of calls are running concurrently.
+     * @throws IllegalArgumentException If given argument is not positive
+     * @see #bulkhead(Bulkhead)
+     */
+    @Nonnull
+    default BiCharPredicate bulkhead(final int maxConcurrent) {
+        return bulkhead(Bulkhead.of(maxConcurrent));
+    }
+
+    /**
+     * Returns a composed {@link BiCharPredicate} that applies this predicate to its input, if a permit of the given
+     * {@link Bulkhead} is acquired. Depending on the mode of the bulkhead, the call either waits for a permit or is
+     * rejected with a {@link CallNotPermittedException}. A bulkhead may be shared by several functional interfaces
+     * calling the same dependency.
+     *
+     * @param bulkhead The bulkhead which limits the concurrent calls of this predicate
+     * @return A composed {@code BiCharPredicate} that applies this predicate to its input, if a permit of the given
+     * {@code Bulkhead} is acquired.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see Bulkhead#of(int, Duration)
+     * @see Bulkhead#adaptive(int, int)
+     */
+    @Nonnull
+    default BiCharPredicate bulkhead(@Nonnull final Bulkhead bulkhead) {
+        Objects.requireNonNull(bulkhead);
+        return (value1, value2) -> {
+            final long permit = bulkhead.acquirePermission();
+            try {
+                return this.test(value1, value2);
+            } finally {
+                bulkhead.releasePermission(permit);
+            }
+        };
     }
 
 }
\ No newline at end of file
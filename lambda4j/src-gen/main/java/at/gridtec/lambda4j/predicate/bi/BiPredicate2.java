@@ -18,6 +18,9 @@ package at.gridtec.lambda4j.predicate.bi;
 import at.gridtec.lambda4j.Lambda;
 import at.gridtec.lambda4j.consumer.BooleanConsumer;
 import at.gridtec.lambda4j.consumer.bi.BiConsumer2;
+import at.gridtec.lambda4j.core.memoization.Codec;
+import at.gridtec.lambda4j.core.memoization.MemoizationCache;
+import at.gridtec.lambda4j.core.util.ThrowableUtils;
 import at.gridtec.lambda4j.function.BooleanFunction;
 import at.gridtec.lambda4j.function.bi.BiFunction2;
 import at.gridtec.lambda4j.function.bi.to.ToByteBiFunction;
@@ -35,16 +38,24 @@ import at.gridtec.lambda4j.function.conversion.BooleanToIntFunction;
 import at.gridtec.lambda4j.function.conversion.BooleanToLongFunction;
 import at.gridtec.lambda4j.function.conversion.BooleanToShortFunction;
 import at.gridtec.lambda4j.operator.unary.BooleanUnaryOperator;
+import at.gridtec.lambda4j.predicate.AdaptiveOrder;
 import at.gridtec.lambda4j.predicate.Predicate2;
+import at.gridtec.lambda4j.resilience.Bulkhead;
+import at.gridtec.lambda4j.resilience.CallNotPermittedException;
+import at.gridtec.lambda4j.supplier.BooleanSupplier2;
+import at.gridtec.lambda4j.supplier.Supplier2;
 
 import org.apache.commons.lang3.tuple.Pair;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -142,7 +153,7 @@ public interface BiPredicate2<T, U> extends Lambda, BiPredicate<T, U> {
      */
     @Nonnull
     static <T, U> BiPredicate2<T, U> constant(boolean ret) {
-        return (t, u) -> ret;
+        return (BiPredicate2<T, U> & Constant) (t, u) -> ret;
     }
 
     /**
@@ -155,7 +166,7 @@ public interface BiPredicate2<T, U> extends Lambda, BiPredicate<T, U> {
      */
     @Nonnull
     static <T, U> BiPredicate2<T, U> alwaysTrue() {
-        return (t, u) -> true;
+        return (BiPredicate2<T, U> & Constant) (t, u) -> true;
     }
 
     /**
@@ -168,7 +179,81 @@ public interface BiPredicate2<T, U> extends Lambda, BiPredicate<T, U> {
      */
     @Nonnull
     static <T, U> BiPredicate2<T, U> alwaysFalse() {
-        return (t, u) -> false;
+        return (BiPredicate2<T, U> & Constant) (t, u) -> false;
+    }
+
+    /**
+     * Returns a {@link BiPredicate2} that represents the short-circuiting logical AND of all given predicates, which
+     * adapts the order in which the given predicates are evaluated. Cheap predicates which are likely to return {@code
+     * false} are evaluated first.
+     * <p>
+     * The given predicates are only reordered, if all of them are marked as {@link Pure}. Otherwise they are evaluated
+     * in their given order.
+     *
+     * @param <T> The type of the first argument to the predicate
+     * @param <U> The type of the second argument to the predicate
+     * @param predicates The predicates to be logically-ANDed
+     * @return A {@code BiPredicate2} that represents the short-circuiting logical AND of all given predicates.
+     * @throws NullPointerException If given argument or one of its elements is {@code null}
+     * @implNote The given array is copied, so modifying it afterwards does not affect the returned predicate.
+     * @see AdaptiveOrder
+     */
+    @Nonnull
+    @SafeVarargs
+    static <T, U> BiPredicate2<T, U> adaptiveAnd(@Nonnull final BiPredicate<? super T, ? super U>... predicates) {
+        final List<BiPredicate<? super T, ? super U>> snapshot = new ArrayList<>(predicates.length);
+        for (final BiPredicate<? super T, ? super U> predicate : predicates) {
+            snapshot.add(predicate);
+        }
+        final AdaptiveOrder order = AdaptiveOrder.conjunction(snapshot.toArray());
+        return (t, u) -> {
+            if (order.shouldSample()) {
+                return order.sample(index -> snapshot.get(index).test(t, u));
+            }
+            for (final int index : order.get()) {
+                if (!snapshot.get(index).test(t, u)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    /**
+     * Returns a {@link BiPredicate2} that represents the short-circuiting logical OR of all given predicates, which
+     * adapts the order in which the given predicates are evaluated. Cheap predicates which are likely to return {@code
+     * true} are evaluated first.
+     * <p>
+     * The given predicates are only reordered, if all of them are marked as {@link Pure}. Otherwise they are evaluated
+     * in their given order.
+     *
+     * @param <T> The type of the first argument to the predicate
+     * @param <U> The type of the second argument to the predicate
+     * @param predicates The predicates to be logically-ORed
+     * @return A {@code BiPredicate2} that represents the short-circuiting logical OR of all given predicates.
+     * @throws NullPointerException If given argument or one of its elements is {@code null}
+     * @implNote The given array is copied, so modifying it afterwards does not affect the returned predicate.
+     * @see AdaptiveOrder
+     */
+    @Nonnull
+    @SafeVarargs
+    static <T, U> BiPredicate2<T, U> adaptiveOr(@Nonnull final BiPredicate<? super T, ? super U>... predicates) {
+        final List<BiPredicate<? super T, ? super U>> snapshot = new ArrayList<>(predicates.length);
+        for (final BiPredicate<? super T, ? super U> predicate : predicates) {
+            snapshot.add(predicate);
+        }
+        final AdaptiveOrder order = AdaptiveOrder.disjunction(snapshot.toArray());
+        return (t, u) -> {
+            if (order.shouldSample()) {
+                return order.sample(index -> snapshot.get(index).test(t, u));
+            }
+            for (final int index : order.get()) {
+                if (snapshot.get(index).test(t, u)) {
+                    return true;
+                }
+            }
+            return false;
+        };
     }
 
     /**
@@ -246,15 +331,97 @@ public interface BiPredicate2<T, U> extends Lambda, BiPredicate<T, U> {
      * applies this predicate to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to handle every type.
+     * @implNote The composed predicate is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
+     * @implNote If this predicate is marked as {@link Pure} and the {@code before} functions are constant (f.e. created
+     * by {@code constant}), this predicate is applied only once, when the composed predicate is applied for the first
+     * time. Its result is then returned by each further application. If applying it throws an exception, the exception
+     * is relayed to the caller and it is applied again on the next application.
      */
     @Nonnull
     default <A, B> BiPredicate2<A, B> compose(@Nonnull final Function<? super A, ? extends T> before1,
             @Nonnull final Function<? super B, ? extends U> before2) {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
+        if (this instanceof Pure && before1 instanceof Constant && before2 instanceof Constant) {
+            final BooleanSupplier2 result = BooleanSupplier2.of(() -> test(before1.apply(null),
+                                                                           before2.apply(null))).memoized();
+            return (BiPredicate2<A, B> & Pure) (a, b) -> result.getAsBoolean();
+        }
+        if (this instanceof Pure && before1 instanceof Pure && before2 instanceof Pure) {
+            return (BiPredicate2<A, B> & Pure) (a, b) -> test(before1.apply(a), before2.apply(b));
+        } else if (this instanceof ThreadSafe && before1 instanceof ThreadSafe && before2 instanceof ThreadSafe) {
+            return (BiPredicate2<A, B> & ThreadSafe) (a, b) -> test(before1.apply(a), before2.apply(b));
+        }
         return (a, b) -> test(before1.apply(a), before2.apply(b));
     }
 
+    /**
+     * Returns a composed {@link BiPredicate2} that first applies the {@code before} functions to its input
+     * concurrently, and then applies this predicate to the results. The first {@code before} function is applied by the
+     * calling thread, while the other ones are applied using the given {@link Executor}. The calling thread waits for
+     * their results afterwards. If evaluation of one of the operations throws an exception, it is relayed to the caller
+     * of the composed operation as is, the same as by {@link #compose(Function, Function)}. The {@code before}
+     * functions which are not started yet are cancelled in this case.
+     *
+     * @param <A> The type of the argument to the first given function, and of composed predicate
+     * @param <B> The type of the argument to the second given function, and of composed predicate
+     * @param executor The executor to apply the {@code before} functions with
+     * @param before1 The first function to apply before this predicate is applied
+     * @param before2 The second function to apply before this predicate is applied
+     * @return A composed {@code BiPredicate2} that first applies the {@code before} functions to its input
+     * concurrently, and then applies this predicate to the results.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @see #compose(Function, Function)
+     */
+    @Nonnull
+    default <A, B> BiPredicate2<A, B> composeParallel(@Nonnull final Executor executor,
+            @Nonnull final Function<? super A, ? extends T> before1,
+            @Nonnull final Function<? super B, ? extends U> before2) {
+        Objects.requireNonNull(executor);
+        Objects.requireNonNull(before1);
+        Objects.requireNonNull(before2);
+        return (a, b) -> {
+            final CompletableFuture<U> future2 = CompletableFuture.supplyAsync(() -> before2.apply(b), executor);
+            try {
+                return test(before1.apply(a), ThrowableUtils.join(future2));
+            } finally {
+                future2.cancel(false);
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link BiFunction2} that applies the {@code before} functions to its input concurrently using
+     * the given {@link Executor}, and then applies this predicate to the results. The composed function returns a
+     * {@link CompletableFuture} without waiting for any result, so no thread is blocked. This predicate is applied by
+     * the thread which completes the last {@code before} function. The {@code CompletableFuture} is completed
+     * exceptionally, if a {@link Throwable} is thrown from one of the {@code before} functions or from this predicate.
+     *
+     * @param <A> The type of the argument to the first given function, and of composed predicate
+     * @param <B> The type of the argument to the second given function, and of composed predicate
+     * @param executor The executor to apply the {@code before} functions with
+     * @param before1 The first function to apply before this predicate is applied
+     * @param before2 The second function to apply before this predicate is applied
+     * @return A composed {@code BiFunction2} that applies the {@code before} functions to its input concurrently, and
+     * then applies this predicate to the results.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @see #composeParallel(Executor, Function, Function)
+     */
+    @Nonnull
+    default <A, B> BiFunction2<A, B, CompletableFuture<Boolean>> composeParallelAsync(@Nonnull final Executor executor,
+            @Nonnull final Function<? super A, ? extends T> before1,
+            @Nonnull final Function<? super B, ? extends U> before2) {
+        Objects.requireNonNull(executor);
+        Objects.requireNonNull(before1);
+        Objects.requireNonNull(before2);
+        return (a, b) -> {
+            final CompletableFuture<T> future1 = CompletableFuture.supplyAsync(() -> before1.apply(a), executor);
+            final CompletableFuture<U> future2 = CompletableFuture.supplyAsync(() -> before2.apply(b), executor);
+            return CompletableFuture.allOf(future1, future2)
+                    .thenApply(ignored -> test(future1.join(), future2.join()));
+        };
+    }
+
     /**
      * Returns a composed {@link BiFunction2} that first applies this predicate to its input, and then applies the
      * {@code after} function to the result.
@@ -266,10 +433,26 @@ public interface BiPredicate2<T, U> extends Lambda, BiPredicate<T, U> {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote The composed predicate is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
+     * @implNote If this predicate is constant (f.e. created by {@code constant}) and the {@code after} function is
+     * marked as {@link Pure}, the {@code after} function is applied only once, when the composed function is applied
+     * for the first time. Its result is then returned by each further application. If applying it throws an exception,
+     * the exception is relayed to the caller and it is applied again on the next application.
      */
     @Nonnull
     default <S> BiFunction2<T, U, S> andThen(@Nonnull final BooleanFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (this instanceof Constant && after instanceof Pure) {
+            // The result is held by an optional, so that a null result is memoized as well
+            final Supplier2<Optional<S>> result = Supplier2.of(() -> Optional.ofNullable(after.apply(test(null, null))))
+                    .memoized();
+            return (BiFunction2<T, U, S> & Pure) (t, u) -> result.get().orElse(null);
+        }
+        if (this instanceof Pure && after instanceof Pure) {
+            return (BiFunction2<T, U, S> & Pure) (t, u) -> after.apply(test(t, u));
+        } else if (this instanceof ThreadSafe && after instanceof ThreadSafe) {
+            return (BiFunction2<T, U, S> & ThreadSafe) (t, u) -> after.apply(test(t, u));
+        }
         return (t, u) -> after.apply(test(t, u));
     }
 
@@ -445,10 +628,26 @@ public interface BiPredicate2<T, U> extends Lambda, BiPredicate<T, U> {
      * Returns a {@link BiPredicate2} that represents the logical negation of this one.
      *
      * @return A {@code BiPredicate2} that represents the logical negation of this one.
+     * @implNote Negating the returned predicate again returns this predicate instead of wrapping it twice. If this
+     * predicate is constant (f.e. created by {@link #alwaysTrue()}), the opposite constant predicate is returned.
      */
     @Nonnull
     default BiPredicate2<T, U> negate() {
-        return (t, u) -> !test(t, u);
+        if (this instanceof Constant) {
+            return test(null, null) ? alwaysFalse() : alwaysTrue();
+        }
+        return new BiPredicate2<T, U>() {
+            @Override
+            public boolean test(T t, U u) {
+                return !BiPredicate2.this.test(t, u);
+            }
+
+            @Nonnull
+            @Override
+            public BiPredicate2<T, U> negate() {
+                return BiPredicate2.this;
+            }
+        };
     }
 
     /**
@@ -463,12 +662,31 @@ public interface BiPredicate2<T, U> extends Lambda, BiPredicate<T, U> {
      * @return A composed {@code BiPredicate2} that represents the short-circuiting logical AND of this predicate and
      * the {@code other} predicate.
      * @throws NullPointerException If given argument is {@code null}
+     * @implNote The composed predicate is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
+     * @implNote If this predicate is constant (f.e. created by {@link #alwaysTrue()}), the composed predicate is
+     * simplified to either this or the {@code other} predicate. The same applies, if the {@code other} predicate is
+     * constant and always returns {@code true}.
      * @see #or(BiPredicate)
      * @see #xor(BiPredicate)
      */
     @Nonnull
+    @SuppressWarnings("unchecked")
     default BiPredicate2<T, U> and(@Nonnull final BiPredicate<? super T, ? super U> other) {
         Objects.requireNonNull(other);
+        if (this instanceof Constant) {
+            if (!test(null, null)) {
+                return this;
+            } else if (other instanceof BiPredicate2) {
+                return (BiPredicate2<T, U>) other;
+            }
+        } else if (other instanceof Constant && other.test(null, null)) {
+            return this;
+        }
+        if (this instanceof Pure && other instanceof Pure) {
+            return (BiPredicate2<T, U> & Pure) (t, u) -> test(t, u) && other.test(t, u);
+        } else if (this instanceof ThreadSafe && other instanceof ThreadSafe) {
+            return (BiPredicate2<T, U> & ThreadSafe) (t, u) -> test(t, u) && other.test(t, u);
+        }
         return (t, u) -> test(t, u) && other.test(t, u);
     }
 
@@ -484,12 +702,31 @@ public interface BiPredicate2<T, U> extends Lambda, BiPredicate<T, U> {
      * @return A composed {@code BiPredicate2} that represents the short-circuiting logical OR of this predicate and the
      * {@code other} predicate.
      * @throws NullPointerException If given argument is {@code null}
+     * @implNote The composed predicate is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
+     * @implNote If this predicate is constant (f.e. created by {@link #alwaysFalse()}), the composed predicate is
+     * simplified to either this or the {@code other} predicate. The same applies, if the {@code other} predicate is
+     * constant and always returns {@code false}.
      * @see #and(BiPredicate)
      * @see #xor(BiPredicate)
      */
     @Nonnull
+    @SuppressWarnings("unchecked")
     default BiPredicate2<T, U> or(@Nonnull final BiPredicate<? super T, ? super U> other) {
         Objects.requireNonNull(other);
+        if (this instanceof Constant) {
+            if (test(null, null)) {
+                return this;
+            } else if (other instanceof BiPredicate2) {
+                return (BiPredicate2<T, U>) other;
+            }
+        } else if (other instanceof Constant && !other.test(null, null)) {
+            return this;
+        }
+        if (this instanceof Pure && other instanceof Pure) {
+            return (BiPredicate2<T, U> & Pure) (t, u) -> test(t, u) || other.test(t, u);
+        } else if (this instanceof ThreadSafe && other instanceof ThreadSafe) {
+            return (BiPredicate2<T, U> & ThreadSafe) (t, u) -> test(t, u) || other.test(t, u);
+        }
         return (t, u) -> test(t, u) || other.test(t, u);
     }
 
@@ -525,10 +762,22 @@ public interface BiPredicate2<T, U> extends Lambda, BiPredicate<T, U> {
      * Returns a reversed version of this predicate. This may be useful in recursive context.
      *
      * @return A reversed version of this predicate.
+     * @implNote Reversing the returned predicate again returns this predicate instead of wrapping it twice.
      */
     @Nonnull
     default BiPredicate2<U, T> reversed() {
-        return (u, t) -> test(t, u);
+        return new BiPredicate2<U, T>() {
+            @Override
+            public boolean test(U u, T t) {
+                return BiPredicate2.this.test(t, u);
+            }
+
+            @Nonnull
+            @Override
+            public BiPredicate2<T, U> reversed() {
+                return BiPredicate2.this;
+            }
+        };
     }
 
     /**
@@ -538,23 +787,55 @@ public interface BiPredicate2<T, U> extends Lambda, BiPredicate<T, U> {
      * <p>
      * Unless the predicate and therefore the used cache will be garbage-collected, it will keep all memoized values
      * forever.
+     * <p>
+     * The returned memoized predicate is serializable, if this predicate is serializable. Its memoized values are not
+     * written when it gets serialized, so the deserialized predicate starts with an empty cache.
      *
      * @return A memoized (caching) version of this {@code BiPredicate2}.
      * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
      * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
      * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
      * thread-safe.
+     * @see #memoized(boolean)
      */
     @Nonnull
     default BiPredicate2<T, U> memoized() {
+        return memoized(false);
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link BiPredicate2}. Whenever it is called, the mapping between the
+     * input parameters and the return value is preserved in a cache, making subsequent calls returning the memoized
+     * value instead of computing the return value again.
+     * <p>
+     * Unless the predicate and therefore the used cache will be garbage-collected, it will keep all memoized values
+     * forever.
+     * <p>
+     * The returned memoized predicate is serializable, if this predicate is serializable. If {@code serializeCache} is
+     * {@code true}, a snapshot of all memoized values is written when it gets serialized, so the deserialized predicate
+     * starts warm. Otherwise the deserialized predicate starts with an empty cache. Primitive values are thereby
+     * written in their binary form.
+     *
+     * @param serializeCache {@code true} if the memoized values should be written when the memoized predicate gets
+     * serialized, {@code false} otherwise
+     * @return A memoized (caching) version of this {@code BiPredicate2}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
+     * thread-safe. If this predicate is already memoized, it is returned as-is regardless of {@code serializeCache}.
+     * @see MemoizationCache
+     */
+    @Nonnull
+    default BiPredicate2<T, U> memoized(final boolean serializeCache) {
         if (isMemoized()) {
             return this;
         } else {
-            final Map<Pair<T, U>, Boolean> cache = new ConcurrentHashMap<>();
-            final Object lock = new Object();
+            final Codec<Pair<T, U>> keyCodec = Codec.ofPair(Codec.ofObject(), Codec.ofObject());
+            final MemoizationCache<Pair<T, U>, Boolean> cache = MemoizationCache.of(keyCodec, Codec.ofBoolean(),
+                                                                                    serializeCache);
             return (BiPredicate2<T, U> & Memoized) (t, u) -> {
                 final boolean returnValue;
-                synchronized (lock) {
+                synchronized (cache) {
                     returnValue = cache.computeIfAbsent(Pair.of(t, u), key -> test(key.getLeft(), key.getRight()));
                 }
                 return returnValue;
@@ -562,4 +843,46 @@ public interface BiPredicate2<T, U> extends Lambda, BiPredicate<T, U> {
         }
     }
 
+    /**
+     * Returns a composed {@link BiPredicate2} that applies this predicate to its input, if less than the given number
+     * of calls of the composed predicate are running concurrently. Otherwise the call is rejected immediately with a
+     * {@link CallNotPermittedException}.
+     *
+     * @param maxConcurrent The maximum number of concurrent calls
+     * @return A composed {@code BiPredicate2} that applies this predicate to its input, if less than the given number
+     * of calls are running concurrently.
+     * @throws IllegalArgumentException If given argument is not positive
+     * @see #bulkhead(Bulkhead)
+     */
+    @Nonnull
+    default BiPredicate2<T, U> bulkhead(final int maxConcurrent) {
+        return bulkhead(Bulkhead.of(maxConcurrent));
+    }
+
+    /**
+     * Returns a composed {@link BiPredicate2} that applies this predicate to its input, if a permit of the given {@link
+     * Bulkhead} is acquired. Depending on the mode of the bulkhead, the call either waits for a permit or is rejected
+     * with a {@link CallNotPermittedException}. A bulkhead may be shared by several functional interfaces calling the
+     * same dependency.
+     *
+     * @param bulkhead The bulkhead which limits the concurrent calls of this predicate
+     * @return A composed {@code BiPredicate2} that applies this predicate to its input, if a permit of the given {@code
+     * Bulkhead} is acquired.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see Bulkhead#of(int, Duration)
+     * @see Bulkhead#adaptive(int, int)
+     */
+    @Nonnull
+    default BiPredicate2<T, U> bulkhead(@Nonnull final Bulkhead bulkhead) {
+        Objects.requireNonNull(bulkhead);
+        return (t, u) -> {
+            final long permit = bulkhead.acquirePermission();
+            try {
+                return this.test(t, u);
+            } finally {
+                bulkhead.releasePermission(permit);
+            }
+        };
+    }
+
 }
\ No newline at end of file
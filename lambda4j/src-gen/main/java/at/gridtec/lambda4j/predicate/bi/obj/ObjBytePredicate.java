@@ -18,11 +18,16 @@ package at.gridtec.lambda4j.predicate.bi.obj;
 import at.gridtec.lambda4j.Lambda;
 import at.gridtec.lambda4j.consumer.BooleanConsumer;
 import at.gridtec.lambda4j.consumer.bi.obj.ObjByteConsumer;
+import at.gridtec.lambda4j.core.memoization.Codec;
+import at.gridtec.lambda4j.core.memoization.MemoizationCache;
+import at.gridtec.lambda4j.core.util.DerivedView;
+import at.gridtec.lambda4j.core.util.ThrowableUtils;
 import at.gridtec.lambda4j.function.BooleanFunction;
 import at.gridtec.lambda4j.function.ByteFunction;
 import at.gridtec.lambda4j.function.CharFunction;
 import at.gridtec.lambda4j.function.FloatFunction;
 import at.gridtec.lambda4j.function.ShortFunction;
+import at.gridtec.lambda4j.function.bi.BiFunction2;
 import at.gridtec.lambda4j.function.bi.obj.ObjByteFunction;
 import at.gridtec.lambda4j.function.bi.obj.ObjByteToByteFunction;
 import at.gridtec.lambda4j.function.bi.obj.ObjByteToCharFunction;
@@ -48,6 +53,7 @@ import at.gridtec.lambda4j.function.to.ToByteFunction;
 import at.gridtec.lambda4j.operator.binary.BooleanBinaryOperator;
 import at.gridtec.lambda4j.operator.unary.BooleanUnaryOperator;
 import at.gridtec.lambda4j.operator.unary.ByteUnaryOperator;
+import at.gridtec.lambda4j.predicate.AdaptiveOrder;
 import at.gridtec.lambda4j.predicate.BytePredicate;
 import at.gridtec.lambda4j.predicate.Predicate2;
 import at.gridtec.lambda4j.predicate.bi.BiBytePredicate;
@@ -58,15 +64,22 @@ import at.gridtec.lambda4j.predicate.bi.BiIntPredicate;
 import at.gridtec.lambda4j.predicate.bi.BiLongPredicate;
 import at.gridtec.lambda4j.predicate.bi.BiPredicate2;
 import at.gridtec.lambda4j.predicate.bi.BiShortPredicate;
+import at.gridtec.lambda4j.resilience.Bulkhead;
+import at.gridtec.lambda4j.resilience.CallNotPermittedException;
+import at.gridtec.lambda4j.supplier.BooleanSupplier2;
+import at.gridtec.lambda4j.supplier.Supplier2;
 
 import org.apache.commons.lang3.tuple.Pair;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.DoubleFunction;
 import java.util.function.Function;
 import java.util.function.IntFunction;
@@ -161,7 +174,7 @@ public interface ObjBytePredicate<T> extends Lambda {
      */
     @Nonnull
     static <T> ObjBytePredicate<T> constant(boolean ret) {
-        return (t, value) -> ret;
+        return (ObjBytePredicate<T> & Constant) (t, value) -> ret;
     }
 
     /**
@@ -173,7 +186,7 @@ public interface ObjBytePredicate<T> extends Lambda {
      */
     @Nonnull
     static <T> ObjBytePredicate<T> alwaysTrue() {
-        return (t, value) -> true;
+        return (ObjBytePredicate<T> & Constant) (t, value) -> true;
     }
 
     /**
@@ -185,7 +198,79 @@ public interface ObjBytePredicate<T> extends Lambda {
      */
     @Nonnull
     static <T> ObjBytePredicate<T> alwaysFalse() {
-        return (t, value) -> false;
+        return (ObjBytePredicate<T> & Constant) (t, value) -> false;
+    }
+
+    /**
+     * Returns a {@link ObjBytePredicate} that represents the short-circuiting logical AND of all given predicates,
+     * which adapts the order in which the given predicates are evaluated. Cheap predicates which are likely to return
+     * {@code false} are evaluated first.
+     * <p>
+     * The given predicates are only reordered, if all of them are marked as {@link Pure}. Otherwise they are evaluated
+     * in their given order.
+     *
+     * @param <T> The type of the first argument to the predicate
+     * @param predicates The predicates to be logically-ANDed
+     * @return A {@code ObjBytePredicate} that represents the short-circuiting logical AND of all given predicates.
+     * @throws NullPointerException If given argument or one of its elements is {@code null}
+     * @implNote The given array is copied, so modifying it afterwards does not affect the returned predicate.
+     * @see AdaptiveOrder
+     */
+    @Nonnull
+    @SafeVarargs
+    static <T> ObjBytePredicate<T> adaptiveAnd(@Nonnull final ObjBytePredicate<? super T>... predicates) {
+        final List<ObjBytePredicate<? super T>> snapshot = new ArrayList<>(predicates.length);
+        for (final ObjBytePredicate<? super T> predicate : predicates) {
+            snapshot.add(predicate);
+        }
+        final AdaptiveOrder order = AdaptiveOrder.conjunction(snapshot.toArray());
+        return (t, value) -> {
+            if (order.shouldSample()) {
+                return order.sample(index -> snapshot.get(index).test(t, value));
+            }
+            for (final int index : order.get()) {
+                if (!snapshot.get(index).test(t, value)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    /**
+     * Returns a {@link ObjBytePredicate} that represents the short-circuiting logical OR of all given predicates, which
+     * adapts the order in which the given predicates are evaluated. Cheap predicates which are likely to return {@code
+     * true} are evaluated first.
+     * <p>
+     * The given predicates are only reordered, if all of them are marked as {@link Pure}. Otherwise they are evaluated
+     * in their given order.
+     *
+     * @param <T> The type of the first argument to the predicate
+     * @param predicates The predicates to be logically-ORed
+     * @return A {@code ObjBytePredicate} that represents the short-circuiting logical OR of all given predicates.
+     * @throws NullPointerException If given argument or one of its elements is {@code null}
+     * @implNote The given array is copied, so modifying it afterwards does not affect the returned predicate.
+     * @see AdaptiveOrder
+     */
+    @Nonnull
+    @SafeVarargs
+    static <T> ObjBytePredicate<T> adaptiveOr(@Nonnull final ObjBytePredicate<? super T>... predicates) {
+        final List<ObjBytePredicate<? super T>> snapshot = new ArrayList<>(predicates.length);
+        for (final ObjBytePredicate<? super T> predicate : predicates) {
+            snapshot.add(predicate);
+        }
+        final AdaptiveOrder order = AdaptiveOrder.disjunction(snapshot.toArray());
+        return (t, value) -> {
+            if (order.shouldSample()) {
+                return order.sample(index -> snapshot.get(index).test(t, value));
+            }
+            for (final int index : order.get()) {
+                if (snapshot.get(index).test(t, value)) {
+                    return true;
+                }
+            }
+            return false;
+        };
     }
 
     /**
@@ -205,6 +290,40 @@ public interface ObjBytePredicate<T> extends Lambda {
         return (t, value) -> (t == null ? target1 == null : t.equals(target1)) && (value == target2);
     }
 
+    /**
+     * Returns a {@link ObjBytePredicate} which represents the given {@link BiPredicate2}. Thereby the boxed input
+     * arguments and results of the given predicate are unboxed to their primitive counterparts. This method is the
+     * inverse of {@link #boxed()}.
+     *
+     * @param <T> The type of the first argument to the predicate
+     * @param boxed The {@code BiPredicate2} to be represented by the returned {@code ObjBytePredicate}
+     * @return A {@code ObjBytePredicate} which represents the given {@code BiPredicate2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implNote If the given {@code BiPredicate2} was returned from {@link #boxed()}, the original {@code
+     * ObjBytePredicate} is returned instead of wrapping it twice. Likewise, {@link #boxed()} of the returned {@code
+     * ObjBytePredicate} returns the given {@code BiPredicate2}.
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <T> ObjBytePredicate<T> unboxed(@Nonnull final BiPredicate2<T, Byte> boxed) {
+        Objects.requireNonNull(boxed);
+        if (boxed instanceof DerivedView && ((DerivedView) boxed).getSource() instanceof ObjBytePredicate) {
+            return (ObjBytePredicate<T>) ((DerivedView) boxed).getSource();
+        }
+        return new ObjBytePredicate<T>() {
+            @Override
+            public boolean test(T t, byte value) {
+                return boxed.test(t, value);
+            }
+
+            @Nonnull
+            @Override
+            public BiPredicate2<T, Byte> boxed() {
+                return boxed;
+            }
+        };
+    }
+
     /**
      * Applies this predicate to the given arguments.
      *
@@ -260,15 +379,97 @@ public interface ObjBytePredicate<T> extends Lambda {
      * applies this predicate to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to handle every type.
+     * @implNote The composed predicate is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
+     * @implNote If this predicate is marked as {@link Pure} and the {@code before} functions are constant (f.e. created
+     * by {@code constant}), this predicate is applied only once, when the composed predicate is applied for the first
+     * time. Its result is then returned by each further application. If applying it throws an exception, the exception
+     * is relayed to the caller and it is applied again on the next application.
      */
     @Nonnull
     default <A, B> BiPredicate2<A, B> compose(@Nonnull final Function<? super A, ? extends T> before1,
             @Nonnull final ToByteFunction<? super B> before2) {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
+        if (this instanceof Pure && before1 instanceof Constant && before2 instanceof Constant) {
+            final BooleanSupplier2 result = BooleanSupplier2.of(() -> test(before1.apply(null),
+                                                                           before2.applyAsByte(null))).memoized();
+            return (BiPredicate2<A, B> & Pure) (a, b) -> result.getAsBoolean();
+        }
+        if (this instanceof Pure && before1 instanceof Pure && before2 instanceof Pure) {
+            return (BiPredicate2<A, B> & Pure) (a, b) -> test(before1.apply(a), before2.applyAsByte(b));
+        } else if (this instanceof ThreadSafe && before1 instanceof ThreadSafe && before2 instanceof ThreadSafe) {
+            return (BiPredicate2<A, B> & ThreadSafe) (a, b) -> test(before1.apply(a), before2.applyAsByte(b));
+        }
         return (a, b) -> test(before1.apply(a), before2.applyAsByte(b));
     }
 
+    /**
+     * Returns a composed {@link BiPredicate2} that first applies the {@code before} functions to its input
+     * concurrently, and then applies this predicate to the results. The first {@code before} function is applied by the
+     * calling thread, while the other ones are applied using the given {@link Executor}. The calling thread waits for
+     * their results afterwards. If evaluation of one of the operations throws an exception, it is relayed to the caller
+     * of the composed operation as is, the same as by {@link #compose(Function, ToByteFunction)}. The {@code before}
+     * functions which are not started yet are cancelled in this case.
+     *
+     * @param <A> The type of the argument to the first given function, and of composed predicate
+     * @param <B> The type of the argument to the second given function, and of composed predicate
+     * @param executor The executor to apply the {@code before} functions with
+     * @param before1 The first function to apply before this predicate is applied
+     * @param before2 The second function to apply before this predicate is applied
+     * @return A composed {@code BiPredicate2} that first applies the {@code before} functions to its input
+     * concurrently, and then applies this predicate to the results.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @see #compose(Function, ToByteFunction)
+     */
+    @Nonnull
+    default <A, B> BiPredicate2<A, B> composeParallel(@Nonnull final Executor executor,
+            @Nonnull final Function<? super A, ? extends T> before1, @Nonnull final ToByteFunction<? super B> before2) {
+        Objects.requireNonNull(executor);
+        Objects.requireNonNull(before1);
+        Objects.requireNonNull(before2);
+        return (a, b) -> {
+            final CompletableFuture<Byte> future2 = CompletableFuture.supplyAsync(() -> before2.applyAsByte(b),
+                                                                                  executor);
+            try {
+                return test(before1.apply(a), ThrowableUtils.join(future2));
+            } finally {
+                future2.cancel(false);
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link BiFunction2} that applies the {@code before} functions to its input concurrently using
+     * the given {@link Executor}, and then applies this predicate to the results. The composed function returns a
+     * {@link CompletableFuture} without waiting for any result, so no thread is blocked. This predicate is applied by
+     * the thread which completes the last {@code before} function. The {@code CompletableFuture} is completed
+     * exceptionally, if a {@link Throwable} is thrown from one of the {@code before} functions or from this predicate.
+     *
+     * @param <A> The type of the argument to the first given function, and of composed predicate
+     * @param <B> The type of the argument to the second given function, and of composed predicate
+     * @param executor The executor to apply the {@code before} functions with
+     * @param before1 The first function to apply before this predicate is applied
+     * @param before2 The second function to apply before this predicate is applied
+     * @return A composed {@code BiFunction2} that applies the {@code before} functions to its input concurrently, and
+     * then applies this predicate to the results.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @see #composeParallel(Executor, Function, ToByteFunction)
+     */
+    @Nonnull
+    default <A, B> BiFunction2<A, B, CompletableFuture<Boolean>> composeParallelAsync(@Nonnull final Executor executor,
+            @Nonnull final Function<? super A, ? extends T> before1, @Nonnull final ToByteFunction<? super B> before2) {
+        Objects.requireNonNull(executor);
+        Objects.requireNonNull(before1);
+        Objects.requireNonNull(before2);
+        return (a, b) -> {
+            final CompletableFuture<T> future1 = CompletableFuture.supplyAsync(() -> before1.apply(a), executor);
+            final CompletableFuture<Byte> future2 = CompletableFuture.supplyAsync(() -> before2.applyAsByte(b),
+                                                                                  executor);
+            return CompletableFuture.allOf(future1, future2)
+                    .thenApply(ignored -> test(future1.join(), future2.join()));
+        };
+    }
+
     /**
      * Returns a composed {@link BooleanBinaryOperator} that first applies the {@code before} functions to its input,
      * and then applies this predicate to the result. If evaluation of either operation throws an exception, it is
@@ -460,10 +661,26 @@ public interface ObjBytePredicate<T> extends Lambda {
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote The composed predicate is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
+     * @implNote If this predicate is constant (f.e. created by {@code constant}) and the {@code after} function is
+     * marked as {@link Pure}, the {@code after} function is applied only once, when the composed function is applied
+     * for the first time. Its result is then returned by each further application. If applying it throws an exception,
+     * the exception is relayed to the caller and it is applied again on the next application.
      */
     @Nonnull
     default <S> ObjByteFunction<T, S> andThen(@Nonnull final BooleanFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (this instanceof Constant && after instanceof Pure) {
+            // The result is held by an optional, so that a null result is memoized as well
+            final Supplier2<Optional<S>> result = Supplier2.of(
+                    () -> Optional.ofNullable(after.apply(test(null, (byte) 0)))).memoized();
+            return (ObjByteFunction<T, S> & Pure) (t, value) -> result.get().orElse(null);
+        }
+        if (this instanceof Pure && after instanceof Pure) {
+            return (ObjByteFunction<T, S> & Pure) (t, value) -> after.apply(test(t, value));
+        } else if (this instanceof ThreadSafe && after instanceof ThreadSafe) {
+            return (ObjByteFunction<T, S> & ThreadSafe) (t, value) -> after.apply(test(t, value));
+        }
         return (t, value) -> after.apply(test(t, value));
     }
 
@@ -639,10 +856,26 @@ public interface ObjBytePredicate<T> extends Lambda {
      * Returns a {@link ObjBytePredicate} that represents the logical negation of this one.
      *
      * @return A {@code ObjBytePredicate} that represents the logical negation of this one.
+     * @implNote Negating the returned predicate again returns this predicate instead of wrapping it twice. If this
+     * predicate is constant (f.e. created by {@link #alwaysTrue()}), the opposite constant predicate is returned.
      */
     @Nonnull
     default ObjBytePredicate<T> negate() {
-        return (t, value) -> !test(t, value);
+        if (this instanceof Constant) {
+            return test(null, (byte) 0) ? alwaysFalse() : alwaysTrue();
+        }
+        return new ObjBytePredicate<T>() {
+            @Override
+            public boolean test(T t, byte value) {
+                return !ObjBytePredicate.this.test(t, value);
+            }
+
+            @Nonnull
+            @Override
+            public ObjBytePredicate<T> negate() {
+                return ObjBytePredicate.this;
+            }
+        };
     }
 
     /**
@@ -657,12 +890,31 @@ public interface ObjBytePredicate<T> extends Lambda {
      * @return A composed {@code ObjBytePredicate} that represents the short-circuiting logical AND of this predicate
      * and the {@code other} predicate.
      * @throws NullPointerException If given argument is {@code null}
+     * @implNote The composed predicate is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
+     * @implNote If this predicate is constant (f.e. created by {@link #alwaysTrue()}), the composed predicate is
+     * simplified to either this or the {@code other} predicate. The same applies, if the {@code other} predicate is
+     * constant and always returns {@code true}.
      * @see #or(ObjBytePredicate)
      * @see #xor(ObjBytePredicate)
      */
     @Nonnull
+    @SuppressWarnings("unchecked")
     default ObjBytePredicate<T> and(@Nonnull final ObjBytePredicate<? super T> other) {
         Objects.requireNonNull(other);
+        if (this instanceof Constant) {
+            if (!test(null, (byte) 0)) {
+                return this;
+            } else if (other instanceof ObjBytePredicate) {
+                return (ObjBytePredicate<T>) other;
+            }
+        } else if (other instanceof Constant && other.test(null, (byte) 0)) {
+            return this;
+        }
+        if (this instanceof Pure && other instanceof Pure) {
+            return (ObjBytePredicate<T> & Pure) (t, value) -> test(t, value) && other.test(t, value);
+        } else if (this instanceof ThreadSafe && other instanceof ThreadSafe) {
+            return (ObjBytePredicate<T> & ThreadSafe) (t, value) -> test(t, value) && other.test(t, value);
+        }
         return (t, value) -> test(t, value) && other.test(t, value);
     }
 
@@ -678,12 +930,31 @@ public interface ObjBytePredicate<T> extends Lambda {
      * @return A composed {@code ObjBytePredicate} that represents the short-circuiting logical OR of this predicate and
      * the {@code other} predicate.
      * @throws NullPointerException If given argument is {@code null}
+     * @implNote The composed predicate is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
+     * @implNote If this predicate is constant (f.e. created by {@link #alwaysFalse()}), the composed predicate is
+     * simplified to either this or the {@code other} predicate. The same applies, if the {@code other} predicate is
+     * constant and always returns {@code false}.
      * @see #and(ObjBytePredicate)
      * @see #xor(ObjBytePredicate)
      */
     @Nonnull
+    @SuppressWarnings("unchecked")
     default ObjBytePredicate<T> or(@Nonnull final ObjBytePredicate<? super T> other) {
         Objects.requireNonNull(other);
+        if (this instanceof Constant) {
+            if (test(null, (byte) 0)) {
+                return this;
+            } else if (other instanceof ObjBytePredicate) {
+                return (ObjBytePredicate<T>) other;
+            }
+        } else if (other instanceof Constant && !other.test(null, (byte) 0)) {
+            return this;
+        }
+        if (this instanceof Pure && other instanceof Pure) {
+            return (ObjBytePredicate<T> & Pure) (t, value) -> test(t, value) || other.test(t, value);
+        } else if (this instanceof ThreadSafe && other instanceof ThreadSafe) {
+            return (ObjBytePredicate<T> & ThreadSafe) (t, value) -> test(t, value) || other.test(t, value);
+        }
         return (t, value) -> test(t, value) || other.test(t, value);
     }
 
@@ -712,23 +983,55 @@ public interface ObjBytePredicate<T> extends Lambda {
      * <p>
      * Unless the predicate and therefore the used cache will be garbage-collected, it will keep all memoized values
      * forever.
+     * <p>
+     * The returned memoized predicate is serializable, if this predicate is serializable. Its memoized values are not
+     * written when it gets serialized, so the deserialized predicate starts with an empty cache.
      *
      * @return A memoized (caching) version of this {@code ObjBytePredicate}.
      * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
      * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
      * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
      * thread-safe.
+     * @see #memoized(boolean)
      */
     @Nonnull
     default ObjBytePredicate<T> memoized() {
+        return memoized(false);
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link ObjBytePredicate}. Whenever it is called, the mapping between
+     * the input parameters and the return value is preserved in a cache, making subsequent calls returning the memoized
+     * value instead of computing the return value again.
+     * <p>
+     * Unless the predicate and therefore the used cache will be garbage-collected, it will keep all memoized values
+     * forever.
+     * <p>
+     * The returned memoized predicate is serializable, if this predicate is serializable. If {@code serializeCache} is
+     * {@code true}, a snapshot of all memoized values is written when it gets serialized, so the deserialized predicate
+     * starts warm. Otherwise the deserialized predicate starts with an empty cache. Primitive values are thereby
+     * written in their binary form.
+     *
+     * @param serializeCache {@code true} if the memoized values should be written when the memoized predicate gets
+     * serialized, {@code false} otherwise
+     * @return A memoized (caching) version of this {@code ObjBytePredicate}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
+     * thread-safe. If this predicate is already memoized, it is returned as-is regardless of {@code serializeCache}.
+     * @see MemoizationCache
+     */
+    @Nonnull
+    default ObjBytePredicate<T> memoized(final boolean serializeCache) {
         if (isMemoized()) {
             return this;
         } else {
-            final Map<Pair<T, Byte>, Boolean> cache = new ConcurrentHashMap<>();
-            final Object lock = new Object();
+            final Codec<Pair<T, Byte>> keyCodec = Codec.ofPair(Codec.ofObject(), Codec.ofByte());
+            final MemoizationCache<Pair<T, Byte>, Boolean> cache = MemoizationCache.of(keyCodec, Codec.ofBoolean(),
+                                                                                       serializeCache);
             return (ObjBytePredicate<T> & Memoized) (t, value) -> {
                 final boolean returnValue;
-                synchronized (lock) {
+                synchronized (cache) {
                     returnValue = cache.computeIfAbsent(Pair.of(t, value), key -> test(key.getLeft(), key.getRight()));
                 }
                 return returnValue;
@@ -742,10 +1045,68 @@ public interface ObjBytePredicate<T> extends Lambda {
      * {@code ObjBytePredicate} with methods provided by the {@code JDK}.
      *
      * @return A composed {@code BiPredicate2} which represents this {@code ObjBytePredicate}.
+     * @implNote The returned {@code BiPredicate2} is a {@link DerivedView} of this {@code ObjBytePredicate}, so {@link
+     * #unboxed(BiPredicate2)} returns this {@code ObjBytePredicate} instead of wrapping it twice.
      */
     @Nonnull
     default BiPredicate2<T, Byte> boxed() {
-        return this::test;
+        final class Boxed implements BiPredicate2<T, Byte>, DerivedView {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public boolean test(T t, Byte value) {
+                return ObjBytePredicate.this.test(t, value);
+            }
+
+            @Nonnull
+            @Override
+            public ObjBytePredicate<T> getSource() {
+                return ObjBytePredicate.this;
+            }
+        }
+        return new Boxed();
+    }
+
+    /**
+     * Returns a composed {@link ObjBytePredicate} that applies this predicate to its input, if less than the given
+     * number of calls of the composed predicate are running concurrently. Otherwise the call is rejected immediately
+     * with a {@link CallNotPermittedException}.
+     *
+     * @param maxConcurrent The maximum number of concurrent calls
+     * @return A composed {@code ObjBytePredicate} that applies this predicate to its input, if less than the given
+     * number of calls are running concurrently.
+     * @throws IllegalArgumentException If given argument is not positive
+     * @see #bulkhead(Bulkhead)
+     */
+    @Nonnull
+    default ObjBytePredicate<T> bulkhead(final int maxConcurrent) {
+        return bulkhead(Bulkhead.of(maxConcurrent));
+    }
+
+    /**
+     * Returns a composed {@link ObjBytePredicate} that applies this predicate to its input, if a permit of the given
+     * {@link Bulkhead} is acquired. Depending on the mode of the bulkhead, the call either waits for a permit or is
+     * rejected with a {@link CallNotPermittedException}. A bulkhead may be shared by several functional interfaces
+     * calling the same dependency.
+     *
+     * @param bulkhead The bulkhead which limits the concurrent calls of this predicate
+     * @return A composed {@code ObjBytePredicate} that applies this predicate to its input, if a permit of the given
+     * {@code Bulkhead} is acquired.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see Bulkhead#of(int, Duration)
+     * @see Bulkhead#adaptive(int, int)
+     */
+    @Nonnull
+    default ObjBytePredicate<T> bulkhead(@Nonnull final Bulkhead bulkhead) {
+        Objects.requireNonNull(bulkhead);
+        return (t, value) -> {
+            final long permit = bulkhead.acquirePermission();
+            try {
+                return this.test(t, value);
+            } finally {
+                bulkhead.releasePermission(permit);
+            }
+        };
     }
 
 }
\ No newline at end of file
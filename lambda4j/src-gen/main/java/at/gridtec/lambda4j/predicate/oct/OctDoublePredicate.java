@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.predicate.oct;
+
+import at.gridtec.lambda4j.Lambda;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Objects;
+
+/**
+ * Represents an predicate (boolean-valued function) of eight {@code double}-valued input arguments. This is a primitive
+ * specialization of {@link OctPredicate}.
+ * <p>
+ * This is a {@link FunctionalInterface} whose functional method is {@link #test(double, double, double, double, double,
+ * double, double, double)}.
+ *
+ * @see OctPredicate
+ */
+@SuppressWarnings("unused")
+@FunctionalInterface
+public interface OctDoublePredicate extends Lambda {
+
+    /**
+     * Constructs a {@link OctDoublePredicate} based on a lambda expression or a method reference. Thereby the given
+     * lambda expression or method reference is returned on an as-is basis to implicitly transform it to the desired
+     * type. With this method, it is possible to ensure that correct type is used from lambda expression or method
+     * reference.
+     *
+     * @param expression A lambda expression or (typically) a method reference, e.g. {@code this::method}
+     * @return A {@code OctDoublePredicate} from given lambda expression or method reference.
+     * @implNote This implementation allows the given argument to be {@code null}, but only if {@code null} given,
+     * {@code null} will be returned.
+     * @see <a href="https://docs.oracle.com/javase/tutorial/java/javaOO/lambdaexpressions.html#syntax">Lambda
+     * Expression</a>
+     * @see <a href="https://docs.oracle.com/javase/tutorial/java/javaOO/methodreferences.html">Method Reference</a>
+     */
+    static OctDoublePredicate of(@Nullable final OctDoublePredicate expression) {
+        return expression;
+    }
+
+    /**
+     * Calls the given {@link OctDoublePredicate} with the given arguments and returns its result.
+     *
+     * @param predicate The predicate to be called
+     * @param value1 The first argument to the predicate
+     * @param value2 The second argument to the predicate
+     * @param value3 The third argument to the predicate
+     * @param value4 The fourth argument to the predicate
+     * @param value5 The fifth argument to the predicate
+     * @param value6 The sixth argument to the predicate
+     * @param value7 The seventh argument to the predicate
+     * @param value8 The eighth argument to the predicate
+     * @return The result from the given {@code OctDoublePredicate}.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    static boolean call(@Nonnull final OctDoublePredicate predicate, double value1, double value2, double value3,
+            double value4, double value5, double value6, double value7, double value8) {
+        Objects.requireNonNull(predicate);
+        return predicate.test(value1, value2, value3, value4, value5, value6, value7, value8);
+    }
+
+    /**
+     * Applies this predicate to the given arguments.
+     *
+     * @param value1 The first argument to the predicate
+     * @param value2 The second argument to the predicate
+     * @param value3 The third argument to the predicate
+     * @param value4 The fourth argument to the predicate
+     * @param value5 The fifth argument to the predicate
+     * @param value6 The sixth argument to the predicate
+     * @param value7 The seventh argument to the predicate
+     * @param value8 The eighth argument to the predicate
+     * @return The return value from the predicate, which is its result.
+     */
+    boolean test(double value1, double value2, double value3, double value4, double value5, double value6,
+                 double value7, double value8);
+
+    /**
+     * Returns the number of arguments for this predicate.
+     *
+     * @return The number of arguments for this predicate.
+     * @implSpec The default implementation always returns {@code 8}.
+     */
+    @Nonnegative
+    default int arity() {
+        return 8;
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.predicate.oct;
+
+import at.gridtec.lambda4j.Lambda;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Objects;
+
+/**
+ * Represents an predicate (boolean-valued function) of eight {@code int}-valued input arguments. This is a primitive
+ * specialization of {@link OctPredicate}.
+ * <p>
+ * This is a {@link FunctionalInterface} whose functional method is {@link #test(int, int, int, int, int, int, int,
+ * int)}.
+ *
+ * @see OctPredicate
+ */
+@SuppressWarnings("unused")
+@FunctionalInterface
+public interface OctIntPredicate extends Lambda {
+
+    /**
+     * Constructs a {@link OctIntPredicate} based on a lambda expression or a method reference. Thereby the given lambda
+     * expression or method reference is returned on an as-is basis to implicitly transform it to the desired type. With
+     * this method, it is possible to ensure that correct type is used from lambda expression or method reference.
+     *
+     * @param expression A lambda expression or (typically) a method reference, e.g. {@code this::method}
+     * @return A {@code OctIntPredicate} from given lambda expression or method reference.
+     * @implNote This implementation allows the given argument to be {@code null}, but only if {@code null} given,
+     * {@code null} will be returned.
+     * @see <a href="https://docs.oracle.com/javase/tutorial/java/javaOO/lambdaexpressions.html#syntax">Lambda
+     * Expression</a>
+     * @see <a href="https://docs.oracle.com/javase/tutorial/java/javaOO/methodreferences.html">Method Reference</a>
+     */
+    static OctIntPredicate of(@Nullable final OctIntPredicate expression) {
+        return expression;
+    }
+
+    /**
+     * Calls the given {@link OctIntPredicate} with the given arguments and returns its result.
+     *
+     * @param predicate The predicate to be called
+     * @param value1 The first argument to the predicate
+     * @param value2 The second argument to the predicate
+     * @param value3 The third argument to the predicate
+     * @param value4 The fourth argument to the predicate
+     * @param value5 The fifth argument to the predicate
+     * @param value6 The sixth argument to the predicate
+     * @param value7 The seventh argument to the predicate
+     * @param value8 The eighth argument to the predicate
+     * @return The result from the given {@code OctIntPredicate}.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    static boolean call(@Nonnull final OctIntPredicate predicate, int value1, int value2, int value3, int value4,
+            int value5, int value6, int value7, int value8) {
+        Objects.requireNonNull(predicate);
+        return predicate.test(value1, value2, value3, value4, value5, value6, value7, value8);
+    }
+
+    /**
+     * Applies this predicate to the given arguments.
+     *
+     * @param value1 The first argument to the predicate
+     * @param value2 The second argument to the predicate
+     * @param value3 The third argument to the predicate
+     * @param value4 The fourth argument to the predicate
+     * @param value5 The fifth argument to the predicate
+     * @param value6 The sixth argument to the predicate
+     * @param value7 The seventh argument to the predicate
+     * @param value8 The eighth argument to the predicate
+     * @return The return value from the predicate, which is its result.
+     */
+    boolean test(int value1, int value2, int value3, int value4, int value5, int value6, int value7, int value8);
+
+    /**
+     * Returns the number of arguments for this predicate.
+     *
+     * @return The number of arguments for this predicate.
+     * @implSpec The default implementation always returns {@code 8}.
+     */
+    @Nonnegative
+    default int arity() {
+        return 8;
+    }
+
+}
\ No newline at end of file
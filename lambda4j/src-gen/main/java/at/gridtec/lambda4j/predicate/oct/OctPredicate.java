@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.predicate.oct;
+
+import at.gridtec.lambda4j.Lambda;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Objects;
+
+/**
+ * Represents an predicate (boolean-valued function) of eight input arguments.
+ * <p>
+ * This is a {@link FunctionalInterface} whose functional method is {@link #test(Object, Object, Object, Object, Object,
+ * Object, Object, Object)}.
+ *
+ * @param <T1> The type of the first argument to the predicate
+ * @param <T2> The type of the second argument to the predicate
+ * @param <T3> The type of the third argument to the predicate
+ * @param <T4> The type of the fourth argument to the predicate
+ * @param <T5> The type of the fifth argument to the predicate
+ * @param <T6> The type of the sixth argument to the predicate
+ * @param <T7> The type of the seventh argument to the predicate
+ * @param <T8> The type of the eighth argument to the predicate
+ * @see OctPredicate
+ */
+@SuppressWarnings("unused")
+@FunctionalInterface
+public interface OctPredicate<T1, T2, T3, T4, T5, T6, T7, T8> extends Lambda {
+
+    /**
+     * Constructs a {@link OctPredicate} based on a lambda expression or a method reference. Thereby the given lambda
+     * expression or method reference is returned on an as-is basis to implicitly transform it to the desired type. With
+     * this method, it is possible to ensure that correct type is used from lambda expression or method reference.
+     *
+     * @param <T1> The type of the first argument to the predicate
+     * @param <T2> The type of the second argument to the predicate
+     * @param <T3> The type of the third argument to the predicate
+     * @param <T4> The type of the fourth argument to the predicate
+     * @param <T5> The type of the fifth argument to the predicate
+     * @param <T6> The type of the sixth argument to the predicate
+     * @param <T7> The type of the seventh argument to the predicate
+     * @param <T8> The type of the eighth argument to the predicate
+     * @param expression A lambda expression or (typically) a method reference, e.g. {@code this::method}
+     * @return A {@code OctPredicate} from given lambda expression or method reference.
+     * @implNote This implementation allows the given argument to be {@code null}, but only if {@code null} given,
+     * {@code null} will be returned.
+     * @see <a href="https://docs.oracle.com/javase/tutorial/java/javaOO/lambdaexpressions.html#syntax">Lambda
+     * Expression</a>
+     * @see <a href="https://docs.oracle.com/javase/tutorial/java/javaOO/methodreferences.html">Method Reference</a>
+     */
+    static <T1, T2, T3, T4, T5, T6, T7, T8> OctPredicate<T1, T2, T3, T4, T5, T6, T7, T8> of(
+            @Nullable final OctPredicate<T1, T2, T3, T4, T5, T6, T7, T8> expression) {
+        return expression;
+    }
+
+    /**
+     * Calls the given {@link OctPredicate} with the given arguments and returns its result.
+     *
+     * @param <T1> The type of the first argument to the predicate
+     * @param <T2> The type of the second argument to the predicate
+     * @param <T3> The type of the third argument to the predicate
+     * @param <T4> The type of the fourth argument to the predicate
+     * @param <T5> The type of the fifth argument to the predicate
+     * @param <T6> The type of the sixth argument to the predicate
+     * @param <T7> The type of the seventh argument to the predicate
+     * @param <T8> The type of the eighth argument to the predicate
+     * @param predicate The predicate to be called
+     * @param t1 The first argument to the predicate
+     * @param t2 The second argument to the predicate
+     * @param t3 The third argument to the predicate
+     * @param t4 The fourth argument to the predicate
+     * @param t5 The fifth argument to the predicate
+     * @param t6 The sixth argument to the predicate
+     * @param t7 The seventh argument to the predicate
+     * @param t8 The eighth argument to the predicate
+     * @return The result from the given {@code OctPredicate}.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    static <T1, T2, T3, T4, T5, T6, T7, T8> boolean call(
+            @Nonnull final OctPredicate<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8> predicate,
+            T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8) {
+        Objects.requireNonNull(predicate);
+        return predicate.test(t1, t2, t3, t4, t5, t6, t7, t8);
+    }
+
+    /**
+     * Applies this predicate to the given arguments.
+     *
+     * @param t1 The first argument to the predicate
+     * @param t2 The second argument to the predicate
+     * @param t3 The third argument to the predicate
+     * @param t4 The fourth argument to the predicate
+     * @param t5 The fifth argument to the predicate
+     * @param t6 The sixth argument to the predicate
+     * @param t7 The seventh argument to the predicate
+     * @param t8 The eighth argument to the predicate
+     * @return The return value from the predicate, which is its result.
+     */
+    boolean test(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8);
+
+    /**
+     * Returns the number of arguments for this predicate.
+     *
+     * @return The number of arguments for this predicate.
+     * @implSpec The default implementation always returns {@code 8}.
+     */
+    @Nonnegative
+    default int arity() {
+        return 8;
+    }
+
+}
\ No newline at end of file
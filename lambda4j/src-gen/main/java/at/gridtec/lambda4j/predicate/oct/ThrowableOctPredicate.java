@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.predicate.oct;
+
+import at.gridtec.lambda4j.Lambda;
+import at.gridtec.lambda4j.core.util.ThrowableUtils;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Objects;
+
+/**
+ * Represents an predicate (boolean-valued function) of eight input arguments which is able to throw any {@link
+ * Throwable}.
+ * <p>
+ * This is a {@link FunctionalInterface} whose functional method is {@link #testThrows(Object, Object, Object, Object,
+ * Object, Object, Object, Object)}.
+ *
+ * @param <T1> The type of the first argument to the predicate
+ * @param <T2> The type of the second argument to the predicate
+ * @param <T3> The type of the third argument to the predicate
+ * @param <T4> The type of the fourth argument to the predicate
+ * @param <T5> The type of the fifth argument to the predicate
+ * @param <T6> The type of the sixth argument to the predicate
+ * @param <T7> The type of the seventh argument to the predicate
+ * @param <T8> The type of the eighth argument to the predicate
+ * @param <X> The type of the throwable to be thrown by this predicate
+ * @see ThrowableOctPredicate
+ */
+@SuppressWarnings("unused")
+@FunctionalInterface
+public interface ThrowableOctPredicate<T1, T2, T3, T4, T5, T6, T7, T8, X extends Throwable> extends Lambda {
+
+    /**
+     * Constructs a {@link ThrowableOctPredicate} based on a lambda expression or a method reference. Thereby the given
+     * lambda expression or method reference is returned on an as-is basis to implicitly transform it to the desired
+     * type. With this method, it is possible to ensure that correct type is used from lambda expression or method
+     * reference.
+     *
+     * @param <T1> The type of the first argument to the predicate
+     * @param <T2> The type of the second argument to the predicate
+     * @param <T3> The type of the third argument to the predicate
+     * @param <T4> The type of the fourth argument to the predicate
+     * @param <T5> The type of the fifth argument to the predicate
+     * @param <T6> The type of the sixth argument to the predicate
+     * @param <T7> The type of the seventh argument to the predicate
+     * @param <T8> The type of the eighth argument to the predicate
+     * @param <X> The type of the throwable to be thrown by this predicate
+     * @param expression A lambda expression or (typically) a method reference, e.g. {@code this::method}
+     * @return A {@code ThrowableOctPredicate} from given lambda expression or method reference.
+     * @implNote This implementation allows the given argument to be {@code null}, but only if {@code null} given,
+     * {@code null} will be returned.
+     * @see <a href="https://docs.oracle.com/javase/tutorial/java/javaOO/lambdaexpressions.html#syntax">Lambda
+     * Expression</a>
+     * @see <a href="https://docs.oracle.com/javase/tutorial/java/javaOO/methodreferences.html">Method Reference</a>
+     */
+    static <T1, T2, T3, T4, T5, T6, T7, T8, X extends Throwable> ThrowableOctPredicate<T1, T2, T3, T4, T5, T6, T7, T8, X> of(
+            @Nullable final ThrowableOctPredicate<T1, T2, T3, T4, T5, T6, T7, T8, X> expression) {
+        return expression;
+    }
+
+    /**
+     * Calls the given {@link ThrowableOctPredicate} with the given arguments and returns its result.
+     *
+     * @param <T1> The type of the first argument to the predicate
+     * @param <T2> The type of the second argument to the predicate
+     * @param <T3> The type of the third argument to the predicate
+     * @param <T4> The type of the fourth argument to the predicate
+     * @param <T5> The type of the fifth argument to the predicate
+     * @param <T6> The type of the sixth argument to the predicate
+     * @param <T7> The type of the seventh argument to the predicate
+     * @param <T8> The type of the eighth argument to the predicate
+     * @param <X> The type of the throwable to be thrown by this predicate
+     * @param predicate The predicate to be called
+     * @param t1 The first argument to the predicate
+     * @param t2 The second argument to the predicate
+     * @param t3 The third argument to the predicate
+     * @param t4 The fourth argument to the predicate
+     * @param t5 The fifth argument to the predicate
+     * @param t6 The sixth argument to the predicate
+     * @param t7 The seventh argument to the predicate
+     * @param t8 The eighth argument to the predicate
+     * @return The result from the given {@code ThrowableOctPredicate}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @throws X Any throwable from this predicates action
+     */
+    static <T1, T2, T3, T4, T5, T6, T7, T8, X extends Throwable> boolean call(
+            @Nonnull final ThrowableOctPredicate<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8, ? extends X> predicate,
+            T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8) throws X {
+        Objects.requireNonNull(predicate);
+        return predicate.testThrows(t1, t2, t3, t4, t5, t6, t7, t8);
+    }
+
+    /**
+     * Applies this predicate to the given arguments.
+     *
+     * @param t1 The first argument to the predicate
+     * @param t2 The second argument to the predicate
+     * @param t3 The third argument to the predicate
+     * @param t4 The fourth argument to the predicate
+     * @param t5 The fifth argument to the predicate
+     * @param t6 The sixth argument to the predicate
+     * @param t7 The seventh argument to the predicate
+     * @param t8 The eighth argument to the predicate
+     * @return The return value from the predicate, which is its result.
+     * @throws X Any throwable from this predicates action
+     */
+    boolean testThrows(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8) throws X;
+
+    /**
+     * Returns the number of arguments for this predicate.
+     *
+     * @return The number of arguments for this predicate.
+     * @implSpec The default implementation always returns {@code 8}.
+     */
+    @Nonnegative
+    default int arity() {
+        return 8;
+    }
+
+    /**
+     * Returns a composed {@link OctPredicate} that applies this predicate to its input and sneakily throws the thrown
+     * {@link Throwable} from it, if it is not of type {@link RuntimeException} or {@link Error}. This means that each
+     * throwable thrown from the returned composed predicate behaves exactly the same as an <em>unchecked</em> throwable
+     * does. As a result, there is no need to handle the throwable of this predicate in the returned composed predicate
+     * by either wrapping it in an <em>unchecked</em> throwable or to declare it in the {@code throws} clause, as it
+     * would be done in a non sneaky throwing predicate.
+     * <p>
+     * What sneaky throwing simply does, is to fake out the compiler and thus it bypasses the principle of
+     * <em>checked</em> throwables. On the JVM (class file) level, all throwables, checked or not, can be thrown
+     * regardless of the {@code throws} clause of methods, which is why this works at all.
+     * <p>
+     * However, when using this method to get a sneaky throwing predicate variant of this throwable predicate, the
+     * following advantages, disadvantages and limitations will apply:
+     * <p>
+     * If the calling-code is to handle the sneakily thrown throwable, it is required to add it to the {@code throws}
+     * clause of the method that applies the returned composed predicate. The compiler will not force the declaration in
+     * the {@code throws} clause anymore.
+     * <p>
+     * If the calling-code already handles the sneakily thrown throwable, the compiler requires it to be added to the
+     * {@code throws} clause of the method that applies the returned composed predicate. If not added, the compiler will
+     * error that the caught throwable is never thrown in the corresponding {@code try} block.
+     * <p>
+     * If the returned composed predicate is directly surrounded by a {@code try}-{@code catch} block to catch the
+     * sneakily thrown throwable from it, the compiler will error that the caught throwable is never thrown in the
+     * corresponding {@code try} block.
+     * <p>
+     * In any case, if the throwable is not added to the to the {@code throws} clause of the method that applies the
+     * returned composed predicate, the calling-code won't be able to catch the throwable by name. It will bubble and
+     * probably be caught in some {@code catch} statement, catching a base type such as {@code try { ... }
+     * catch(RuntimeException e) { ... }} or {@code try { ... } catch(Exception e) { ... }}, but perhaps this is
+     * intended.
+     * <p>
+     * When the called code never throws the specific throwable that it declares, it should obviously be omitted. For
+     * example: {@code new String(byteArr, "UTF-8") throws UnsupportedEncodingException}, but {@code UTF-8} is
+     * guaranteed by the Java specification to be always present. Here, the {@code throws} declaration is a nuisance and
+     * any solution to silence it with minimal boilerplate is welcome. The throwable should therefore be omitted in the
+     * {@code throws} clause of the method that applies the returned composed predicate.
+     * <p>
+     * With all that mentioned, the following example will demonstrate this methods correct use:
+     * <pre>{@code
+     * // when called with illegal value ClassNotFoundException is thrown
+     * public Class<?> sneakyThrowingFunctionalInterface(final String className) throws ClassNotFoundException {
+     *     return ThrowableFunction.of(Class::forName) // create the correct throwable functional interface
+     *                .sneakyThrow() // create a non-throwable variant which is able to sneaky throw (this method)
+     *                .apply(className); // apply non-throwable variant -> may sneaky throw a throwable
+     * }
+     *
+     * // call the the method which surround the sneaky throwing functional interface
+     * public void callingMethod() {
+     *     try {
+     *         final Class<?> clazz = sneakyThrowingFunctionalInterface("some illegal class name");
+     *         // ... do something with clazz ...
+     *     } catch(ClassNotFoundException e) {
+     *         // ... do something with e ...
+     *     }
+     * }
+     * }</pre>
+     * In conclusion, this somewhat contentious ability should be used carefully, of course, with the advantages,
+     * disadvantages and limitations described above kept in mind.
+     *
+     * @return A composed {@link OctPredicate} that applies this predicate to its input and sneakily throws the thrown
+     * {@link Throwable} from it, unless it is of type {@link RuntimeException} or {@link Error}.
+     * @implNote If thrown {@link Throwable} is of type {@link RuntimeException} or {@link Error}, it is thrown as-is
+     * and thus not sneakily thrown.
+     */
+    @Nonnull
+    default OctPredicate<T1, T2, T3, T4, T5, T6, T7, T8> sneakyThrow() {
+        return (t1, t2, t3, t4, t5, t6, t7, t8) -> {
+            try {
+                return this.testThrows(t1, t2, t3, t4, t5, t6, t7, t8);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw ThrowableUtils.sneakyThrow(throwable);
+            }
+        };
+    }
+
+}
\ No newline at end of file
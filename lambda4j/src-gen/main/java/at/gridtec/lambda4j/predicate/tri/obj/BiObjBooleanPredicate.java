@@ -18,6 +18,10 @@ package at.gridtec.lambda4j.predicate.tri.obj;
 import at.gridtec.lambda4j.Lambda;
 import at.gridtec.lambda4j.consumer.BooleanConsumer;
 import at.gridtec.lambda4j.consumer.tri.obj.BiObjBooleanConsumer;
+import at.gridtec.lambda4j.core.memoization.Codec;
+import at.gridtec.lambda4j.core.memoization.MemoizationCache;
+import at.gridtec.lambda4j.core.util.DerivedView;
+import at.gridtec.lambda4j.core.util.ThrowableUtils;
 import at.gridtec.lambda4j.function.BooleanFunction;
 import at.gridtec.lambda4j.function.ByteFunction;
 import at.gridtec.lambda4j.function.CharFunction;
@@ -30,6 +34,7 @@ import at.gridtec.lambda4j.function.conversion.BooleanToFloatFunction;
 import at.gridtec.lambda4j.function.conversion.BooleanToIntFunction;
 import at.gridtec.lambda4j.function.conversion.BooleanToLongFunction;
 import at.gridtec.lambda4j.function.conversion.BooleanToShortFunction;
+import at.gridtec.lambda4j.function.tri.TriFunction;
 import at.gridtec.lambda4j.function.tri.obj.BiObjBooleanFunction;
 import at.gridtec.lambda4j.function.tri.obj.BiObjBooleanToByteFunction;
 import at.gridtec.lambda4j.function.tri.obj.BiObjBooleanToCharFunction;
@@ -40,6 +45,7 @@ import at.gridtec.lambda4j.function.tri.obj.BiObjBooleanToLongFunction;
 import at.gridtec.lambda4j.function.tri.obj.BiObjBooleanToShortFunction;
 import at.gridtec.lambda4j.operator.ternary.BooleanTernaryOperator;
 import at.gridtec.lambda4j.operator.unary.BooleanUnaryOperator;
+import at.gridtec.lambda4j.predicate.AdaptiveOrder;
 import at.gridtec.lambda4j.predicate.BytePredicate;
 import at.gridtec.lambda4j.predicate.CharPredicate;
 import at.gridtec.lambda4j.predicate.FloatPredicate;
@@ -55,6 +61,10 @@ import at.gridtec.lambda4j.predicate.tri.TriIntPredicate;
 import at.gridtec.lambda4j.predicate.tri.TriLongPredicate;
 import at.gridtec.lambda4j.predicate.tri.TriPredicate;
 import at.gridtec.lambda4j.predicate.tri.TriShortPredicate;
+import at.gridtec.lambda4j.resilience.Bulkhead;
+import at.gridtec.lambda4j.resilience.CallNotPermittedException;
+import at.gridtec.lambda4j.supplier.BooleanSupplier2;
+import at.gridtec.lambda4j.supplier.Supplier2;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.lang3.tuple.Triple;
@@ -62,9 +72,12 @@ import org.apache.commons.lang3.tuple.Triple;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.DoubleFunction;
 import java.util.function.DoublePredicate;
 import java.util.function.Function;
@@ -187,7 +200,7 @@ public interface BiObjBooleanPredicate<T, U> extends Lambda {
      */
     @Nonnull
     static <T, U> BiObjBooleanPredicate<T, U> constant(boolean ret) {
-        return (t, u, value) -> ret;
+        return (BiObjBooleanPredicate<T, U> & Constant) (t, u, value) -> ret;
     }
 
     /**
@@ -200,7 +213,7 @@ public interface BiObjBooleanPredicate<T, U> extends Lambda {
      */
     @Nonnull
     static <T, U> BiObjBooleanPredicate<T, U> alwaysTrue() {
-        return (t, u, value) -> true;
+        return (BiObjBooleanPredicate<T, U> & Constant) (t, u, value) -> true;
     }
 
     /**
@@ -213,7 +226,83 @@ public interface BiObjBooleanPredicate<T, U> extends Lambda {
      */
     @Nonnull
     static <T, U> BiObjBooleanPredicate<T, U> alwaysFalse() {
-        return (t, u, value) -> false;
+        return (BiObjBooleanPredicate<T, U> & Constant) (t, u, value) -> false;
+    }
+
+    /**
+     * Returns a {@link BiObjBooleanPredicate} that represents the short-circuiting logical AND of all given predicates,
+     * which adapts the order in which the given predicates are evaluated. Cheap predicates which are likely to return
+     * {@code false} are evaluated first.
+     * <p>
+     * The given predicates are only reordered, if all of them are marked as {@link Pure}. Otherwise they are evaluated
+     * in their given order.
+     *
+     * @param <T> The type of the first argument to the predicate
+     * @param <U> The type of the second argument to the predicate
+     * @param predicates The predicates to be logically-ANDed
+     * @return A {@code BiObjBooleanPredicate} that represents the short-circuiting logical AND of all given predicates.
+     * @throws NullPointerException If given argument or one of its elements is {@code null}
+     * @implNote The given array is copied, so modifying it afterwards does not affect the returned predicate.
+     * @see AdaptiveOrder
+     */
+    @Nonnull
+    @SafeVarargs
+    static <T, U> BiObjBooleanPredicate<T, U> adaptiveAnd(
+            @Nonnull final BiObjBooleanPredicate<? super T, ? super U>... predicates) {
+        final List<BiObjBooleanPredicate<? super T, ? super U>> snapshot = new ArrayList<>(predicates.length);
+        for (final BiObjBooleanPredicate<? super T, ? super U> predicate : predicates) {
+            snapshot.add(predicate);
+        }
+        final AdaptiveOrder order = AdaptiveOrder.conjunction(snapshot.toArray());
+        return (t, u, value) -> {
+            if (order.shouldSample()) {
+                return order.sample(index -> snapshot.get(index).test(t, u, value));
+            }
+            for (final int index : order.get()) {
+                if (!snapshot.get(index).test(t, u, value)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    /**
+     * Returns a {@link BiObjBooleanPredicate} that represents the short-circuiting logical OR of all given predicates,
+     * which adapts the order in which the given predicates are evaluated. Cheap predicates which are likely to return
+     * {@code true} are evaluated first.
+     * <p>
+     * The given predicates are only reordered, if all of them are marked as {@link Pure}. Otherwise they are evaluated
+     * in their given order.
+     *
+     * @param <T> The type of the first argument to the predicate
+     * @param <U> The type of the second argument to the predicate
+     * @param predicates The predicates to be logically-ORed
+     * @return A {@code BiObjBooleanPredicate} that represents the short-circuiting logical OR of all given predicates.
+     * @throws NullPointerException If given argument or one of its elements is {@code null}
+     * @implNote The given array is copied, so modifying it afterwards does not affect the returned predicate.
+     * @see AdaptiveOrder
+     */
+    @Nonnull
+    @SafeVarargs
+    static <T, U> BiObjBooleanPredicate<T, U> adaptiveOr(
+            @Nonnull final BiObjBooleanPredicate<? super T, ? super U>... predicates) {
+        final List<BiObjBooleanPredicate<? super T, ? super U>> snapshot = new ArrayList<>(predicates.length);
+        for (final BiObjBooleanPredicate<? super T, ? super U> predicate : predicates) {
+            snapshot.add(predicate);
+        }
+        final AdaptiveOrder order = AdaptiveOrder.disjunction(snapshot.toArray());
+        return (t, u, value) -> {
+            if (order.shouldSample()) {
+                return order.sample(index -> snapshot.get(index).test(t, u, value));
+            }
+            for (final int index : order.get()) {
+                if (snapshot.get(index).test(t, u, value)) {
+                    return true;
+                }
+            }
+            return false;
+        };
     }
 
     /**
@@ -238,6 +327,41 @@ public interface BiObjBooleanPredicate<T, U> extends Lambda {
                 : u.equals(target2)) && (value == target3);
     }
 
+    /**
+     * Returns a {@link BiObjBooleanPredicate} which represents the given {@link TriPredicate}. Thereby the boxed input
+     * arguments and results of the given predicate are unboxed to their primitive counterparts. This method is the
+     * inverse of {@link #boxed()}.
+     *
+     * @param <T> The type of the first argument to the predicate
+     * @param <U> The type of the second argument to the predicate
+     * @param boxed The {@code TriPredicate} to be represented by the returned {@code BiObjBooleanPredicate}
+     * @return A {@code BiObjBooleanPredicate} which represents the given {@code TriPredicate}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implNote If the given {@code TriPredicate} was returned from {@link #boxed()}, the original {@code
+     * BiObjBooleanPredicate} is returned instead of wrapping it twice. Likewise, {@link #boxed()} of the returned
+     * {@code BiObjBooleanPredicate} returns the given {@code TriPredicate}.
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <T, U> BiObjBooleanPredicate<T, U> unboxed(@Nonnull final TriPredicate<T, U, Boolean> boxed) {
+        Objects.requireNonNull(boxed);
+        if (boxed instanceof DerivedView && ((DerivedView) boxed).getSource() instanceof BiObjBooleanPredicate) {
+            return (BiObjBooleanPredicate<T, U>) ((DerivedView) boxed).getSource();
+        }
+        return new BiObjBooleanPredicate<T, U>() {
+            @Override
+            public boolean test(T t, U u, boolean value) {
+                return boxed.test(t, u, value);
+            }
+
+            @Nonnull
+            @Override
+            public TriPredicate<T, U, Boolean> boxed() {
+                return boxed;
+            }
+        };
+    }
+
     /**
      * Applies this predicate to the given arguments.
      *
@@ -335,6 +459,11 @@ public interface BiObjBooleanPredicate<T, U> extends Lambda {
      * applies this predicate to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to handle every type.
+     * @implNote The composed predicate is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
+     * @implNote If this predicate is marked as {@link Pure} and the {@code before} functions are constant (f.e. created
+     * by {@code constant}), this predicate is applied only once, when the composed predicate is applied for the first
+     * time. Its result is then returned by each further application. If applying it throws an exception, the exception
+     * is relayed to the caller and it is applied again on the next application.
      */
     @Nonnull
     default <A, B, C> TriPredicate<A, B, C> compose(@Nonnull final Function<? super A, ? extends T> before1,
@@ -342,9 +471,99 @@ public interface BiObjBooleanPredicate<T, U> extends Lambda {
         Objects.requireNonNull(before1);
         Objects.requireNonNull(before2);
         Objects.requireNonNull(before3);
+        if (this instanceof Pure && before1 instanceof Constant && before2 instanceof Constant
+                && before3 instanceof Constant) {
+            final BooleanSupplier2 result = BooleanSupplier2.of(() -> test(before1.apply(null), before2.apply(null),
+                                                                           before3.test(null))).memoized();
+            return (TriPredicate<A, B, C> & Pure) (a, b, c) -> result.getAsBoolean();
+        }
+        if (this instanceof Pure && before1 instanceof Pure && before2 instanceof Pure && before3 instanceof Pure) {
+            return (TriPredicate<A, B, C> & Pure) (a, b, c) -> test(before1.apply(a), before2.apply(b),
+                                                                    before3.test(c));
+        } else if (this instanceof ThreadSafe && before1 instanceof ThreadSafe && before2 instanceof ThreadSafe
+                && before3 instanceof ThreadSafe) {
+            return (TriPredicate<A, B, C> & ThreadSafe) (a, b, c) -> test(before1.apply(a), before2.apply(b),
+                                                                          before3.test(c));
+        }
         return (a, b, c) -> test(before1.apply(a), before2.apply(b), before3.test(c));
     }
 
+    /**
+     * Returns a composed {@link TriPredicate} that first applies the {@code before} functions to its input
+     * concurrently, and then applies this predicate to the results. The first {@code before} function is applied by the
+     * calling thread, while the other ones are applied using the given {@link Executor}. The calling thread waits for
+     * their results afterwards. If evaluation of one of the operations throws an exception, it is relayed to the caller
+     * of the composed operation as is, the same as by {@link #compose(Function, Function, Predicate)}. The {@code
+     * before} functions which are not started yet are cancelled in this case.
+     *
+     * @param <A> The type of the argument to the first given function, and of composed predicate
+     * @param <B> The type of the argument to the second given function, and of composed predicate
+     * @param <C> The type of the argument to the third given predicate, and of composed predicate
+     * @param executor The executor to apply the {@code before} functions with
+     * @param before1 The first function to apply before this predicate is applied
+     * @param before2 The second function to apply before this predicate is applied
+     * @param before3 The third predicate to apply before this predicate is applied
+     * @return A composed {@code TriPredicate} that first applies the {@code before} functions to its input
+     * concurrently, and then applies this predicate to the results.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @see #compose(Function, Function, Predicate)
+     */
+    @Nonnull
+    default <A, B, C> TriPredicate<A, B, C> composeParallel(@Nonnull final Executor executor,
+            @Nonnull final Function<? super A, ? extends T> before1,
+            @Nonnull final Function<? super B, ? extends U> before2, @Nonnull final Predicate<? super C> before3) {
+        Objects.requireNonNull(executor);
+        Objects.requireNonNull(before1);
+        Objects.requireNonNull(before2);
+        Objects.requireNonNull(before3);
+        return (a, b, c) -> {
+            final CompletableFuture<U> future2 = CompletableFuture.supplyAsync(() -> before2.apply(b), executor);
+            final CompletableFuture<Boolean> future3 = CompletableFuture.supplyAsync(() -> before3.test(c), executor);
+            try {
+                return test(before1.apply(a), ThrowableUtils.join(future2), ThrowableUtils.join(future3));
+            } finally {
+                future2.cancel(false);
+                future3.cancel(false);
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link TriFunction} that applies the {@code before} functions to its input concurrently using
+     * the given {@link Executor}, and then applies this predicate to the results. The composed function returns a
+     * {@link CompletableFuture} without waiting for any result, so no thread is blocked. This predicate is applied by
+     * the thread which completes the last {@code before} function. The {@code CompletableFuture} is completed
+     * exceptionally, if a {@link Throwable} is thrown from one of the {@code before} functions or from this predicate.
+     *
+     * @param <A> The type of the argument to the first given function, and of composed predicate
+     * @param <B> The type of the argument to the second given function, and of composed predicate
+     * @param <C> The type of the argument to the third given predicate, and of composed predicate
+     * @param executor The executor to apply the {@code before} functions with
+     * @param before1 The first function to apply before this predicate is applied
+     * @param before2 The second function to apply before this predicate is applied
+     * @param before3 The third predicate to apply before this predicate is applied
+     * @return A composed {@code TriFunction} that applies the {@code before} functions to its input concurrently, and
+     * then applies this predicate to the results.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @see #composeParallel(Executor, Function, Function, Predicate)
+     */
+    @Nonnull
+    default <A, B, C> TriFunction<A, B, C, CompletableFuture<Boolean>> composeParallelAsync(
+            @Nonnull final Executor executor, @Nonnull final Function<? super A, ? extends T> before1,
+            @Nonnull final Function<? super B, ? extends U> before2, @Nonnull final Predicate<? super C> before3) {
+        Objects.requireNonNull(executor);
+        Objects.requireNonNull(before1);
+        Objects.requireNonNull(before2);
+        Objects.requireNonNull(before3);
+        return (a, b, c) -> {
+            final CompletableFuture<T> future1 = CompletableFuture.supplyAsync(() -> before1.apply(a), executor);
+            final CompletableFuture<U> future2 = CompletableFuture.supplyAsync(() -> before2.apply(b), executor);
+            final CompletableFuture<Boolean> future3 = CompletableFuture.supplyAsync(() -> before3.test(c), executor);
+            return CompletableFuture.allOf(future1, future2, future3)
+                    .thenApply(ignored -> test(future1.join(), future2.join(), future3.join()));
+        };
+    }
+
     /**
      * Returns a composed {@link BooleanTernaryOperator} that first applies the {@code before} functions to its input,
      * and then applies this predicate to the result. If evaluation of either operation throws an exception, it is
@@ -553,10 +772,26 @@ public interface BiObjBooleanPredicate<T, U> extends Lambda {
      * the {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote The composed predicate is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
+     * @implNote If this predicate is constant (f.e. created by {@code constant}) and the {@code after} function is
+     * marked as {@link Pure}, the {@code after} function is applied only once, when the composed function is applied
+     * for the first time. Its result is then returned by each further application. If applying it throws an exception,
+     * the exception is relayed to the caller and it is applied again on the next application.
      */
     @Nonnull
     default <S> BiObjBooleanFunction<T, U, S> andThen(@Nonnull final BooleanFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (this instanceof Constant && after instanceof Pure) {
+            // The result is held by an optional, so that a null result is memoized as well
+            final Supplier2<Optional<S>> result = Supplier2.of(
+                    () -> Optional.ofNullable(after.apply(test(null, null, false)))).memoized();
+            return (BiObjBooleanFunction<T, U, S> & Pure) (t, u, value) -> result.get().orElse(null);
+        }
+        if (this instanceof Pure && after instanceof Pure) {
+            return (BiObjBooleanFunction<T, U, S> & Pure) (t, u, value) -> after.apply(test(t, u, value));
+        } else if (this instanceof ThreadSafe && after instanceof ThreadSafe) {
+            return (BiObjBooleanFunction<T, U, S> & ThreadSafe) (t, u, value) -> after.apply(test(t, u, value));
+        }
         return (t, u, value) -> after.apply(test(t, u, value));
     }
 
@@ -732,10 +967,26 @@ public interface BiObjBooleanPredicate<T, U> extends Lambda {
      * Returns a {@link BiObjBooleanPredicate} that represents the logical negation of this one.
      *
      * @return A {@code BiObjBooleanPredicate} that represents the logical negation of this one.
+     * @implNote Negating the returned predicate again returns this predicate instead of wrapping it twice. If this
+     * predicate is constant (f.e. created by {@link #alwaysTrue()}), the opposite constant predicate is returned.
      */
     @Nonnull
     default BiObjBooleanPredicate<T, U> negate() {
-        return (t, u, value) -> !test(t, u, value);
+        if (this instanceof Constant) {
+            return test(null, null, false) ? alwaysFalse() : alwaysTrue();
+        }
+        return new BiObjBooleanPredicate<T, U>() {
+            @Override
+            public boolean test(T t, U u, boolean value) {
+                return !BiObjBooleanPredicate.this.test(t, u, value);
+            }
+
+            @Nonnull
+            @Override
+            public BiObjBooleanPredicate<T, U> negate() {
+                return BiObjBooleanPredicate.this;
+            }
+        };
     }
 
     /**
@@ -750,12 +1001,32 @@ public interface BiObjBooleanPredicate<T, U> extends Lambda {
      * @return A composed {@code BiObjBooleanPredicate} that represents the short-circuiting logical AND of this
      * predicate and the {@code other} predicate.
      * @throws NullPointerException If given argument is {@code null}
+     * @implNote The composed predicate is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
+     * @implNote If this predicate is constant (f.e. created by {@link #alwaysTrue()}), the composed predicate is
+     * simplified to either this or the {@code other} predicate. The same applies, if the {@code other} predicate is
+     * constant and always returns {@code true}.
      * @see #or(BiObjBooleanPredicate)
      * @see #xor(BiObjBooleanPredicate)
      */
     @Nonnull
+    @SuppressWarnings("unchecked")
     default BiObjBooleanPredicate<T, U> and(@Nonnull final BiObjBooleanPredicate<? super T, ? super U> other) {
         Objects.requireNonNull(other);
+        if (this instanceof Constant) {
+            if (!test(null, null, false)) {
+                return this;
+            } else if (other instanceof BiObjBooleanPredicate) {
+                return (BiObjBooleanPredicate<T, U>) other;
+            }
+        } else if (other instanceof Constant && other.test(null, null, false)) {
+            return this;
+        }
+        if (this instanceof Pure && other instanceof Pure) {
+            return (BiObjBooleanPredicate<T, U> & Pure) (t, u, value) -> test(t, u, value) && other.test(t, u, value);
+        } else if (this instanceof ThreadSafe && other instanceof ThreadSafe) {
+            return (BiObjBooleanPredicate<T, U> & ThreadSafe) (t, u, value) -> test(t, u, value)
+                    && other.test(t, u, value);
+        }
         return (t, u, value) -> test(t, u, value) && other.test(t, u, value);
     }
 
@@ -771,12 +1042,32 @@ public interface BiObjBooleanPredicate<T, U> extends Lambda {
      * @return A composed {@code BiObjBooleanPredicate} that represents the short-circuiting logical OR of this
      * predicate and the {@code other} predicate.
      * @throws NullPointerException If given argument is {@code null}
+     * @implNote The composed predicate is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
+     * @implNote If this predicate is constant (f.e. created by {@link #alwaysFalse()}), the composed predicate is
+     * simplified to either this or the {@code other} predicate. The same applies, if the {@code other} predicate is
+     * constant and always returns {@code false}.
      * @see #and(BiObjBooleanPredicate)
      * @see #xor(BiObjBooleanPredicate)
      */
     @Nonnull
+    @SuppressWarnings("unchecked")
     default BiObjBooleanPredicate<T, U> or(@Nonnull final BiObjBooleanPredicate<? super T, ? super U> other) {
         Objects.requireNonNull(other);
+        if (this instanceof Constant) {
+            if (test(null, null, false)) {
+                return this;
+            } else if (other instanceof BiObjBooleanPredicate) {
+                return (BiObjBooleanPredicate<T, U>) other;
+            }
+        } else if (other instanceof Constant && !other.test(null, null, false)) {
+            return this;
+        }
+        if (this instanceof Pure && other instanceof Pure) {
+            return (BiObjBooleanPredicate<T, U> & Pure) (t, u, value) -> test(t, u, value) || other.test(t, u, value);
+        } else if (this instanceof ThreadSafe && other instanceof ThreadSafe) {
+            return (BiObjBooleanPredicate<T, U> & ThreadSafe) (t, u, value) -> test(t, u, value)
+                    || other.test(t, u, value);
+        }
         return (t, u, value) -> test(t, u, value) || other.test(t, u, value);
     }
 
@@ -815,23 +1106,57 @@ public interface BiObjBooleanPredicate<T, U> extends Lambda {
      * <p>
      * Unless the predicate and therefore the used cache will be garbage-collected, it will keep all memoized values
      * forever.
+     * <p>
+     * The returned memoized predicate is serializable, if this predicate is serializable. Its memoized values are not
+     * written when it gets serialized, so the deserialized predicate starts with an empty cache.
      *
      * @return A memoized (caching) version of this {@code BiObjBooleanPredicate}.
      * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
      * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
      * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
      * thread-safe.
+     * @see #memoized(boolean)
      */
     @Nonnull
     default BiObjBooleanPredicate<T, U> memoized() {
+        return memoized(false);
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link BiObjBooleanPredicate}. Whenever it is called, the mapping
+     * between the input parameters and the return value is preserved in a cache, making subsequent calls returning the
+     * memoized value instead of computing the return value again.
+     * <p>
+     * Unless the predicate and therefore the used cache will be garbage-collected, it will keep all memoized values
+     * forever.
+     * <p>
+     * The returned memoized predicate is serializable, if this predicate is serializable. If {@code serializeCache} is
+     * {@code true}, a snapshot of all memoized values is written when it gets serialized, so the deserialized predicate
+     * starts warm. Otherwise the deserialized predicate starts with an empty cache. Primitive values are thereby
+     * written in their binary form.
+     *
+     * @param serializeCache {@code true} if the memoized values should be written when the memoized predicate gets
+     * serialized, {@code false} otherwise
+     * @return A memoized (caching) version of this {@code BiObjBooleanPredicate}.
+     * @implSpec This implementation does not allow the input parameters or return value to be {@code null} for the
+     * resulting memoized predicate, as the cache used internally does not permit {@code null} keys or values.
+     * @implNote The returned memoized predicate can be safely used concurrently from multiple threads which makes it
+     * thread-safe. If this predicate is already memoized, it is returned as-is regardless of {@code serializeCache}.
+     * @see MemoizationCache
+     */
+    @Nonnull
+    default BiObjBooleanPredicate<T, U> memoized(final boolean serializeCache) {
         if (isMemoized()) {
             return this;
         } else {
-            final Map<Triple<T, U, Boolean>, Boolean> cache = new ConcurrentHashMap<>();
-            final Object lock = new Object();
+            final Codec<Triple<T, U, Boolean>> keyCodec = Codec.ofTriple(Codec.ofObject(), Codec.ofObject(),
+                                                                         Codec.ofBoolean());
+            final MemoizationCache<Triple<T, U, Boolean>, Boolean> cache = MemoizationCache.of(keyCodec,
+                                                                                               Codec.ofBoolean(),
+                                                                                               serializeCache);
             return (BiObjBooleanPredicate<T, U> & Memoized) (t, u, value) -> {
                 final boolean returnValue;
-                synchronized (lock) {
+                synchronized (cache) {
                     returnValue = cache.computeIfAbsent(Triple.of(t, u, value),
                                                         key -> test(key.getLeft(), key.getMiddle(), key.getRight()));
                 }
@@ -846,10 +1171,68 @@ public interface BiObjBooleanPredicate<T, U> extends Lambda {
      * BiObjBooleanPredicate} with methods provided by the {@code JDK}.
      *
      * @return A composed {@code TriPredicate} which represents this {@code BiObjBooleanPredicate}.
+     * @implNote The returned {@code TriPredicate} is a {@link DerivedView} of this {@code BiObjBooleanPredicate}, so
+     * {@link #unboxed(TriPredicate)} returns this {@code BiObjBooleanPredicate} instead of wrapping it twice.
      */
     @Nonnull
     default TriPredicate<T, U, Boolean> boxed() {
-        return this::test;
+        final class Boxed implements TriPredicate<T, U, Boolean>, DerivedView {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public boolean test(T t, U u, Boolean value) {
+                return BiObjBooleanPredicate.this.test(t, u, value);
+            }
+
+            @Nonnull
+            @Override
+            public BiObjBooleanPredicate<T, U> getSource() {
+                return BiObjBooleanPredicate.this;
+            }
+        }
+        return new Boxed();
+    }
+
+    /**
+     * Returns a composed {@link BiObjBooleanPredicate} that applies this predicate to its input, if less than the given
+     * number of calls of the composed predicate are running concurrently. Otherwise the call is rejected immediately
+     * with a {@link CallNotPermittedException}.
+     *
+     * @param maxConcurrent The maximum number of concurrent calls
+     * @return A composed {@code BiObjBooleanPredicate} that applies this predicate to its input, if less than the given
+     * number of calls are running concurrently.
+     * @throws IllegalArgumentException If given argument is not positive
+     * @see #bulkhead(Bulkhead)
+     */
+    @Nonnull
+    default BiObjBooleanPredicate<T, U> bulkhead(final int maxConcurrent) {
+        return bulkhead(Bulkhead.of(maxConcurrent));
+    }
+
+    /**
+     * Returns a composed {@link BiObjBooleanPredicate} that applies this predicate to its input, if a permit of the
+     * given {@link Bulkhead} is acquired. Depending on the mode of the bulkhead, the call either waits for a permit or
+     * is rejected with a {@link CallNotPermittedException}. A bulkhead may be shared by several functional interfaces
+     * calling the same dependency.
+     *
+     * @param bulkhead The bulkhead which limits the concurrent calls of this predicate
+     * @return A composed {@code BiObjBooleanPredicate} that applies this predicate to its input, if a permit of the
+     * given {@code Bulkhead} is acquired.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see Bulkhead#of(int, Duration)
+     * @see Bulkhead#adaptive(int, int)
+     */
+    @Nonnull
+    default BiObjBooleanPredicate<T, U> bulkhead(@Nonnull final Bulkhead bulkhead) {
+        Objects.requireNonNull(bulkhead);
+        return (t, u, value) -> {
+            final long permit = bulkhead.acquirePermission();
+            try {
+                return this.test(t, u, value);
+            } finally {
+                bulkhead.releasePermission(permit);
+            }
+        };
     }
 
 }
\ No newline at end of file
@@ -16,6 +16,8 @@
 package at.gridtec.lambda4j.runnable;
 
 import at.gridtec.lambda4j.Lambda;
+import at.gridtec.lambda4j.resilience.Bulkhead;
+import at.gridtec.lambda4j.resilience.CallNotPermittedException;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
@@ -80,14 +82,68 @@ public interface Runnable2 extends Lambda, Runnable {
      * @return A composed {@link Runnable2} that performs, in sequence, this runnable followed by the {@code after}
      * runnable.
      * @throws NullPointerException If given argument is {@code null}
+     * @implNote The composed runnable is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
      */
     @Nonnull
     default Runnable2 andThen(@Nonnull final Runnable after) {
         Objects.requireNonNull(after);
+        if (this instanceof Pure && after instanceof Pure) {
+            return (Runnable2 & Pure) () -> {
+                run();
+                after.run();
+            };
+        } else if (this instanceof ThreadSafe && after instanceof ThreadSafe) {
+            return (Runnable2 & ThreadSafe) () -> {
+                run();
+                after.run();
+            };
+        }
         return () -> {
             run();
             after.run();
         };
     }
 
+    /**
+     * Returns a composed {@link Runnable2} that applies this runnable to its input, if less than the given number of
+     * calls of the composed runnable are running concurrently. Otherwise the call is rejected immediately with a {@link
+     * CallNotPermittedException}.
+     *
+     * @param maxConcurrent The maximum number of concurrent calls
+     * @return A composed {@code Runnable2} that applies this runnable to its input, if less than the given number of
+     * calls are running concurrently.
+     * @throws IllegalArgumentException If given argument is not positive
+     * @see #bulkhead(Bulkhead)
+     */
+    @Nonnull
+    default Runnable2 bulkhead(final int maxConcurrent) {
+        return bulkhead(Bulkhead.of(maxConcurrent));
+    }
+
+    /**
+     * Returns a composed {@link Runnable2} that applies this runnable to its input, if a permit of the given {@link
+     * Bulkhead} is acquired. Depending on the mode of the bulkhead, the call either waits for a permit or is rejected
+     * with a {@link CallNotPermittedException}. A bulkhead may be shared by several functional interfaces calling the
+     * same dependency.
+     *
+     * @param bulkhead The bulkhead which limits the concurrent calls of this runnable
+     * @return A composed {@code Runnable2} that applies this runnable to its input, if a permit of the given {@code
+     * Bulkhead} is acquired.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see Bulkhead#of(int, Duration)
+     * @see Bulkhead#adaptive(int, int)
+     */
+    @Nonnull
+    default Runnable2 bulkhead(@Nonnull final Bulkhead bulkhead) {
+        Objects.requireNonNull(bulkhead);
+        return () -> {
+            final long permit = bulkhead.acquirePermission();
+            try {
+                this.run();
+            } finally {
+                bulkhead.releasePermission(permit);
+            }
+        };
+    }
+
 }
\ No newline at end of file
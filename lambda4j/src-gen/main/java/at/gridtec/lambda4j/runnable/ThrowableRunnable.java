@@ -17,12 +17,21 @@ package at.gridtec.lambda4j.runnable;
 
 import at.gridtec.lambda4j.Lambda;
 import at.gridtec.lambda4j.core.exception.ThrownByFunctionalInterfaceException;
+import at.gridtec.lambda4j.core.recovery.RecoveryTable;
 import at.gridtec.lambda4j.core.util.ThrowableUtils;
+import at.gridtec.lambda4j.resilience.Bulkhead;
+import at.gridtec.lambda4j.resilience.CallNotPermittedException;
+import at.gridtec.lambda4j.resilience.CircuitBreaker;
+import at.gridtec.lambda4j.resilience.CircuitBreakerConfig;
+import at.gridtec.lambda4j.resilience.RetryPolicy;
+import at.gridtec.lambda4j.supplier.Supplier2;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Function;
 
 @SuppressWarnings("unused")
@@ -76,19 +85,18 @@ public interface ThrowableRunnable<X extends Throwable> extends Lambda, Runnable
      * @apiNote Overrides the {@link Runnable#run()} method by using a redefinition as default method. This
      * implementation calls the {@link #runThrows()} method of this function and catches the eventually thrown {@link
      * Throwable} from it. If it is of type {@link RuntimeException} or {@link Error} it is rethrown as is. Other {@code
-     * Throwable} types are wrapped in a {@link ThrownByFunctionalInterfaceException}.
+     * Throwable} types are wrapped in a {@link ThrownByFunctionalInterfaceException} using {@link
+     * ThrowableUtils#nest(Throwable)}.
      */
     @Override
     default void run() {
-        // TODO: Remove commented code below
-    /*try {
-          this.runThrows();
-    } catch (RuntimeException | Error e) {
-        throw e;
-    } catch (Throwable throwable) {
-        throw new ThrownByFunctionalInterfaceException(throwable.getMessage(), throwable);
-    }*/
-        nest().run();
+        try {
+            this.runThrows();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable throwable) {
+            throw ThrowableUtils.nest(throwable);
+        }
     }
 
     /**
@@ -111,10 +119,22 @@ public interface ThrowableRunnable<X extends Throwable> extends Lambda, Runnable
      * @return A composed {@link ThrowableRunnable} that performs, in sequence, this runnable followed by the {@code
      * after} runnable.
      * @throws NullPointerException If given argument is {@code null}
+     * @implNote The composed runnable is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
      */
     @Nonnull
     default ThrowableRunnable<X> andThen(@Nonnull final ThrowableRunnable<? extends X> after) {
         Objects.requireNonNull(after);
+        if (this instanceof Pure && after instanceof Pure) {
+            return (ThrowableRunnable<X> & Pure) () -> {
+                runThrows();
+                after.runThrows();
+            };
+        } else if (this instanceof ThreadSafe && after instanceof ThreadSafe) {
+            return (ThrowableRunnable<X> & ThreadSafe) () -> {
+                runThrows();
+                after.runThrows();
+            };
+        }
         return () -> {
             runThrows();
             after.runThrows();
@@ -125,16 +145,22 @@ public interface ThrowableRunnable<X extends Throwable> extends Lambda, Runnable
      * Returns a composed {@link Runnable2} that applies this runnable to its input and nests the thrown {@link
      * Throwable} from it. The {@code Throwable} is nested (wrapped) in a {@link ThrownByFunctionalInterfaceException},
      * which is constructed from the thrown {@code Throwable}s message and the thrown {@code Throwable} itself.
+     * <p>
+     * If stack traces of nested throwables are disabled process-wide using {@link
+     * ThrowableUtils#setStackTraceEnabled(boolean)}, the {@code Throwable} is nested in a {@link
+     * StacklessThrownByFunctionalInterfaceException} instead. To nest it without stack trace for a single runnable
+     * only, {@code nest(StacklessThrownByFunctionalInterfaceException::new)} may be used.
      *
      * @return A composed {@link Runnable2} that applies this runnable to its input and nests the thrown {@code
      * Throwable} from it.
      * @implNote If thrown {@code Throwable} is of type {@link Error} it is thrown as-is and thus not nested.
      * @see #nest(Function)
      * @see ThrownByFunctionalInterfaceException
+     * @see ThrowableUtils#nest(Throwable)
      */
     @Nonnull
     default Runnable2 nest() {
-        return nest(throwable -> new ThrownByFunctionalInterfaceException(throwable.getMessage(), throwable));
+        return nest(ThrowableUtils::nest);
     }
 
     /**
@@ -160,6 +186,9 @@ public interface ThrowableRunnable<X extends Throwable> extends Lambda, Runnable
      * Returns a composed {@link Runnable2} that first applies this runnable to its input, and then applies the {@code
      * recover} operation if a {@link Throwable} is thrown from this one. The {@code recover} operation is represented
      * by a curried operation which is called with throwable information and same argument of this runnable.
+     * <p>
+     * If the {@code recover} operation should dispatch by the class of the thrown {@code Throwable}, a {@link
+     * RecoveryTable} may be used, which resolves the fallback operation only once per {@code Throwable} class.
      *
      * @param recover The operation to apply if this runnable throws a {@code Throwable}
      * @return A composed {@link Runnable2} that first applies this runnable to its input, and then applies the {@code
@@ -169,6 +198,7 @@ public interface ThrowableRunnable<X extends Throwable> extends Lambda, Runnable
      * {@code null}. If it is, then a {@link NullPointerException} with appropriate message is thrown.
      * @implNote If thrown {@code Throwable} is of type {@link Error}, it is thrown as-is and thus not passed to {@code
      * recover} operation.
+     * @see RecoveryTable
      */
     @Nonnull
     default Runnable2 recover(@Nonnull final Function<? super Throwable, ? extends Runnable> recover) {
@@ -187,6 +217,150 @@ public interface ThrowableRunnable<X extends Throwable> extends Lambda, Runnable
         };
     }
 
+    /**
+     * Returns a composed {@link ThrowableRunnable} that applies this runnable to its input and retries it according to
+     * the given {@link RetryPolicy}, if a {@link Throwable} is thrown from it. The current thread is blocked for the
+     * delay between two attempts. If the {@code Throwable} is not retried, it is thrown as-is from the composed
+     * runnable, thus the type of {@code Throwable} thrown from this runnable is preserved.
+     *
+     * @param policy The policy which defines if and when this runnable is retried
+     * @return A composed {@code ThrowableRunnable} that applies this runnable to its input and retries it according to
+     * the given {@code RetryPolicy}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see #retryAsync(RetryPolicy, ScheduledExecutorService)
+     */
+    @Nonnull
+    default ThrowableRunnable<X> retry(@Nonnull final RetryPolicy policy) {
+        Objects.requireNonNull(policy);
+        return () -> {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    this.runThrows();
+                    return;
+                } catch (Throwable throwable) {
+                    if (!policy.awaitRetry(throwable, attempt)) {
+                        throw throwable;
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link Supplier2} that applies this runnable asynchronously to its input using the given
+     * scheduler and retries it according to the given {@link RetryPolicy}, if a {@link Throwable} is thrown from it.
+     * The delay between two attempts does not block a thread, as each retry is scheduled on the given scheduler. The
+     * {@link CompletableFuture} returned from the composed supplier is completed exceptionally with the {@code
+     * Throwable} of the last attempt, if this runnable is not retried anymore.
+     *
+     * @param policy The policy which defines if and when this runnable is retried
+     * @param scheduler The scheduler to apply this runnable with
+     * @return A composed {@code Supplier2} that applies this runnable asynchronously to its input and retries it
+     * according to the given {@code RetryPolicy}.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @see #retry(RetryPolicy)
+     */
+    @Nonnull
+    default Supplier2<CompletableFuture<Void>> retryAsync(@Nonnull final RetryPolicy policy,
+            @Nonnull final ScheduledExecutorService scheduler) {
+        Objects.requireNonNull(policy);
+        Objects.requireNonNull(scheduler);
+        return () -> policy.executeAsync(() -> {
+            this.runThrows();
+            return null;
+        }, scheduler);
+    }
+
+    /**
+     * Returns a composed {@link ThrowableRunnable} that applies this runnable to its input guarded by a new {@link
+     * CircuitBreaker} created from the given configuration. The circuit breaker is owned by the composed runnable, so
+     * all its calls share the same failure rate.
+     *
+     * @param config The configuration of the circuit breaker guarding this runnable
+     * @return A composed {@code ThrowableRunnable} that applies this runnable to its input guarded by a new {@code
+     * CircuitBreaker}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see #circuitBroken(CircuitBreaker)
+     */
+    @Nonnull
+    default ThrowableRunnable<X> circuitBroken(@Nonnull final CircuitBreakerConfig config) {
+        return circuitBroken(CircuitBreaker.of(config));
+    }
+
+    /**
+     * Returns a composed {@link ThrowableRunnable} that applies this runnable to its input guarded by the given {@link
+     * CircuitBreaker}. If the circuit breaker does not permit the call, this runnable is not applied and a {@link
+     * CallNotPermittedException} is thrown immediately. Otherwise the outcome of this runnable is recorded in the
+     * circuit breaker against the phase in which the call was permitted and any {@link Throwable} thrown from it is
+     * rethrown as-is. To fall back to another result while the circuit breaker is open, {@link #recover(Function)} may
+     * be used on the composed runnable.
+     *
+     * @param circuitBreaker The circuit breaker guarding this runnable
+     * @return A composed {@code ThrowableRunnable} that applies this runnable to its input guarded by the given {@code
+     * CircuitBreaker}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see #circuitBroken(CircuitBreakerConfig)
+     */
+    @Nonnull
+    default ThrowableRunnable<X> circuitBroken(@Nonnull final CircuitBreaker circuitBreaker) {
+        Objects.requireNonNull(circuitBreaker);
+        return () -> {
+            final CircuitBreaker.Phase permitted = circuitBreaker.tryAcquirePermission();
+            if (permitted == null) {
+                throw new CallNotPermittedException("CircuitBreaker is " + circuitBreaker.getState());
+            }
+            try {
+                this.runThrows();
+                circuitBreaker.onSuccess(permitted);
+            } catch (Throwable throwable) {
+                circuitBreaker.onFailure(permitted, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link ThrowableRunnable} that applies this runnable to its input, if less than the given
+     * number of calls of the composed runnable are running concurrently. Otherwise the call is rejected immediately
+     * with a {@link CallNotPermittedException}.
+     *
+     * @param maxConcurrent The maximum number of concurrent calls
+     * @return A composed {@code ThrowableRunnable} that applies this runnable to its input, if less than the given
+     * number of calls are running concurrently.
+     * @throws IllegalArgumentException If given argument is not positive
+     * @see #bulkhead(Bulkhead)
+     */
+    @Nonnull
+    default ThrowableRunnable<X> bulkhead(final int maxConcurrent) {
+        return bulkhead(Bulkhead.of(maxConcurrent));
+    }
+
+    /**
+     * Returns a composed {@link ThrowableRunnable} that applies this runnable to its input, if a permit of the given
+     * {@link Bulkhead} is acquired. Depending on the mode of the bulkhead, the call either waits for a permit or is
+     * rejected with a {@link CallNotPermittedException}. A bulkhead may be shared by several functional interfaces
+     * calling the same dependency.
+     *
+     * @param bulkhead The bulkhead which limits the concurrent calls of this runnable
+     * @return A composed {@code ThrowableRunnable} that applies this runnable to its input, if a permit of the given
+     * {@code Bulkhead} is acquired.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see Bulkhead#of(int, Duration)
+     * @see Bulkhead#adaptive(int, int)
+     */
+    @Nonnull
+    default ThrowableRunnable<X> bulkhead(@Nonnull final Bulkhead bulkhead) {
+        Objects.requireNonNull(bulkhead);
+        return () -> {
+            final long permit = bulkhead.acquirePermission();
+            try {
+                this.runThrows();
+            } finally {
+                bulkhead.releasePermission(permit);
+            }
+        };
+    }
+
     /**
      * Returns a composed {@link Runnable2} that applies this runnable to its input and sneakily throws the
      * thrown {@link Throwable} from it, if it is not of type {@link RuntimeException} or {@link Error}. This means that
@@ -18,6 +18,9 @@ package at.gridtec.lambda4j.supplier;
 import at.gridtec.lambda4j.Lambda;
 import at.gridtec.lambda4j.consumer.CharConsumer;
 import at.gridtec.lambda4j.consumer.Consumer2;
+import at.gridtec.lambda4j.core.memoization.Codec;
+import at.gridtec.lambda4j.core.memoization.MemoizationValue;
+import at.gridtec.lambda4j.core.util.DerivedView;
 import at.gridtec.lambda4j.function.CharFunction;
 import at.gridtec.lambda4j.function.conversion.CharToByteFunction;
 import at.gridtec.lambda4j.function.conversion.CharToDoubleFunction;
@@ -27,12 +30,19 @@ import at.gridtec.lambda4j.function.conversion.CharToLongFunction;
 import at.gridtec.lambda4j.function.conversion.CharToShortFunction;
 import at.gridtec.lambda4j.operator.unary.CharUnaryOperator;
 import at.gridtec.lambda4j.predicate.CharPredicate;
+import at.gridtec.lambda4j.resilience.Bulkhead;
+import at.gridtec.lambda4j.resilience.CallNotPermittedException;
+import at.gridtec.lambda4j.resilience.CallTimeoutException;
+import at.gridtec.lambda4j.resilience.Hedger;
+import at.gridtec.lambda4j.resilience.TimeLimiter;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.time.Duration;
 import java.util.Objects;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.Optional;
+import java.util.concurrent.Executor;
 
 /**
  * Represents a supplier of {@code char}-valued results.
@@ -85,7 +95,39 @@ public interface CharSupplier extends Lambda {
      */
     @Nonnull
     static CharSupplier constant(char ret) {
-        return () -> ret;
+        return (CharSupplier & Constant) () -> ret;
+    }
+
+    /**
+     * Returns a {@link CharSupplier} which represents the given {@link Supplier2}. Thereby the boxed input arguments
+     * and results of the given supplier are unboxed to their primitive counterparts. This method is the inverse of
+     * {@link #boxed()}.
+     *
+     * @param boxed The {@code Supplier2} to be represented by the returned {@code CharSupplier}
+     * @return A {@code CharSupplier} which represents the given {@code Supplier2}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implNote If the given {@code Supplier2} was returned from {@link #boxed()}, the original {@code CharSupplier} is
+     * returned instead of wrapping it twice. Likewise, {@link #boxed()} of the returned {@code CharSupplier} returns
+     * the given {@code Supplier2}.
+     */
+    @Nonnull
+    static CharSupplier unboxed(@Nonnull final Supplier2<Character> boxed) {
+        Objects.requireNonNull(boxed);
+        if (boxed instanceof DerivedView && ((DerivedView) boxed).getSource() instanceof CharSupplier) {
+            return (CharSupplier) ((DerivedView) boxed).getSource();
+        }
+        return new CharSupplier() {
+            @Override
+            public char getAsChar() {
+                return boxed.get();
+            }
+
+            @Nonnull
+            @Override
+            public Supplier2<Character> boxed() {
+                return boxed;
+            }
+        };
     }
 
     /**
@@ -117,10 +159,26 @@ public interface CharSupplier extends Lambda {
      * after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote The composed supplier is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
+     * @implNote If this supplier is constant (f.e. created by {@code constant}) and the {@code after} function is
+     * marked as {@link Pure}, the {@code after} function is applied only once, when the composed supplier is applied
+     * for the first time. Its result is then returned by each further application. If applying it throws an exception,
+     * the exception is relayed to the caller and it is applied again on the next application.
      */
     @Nonnull
     default <S> Supplier2<S> andThen(@Nonnull final CharFunction<? extends S> after) {
         Objects.requireNonNull(after);
+        if (this instanceof Constant && after instanceof Pure) {
+            // The result is held by an optional, so that a null result is memoized as well
+            final Supplier2<Optional<S>> result = Supplier2.of(() -> Optional.ofNullable(after.apply(getAsChar())))
+                    .memoized();
+            return (Supplier2<S> & Pure) () -> result.get().orElse(null);
+        }
+        if (this instanceof Pure && after instanceof Pure) {
+            return (Supplier2<S> & Pure) () -> after.apply(getAsChar());
+        } else if (this instanceof ThreadSafe && after instanceof ThreadSafe) {
+            return (Supplier2<S> & ThreadSafe) () -> after.apply(getAsChar());
+        }
         return () -> after.apply(getAsChar());
     }
 
@@ -303,19 +361,50 @@ public interface CharSupplier extends Lambda {
      * <p>
      * Unless the supplier and therefore the used cache will be garbage-collected, it will keep all memoized values
      * forever.
+     * <p>
+     * The returned memoized supplier is serializable, if this supplier is serializable. Its memoized value is not
+     * written when it gets serialized, so the deserialized supplier starts with an empty cache.
      *
      * @return A memoized (caching) version of this {@code CharSupplier}.
      * @implSpec This implementation does not allow the return value to be {@code null} for the resulting memoized
      * supplier, as the cache used internally does not permit {@code null} values.
      * @implNote The returned memoized supplier can be safely used concurrently from multiple threads which makes it
      * thread-safe.
+     * @see #memoized(boolean)
      */
     @Nonnull
     default CharSupplier memoized() {
+        return memoized(false);
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link CharSupplier}. Whenever it is called, the return value is
+     * preserved in a cache, making subsequent calls returning the memoized value instead of computing the return value
+     * again.
+     * <p>
+     * Unless the supplier and therefore the used cache will be garbage-collected, it will keep all memoized values
+     * forever.
+     * <p>
+     * The returned memoized supplier is serializable, if this supplier is serializable. If {@code serializeCache} is
+     * {@code true}, the memoized value is written when it gets serialized, so the deserialized supplier starts warm.
+     * Otherwise the deserialized supplier starts with an empty cache. Primitive values are thereby written in their
+     * binary form.
+     *
+     * @param serializeCache {@code true} if the memoized value should be written when the memoized supplier gets
+     * serialized, {@code false} otherwise
+     * @return A memoized (caching) version of this {@code CharSupplier}.
+     * @implSpec This implementation does not allow the return value to be {@code null} for the resulting memoized
+     * supplier, as the cache used internally does not permit {@code null} values.
+     * @implNote The returned memoized supplier can be safely used concurrently from multiple threads which makes it
+     * thread-safe. If this supplier is already memoized, it is returned as-is regardless of {@code serializeCache}.
+     * @see MemoizationValue
+     */
+    @Nonnull
+    default CharSupplier memoized(final boolean serializeCache) {
         if (isMemoized()) {
             return this;
         } else {
-            AtomicReference<Character> cache = new AtomicReference<>();
+            final MemoizationValue<Character> cache = MemoizationValue.of(Codec.ofChar(), serializeCache);
             return (CharSupplier & Memoized) () -> {
                 Character returnValue = cache.get();
                 if (returnValue == null) {
@@ -338,10 +427,140 @@ public interface CharSupplier extends Lambda {
      * {@code CharSupplier} with methods provided by the {@code JDK}.
      *
      * @return A composed {@code Supplier2} which represents this {@code CharSupplier}.
+     * @implNote The returned {@code Supplier2} is a {@link DerivedView} of this {@code CharSupplier}, so {@link
+     * #unboxed(Supplier2)} returns this {@code CharSupplier} instead of wrapping it twice.
      */
     @Nonnull
     default Supplier2<Character> boxed() {
-        return this::getAsChar;
+        final class Boxed implements Supplier2<Character>, DerivedView {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public Character get() {
+                return CharSupplier.this.getAsChar();
+            }
+
+            @Nonnull
+            @Override
+            public CharSupplier getSource() {
+                return CharSupplier.this;
+            }
+        }
+        return new Boxed();
+    }
+
+    /**
+     * Returns a composed {@link CharSupplier} that applies this supplier to its input on the given executor and waits
+     * at most the given timeout for its result. If the timeout elapses, this supplier is cancelled by interrupting it
+     * and a {@link CallTimeoutException} is thrown.
+     *
+     * @param timeout The maximum time to wait for the result of this supplier
+     * @param executor The executor to apply this supplier with
+     * @return A composed {@code CharSupplier} that applies this supplier to its input on the given executor and waits
+     * at most the given timeout for its result.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @throws IllegalArgumentException If given timeout is negative
+     * @see #withTimeout(TimeLimiter)
+     */
+    @Nonnull
+    default CharSupplier withTimeout(@Nonnull final Duration timeout, @Nonnull final Executor executor) {
+        return withTimeout(TimeLimiter.of(timeout, executor));
+    }
+
+    /**
+     * Returns a composed {@link CharSupplier} that applies this supplier to its input using the given {@link
+     * TimeLimiter}. Any {@link Throwable} thrown from this supplier is rethrown as-is from the composed supplier.
+     *
+     * @param timeLimiter The time limiter which bounds how long this supplier may take
+     * @return A composed {@code CharSupplier} that applies this supplier to its input using the given {@code
+     * TimeLimiter}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see TimeLimiter#call(ThrowableSupplier)
+     */
+    @Nonnull
+    default CharSupplier withTimeout(@Nonnull final TimeLimiter timeLimiter) {
+        Objects.requireNonNull(timeLimiter);
+        return () -> timeLimiter.call(() -> this.getAsChar());
+    }
+
+    /**
+     * Returns a composed {@link CharSupplier} that applies this supplier to its input on the given executor and
+     * launches another call with the same input if no call has completed after the given delay, up to the given maximum
+     * number of hedges. The first successful result is returned and all other calls are cancelled. As this supplier may
+     * be applied more than once for each input, it should be idempotent.
+     *
+     * @param delay The delay after which another call is launched, if no call has completed yet
+     * @param maxHedges The maximum number of hedges launched for each call in addition to the first call
+     * @param executor The executor to apply this supplier with
+     * @return A composed {@code CharSupplier} that applies this supplier to its input on the given executor and
+     * launches hedged calls if no call has completed after the given delay.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @throws IllegalArgumentException If given delay or given number of hedges is negative
+     * @see #hedged(Hedger)
+     */
+    @Nonnull
+    default CharSupplier hedged(@Nonnull final Duration delay, final int maxHedges, @Nonnull final Executor executor) {
+        return hedged(Hedger.of(delay, maxHedges, executor));
+    }
+
+    /**
+     * Returns a composed {@link CharSupplier} that applies this supplier to its input using the given {@link Hedger}.
+     * The hedger records the latencies of its winning calls, so a hedger shared by several calls may be used to pick
+     * the hedging delay from an observed latency percentile (f.e. using {@link Hedger#ofPercentile(double, Duration,
+     * int, Executor)}). If all calls fail, the {@link Throwable} of the last failed call is rethrown as-is from the
+     * composed supplier.
+     *
+     * @param hedger The hedger which launches the hedged calls of this supplier
+     * @return A composed {@code CharSupplier} that applies this supplier to its input using the given {@code Hedger}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see Hedger#call(ThrowableSupplier)
+     */
+    @Nonnull
+    default CharSupplier hedged(@Nonnull final Hedger hedger) {
+        Objects.requireNonNull(hedger);
+        return () -> hedger.call(() -> this.getAsChar());
+    }
+
+    /**
+     * Returns a composed {@link CharSupplier} that applies this supplier to its input, if less than the given number of
+     * calls of the composed supplier are running concurrently. Otherwise the call is rejected immediately with a {@link
+     * CallNotPermittedException}.
+     *
+     * @param maxConcurrent The maximum number of concurrent calls
+     * @return A composed {@code CharSupplier} that applies this supplier to its input, if less than the given number of
+     * calls are running concurrently.
+     * @throws IllegalArgumentException If given argument is not positive
+     * @see #bulkhead(Bulkhead)
+     */
+    @Nonnull
+    default CharSupplier bulkhead(final int maxConcurrent) {
+        return bulkhead(Bulkhead.of(maxConcurrent));
+    }
+
+    /**
+     * Returns a composed {@link CharSupplier} that applies this supplier to its input, if a permit of the given {@link
+     * Bulkhead} is acquired. Depending on the mode of the bulkhead, the call either waits for a permit or is rejected
+     * with a {@link CallNotPermittedException}. A bulkhead may be shared by several functional interfaces calling the
+     * same dependency.
+     *
+     * @param bulkhead The bulkhead which limits the concurrent calls of this supplier
+     * @return A composed {@code CharSupplier} that applies this supplier to its input, if a permit of the given {@code
+     * Bulkhead} is acquired.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see Bulkhead#of(int, Duration)
+     * @see Bulkhead#adaptive(int, int)
+     */
+    @Nonnull
+    default CharSupplier bulkhead(@Nonnull final Bulkhead bulkhead) {
+        Objects.requireNonNull(bulkhead);
+        return () -> {
+            final long permit = bulkhead.acquirePermission();
+            try {
+                return this.getAsChar();
+            } finally {
+                bulkhead.releasePermission(permit);
+            }
+        };
     }
 
 }
\ No newline at end of file
@@ -19,6 +19,10 @@ import at.gridtec.lambda4j.Lambda;
 import at.gridtec.lambda4j.consumer.ThrowableConsumer;
 import at.gridtec.lambda4j.consumer.ThrowableDoubleConsumer;
 import at.gridtec.lambda4j.core.exception.ThrownByFunctionalInterfaceException;
+import at.gridtec.lambda4j.core.memoization.Codec;
+import at.gridtec.lambda4j.core.memoization.MemoizationValue;
+import at.gridtec.lambda4j.core.recovery.RecoveryTable;
+import at.gridtec.lambda4j.core.util.DerivedView;
 import at.gridtec.lambda4j.core.util.ThrowableUtils;
 import at.gridtec.lambda4j.function.ThrowableDoubleFunction;
 import at.gridtec.lambda4j.function.conversion.ThrowableDoubleToByteFunction;
@@ -29,12 +33,24 @@ import at.gridtec.lambda4j.function.conversion.ThrowableDoubleToLongFunction;
 import at.gridtec.lambda4j.function.conversion.ThrowableDoubleToShortFunction;
 import at.gridtec.lambda4j.operator.unary.ThrowableDoubleUnaryOperator;
 import at.gridtec.lambda4j.predicate.ThrowableDoublePredicate;
+import at.gridtec.lambda4j.resilience.Bulkhead;
+import at.gridtec.lambda4j.resilience.CallNotPermittedException;
+import at.gridtec.lambda4j.resilience.CallTimeoutException;
+import at.gridtec.lambda4j.resilience.CircuitBreaker;
+import at.gridtec.lambda4j.resilience.CircuitBreakerConfig;
+import at.gridtec.lambda4j.resilience.Hedger;
+import at.gridtec.lambda4j.resilience.RetryPolicy;
+import at.gridtec.lambda4j.resilience.TimeLimiter;
+import at.gridtec.lambda4j.result.DoubleResult;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.time.Duration;
 import java.util.Objects;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.DoubleSupplier;
 import java.util.function.Function;
 
@@ -96,7 +112,41 @@ public interface ThrowableDoubleSupplier<X extends Throwable> extends Lambda, Do
      */
     @Nonnull
     static <X extends Throwable> ThrowableDoubleSupplier<X> constant(double ret) {
-        return () -> ret;
+        return (ThrowableDoubleSupplier<X> & Constant) () -> ret;
+    }
+
+    /**
+     * Returns a {@link ThrowableDoubleSupplier} which represents the given {@link ThrowableSupplier}. Thereby the boxed
+     * input arguments and results of the given supplier are unboxed to their primitive counterparts. This method is the
+     * inverse of {@link #boxed()}.
+     *
+     * @param <X> The type of the throwable to be thrown by this supplier
+     * @param boxed The {@code ThrowableSupplier} to be represented by the returned {@code ThrowableDoubleSupplier}
+     * @return A {@code ThrowableDoubleSupplier} which represents the given {@code ThrowableSupplier}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @implNote If the given {@code ThrowableSupplier} was returned from {@link #boxed()}, the original {@code
+     * ThrowableDoubleSupplier} is returned instead of wrapping it twice. Likewise, {@link #boxed()} of the returned
+     * {@code ThrowableDoubleSupplier} returns the given {@code ThrowableSupplier}.
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <X extends Throwable> ThrowableDoubleSupplier<X> unboxed(@Nonnull final ThrowableSupplier<Double, X> boxed) {
+        Objects.requireNonNull(boxed);
+        if (boxed instanceof DerivedView && ((DerivedView) boxed).getSource() instanceof ThrowableDoubleSupplier) {
+            return (ThrowableDoubleSupplier<X>) ((DerivedView) boxed).getSource();
+        }
+        return new ThrowableDoubleSupplier<X>() {
+            @Override
+            public double getAsDoubleThrows() throws X {
+                return boxed.getThrows();
+            }
+
+            @Nonnull
+            @Override
+            public ThrowableSupplier<Double, X> boxed() {
+                return boxed;
+            }
+        };
     }
 
     /**
@@ -117,19 +167,18 @@ public interface ThrowableDoubleSupplier<X extends Throwable> extends Lambda, Do
      * @apiNote Overrides the {@link DoubleSupplier#getAsDouble()} method by using a redefinition as default method.
      * This implementation calls the {@link #getAsDoubleThrows()} method of this function and catches the eventually
      * thrown {@link Throwable} from it. If it is of type {@link RuntimeException} or {@link Error} it is rethrown as
-     * is. Other {@code Throwable} types are wrapped in a {@link ThrownByFunctionalInterfaceException}.
+     * is. Other {@code Throwable} types are wrapped in a {@link ThrownByFunctionalInterfaceException} using {@link
+     * ThrowableUtils#nest(Throwable)}.
      */
     @Override
     default double getAsDouble() {
-        // TODO: Remove commented code below
-    /*try {
-         return this.getAsDoubleThrows();
-    } catch (RuntimeException | Error e) {
-        throw e;
-    } catch (Throwable throwable) {
-        throw new ThrownByFunctionalInterfaceException(throwable.getMessage(), throwable);
-    }*/
-        return nest().getAsDouble();
+        try {
+            return this.getAsDoubleThrows();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable throwable) {
+            throw ThrowableUtils.nest(throwable);
+        }
     }
 
     /**
@@ -153,11 +202,17 @@ public interface ThrowableDoubleSupplier<X extends Throwable> extends Lambda, Do
      * {@code after} function to the result.
      * @throws NullPointerException If given argument is {@code null}
      * @implSpec The input argument of this method is able to return every type.
+     * @implNote The composed supplier is marked as {@link Pure} or {@link ThreadSafe}, if all composed lambdas are.
      */
     @Nonnull
     default <S> ThrowableSupplier<S, X> andThen(
             @Nonnull final ThrowableDoubleFunction<? extends S, ? extends X> after) {
         Objects.requireNonNull(after);
+        if (this instanceof Pure && after instanceof Pure) {
+            return (ThrowableSupplier<S, X> & Pure) () -> after.applyThrows(getAsDoubleThrows());
+        } else if (this instanceof ThreadSafe && after instanceof ThreadSafe) {
+            return (ThrowableSupplier<S, X> & ThreadSafe) () -> after.applyThrows(getAsDoubleThrows());
+        }
         return () -> after.applyThrows(getAsDoubleThrows());
     }
 
@@ -331,19 +386,50 @@ public interface ThrowableDoubleSupplier<X extends Throwable> extends Lambda, Do
      * <p>
      * Unless the supplier and therefore the used cache will be garbage-collected, it will keep all memoized values
      * forever.
+     * <p>
+     * The returned memoized supplier is serializable, if this supplier is serializable. Its memoized value is not
+     * written when it gets serialized, so the deserialized supplier starts with an empty cache.
      *
      * @return A memoized (caching) version of this {@code ThrowableDoubleSupplier}.
      * @implSpec This implementation does not allow the return value to be {@code null} for the resulting memoized
      * supplier, as the cache used internally does not permit {@code null} values.
      * @implNote The returned memoized supplier can be safely used concurrently from multiple threads which makes it
      * thread-safe.
+     * @see #memoized(boolean)
      */
     @Nonnull
     default ThrowableDoubleSupplier<X> memoized() {
+        return memoized(false);
+    }
+
+    /**
+     * Returns a memoized (caching) version of this {@link ThrowableDoubleSupplier}. Whenever it is called, the return
+     * value is preserved in a cache, making subsequent calls returning the memoized value instead of computing the
+     * return value again.
+     * <p>
+     * Unless the supplier and therefore the used cache will be garbage-collected, it will keep all memoized values
+     * forever.
+     * <p>
+     * The returned memoized supplier is serializable, if this supplier is serializable. If {@code serializeCache} is
+     * {@code true}, the memoized value is written when it gets serialized, so the deserialized supplier starts warm.
+     * Otherwise the deserialized supplier starts with an empty cache. Primitive values are thereby written in their
+     * binary form.
+     *
+     * @param serializeCache {@code true} if the memoized value should be written when the memoized supplier gets
+     * serialized, {@code false} otherwise
+     * @return A memoized (caching) version of this {@code ThrowableDoubleSupplier}.
+     * @implSpec This implementation does not allow the return value to be {@code null} for the resulting memoized
+     * supplier, as the cache used internally does not permit {@code null} values.
+     * @implNote The returned memoized supplier can be safely used concurrently from multiple threads which makes it
+     * thread-safe. If this supplier is already memoized, it is returned as-is regardless of {@code serializeCache}.
+     * @see MemoizationValue
+     */
+    @Nonnull
+    default ThrowableDoubleSupplier<X> memoized(final boolean serializeCache) {
         if (isMemoized()) {
             return this;
         } else {
-            AtomicReference<Double> cache = new AtomicReference<>();
+            final MemoizationValue<Double> cache = MemoizationValue.of(Codec.ofDouble(), serializeCache);
             return (ThrowableDoubleSupplier<X> & Memoized) () -> {
                 Double returnValue = cache.get();
                 if (returnValue == null) {
@@ -366,26 +452,49 @@ public interface ThrowableDoubleSupplier<X extends Throwable> extends Lambda, Do
      * ThrowableDoubleSupplier} with methods provided by the {@code JDK}.
      *
      * @return A composed {@code ThrowableSupplier} which represents this {@code ThrowableDoubleSupplier}.
+     * @implNote The returned {@code ThrowableSupplier} is a {@link DerivedView} of this {@code
+     * ThrowableDoubleSupplier}, so {@link #unboxed(ThrowableSupplier)} returns this {@code ThrowableDoubleSupplier}
+     * instead of wrapping it twice.
      */
     @Nonnull
     default ThrowableSupplier<Double, X> boxed() {
-        return this::getAsDoubleThrows;
+        final class Boxed implements ThrowableSupplier<Double, X>, DerivedView {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public Double getThrows() throws X {
+                return ThrowableDoubleSupplier.this.getAsDoubleThrows();
+            }
+
+            @Nonnull
+            @Override
+            public ThrowableDoubleSupplier<X> getSource() {
+                return ThrowableDoubleSupplier.this;
+            }
+        }
+        return new Boxed();
     }
 
     /**
      * Returns a composed {@link DoubleSupplier2} that applies this supplier to its input and nests the thrown {@link
      * Throwable} from it. The {@code Throwable} is nested (wrapped) in a {@link ThrownByFunctionalInterfaceException},
      * which is constructed from the thrown {@code Throwable}s message and the thrown {@code Throwable} itself.
+     * <p>
+     * If stack traces of nested throwables are disabled process-wide using {@link
+     * ThrowableUtils#setStackTraceEnabled(boolean)}, the {@code Throwable} is nested in a {@link
+     * StacklessThrownByFunctionalInterfaceException} instead. To nest it without stack trace for a single supplier
+     * only, {@code nest(StacklessThrownByFunctionalInterfaceException::new)} may be used.
      *
      * @return A composed {@link DoubleSupplier2} that applies this supplier to its input and nests the thrown {@code
      * Throwable} from it.
      * @implNote If thrown {@code Throwable} is of type {@link Error} it is thrown as-is and thus not nested.
      * @see #nest(Function)
      * @see ThrownByFunctionalInterfaceException
+     * @see ThrowableUtils#nest(Throwable)
      */
     @Nonnull
     default DoubleSupplier2 nest() {
-        return nest(throwable -> new ThrownByFunctionalInterfaceException(throwable.getMessage(), throwable));
+        return nest(ThrowableUtils::nest);
     }
 
     /**
@@ -412,6 +521,9 @@ public interface ThrowableDoubleSupplier<X extends Throwable> extends Lambda, Do
      * {@code recover} operation if a {@link Throwable} is thrown from this one. The {@code recover} operation is
      * represented by a curried operation which is called with throwable information and same argument of this
      * supplier.
+     * <p>
+     * If the {@code recover} operation should dispatch by the class of the thrown {@code Throwable}, a {@link
+     * RecoveryTable} may be used, which resolves the fallback operation only once per {@code Throwable} class.
      *
      * @param recover The operation to apply if this supplier throws a {@code Throwable}
      * @return A composed {@link DoubleSupplier2} that first applies this supplier to its input, and then applies the
@@ -421,6 +533,7 @@ public interface ThrowableDoubleSupplier<X extends Throwable> extends Lambda, Do
      * {@code null}. If it is, then a {@link NullPointerException} with appropriate message is thrown.
      * @implNote If thrown {@code Throwable} is of type {@link Error}, it is thrown as-is and thus not passed to {@code
      * recover} operation.
+     * @see RecoveryTable
      */
     @Nonnull
     default DoubleSupplier2 recover(@Nonnull final Function<? super Throwable, ? extends DoubleSupplier> recover) {
@@ -439,6 +552,247 @@ public interface ThrowableDoubleSupplier<X extends Throwable> extends Lambda, Do
         };
     }
 
+    /**
+     * Returns a composed {@link Supplier2} that applies this supplier to its input and returns its result as {@link
+     * DoubleResult}. If a {@link Throwable} is thrown from this supplier, it is not thrown by the composed supplier,
+     * but returned as failed {@code DoubleResult} instead. This avoids unwinding the stack in workloads with a high
+     * failure rate, as failed results are composed using their {@code map} and {@code flatMap} methods.
+     *
+     * @return A composed {@code Supplier2} that applies this supplier to its input and returns its result as {@code
+     * DoubleResult}.
+     * @implNote If thrown {@code Throwable} is of type {@link Error}, it is thrown as-is and thus not returned as
+     * failed result.
+     * @see DoubleResult
+     */
+    @Nonnull
+    default Supplier2<DoubleResult> attempt() {
+        return () -> {
+            try {
+                return DoubleResult.success(this.getAsDoubleThrows());
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable throwable) {
+                return DoubleResult.failure(throwable);
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link ThrowableDoubleSupplier} that applies this supplier to its input and retries it
+     * according to the given {@link RetryPolicy}, if a {@link Throwable} is thrown from it. The current thread is
+     * blocked for the delay between two attempts. If the {@code Throwable} is not retried, it is thrown as-is from the
+     * composed supplier, thus the type of {@code Throwable} thrown from this supplier is preserved.
+     *
+     * @param policy The policy which defines if and when this supplier is retried
+     * @return A composed {@code ThrowableDoubleSupplier} that applies this supplier to its input and retries it
+     * according to the given {@code RetryPolicy}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see #retryAsync(RetryPolicy, ScheduledExecutorService)
+     */
+    @Nonnull
+    default ThrowableDoubleSupplier<X> retry(@Nonnull final RetryPolicy policy) {
+        Objects.requireNonNull(policy);
+        return () -> {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    return this.getAsDoubleThrows();
+                } catch (Throwable throwable) {
+                    if (!policy.awaitRetry(throwable, attempt)) {
+                        throw throwable;
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link Supplier2} that applies this supplier asynchronously to its input using the given
+     * scheduler and retries it according to the given {@link RetryPolicy}, if a {@link Throwable} is thrown from it.
+     * The delay between two attempts does not block a thread, as each retry is scheduled on the given scheduler. The
+     * {@link CompletableFuture} returned from the composed supplier is completed exceptionally with the {@code
+     * Throwable} of the last attempt, if this supplier is not retried anymore.
+     *
+     * @param policy The policy which defines if and when this supplier is retried
+     * @param scheduler The scheduler to apply this supplier with
+     * @return A composed {@code Supplier2} that applies this supplier asynchronously to its input and retries it
+     * according to the given {@code RetryPolicy}.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @see #retry(RetryPolicy)
+     */
+    @Nonnull
+    default Supplier2<CompletableFuture<Double>> retryAsync(@Nonnull final RetryPolicy policy,
+            @Nonnull final ScheduledExecutorService scheduler) {
+        Objects.requireNonNull(policy);
+        Objects.requireNonNull(scheduler);
+        return () -> policy.executeAsync(() -> this.getAsDoubleThrows(), scheduler);
+    }
+
+    /**
+     * Returns a composed {@link ThrowableDoubleSupplier} that applies this supplier to its input guarded by a new
+     * {@link CircuitBreaker} created from the given configuration. The circuit breaker is owned by the composed
+     * supplier, so all its calls share the same failure rate.
+     *
+     * @param config The configuration of the circuit breaker guarding this supplier
+     * @return A composed {@code ThrowableDoubleSupplier} that applies this supplier to its input guarded by a new
+     * {@code CircuitBreaker}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see #circuitBroken(CircuitBreaker)
+     */
+    @Nonnull
+    default ThrowableDoubleSupplier<X> circuitBroken(@Nonnull final CircuitBreakerConfig config) {
+        return circuitBroken(CircuitBreaker.of(config));
+    }
+
+    /**
+     * Returns a composed {@link ThrowableDoubleSupplier} that applies this supplier to its input guarded by the given
+     * {@link CircuitBreaker}. If the circuit breaker does not permit the call, this supplier is not applied and a
+     * {@link CallNotPermittedException} is thrown immediately. Otherwise the outcome of this supplier is recorded in
+     * the circuit breaker against the phase in which the call was permitted and any {@link Throwable} thrown from it is
+     * rethrown as-is. To fall back to another result while the circuit breaker is open, {@link #recover(Function)} may
+     * be used on the composed supplier.
+     *
+     * @param circuitBreaker The circuit breaker guarding this supplier
+     * @return A composed {@code ThrowableDoubleSupplier} that applies this supplier to its input guarded by the given
+     * {@code CircuitBreaker}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see #circuitBroken(CircuitBreakerConfig)
+     */
+    @Nonnull
+    default ThrowableDoubleSupplier<X> circuitBroken(@Nonnull final CircuitBreaker circuitBreaker) {
+        Objects.requireNonNull(circuitBreaker);
+        return () -> {
+            final CircuitBreaker.Phase permitted = circuitBreaker.tryAcquirePermission();
+            if (permitted == null) {
+                throw new CallNotPermittedException("CircuitBreaker is " + circuitBreaker.getState());
+            }
+            try {
+                final double returnValue = this.getAsDoubleThrows();
+                circuitBreaker.onSuccess(permitted);
+                return returnValue;
+            } catch (Throwable throwable) {
+                circuitBreaker.onFailure(permitted, throwable);
+                throw throwable;
+            }
+        };
+    }
+
+    /**
+     * Returns a composed {@link ThrowableDoubleSupplier} that applies this supplier to its input on the given executor
+     * and waits at most the given timeout for its result. If the timeout elapses, this supplier is cancelled by
+     * interrupting it and a {@link CallTimeoutException} is thrown. To return a fallback result instead, {@link
+     * #recover(Function)} may be used on the composed supplier.
+     *
+     * @param timeout The maximum time to wait for the result of this supplier
+     * @param executor The executor to apply this supplier with
+     * @return A composed {@code ThrowableDoubleSupplier} that applies this supplier to its input on the given executor
+     * and waits at most the given timeout for its result.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @throws IllegalArgumentException If given timeout is negative
+     * @see #withTimeout(TimeLimiter)
+     */
+    @Nonnull
+    default ThrowableDoubleSupplier<X> withTimeout(@Nonnull final Duration timeout, @Nonnull final Executor executor) {
+        return withTimeout(TimeLimiter.of(timeout, executor));
+    }
+
+    /**
+     * Returns a composed {@link ThrowableDoubleSupplier} that applies this supplier to its input using the given {@link
+     * TimeLimiter}. Any {@link Throwable} thrown from this supplier is rethrown as-is from the composed supplier.
+     *
+     * @param timeLimiter The time limiter which bounds how long this supplier may take
+     * @return A composed {@code ThrowableDoubleSupplier} that applies this supplier to its input using the given {@code
+     * TimeLimiter}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see TimeLimiter#call(ThrowableSupplier)
+     */
+    @Nonnull
+    default ThrowableDoubleSupplier<X> withTimeout(@Nonnull final TimeLimiter timeLimiter) {
+        Objects.requireNonNull(timeLimiter);
+        return () -> timeLimiter.call(() -> this.getAsDoubleThrows());
+    }
+
+    /**
+     * Returns a composed {@link ThrowableDoubleSupplier} that applies this supplier to its input on the given executor
+     * and launches another call with the same input if no call has completed after the given delay, up to the given
+     * maximum number of hedges. The first successful result is returned and all other calls are cancelled. As this
+     * supplier may be applied more than once for each input, it should be idempotent.
+     *
+     * @param delay The delay after which another call is launched, if no call has completed yet
+     * @param maxHedges The maximum number of hedges launched for each call in addition to the first call
+     * @param executor The executor to apply this supplier with
+     * @return A composed {@code ThrowableDoubleSupplier} that applies this supplier to its input on the given executor
+     * and launches hedged calls if no call has completed after the given delay.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @throws IllegalArgumentException If given delay or given number of hedges is negative
+     * @see #hedged(Hedger)
+     */
+    @Nonnull
+    default ThrowableDoubleSupplier<X> hedged(@Nonnull final Duration delay, final int maxHedges,
+            @Nonnull final Executor executor) {
+        return hedged(Hedger.of(delay, maxHedges, executor));
+    }
+
+    /**
+     * Returns a composed {@link ThrowableDoubleSupplier} that applies this supplier to its input using the given {@link
+     * Hedger}. The hedger records the latencies of its winning calls, so a hedger shared by several calls may be used
+     * to pick the hedging delay from an observed latency percentile (f.e. using {@link Hedger#ofPercentile(double,
+     * Duration, int, Executor)}). If all calls fail, the {@link Throwable} of the last failed call is rethrown as-is
+     * from the composed supplier.
+     *
+     * @param hedger The hedger which launches the hedged calls of this supplier
+     * @return A composed {@code ThrowableDoubleSupplier} that applies this supplier to its input using the given {@code
+     * Hedger}.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see Hedger#call(ThrowableSupplier)
+     */
+    @Nonnull
+    default ThrowableDoubleSupplier<X> hedged(@Nonnull final Hedger hedger) {
+        Objects.requireNonNull(hedger);
+        return () -> hedger.call(() -> this.getAsDoubleThrows());
+    }
+
+    /**
+     * Returns a composed {@link ThrowableDoubleSupplier} that applies this supplier to its input, if less than the
+     * given number of calls of the composed supplier are running concurrently. Otherwise the call is rejected
+     * immediately with a {@link CallNotPermittedException}.
+     *
+     * @param maxConcurrent The maximum number of concurrent calls
+     * @return A composed {@code ThrowableDoubleSupplier} that applies this supplier to its input, if less than the
+     * given number of calls are running concurrently.
+     * @throws IllegalArgumentException If given argument is not positive
+     * @see #bulkhead(Bulkhead)
+     */
+    @Nonnull
+    default ThrowableDoubleSupplier<X> bulkhead(final int maxConcurrent) {
+        return bulkhead(Bulkhead.of(maxConcurrent));
+    }
+
+    /**
+     * Returns a composed {@link ThrowableDoubleSupplier} that applies this supplier to its input, if a permit of the
+     * given {@link Bulkhead} is acquired. Depending on the mode of the bulkhead, the call either waits for a permit or
+     * is rejected with a {@link CallNotPermittedException}. A bulkhead may be shared by several functional interfaces
+     * calling the same dependency.
+     *
+     * @param bulkhead The bulkhead which limits the concurrent calls of this supplier
+     * @return A composed {@code ThrowableDoubleSupplier} that applies this supplier to its input, if a permit of the
+     * given {@code Bulkhead} is acquired.
+     * @throws NullPointerException If given argument is {@code null}
+     * @see Bulkhead#of(int, Duration)
+     * @see Bulkhead#adaptive(int, int)
+     */
+    @Nonnull
+    default ThrowableDoubleSupplier<X> bulkhead(@Nonnull final Bulkhead bulkhead) {
+        Objects.requireNonNull(bulkhead);
+        return () -> {
+            final long permit = bulkhead.acquirePermission();
+            try {
+                return this.getAsDoubleThrows();
+            } finally {
+                bulkhead.releasePermission(permit);
+            }
+        };
+    }
+
     /**
      * Returns a composed {@link DoubleSupplier2} that applies this supplier to its input and sneakily throws the
      * thrown {@link Throwable} from it, if it is not of type {@link RuntimeException} or {@link Error}. This means that
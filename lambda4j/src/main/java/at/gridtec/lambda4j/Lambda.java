@@ -37,6 +37,42 @@ public interface Lambda extends Serializable {
         return this instanceof Memoized;
     }
 
+    /**
+     * Checks if this functional interface is marked as {@link Pure}.
+     *
+     * @return {@code true} if this functional interface is pure, {@code false} otherwise.
+     */
+    default boolean isPure() {
+        return this instanceof Pure;
+    }
+
+    /**
+     * Checks if this functional interface is marked as {@link Idempotent}.
+     *
+     * @return {@code true} if this functional interface is idempotent, {@code false} otherwise.
+     */
+    default boolean isIdempotent() {
+        return this instanceof Idempotent;
+    }
+
+    /**
+     * Checks if this functional interface is marked as {@link ThreadSafe}.
+     *
+     * @return {@code true} if this functional interface is thread-safe, {@code false} otherwise.
+     */
+    default boolean isThreadSafe() {
+        return this instanceof ThreadSafe;
+    }
+
+    /**
+     * Checks if this functional interface is marked as {@link Expensive}.
+     *
+     * @return {@code true} if this functional interface is expensive, {@code false} otherwise.
+     */
+    default boolean isExpensive() {
+        return this instanceof Expensive;
+    }
+
     /**
      * Zero Abstract Method (ZAM) interface for marking lambdas as memoized lambdas. This is done by using a cast with
      * this interface as additional bound (intersection type).
@@ -44,4 +80,58 @@ public interface Lambda extends Serializable {
     interface Memoized {
 
     }
+
+    /**
+     * Zero Abstract Method (ZAM) interface for marking lambdas as constant lambdas, which return the same value
+     * regardless of their input and never have side effects (f.e. lambdas created by {@code constant} or {@code
+     * alwaysTrue}). Composition methods use this marker to simplify compositions with constant lambdas.
+     */
+    interface Constant extends Pure {
+
+    }
+
+    /**
+     * Zero Abstract Method (ZAM) interface for marking lambdas as pure lambdas, whose result only depends on their input
+     * and which have no side effects. This is done by using a cast with this interface as additional bound
+     * (intersection type), f.e. {@code (Function2<String, Integer> & Pure) String::length}.
+     * <p>
+     * Composition methods may apply pure lambdas only once when composing them with constant lambdas, so composing a
+     * {@link Constant} lambda with a pure lambda results in a pure lambda, which applies the pure lambda on its first
+     * application and returns the same result from then on. Composing pure lambdas results in another pure lambda.
+     */
+    interface Pure extends Idempotent, ThreadSafe {
+
+    }
+
+    /**
+     * Zero Abstract Method (ZAM) interface for marking lambdas as idempotent lambdas, which have the same effect when
+     * being applied once or multiple times with the same input. This is done by using a cast with this interface as
+     * additional bound (intersection type).
+     */
+    interface Idempotent {
+
+    }
+
+    /**
+     * Zero Abstract Method (ZAM) interface for marking lambdas as thread-safe lambdas, which may be applied by multiple
+     * threads concurrently. This is done by using a cast with this interface as additional bound (intersection type).
+     * <p>
+     * Composing thread-safe lambdas results in another thread-safe lambda. The parallel bulk array operations of a
+     * lambda only apply it concurrently by multiple threads, if it is marked as thread-safe.
+     */
+    interface ThreadSafe {
+
+    }
+
+    /**
+     * Zero Abstract Method (ZAM) interface for marking lambdas as expensive lambdas, whose execution takes
+     * significantly longer than a simple computation (f.e. because of I/O). This is done by using a cast with this
+     * interface as additional bound (intersection type).
+     * <p>
+     * The parallel bulk array operations of an expensive lambda split the arrays into smaller chunks by default, so the
+     * load is balanced between the threads.
+     */
+    interface Expensive {
+
+    }
 }
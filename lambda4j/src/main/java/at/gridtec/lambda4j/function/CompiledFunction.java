@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.function;
+
+import at.gridtec.lambda4j.core.util.ThrowableUtils;
+
+import javax.annotation.Nonnull;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.function.Function;
+
+/**
+ * Represents a {@link Function2} which applies a chain of functions through a single {@link MethodHandle}. The method
+ * handle is composed of one bound {@link Function#apply(Object)} handle per function of the chain, each filtering the
+ * result of its predecessor.
+ * <p>
+ * Unlike the loop of a {@link FusedFunction}, whose call site is shared by all chains and therefore becomes megamorphic
+ * if many distinct chains are applied, the JVM customizes the method handle of a frequently applied chain for this
+ * chain only. The call sites of the customized method handle only see the functions of this chain, so the JIT compiler
+ * is able to inline them.
+ * <p>
+ * If all functions of the chain are marked as {@link Pure} or {@link ThreadSafe}, the chain is marked as such as well.
+ * As method handles are not serializable, a compiled function is replaced by the function it was compiled from when it
+ * gets serialized. The deserialized function is therefore not compiled, but may be compiled again.
+ *
+ * @param <T> The type of argument to the function
+ * @param <R> The type of return value from the function
+ * @see FusedFunction#compile()
+ */
+class CompiledFunction<T, R> implements Function2<T, R> {
+
+    /**
+     * The maximum number of functions of a chain to be compiled, which bounds the nesting depth of the composed method
+     * handle.
+     */
+    static final int MAX_STAGES = 1024;
+
+    /**
+     * The <a href="https://docs.oracle.com/javase/8/docs/api/index.html">serial version uid</a>.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The method handle of {@link Function#apply(Object)}.
+     */
+    private static final MethodHandle APPLY;
+
+    static {
+        try {
+            APPLY = MethodHandles.publicLookup()
+                    .findVirtual(Function.class, "apply", MethodType.methodType(Object.class, Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * The method handle applying the chain of this function.
+     */
+    private final transient MethodHandle handle;
+
+    /**
+     * The function the chain of this function was taken from, which replaces this function when serialized.
+     */
+    private final Function2<T, R> source;
+
+    /**
+     * Creates this function from the given method handle.
+     *
+     * @param handle The method handle applying the chain of this function
+     * @param source The function the chain of this function was taken from
+     */
+    private CompiledFunction(@Nonnull final MethodHandle handle, @Nonnull final Function2<T, R> source) {
+        this.handle = handle;
+        this.source = source;
+    }
+
+    /**
+     * Creates a {@link Function2} which applies the given chain of functions through a single method handle. The
+     * returned function is marked as {@link Pure} or {@link ThreadSafe}, if the given source function of the chain is.
+     *
+     * @param <T> The type of argument to the function
+     * @param <R> The type of return value from the function
+     * @param stages The functions of the chain in order of application, which must not be longer than {@link
+     * #MAX_STAGES}
+     * @param source The function the chain was taken from
+     * @return A {@code Function2} which applies the given chain of functions.
+     */
+    @Nonnull
+    static <T, R> Function2<T, R> of(@Nonnull final Function<Object, Object>[] stages,
+            @Nonnull final Function2<T, R> source) {
+        MethodHandle handle = MethodHandles.identity(Object.class);
+        for (final Function<Object, Object> stage : stages) {
+            handle = MethodHandles.filterReturnValue(handle, APPLY.bindTo(stage));
+        }
+        if (source.isPure()) {
+            return new PureCompiledFunction<>(handle, source);
+        } else if (source.isThreadSafe()) {
+            return new ThreadSafeCompiledFunction<>(handle, source);
+        }
+        return new CompiledFunction<>(handle, source);
+    }
+
+    /**
+     * Returns this function, as it is already compiled.
+     *
+     * @return This function.
+     */
+    @Nonnull
+    @Override
+    public Function2<T, R> compile() {
+        return this;
+    }
+
+    /**
+     * Replaces this function by the function it was compiled from when serialized, as its method handle is not
+     * serializable. This method is not private, so it applies to the subclasses of this function as well.
+     *
+     * @return The function this function was compiled from.
+     */
+    @Nonnull
+    final Object writeReplace() {
+        return source;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public R apply(final T t) {
+        try {
+            return (R) (Object) handle.invokeExact((Object) t);
+        } catch (Throwable e) {
+            throw ThrowableUtils.sneakyThrow(e);
+        }
+    }
+
+    /**
+     * A {@link CompiledFunction} whose functions are all marked as {@link Pure}.
+     *
+     * @param <T> The type of argument to the function
+     * @param <R> The type of return value from the function
+     */
+    private static final class PureCompiledFunction<T, R> extends CompiledFunction<T, R> implements Pure {
+
+        /**
+         * The <a href="https://docs.oracle.com/javase/8/docs/api/index.html">serial version uid</a>.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Creates this function from the given method handle.
+         *
+         * @param handle The method handle applying the chain of this function
+         * @param source The function the chain of this function was taken from
+         */
+        private PureCompiledFunction(@Nonnull final MethodHandle handle, @Nonnull final Function2<T, R> source) {
+            super(handle, source);
+        }
+    }
+
+    /**
+     * A {@link CompiledFunction} whose functions are all marked as {@link ThreadSafe}.
+     *
+     * @param <T> The type of argument to the function
+     * @param <R> The type of return value from the function
+     */
+    private static final class ThreadSafeCompiledFunction<T, R> extends CompiledFunction<T, R> implements ThreadSafe {
+
+        /**
+         * The <a href="https://docs.oracle.com/javase/8/docs/api/index.html">serial version uid</a>.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Creates this function from the given method handle.
+         *
+         * @param handle The method handle applying the chain of this function
+         * @param source The function the chain of this function was taken from
+         */
+        private ThreadSafeCompiledFunction(@Nonnull final MethodHandle handle, @Nonnull final Function2<T, R> source) {
+            super(handle, source);
+        }
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.function;
+
+import javax.annotation.Nonnull;
+import java.util.function.Function;
+
+/**
+ * Represents a {@link Function2} composed of a chain of functions, which are applied in order within a single loop.
+ * Composing a {@code FusedFunction} with another function appends (or prepends) the other function to a copy of its
+ * chain, instead of wrapping it into another lambda. A chain of composed functions therefore keeps a constant call
+ * depth, regardless of its length, which keeps the chain within the inlining limits of the JIT compiler.
+ * <p>
+ * Short chains of up to {@link #MAX_UNROLLED_STAGES} functions are applied through unrolled calls instead of the loop,
+ * so each position of the chain gets its own call site, just like nested lambdas do. This keeps short chains as fast as
+ * nested lambdas, while the loop pays off for longer chains only.
+ * <p>
+ * If all functions of the chain are marked as {@link Pure} or {@link ThreadSafe}, the chain is marked as such as well.
+ *
+ * @param <T> The type of argument to the function
+ * @param <R> The type of return value from the function
+ * @see Function2#andThen(Function)
+ * @see Function2#compose(Function)
+ */
+class FusedFunction<T, R> implements Function2<T, R> {
+
+    /**
+     * The <a href="https://docs.oracle.com/javase/8/docs/api/index.html">serial version uid</a>.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The maximum number of functions of a chain, which are applied through unrolled calls instead of a loop.
+     */
+    static final int MAX_UNROLLED_STAGES = 4;
+
+    /**
+     * The empty chain, which represents the identity function.
+     */
+    private static final FusedFunction<Object, Object> IDENTITY = new PureFusedFunction<>(newStages(0));
+
+    /**
+     * The functions of this chain in order of application.
+     */
+    private final Function<Object, Object>[] stages;
+
+    /**
+     * Creates this function from the given chain of functions.
+     *
+     * @param stages The functions of this chain in order of application
+     */
+    private FusedFunction(@Nonnull final Function<Object, Object>[] stages) {
+        this.stages = stages;
+    }
+
+    /**
+     * Returns a {@link FusedFunction} with an empty chain, which always returns its input argument. As its chain is
+     * empty, composing it with another function results in the other function.
+     *
+     * @param <T> The type of argument to the function and of return from the function
+     * @return A {@code FusedFunction} with an empty chain, which always returns its input argument.
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <T> Function2<T, T> identity() {
+        return (Function2<T, T>) IDENTITY;
+    }
+
+    /**
+     * Creates a {@link Function2} which first applies the given {@code first} function to its input, and then applies
+     * the given {@code second} function to the result. If one of the given functions is a {@code FusedFunction} itself,
+     * its chain is flattened into the chain of the returned function. If the flattened chain consists of a single
+     * {@code Function2} only, this function is returned as is.
+     *
+     * @param <T> The type of argument to the function
+     * @param <R> The type of return value from the function
+     * @param first The function to be applied first
+     * @param second The function to be applied second
+     * @return A {@code Function2} which first applies the given {@code first} function to its input, and then applies
+     * the given {@code second} function to the result.
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    static <T, R> Function2<T, R> of(@Nonnull final Function<?, ?> first, @Nonnull final Function<?, ?> second) {
+        final Function<Object, Object>[] firstStages = stagesOf(first);
+        final Function<Object, Object>[] secondStages = stagesOf(second);
+        final Function<Object, Object>[] stages = newStages(firstStages.length + secondStages.length);
+        System.arraycopy(firstStages, 0, stages, 0, firstStages.length);
+        System.arraycopy(secondStages, 0, stages, firstStages.length, secondStages.length);
+        if (stages.length == 1 && stages[0] instanceof Function2) {
+            return (Function2<T, R>) stages[0];
+        } else if (first instanceof Pure && second instanceof Pure) {
+            return new PureFusedFunction<>(stages);
+        } else if (first instanceof ThreadSafe && second instanceof ThreadSafe) {
+            return new ThreadSafeFusedFunction<>(stages);
+        }
+        return new FusedFunction<>(stages);
+    }
+
+    /**
+     * Returns the chain of the given function, which is a single stage if the given function is not a {@link
+     * FusedFunction}.
+     *
+     * @param function The function to return the chain of
+     * @return The chain of the given function.
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object>[] stagesOf(@Nonnull final Function<?, ?> function) {
+        if (function instanceof FusedFunction) {
+            return ((FusedFunction<?, ?>) function).stages;
+        }
+        final Function<Object, Object>[] stages = newStages(1);
+        stages[0] = (Function<Object, Object>) function;
+        return stages;
+    }
+
+    /**
+     * Creates a new, empty chain of the given length. As generic arrays cannot be created, the array is created from
+     * the raw {@link Function} type.
+     *
+     * @param length The length of the chain
+     * @return A new, empty chain of the given length.
+     */
+    @Nonnull
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Function<Object, Object>[] newStages(final int length) {
+        return new Function[length];
+    }
+
+    /**
+     * Returns the number of functions in this chain.
+     *
+     * @return The number of functions in this chain.
+     */
+    int length() {
+        return stages.length;
+    }
+
+    /**
+     * Returns a compiled version of this function, which applies its chain through a single method handle. If the chain
+     * of this function is empty or too long to be compiled, this function is returned.
+     *
+     * @return A compiled version of this function.
+     * @see CompiledFunction
+     */
+    @Nonnull
+    @Override
+    public Function2<T, R> compile() {
+        if (stages.length == 0 || stages.length > CompiledFunction.MAX_STAGES) {
+            return this;
+        }
+        return CompiledFunction.of(stages, this);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public R apply(final T t) {
+        final Function<Object, Object>[] stages = this.stages;
+        switch (stages.length) {
+            case 0:
+                return (R) t;
+            case 1:
+                return (R) stages[0].apply(t);
+            case 2:
+                return (R) stages[1].apply(stages[0].apply(t));
+            case 3:
+                return (R) stages[2].apply(stages[1].apply(stages[0].apply(t)));
+            case 4:
+                return (R) stages[3].apply(stages[2].apply(stages[1].apply(stages[0].apply(t))));
+            default:
+                Object value = t;
+                for (final Function<Object, Object> stage : stages) {
+                    value = stage.apply(value);
+                }
+                return (R) value;
+        }
+    }
+
+    /**
+     * A {@link FusedFunction} whose functions are all marked as {@link Pure}.
+     *
+     * @param <T> The type of argument to the function
+     * @param <R> The type of return value from the function
+     */
+    private static final class PureFusedFunction<T, R> extends FusedFunction<T, R> implements Pure {
+
+        /**
+         * The <a href="https://docs.oracle.com/javase/8/docs/api/index.html">serial version uid</a>.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Creates this function from the given chain of functions.
+         *
+         * @param stages The functions of this chain in order of application
+         */
+        private PureFusedFunction(@Nonnull final Function<Object, Object>[] stages) {
+            super(stages);
+        }
+    }
+
+    /**
+     * A {@link FusedFunction} whose functions are all marked as {@link ThreadSafe}.
+     *
+     * @param <T> The type of argument to the function
+     * @param <R> The type of return value from the function
+     */
+    private static final class ThreadSafeFusedFunction<T, R> extends FusedFunction<T, R> implements ThreadSafe {
+
+        /**
+         * The <a href="https://docs.oracle.com/javase/8/docs/api/index.html">serial version uid</a>.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Creates this function from the given chain of functions.
+         *
+         * @param stages The functions of this chain in order of application
+         */
+        private ThreadSafeFusedFunction(@Nonnull final Function<Object, Object>[] stages) {
+            super(stages);
+        }
+    }
+}
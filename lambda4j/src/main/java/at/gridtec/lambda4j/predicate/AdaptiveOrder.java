@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.predicate;
+
+import at.gridtec.lambda4j.Lambda;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntPredicate;
+
+/**
+ * Represents the order in which the predicates of an adaptive short-circuiting conjunction (logical AND) or disjunction
+ * (logical OR) are evaluated. The order adapts itself to the observed pass rate and execution time of each predicate,
+ * so that cheap predicates which are likely to short-circuit the evaluation are evaluated first.
+ * <p>
+ * About one in {@value #SAMPLE_RATE} evaluations is sampled. A sampled evaluation evaluates all predicates without
+ * short-circuiting and records their results and execution times. After every {@value #REORDER_INTERVAL} samples, the
+ * predicates are ordered by their expected cost to short-circuit the evaluation and the recorded statistics are halved,
+ * so the order keeps adapting to changing inputs. The order and the recorded statistics are held by a single immutable
+ * snapshot, which is replaced using a compare-and-set. So concurrent samples never lose each others statistics and
+ * evaluations are never blocked.
+ * <p>
+ * As reordering changes the order in which predicates are evaluated, the predicates are only reordered if all of them
+ * are marked as {@link Lambda.Pure}. Otherwise the predicates are always evaluated in their given order and no
+ * evaluation is sampled.
+ */
+public final class AdaptiveOrder {
+
+    /**
+     * The rate of evaluations to be sampled, which must be a power of two.
+     */
+    public static final int SAMPLE_RATE = 64;
+
+    /**
+     * The number of samples after which the predicates are reordered.
+     */
+    public static final int REORDER_INTERVAL = 256;
+
+    /**
+     * Flag indicating if this order belongs to a conjunction or to a disjunction.
+     */
+    private final boolean conjunction;
+
+    /**
+     * Flag indicating if this order adapts itself.
+     */
+    private final boolean adaptive;
+
+    /**
+     * The current snapshot of the order and the recorded statistics.
+     */
+    private final AtomicReference<Snapshot> snapshot;
+
+    /**
+     * Creates this order for the given predicates.
+     *
+     * @param predicates The predicates to be ordered
+     * @param conjunction {@code true} if the predicates are combined using a logical AND, {@code false} if they are
+     * combined using a logical OR
+     */
+    private AdaptiveOrder(@Nonnull final Object[] predicates, final boolean conjunction) {
+        this.conjunction = conjunction;
+        this.adaptive = predicates.length > 1 && Arrays.stream(predicates)
+                .allMatch(p -> p instanceof Lambda.Pure);
+        final int[] order = new int[predicates.length];
+        Arrays.setAll(order, i -> i);
+        final long[] empty = new long[predicates.length];
+        this.snapshot = new AtomicReference<>(new Snapshot(order, empty, empty, empty, 0));
+    }
+
+    /**
+     * Creates an {@link AdaptiveOrder} for the given predicates, which are combined using a short-circuiting logical
+     * AND.
+     *
+     * @param predicates The predicates to be ordered
+     * @return An {@code AdaptiveOrder} for the given predicates.
+     * @throws NullPointerException If given argument or one of its elements is {@code null}
+     */
+    @Nonnull
+    public static AdaptiveOrder conjunction(@Nonnull final Object... predicates) {
+        Arrays.stream(predicates).forEach(Objects::requireNonNull);
+        return new AdaptiveOrder(predicates, true);
+    }
+
+    /**
+     * Creates an {@link AdaptiveOrder} for the given predicates, which are combined using a short-circuiting logical
+     * OR.
+     *
+     * @param predicates The predicates to be ordered
+     * @return An {@code AdaptiveOrder} for the given predicates.
+     * @throws NullPointerException If given argument or one of its elements is {@code null}
+     */
+    @Nonnull
+    public static AdaptiveOrder disjunction(@Nonnull final Object... predicates) {
+        Arrays.stream(predicates).forEach(Objects::requireNonNull);
+        return new AdaptiveOrder(predicates, false);
+    }
+
+    /**
+     * Returns the indices of the predicates in the order in which they should be evaluated. The returned array must not
+     * be modified.
+     *
+     * @return The indices of the predicates in the order in which they should be evaluated.
+     */
+    @Nonnull
+    public int[] get() {
+        return snapshot.get().order;
+    }
+
+    /**
+     * Checks if the next evaluation should be sampled using {@link #sample(IntPredicate)}.
+     *
+     * @return {@code true} if the next evaluation should be sampled, {@code false} otherwise.
+     */
+    public boolean shouldSample() {
+        return adaptive && (ThreadLocalRandom.current().nextInt() & (SAMPLE_RATE - 1)) == 0;
+    }
+
+    /**
+     * Evaluates all predicates without short-circuiting and records their results and execution times. The predicate at
+     * a given index is evaluated by the given {@code evaluator}.
+     *
+     * @param evaluator The evaluator which evaluates the predicate at a given index
+     * @return The result of the conjunction or disjunction of all predicates.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    public boolean sample(@Nonnull final IntPredicate evaluator) {
+        final int length = snapshot.get().order.length;
+        final boolean[] passed = new boolean[length];
+        final long[] nanos = new long[length];
+        boolean result = conjunction;
+        for (int index = 0; index < length; index++) {
+            final long start = System.nanoTime();
+            passed[index] = evaluator.test(index);
+            nanos[index] = System.nanoTime() - start;
+            result = conjunction ? result && passed[index] : result || passed[index];
+        }
+        Snapshot current;
+        do {
+            current = snapshot.get();
+        } while (!snapshot.compareAndSet(current, current.record(passed, nanos)));
+        return result;
+    }
+
+    /**
+     * An immutable snapshot of the order of the predicates and of the statistics recorded since the last reordering.
+     */
+    private final class Snapshot {
+
+        /**
+         * The order in which the predicates are evaluated.
+         */
+        private final int[] order;
+
+        /**
+         * The number of sampled evaluations of each predicate.
+         */
+        private final long[] evaluations;
+
+        /**
+         * The number of sampled evaluations of each predicate, which returned {@code true}.
+         */
+        private final long[] passes;
+
+        /**
+         * The sampled execution time of each predicate in nanoseconds.
+         */
+        private final long[] nanos;
+
+        /**
+         * The number of samples since the last reordering.
+         */
+        private final int samples;
+
+        /**
+         * Creates this snapshot from the given arguments.
+         *
+         * @param order The order in which the predicates are evaluated
+         * @param evaluations The number of sampled evaluations of each predicate
+         * @param passes The number of sampled evaluations of each predicate, which returned {@code true}
+         * @param nanos The sampled execution time of each predicate in nanoseconds
+         * @param samples The number of samples since the last reordering
+         */
+        private Snapshot(@Nonnull final int[] order, @Nonnull final long[] evaluations, @Nonnull final long[] passes,
+                @Nonnull final long[] nanos, final int samples) {
+            this.order = order;
+            this.evaluations = evaluations;
+            this.passes = passes;
+            this.nanos = nanos;
+            this.samples = samples;
+        }
+
+        /**
+         * Returns a new snapshot, which additionally records the given sample. If the new snapshot completes a
+         * {@link #REORDER_INTERVAL reorder interval}, the predicates are ordered by their expected cost to
+         * short-circuit the evaluation, which is their average execution time divided by the probability to
+         * short-circuit the evaluation, and the recorded statistics are halved.
+         *
+         * @param passed The result of each predicate
+         * @param elapsed The execution time of each predicate in nanoseconds
+         * @return A new snapshot, which additionally records the given sample.
+         */
+        @Nonnull
+        private Snapshot record(@Nonnull final boolean[] passed, @Nonnull final long[] elapsed) {
+            final int length = order.length;
+            final long[] evaluations = new long[length];
+            final long[] passes = new long[length];
+            final long[] nanos = new long[length];
+            for (int index = 0; index < length; index++) {
+                evaluations[index] = this.evaluations[index] + 1;
+                passes[index] = this.passes[index] + (passed[index] ? 1 : 0);
+                nanos[index] = this.nanos[index] + elapsed[index];
+            }
+            if (samples + 1 < REORDER_INTERVAL) {
+                return new Snapshot(order, evaluations, passes, nanos, samples + 1);
+            }
+            final double[] ranks = new double[length];
+            for (int index = 0; index < length; index++) {
+                final double cost = Math.max((double) nanos[index] / evaluations[index], 1d);
+                final double passRate = (passes[index] + 1d) / (evaluations[index] + 2d);
+                ranks[index] = cost / (conjunction ? 1d - passRate : passRate);
+                evaluations[index] -= evaluations[index] / 2;
+                passes[index] -= passes[index] / 2;
+                nanos[index] -= nanos[index] / 2;
+            }
+            final int[] order = Arrays.stream(this.order)
+                    .boxed()
+                    .sorted(Comparator.comparingDouble(index -> ranks[index]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            return new Snapshot(order, evaluations, passes, nanos, 0);
+        }
+    }
+}
@@ -0,0 +1,333 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.resilience;
+
+import at.gridtec.lambda4j.core.exception.ThrownByFunctionalInterfaceException;
+import at.gridtec.lambda4j.core.util.ThrowableUtils;
+
+import javax.annotation.Nonnull;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Represents a bulkhead, which limits the number of concurrent calls of functional interfaces, so a single slow
+ * dependency cannot occupy every worker thread. A bulkhead works in one of the following modes:
+ * <ul>
+ * <li>fail-fast (created by {@link #of(int)}): A call exceeding the limit is rejected immediately.</li>
+ * <li>bounded wait (created by {@link #of(int, Duration)}): A call exceeding the limit waits up to the given duration
+ * for a permit to be released before it is rejected.</li>
+ * <li>adaptive (created by {@link #adaptive(int, int)}): The limit is adjusted using additive increase and
+ * multiplicative decrease (AIMD) driven by the observed latency. While the latency stays close to the lowest observed
+ * latency and the bulkhead is well utilized, the limit is increased by one. Once the latency exceeds twice the lowest
+ * observed latency, which indicates queueing in the dependency, the limit is decreased by 10%. Calls exceeding the
+ * limit are rejected immediately.</li>
+ * </ul>
+ * Rejected calls fail with a {@link CallNotPermittedException}. Acquiring a permit is a single compare-and-set if the
+ * bulkhead is not contended, and releasing a permit only takes a lock if there are waiting calls.
+ */
+public final class Bulkhead {
+
+    /**
+     * The factor by which the latency has to exceed the lowest observed latency to decrease the adaptive limit.
+     */
+    private static final double LATENCY_TOLERANCE = 2.0;
+
+    /**
+     * The factor by which the adaptive limit is decreased.
+     */
+    private static final double DECREASE_FACTOR = 0.9;
+
+    /**
+     * The divisor by which the lowest observed latency drifts towards new latencies, so that the adaptive limit follows
+     * lasting changes of the latency of the dependency.
+     */
+    private static final int BASELINE_DRIFT = 1024;
+
+    /**
+     * The number of calls currently holding a permit of this bulkhead.
+     */
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * The current limit of concurrent calls of this bulkhead.
+     */
+    private final AtomicInteger limit;
+
+    /**
+     * The lowest limit of an adaptive bulkhead.
+     */
+    private final int minLimit;
+
+    /**
+     * The highest limit of an adaptive bulkhead.
+     */
+    private final int maxLimit;
+
+    /**
+     * The maximum time in nanoseconds to wait for a permit.
+     */
+    private final long maxWaitNanos;
+
+    /**
+     * The flag indicating if this bulkhead adjusts its limit.
+     */
+    private final boolean adaptive;
+
+    /**
+     * The number of calls waiting for a permit.
+     */
+    private final AtomicInteger waiters = new AtomicInteger();
+
+    /**
+     * The lock guarding the condition calls wait on for a permit.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * The condition signalled when a permit is released while calls are waiting.
+     */
+    private final Condition released = lock.newCondition();
+
+    /**
+     * The lowest observed latency in nanoseconds of an adaptive bulkhead, slowly drifting towards new latencies.
+     */
+    private volatile long baselineNanos = Long.MAX_VALUE;
+
+    /**
+     * Creates this bulkhead from the given arguments.
+     *
+     * @param initialLimit The initial limit of concurrent calls
+     * @param minLimit The lowest limit of an adaptive bulkhead
+     * @param maxLimit The highest limit of an adaptive bulkhead
+     * @param maxWaitNanos The maximum time in nanoseconds to wait for a permit
+     * @param adaptive The flag indicating if this bulkhead adjusts its limit
+     */
+    private Bulkhead(final int initialLimit, final int minLimit, final int maxLimit, final long maxWaitNanos,
+            final boolean adaptive) {
+        this.limit = new AtomicInteger(initialLimit);
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.maxWaitNanos = maxWaitNanos;
+        this.adaptive = adaptive;
+    }
+
+    /**
+     * Creates a new {@link Bulkhead}, which permits the given number of concurrent calls and rejects all other calls
+     * immediately.
+     *
+     * @param maxConcurrent The maximum number of concurrent calls
+     * @return A new fail-fast {@code Bulkhead} from the given argument.
+     * @throws IllegalArgumentException If given argument is not positive
+     */
+    @Nonnull
+    public static Bulkhead of(final int maxConcurrent) {
+        checkLimit(maxConcurrent);
+        return new Bulkhead(maxConcurrent, maxConcurrent, maxConcurrent, 0, false);
+    }
+
+    /**
+     * Creates a new {@link Bulkhead}, which permits the given number of concurrent calls and lets all other calls wait
+     * up to the given duration for a permit.
+     *
+     * @param maxConcurrent The maximum number of concurrent calls
+     * @param maxWait The maximum time to wait for a permit
+     * @return A new bounded wait {@code Bulkhead} from the given arguments.
+     * @throws NullPointerException If given duration is {@code null}
+     * @throws IllegalArgumentException If given number of calls is not positive or given duration is negative
+     */
+    @Nonnull
+    public static Bulkhead of(final int maxConcurrent, @Nonnull final Duration maxWait) {
+        checkLimit(maxConcurrent);
+        Objects.requireNonNull(maxWait);
+        if (maxWait.isNegative()) {
+            throw new IllegalArgumentException("maxWait must not be negative: " + maxWait);
+        }
+        long maxWaitNanos;
+        try {
+            maxWaitNanos = maxWait.toNanos();
+        } catch (ArithmeticException e) {
+            maxWaitNanos = Long.MAX_VALUE;
+        }
+        return new Bulkhead(maxConcurrent, maxConcurrent, maxConcurrent, maxWaitNanos, false);
+    }
+
+    /**
+     * Creates a new {@link Bulkhead}, which adjusts its limit of concurrent calls between the given bounds driven by
+     * the observed latency of its calls. The limit starts at the given lowest limit. Calls exceeding the limit are
+     * rejected immediately.
+     *
+     * @param minLimit The lowest limit of concurrent calls
+     * @param maxLimit The highest limit of concurrent calls
+     * @return A new adaptive {@code Bulkhead} from the given arguments.
+     * @throws IllegalArgumentException If one of the given arguments is not positive or given lowest limit is greater
+     * than given highest limit
+     */
+    @Nonnull
+    public static Bulkhead adaptive(final int minLimit, final int maxLimit) {
+        checkLimit(minLimit);
+        checkLimit(maxLimit);
+        if (minLimit > maxLimit) {
+            throw new IllegalArgumentException("minLimit must not be greater than maxLimit: " + minLimit + " > "
+                    + maxLimit);
+        }
+        return new Bulkhead(minLimit, minLimit, maxLimit, 0, true);
+    }
+
+    /**
+     * Returns the current limit of concurrent calls of this bulkhead.
+     *
+     * @return The current limit of concurrent calls of this bulkhead.
+     */
+    public int getLimit() {
+        return limit.get();
+    }
+
+    /**
+     * Returns the number of calls currently holding a permit of this bulkhead.
+     *
+     * @return The number of calls currently holding a permit of this bulkhead.
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Tries to acquire a permit of this bulkhead without waiting.
+     *
+     * @return {@code true} if a permit was acquired, {@code false} otherwise.
+     */
+    public boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit.get()) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * Acquires a permit of this bulkhead, waiting for it if this bulkhead is in bounded wait mode. The returned value
+     * must be passed to {@link #releasePermission(long)} once the call completed.
+     *
+     * @return The start time of the call, which is only measured if this bulkhead is adaptive.
+     * @throws CallNotPermittedException If no permit could be acquired
+     * @throws ThrownByFunctionalInterfaceException If the calling thread is interrupted while waiting for a permit,
+     * which keeps the interrupt flag of the calling thread set
+     */
+    public long acquirePermission() {
+        if (!tryAcquire() && !awaitPermit()) {
+            throw new CallNotPermittedException("Bulkhead is full, limit: " + limit.get());
+        }
+        return adaptive ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Releases a permit of this bulkhead, which was acquired using {@link #acquirePermission()}. If this bulkhead is
+     * adaptive, the latency of the call is used to adjust its limit.
+     *
+     * @param start The value returned from {@code acquirePermission()}
+     */
+    public void releasePermission(final long start) {
+        final int current = inFlight.getAndDecrement();
+        if (adaptive) {
+            adjustLimit(System.nanoTime() - start, current);
+        }
+        if (waiters.get() > 0) {
+            lock.lock();
+            try {
+                released.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Waits up to the maximum wait time of this bulkhead for a permit.
+     *
+     * @return {@code true} if a permit was acquired, {@code false} otherwise.
+     */
+    private boolean awaitPermit() {
+        long nanos = maxWaitNanos;
+        if (nanos <= 0) {
+            return false;
+        }
+        lock.lock();
+        waiters.incrementAndGet();
+        try {
+            while (!tryAcquire()) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = released.awaitNanos(nanos);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw ThrowableUtils.nest(e);
+        } finally {
+            waiters.decrementAndGet();
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adjusts the limit of this adaptive bulkhead from the given latency of a call.
+     *
+     * @param latencyNanos The latency of the call in nanoseconds
+     * @param inFlightBefore The number of calls holding a permit before the call released its permit
+     */
+    private void adjustLimit(final long latencyNanos, final int inFlightBefore) {
+        final long baseline = baselineNanos;
+        if (latencyNanos < baseline) {
+            baselineNanos = latencyNanos;
+        } else {
+            baselineNanos = baseline + (latencyNanos - baseline) / BASELINE_DRIFT;
+        }
+        final int current = limit.get();
+        if (latencyNanos > baseline * LATENCY_TOLERANCE) {
+            final int decreased = Math.max(minLimit, (int) (current * DECREASE_FACTOR));
+            if (decreased < current) {
+                limit.compareAndSet(current, decreased);
+            }
+        } else if (inFlightBefore * 2 >= current && current < maxLimit) {
+            limit.compareAndSet(current, current + 1);
+        }
+    }
+
+    /**
+     * Checks the given limit of concurrent calls.
+     *
+     * @param limit The limit to be checked
+     * @throws IllegalArgumentException If given argument is not positive
+     */
+    private static void checkLimit(final int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be positive: " + limit);
+        }
+    }
+
+    @Override
+    @Nonnull
+    public String toString() {
+        return "Bulkhead[limit=" + getLimit() + ", inFlight=" + getInFlight() + "]";
+    }
+}
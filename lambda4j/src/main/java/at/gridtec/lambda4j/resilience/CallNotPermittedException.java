@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.resilience;
+
+/**
+ * Represents an exception which is thrown if a call of a functional interface is not permitted, because it was rejected
+ * without being made (f.e. by an open {@link CircuitBreaker}). As this exception is thrown to fail fast, it does not
+ * fill in its stack trace.
+ */
+public class CallNotPermittedException extends RuntimeException {
+
+    /**
+     * The <a href="https://docs.oracle.com/javase/8/docs/api/index.html">serial version uid</a>.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates this exception from given message {@link String}.
+     *
+     * @param message The message for this throwable.
+     */
+    public CallNotPermittedException(final String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.resilience;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Represents a circuit breaker, which stops calls to a failing dependency for some time, so callers fail fast instead
+ * of waiting for the dependency to time out. The circuit breaker is a state machine with the following states:
+ * <ul>
+ * <li>{@link State#CLOSED}: All calls are permitted. Their outcomes are recorded in a sliding window, and if the
+ * failure rate in the window reaches the threshold, the circuit breaker opens.</li>
+ * <li>{@link State#OPEN}: No calls are permitted. Once the configured wait duration elapsed, the circuit breaker
+ * becomes half-open.</li>
+ * <li>{@link State#HALF_OPEN}: A limited number of probing calls is permitted. If all of them succeed, the circuit
+ * breaker closes, if one of them fails, it opens again.</li>
+ * </ul>
+ * All state is kept in atomic variables, so a circuit breaker never blocks and may be shared across threads and
+ * functional interfaces.
+ *
+ * @see CircuitBreakerConfig
+ */
+public final class CircuitBreaker {
+
+    /**
+     * Represents the states of a {@link CircuitBreaker}.
+     */
+    public enum State {
+
+        /**
+         * All calls are permitted.
+         */
+        CLOSED,
+
+        /**
+         * No calls are permitted.
+         */
+        OPEN,
+
+        /**
+         * A limited number of probing calls is permitted.
+         */
+        HALF_OPEN
+    }
+
+    /**
+     * The configuration of this circuit breaker.
+     */
+    private final CircuitBreakerConfig config;
+
+    /**
+     * The sliding window recording the outcomes of calls while this circuit breaker is closed.
+     */
+    private final SlidingWindow window;
+
+    /**
+     * The current phase of this circuit breaker.
+     */
+    private final AtomicReference<Phase> phase;
+
+    /**
+     * Creates this circuit breaker from the given configuration.
+     *
+     * @param config The configuration of this circuit breaker
+     */
+    private CircuitBreaker(@Nonnull final CircuitBreakerConfig config) {
+        this.config = config;
+        this.window = new SlidingWindow(config.getSlidingWindowSize());
+        this.phase = new AtomicReference<>(new Phase(State.CLOSED, 0));
+    }
+
+    /**
+     * Creates a new {@link CircuitBreaker} from the given configuration.
+     *
+     * @param config The configuration of the circuit breaker
+     * @return A new {@code CircuitBreaker} from the given configuration.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    public static CircuitBreaker of(@Nonnull final CircuitBreakerConfig config) {
+        Objects.requireNonNull(config);
+        return new CircuitBreaker(config);
+    }
+
+    /**
+     * Creates a new {@link CircuitBreaker} with default configuration.
+     *
+     * @return A new {@code CircuitBreaker} with default configuration.
+     * @see CircuitBreakerConfig#ofDefaults()
+     */
+    @Nonnull
+    public static CircuitBreaker ofDefaults() {
+        return new CircuitBreaker(CircuitBreakerConfig.ofDefaults());
+    }
+
+    /**
+     * Returns the configuration of this circuit breaker.
+     *
+     * @return The configuration of this circuit breaker.
+     */
+    @Nonnull
+    public CircuitBreakerConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Returns the current state of this circuit breaker.
+     *
+     * @return The current state of this circuit breaker.
+     */
+    @Nonnull
+    public State getState() {
+        return phase.get().state;
+    }
+
+    /**
+     * Returns the failure rate recorded while this circuit breaker is closed.
+     *
+     * @return The failure rate recorded while this circuit breaker is closed between {@code 0} and {@code 1}.
+     */
+    public double getFailureRate() {
+        return window.getFailureRate();
+    }
+
+    /**
+     * Tries to acquire the permission to execute a call. If the permission is acquired, the returned {@link Phase} must
+     * be passed to either {@link #onSuccess(Phase)} or {@link #onFailure(Phase, Throwable)} once the call completed.
+     * The outcome of the call is therefore recorded against the phase in which the call was permitted, and is ignored
+     * if this circuit breaker moved to another phase in the meantime.
+     *
+     * @return The phase in which the call is permitted, or {@code null} if the call is not permitted.
+     */
+    @Nullable
+    public Phase tryAcquirePermission() {
+        while (true) {
+            final Phase current = phase.get();
+            switch (current.state) {
+                case CLOSED:
+                    return current;
+                case OPEN:
+                    if (System.nanoTime() - current.openedAt < config.getWaitDurationInOpenState().toNanos()) {
+                        return null;
+                    }
+                    if (phase.compareAndSet(current, new Phase(State.HALF_OPEN, 0))) {
+                        window.reset();
+                    }
+                    break;
+                default:
+                    return current.acquireProbe(config.getPermittedCallsInHalfOpenState()) ? current : null;
+            }
+        }
+    }
+
+    /**
+     * Records a successful call, which was permitted by this circuit breaker in the given {@link Phase}. If this circuit
+     * breaker is no longer in the given phase, the outcome is ignored.
+     *
+     * @param permitted The phase returned from {@link #tryAcquirePermission()}
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    public void onSuccess(@Nonnull final Phase permitted) {
+        Objects.requireNonNull(permitted);
+        if (phase.get() != permitted) {
+            return;
+        }
+        if (permitted.state == State.CLOSED) {
+            window.record(false);
+        } else if (permitted.state == State.HALF_OPEN) {
+            if (permitted.successes.incrementAndGet() >= config.getPermittedCallsInHalfOpenState()) {
+                if (phase.compareAndSet(permitted, new Phase(State.CLOSED, 0))) {
+                    window.reset();
+                }
+            }
+        }
+    }
+
+    /**
+     * Records a failed call, which was permitted by this circuit breaker in the given {@link Phase}. If this circuit
+     * breaker is no longer in the given phase, the outcome is ignored. If the given {@link Throwable} is not recorded as
+     * failure by the configuration of this circuit breaker, the permission of the call is released without recording
+     * its outcome.
+     *
+     * @param permitted The phase returned from {@link #tryAcquirePermission()}
+     * @param throwable The throwable thrown from the call
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @see CircuitBreakerConfig#isRecorded(Throwable)
+     * @see #releasePermission(Phase)
+     */
+    public void onFailure(@Nonnull final Phase permitted, @Nonnull final Throwable throwable) {
+        Objects.requireNonNull(permitted);
+        Objects.requireNonNull(throwable);
+        if (!config.isRecorded(throwable)) {
+            releasePermission(permitted);
+            return;
+        }
+        if (phase.get() != permitted) {
+            return;
+        }
+        if (permitted.state == State.CLOSED) {
+            window.record(true);
+            if (window.getRecorded() >= config.getMinimumNumberOfCalls()
+                    && window.getFailureRate() >= config.getFailureRateThreshold()) {
+                phase.compareAndSet(permitted, new Phase(State.OPEN, System.nanoTime()));
+            }
+        } else if (permitted.state == State.HALF_OPEN) {
+            phase.compareAndSet(permitted, new Phase(State.OPEN, System.nanoTime()));
+        }
+    }
+
+    /**
+     * Releases the permission of a call, which was permitted by this circuit breaker in the given {@link Phase},
+     * without recording its outcome. If the call was a probing call, another probing call is permitted in its place.
+     *
+     * @param permitted The phase returned from {@link #tryAcquirePermission()}
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    public void releasePermission(@Nonnull final Phase permitted) {
+        Objects.requireNonNull(permitted);
+        if (permitted.state == State.HALF_OPEN) {
+            permitted.probes.decrementAndGet();
+        }
+    }
+
+    /**
+     * Resets this circuit breaker to its closed state and removes all recorded outcomes.
+     */
+    public void reset() {
+        phase.set(new Phase(State.CLOSED, 0));
+        window.reset();
+    }
+
+    @Override
+    @Nonnull
+    public String toString() {
+        return "CircuitBreaker[" + getState() + ", failureRate=" + getFailureRate() + "]";
+    }
+
+    /**
+     * Represents a single phase of a {@link CircuitBreaker}, which is replaced as a whole on each transition. Counters
+     * of a phase are therefore never shared with a later phase, even if a transition races with a recorded outcome. A
+     * phase is handed out by {@link #tryAcquirePermission()} as token of a permitted call, so the outcome of a slow
+     * call is not mistaken for an outcome of a later phase.
+     */
+    public static final class Phase {
+
+        /**
+         * The state of this phase.
+         */
+        private final State state;
+
+        /**
+         * The time in nanoseconds at which this phase was opened.
+         */
+        private final long openedAt;
+
+        /**
+         * The number of probing calls permitted in this phase.
+         */
+        private final AtomicInteger probes = new AtomicInteger();
+
+        /**
+         * The number of successful probing calls in this phase.
+         */
+        private final AtomicInteger successes = new AtomicInteger();
+
+        /**
+         * Creates this phase from the given arguments.
+         *
+         * @param state The state of this phase
+         * @param openedAt The time in nanoseconds at which this phase was opened
+         */
+        private Phase(@Nonnull final State state, final long openedAt) {
+            this.state = state;
+            this.openedAt = openedAt;
+        }
+
+        /**
+         * Tries to acquire a probing call in this phase.
+         *
+         * @param limit The maximum number of probing calls permitted in this phase
+         * @return {@code true} if a probing call was acquired, {@code false} otherwise.
+         */
+        private boolean acquireProbe(final int limit) {
+            int current;
+            do {
+                current = probes.get();
+                if (current >= limit) {
+                    return false;
+                }
+            } while (!probes.compareAndSet(current, current + 1));
+            return true;
+        }
+    }
+}
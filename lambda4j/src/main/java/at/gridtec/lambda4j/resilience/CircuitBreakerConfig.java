@@ -0,0 +1,319 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.resilience;
+
+import javax.annotation.Nonnull;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents the configuration of a {@link CircuitBreaker}. Configurations are immutable and may be shared across
+ * circuit breakers.
+ *
+ * @see CircuitBreaker
+ */
+public final class CircuitBreakerConfig {
+
+    /**
+     * The failure rate at which the circuit breaker opens.
+     */
+    private final double failureRateThreshold;
+
+    /**
+     * The number of calls kept in the sliding window.
+     */
+    private final int slidingWindowSize;
+
+    /**
+     * The minimum number of calls recorded before the failure rate is evaluated.
+     */
+    private final int minimumNumberOfCalls;
+
+    /**
+     * The duration the circuit breaker stays open before probing.
+     */
+    private final Duration waitDurationInOpenState;
+
+    /**
+     * The number of probing calls permitted while the circuit breaker is half-open.
+     */
+    private final int permittedCallsInHalfOpenState;
+
+    /**
+     * The {@link Throwable} classes which are recorded as failure.
+     */
+    private final List<Class<? extends Throwable>> recordOn;
+
+    /**
+     * Creates this configuration from the given builder.
+     *
+     * @param builder The builder to create this configuration from
+     */
+    private CircuitBreakerConfig(@Nonnull final Builder builder) {
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.slidingWindowSize = builder.slidingWindowSize;
+        this.minimumNumberOfCalls = Math.min(builder.minimumNumberOfCalls, builder.slidingWindowSize);
+        this.waitDurationInOpenState = builder.waitDurationInOpenState;
+        this.permittedCallsInHalfOpenState = builder.permittedCallsInHalfOpenState;
+        this.recordOn = builder.recordOn;
+    }
+
+    /**
+     * Creates a new {@link Builder} for a {@link CircuitBreakerConfig}. By default the circuit breaker opens at a
+     * failure rate of {@code 0.5} within the last 100 calls, evaluated after at least 10 calls, stays open for 30
+     * seconds, permits 3 probing calls while half-open and records all {@link Exception}s as failure.
+     *
+     * @return A new {@code Builder} for a {@code CircuitBreakerConfig}.
+     */
+    @Nonnull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a {@link CircuitBreakerConfig} with default values.
+     *
+     * @return A {@code CircuitBreakerConfig} with default values.
+     * @see #builder()
+     */
+    @Nonnull
+    public static CircuitBreakerConfig ofDefaults() {
+        return builder().build();
+    }
+
+    /**
+     * Returns the failure rate at which the circuit breaker opens.
+     *
+     * @return The failure rate at which the circuit breaker opens.
+     */
+    public double getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    /**
+     * Returns the number of calls kept in the sliding window.
+     *
+     * @return The number of calls kept in the sliding window.
+     */
+    public int getSlidingWindowSize() {
+        return slidingWindowSize;
+    }
+
+    /**
+     * Returns the minimum number of calls recorded before the failure rate is evaluated.
+     *
+     * @return The minimum number of calls recorded before the failure rate is evaluated.
+     */
+    public int getMinimumNumberOfCalls() {
+        return minimumNumberOfCalls;
+    }
+
+    /**
+     * Returns the duration the circuit breaker stays open before probing.
+     *
+     * @return The duration the circuit breaker stays open before probing.
+     */
+    @Nonnull
+    public Duration getWaitDurationInOpenState() {
+        return waitDurationInOpenState;
+    }
+
+    /**
+     * Returns the number of probing calls permitted while the circuit breaker is half-open.
+     *
+     * @return The number of probing calls permitted while the circuit breaker is half-open.
+     */
+    public int getPermittedCallsInHalfOpenState() {
+        return permittedCallsInHalfOpenState;
+    }
+
+    /**
+     * Checks if the given {@link Throwable} is recorded as failure.
+     *
+     * @param throwable The throwable to be checked
+     * @return {@code true} if the given throwable is recorded as failure, {@code false} otherwise.
+     */
+    public boolean isRecorded(@Nonnull final Throwable throwable) {
+        for (final Class<? extends Throwable> type : recordOn) {
+            if (type.isInstance(throwable)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Represents a builder for a {@link CircuitBreakerConfig}.
+     */
+    public static final class Builder {
+
+        /**
+         * The failure rate at which the circuit breaker opens.
+         */
+        private double failureRateThreshold = 0.5;
+
+        /**
+         * The number of calls kept in the sliding window.
+         */
+        private int slidingWindowSize = 100;
+
+        /**
+         * The minimum number of calls recorded before the failure rate is evaluated.
+         */
+        private int minimumNumberOfCalls = 10;
+
+        /**
+         * The duration the circuit breaker stays open before probing.
+         */
+        private Duration waitDurationInOpenState = Duration.ofSeconds(30);
+
+        /**
+         * The number of probing calls permitted while the circuit breaker is half-open.
+         */
+        private int permittedCallsInHalfOpenState = 3;
+
+        /**
+         * The {@link Throwable} classes which are recorded as failure.
+         */
+        private List<Class<? extends Throwable>> recordOn = Collections.singletonList(Exception.class);
+
+        /**
+         * Private constructor to prevent instantiation from outside.
+         */
+        private Builder() {
+
+        }
+
+        /**
+         * Sets the failure rate at which the circuit breaker opens.
+         *
+         * @param failureRateThreshold The failure rate between {@code 0} (exclusive) and {@code 1} (inclusive)
+         * @return This builder.
+         * @throws IllegalArgumentException If given argument is not between {@code 0} and {@code 1}
+         */
+        @Nonnull
+        public Builder failureRateThreshold(final double failureRateThreshold) {
+            if (!(failureRateThreshold > 0.0 && failureRateThreshold <= 1.0)) {
+                throw new IllegalArgumentException("failureRateThreshold must be between 0 and 1: "
+                        + failureRateThreshold);
+            }
+            this.failureRateThreshold = failureRateThreshold;
+            return this;
+        }
+
+        /**
+         * Sets the number of calls kept in the sliding window.
+         *
+         * @param slidingWindowSize The number of calls kept in the sliding window
+         * @return This builder.
+         * @throws IllegalArgumentException If given argument is not positive
+         */
+        @Nonnull
+        public Builder slidingWindowSize(final int slidingWindowSize) {
+            if (slidingWindowSize < 1) {
+                throw new IllegalArgumentException("slidingWindowSize must be positive: " + slidingWindowSize);
+            }
+            this.slidingWindowSize = slidingWindowSize;
+            return this;
+        }
+
+        /**
+         * Sets the minimum number of calls recorded before the failure rate is evaluated. It is limited to the size of
+         * the sliding window.
+         *
+         * @param minimumNumberOfCalls The minimum number of calls recorded before the failure rate is evaluated
+         * @return This builder.
+         * @throws IllegalArgumentException If given argument is not positive
+         */
+        @Nonnull
+        public Builder minimumNumberOfCalls(final int minimumNumberOfCalls) {
+            if (minimumNumberOfCalls < 1) {
+                throw new IllegalArgumentException("minimumNumberOfCalls must be positive: " + minimumNumberOfCalls);
+            }
+            this.minimumNumberOfCalls = minimumNumberOfCalls;
+            return this;
+        }
+
+        /**
+         * Sets the duration the circuit breaker stays open before probing.
+         *
+         * @param waitDurationInOpenState The duration the circuit breaker stays open before probing
+         * @return This builder.
+         * @throws NullPointerException If given argument is {@code null}
+         * @throws IllegalArgumentException If given argument is negative
+         */
+        @Nonnull
+        public Builder waitDurationInOpenState(@Nonnull final Duration waitDurationInOpenState) {
+            Objects.requireNonNull(waitDurationInOpenState);
+            if (waitDurationInOpenState.isNegative()) {
+                throw new IllegalArgumentException("waitDurationInOpenState must not be negative: "
+                        + waitDurationInOpenState);
+            }
+            this.waitDurationInOpenState = waitDurationInOpenState;
+            return this;
+        }
+
+        /**
+         * Sets the number of probing calls permitted while the circuit breaker is half-open. If all of them succeed,
+         * the circuit breaker closes again.
+         *
+         * @param permittedCallsInHalfOpenState The number of probing calls permitted while half-open
+         * @return This builder.
+         * @throws IllegalArgumentException If given argument is not positive
+         */
+        @Nonnull
+        public Builder permittedCallsInHalfOpenState(final int permittedCallsInHalfOpenState) {
+            if (permittedCallsInHalfOpenState < 1) {
+                throw new IllegalArgumentException("permittedCallsInHalfOpenState must be positive: "
+                        + permittedCallsInHalfOpenState);
+            }
+            this.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Throwable} classes which are recorded as failure. Other throwables are recorded as success.
+         *
+         * @param types The throwable classes to be recorded as failure
+         * @return This builder.
+         * @throws NullPointerException If given argument or one of its elements is {@code null}
+         */
+        @Nonnull
+        @SafeVarargs
+        public final Builder recordOn(@Nonnull final Class<? extends Throwable>... types) {
+            Objects.requireNonNull(types);
+            final List<Class<? extends Throwable>> recordOn = new ArrayList<>(types.length);
+            for (final Class<? extends Throwable> type : types) {
+                recordOn.add(Objects.requireNonNull(type));
+            }
+            this.recordOn = Collections.unmodifiableList(recordOn);
+            return this;
+        }
+
+        /**
+         * Builds a new {@link CircuitBreakerConfig} from this builder.
+         *
+         * @return A new {@code CircuitBreakerConfig} from this builder.
+         */
+        @Nonnull
+        public CircuitBreakerConfig build() {
+            return new CircuitBreakerConfig(this);
+        }
+    }
+}
@@ -0,0 +1,318 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.resilience;
+
+import at.gridtec.lambda4j.core.exception.ThrownByFunctionalInterfaceException;
+import at.gridtec.lambda4j.core.util.ThrowableUtils;
+import at.gridtec.lambda4j.result.Result;
+import at.gridtec.lambda4j.supplier.ThrowableSupplier;
+
+import javax.annotation.Nonnull;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Represents a hedger, which reduces the tail latency of calls of a functional interface by issuing hedged calls. A
+ * call is run on a given {@link Executor}, and if it has not completed after the hedging delay, another call with the
+ * same input is launched, up to the given maximum number of hedges. The first successful result wins and all other
+ * calls are cancelled by interrupting them. A failed call immediately launches the next hedge, so the call only fails
+ * if all calls failed.
+ * <p>
+ * Each hedger records the latencies of its winning calls in a {@link LatencyHistogram}, which may be used to pick the
+ * hedging delay from an observed latency percentile. A hedger created by {@link #ofPercentile(double, Duration, int,
+ * Executor)} does so on its own, by updating its delay from the recorded latencies every 64 calls.
+ * <p>
+ * As hedged calls are issued with the same input, hedging should only be used for idempotent calls.
+ */
+public final class Hedger {
+
+    /**
+     * The number of calls after which the hedging delay of an adaptive hedger is updated.
+     */
+    private static final int REFRESH_INTERVAL = 64;
+
+    /**
+     * The number of recorded latencies required before the hedging delay of an adaptive hedger is updated.
+     */
+    private static final int MIN_SAMPLES = 100;
+
+    /**
+     * The maximum number of hedges launched for each call.
+     */
+    private final int maxHedges;
+
+    /**
+     * The executor to run calls on.
+     */
+    private final Executor executor;
+
+    /**
+     * The percentile to pick the hedging delay from, or {@link Double#NaN} if the hedging delay is fixed.
+     */
+    private final double percentile;
+
+    /**
+     * The histogram recording the latencies of successful calls.
+     */
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    /**
+     * The number of calls made through this hedger.
+     */
+    private final AtomicLong calls = new AtomicLong();
+
+    /**
+     * The number of hedges launched by this hedger.
+     */
+    private final AtomicLong hedges = new AtomicLong();
+
+    /**
+     * The current hedging delay in nanoseconds.
+     */
+    private volatile long delayNanos;
+
+    /**
+     * Creates this hedger from the given arguments.
+     *
+     * @param delayNanos The initial hedging delay in nanoseconds
+     * @param maxHedges The maximum number of hedges launched for each call
+     * @param executor The executor to run calls on
+     * @param percentile The percentile to pick the hedging delay from, or {@link Double#NaN} if it is fixed
+     */
+    private Hedger(final long delayNanos, final int maxHedges, @Nonnull final Executor executor,
+            final double percentile) {
+        this.delayNanos = delayNanos;
+        this.maxHedges = maxHedges;
+        this.executor = executor;
+        this.percentile = percentile;
+    }
+
+    /**
+     * Creates a new {@link Hedger} with a fixed hedging delay.
+     *
+     * @param delay The delay after which another call is launched, if no call has completed yet
+     * @param maxHedges The maximum number of hedges launched for each call in addition to the first call
+     * @param executor The executor to run calls on
+     * @return A new {@code Hedger} with a fixed hedging delay.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @throws IllegalArgumentException If given delay or given number of hedges is negative
+     */
+    @Nonnull
+    public static Hedger of(@Nonnull final Duration delay, final int maxHedges, @Nonnull final Executor executor) {
+        return new Hedger(toNanos(delay), checkHedges(maxHedges), Objects.requireNonNull(executor), Double.NaN);
+    }
+
+    /**
+     * Creates a new {@link Hedger}, which picks its hedging delay from the given percentile of the latencies of its
+     * winning calls. Until enough latencies are recorded, the given initial delay is used.
+     *
+     * @param percentile The percentile to pick the hedging delay from, f.e. {@code 0.95}
+     * @param initialDelay The delay used until enough latencies are recorded
+     * @param maxHedges The maximum number of hedges launched for each call in addition to the first call
+     * @param executor The executor to run calls on
+     * @return A new {@code Hedger}, which picks its hedging delay from the given percentile.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @throws IllegalArgumentException If given percentile is not between {@code 0} and {@code 1} or given delay or
+     * given number of hedges is negative
+     */
+    @Nonnull
+    public static Hedger ofPercentile(final double percentile, @Nonnull final Duration initialDelay,
+            final int maxHedges, @Nonnull final Executor executor) {
+        if (!(percentile > 0.0 && percentile <= 1.0)) {
+            throw new IllegalArgumentException("percentile must be between 0 and 1: " + percentile);
+        }
+        return new Hedger(toNanos(initialDelay), checkHedges(maxHedges), Objects.requireNonNull(executor), percentile);
+    }
+
+    /**
+     * Returns the current hedging delay of this hedger.
+     *
+     * @return The current hedging delay of this hedger.
+     */
+    @Nonnull
+    public Duration getDelay() {
+        return Duration.ofNanos(delayNanos);
+    }
+
+    /**
+     * Returns the histogram recording the latencies of the winning calls of this hedger. The latency of a call is
+     * measured from the start of {@link #call(ThrowableSupplier)}, so it is the latency seen by the caller, which
+     * includes the hedging delay if a hedge won.
+     *
+     * @return The histogram recording the latencies of the winning calls of this hedger.
+     */
+    @Nonnull
+    public LatencyHistogram getLatencies() {
+        return histogram;
+    }
+
+    /**
+     * Returns the number of calls made through this hedger, excluding hedges.
+     *
+     * @return The number of calls made through this hedger, excluding hedges.
+     */
+    public long getCalls() {
+        return calls.get();
+    }
+
+    /**
+     * Returns the number of hedges launched by this hedger.
+     *
+     * @return The number of hedges launched by this hedger.
+     */
+    public long getHedges() {
+        return hedges.get();
+    }
+
+    /**
+     * Calls the given {@link ThrowableSupplier} on the executor of this hedger, launching hedges as needed, and waits
+     * for the first successful result. If all calls failed, the {@link Throwable} of the last failed call is rethrown
+     * as-is (sneakily, if it is <em>checked</em>).
+     *
+     * @param <R> The type of return value from the supplier
+     * @param supplier The supplier to be called
+     * @return The return value from the first successful call of the supplier.
+     * @throws NullPointerException If given argument is {@code null}
+     * @throws ThrownByFunctionalInterfaceException If the calling thread is interrupted while waiting, which cancels
+     * all calls and keeps the interrupt flag of the calling thread set
+     * @throws java.util.concurrent.RejectedExecutionException If the executor of this hedger does not accept the first
+     * call
+     */
+    public <R> R call(@Nonnull final ThrowableSupplier<? extends R, ?> supplier) {
+        Objects.requireNonNull(supplier);
+        if ((calls.incrementAndGet() % REFRESH_INTERVAL) == 0 && !Double.isNaN(percentile)
+                && histogram.getCount() >= MIN_SAMPLES) {
+            delayNanos = histogram.getPercentile(percentile).toNanos();
+        }
+        final long start = System.nanoTime();
+        final long delay = delayNanos;
+        final BlockingQueue<Result<R>> outcomes = new ArrayBlockingQueue<>(maxHedges + 1);
+        final List<FutureTask<Void>> tasks = new ArrayList<>(maxHedges + 1);
+        final AtomicBoolean won = new AtomicBoolean();
+        int launched = launch(supplier, outcomes, won, tasks, start);
+        int failed = 0;
+        try {
+            while (true) {
+                final Result<R> outcome = launched <= maxHedges && failed < launched
+                        ? outcomes.poll(delay, TimeUnit.NANOSECONDS)
+                        : outcomes.take();
+                if (outcome == null || (outcome.isFailure() && ++failed == launched && launched <= maxHedges)) {
+                    hedges.incrementAndGet();
+                    launched = launch(supplier, outcomes, won, tasks, start);
+                } else if (outcome.isSuccess()) {
+                    return outcome.get();
+                } else if (failed == launched) {
+                    throw ThrowableUtils.sneakyThrow(outcome.getFailure());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw ThrowableUtils.nest(e);
+        } finally {
+            for (final FutureTask<Void> task : tasks) {
+                task.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Launches a call of the given supplier on the executor of this hedger, which offers its outcome to the given
+     * queue. If the executor does not accept the call, it is offered as failed call instead, unless it is the first
+     * call.
+     *
+     * @param <R> The type of return value from the supplier
+     * @param supplier The supplier to be called
+     * @param outcomes The queue receiving the outcomes of all calls
+     * @param won The flag which is set by the first successful call
+     * @param tasks The tasks of all calls, to which the task of the launched call is added
+     * @param start The time in nanoseconds at which the hedged call was started by the caller
+     * @return The number of launched calls.
+     */
+    private <R> int launch(@Nonnull final ThrowableSupplier<? extends R, ?> supplier,
+            @Nonnull final BlockingQueue<Result<R>> outcomes, @Nonnull final AtomicBoolean won,
+            @Nonnull final List<FutureTask<Void>> tasks, final long start) {
+        final FutureTask<Void> task = new FutureTask<>(() -> {
+            try {
+                final R value = supplier.getThrows();
+                if (won.compareAndSet(false, true)) {
+                    histogram.record(System.nanoTime() - start);
+                }
+                outcomes.offer(Result.success(value));
+            } catch (Throwable throwable) {
+                outcomes.offer(Result.failure(throwable));
+            }
+        }, null);
+        tasks.add(task);
+        try {
+            executor.execute(task);
+        } catch (RuntimeException e) {
+            if (tasks.size() == 1) {
+                throw e;
+            }
+            outcomes.offer(Result.failure(e));
+        }
+        return tasks.size();
+    }
+
+    /**
+     * Converts the given delay to nanoseconds, saturating at {@link Long#MAX_VALUE}.
+     *
+     * @param delay The delay to be converted
+     * @return The given delay in nanoseconds.
+     * @throws NullPointerException If given argument is {@code null}
+     * @throws IllegalArgumentException If given argument is negative
+     */
+    private static long toNanos(@Nonnull final Duration delay) {
+        Objects.requireNonNull(delay);
+        if (delay.isNegative()) {
+            throw new IllegalArgumentException("delay must not be negative: " + delay);
+        }
+        try {
+            return delay.toNanos();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Checks the given maximum number of hedges.
+     *
+     * @param maxHedges The maximum number of hedges to be checked
+     * @return The given maximum number of hedges.
+     * @throws IllegalArgumentException If given argument is negative
+     */
+    private static int checkHedges(final int maxHedges) {
+        if (maxHedges < 0) {
+            throw new IllegalArgumentException("maxHedges must not be negative: " + maxHedges);
+        }
+        return maxHedges;
+    }
+
+    @Override
+    @Nonnull
+    public String toString() {
+        return "Hedger[delay=" + getDelay() + ", maxHedges=" + maxHedges + "]";
+    }
+}
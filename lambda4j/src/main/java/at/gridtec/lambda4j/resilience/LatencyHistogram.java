@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.resilience;
+
+import javax.annotation.Nonnull;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Represents a lock-free histogram of latencies in nanoseconds. Latencies are counted in logarithmic buckets, where
+ * each power of two is divided into eight linear sub-buckets, so each percentile is reported with a relative error of
+ * at most 12.5% while the histogram has a fixed size regardless of the range of recorded latencies.
+ */
+public final class LatencyHistogram {
+
+    /**
+     * The number of bits used for the linear sub-buckets of each power of two.
+     */
+    private static final int SUB_BUCKET_BITS = 3;
+
+    /**
+     * The number of latencies which are counted exactly, as they are smaller than the first logarithmic bucket.
+     */
+    private static final int LINEAR_BUCKETS = 1 << (SUB_BUCKET_BITS + 1);
+
+    /**
+     * The number of buckets of each histogram.
+     */
+    private static final int BUCKETS = LINEAR_BUCKETS + (Long.SIZE - 1 - (SUB_BUCKET_BITS + 1)) * (1 << SUB_BUCKET_BITS);
+
+    /**
+     * The counts of recorded latencies per bucket.
+     */
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    /**
+     * Creates a new, empty {@link LatencyHistogram}.
+     */
+    public LatencyHistogram() {
+
+    }
+
+    /**
+     * Records the given latency in this histogram. Negative latencies are recorded as zero.
+     *
+     * @param nanos The latency in nanoseconds to be recorded
+     */
+    public void record(final long nanos) {
+        counts.incrementAndGet(bucketOf(Math.max(0, nanos)));
+    }
+
+    /**
+     * Returns the number of latencies recorded in this histogram.
+     *
+     * @return The number of latencies recorded in this histogram.
+     */
+    public long getCount() {
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the latency at the given percentile of all latencies recorded in this histogram. The returned latency is
+     * the upper bound of the bucket containing the percentile, so it is never smaller than the exact percentile.
+     *
+     * @param percentile The percentile between {@code 0} (exclusive) and {@code 1} (inclusive), f.e. {@code 0.99}
+     * @return The latency at the given percentile, or {@link Duration#ZERO} if there are no latencies recorded.
+     * @throws IllegalArgumentException If given argument is not between {@code 0} and {@code 1}
+     */
+    @Nonnull
+    public Duration getPercentile(final double percentile) {
+        if (!(percentile > 0.0 && percentile <= 1.0)) {
+            throw new IllegalArgumentException("percentile must be between 0 and 1: " + percentile);
+        }
+        final long[] snapshot = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            count += snapshot[i];
+        }
+        final long rank = (long) Math.ceil(percentile * count);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank && seen > 0) {
+                return Duration.ofNanos(upperBoundOf(i));
+            }
+        }
+        return Duration.ZERO;
+    }
+
+    /**
+     * Removes all recorded latencies from this histogram.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+    }
+
+    /**
+     * Returns the index of the bucket counting the given latency.
+     *
+     * @param nanos The non-negative latency in nanoseconds
+     * @return The index of the bucket counting the given latency.
+     */
+    private static int bucketOf(final long nanos) {
+        if (nanos < LINEAR_BUCKETS) {
+            return (int) nanos;
+        }
+        final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos);
+        final int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & ((1 << SUB_BUCKET_BITS) - 1);
+        return LINEAR_BUCKETS + ((exponent - (SUB_BUCKET_BITS + 1)) << SUB_BUCKET_BITS) + subBucket;
+    }
+
+    /**
+     * Returns the largest latency counted by the bucket with the given index.
+     *
+     * @param bucket The index of the bucket
+     * @return The largest latency in nanoseconds counted by the bucket with the given index.
+     */
+    private static long upperBoundOf(final int bucket) {
+        if (bucket < LINEAR_BUCKETS) {
+            return bucket;
+        }
+        final int exponent = ((bucket - LINEAR_BUCKETS) >>> SUB_BUCKET_BITS) + (SUB_BUCKET_BITS + 1);
+        final long subBucket = (bucket - LINEAR_BUCKETS) & ((1 << SUB_BUCKET_BITS) - 1);
+        final int shift = exponent - SUB_BUCKET_BITS;
+        final long lowerBound = ((1L << SUB_BUCKET_BITS) + subBucket) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+
+    @Override
+    @Nonnull
+    public String toString() {
+        return "LatencyHistogram[count=" + getCount() + "]";
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.resilience;
+
+import at.gridtec.lambda4j.core.exception.ThrownByFunctionalInterfaceException;
+import at.gridtec.lambda4j.core.util.ThrowableUtils;
+import at.gridtec.lambda4j.supplier.ThrowableSupplier;
+
+import javax.annotation.Nonnull;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Represents a rate limiter, which limits the rate of calls of functional interfaces, f.e. when writing into a
+ * rate-limited sink. The rate limiter is backed by a lock-free token bucket, so acquiring a permit costs a single
+ * compare-and-set operation when uncontended. Permits may be acquired in one of the following modes:
+ * <ul>
+ * <li>blocking ({@link #acquire()}): The calling thread waits until its permit may be used. Permits are reserved in
+ * order of arrival, so no waiting thread is starved by threads arriving later.</li>
+ * <li>non-blocking ({@link #tryAcquire()}): The call is dropped if no permit is available immediately.</li>
+ * <li>async ({@link #executeAsync(ThrowableSupplier, ScheduledExecutorService)}): The call is scheduled for the time
+ * its permit may be used, so no thread is blocked while waiting.</li>
+ * </ul>
+ * A rate limiter may be shared by several functional interfaces writing into the same sink.
+ */
+public final class RateLimiter {
+
+    /**
+     * The remaining wait time in nanoseconds below which a waiting thread yields instead of parking, as parking for
+     * short durations overshoots by far more than the interval between permits of high rates.
+     */
+    private static final long SPIN_THRESHOLD_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    /**
+     * The token bucket holding the permits of this rate limiter.
+     */
+    private final TokenBucket bucket;
+
+    /**
+     * The number of permits per second of this rate limiter.
+     */
+    private final double permitsPerSecond;
+
+    /**
+     * The maximum number of permits which may be acquired at once.
+     */
+    private final int burst;
+
+    /**
+     * Creates this rate limiter from the given arguments.
+     *
+     * @param permitsPerSecond The number of permits per second
+     * @param burst The maximum number of permits which may be acquired at once
+     */
+    private RateLimiter(final double permitsPerSecond, final int burst) {
+        this.bucket = new TokenBucket(permitsPerSecond, burst);
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+    }
+
+    /**
+     * Creates a new {@link RateLimiter}, which permits the given number of calls per second evenly spaced, without
+     * bursts.
+     *
+     * @param permitsPerSecond The number of calls per second
+     * @return A new {@code RateLimiter} from the given argument.
+     * @throws IllegalArgumentException If given argument is not positive
+     */
+    @Nonnull
+    public static RateLimiter of(final double permitsPerSecond) {
+        return new RateLimiter(permitsPerSecond, 1);
+    }
+
+    /**
+     * Creates a new {@link RateLimiter}, which permits the given number of calls per second and bursts of up to the
+     * given number of calls.
+     *
+     * @param permitsPerSecond The number of calls per second
+     * @param burst The maximum number of calls which may be made at once
+     * @return A new {@code RateLimiter} from the given arguments.
+     * @throws IllegalArgumentException If one of the given arguments is not positive
+     */
+    @Nonnull
+    public static RateLimiter of(final double permitsPerSecond, final int burst) {
+        return new RateLimiter(permitsPerSecond, burst);
+    }
+
+    /**
+     * Returns the number of permits per second of this rate limiter.
+     *
+     * @return The number of permits per second of this rate limiter.
+     */
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    /**
+     * Returns the maximum number of permits which may be acquired at once.
+     *
+     * @return The maximum number of permits which may be acquired at once.
+     */
+    public int getBurst() {
+        return burst;
+    }
+
+    /**
+     * Tries to acquire a permit of this rate limiter without waiting.
+     *
+     * @return {@code true} if a permit was acquired, {@code false} otherwise.
+     */
+    public boolean tryAcquire() {
+        return bucket.tryAcquire();
+    }
+
+    /**
+     * Acquires a permit of this rate limiter, waiting until it may be used. If the calling thread is interrupted while
+     * waiting, the reserved permit is given back to this rate limiter, unless another thread reserved a later permit
+     * in the meantime. In this case the permit stays consumed, so the rate of this rate limiter is never exceeded.
+     *
+     * @throws ThrownByFunctionalInterfaceException If the calling thread is interrupted while waiting, which keeps the
+     * interrupt flag of the calling thread set
+     */
+    public void acquire() {
+        final long slot = bucket.reserve();
+        final long waitNanos = bucket.getWaitNanos(slot);
+        if (waitNanos > 0) {
+            final long deadline = System.nanoTime() + waitNanos;
+            for (long remaining = waitNanos; remaining > 0; remaining = deadline - System.nanoTime()) {
+                if (Thread.interrupted()) {
+                    bucket.cancel(slot);
+                    Thread.currentThread().interrupt();
+                    throw ThrowableUtils.nest(new InterruptedException());
+                }
+                if (remaining > SPIN_THRESHOLD_NANOS) {
+                    LockSupport.parkNanos(this, remaining - SPIN_THRESHOLD_NANOS);
+                } else {
+                    Thread.yield();
+                }
+            }
+        }
+    }
+
+    /**
+     * Calls the given {@link ThrowableSupplier} on the given scheduler once a permit of this rate limiter may be used.
+     * The returned {@link CompletableFuture} is completed with the return value from the supplier, or exceptionally
+     * with the {@link Throwable} thrown from it.
+     *
+     * @param <R> The type of return value from the supplier
+     * @param supplier The supplier to be called
+     * @param scheduler The scheduler to call the supplier with
+     * @return A {@code CompletableFuture} completed with the outcome of the given supplier.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     */
+    @Nonnull
+    public <R> CompletableFuture<R> executeAsync(@Nonnull final ThrowableSupplier<? extends R, ?> supplier,
+            @Nonnull final ScheduledExecutorService scheduler) {
+        Objects.requireNonNull(supplier);
+        Objects.requireNonNull(scheduler);
+        final CompletableFuture<R> future = new CompletableFuture<>();
+        final Runnable call = () -> {
+            try {
+                future.complete(supplier.getThrows());
+            } catch (Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+        };
+        final long waitNanos = bucket.getWaitNanos(bucket.reserve());
+        if (waitNanos > 0) {
+            scheduler.schedule(call, waitNanos, TimeUnit.NANOSECONDS);
+        } else {
+            scheduler.execute(call);
+        }
+        return future;
+    }
+
+    @Override
+    @Nonnull
+    public String toString() {
+        return "RateLimiter[permitsPerSecond=" + permitsPerSecond + ", burst=" + burst + "]";
+    }
+}
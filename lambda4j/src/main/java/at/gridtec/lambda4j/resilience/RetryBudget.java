@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.resilience;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Represents a budget of retries, which is shared across all calls of the functional interfaces using the same {@link
+ * RetryPolicy}. The budget limits the rate of retries using a token bucket, which prevents retry storms if a downstream
+ * dependency fails for all calls: once the budget is exhausted, failed calls are no longer retried until the budget is
+ * refilled.
+ *
+ * @see RetryPolicy
+ */
+public final class RetryBudget {
+
+    /**
+     * The token bucket holding the retries of this budget.
+     */
+    private final TokenBucket bucket;
+
+    /**
+     * Creates this budget from the given arguments.
+     *
+     * @param retriesPerSecond The number of retries per second refilled to this budget
+     * @param maxRetries The maximum number of retries this budget may hold
+     */
+    private RetryBudget(final double retriesPerSecond, final int maxRetries) {
+        this.bucket = new TokenBucket(retriesPerSecond, maxRetries);
+    }
+
+    /**
+     * Creates a new {@link RetryBudget}, which is refilled with the given number of retries per second and holds at
+     * most the given number of retries.
+     *
+     * @param retriesPerSecond The number of retries per second refilled to the budget
+     * @param maxRetries The maximum number of retries the budget may hold, which is the maximum burst of retries
+     * @return A new {@code RetryBudget} from the given arguments.
+     * @throws IllegalArgumentException If one of the given arguments is not positive
+     */
+    @Nonnull
+    public static RetryBudget of(final double retriesPerSecond, final int maxRetries) {
+        return new RetryBudget(retriesPerSecond, maxRetries);
+    }
+
+    /**
+     * Tries to withdraw a single retry from this budget.
+     *
+     * @return {@code true} if a retry was withdrawn, {@code false} if this budget is exhausted.
+     */
+    public boolean tryAcquire() {
+        return bucket.tryAcquire();
+    }
+}
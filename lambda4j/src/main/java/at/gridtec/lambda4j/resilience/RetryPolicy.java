@@ -0,0 +1,389 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.resilience;
+
+import at.gridtec.lambda4j.supplier.ThrowableSupplier;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Represents a policy which defines if and when a call of a throwable functional interface is retried after a {@link
+ * Throwable} was thrown from it. A policy defines the maximum number of attempts, an exponential backoff with jitter
+ * between attempts, the {@code Throwable} classes which are retried and an optional {@link RetryBudget} shared across
+ * all calls using this policy. Policies are immutable and may be shared across functional interfaces.
+ * <p>
+ * The delay before attempt {@code n + 1} is {@code initialDelay * multiplier^(n - 1)}, which is limited to {@code
+ * maxDelay}, and is randomly reduced by up to {@code jitter} (as fraction of the delay) to spread retries of concurrent
+ * callers.
+ *
+ * @see RetryBudget
+ */
+public final class RetryPolicy {
+
+    /**
+     * The maximum number of attempts, including the first call.
+     */
+    private final int maxAttempts;
+
+    /**
+     * The delay before the first retry in nanoseconds.
+     */
+    private final long initialDelayNanos;
+
+    /**
+     * The multiplier applied to the delay for each further retry.
+     */
+    private final double multiplier;
+
+    /**
+     * The maximum delay before a retry in nanoseconds.
+     */
+    private final long maxDelayNanos;
+
+    /**
+     * The fraction of the delay which is randomly subtracted from it.
+     */
+    private final double jitter;
+
+    /**
+     * The {@link Throwable} classes which are retried.
+     */
+    private final List<Class<? extends Throwable>> retryOn;
+
+    /**
+     * The budget of retries shared across all calls using this policy, or {@code null} if unlimited.
+     */
+    @Nullable
+    private final RetryBudget budget;
+
+    /**
+     * Creates this policy from the given builder.
+     *
+     * @param builder The builder to create this policy from
+     */
+    private RetryPolicy(@Nonnull final Builder builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.initialDelayNanos = builder.initialDelay.toNanos();
+        this.multiplier = builder.multiplier;
+        this.maxDelayNanos = builder.maxDelay.toNanos();
+        this.jitter = builder.jitter;
+        this.retryOn = Collections.unmodifiableList(new ArrayList<>(builder.retryOn));
+        this.budget = builder.budget;
+    }
+
+    /**
+     * Creates a new {@link Builder} for a {@link RetryPolicy}. By default the policy makes at most 3 attempts, starts
+     * with a delay of 100 milliseconds, which is doubled for each further retry up to 10 seconds, has a jitter of
+     * {@code 0.5}, retries all {@link Exception}s and has no {@link RetryBudget}.
+     *
+     * @return A new {@code Builder} for a {@code RetryPolicy}.
+     */
+    @Nonnull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the maximum number of attempts of this policy, including the first call.
+     *
+     * @return The maximum number of attempts of this policy.
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Checks if the given {@link Throwable} thrown from the given attempt is retried by this policy. This is the case,
+     * if the maximum number of attempts is not reached, the throwable is an instance of one of the classes to be
+     * retried and a retry could be withdrawn from the {@link RetryBudget} of this policy.
+     *
+     * @param throwable The throwable thrown from the given attempt
+     * @param attempt The number of the failed attempt, starting with {@code 1}
+     * @return {@code true} if the given throwable is retried by this policy, {@code false} otherwise.
+     * @throws NullPointerException If given throwable is {@code null}
+     */
+    public boolean isRetryable(@Nonnull final Throwable throwable, final int attempt) {
+        Objects.requireNonNull(throwable);
+        if (attempt >= maxAttempts) {
+            return false;
+        }
+        boolean retryable = false;
+        for (final Class<? extends Throwable> type : retryOn) {
+            if (type.isInstance(throwable)) {
+                retryable = true;
+                break;
+            }
+        }
+        return retryable && (budget == null || budget.tryAcquire());
+    }
+
+    /**
+     * Returns the delay in nanoseconds before the attempt following the given attempt, including the jitter of this
+     * policy.
+     *
+     * @param attempt The number of the failed attempt, starting with {@code 1}
+     * @return The delay in nanoseconds before the attempt following the given attempt.
+     */
+    public long getDelayNanos(final int attempt) {
+        final double delay = Math.min(initialDelayNanos * Math.pow(multiplier, attempt - 1), maxDelayNanos);
+        return (long) (delay * (1.0 - jitter * ThreadLocalRandom.current().nextDouble()));
+    }
+
+    /**
+     * Checks if the given {@link Throwable} thrown from the given attempt is retried by this policy and if so, blocks
+     * the current thread for the delay before the next attempt. If the current thread is interrupted while waiting, its
+     * interrupt status is restored and the throwable is not retried.
+     *
+     * @param throwable The throwable thrown from the given attempt
+     * @param attempt The number of the failed attempt, starting with {@code 1}
+     * @return {@code true} if the next attempt should be made, {@code false} if the given throwable should be thrown.
+     * @throws NullPointerException If given throwable is {@code null}
+     * @see #isRetryable(Throwable, int)
+     */
+    public boolean awaitRetry(@Nonnull final Throwable throwable, final int attempt) {
+        if (!isRetryable(throwable, attempt)) {
+            return false;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(getDelayNanos(attempt));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Calls the given {@link ThrowableSupplier} asynchronously using the given scheduler and retries it according to
+     * this policy. The delay between attempts does not block a thread, as each retry is scheduled on the given
+     * scheduler. The returned {@link CompletableFuture} is completed with the result of the first successful attempt,
+     * or exceptionally with the {@code Throwable} of the last attempt. If the scheduler rejects an attempt (f.e. as it
+     * is shut down), the future is completed exceptionally with the {@link RejectedExecutionException}, to which the
+     * {@code Throwable} of the previous attempt is added as suppressed, if any.
+     *
+     * @param <R> The type of result of the given supplier
+     * @param supplier The supplier to be called
+     * @param scheduler The scheduler to call the supplier with
+     * @return A {@code CompletableFuture} which is completed with the result of the given supplier.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     */
+    @Nonnull
+    public <R> CompletableFuture<R> executeAsync(@Nonnull final ThrowableSupplier<? extends R, ?> supplier,
+            @Nonnull final ScheduledExecutorService scheduler) {
+        Objects.requireNonNull(supplier);
+        Objects.requireNonNull(scheduler);
+        final CompletableFuture<R> future = new CompletableFuture<>();
+        try {
+            scheduler.execute(() -> attemptAsync(supplier, scheduler, future, 1));
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Makes the given attempt of calling the given supplier and schedules the next attempt, if it failed and is retried
+     * by this policy.
+     *
+     * @param <R> The type of result of the given supplier
+     * @param supplier The supplier to be called
+     * @param scheduler The scheduler to schedule the next attempt with
+     * @param future The future to be completed
+     * @param attempt The number of the attempt, starting with {@code 1}
+     */
+    private <R> void attemptAsync(@Nonnull final ThrowableSupplier<? extends R, ?> supplier,
+            @Nonnull final ScheduledExecutorService scheduler, @Nonnull final CompletableFuture<R> future,
+            final int attempt) {
+        if (future.isDone()) {
+            return;
+        }
+        try {
+            future.complete(supplier.getThrows());
+        } catch (Throwable throwable) {
+            if (isRetryable(throwable, attempt)) {
+                try {
+                    scheduler.schedule(() -> attemptAsync(supplier, scheduler, future, attempt + 1),
+                                       getDelayNanos(attempt), TimeUnit.NANOSECONDS);
+                } catch (RejectedExecutionException e) {
+                    e.addSuppressed(throwable);
+                    future.completeExceptionally(e);
+                }
+            } else {
+                future.completeExceptionally(throwable);
+            }
+        }
+    }
+
+    /**
+     * Represents a builder for a {@link RetryPolicy}.
+     */
+    public static final class Builder {
+
+        /**
+         * The maximum number of attempts, including the first call.
+         */
+        private int maxAttempts = 3;
+
+        /**
+         * The delay before the first retry.
+         */
+        private Duration initialDelay = Duration.ofMillis(100);
+
+        /**
+         * The multiplier applied to the delay for each further retry.
+         */
+        private double multiplier = 2.0;
+
+        /**
+         * The maximum delay before a retry.
+         */
+        private Duration maxDelay = Duration.ofSeconds(10);
+
+        /**
+         * The fraction of the delay which is randomly subtracted from it.
+         */
+        private double jitter = 0.5;
+
+        /**
+         * The {@link Throwable} classes which are retried.
+         */
+        private List<Class<? extends Throwable>> retryOn = Collections.singletonList(Exception.class);
+
+        /**
+         * The budget of retries shared across all calls, or {@code null} if unlimited.
+         */
+        @Nullable
+        private RetryBudget budget;
+
+        /**
+         * Private constructor to prevent instantiation from outside.
+         */
+        private Builder() {
+
+        }
+
+        /**
+         * Sets the maximum number of attempts, including the first call.
+         *
+         * @param maxAttempts The maximum number of attempts
+         * @return This builder.
+         * @throws IllegalArgumentException If given argument is not positive
+         */
+        @Nonnull
+        public Builder maxAttempts(final int maxAttempts) {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("maxAttempts must be positive: " + maxAttempts);
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Sets the exponential backoff between attempts.
+         *
+         * @param initialDelay The delay before the first retry
+         * @param multiplier The multiplier applied to the delay for each further retry
+         * @param maxDelay The maximum delay before a retry
+         * @return This builder.
+         * @throws NullPointerException If one of the given durations is {@code null}
+         * @throws IllegalArgumentException If one of the given durations is negative or the multiplier is less than
+         * {@code 1}
+         */
+        @Nonnull
+        public Builder backoff(@Nonnull final Duration initialDelay, final double multiplier,
+                @Nonnull final Duration maxDelay) {
+            Objects.requireNonNull(initialDelay);
+            Objects.requireNonNull(maxDelay);
+            if (initialDelay.isNegative() || maxDelay.isNegative() || !(multiplier >= 1.0)) {
+                throw new IllegalArgumentException("Invalid backoff: " + initialDelay + ", " + multiplier + ", "
+                        + maxDelay);
+            }
+            this.initialDelay = initialDelay;
+            this.multiplier = multiplier;
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        /**
+         * Sets the fraction of the delay which is randomly subtracted from it, to spread retries of concurrent callers.
+         *
+         * @param jitter The fraction of the delay between {@code 0} (no jitter) and {@code 1} (full jitter)
+         * @return This builder.
+         * @throws IllegalArgumentException If given argument is not between {@code 0} and {@code 1}
+         */
+        @Nonnull
+        public Builder jitter(final double jitter) {
+            if (!(jitter >= 0.0 && jitter <= 1.0)) {
+                throw new IllegalArgumentException("jitter must be between 0 and 1: " + jitter);
+            }
+            this.jitter = jitter;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Throwable} classes which are retried. A thrown {@code Throwable} is retried, if it is an
+         * instance of one of the given classes.
+         *
+         * @param types The throwable classes to be retried
+         * @return This builder.
+         * @throws NullPointerException If given argument or one of its elements is {@code null}
+         */
+        @Nonnull
+        @SafeVarargs
+        public final Builder retryOn(@Nonnull final Class<? extends Throwable>... types) {
+            Objects.requireNonNull(types);
+            final List<Class<? extends Throwable>> retryOn = new ArrayList<>(types.length);
+            for (final Class<? extends Throwable> type : types) {
+                retryOn.add(Objects.requireNonNull(type));
+            }
+            this.retryOn = Collections.unmodifiableList(retryOn);
+            return this;
+        }
+
+        /**
+         * Sets the budget of retries shared across all calls using the policy.
+         *
+         * @param budget The budget of retries, or {@code null} if unlimited
+         * @return This builder.
+         */
+        @Nonnull
+        public Builder budget(@Nullable final RetryBudget budget) {
+            this.budget = budget;
+            return this;
+        }
+
+        /**
+         * Builds a new {@link RetryPolicy} from this builder.
+         *
+         * @return A new {@code RetryPolicy} from this builder.
+         */
+        @Nonnull
+        public RetryPolicy build() {
+            return new RetryPolicy(this);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.resilience;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Represents a count-based sliding window of call outcomes, which keeps the outcomes of the last calls in a ring
+ * buffer. The number of recorded calls and failures is maintained by lock-free counters, so recording an outcome and
+ * computing the failure rate never blocks.
+ */
+final class SlidingWindow {
+
+    /**
+     * The value of a slot without recorded outcome.
+     */
+    private static final int EMPTY = 0;
+
+    /**
+     * The value of a slot with a successful outcome.
+     */
+    private static final int SUCCESS = 1;
+
+    /**
+     * The value of a slot with a failed outcome.
+     */
+    private static final int FAILURE = 2;
+
+    /**
+     * The outcomes of the last calls.
+     */
+    private final AtomicIntegerArray outcomes;
+
+    /**
+     * The index of the next slot to be recorded.
+     */
+    private final AtomicLong index = new AtomicLong();
+
+    /**
+     * The number of recorded outcomes.
+     */
+    private final AtomicInteger recorded = new AtomicInteger();
+
+    /**
+     * The number of recorded failures.
+     */
+    private final AtomicInteger failures = new AtomicInteger();
+
+    /**
+     * Creates this window from the given size.
+     *
+     * @param size The number of calls kept in this window
+     */
+    SlidingWindow(final int size) {
+        this.outcomes = new AtomicIntegerArray(size);
+    }
+
+    /**
+     * Records the outcome of a call in this window, which replaces the oldest outcome if this window is full.
+     *
+     * @param failure {@code true} if the call failed, {@code false} otherwise
+     */
+    void record(final boolean failure) {
+        final int slot = (int) Math.floorMod(index.getAndIncrement(), (long) outcomes.length());
+        final int outcome = failure ? FAILURE : SUCCESS;
+        final int previous = outcomes.getAndSet(slot, outcome);
+        if (previous == EMPTY) {
+            recorded.incrementAndGet();
+        }
+        if (previous != outcome) {
+            if (outcome == FAILURE) {
+                failures.incrementAndGet();
+            } else if (previous == FAILURE) {
+                failures.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of outcomes recorded in this window.
+     *
+     * @return The number of outcomes recorded in this window.
+     */
+    int getRecorded() {
+        return recorded.get();
+    }
+
+    /**
+     * Returns the rate of failures recorded in this window.
+     *
+     * @return The rate of failures recorded in this window between {@code 0} and {@code 1}, or {@code 0} if there are
+     * no outcomes recorded.
+     */
+    double getFailureRate() {
+        final int total = recorded.get();
+        return total == 0 ? 0.0 : Math.min(1.0, (double) failures.get() / total);
+    }
+
+    /**
+     * Removes all recorded outcomes from this window. Outcomes recorded concurrently may be removed as well, but the
+     * counters of this window are always kept consistent with its slots.
+     */
+    void reset() {
+        for (int i = 0; i < outcomes.length(); i++) {
+            final int previous = outcomes.getAndSet(i, EMPTY);
+            if (previous != EMPTY) {
+                recorded.decrementAndGet();
+            }
+            if (previous == FAILURE) {
+                failures.decrementAndGet();
+            }
+        }
+    }
+}
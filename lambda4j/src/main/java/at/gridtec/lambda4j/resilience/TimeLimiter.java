@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.resilience;
+
+import at.gridtec.lambda4j.core.exception.ThrownByFunctionalInterfaceException;
+import at.gridtec.lambda4j.core.util.ThrowableUtils;
+import at.gridtec.lambda4j.supplier.ThrowableSupplier;
+
+import javax.annotation.Nonnull;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Represents a time limiter, which bounds how long a call of a functional interface may take. The call is run on a
+ * given {@link Executor}, while the calling thread waits for its result until the timeout elapses. If it elapses, the
+ * call is cancelled by interrupting it and a {@link CallTimeoutException} is thrown.
+ * <p>
+ * The deadline is enforced by the timed wait of the calling thread itself, so there is neither a timer thread per time
+ * limiter nor a scheduled task per call. Each call only allocates the task which is handed to the executor.
+ * <p>
+ * Note that each call occupies two threads while it runs: the executor thread running the call and the calling thread
+ * blocked in the timed wait for its result. The executor should therefore be sized for the expected number of
+ * concurrent calls. A direct executor (f.e. {@code Runnable::run}) runs the call in the calling thread before the wait
+ * starts, so the timeout is not enforced at all. A call which ignores interruption keeps its executor thread busy even
+ * after the timeout elapsed.
+ */
+public final class TimeLimiter {
+
+    /**
+     * The timeout of this time limiter in nanoseconds.
+     */
+    private final long timeoutNanos;
+
+    /**
+     * The executor to run calls on.
+     */
+    private final Executor executor;
+
+    /**
+     * Creates this time limiter from the given arguments.
+     *
+     * @param timeoutNanos The timeout of this time limiter in nanoseconds
+     * @param executor The executor to run calls on
+     */
+    private TimeLimiter(final long timeoutNanos, @Nonnull final Executor executor) {
+        this.timeoutNanos = timeoutNanos;
+        this.executor = executor;
+    }
+
+    /**
+     * Creates a new {@link TimeLimiter}, which runs calls on the given {@link Executor} and bounds them by the given
+     * timeout.
+     *
+     * @param timeout The timeout of calls
+     * @param executor The executor to run calls on
+     * @return A new {@code TimeLimiter} from the given arguments.
+     * @throws NullPointerException If one of the given arguments is {@code null}
+     * @throws IllegalArgumentException If given timeout is negative
+     */
+    @Nonnull
+    public static TimeLimiter of(@Nonnull final Duration timeout, @Nonnull final Executor executor) {
+        Objects.requireNonNull(timeout);
+        Objects.requireNonNull(executor);
+        if (timeout.isNegative()) {
+            throw new IllegalArgumentException("timeout must not be negative: " + timeout);
+        }
+        long timeoutNanos;
+        try {
+            timeoutNanos = timeout.toNanos();
+        } catch (ArithmeticException e) {
+            timeoutNanos = Long.MAX_VALUE;
+        }
+        return new TimeLimiter(timeoutNanos, executor);
+    }
+
+    /**
+     * Returns the timeout of this time limiter.
+     *
+     * @return The timeout of this time limiter.
+     */
+    @Nonnull
+    public Duration getTimeout() {
+        return Duration.ofNanos(timeoutNanos);
+    }
+
+    /**
+     * Calls the given {@link ThrowableSupplier} on the executor of this time limiter and waits for its result. Any
+     * {@link Throwable} thrown from the supplier is rethrown as-is (sneakily, if it is <em>checked</em>).
+     *
+     * @param <R> The type of return value from the supplier
+     * @param supplier The supplier to be called
+     * @return The return value from the supplier.
+     * @throws NullPointerException If given argument is {@code null}
+     * @throws CallTimeoutException If the supplier did not complete within the timeout of this time limiter
+     * @throws ThrownByFunctionalInterfaceException If the calling thread is interrupted while waiting, which cancels
+     * the call and keeps the interrupt flag of the calling thread set
+     * @throws java.util.concurrent.RejectedExecutionException If the executor of this time limiter does not accept the
+     * call
+     */
+    public <R> R call(@Nonnull final ThrowableSupplier<? extends R, ?> supplier) {
+        Objects.requireNonNull(supplier);
+        final FutureTask<R> task = new FutureTask<>(() -> {
+            try {
+                return supplier.getThrows();
+            } catch (Throwable throwable) {
+                throw ThrowableUtils.sneakyThrow(throwable);
+            }
+        });
+        executor.execute(task);
+        try {
+            return task.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            throw ThrowableUtils.sneakyThrow(e.getCause());
+        } catch (TimeoutException e) {
+            task.cancel(true);
+            throw new CallTimeoutException("Call did not complete within " + getTimeout());
+        } catch (InterruptedException e) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+            throw ThrowableUtils.nest(e);
+        }
+    }
+
+    @Override
+    @Nonnull
+    public String toString() {
+        return "TimeLimiter[timeout=" + getTimeout() + "]";
+    }
+}
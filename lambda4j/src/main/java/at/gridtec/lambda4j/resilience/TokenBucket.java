@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Represents a lock-free token bucket, which is implemented using the generic cell rate algorithm (GCRA). Instead of
+ * counting tokens, the bucket keeps the theoretical arrival time of the next permit, so acquiring a permit costs a
+ * single compare-and-set operation when uncontended.
+ */
+final class TokenBucket {
+
+    /**
+     * The interval between two permits in nanoseconds.
+     */
+    private final long intervalNanos;
+
+    /**
+     * The tolerance in nanoseconds, which allows bursts of permits up to the capacity of this bucket.
+     */
+    private final long toleranceNanos;
+
+    /**
+     * The theoretical arrival time of the next permit in nanoseconds.
+     */
+    private final AtomicLong nextFreeNanos;
+
+    /**
+     * Creates this token bucket from the given arguments.
+     *
+     * @param permitsPerSecond The number of permits per second
+     * @param burst The maximum number of permits which may be acquired at once
+     * @throws IllegalArgumentException If one of the given arguments is not positive
+     */
+    TokenBucket(final double permitsPerSecond, final int burst) {
+        if (!(permitsPerSecond > 0)) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive: " + permitsPerSecond);
+        }
+        if (burst < 1) {
+            throw new IllegalArgumentException("burst must be positive: " + burst);
+        }
+        this.intervalNanos = Math.max(1L, (long) (1_000_000_000L / permitsPerSecond));
+        this.toleranceNanos = intervalNanos * (burst - 1);
+        this.nextFreeNanos = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Tries to acquire a permit from this bucket without waiting.
+     *
+     * @return {@code true} if a permit was acquired, {@code false} otherwise.
+     */
+    boolean tryAcquire() {
+        final long now = System.nanoTime();
+        for (; ; ) {
+            final long next = nextFreeNanos.get();
+            final long base = next - now > 0 ? next : now;
+            if (base - now > toleranceNanos) {
+                return false;
+            }
+            if (nextFreeNanos.compareAndSet(next, base + intervalNanos)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Reserves a permit from this bucket and returns the theoretical arrival time of the reserved permit. The
+     * reservation always succeeds, so waiting callers are served in order of reservation.
+     *
+     * @return The theoretical arrival time of the reserved permit in nanoseconds, which is to be passed to {@link
+     * #getWaitNanos(long)} and {@link #cancel(long)}.
+     */
+    long reserve() {
+        final long now = System.nanoTime();
+        for (; ; ) {
+            final long next = nextFreeNanos.get();
+            final long base = next - now > 0 ? next : now;
+            if (nextFreeNanos.compareAndSet(next, base + intervalNanos)) {
+                return base;
+            }
+        }
+    }
+
+    /**
+     * Returns the time to wait until the given reserved permit may be used.
+     *
+     * @param slot The theoretical arrival time of the permit, as returned from {@link #reserve()}
+     * @return The time to wait in nanoseconds until the given permit may be used, which is {@code 0} if it may be used
+     * immediately.
+     */
+    long getWaitNanos(final long slot) {
+        return Math.max(0L, slot - System.nanoTime() - toleranceNanos);
+    }
+
+    /**
+     * Gives back the given permit reserved by {@link #reserve()}, which is not used, so it may be reserved by another
+     * caller. The permit is only given back, if no later permit was reserved in the meantime. Otherwise the permit
+     * stays consumed, so callers which already reserved a later permit keep their reservation, without another caller
+     * being admitted in the same slot.
+     *
+     * @param slot The theoretical arrival time of the permit, as returned from {@code reserve()}
+     */
+    void cancel(final long slot) {
+        nextFreeNanos.compareAndSet(slot + intervalNanos, slot);
+    }
+}
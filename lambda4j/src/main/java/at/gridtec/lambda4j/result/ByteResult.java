@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.result;
+
+import at.gridtec.lambda4j.core.util.ThrowableUtils;
+import at.gridtec.lambda4j.function.ByteFunction;
+import at.gridtec.lambda4j.function.to.ToByteFunction;
+import at.gridtec.lambda4j.operator.unary.ByteUnaryOperator;
+
+import javax.annotation.Nonnull;
+import java.io.Serializable;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Represents the result of an operation returning a {@code byte}, which either succeeded with a value or failed with a
+ * {@link Throwable}. This is the {@code byte}-valued primitive specialization of {@link Result}, which does not box its
+ * value.
+ *
+ * @see Result
+ */
+public final class ByteResult implements Serializable {
+
+    /**
+     * The <a href="https://docs.oracle.com/javase/8/docs/api/index.html">serial version uid</a>.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The value of this result, if succeeded.
+     */
+    private final byte value;
+
+    /**
+     * The throwable of this result, if failed.
+     */
+    private final Throwable failure;
+
+    /**
+     * Creates this result from the given arguments.
+     *
+     * @param value The value of this result, if succeeded
+     * @param failure The throwable of this result, if failed
+     */
+    private ByteResult(final byte value, final Throwable failure) {
+        this.value = value;
+        this.failure = failure;
+    }
+
+    /**
+     * Creates a succeeded {@link ByteResult} with the given value.
+     *
+     * @param value The value of the result
+     * @return A succeeded {@code ByteResult} with the given value.
+     */
+    @Nonnull
+    public static ByteResult success(byte value) {
+        return new ByteResult(value, null);
+    }
+
+    /**
+     * Creates a failed {@link ByteResult} with the given {@link Throwable}.
+     *
+     * @param failure The throwable of the result
+     * @return A failed {@code ByteResult} with the given throwable.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    public static ByteResult failure(@Nonnull final Throwable failure) {
+        Objects.requireNonNull(failure);
+        return new ByteResult((byte) 0, failure);
+    }
+
+    /**
+     * Checks if this result succeeded.
+     *
+     * @return {@code true} if this result succeeded, {@code false} otherwise.
+     */
+    public boolean isSuccess() {
+        return failure == null;
+    }
+
+    /**
+     * Checks if this result failed.
+     *
+     * @return {@code true} if this result failed, {@code false} otherwise.
+     */
+    public boolean isFailure() {
+        return failure != null;
+    }
+
+    /**
+     * Returns the value of this result, if succeeded. If this result failed, its {@link Throwable} is sneakily thrown
+     * as-is.
+     *
+     * @return The value of this result.
+     * @see ThrowableUtils#sneakyThrow(Throwable)
+     */
+    public byte getAsByte() {
+        if (failure != null) {
+            throw ThrowableUtils.sneakyThrow(failure);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the {@link Throwable} of this result, if failed.
+     *
+     * @return The throwable of this result.
+     * @throws NoSuchElementException If this result succeeded
+     */
+    @Nonnull
+    public Throwable getFailure() {
+        if (failure == null) {
+            throw new NoSuchElementException("No failure present");
+        }
+        return failure;
+    }
+
+    /**
+     * Returns the value of this result, if succeeded, otherwise returns {@code other}.
+     *
+     * @param other The value to be returned, if this result failed
+     * @return The value of this result, if succeeded, otherwise {@code other}.
+     */
+    public byte orElse(byte other) {
+        return failure == null ? value : other;
+    }
+
+    /**
+     * Returns the value of this result, if succeeded, otherwise returns the result of the {@code other} operation
+     * applied to the {@link Throwable} of this result.
+     *
+     * @param other The operation to apply to the throwable of this result, if failed
+     * @return The value of this result, if succeeded, otherwise the result of the {@code other} operation.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    public byte orElseGet(@Nonnull final ToByteFunction<? super Throwable> other) {
+        Objects.requireNonNull(other);
+        return failure == null ? value : other.applyAsByte(failure);
+    }
+
+    /**
+     * Returns a succeeded {@link ByteResult} with the result of the {@code recover} operation applied to the {@link
+     * Throwable} of this result, if failed. If this result succeeded, it is returned as-is.
+     *
+     * @param recover The operation to apply to the throwable of this result, if failed
+     * @return A succeeded {@code ByteResult}, which is recovered from this result if failed.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    public ByteResult recover(@Nonnull final ToByteFunction<? super Throwable> recover) {
+        Objects.requireNonNull(recover);
+        return failure == null ? this : success(recover.applyAsByte(failure));
+    }
+
+    /**
+     * Returns a {@link ByteResult} with the result of the {@code mapper} operation applied to the value of this result,
+     * if succeeded. If this result failed, it is returned as-is, without applying the {@code mapper} operation.
+     *
+     * @param mapper The operation to apply to the value of this result, if succeeded
+     * @return A {@code ByteResult} with the mapped value of this result, if succeeded, otherwise this result.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    public ByteResult map(@Nonnull final ByteUnaryOperator mapper) {
+        Objects.requireNonNull(mapper);
+        return failure == null ? success(mapper.applyAsByte(value)) : this;
+    }
+
+    /**
+     * Returns a {@link Result} with the result of the {@code mapper} operation applied to the value of this result, if
+     * succeeded. If this result failed, a failed {@code Result} with the same {@link Throwable} is returned, without
+     * applying the {@code mapper} operation.
+     *
+     * @param <U> The type of value of the returned result
+     * @param mapper The operation to apply to the value of this result, if succeeded
+     * @return A {@code Result} with the mapped value of this result, if succeeded, otherwise a failed {@code Result}.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    public <U> Result<U> mapToObj(@Nonnull final ByteFunction<? extends U> mapper) {
+        Objects.requireNonNull(mapper);
+        return failure == null ? Result.success(mapper.apply(value)) : Result.failure(failure);
+    }
+
+    /**
+     * Returns the {@link ByteResult} returned by the {@code mapper} operation applied to the value of this result, if
+     * succeeded. If this result failed, it is returned as-is, without applying the {@code mapper} operation. This
+     * method is useful to compose the {@code attempt} variants of throwable functional interfaces.
+     *
+     * @param mapper The operation to apply to the value of this result, if succeeded
+     * @return The {@code ByteResult} returned by the {@code mapper} operation, if this result succeeded, otherwise this
+     * result.
+     * @throws NullPointerException If given argument or the returned result is {@code null}
+     */
+    @Nonnull
+    public ByteResult flatMap(@Nonnull final ByteFunction<? extends ByteResult> mapper) {
+        Objects.requireNonNull(mapper);
+        return failure == null ? Objects.requireNonNull(mapper.apply(value)) : this;
+    }
+
+    /**
+     * Converts this result to a {@link Result} with boxed value.
+     *
+     * @return A {@code Result} with the boxed value of this result, if succeeded, otherwise a failed {@code Result}.
+     */
+    @Nonnull
+    public Result<Byte> boxed() {
+        return failure == null ? Result.success(value) : Result.failure(failure);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ByteResult)) {
+            return false;
+        }
+        final ByteResult other = (ByteResult) obj;
+        return value == other.value && Objects.equals(failure, other.failure);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(value, failure);
+    }
+
+    @Override
+    public String toString() {
+        return failure == null ? "Success[" + value + "]" : "Failure[" + failure + "]";
+    }
+}
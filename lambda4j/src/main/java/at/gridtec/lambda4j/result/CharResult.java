@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.result;
+
+import at.gridtec.lambda4j.core.util.ThrowableUtils;
+import at.gridtec.lambda4j.function.CharFunction;
+import at.gridtec.lambda4j.function.to.ToCharFunction;
+import at.gridtec.lambda4j.operator.unary.CharUnaryOperator;
+
+import javax.annotation.Nonnull;
+import java.io.Serializable;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Represents the result of an operation returning a {@code char}, which either succeeded with a value or failed with a
+ * {@link Throwable}. This is the {@code char}-valued primitive specialization of {@link Result}, which does not box its
+ * value.
+ *
+ * @see Result
+ */
+public final class CharResult implements Serializable {
+
+    /**
+     * The <a href="https://docs.oracle.com/javase/8/docs/api/index.html">serial version uid</a>.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The value of this result, if succeeded.
+     */
+    private final char value;
+
+    /**
+     * The throwable of this result, if failed.
+     */
+    private final Throwable failure;
+
+    /**
+     * Creates this result from the given arguments.
+     *
+     * @param value The value of this result, if succeeded
+     * @param failure The throwable of this result, if failed
+     */
+    private CharResult(final char value, final Throwable failure) {
+        this.value = value;
+        this.failure = failure;
+    }
+
+    /**
+     * Creates a succeeded {@link CharResult} with the given value.
+     *
+     * @param value The value of the result
+     * @return A succeeded {@code CharResult} with the given value.
+     */
+    @Nonnull
+    public static CharResult success(char value) {
+        return new CharResult(value, null);
+    }
+
+    /**
+     * Creates a failed {@link CharResult} with the given {@link Throwable}.
+     *
+     * @param failure The throwable of the result
+     * @return A failed {@code CharResult} with the given throwable.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    public static CharResult failure(@Nonnull final Throwable failure) {
+        Objects.requireNonNull(failure);
+        return new CharResult((char) 0, failure);
+    }
+
+    /**
+     * Checks if this result succeeded.
+     *
+     * @return {@code true} if this result succeeded, {@code false} otherwise.
+     */
+    public boolean isSuccess() {
+        return failure == null;
+    }
+
+    /**
+     * Checks if this result failed.
+     *
+     * @return {@code true} if this result failed, {@code false} otherwise.
+     */
+    public boolean isFailure() {
+        return failure != null;
+    }
+
+    /**
+     * Returns the value of this result, if succeeded. If this result failed, its {@link Throwable} is sneakily thrown
+     * as-is.
+     *
+     * @return The value of this result.
+     * @see ThrowableUtils#sneakyThrow(Throwable)
+     */
+    public char getAsChar() {
+        if (failure != null) {
+            throw ThrowableUtils.sneakyThrow(failure);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the {@link Throwable} of this result, if failed.
+     *
+     * @return The throwable of this result.
+     * @throws NoSuchElementException If this result succeeded
+     */
+    @Nonnull
+    public Throwable getFailure() {
+        if (failure == null) {
+            throw new NoSuchElementException("No failure present");
+        }
+        return failure;
+    }
+
+    /**
+     * Returns the value of this result, if succeeded, otherwise returns {@code other}.
+     *
+     * @param other The value to be returned, if this result failed
+     * @return The value of this result, if succeeded, otherwise {@code other}.
+     */
+    public char orElse(char other) {
+        return failure == null ? value : other;
+    }
+
+    /**
+     * Returns the value of this result, if succeeded, otherwise returns the result of the {@code other} operation
+     * applied to the {@link Throwable} of this result.
+     *
+     * @param other The operation to apply to the throwable of this result, if failed
+     * @return The value of this result, if succeeded, otherwise the result of the {@code other} operation.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    public char orElseGet(@Nonnull final ToCharFunction<? super Throwable> other) {
+        Objects.requireNonNull(other);
+        return failure == null ? value : other.applyAsChar(failure);
+    }
+
+    /**
+     * Returns a succeeded {@link CharResult} with the result of the {@code recover} operation applied to the {@link
+     * Throwable} of this result, if failed. If this result succeeded, it is returned as-is.
+     *
+     * @param recover The operation to apply to the throwable of this result, if failed
+     * @return A succeeded {@code CharResult}, which is recovered from this result if failed.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    public CharResult recover(@Nonnull final ToCharFunction<? super Throwable> recover) {
+        Objects.requireNonNull(recover);
+        return failure == null ? this : success(recover.applyAsChar(failure));
+    }
+
+    /**
+     * Returns a {@link CharResult} with the result of the {@code mapper} operation applied to the value of this result,
+     * if succeeded. If this result failed, it is returned as-is, without applying the {@code mapper} operation.
+     *
+     * @param mapper The operation to apply to the value of this result, if succeeded
+     * @return A {@code CharResult} with the mapped value of this result, if succeeded, otherwise this result.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    public CharResult map(@Nonnull final CharUnaryOperator mapper) {
+        Objects.requireNonNull(mapper);
+        return failure == null ? success(mapper.applyAsChar(value)) : this;
+    }
+
+    /**
+     * Returns a {@link Result} with the result of the {@code mapper} operation applied to the value of this result, if
+     * succeeded. If this result failed, a failed {@code Result} with the same {@link Throwable} is returned, without
+     * applying the {@code mapper} operation.
+     *
+     * @param <U> The type of value of the returned result
+     * @param mapper The operation to apply to the value of this result, if succeeded
+     * @return A {@code Result} with the mapped value of this result, if succeeded, otherwise a failed {@code Result}.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    public <U> Result<U> mapToObj(@Nonnull final CharFunction<? extends U> mapper) {
+        Objects.requireNonNull(mapper);
+        return failure == null ? Result.success(mapper.apply(value)) : Result.failure(failure);
+    }
+
+    /**
+     * Returns the {@link CharResult} returned by the {@code mapper} operation applied to the value of this result, if
+     * succeeded. If this result failed, it is returned as-is, without applying the {@code mapper} operation. This
+     * method is useful to compose the {@code attempt} variants of throwable functional interfaces.
+     *
+     * @param mapper The operation to apply to the value of this result, if succeeded
+     * @return The {@code CharResult} returned by the {@code mapper} operation, if this result succeeded, otherwise this
+     * result.
+     * @throws NullPointerException If given argument or the returned result is {@code null}
+     */
+    @Nonnull
+    public CharResult flatMap(@Nonnull final CharFunction<? extends CharResult> mapper) {
+        Objects.requireNonNull(mapper);
+        return failure == null ? Objects.requireNonNull(mapper.apply(value)) : this;
+    }
+
+    /**
+     * Converts this result to a {@link Result} with boxed value.
+     *
+     * @return A {@code Result} with the boxed value of this result, if succeeded, otherwise a failed {@code Result}.
+     */
+    @Nonnull
+    public Result<Character> boxed() {
+        return failure == null ? Result.success(value) : Result.failure(failure);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof CharResult)) {
+            return false;
+        }
+        final CharResult other = (CharResult) obj;
+        return value == other.value && Objects.equals(failure, other.failure);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(value, failure);
+    }
+
+    @Override
+    public String toString() {
+        return failure == null ? "Success[" + value + "]" : "Failure[" + failure + "]";
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.result;
+
+import at.gridtec.lambda4j.core.util.ThrowableUtils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Serializable;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Represents the result of an operation, which either succeeded with a value or failed with a {@link Throwable}.
+ * Results are returned by the {@code attempt} method of throwable functional interfaces instead of throwing the {@code
+ * Throwable}, which avoids unwinding the stack in workloads with a high failure rate. Failed results are composed using
+ * {@link #map(Function)} and {@link #flatMap(Function)} without rethrowing their {@code Throwable}.
+ * <p>
+ * For results of primitive type, the primitive result types (f.e. {@link IntResult}) should be used, which do not box
+ * their value.
+ *
+ * @param <T> The type of value of this result
+ */
+public final class Result<T> implements Serializable {
+
+    /**
+     * The <a href="https://docs.oracle.com/javase/8/docs/api/index.html">serial version uid</a>.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The value of this result, if succeeded.
+     */
+    @Nullable
+    private final T value;
+
+    /**
+     * The throwable of this result, if failed.
+     */
+    @Nullable
+    private final Throwable failure;
+
+    /**
+     * Creates this result from the given arguments.
+     *
+     * @param value The value of this result, if succeeded
+     * @param failure The throwable of this result, if failed
+     */
+    private Result(@Nullable final T value, @Nullable final Throwable failure) {
+        this.value = value;
+        this.failure = failure;
+    }
+
+    /**
+     * Creates a succeeded {@link Result} with the given value.
+     *
+     * @param <T> The type of value of the result
+     * @param value The value of the result, which may be {@code null}
+     * @return A succeeded {@code Result} with the given value.
+     */
+    @Nonnull
+    public static <T> Result<T> success(@Nullable final T value) {
+        return new Result<>(value, null);
+    }
+
+    /**
+     * Creates a failed {@link Result} with the given {@link Throwable}.
+     *
+     * @param <T> The type of value of the result
+     * @param failure The throwable of the result
+     * @return A failed {@code Result} with the given throwable.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    public static <T> Result<T> failure(@Nonnull final Throwable failure) {
+        Objects.requireNonNull(failure);
+        return new Result<>(null, failure);
+    }
+
+    /**
+     * Checks if this result succeeded.
+     *
+     * @return {@code true} if this result succeeded, {@code false} otherwise.
+     */
+    public boolean isSuccess() {
+        return failure == null;
+    }
+
+    /**
+     * Checks if this result failed.
+     *
+     * @return {@code true} if this result failed, {@code false} otherwise.
+     */
+    public boolean isFailure() {
+        return failure != null;
+    }
+
+    /**
+     * Returns the value of this result, if succeeded. If this result failed, its {@link Throwable} is sneakily thrown
+     * as-is.
+     *
+     * @return The value of this result.
+     * @see ThrowableUtils#sneakyThrow(Throwable)
+     */
+    @Nullable
+    public T get() {
+        if (failure != null) {
+            throw ThrowableUtils.sneakyThrow(failure);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the {@link Throwable} of this result, if failed.
+     *
+     * @return The throwable of this result.
+     * @throws NoSuchElementException If this result succeeded
+     */
+    @Nonnull
+    public Throwable getFailure() {
+        if (failure == null) {
+            throw new NoSuchElementException("No failure present");
+        }
+        return failure;
+    }
+
+    /**
+     * Returns the value of this result, if succeeded, otherwise returns {@code other}.
+     *
+     * @param other The value to be returned, if this result failed
+     * @return The value of this result, if succeeded, otherwise {@code other}.
+     */
+    @Nullable
+    public T orElse(@Nullable final T other) {
+        return failure == null ? value : other;
+    }
+
+    /**
+     * Returns the value of this result, if succeeded, otherwise returns the result of the {@code other} operation
+     * applied to the {@link Throwable} of this result.
+     *
+     * @param other The operation to apply to the throwable of this result, if failed
+     * @return The value of this result, if succeeded, otherwise the result of the {@code other} operation.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nullable
+    public T orElseGet(@Nonnull final Function<? super Throwable, ? extends T> other) {
+        Objects.requireNonNull(other);
+        return failure == null ? value : other.apply(failure);
+    }
+
+    /**
+     * Returns a succeeded {@link Result} with the result of the {@code recover} operation applied to the {@link
+     * Throwable} of this result, if failed. If this result succeeded, it is returned as-is.
+     *
+     * @param recover The operation to apply to the throwable of this result, if failed
+     * @return A succeeded {@code Result}, which is recovered from this result if failed.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    public Result<T> recover(@Nonnull final Function<? super Throwable, ? extends T> recover) {
+        Objects.requireNonNull(recover);
+        return failure == null ? this : success(recover.apply(failure));
+    }
+
+    /**
+     * Returns a {@link Result} with the result of the {@code mapper} operation applied to the value of this result, if
+     * succeeded. If this result failed, a failed {@code Result} with the same {@link Throwable} is returned, without
+     * applying the {@code mapper} operation.
+     *
+     * @param <U> The type of value of the returned result
+     * @param mapper The operation to apply to the value of this result, if succeeded
+     * @return A {@code Result} with the mapped value of this result, if succeeded, otherwise a failed {@code Result}.
+     * @throws NullPointerException If given argument is {@code null}
+     */
+    @Nonnull
+    public <U> Result<U> map(@Nonnull final Function<? super T, ? extends U> mapper) {
+        Objects.requireNonNull(mapper);
+        return failure == null ? success(mapper.apply(value)) : failure(failure);
+    }
+
+    /**
+     * Returns the {@link Result} returned by the {@code mapper} operation applied to the value of this result, if
+     * succeeded. If this result failed, a failed {@code Result} with the same {@link Throwable} is returned, without
+     * applying the {@code mapper} operation. This method is useful to compose the {@code attempt} variants of throwable
+     * functional interfaces.
+     *
+     * @param <U> The type of value of the returned result
+     * @param mapper The operation to apply to the value of this result, if succeeded
+     * @return The {@code Result} returned by the {@code mapper} operation, if this result succeeded, otherwise a failed
+     * {@code Result}.
+     * @throws NullPointerException If given argument or the returned result is {@code null}
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public <U> Result<U> flatMap(@Nonnull final Function<? super T, ? extends Result<? extends U>> mapper) {
+        Objects.requireNonNull(mapper);
+        if (failure == null) {
+            return Objects.requireNonNull((Result<U>) mapper.apply(value));
+        }
+        return failure(failure);
+    }
+
+    /**
+     * Converts this result to an {@link Optional}, which holds the value of this result, if succeeded and not {@code
+     * null}. Otherwise an empty {@code Optional} is returned.
+     *
+     * @return An {@code Optional} holding the value of this result, if succeeded and not {@code null}.
+     */
+    @Nonnull
+    public Optional<T> toOptional() {
+        return failure == null ? Optional.ofNullable(value) : Optional.empty();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof Result)) {
+            return false;
+        }
+        final Result<?> other = (Result<?>) obj;
+        return Objects.equals(value, other.value) && Objects.equals(failure, other.failure);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(value, failure);
+    }
+
+    @Override
+    public String toString() {
+        return failure == null ? "Success[" + value + "]" : "Failure[" + failure + "]";
+    }
+}
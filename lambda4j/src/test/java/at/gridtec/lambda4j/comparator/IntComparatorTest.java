@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.comparator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import at.gridtec.lambda4j.operator.binary.IntBinaryOperator2;
+
+import org.testng.annotations.Test;
+
+public class IntComparatorTest {
+
+    @Test
+    public void shouldSortAndSearchPrimitiveArraysWithPrimitiveComparator() {
+        final IntComparator comparator = Integer::compare;
+        final int[] array = new int[100];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = (i * 37) % array.length;
+        }
+        IntComparator.sort(array, comparator.reversed());
+        for (int i = 0; i < array.length; i++) {
+            assertThat(array[i]).isEqualTo(array.length - 1 - i);
+        }
+        assertThat(IntComparator.binarySearch(array, 42, comparator.reversed())).isEqualTo(57);
+        assertThat(IntComparator.binarySearch(array, 100, comparator.reversed())).isEqualTo(-1);
+        assertThat(IntBinaryOperator2.minBy(comparator).applyAsInt(3, 7)).isEqualTo(3);
+        assertThat(IntComparator.unboxed(comparator.boxed())).isSameAs(comparator);
+    }
+
+    @Test
+    public void shouldChooseLesserAndGreaterElementWithPrimitiveComparator() {
+        final IntComparator byAbsoluteValue = (value1, value2) -> Integer.compare(Math.abs(value1), Math.abs(value2));
+        final IntBinaryOperator2 min = IntBinaryOperator2.minBy(byAbsoluteValue);
+        final IntBinaryOperator2 max = IntBinaryOperator2.maxBy(byAbsoluteValue);
+        assertThat(min.applyAsInt(-7, 3)).isEqualTo(3);
+        assertThat(min.applyAsInt(3, -7)).isEqualTo(3);
+        assertThat(max.applyAsInt(-7, 3)).isEqualTo(-7);
+        assertThat(max.applyAsInt(3, -7)).isEqualTo(-7);
+        assertThat(IntBinaryOperator2.minBy(byAbsoluteValue.reversed()).applyAsInt(3, -7)).isEqualTo(-7);
+        assertThat(IntBinaryOperator2.maxBy(byAbsoluteValue.reversed()).applyAsInt(-7, 3)).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldChooseFirstElementOnTieWithPrimitiveComparator() {
+        final IntComparator byAbsoluteValue = (value1, value2) -> Integer.compare(Math.abs(value1), Math.abs(value2));
+        // Like BinaryOperator.minBy and maxBy, the first operand is returned if both are equal
+        assertThat(IntBinaryOperator2.minBy(byAbsoluteValue).applyAsInt(-3, 3)).isEqualTo(-3);
+        assertThat(IntBinaryOperator2.minBy(byAbsoluteValue).applyAsInt(3, -3)).isEqualTo(3);
+        assertThat(IntBinaryOperator2.maxBy(byAbsoluteValue).applyAsInt(-3, 3)).isEqualTo(-3);
+        assertThat(IntBinaryOperator2.maxBy(byAbsoluteValue).applyAsInt(3, -3)).isEqualTo(3);
+    }
+}
@@ -19,9 +19,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import at.gridtec.lambda4j.Lambda;
 import at.gridtec.lambda4j.consumer.Consumer2;
+import at.gridtec.lambda4j.function.bi.BiFunction2;
+import at.gridtec.lambda4j.predicate.Predicate2;
 
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.concurrent.atomic.AtomicInteger;
 
 @SuppressWarnings("ConstantConditions")
@@ -169,4 +176,173 @@ public class Function2Test {
         assertThat(lambda instanceof Lambda.Memoized).isFalse();
         assertThat(memoized instanceof Lambda.Memoized).isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldKeepMemoizedValuesWhenSerializedWithCache() throws IOException, ClassNotFoundException {
+        final AtomicInteger counter = new AtomicInteger(0);
+        final Function2<Integer, Integer> memoized = Function2.<Integer, Integer>of(i -> i + counter.incrementAndGet())
+                .memoized(true);
+        assertThat(memoized.apply(1)).isEqualTo(2);
+        final Function2<Integer, Integer> deserialized = serializeAndDeserialize(memoized);
+        assertThat(deserialized instanceof Lambda.Memoized).isTrue();
+        // Should return memoized value from snapshot instead of computing it again
+        assertThat(deserialized.apply(1)).isEqualTo(2);
+        assertThat(deserialized.apply(2)).isEqualTo(4);
+    }
+
+    @Test
+    public void shouldStartWithEmptyCacheWhenSerializedWithoutCache() throws IOException, ClassNotFoundException {
+        final AtomicInteger counter = new AtomicInteger(0);
+        final Function2<Integer, Integer> memoized = Function2.<Integer, Integer>of(i -> i + counter.incrementAndGet())
+                .memoized();
+        assertThat(memoized.apply(1)).isEqualTo(2);
+        final Function2<Integer, Integer> deserialized = serializeAndDeserialize(memoized);
+        // Should compute value again as no memoized values have been written
+        assertThat(deserialized.apply(1)).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldFuseComposedFunctionsIntoSingleChain() {
+        Function2<Integer, Integer> function = Function2.of(i -> i + 1);
+        for (int i = 0; i < 31; i++) {
+            function = function.andThen(j -> j + 1);
+        }
+        final Function2<String, Integer> composed = function.<String>compose(Integer::parseInt).andThen(
+                Function2.<Integer, Integer>of(i -> i * 2).andThen(i -> i - 1));
+        assertThat(composed.apply("0")).isEqualTo(63);
+        assertThat(composed).isInstanceOf(FusedFunction.class);
+        assertThat(((FusedFunction<?, ?>) composed).length()).isEqualTo(35);
+    }
+
+    @Test
+    public void shouldApplyFunctionsOfShortAndLongChainsInOrder() {
+        Function2<String, String> function = Function2.of(s -> s + 0);
+        String expected = "0";
+        for (int i = 1; i <= FusedFunction.MAX_UNROLLED_STAGES + 1; i++) {
+            final int stage = i;
+            function = function.andThen(s -> s + stage);
+            expected += stage;
+            assertThat(function.apply("")).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void shouldCompileComposedFunctionsIntoMethodHandle() {
+        final Function2<String, Integer> function = Function2.of(Integer::parseInt);
+        final Function2<String, Integer> composed = function.andThen(i -> i + 1).andThen(i -> i * 2);
+        final Function2<String, Integer> compiled = composed.compile();
+        assertThat(compiled).isInstanceOf(CompiledFunction.class);
+        assertThat(compiled.compile()).isSameAs(compiled);
+        assertThat(compiled.apply("20")).isEqualTo(42);
+        try {
+            compiled.apply("foo");
+            throw new AssertionError("Expected " + NumberFormatException.class.getSimpleName());
+        } catch (NumberFormatException ignored) {
+        }
+        assertThat(compiled.andThen(i -> i - 2).apply("20")).isEqualTo(40);
+        assertThat(function.compile()).isSameAs(function);
+    }
+
+    @Test
+    public void shouldSerializeCompiledFunctionAsItsUncompiledChain() throws IOException, ClassNotFoundException {
+        final Function2<String, Integer> composed = Function2.<String, Integer>of(Integer::parseInt)
+                .andThen(Function2.<Integer, Integer>of(i -> i + 1))
+                .andThen(Function2.<Integer, Integer>of(i -> i * 2));
+        final Function2<String, Integer> compiled = composed.compile();
+        final Function2<String, Integer> deserialized = serializeAndDeserialize(compiled);
+        assertThat(deserialized).isInstanceOf(FusedFunction.class);
+        assertThat(deserialized.apply("20")).isEqualTo(42);
+        assertThat(deserialized.compile().apply("20")).isEqualTo(42);
+        final Function2<Integer, Integer> pure = (Function2<Integer, Integer> & Lambda.Pure) i -> i + 1;
+        final Function2<Integer, Integer> compiledPure = pure.andThen(pure).compile();
+        assertThat(compiledPure.isPure()).isTrue();
+        final Function2<Integer, Integer> deserializedPure = serializeAndDeserialize(compiledPure);
+        assertThat(deserializedPure).isInstanceOf(FusedFunction.class);
+        assertThat(deserializedPure.isPure()).isTrue();
+        assertThat(deserializedPure.apply(40)).isEqualTo(42);
+    }
+
+    @Test
+    public void shouldPropagateCharacteristicsThroughCompositions() {
+        final Function2<String, Integer> pure = (Function2<String, Integer> & Lambda.Pure) String::length;
+        final Function2<Integer, Integer> threadSafe = (Function2<Integer, Integer> & Lambda.ThreadSafe) i -> i + 1;
+        final Function2<Integer, Integer> plain = i -> i * 2;
+        assertThat(pure.andThen((Function2<Integer, Integer> & Lambda.Pure) i -> i + 1).isPure()).isTrue();
+        assertThat(pure.andThen(threadSafe).isPure()).isFalse();
+        assertThat(pure.andThen(threadSafe).isThreadSafe()).isTrue();
+        assertThat(pure.andThen(threadSafe).compile().isThreadSafe()).isTrue();
+        assertThat(pure.andThen(plain).isThreadSafe()).isFalse();
+    }
+
+    @Test
+    public void shouldSimplifyCompositionsWithIdentityAndConstantFunctions() {
+        final Function2<String, Integer> function = String::length;
+        assertThat(Function2.<String>identity().andThen(function)).isSameAs(function);
+        assertThat(function.compose(Function2.identity())).isSameAs(function);
+        final Function2<Object, Integer> constant = Function2.<Object, String>constant("foo").andThen(
+                (Function2<String, Integer> & Lambda.Pure) String::length);
+        assertThat(constant.isPure()).isTrue();
+        assertThat(constant.apply(null)).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldApplyPureFunctionComposedWithConstantFunctionOnlyOnceWhenApplied() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Function2<String, Integer> parse = (Function2<String, Integer> & Lambda.Pure) s -> {
+            calls.incrementAndGet();
+            return Integer.parseInt(s);
+        };
+        final Function2<Object, Integer> composed = Function2.<Object, String>constant("foo").andThen(parse);
+        assertThat(calls.get()).isZero();
+        try {
+            composed.apply(null);
+            throw new AssertionError("Expected " + NumberFormatException.class.getSimpleName());
+        } catch (NumberFormatException ignored) {
+        }
+        final Function2<Object, Integer> folded = Function2.<Object, String>constant("42").andThen(parse);
+        assertThat(folded.apply(null)).isEqualTo(42);
+        assertThat(folded.apply("bar")).isEqualTo(42);
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldApplyPureFunctionReturningNullComposedWithConstantFunctionOnlyOnce() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Function2<String, String> blankToNull = (Function2<String, String> & Lambda.Pure) s -> {
+            calls.incrementAndGet();
+            return s.trim().isEmpty() ? null : s;
+        };
+        final Function2<Object, String> folded = Function2.<Object, String>constant(" ").andThen(blankToNull);
+        assertThat(folded.apply(null)).isNull();
+        assertThat(folded.apply("foo")).isNull();
+        assertThat(calls.get()).isEqualTo(1);
+        final Function2<Object, String> composed = blankToNull.compose(Function2.constant(""));
+        assertThat(composed.apply(null)).isNull();
+        assertThat(composed.apply("foo")).isNull();
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldSimplifyCompositionsWithConstantNegatedAndReversedPredicates() {
+        final Predicate2<String> predicate = String::isEmpty;
+        assertThat(Predicate2.<String>alwaysTrue().and(predicate)).isSameAs(predicate);
+        assertThat(Predicate2.<String>alwaysFalse().or(predicate)).isSameAs(predicate);
+        assertThat(predicate.and(Predicate2.alwaysTrue())).isSameAs(predicate);
+        assertThat(predicate.negate().negate()).isSameAs(predicate);
+        assertThat(predicate.negate().test("")).isFalse();
+        final BiFunction2<String, Integer, String> function = String::substring;
+        assertThat(function.reversed().reversed()).isSameAs(function);
+        assertThat(function.reversed().apply(1, "foo")).isEqualTo("oo");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T serializeAndDeserialize(final T object) throws IOException, ClassNotFoundException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (T) in.readObject();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import at.gridtec.lambda4j.Lambda;
+import at.gridtec.lambda4j.core.util.DerivedView;
+
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class IntFunction2Test {
+
+    @Test
+    public void shouldReturnOriginalLambdaWhenUnboxingBoxedLambda() {
+        final IntFunction2<String> primitive = Integer::toString;
+        final Function2<Integer, String> boxed = primitive.boxed();
+        assertThat(IntFunction2.unboxed(boxed)).isSameAs(primitive);
+        final Function2<Integer, String> other = value -> "#" + value;
+        final IntFunction2<String> unboxed = IntFunction2.unboxed(other);
+        assertThat(unboxed.apply(1)).isEqualTo("#1");
+        assertThat(unboxed.boxed()).isSameAs(other);
+    }
+
+    @Test
+    public void shouldUnwrapBoxedLambdaWhenSerialized() throws IOException, ClassNotFoundException {
+        final IntFunction2<String> primitive = IntFunction2.of(Integer::toString);
+        final Function2<Integer, String> deserialized = serializeAndDeserialize(primitive.boxed());
+        assertThat(deserialized.apply(42)).isEqualTo("42");
+        // Should unwrap the deserialized source instead of wrapping the deserialized view again
+        final IntFunction2<String> unboxed = IntFunction2.unboxed(deserialized);
+        assertThat(unboxed).isSameAs(((DerivedView) deserialized).getSource());
+        assertThat(unboxed.apply(-1)).isEqualTo("-1");
+    }
+
+    @Test
+    public void shouldKeepMemoizedValuesOfIntKeysWhenSerializedWithCache() throws IOException, ClassNotFoundException {
+        final AtomicInteger counter = new AtomicInteger(0);
+        final IntFunction2<String> memoized = IntFunction2.<String>of(value -> value + "#" + counter.incrementAndGet())
+                .memoized(true);
+        assertThat(memoized.apply(-1)).isEqualTo("-1#1");
+        assertThat(memoized.apply(Integer.MAX_VALUE)).isEqualTo(Integer.MAX_VALUE + "#2");
+        final IntFunction2<String> deserialized = serializeAndDeserialize(memoized);
+        assertThat(deserialized instanceof Lambda.Memoized).isTrue();
+        // Should return memoized values from snapshot instead of computing them again
+        assertThat(deserialized.apply(-1)).isEqualTo("-1#1");
+        assertThat(deserialized.apply(Integer.MAX_VALUE)).isEqualTo(Integer.MAX_VALUE + "#2");
+        assertThat(deserialized.apply(0)).isEqualTo("0#3");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T serializeAndDeserialize(final T object) throws IOException, ClassNotFoundException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (T) in.readObject();
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import at.gridtec.lambda4j.core.exception.StacklessThrownByFunctionalInterfaceException;
+import at.gridtec.lambda4j.core.exception.ThrownByFunctionalInterfaceException;
+import at.gridtec.lambda4j.core.recovery.RecoveryTable;
+import at.gridtec.lambda4j.core.util.ThrowableUtils;
+import at.gridtec.lambda4j.function.conversion.ThrowableIntToLongFunction;
+import at.gridtec.lambda4j.function.to.ThrowableToDoubleFunction;
+import at.gridtec.lambda4j.function.to.ThrowableToIntFunction;
+import at.gridtec.lambda4j.result.DoubleResult;
+import at.gridtec.lambda4j.result.IntResult;
+import at.gridtec.lambda4j.result.LongResult;
+import at.gridtec.lambda4j.result.Result;
+
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import java.io.EOFException;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.function.Function;
+
+@SuppressWarnings("ConstantConditions")
+public class ThrowableFunctionTest {
+
+    private static final int ITERATIONS = 100_000;
+
+    @Test
+    public void shouldReturnResultWhenAppliedAsJdkFunction() {
+        final Function<String, String> function = ThrowableFunction.<String, String, IOException>of(s -> s + "!");
+        assertThat(function.apply("foo")).isEqualTo("foo!");
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void shouldRethrowRuntimeExceptionAsIsWhenAppliedAsJdkFunction() {
+        final ThrowableFunction<String, String, IOException> function = s -> {
+            throw new IllegalStateException(s);
+        };
+        function.apply("foo");
+    }
+
+    @Test
+    public void shouldWrapCheckedExceptionWhenAppliedAsJdkFunction() {
+        final IOException exception = new IOException("foo");
+        final ThrowableFunction<String, String, IOException> function = s -> {
+            throw exception;
+        };
+        try {
+            function.apply("foo");
+        } catch (ThrownByFunctionalInterfaceException e) {
+            assertThat(e.getCause()).isSameAs(exception);
+            return;
+        }
+        throw new AssertionError("Expected " + ThrownByFunctionalInterfaceException.class.getName());
+    }
+
+    @Test
+    public void shouldFillInStackTraceWhenNestedWithStackTraceEnabled() {
+        final IOException exception = new IOException("foo");
+        final ThrownByFunctionalInterfaceException nested = nestWithStackTraceEnabled(exception, true);
+        assertThat(nested).isNotInstanceOf(StacklessThrownByFunctionalInterfaceException.class);
+        assertThat(nested.getCause()).isSameAs(exception);
+        assertThat(nested.getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    public void shouldNotFillInStackTraceWhenNestedWithStackTraceDisabled() {
+        final IOException exception = new IOException("foo");
+        final ThrownByFunctionalInterfaceException nested = nestWithStackTraceEnabled(exception, false);
+        assertThat(nested).isInstanceOf(StacklessThrownByFunctionalInterfaceException.class);
+        assertThat(nested.getCause()).isSameAs(exception);
+        assertThat(nested.getMessage()).isEqualTo("foo");
+        assertThat(nested.getStackTrace()).isEmpty();
+    }
+
+    @Test
+    public void shouldRecoverByNearestRegisteredClassWhenRecoveredWithRecoveryTable() {
+        final Function<String, String> fileFallback = s -> "file";
+        final Function<String, String> ioFallback = s -> "io";
+        final RecoveryTable<Function<String, String>> table = RecoveryTable.<Function<String, String>>builder()
+                .on(FileNotFoundException.class, fileFallback)
+                .on(IOException.class, ioFallback)
+                .build();
+        final Function2<String, String> recovered = ThrowableFunction.<String, String, IOException>of(s -> {
+            throw s.isEmpty() ? new FileNotFoundException(s) : new EOFException(s);
+        }).recover(table);
+        assertThat(recovered.apply("")).isEqualTo("file");
+        assertThat(recovered.apply("foo")).isEqualTo("io");
+        // Should return the same fallback instance when resolved again for the same class
+        assertThat(table.lookup(EOFException.class)).isSameAs(ioFallback);
+    }
+
+    @Test(expectedExceptions = ClassNotFoundException.class)
+    public void shouldRethrowThrowableWhenRecoveryTableHasNoFallback() {
+        final RecoveryTable<Function<String, String>> table = RecoveryTable.<Function<String, String>>builder()
+                .on(IOException.class, s -> "io")
+                .build();
+        ThrowableFunction.<String, String, ClassNotFoundException>of(s -> {
+            throw new ClassNotFoundException(s);
+        }).recover(table).apply("foo");
+    }
+
+    @Test
+    public void shouldReturnResultInsteadOfThrowingWhenAttempted() {
+        final ThrowableToIntFunction<String, NumberFormatException> parse = Integer::parseInt;
+        final Function2<String, IntResult> attempt = parse.attempt();
+        assertThat(attempt.apply("42").getAsInt()).isEqualTo(42);
+        final IntResult failure = attempt.apply("foo");
+        assertThat(failure.isFailure()).isTrue();
+        assertThat(failure.getFailure()).isInstanceOf(NumberFormatException.class);
+        // Failed results are composed without applying the mapper
+        assertThat(failure.map(i -> i + 1).orElse(-1)).isEqualTo(-1);
+        final Result<String> composed = attempt.apply("42").mapToObj(i -> i + 1)
+                .flatMap(ThrowableFunction.<Integer, String, Exception>of(String::valueOf).attempt());
+        assertThat(composed.get()).isEqualTo("43");
+    }
+
+    @Test
+    public void shouldReturnPrimitiveResultInsteadOfThrowingWhenAttempted() {
+        final ThrowableToDoubleFunction<String, NumberFormatException> parse = Double::parseDouble;
+        final Function2<String, DoubleResult> attemptParse = parse.attempt();
+        assertThat(attemptParse.apply("0.5").getAsDouble()).isEqualTo(0.5);
+        assertThat(attemptParse.apply("foo").getFailure()).isInstanceOf(NumberFormatException.class);
+        final ThrowableIntToLongFunction<ArithmeticException> negate = Math::negateExact;
+        final IntFunction2<LongResult> attemptNegate = negate.attempt();
+        assertThat(attemptNegate.apply(Integer.MAX_VALUE).getAsLong()).isEqualTo(-Integer.MAX_VALUE);
+        final LongResult failure = attemptNegate.apply(Integer.MIN_VALUE);
+        assertThat(failure.getFailure()).isInstanceOf(ArithmeticException.class);
+        assertThat(failure.orElse(Long.MAX_VALUE)).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test(expectedExceptions = StackOverflowError.class)
+    public void shouldRethrowErrorWhenAttempted() {
+        final ThrowableToIntFunction<String, Exception> overflow = value -> {
+            throw new StackOverflowError();
+        };
+        overflow.attempt().apply("foo");
+    }
+
+    @Test
+    public void shouldNotAllocateWhenAppliedAsJdkFunctionWithoutThrowable() {
+        final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            throw new SkipException("Thread allocation measurement is not supported by this JVM");
+        }
+        final com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        if (!threadBean.isThreadAllocatedMemorySupported() || !threadBean.isThreadAllocatedMemoryEnabled()) {
+            throw new SkipException("Thread allocation measurement is not enabled in this JVM");
+        }
+        final Function<String, String> function = ThrowableFunction.<String, String, IOException>of(s -> s);
+        final long threadId = Thread.currentThread().getId();
+        final String input = "foo";
+        // Warm up, so that class loading and measurement itself do not count
+        applyRepeatedly(function, input);
+        threadBean.getThreadAllocatedBytes(threadId);
+        final long before = threadBean.getThreadAllocatedBytes(threadId);
+        applyRepeatedly(function, input);
+        final long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+        // Allow some slack for the measurement, but far less than a single object per call
+        assertThat(allocated).isLessThan(ITERATIONS);
+    }
+
+    private static ThrownByFunctionalInterfaceException nestWithStackTraceEnabled(final IOException exception,
+            final boolean enabled) {
+        final ThrowableFunction<String, String, IOException> function = s -> {
+            throw exception;
+        };
+        final boolean previous = ThrowableUtils.isStackTraceEnabled();
+        ThrowableUtils.setStackTraceEnabled(enabled);
+        try {
+            function.nest().apply("foo");
+        } catch (ThrownByFunctionalInterfaceException e) {
+            return e;
+        } finally {
+            ThrowableUtils.setStackTraceEnabled(previous);
+        }
+        throw new AssertionError("Expected " + ThrownByFunctionalInterfaceException.class.getName());
+    }
+
+    private static void applyRepeatedly(final Function<String, String> function, final String input) {
+        for (int i = 0; i < ITERATIONS; i++) {
+            if (function.apply(input) != input) {
+                throw new AssertionError("Unexpected result");
+            }
+        }
+    }
+}
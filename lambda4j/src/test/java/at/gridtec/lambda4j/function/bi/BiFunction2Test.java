@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.function.bi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import at.gridtec.lambda4j.Lambda;
+import at.gridtec.lambda4j.function.Function2;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BiFunction2Test {
+
+    @Test
+    public void shouldPropagateCharacteristicsThroughCompositions() {
+        final BiFunction2<String, Integer, String> substring = (BiFunction2<String, Integer, String> & Lambda.Pure)
+                String::substring;
+        final Function2<String, Integer> pure = (Function2<String, Integer> & Lambda.Pure) String::length;
+        final Function2<String, Integer> threadSafe = (Function2<String, Integer> & Lambda.ThreadSafe) String::length;
+        assertThat(substring.andThen(pure).isPure()).isTrue();
+        assertThat(substring.andThen(threadSafe).isPure()).isFalse();
+        assertThat(substring.andThen(threadSafe).isThreadSafe()).isTrue();
+        assertThat(substring.compose(Function2.constant("foo"), Function2.constant(1)).apply(null, null))
+                .isEqualTo("oo");
+        assertThat(substring.compose(Function2.constant("foo"), Function2.constant(1)).isPure()).isTrue();
+    }
+
+    @Test
+    public void shouldApplyBeforeFunctionsConcurrentlyWhenComposedInParallel() {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Thread caller = Thread.currentThread();
+            final BiFunction2<String, Integer, String> substring = String::substring;
+            final BiFunction2<String, String, String> composed = substring.composeParallel(executor, s -> s, s -> {
+                assertThat(Thread.currentThread()).isNotSameAs(caller);
+                return Integer.parseInt(s);
+            });
+            assertThat(composed.apply("foo", "1")).isEqualTo("oo");
+            assertThat(substring.<String, String>composeParallelAsync(executor, s -> s, Integer::parseInt)
+                               .apply("foo", "2")
+                               .join()).isEqualTo("o");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldRelayExceptionOfBeforeFunctionAppliedByExecutorUnwrappedWhenComposedInParallel() {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final BiFunction2<String, Integer, String> substring = String::substring;
+            final BiFunction2<String, String, String> composed = substring.composeParallel(executor, s -> s,
+                    Integer::parseInt);
+            try {
+                composed.apply("foo", "bar");
+            } catch (NumberFormatException e) {
+                return;
+            }
+            throw new AssertionError("Expected " + NumberFormatException.class.getSimpleName());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldCancelPendingBeforeFunctionsWhenFirstBeforeFunctionFailsWhenComposedInParallel() {
+        final List<Runnable> tasks = new ArrayList<>();
+        final AtomicInteger calls = new AtomicInteger();
+        final BiFunction2<String, Integer, String> substring = String::substring;
+        final BiFunction2<String, String, String> composed = substring.composeParallel(tasks::add, s -> {
+            throw new IllegalStateException();
+        }, s -> {
+            calls.incrementAndGet();
+            return Integer.parseInt(s);
+        });
+        try {
+            composed.apply("foo", "1");
+            throw new AssertionError("Expected " + IllegalStateException.class.getSimpleName());
+        } catch (IllegalStateException e) {
+            tasks.forEach(Runnable::run);
+            assertThat(tasks).hasSize(1);
+            assertThat(calls.get()).isZero();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.function.conversion;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import at.gridtec.lambda4j.Lambda;
+
+import org.testng.annotations.Test;
+
+public class IntToLongFunction2Test {
+
+    @Test
+    public void shouldApplyFunctionToWholeArrayInParallel() {
+        final IntToLongFunction2 square = (IntToLongFunction2 & Lambda.ThreadSafe) value -> (long) value * value;
+        final int[] src = new int[100_003];
+        for (int i = 0; i < src.length; i++) {
+            src[i] = i;
+        }
+        final long[] sequential = new long[src.length];
+        final long[] parallel = new long[src.length];
+        square.applyAll(src, sequential);
+        square.parallelApplyAll(src, parallel, 1_000);
+        assertThat(parallel).isEqualTo(sequential);
+        assertThat(parallel[100_002]).isEqualTo(10_000_400_004L);
+    }
+}
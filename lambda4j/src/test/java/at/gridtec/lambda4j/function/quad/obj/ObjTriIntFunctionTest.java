@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.function.quad.obj;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.testng.annotations.Test;
+
+public class ObjTriIntFunctionTest {
+
+    @Test
+    public void shouldApplyFunctionToAllArgumentsWhenCalled() {
+        final ObjTriIntFunction<String, String> substring = (s, begin, end, repeat) -> {
+            final StringBuilder builder = new StringBuilder();
+            for (int i = 0; i < repeat; i++) {
+                builder.append(s, begin, end);
+            }
+            return builder.toString();
+        };
+        assertThat(ObjTriIntFunction.call(substring, "foobar", 1, 3, 2)).isEqualTo("oooo");
+        assertThat(substring.arity()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.operator.binary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import at.gridtec.lambda4j.Lambda;
+
+import org.testng.annotations.Test;
+
+public class DoubleBinaryOperator2Test {
+
+    @Test
+    public void shouldReduceArrayInParallelInChunkOrder() {
+        final DoubleBinaryOperator2 sum = (DoubleBinaryOperator2 & Lambda.ThreadSafe) (value1, value2) ->
+                value1 + value2;
+        final double[] fractions = new double[100_003];
+        for (int i = 0; i < fractions.length; i++) {
+            fractions[i] = 1.0 / (i + 1);
+        }
+        final int grainSize = 1_000;
+        // Reduce each chunk on its own and combine the results of the chunks in chunk order
+        double expected = 0.0;
+        for (int from = 0; from < fractions.length; from += grainSize) {
+            double chunk = 0.0;
+            for (int i = from; i < Math.min(from + grainSize, fractions.length); i++) {
+                chunk += fractions[i];
+            }
+            expected += chunk;
+        }
+        for (int run = 0; run < 10; run++) {
+            assertThat(sum.parallelReduce(fractions, 0.0, grainSize)).isEqualTo(expected);
+        }
+    }
+}
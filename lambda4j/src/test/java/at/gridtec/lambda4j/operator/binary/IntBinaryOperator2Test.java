@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.operator.binary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import at.gridtec.lambda4j.Lambda;
+
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class IntBinaryOperator2Test {
+
+    @Test
+    public void shouldApplyOperatorToZippedArraysUpToLengthOfTargetArray() {
+        final IntBinaryOperator2 add = (value1, value2) -> value1 + value2;
+        final int[] a = {1, 2, 3};
+        final int[] b = {10, 20, 30, 40};
+        final int[] sum = new int[a.length];
+        add.applyAll(a, b, sum);
+        assertThat(sum).containsExactly(11, 22, 33);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowOnZippedApplicationWithShorterSourceArray() {
+        final IntBinaryOperator2 add = (value1, value2) -> value1 + value2;
+        add.applyAll(new int[4], new int[3], new int[4]);
+    }
+
+    @Test
+    public void shouldCumulateArrayInParallelLikeSequentialScan() {
+        final IntBinaryOperator2 add = (IntBinaryOperator2 & Lambda.ThreadSafe) (value1, value2) -> value1 + value2;
+        for (final int length : new int[] {0, 1, 7, 1_000, 1_001, 10_007}) {
+            final int[] values = new int[length];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = (i * 7_919) % 10_007 - 5_000;
+            }
+            final int[] expected = values.clone();
+            for (int i = 1; i < expected.length; i++) {
+                expected[i] = expected[i - 1] + expected[i];
+            }
+            for (final int grainSize : new int[] {1, 3, 10, 64, 1_000, 20_000}) {
+                final int[] actual = values.clone();
+                add.parallelPrefix(actual, grainSize);
+                assertThat(actual).as("length %d, grain size %d", length, grainSize).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    public void shouldApplyOperatorInCallingThreadOnlyWhenNotThreadSafe() {
+        final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        final IntBinaryOperator2 add = (value1, value2) -> {
+            threads.add(Thread.currentThread());
+            return value1 + value2;
+        };
+        final int[] values = new int[10_000];
+        Arrays.fill(values, 1);
+        assertThat(add.parallelReduce(values, 0, 10)).isEqualTo(10_000);
+        add.parallelPrefix(values, 10);
+        assertThat(values[9_999]).isEqualTo(10_000);
+        assertThat(threads).containsExactly(Thread.currentThread());
+    }
+
+    @Test
+    public void shouldSplitIntoSmallerChunksByDefaultWhenExpensive() {
+        final AtomicInteger calls = new AtomicInteger();
+        final IntBinaryOperator2 add = (IntBinaryOperator2 & Lambda.ThreadSafe) (value1, value2) -> {
+            calls.incrementAndGet();
+            return value1 + value2;
+        };
+        final IntBinaryOperator2 expensiveAdd = (IntBinaryOperator2 & Lambda.ThreadSafe & Lambda.Expensive)
+                add::applyAsInt;
+        final int[] values = new int[1_000];
+        Arrays.fill(values, 1);
+        // Each chunk is reduced on its own, whose results are reduced once more
+        assertThat(add.parallelReduce(values, 0)).isEqualTo(1_000);
+        assertThat(calls.getAndSet(0)).isEqualTo(1_000 + 1);
+        assertThat(expensiveAdd.parallelReduce(values, 0)).isEqualTo(1_000);
+        assertThat(calls.get()).isEqualTo(1_000 + 16);
+    }
+
+    @Test
+    public void shouldKeepMemoizedValuesOfPairKeysWhenSerializedWithCache() throws IOException,
+            ClassNotFoundException {
+        final AtomicInteger counter = new AtomicInteger(0);
+        final IntBinaryOperator2 memoized = IntBinaryOperator2.of(
+                (value1, value2) -> value1 * value2 + counter.incrementAndGet()).memoized(true);
+        assertThat(memoized.applyAsInt(2, 3)).isEqualTo(7);
+        assertThat(memoized.applyAsInt(3, 2)).isEqualTo(8);
+        final IntBinaryOperator2 deserialized = deserialize(serialize(memoized));
+        assertThat(deserialized instanceof Lambda.Memoized).isTrue();
+        // Should return memoized values from snapshot instead of computing them again
+        assertThat(deserialized.applyAsInt(2, 3)).isEqualTo(7);
+        assertThat(deserialized.applyAsInt(3, 2)).isEqualTo(8);
+        assertThat(deserialized.applyAsInt(3, 4)).isEqualTo(15);
+    }
+
+    @Test
+    public void shouldWriteMemoizedValuesOfPairKeysAsPrimitives() throws IOException {
+        final IntBinaryOperator2 memoized = IntBinaryOperator2.of((value1, value2) -> value1 + value2).memoized(true);
+        final int emptySize = serialize(memoized).length;
+        final int entries = 100;
+        for (int i = 0; i < entries; i++) {
+            memoized.applyAsInt(i, -i);
+        }
+        // Each entry consists of two int keys and one int value, besides a few block data headers
+        assertThat(serialize(memoized).length - emptySize).isBetween(entries * 3 * Integer.BYTES,
+                                                                      entries * 3 * Integer.BYTES + 16);
+    }
+
+    private static byte[] serialize(final Object object) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        return bytes.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T deserialize(final byte[] bytes) throws IOException, ClassNotFoundException {
+        try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return (T) in.readObject();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.operator.binary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import at.gridtec.lambda4j.Lambda;
+
+import org.testng.annotations.Test;
+
+public class ShortBinaryOperatorTest {
+
+    @Test
+    public void shouldReduceArrayInParallelLikeSequentialReduction() {
+        final ShortBinaryOperator max = (ShortBinaryOperator & Lambda.ThreadSafe) (value1, value2) ->
+                (short) Math.max(value1, value2);
+        for (final int length : new int[] {0, 1, 7, 1_000, 1_001, 10_007}) {
+            final short[] values = new short[length];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = (short) ((i * 7_919) % 10_007);
+            }
+            final short expected = max.reduce(values, Short.MIN_VALUE);
+            for (final int grainSize : new int[] {1, 3, 10, 64, 1_000, 20_000}) {
+                assertThat(max.parallelReduce(values, Short.MIN_VALUE, grainSize))
+                        .as("length %d, grain size %d", length, grainSize)
+                        .isEqualTo(expected);
+            }
+        }
+    }
+}
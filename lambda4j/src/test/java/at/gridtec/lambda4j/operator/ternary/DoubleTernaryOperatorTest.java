@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.operator.ternary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import at.gridtec.lambda4j.Lambda;
+
+import org.testng.annotations.Test;
+
+public class DoubleTernaryOperatorTest {
+
+    @Test
+    public void shouldApplyOperatorToZippedArraysInParallel() {
+        final DoubleTernaryOperator fma = (DoubleTernaryOperator & Lambda.ThreadSafe) (value1, value2, value3) ->
+                value1 * value2 + value3;
+        final double[] x = new double[50_001];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = i;
+        }
+        final double[] sequential = new double[x.length];
+        final double[] parallel = new double[x.length];
+        fma.applyAll(x, x, x, sequential);
+        fma.parallelApplyAll(x, x, x, parallel, 1_000);
+        assertThat(parallel).isEqualTo(sequential);
+        assertThat(parallel[3]).isEqualTo(12.0);
+    }
+}
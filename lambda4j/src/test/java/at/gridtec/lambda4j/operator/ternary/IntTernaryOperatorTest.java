@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.operator.ternary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import at.gridtec.lambda4j.Lambda;
+
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class IntTernaryOperatorTest {
+
+    @Test
+    public void shouldKeepMemoizedValuesOfTripleKeysWhenSerializedWithCache() throws IOException,
+            ClassNotFoundException {
+        final AtomicInteger counter = new AtomicInteger(0);
+        final IntTernaryOperator memoized = IntTernaryOperator.of(
+                (value1, value2, value3) -> value1 * value2 - value3 + counter.incrementAndGet()).memoized(true);
+        assertThat(memoized.applyAsInt(2, 3, 4)).isEqualTo(3);
+        assertThat(memoized.applyAsInt(4, 3, 2)).isEqualTo(12);
+        final IntTernaryOperator deserialized = serializeAndDeserialize(memoized);
+        assertThat(deserialized instanceof Lambda.Memoized).isTrue();
+        // Should return memoized values from snapshot instead of computing them again
+        assertThat(deserialized.applyAsInt(2, 3, 4)).isEqualTo(3);
+        assertThat(deserialized.applyAsInt(4, 3, 2)).isEqualTo(12);
+        assertThat(deserialized.applyAsInt(Integer.MIN_VALUE, 1, 0)).isEqualTo(Integer.MIN_VALUE + 3);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T serializeAndDeserialize(final T object) throws IOException, ClassNotFoundException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (T) in.readObject();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.operator.unary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.testng.annotations.Test;
+
+public class ShortUnaryOperatorTest {
+
+    @Test
+    public void shouldApplyOperatorInPlaceToGivenRangeOnly() {
+        final ShortUnaryOperator negate = value -> (short) -value;
+        final short[] array = {1, 2, 3, 4};
+        negate.applyInPlace(array, 1, 3);
+        assertThat(array).containsExactly((short) 1, (short) -2, (short) -3, (short) 4);
+    }
+}
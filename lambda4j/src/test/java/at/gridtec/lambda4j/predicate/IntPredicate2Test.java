@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import at.gridtec.lambda4j.Lambda;
+
+import org.testng.annotations.Test;
+
+public class IntPredicate2Test {
+
+    @Test
+    public void shouldSelectFilterAndCountArray() {
+        final IntPredicate2 even = value -> value % 2 == 0;
+        final int[] values = {3, 4, 7, 8, 10, 11};
+        assertThat(even.count(values)).isEqualTo(3);
+        assertThat(even.select(values)).containsExactly(1, 3, 4);
+        assertThat(even.filter(values)).containsExactly(4, 8, 10);
+    }
+
+    @Test
+    public void shouldSelectFilterAndCountArrayInParallelLikeSequentially() {
+        final IntPredicate2 even = (IntPredicate2 & Lambda.ThreadSafe) value -> value % 2 == 0;
+        final int[] column = new int[10_007];
+        for (int i = 0; i < column.length; i++) {
+            column[i] = (i * 31) % 1_000;
+        }
+        assertThat(even.parallelCount(column, 100)).isEqualTo(even.count(column));
+        assertThat(even.parallelSelect(column, 100)).isEqualTo(even.select(column));
+        assertThat(even.parallelFilter(column, 100)).isEqualTo(even.filter(column));
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import at.gridtec.lambda4j.Lambda;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class Predicate2Test {
+
+    @Test
+    public void shouldEvaluateSelectivePredicatesFirstWhenAdaptiveAndIsPure() {
+        final AtomicInteger evaluations = new AtomicInteger();
+        final Predicate2<Integer> passing = (Predicate2<Integer> & Lambda.Pure) i -> evaluations.incrementAndGet() > 0;
+        final Predicate2<Integer> failing = (Predicate2<Integer> & Lambda.Pure) i -> i < 0;
+        final Predicate2<Integer> predicate = Predicate2.adaptiveAnd(passing, failing);
+        for (int i = 0; i < 100_000; i++) {
+            predicate.test(i);
+        }
+        evaluations.set(0);
+        for (int i = 0; i < 10_000; i++) {
+            predicate.test(i);
+        }
+        assertThat(evaluations.get()).isLessThan(1_000);
+        assertThat(predicate.test(-1)).isTrue();
+    }
+
+    @Test
+    public void shouldKeepGivenOrderWhenAdaptiveAndIsNotPure() {
+        final AtomicInteger evaluations = new AtomicInteger();
+        final Predicate2<Integer> passing = i -> evaluations.incrementAndGet() > 0;
+        final Predicate2<Integer> failing = i -> i < 0;
+        final Predicate2<Integer> predicate = Predicate2.adaptiveAnd(passing, failing);
+        for (int i = 0; i < 100_000; i++) {
+            predicate.test(i);
+        }
+        assertThat(evaluations.get()).isEqualTo(100_000);
+    }
+
+    @Test
+    public void shouldNotBeAffectedByModifyingGivenArrayAfterAdaptiveOr() {
+        final Predicate2<Integer> positive = i -> i > 0;
+        final Predicate2<Integer> negative = i -> i < 0;
+        @SuppressWarnings("unchecked")
+        final Predicate2<Integer>[] predicates = new Predicate2[] {positive, negative};
+        final Predicate2<Integer> predicate = Predicate2.adaptiveOr(predicates);
+        predicates[0] = negative;
+        assertThat(predicate.test(1)).isTrue();
+        assertThat(predicate.test(0)).isFalse();
+    }
+}
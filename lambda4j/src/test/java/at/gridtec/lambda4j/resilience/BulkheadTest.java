@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import at.gridtec.lambda4j.function.Function2;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class BulkheadTest {
+
+    @Test
+    public void shouldRejectCallWhenBulkheadIsFull() {
+        final Bulkhead bulkhead = Bulkhead.of(1);
+        final AtomicReference<Function2<Integer, Integer>> reference = new AtomicReference<>();
+        final Function2<Integer, Integer> function = Function2.<Integer, Integer>of(
+                depth -> depth == 0 ? 0 : reference.get().apply(depth - 1)).bulkhead(bulkhead);
+        reference.set(function);
+        assertThat(function.apply(0)).isEqualTo(0);
+        try {
+            function.apply(1);
+            throw new AssertionError("Expected call to be rejected");
+        } catch (CallNotPermittedException e) {
+            assertThat(bulkhead.getInFlight()).isEqualTo(0);
+        }
+    }
+
+    @Test
+    public void shouldAdjustAdaptiveBulkheadLimitFromLatency() {
+        final Bulkhead bulkhead = Bulkhead.adaptive(1, 10);
+        // The start times passed on release simulate the latencies, so the test does not depend on timing of sleeps
+        final long stableLatency = TimeUnit.MILLISECONDS.toNanos(5);
+        // Fully utilize the bulkhead with calls of stable latency, so its limit increases up to the highest limit
+        for (int round = 0; round < 10; round++) {
+            final int permits = bulkhead.getLimit();
+            for (int i = 0; i < permits; i++) {
+                bulkhead.acquirePermission();
+            }
+            for (int i = 0; i < permits; i++) {
+                bulkhead.releasePermission(System.nanoTime() - stableLatency);
+            }
+        }
+        assertThat(bulkhead.getLimit()).isEqualTo(10);
+        bulkhead.acquirePermission();
+        bulkhead.releasePermission(System.nanoTime() - stableLatency * 10);
+        assertThat(bulkhead.getLimit()).isEqualTo(9);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import at.gridtec.lambda4j.function.ThrowableFunction;
+
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CircuitBreakerTest {
+
+    @Test
+    public void shouldIgnoreOutcomeOfSlowCallPermittedBeforeHalfOpenTransition() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final CountDownLatch admitted = new CountDownLatch(1);
+            final CountDownLatch finish = new CountDownLatch(1);
+            final ThrowableFunction<String, String, IOException> function = s -> {
+                if (s.equals("slow")) {
+                    admitted.countDown();
+                    try {
+                        finish.await();
+                    } catch (InterruptedException e) {
+                        throw new InterruptedIOException(s);
+                    }
+                    return s;
+                }
+                throw new IOException(s);
+            };
+            final CircuitBreaker circuitBreaker = CircuitBreaker.of(CircuitBreakerConfig.builder()
+                    .slidingWindowSize(2)
+                    .minimumNumberOfCalls(2)
+                    .waitDurationInOpenState(Duration.ZERO)
+                    .permittedCallsInHalfOpenState(1)
+                    .build());
+            final ThrowableFunction<String, String, IOException> guarded = function.circuitBroken(circuitBreaker);
+            final Future<String> slow = executor.submit(() -> guarded.applyThrows("slow"));
+            assertThat(admitted.await(1, TimeUnit.MINUTES)).isTrue();
+            guarded.attempt().apply("foo");
+            guarded.attempt().apply("foo");
+            assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+            // The wait duration elapsed, so the only probe is permitted and the circuit breaker becomes half-open
+            final CircuitBreaker.Phase probe = circuitBreaker.tryAcquirePermission();
+            assertThat(probe).isNotNull();
+            assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+            // The slow call was permitted while closed, so its success must not count as successful probe
+            finish.countDown();
+            assertThat(slow.get(1, TimeUnit.MINUTES)).isEqualTo("slow");
+            assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+            assertThat(circuitBreaker.tryAcquirePermission()).isNull();
+            circuitBreaker.onSuccess(probe);
+            assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldIgnoreFailureOfStalePhase() {
+        final CircuitBreaker circuitBreaker = CircuitBreaker.of(CircuitBreakerConfig.builder()
+                .slidingWindowSize(1)
+                .minimumNumberOfCalls(1)
+                .waitDurationInOpenState(Duration.ZERO)
+                .build());
+        final CircuitBreaker.Phase closed = circuitBreaker.tryAcquirePermission();
+        circuitBreaker.onFailure(circuitBreaker.tryAcquirePermission(), new IOException());
+        final CircuitBreaker.Phase probe = circuitBreaker.tryAcquirePermission();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        circuitBreaker.onFailure(closed, new IOException());
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        circuitBreaker.onFailure(probe, new IOException());
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    public void shouldReleaseProbeWithoutCountingSuccessWhenThrowableIsNotRecorded() {
+        final CircuitBreaker circuitBreaker = CircuitBreaker.of(CircuitBreakerConfig.builder()
+                .slidingWindowSize(1)
+                .minimumNumberOfCalls(1)
+                .waitDurationInOpenState(Duration.ZERO)
+                .permittedCallsInHalfOpenState(1)
+                .recordOn(IOException.class)
+                .build());
+        circuitBreaker.onFailure(circuitBreaker.tryAcquirePermission(), new IOException());
+        final CircuitBreaker.Phase probe = circuitBreaker.tryAcquirePermission();
+        assertThat(circuitBreaker.tryAcquirePermission()).isNull();
+        circuitBreaker.onFailure(probe, new IllegalStateException());
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        // The probe was released, so another one is permitted in its place
+        final CircuitBreaker.Phase next = circuitBreaker.tryAcquirePermission();
+        assertThat(next).isSameAs(probe);
+        circuitBreaker.onSuccess(next);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void shouldFailFastWhenCircuitBreakerIsOpen() {
+        final AtomicInteger calls = new AtomicInteger();
+        final ThrowableFunction<String, String, IOException> function = s -> {
+            calls.incrementAndGet();
+            throw new IOException(s);
+        };
+        final CircuitBreaker circuitBreaker = CircuitBreaker.of(CircuitBreakerConfig.builder()
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(4)
+                .waitDurationInOpenState(Duration.ZERO)
+                .permittedCallsInHalfOpenState(1)
+                .build());
+        final ThrowableFunction<String, String, IOException> guarded = function.circuitBroken(circuitBreaker);
+        for (int i = 0; i < 4; i++) {
+            assertThat(guarded.attempt().apply("foo").isFailure()).isTrue();
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        // The wait duration elapsed, so a single probe is permitted, which fails and opens the circuit breaker again
+        assertThat(guarded.attempt().apply("foo").getFailure()).isInstanceOf(IOException.class);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(calls.get()).isEqualTo(5);
+    }
+
+    @Test
+    public void shouldRejectCallsUntilCircuitBreakerIsReset() throws IOException {
+        final CircuitBreaker circuitBreaker = CircuitBreaker.of(CircuitBreakerConfig.builder()
+                .slidingWindowSize(2)
+                .minimumNumberOfCalls(2)
+                .waitDurationInOpenState(Duration.ofHours(1))
+                .build());
+        circuitBreaker.onFailure(circuitBreaker.tryAcquirePermission(), new IOException());
+        circuitBreaker.onFailure(circuitBreaker.tryAcquirePermission(), new IOException());
+        final ThrowableFunction<String, String, IOException> guarded = ThrowableFunction.<String, String, IOException>of(
+                s -> s).circuitBroken(circuitBreaker);
+        assertThat(guarded.attempt().apply("foo").getFailure()).isInstanceOf(CallNotPermittedException.class);
+        circuitBreaker.reset();
+        assertThat(guarded.applyThrows("foo")).isEqualTo("foo");
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import at.gridtec.lambda4j.function.ThrowableFunction;
+
+import org.testng.annotations.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class HedgerTest {
+
+    @Test
+    public void shouldRecordLatencySeenByCallerWhenHedgeWins() throws Exception {
+        final ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            final AtomicInteger calls = new AtomicInteger();
+            final Hedger hedger = Hedger.of(Duration.ofMillis(50), 1, executor);
+            final String result = hedger.call(() -> {
+                if (calls.incrementAndGet() == 1) {
+                    Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                }
+                return "foo";
+            });
+            assertThat(result).isEqualTo("foo");
+            assertThat(hedger.getHedges()).isEqualTo(1);
+            // The hedge itself completes immediately, but the caller waited at least for the hedging delay
+            assertThat(hedger.getLatencies().getPercentile(1.0)).isGreaterThanOrEqualTo(Duration.ofMillis(50));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldReturnResultOfHedgeWhenFirstCallIsSlow() throws Exception {
+        final ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            final AtomicInteger calls = new AtomicInteger();
+            final CountDownLatch cancelled = new CountDownLatch(1);
+            final ThrowableFunction<String, String, IOException> function = s -> {
+                if (calls.incrementAndGet() == 1) {
+                    try {
+                        Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                    } catch (InterruptedException e) {
+                        cancelled.countDown();
+                    }
+                    return "slow";
+                }
+                return s;
+            };
+            final Hedger hedger = Hedger.of(Duration.ofMillis(10), 1, executor);
+            assertThat(function.hedged(hedger).applyThrows("foo")).isEqualTo("foo");
+            assertThat(cancelled.await(1, TimeUnit.MINUTES)).isTrue();
+            assertThat(hedger.getHedges()).isEqualTo(1);
+            assertThat(hedger.getLatencies().getCount()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(expectedExceptions = EOFException.class)
+    public void shouldRethrowLastThrowableWhenAllHedgesFail() throws IOException {
+        final ThrowableFunction<String, String, IOException> function = s -> {
+            throw new EOFException(s);
+        };
+        function.hedged(Duration.ofMinutes(1), 2, Runnable::run).applyThrows("foo");
+    }
+}
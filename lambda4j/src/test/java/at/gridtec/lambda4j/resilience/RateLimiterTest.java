@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import at.gridtec.lambda4j.consumer.Consumer2;
+import at.gridtec.lambda4j.core.exception.ThrownByFunctionalInterfaceException;
+import at.gridtec.lambda4j.predicate.Predicate2;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class RateLimiterTest {
+
+    @Test
+    public void shouldDropInputWhenRateLimitIsExceeded() {
+        final List<String> accepted = new ArrayList<>();
+        final Predicate2<String> consumer = Consumer2.<String>of(accepted::add).rateLimitedOrDrop(RateLimiter.of(0.001));
+        assertThat(consumer.test("foo")).isTrue();
+        assertThat(consumer.test("bar")).isFalse();
+        assertThat(accepted).containsExactly("foo");
+    }
+
+    @Test
+    public void shouldGiveReservedPermitBackWhenInterruptedWhileWaiting() throws InterruptedException {
+        // One permit every 500 milliseconds, so a second permit is only available 500 milliseconds after the first one
+        final RateLimiter rateLimiter = RateLimiter.of(2.0);
+        final long start = System.nanoTime();
+        rateLimiter.acquire();
+        final AtomicReference<Throwable> thrown = new AtomicReference<>();
+        final Thread waiting = new Thread(() -> {
+            try {
+                rateLimiter.acquire();
+            } catch (ThrownByFunctionalInterfaceException e) {
+                thrown.set(e);
+            }
+        });
+        waiting.start();
+        while (waiting.getState() != Thread.State.TIMED_WAITING) {
+            Thread.yield();
+        }
+        waiting.interrupt();
+        waiting.join(TimeUnit.MINUTES.toMillis(1));
+        assertThat(thrown.get()).hasCauseInstanceOf(InterruptedException.class);
+        // The interrupted thread gave its permit back, so this permit is the one 500 milliseconds after the first one
+        rateLimiter.acquire();
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.MILLISECONDS.toNanos(900));
+    }
+
+    @Test
+    public void shouldKeepPermitConsumedWhenInterruptedWhileLaterPermitIsReserved() throws InterruptedException {
+        // One permit every 200 milliseconds, so the n-th waiting permit is available n * 200 milliseconds after start
+        final RateLimiter rateLimiter = RateLimiter.of(5.0);
+        final long start = System.nanoTime();
+        rateLimiter.acquire();
+        final Thread interrupted = new Thread(() -> {
+            try {
+                rateLimiter.acquire();
+            } catch (ThrownByFunctionalInterfaceException ignored) {
+            }
+        });
+        final Thread later = new Thread(rateLimiter::acquire);
+        interrupted.start();
+        while (interrupted.getState() != Thread.State.TIMED_WAITING) {
+            Thread.yield();
+        }
+        later.start();
+        while (later.getState() != Thread.State.TIMED_WAITING) {
+            Thread.yield();
+        }
+        interrupted.interrupt();
+        interrupted.join(TimeUnit.MINUTES.toMillis(1));
+        // The later thread already reserved the permit after the interrupted one, so this permit is the third one
+        rateLimiter.acquire();
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+        later.join(TimeUnit.MINUTES.toMillis(1));
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import at.gridtec.lambda4j.function.ThrowableFunction;
+
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RetryPolicyTest {
+
+    @Test
+    public void shouldRetryUntilSuccessWhenRetriedWithPolicy() throws IOException {
+        final AtomicInteger attempts = new AtomicInteger(0);
+        final ThrowableFunction<String, String, IOException> function = s -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new IOException(s);
+            }
+            return s;
+        };
+        final RetryPolicy policy = RetryPolicy.builder().maxAttempts(3).backoff(Duration.ZERO, 1.0, Duration.ZERO)
+                .build();
+        assertThat(function.retry(policy).applyThrows("foo")).isEqualTo("foo");
+        assertThat(attempts.get()).isEqualTo(3);
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void shouldThrowLastThrowableWhenRetriesAreExhausted() throws IOException {
+        final ThrowableFunction<String, String, IOException> function = s -> {
+            throw new IOException(s);
+        };
+        final RetryPolicy policy = RetryPolicy.builder().maxAttempts(2).backoff(Duration.ZERO, 1.0, Duration.ZERO)
+                .build();
+        function.retry(policy).applyThrows("foo");
+    }
+
+    @Test
+    public void shouldCompleteWithResultWhenRetriedAsync() {
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            final AtomicInteger attempts = new AtomicInteger(0);
+            final ThrowableFunction<String, String, IOException> function = s -> {
+                if (attempts.incrementAndGet() < 3) {
+                    throw new IOException(s);
+                }
+                return s;
+            };
+            final RetryPolicy policy = RetryPolicy.builder().maxAttempts(3).backoff(Duration.ZERO, 1.0, Duration.ZERO)
+                    .build();
+            assertThat(function.retryAsync(policy, scheduler).apply("foo").join()).isEqualTo("foo");
+            assertThat(attempts.get()).isEqualTo(3);
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldCompleteExceptionallyWhenAsyncRetriesAreExhausted() {
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            final ThrowableFunction<String, String, IOException> function = s -> {
+                throw new IOException(s);
+            };
+            final RetryPolicy policy = RetryPolicy.builder().maxAttempts(2).backoff(Duration.ZERO, 1.0, Duration.ZERO)
+                    .build();
+            final CompletableFuture<String> future = function.retryAsync(policy, scheduler).apply("foo");
+            try {
+                future.join();
+                throw new AssertionError("Expected " + CompletionException.class.getSimpleName());
+            } catch (CompletionException e) {
+                assertThat(e).hasCauseInstanceOf(IOException.class);
+            }
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldCompleteExceptionallyWhenSchedulerRejectsRetry() {
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        final IOException failure = new IOException("foo");
+        final RetryPolicy policy = RetryPolicy.builder().maxAttempts(3).backoff(Duration.ZERO, 1.0, Duration.ZERO)
+                .build();
+        final CompletableFuture<String> future = policy.executeAsync(() -> {
+            scheduler.shutdown();
+            throw failure;
+        }, scheduler);
+        try {
+            future.join();
+            throw new AssertionError("Expected " + CompletionException.class.getSimpleName());
+        } catch (CompletionException e) {
+            assertThat(e).hasCauseInstanceOf(RejectedExecutionException.class);
+            assertThat(e.getCause().getSuppressed()).containsExactly(failure);
+        }
+    }
+
+    @Test
+    public void shouldCompleteExceptionallyWhenSchedulerIsShutDown() {
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        scheduler.shutdown();
+        final CompletableFuture<String> future = RetryPolicy.builder().build().executeAsync(() -> "foo", scheduler);
+        assertThat(future.isCompletedExceptionally()).isTrue();
+    }
+
+    @Test
+    public void shouldNotRetryWhenRetryBudgetIsExhausted() {
+        final RetryPolicy policy = RetryPolicy.builder()
+                .maxAttempts(10)
+                .budget(RetryBudget.of(0.001, 2))
+                .build();
+        assertThat(policy.isRetryable(new IOException(), 1)).isTrue();
+        assertThat(policy.isRetryable(new IOException(), 1)).isTrue();
+        assertThat(policy.isRetryable(new IOException(), 1)).isFalse();
+    }
+
+    @Test
+    public void shouldNotWithdrawFromRetryBudgetWhenThrowableIsNotRetried() {
+        final RetryBudget budget = RetryBudget.of(0.001, 1);
+        final RetryPolicy policy = RetryPolicy.builder().maxAttempts(2).retryOn(IOException.class).budget(budget)
+                .build();
+        assertThat(policy.isRetryable(new IllegalStateException(), 1)).isFalse();
+        assertThat(policy.isRetryable(new IOException(), 2)).isFalse();
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isFalse();
+    }
+}
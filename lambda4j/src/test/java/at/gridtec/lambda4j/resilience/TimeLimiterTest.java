@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import at.gridtec.lambda4j.function.ThrowableFunction;
+
+import org.testng.annotations.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class TimeLimiterTest {
+
+    @Test
+    public void shouldCancelCallWhenTimeoutElapses() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final CountDownLatch interrupted = new CountDownLatch(1);
+            final ThrowableFunction<String, String, IOException> function = s -> {
+                try {
+                    Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return s;
+            };
+            final ThrowableFunction<String, String, IOException> limited = function.withTimeout(Duration.ofMillis(10),
+                    executor);
+            assertThat(limited.attempt().apply("foo").getFailure()).isInstanceOf(CallTimeoutException.class);
+            assertThat(interrupted.await(1, TimeUnit.MINUTES)).isTrue();
+            assertThat(ThrowableFunction.<String, String, IOException>of(s -> s + "!")
+                    .withTimeout(Duration.ofMinutes(1), executor)
+                    .applyThrows("foo")).isEqualTo("foo!");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(expectedExceptions = EOFException.class)
+    public void shouldRethrowThrowableAsIsWhenAppliedWithTimeout() throws IOException {
+        final ThrowableFunction<String, String, IOException> function = s -> {
+            throw new EOFException(s);
+        };
+        function.withTimeout(Duration.ofMinutes(1), Runnable::run).applyThrows("foo");
+    }
+}
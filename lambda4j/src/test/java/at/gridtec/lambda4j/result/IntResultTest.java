@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.result;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+
+public class IntResultTest {
+
+    @Test
+    public void shouldReturnValueWhenSucceeded() {
+        final IntResult result = IntResult.success(42);
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.isFailure()).isFalse();
+        assertThat(result.getAsInt()).isEqualTo(42);
+        assertThat(result.orElse(-1)).isEqualTo(42);
+        assertThat(result.orElseGet(throwable -> -1)).isEqualTo(42);
+        assertThat(result.recover(throwable -> -1)).isSameAs(result);
+        assertThat(result.map(value -> value + 1).getAsInt()).isEqualTo(43);
+        assertThat(result.mapToObj(Integer::toString).get()).isEqualTo("42");
+        assertThat(result.flatMap(value -> IntResult.success(-value)).getAsInt()).isEqualTo(-42);
+        assertThat(result.boxed()).isEqualTo(Result.success(42));
+        assertThat(result).isEqualTo(IntResult.success(42)).isNotEqualTo(IntResult.success(0));
+    }
+
+    @Test(expectedExceptions = NoSuchElementException.class)
+    public void shouldThrowOnGettingFailureWhenSucceeded() {
+        IntResult.success(0).getFailure();
+    }
+
+    @Test
+    public void shouldReturnFailureWhenFailed() {
+        final IOException exception = new IOException("bar");
+        final IntResult result = IntResult.failure(exception);
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.isFailure()).isTrue();
+        assertThat(result.getFailure()).isSameAs(exception);
+        assertThat(result.orElse(-1)).isEqualTo(-1);
+        assertThat(result.orElseGet(throwable -> throwable.getMessage().length())).isEqualTo(3);
+        assertThat(result.recover(throwable -> -1).getAsInt()).isEqualTo(-1);
+        assertThat(result.boxed().getFailure()).isSameAs(exception);
+        // A failed result is not equal to a succeeded result holding the default value
+        assertThat(result).isEqualTo(IntResult.failure(exception)).isNotEqualTo(IntResult.success(0));
+    }
+
+    @Test
+    public void shouldNotApplyMapperWhenFailed() {
+        final IOException exception = new IOException();
+        final IntResult result = IntResult.failure(exception);
+        assertThat(result.map(value -> {
+            throw new AssertionError("Mapper applied to failed result");
+        })).isSameAs(result);
+        assertThat(result.mapToObj(value -> {
+            throw new AssertionError("Mapper applied to failed result");
+        }).getFailure()).isSameAs(exception);
+        assertThat(result.flatMap(value -> {
+            throw new AssertionError("Mapper applied to failed result");
+        })).isSameAs(result);
+    }
+
+    @Test
+    public void shouldThrowFailureAsIsOnGettingValueWhenFailed() {
+        final IOException exception = new IOException();
+        try {
+            IntResult.failure(exception).getAsInt();
+        } catch (Throwable throwable) {
+            assertThat(throwable).isSameAs(exception);
+            return;
+        }
+        throw new AssertionError("Expected " + IOException.class.getSimpleName());
+    }
+}
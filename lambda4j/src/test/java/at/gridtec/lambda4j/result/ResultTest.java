@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2016 Gridtec. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package at.gridtec.lambda4j.result;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+public class ResultTest {
+
+    @Test
+    public void shouldReturnValueWhenSucceeded() {
+        final Result<String> result = Result.success("foo");
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.isFailure()).isFalse();
+        assertThat(result.get()).isEqualTo("foo");
+        assertThat(result.orElse("bar")).isEqualTo("foo");
+        assertThat(result.orElseGet(Throwable::getMessage)).isEqualTo("foo");
+        assertThat(result.recover(Throwable::getMessage)).isSameAs(result);
+        assertThat(result.map(String::length).get()).isEqualTo(3);
+        assertThat(result.flatMap(value -> Result.success(value + "bar")).get()).isEqualTo("foobar");
+        assertThat(result.toOptional()).isEqualTo(Optional.of("foo"));
+        assertThat(result).isEqualTo(Result.success("foo"));
+    }
+
+    @Test
+    public void shouldReturnEmptyOptionalWhenSucceededWithNull() {
+        final Result<String> result = Result.success(null);
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.get()).isNull();
+        assertThat(result.toOptional()).isEqualTo(Optional.empty());
+    }
+
+    @Test(expectedExceptions = NoSuchElementException.class)
+    public void shouldThrowOnGettingFailureWhenSucceeded() {
+        Result.success("foo").getFailure();
+    }
+
+    @Test
+    public void shouldReturnFailureWhenFailed() {
+        final IOException exception = new IOException("bar");
+        final Result<String> result = Result.failure(exception);
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.isFailure()).isTrue();
+        assertThat(result.getFailure()).isSameAs(exception);
+        assertThat(result.orElse("foo")).isEqualTo("foo");
+        assertThat(result.orElseGet(Throwable::getMessage)).isEqualTo("bar");
+        assertThat(result.recover(Throwable::getMessage).get()).isEqualTo("bar");
+        assertThat(result.toOptional()).isEqualTo(Optional.empty());
+        assertThat(result).isEqualTo(Result.failure(exception));
+    }
+
+    @Test
+    public void shouldNotApplyMapperWhenFailed() {
+        final IOException exception = new IOException();
+        final Result<String> result = Result.failure(exception);
+        final Result<Integer> mapped = result.map(value -> {
+            throw new AssertionError("Mapper applied to failed result");
+        });
+        assertThat(mapped.getFailure()).isSameAs(exception);
+        final Result<Integer> flatMapped = result.flatMap(value -> {
+            throw new AssertionError("Mapper applied to failed result");
+        });
+        assertThat(flatMapped.getFailure()).isSameAs(exception);
+    }
+
+    @Test
+    public void shouldThrowFailureAsIsOnGettingValueWhenFailed() {
+        final IOException exception = new IOException();
+        try {
+            Result.failure(exception).get();
+        } catch (Throwable throwable) {
+            assertThat(throwable).isSameAs(exception);
+            return;
+        }
+        throw new AssertionError("Expected " + IOException.class.getSimpleName());
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void shouldThrowOnFailureWithNullThrowable() {
+        Result.failure(null);
+    }
+}